@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import eu.hansolo.steelseries.tools.BlurEngine;
+import eu.hansolo.steelseries.tools.ImageCache;
+import eu.hansolo.steelseries.tools.Shadow;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the drop shadows of the BlurEngine for an image and for a shape.
+ * The shadow of a shape will be drawn alternately in two colors, so with a
+ * warm cache only the color of the cached alpha mask changes. With coldCache
+ * the cached alpha masks will be cleared before every invocation.
+ * @author hansolo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BlurEngineBenchmark {
+
+    private static final int SOFTNESS = 15;
+    @Param({"64", "200", "400", "800"})
+    public int size;
+    @Param({"true", "false"})
+    public boolean coldCache;
+    private BufferedImage image;
+    private Ellipse2D ring;
+    private boolean red;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D G2 = image.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setColor(Color.RED);
+        G2.fill(new Ellipse2D.Double(0, 0, size, size));
+        G2.setColor(new Color(0, 0, 255, 128));
+        G2.fill(new Ellipse2D.Double(size * 0.2, size * 0.2, size * 0.6, size * 0.6));
+        G2.dispose();
+        ring = new Ellipse2D.Double(0, 0, size, size);
+        red = true;
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        if (coldCache) {
+            ImageCache.INSTANCE.invalidate("BlurEngine.mask");
+        }
+    }
+
+    @Benchmark
+    public BufferedImage imageShadow() {
+        return BlurEngine.INSTANCE.createShadow(image, SOFTNESS, 1.0f, Color.RED);
+    }
+
+    @Benchmark
+    public BufferedImage shapeShadow() {
+        red = !red;
+        return Shadow.INSTANCE.createDropShadow(ring, Color.RED, Color.RED, true, null, null, 0, 1.0f, SOFTNESS, 315, red ? Color.RED : Color.GREEN);
+    }
+}
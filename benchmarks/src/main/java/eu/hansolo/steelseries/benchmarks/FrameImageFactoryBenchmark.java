@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import eu.hansolo.steelseries.tools.FrameDesign;
+import eu.hansolo.steelseries.tools.FrameEffect;
+import eu.hansolo.steelseries.tools.FrameImageFactory;
+import eu.hansolo.steelseries.tools.ImageCache;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the creation of the radial and linear frame images of the
+ * FrameImageFactory for every frame design. With coldCache the shared
+ * image cache will be cleared before every invocation.
+ * @author hansolo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FrameImageFactoryBenchmark {
+
+    private static final FrameImageFactory FRAME_FACTORY = FrameImageFactory.INSTANCE;
+    @Param({"BLACK_METAL", "METAL", "SHINY_METAL", "GLOSSY_METAL", "BRASS", "STEEL", "CHROME", "GOLD", "ANTHRACITE", "TILTED_GRAY", "TILTED_BLACK"})
+    public FrameDesign frameDesign;
+    @Param({"NONE", "EFFECT_BULGE"})
+    public FrameEffect frameEffect;
+    @Param({"100", "200", "400", "800"})
+    public int size;
+    @Param({"true", "false"})
+    public boolean coldCache;
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        if (coldCache) {
+            ImageCache.INSTANCE.invalidate();
+        }
+    }
+
+    @Benchmark
+    public BufferedImage radialFrame() {
+        return FRAME_FACTORY.createRadialFrame(size, frameDesign, null, frameEffect);
+    }
+
+    @Benchmark
+    public BufferedImage linearFrame() {
+        return FRAME_FACTORY.createLinearFrame(size, (int) (size * 0.4), frameDesign, null, frameEffect);
+    }
+}
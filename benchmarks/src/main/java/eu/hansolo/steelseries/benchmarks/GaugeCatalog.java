@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import eu.hansolo.steelseries.extras.AirCompass;
+import eu.hansolo.steelseries.extras.Altimeter;
+import eu.hansolo.steelseries.extras.Battery;
+import eu.hansolo.steelseries.extras.Clock;
+import eu.hansolo.steelseries.extras.Compass;
+import eu.hansolo.steelseries.extras.Horizon;
+import eu.hansolo.steelseries.extras.Indicator;
+import eu.hansolo.steelseries.extras.Led;
+import eu.hansolo.steelseries.extras.Level;
+import eu.hansolo.steelseries.extras.LightBulb;
+import eu.hansolo.steelseries.extras.Radar;
+import eu.hansolo.steelseries.extras.StopWatch;
+import eu.hansolo.steelseries.extras.TrafficLight;
+import eu.hansolo.steelseries.extras.TrafficLight2;
+import eu.hansolo.steelseries.extras.WindDirection;
+import eu.hansolo.steelseries.gauges.AbstractGauge;
+import eu.hansolo.steelseries.gauges.AbstractRadial;
+import eu.hansolo.steelseries.gauges.DigitalRadial;
+import eu.hansolo.steelseries.gauges.DisplayCircular;
+import eu.hansolo.steelseries.gauges.DisplayMulti;
+import eu.hansolo.steelseries.gauges.DisplayRectangular;
+import eu.hansolo.steelseries.gauges.DisplaySingle;
+import eu.hansolo.steelseries.gauges.Linear;
+import eu.hansolo.steelseries.gauges.LinearBargraph;
+import eu.hansolo.steelseries.gauges.Radial;
+import eu.hansolo.steelseries.gauges.Radial1Square;
+import eu.hansolo.steelseries.gauges.Radial1Vertical;
+import eu.hansolo.steelseries.gauges.Radial2Top;
+import eu.hansolo.steelseries.gauges.RadialBargraph;
+import eu.hansolo.steelseries.gauges.RadialCounter;
+import eu.hansolo.steelseries.gauges.SparkLine;
+import eu.hansolo.steelseries.tools.BackgroundColor;
+import eu.hansolo.steelseries.tools.FrameDesign;
+import eu.hansolo.steelseries.tools.PointerType;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.image.BufferedImage;
+import javax.swing.JComponent;
+
+
+/**
+ * All components of the gauges and extras packages that could be rendered
+ * headless by the benchmarks. Every entry knows how to create a detached
+ * instance of the component, how to size it and how to feed it a new value.
+ * @author hansolo
+ */
+public enum GaugeCatalog {
+
+    RADIAL(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Radial();
+        }
+    },
+    RADIAL_1_SQUARE(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Radial1Square();
+        }
+    },
+    RADIAL_1_VERTICAL(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Radial1Vertical();
+        }
+    },
+    RADIAL_2_TOP(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Radial2Top();
+        }
+    },
+    RADIAL_BARGRAPH(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new RadialBargraph();
+        }
+    },
+    RADIAL_COUNTER(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new RadialCounter();
+        }
+    },
+    DIGITAL_RADIAL(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new DigitalRadial();
+        }
+    },
+    DISPLAY_CIRCULAR(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new DisplayCircular();
+        }
+    },
+    LINEAR(0.4) {
+        @Override
+        protected JComponent newInstance() {
+            return new Linear();
+        }
+    },
+    LINEAR_BARGRAPH(0.4) {
+        @Override
+        protected JComponent newInstance() {
+            return new LinearBargraph();
+        }
+    },
+    DISPLAY_RECTANGULAR(0.4) {
+        @Override
+        protected JComponent newInstance() {
+            return new DisplayRectangular();
+        }
+    },
+    DISPLAY_SINGLE(0.35) {
+        @Override
+        protected JComponent newInstance() {
+            return new DisplaySingle();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((DisplaySingle) COMPONENT).setLcdValue(VALUE);
+        }
+    },
+    DISPLAY_MULTI(0.35) {
+        @Override
+        protected JComponent newInstance() {
+            return new DisplayMulti();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((DisplayMulti) COMPONENT).setLcdValue(VALUE);
+        }
+    },
+    SPARK_LINE(0.5) {
+        @Override
+        protected JComponent newInstance() {
+            return new SparkLine();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((SparkLine) COMPONENT).addDataPoint(VALUE);
+        }
+    },
+    AIR_COMPASS(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new AirCompass();
+        }
+    },
+    ALTIMETER(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Altimeter();
+        }
+    },
+    CLOCK(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Clock();
+        }
+    },
+    COMPASS(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Compass();
+        }
+    },
+    HORIZON(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Horizon();
+        }
+    },
+    INDICATOR(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Indicator();
+        }
+    },
+    LEVEL(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Level();
+        }
+    },
+    RADAR(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new Radar();
+        }
+    },
+    STOP_WATCH(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new StopWatch();
+        }
+    },
+    WIND_DIRECTION(1.0) {
+        @Override
+        protected JComponent newInstance() {
+            return new WindDirection();
+        }
+    },
+    BATTERY(0.5) {
+        @Override
+        protected JComponent newInstance() {
+            return new Battery();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((Battery) COMPONENT).setValue((int) VALUE);
+        }
+    },
+    LED(1.0, 0.45) {
+        @Override
+        protected JComponent newInstance() {
+            return new Led();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((Led) COMPONENT).setLedOn(VALUE > 50);
+        }
+    },
+    LIGHT_BULB(1.0, 0.7) {
+        @Override
+        protected JComponent newInstance() {
+            return new LightBulb();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((LightBulb) COMPONENT).setOn(VALUE > 50);
+        }
+    },
+    TRAFFIC_LIGHT(2.5) {
+        @Override
+        protected JComponent newInstance() {
+            return new TrafficLight();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((TrafficLight) COMPONENT).setRedOn(VALUE > 50);
+        }
+    },
+    TRAFFIC_LIGHT_2(2.5) {
+        @Override
+        protected JComponent newInstance() {
+            return new TrafficLight2();
+        }
+
+        @Override
+        public void setValue(final JComponent COMPONENT, final double VALUE) {
+            ((TrafficLight2) COMPONENT).setRedOn(VALUE > 50);
+        }
+    };
+
+    private static final String DETACHED_LISTENERS = "GaugeCatalog.detachedListeners";
+    private final double ASPECT_RATIO;
+    private final double MIN_PAINTED_RATIO;
+
+    private GaugeCatalog(final double ASPECT_RATIO) {
+        this(ASPECT_RATIO, 0.9);
+    }
+
+    private GaugeCatalog(final double ASPECT_RATIO, final double MIN_PAINTED_RATIO) {
+        this.ASPECT_RATIO = ASPECT_RATIO;
+        this.MIN_PAINTED_RATIO = MIN_PAINTED_RATIO;
+    }
+
+    protected abstract JComponent newInstance();
+
+    /**
+     * Creates a new instance of the component without component listeners
+     * so that resize events will not initialize it a second time on the
+     * event dispatch thread. The removed listeners will be informed by
+     * resize() on the calling thread instead. Gauges and displays defer
+     * their initialization until resize() will be called because they
+     * are not showing.
+     * @return a new detached instance of the component
+     */
+    public JComponent create() {
+        final JComponent COMPONENT = newInstance();
+        final ComponentListener[] LISTENERS = COMPONENT.getComponentListeners();
+        for (ComponentListener listener : LISTENERS) {
+            COMPONENT.removeComponentListener(listener);
+        }
+        COMPONENT.putClientProperty(DETACHED_LISTENERS, LISTENERS);
+        return COMPONENT;
+    }
+
+    /**
+     * Applies the given design to the component if it supports it
+     * @param COMPONENT
+     * @param FRAME_DESIGN
+     * @param BACKGROUND_COLOR
+     * @param POINTER_TYPE
+     */
+    public void configure(final JComponent COMPONENT, final FrameDesign FRAME_DESIGN, final BackgroundColor BACKGROUND_COLOR, final PointerType POINTER_TYPE) {
+        if (COMPONENT instanceof AbstractGauge) {
+            final AbstractGauge GAUGE = (AbstractGauge) COMPONENT;
+            GAUGE.setInitialized(false);
+            GAUGE.setFrameDesign(FRAME_DESIGN);
+            GAUGE.setBackgroundColor(BACKGROUND_COLOR);
+            if (GAUGE instanceof AbstractRadial) {
+                ((AbstractRadial) GAUGE).setPointerType(POINTER_TYPE);
+            }
+            GAUGE.setTitle("Title");
+            GAUGE.setUnitString("Unit");
+        }
+    }
+
+    /**
+     * Returns the width of the component for the given size
+     * @param SIZE
+     * @return the width of the component for the given size
+     */
+    public int getWidth(final int SIZE) {
+        return ASPECT_RATIO > 1 ? (int) (SIZE / ASPECT_RATIO) : SIZE;
+    }
+
+    /**
+     * Returns the height of the component for the given size
+     * @param SIZE
+     * @return the height of the component for the given size
+     */
+    public int getHeight(final int SIZE) {
+        return ASPECT_RATIO > 1 ? SIZE : (int) (SIZE * ASPECT_RATIO);
+    }
+
+    /**
+     * Sizes the component and creates all images of the component
+     * @param COMPONENT
+     * @param SIZE
+     */
+    public void resize(final JComponent COMPONENT, final int SIZE) {
+        if (COMPONENT instanceof AbstractGauge) {
+            ((AbstractGauge) COMPONENT).setInitialized(true);
+        }
+        COMPONENT.setSize(getWidth(SIZE), getHeight(SIZE));
+        // Some components (e.g. SparkLine) only take the new size from their resize listener
+        final Object LISTENERS = COMPONENT.getClientProperty(DETACHED_LISTENERS);
+        if (LISTENERS instanceof ComponentListener[]) {
+            final ComponentEvent EVENT = new ComponentEvent(COMPONENT, ComponentEvent.COMPONENT_RESIZED);
+            for (ComponentListener listener : (ComponentListener[]) LISTENERS) {
+                listener.componentResized(EVENT);
+            }
+        }
+        if (COMPONENT instanceof AbstractGauge) {
+            ((AbstractGauge) COMPONENT).initIfPending();
+        } else if (COMPONENT instanceof DisplaySingle) {
+            ((DisplaySingle) COMPONENT).initIfPending();
+        }
+    }
+
+    /**
+     * Paints the component and checks that the painted pixels span the
+     * size of the component (or the part of it that the component fills
+     * at any size), so that a benchmark will not measure a component
+     * that still has the images of another size.
+     * @param COMPONENT
+     * @throws IllegalStateException if the painted area does not match the size of the component
+     */
+    public void verifyPaintedSize(final JComponent COMPONENT) {
+        final BufferedImage IMAGE = createImage(COMPONENT);
+        paint(COMPONENT, IMAGE);
+        final Rectangle PAINTED = getPaintedBounds(IMAGE);
+        if (PAINTED.width < MIN_PAINTED_RATIO * IMAGE.getWidth() && PAINTED.height < MIN_PAINTED_RATIO * IMAGE.getHeight()) {
+            throw new IllegalStateException(name() + " painted " + PAINTED.width + "x" + PAINTED.height + " pixels but has a size of " + IMAGE.getWidth() + "x" + IMAGE.getHeight());
+        }
+    }
+
+    private static Rectangle getPaintedBounds(final BufferedImage IMAGE) {
+        int minX = IMAGE.getWidth();
+        int minY = IMAGE.getHeight();
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < IMAGE.getHeight(); y++) {
+            for (int x = 0; x < IMAGE.getWidth(); x++) {
+                if ((IMAGE.getRGB(x, y) >>> 24) != 0) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        return maxX < 0 ? new Rectangle() : new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * Sets the value of the component without animation
+     * @param COMPONENT
+     * @param VALUE
+     */
+    public void setValue(final JComponent COMPONENT, final double VALUE) {
+        ((AbstractGauge) COMPONENT).setValue(VALUE);
+    }
+
+    /**
+     * Paints the component into the given image without using the
+     * double buffer of the repaint manager
+     * @param COMPONENT
+     * @param IMAGE
+     */
+    public void paint(final JComponent COMPONENT, final BufferedImage IMAGE) {
+        final Graphics2D G2 = IMAGE.createGraphics();
+        COMPONENT.print(G2);
+        G2.dispose();
+    }
+
+    /**
+     * Creates an image that matches the size of the component
+     * @param COMPONENT
+     * @return an image that matches the size of the component
+     */
+    public BufferedImage createImage(final JComponent COMPONENT) {
+        return new BufferedImage(COMPONENT.getWidth(), COMPONENT.getHeight(), BufferedImage.TYPE_INT_ARGB);
+    }
+}
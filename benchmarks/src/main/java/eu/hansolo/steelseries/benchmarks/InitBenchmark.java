@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import eu.hansolo.steelseries.tools.BackgroundColor;
+import eu.hansolo.steelseries.tools.FrameDesign;
+import eu.hansolo.steelseries.tools.ImageCache;
+import eu.hansolo.steelseries.tools.PointerType;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the creation of all images of a new gauge (init) per size.
+ * Every invocation initializes a new instance because some gauges only
+ * rebuild the layers that have changed. With coldCache the shared image cache will be cleared before every
+ * invocation which measures the full rendering of all layers, otherwise
+ * it measures the initialization of a gauge whose images are already in
+ * the cache, e.g. the second gauge of a dashboard with the same design.
+ * The design parameters default to one value each, other designs could
+ * be selected on the command line, e.g.
+ * -p frameDesign=BLACK_METAL,GLOSSY_METAL -p backgroundColor=CARBON,BRUSHED_METAL
+ * @author hansolo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InitBenchmark {
+
+    @Param({"RADIAL", "RADIAL_1_SQUARE", "RADIAL_1_VERTICAL", "RADIAL_2_TOP", "RADIAL_BARGRAPH", "RADIAL_COUNTER", "DIGITAL_RADIAL", "DISPLAY_CIRCULAR", "LINEAR", "LINEAR_BARGRAPH", "DISPLAY_RECTANGULAR", "DISPLAY_SINGLE", "DISPLAY_MULTI", "SPARK_LINE", "AIR_COMPASS", "ALTIMETER", "CLOCK", "COMPASS", "HORIZON", "INDICATOR", "LEVEL", "RADAR", "STOP_WATCH", "WIND_DIRECTION", "BATTERY", "LED", "LIGHT_BULB", "TRAFFIC_LIGHT", "TRAFFIC_LIGHT_2"})
+    public GaugeCatalog gauge;
+    @Param({"100", "200", "400", "800"})
+    public int size;
+    @Param({"METAL"})
+    public FrameDesign frameDesign;
+    @Param({"DARK_GRAY"})
+    public BackgroundColor backgroundColor;
+    @Param({"TYPE1"})
+    public PointerType pointerType;
+    @Param({"true", "false"})
+    public boolean coldCache;
+    private JComponent component;
+
+    @Setup(Level.Trial)
+    public void verifySize() {
+        final JComponent COMPONENT = gauge.create();
+        gauge.configure(COMPONENT, frameDesign, backgroundColor, pointerType);
+        gauge.resize(COMPONENT, size);
+        gauge.verifyPaintedSize(COMPONENT);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        if (coldCache) {
+            ImageCache.INSTANCE.invalidate();
+        }
+        component = gauge.create();
+        gauge.configure(component, frameDesign, backgroundColor, pointerType);
+    }
+
+    @Benchmark
+    public JComponent init() {
+        gauge.resize(component, size);
+        return component;
+    }
+}
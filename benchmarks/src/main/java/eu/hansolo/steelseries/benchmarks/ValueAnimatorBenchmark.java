@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import eu.hansolo.steelseries.tools.ValueAnimator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pushingpixels.trident.Timeline;
+import org.pushingpixels.trident.callback.TimelineCallbackAdapter;
+import org.pushingpixels.trident.ease.Spline;
+
+
+/**
+ * Compares animating a value with a new trident timeline per value update
+ * (like setValueAnimated() did before) with retargeting one pooled
+ * ValueAnimator. Run it with the BenchmarkMain to get the allocated bytes
+ * per value update (gc.alloc.rate.norm).
+ * @author hansolo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValueAnimatorBenchmark {
+
+    private static final long DURATION = 800;
+    private final Spline EASE = new Spline(0.5f);
+    private Needle needle;
+    private Timeline timeline;
+    private ValueAnimator animator;
+    private double value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        needle = new Needle();
+        timeline = new Timeline(needle);
+        animator = new ValueAnimator(needle);
+        value = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        timeline.abort();
+        animator.abort();
+    }
+
+    @Benchmark
+    public Timeline timelinePerUpdate() {
+        value = value >= 100 ? 0 : value + 1.7;
+        if (timeline.getState() != Timeline.TimelineState.IDLE) {
+            timeline.abort();
+        }
+        timeline = new Timeline(needle);
+        timeline.addPropertyToInterpolate("value", needle.getValue(), value);
+        timeline.setEase(EASE);
+        timeline.setDuration(DURATION);
+        timeline.addCallback(new TimelineCallbackAdapter() {
+            @Override
+            public void onTimelinePulse(final float OLD_VALUE, final float NEW_VALUE) {
+            }
+        });
+        timeline.play();
+        return timeline;
+    }
+
+    @Benchmark
+    public ValueAnimator pooledAnimator() {
+        value = value >= 100 ? 0 : value + 1.7;
+        animator.animateTo(value, DURATION, EASE);
+        return animator;
+    }
+
+    /**
+     * The animated object, public for the reflective property access of trident
+     */
+    public static class Needle implements ValueAnimator.Target {
+        private volatile double value;
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public double getMinValue() {
+            return 0;
+        }
+
+        @Override
+        public double getMaxValue() {
+            return 100;
+        }
+
+        @Override
+        public void setValue(final double VALUE) {
+            value = VALUE;
+        }
+
+        @Override
+        public void onTargetReached(final double VALUE) {
+        }
+
+        @Override
+        public void onAnimationFinished() {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the throughput of value updates without painting, e.g. the
+ * cost of calculating the dirty regions and firing the property change
+ * events. For the spark line this measures addDataPoint().
+ * @author hansolo
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValueUpdateBenchmark {
+
+    @Param({"RADIAL", "RADIAL_1_SQUARE", "RADIAL_1_VERTICAL", "RADIAL_2_TOP", "RADIAL_BARGRAPH", "RADIAL_COUNTER", "DIGITAL_RADIAL", "DISPLAY_CIRCULAR", "LINEAR", "LINEAR_BARGRAPH", "DISPLAY_RECTANGULAR", "DISPLAY_SINGLE", "DISPLAY_MULTI", "SPARK_LINE", "AIR_COMPASS", "ALTIMETER", "CLOCK", "COMPASS", "HORIZON", "INDICATOR", "LEVEL", "RADAR", "STOP_WATCH", "WIND_DIRECTION", "BATTERY", "LED", "LIGHT_BULB", "TRAFFIC_LIGHT", "TRAFFIC_LIGHT_2"})
+    public GaugeCatalog gauge;
+    @Param({"200"})
+    public int size;
+    private JComponent component;
+    private double value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        component = gauge.create();
+        gauge.resize(component, size);
+        gauge.verifyPaintedSize(component);
+        value = 0;
+    }
+
+    @Benchmark
+    public JComponent setValue() {
+        value = value >= 100 ? 0 : value + 1.7;
+        gauge.setValue(component, value);
+        return component;
+    }
+}
@@ -77,7 +77,7 @@ public class AirCompass extends AbstractRadial {
         rotationAngle = 0;
         CENTER = new Point2D.Double();
         timeline = new Timeline(this);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setLcdVisible(true);
     }
     // </editor-fold>
@@ -92,7 +92,7 @@ public final class Altimeter extends AbstractRadial {
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public Altimeter() {
         super();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setMinValue(0);
         setMaxValue(10);
         calcAngleStep();
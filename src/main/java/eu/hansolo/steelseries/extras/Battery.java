@@ -28,7 +28,11 @@
 package eu.hansolo.steelseries.extras;
 
 import eu.hansolo.steelseries.tools.GradientWrapper;
+import eu.hansolo.steelseries.tools.ImageCache;
+import eu.hansolo.steelseries.tools.ImageCacheKey;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
 import eu.hansolo.steelseries.tools.Orientation;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Util;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -45,31 +49,40 @@ import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import javax.swing.JComponent;
 import javax.swing.border.Border;
 
 /**
  * @author Gerrit Grunwald <han.solo at muenster.de>
  */
-public class Battery extends JComponent {
+public class Battery extends MeasuredComponent {
     // <editor-fold defaultstate="collapsed" desc="Variable declaration">
     private static final Util UTIL = Util.INSTANCE;
     private final java.awt.Rectangle INNER_BOUNDS;
     private int value = 0;
     private boolean initialized;
-    private BufferedImage batteryImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private final Color FULL_BORDER = new Color(0x79A24B);
-    private final Color HALF_BORDER = new Color(0xDBA715);
-    private final Color EMPTY_BORDER = new Color(0xB11902);
-    private final Color FULL_DARK = new Color(0xA3D866);
-    private final Color FULL_LIGHT = new Color(0xDFE956);
-    private final Color HALF_DARK = new Color(0xE4BD20);
-    private final Color HALF_LIGHT = new Color(0xF6F49D);
-    private final Color EMPTY_DARK = new Color(0xC62705);
-    private final Color EMPTY_LIGHT = new Color(0xF67930);
-    private GradientWrapper borderGradient;
-    private GradientWrapper liquidGradientDark;
-    private GradientWrapper liquidGradientLight;
+    private static final ImageCache CACHE = ImageCache.INSTANCE;
+    private static final Color FULL_BORDER = new Color(0x79A24B);
+    private static final Color HALF_BORDER = new Color(0xDBA715);
+    private static final Color EMPTY_BORDER = new Color(0xB11902);
+    private static final Color FULL_DARK = new Color(0xA3D866);
+    private static final Color FULL_LIGHT = new Color(0xDFE956);
+    private static final Color HALF_DARK = new Color(0xE4BD20);
+    private static final Color HALF_LIGHT = new Color(0xF6F49D);
+    private static final Color EMPTY_DARK = new Color(0xC62705);
+    private static final Color EMPTY_LIGHT = new Color(0xF67930);
+    // The colors of the charge for each value from 0 - 100
+    private static final Color[] BORDER_COLORS = createColorLookup(new float[]{0.0f, 0.40f, 1.0f}, new Color[]{EMPTY_BORDER, HALF_BORDER, FULL_BORDER});
+    private static final Color[] LIQUID_DARK_COLORS = createColorLookup(new float[]{0.0f, 0.4f, 1.0f}, new Color[]{EMPTY_DARK, HALF_DARK, FULL_DARK});
+    private static final Color[] LIQUID_LIGHT_COLORS = createColorLookup(new float[]{0.0f, 0.4f, 1.0f}, new Color[]{EMPTY_LIGHT, HALF_LIGHT, FULL_LIGHT});
+    private static final float[] LIQUID_FRACTIONS = {
+        0.0f,
+        0.5f,
+        1.0f
+    };
+    private BufferedImage housingImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private BufferedImage highlightImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private int imageWidth;
+    private int imageHeight;
     private Orientation lightPosition;
     private final transient ComponentListener COMPONENT_LISTENER = new ComponentAdapter() {
 
@@ -113,11 +126,21 @@ public class Battery extends JComponent {
         if (WIDTH <= 1) {
             return;
         }
-
-        if (batteryImage != null) {
-            batteryImage.flush();
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                // The housing and the highlight do not depend on the value and will be
+                // shared between all batteries of the same size, the charge will be
+                // painted on top of the housing in paintComponent()
+                imageWidth = WIDTH;
+                imageHeight = HEIGHT - getInsets().bottom;
+                housingImage = create_HOUSING_Image(imageWidth, imageHeight, lightPosition);
+                highlightImage = create_HIGHLIGHT_Image(imageWidth, imageHeight);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
+            }
         }
-        batteryImage = create_BATTERY_Image(WIDTH, HEIGHT - getInsets().bottom, value);
     }
     // </editor-fold>
 
@@ -136,7 +159,11 @@ public class Battery extends JComponent {
 
         G2.translate(INNER_BOUNDS.x, INNER_BOUNDS.y);
 
-        G2.drawImage(batteryImage, 0, 0, null);
+        G2.drawImage(housingImage, 0, 0, null);
+        if (imageWidth > 0 && imageHeight > 0) {
+            drawCharge(G2, imageWidth, imageHeight, value);
+        }
+        G2.drawImage(highlightImage, 0, 0, null);
 
         G2.translate(-INNER_BOUNDS.x, -INNER_BOUNDS.y);
 
@@ -158,8 +185,11 @@ public class Battery extends JComponent {
      * @param VALUE
      */
     public void setValue(final int VALUE) {
-        value = VALUE < 0 ? 0 : (VALUE > 100 ? 100 : VALUE);
-        init(getWidth(), getHeight());
+        final int NEW_VALUE = VALUE < 0 ? 0 : (VALUE > 100 ? 100 : VALUE);
+        if (NEW_VALUE == value) {
+            return;
+        }
+        value = NEW_VALUE;
         repaint(INNER_BOUNDS);
     }
 
@@ -177,7 +207,7 @@ public class Battery extends JComponent {
      */
     public void setLightPosition(final Orientation LIGHT_POSITION) {
         lightPosition = LIGHT_POSITION;
-        init(getWidth(), getHeight());
+        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
         repaint(INNER_BOUNDS);
     }
 
@@ -215,9 +245,67 @@ public class Battery extends JComponent {
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        final int IMAGE_WIDTH = IMAGE.getWidth();
-        final int IMAGE_HEIGHT = IMAGE.getHeight();
+        drawHousing(G2, IMAGE.getWidth(), IMAGE.getHeight(), lightPosition);
+        drawCharge(G2, IMAGE.getWidth(), IMAGE.getHeight(), VALUE < 0 ? 0 : (VALUE > 100 ? 100 : VALUE));
+        drawHighlight(G2, IMAGE.getWidth(), IMAGE.getHeight());
+
+        G2.dispose();
+
+        return IMAGE;
+    }
 
+    /**
+     * Returns the cached image of the battery housing for the given size and light position
+     * @param WIDTH
+     * @param HEIGHT
+     * @param LIGHT_POSITION
+     * @return the cached image of the battery housing
+     */
+    private BufferedImage create_HOUSING_Image(final int WIDTH, final int HEIGHT, final Orientation LIGHT_POSITION) {
+        if (WIDTH <= 0 || HEIGHT <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+        final ImageCacheKey KEY = new ImageCacheKey("Battery.housing", WIDTH, HEIGHT, LIGHT_POSITION);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawHousing(G2, WIDTH, HEIGHT, LIGHT_POSITION);
+        G2.dispose();
+
+        return CACHE.put(KEY, IMAGE);
+    }
+
+    /**
+     * Returns the cached image of the highlight that covers the charge for the given size
+     * @param WIDTH
+     * @param HEIGHT
+     * @return the cached image of the highlight that covers the charge
+     */
+    private BufferedImage create_HIGHLIGHT_Image(final int WIDTH, final int HEIGHT) {
+        if (WIDTH <= 0 || HEIGHT <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+        final ImageCacheKey KEY = new ImageCacheKey("Battery.highlight", WIDTH, HEIGHT);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawHighlight(G2, WIDTH, HEIGHT);
+        G2.dispose();
+
+        return CACHE.put(KEY, IMAGE);
+    }
+
+    private static void drawHousing(final Graphics2D G2, final int IMAGE_WIDTH, final int IMAGE_HEIGHT, final Orientation LIGHT_POSITION) {
         // Background
         final GeneralPath BATTERY = new GeneralPath();
         BATTERY.setWindingRule(Path2D.WIND_EVEN_ODD);
@@ -242,7 +330,7 @@ public class Battery extends JComponent {
         final Point2D BATTERY_START = new Point2D.Double();
         final Point2D BATTERY_STOP = new Point2D.Double();
 
-        switch(lightPosition)
+        switch(LIGHT_POSITION)
         {
             case NORTH_EAST:
                 BATTERY_START.setLocation(BATTERY.getBounds2D().getMaxX(), BATTERY.getBounds2D().getMinY());
@@ -290,58 +378,34 @@ public class Battery extends JComponent {
         final LinearGradientPaint BATTERY_GRADIENT = new LinearGradientPaint(BATTERY_START, BATTERY_STOP, BATTERY_FRACTIONS, BATTERY_COLORS);
         G2.setPaint(BATTERY_GRADIENT);
         G2.fill(BATTERY);
+    }
 
-        // Main
+    /**
+     * Draws the border and the liquid of the charge with the colors of the lookup
+     * tables, so that a change of the value neither creates images nor gradients
+     * @param G2
+     * @param IMAGE_WIDTH
+     * @param IMAGE_HEIGHT
+     * @param VALUE
+     */
+    private static void drawCharge(final Graphics2D G2, final int IMAGE_WIDTH, final int IMAGE_HEIGHT, final int VALUE) {
         final Rectangle2D BORDER = new Rectangle2D.Double(IMAGE_WIDTH * 0.025, IMAGE_WIDTH * 0.025, IMAGE_WIDTH * 0.875 * (VALUE / 100.0), IMAGE_HEIGHT * 0.88888888888888);
-        final float[] BORDER_FRACTIONS = {
-            0.0f,
-            0.40f,
-            1.0f
-        };
-        final Color[] BORDER_COLORS = {
-            EMPTY_BORDER,
-            HALF_BORDER,
-            FULL_BORDER
-        };
-        borderGradient = new GradientWrapper(new Point2D.Double(0, 0), new Point2D.Double(100, 0), BORDER_FRACTIONS, BORDER_COLORS);
-        G2.setPaint(borderGradient.getColorAt(VALUE / 100f));
+        G2.setPaint(BORDER_COLORS[VALUE]);
         G2.fill(BORDER);
 
         final Rectangle2D LIQUID = new Rectangle2D.Double(IMAGE_WIDTH * 0.05, IMAGE_WIDTH * 0.05, IMAGE_WIDTH * 0.85 * (VALUE / 100.0), IMAGE_HEIGHT * 0.77777777777777);
         final Point2D LIQUID_START = new Point2D.Double(IMAGE_WIDTH * 0.05, 0);
         final Point2D LIQUID_STOP = new Point2D.Double(IMAGE_WIDTH * 0.875, 0);
-        final float[] LIQUID_FRACTIONS = {
-            0.0f,
-            0.5f,
-            1.0f
-        };
-        final Color[] LIQUID_COLORS_DARK = {
-            EMPTY_DARK,
-            HALF_DARK,
-            FULL_DARK
-        };
-        final Color[] LIQUID_COLORS_LIGHT = {
-            EMPTY_LIGHT,
-            HALF_LIGHT,
-            FULL_LIGHT
-        };
-        final float[] LIQUID_GRADIENT_FRACTIONS = {
-            0.0f,
-            0.4f,
-            1.0f
-        };
-        liquidGradientDark = new GradientWrapper(new Point2D.Double(0, 0), new Point2D.Double(100, 0), LIQUID_GRADIENT_FRACTIONS, LIQUID_COLORS_DARK);
-        liquidGradientLight = new GradientWrapper(new Point2D.Double(0, 0), new Point2D.Double(100, 0), LIQUID_GRADIENT_FRACTIONS, LIQUID_COLORS_LIGHT);
         final Color[] LIQUID_COLORS = {
-            liquidGradientDark.getColorAt(VALUE / 100f),
-            liquidGradientLight.getColorAt(VALUE / 100f),
-            liquidGradientDark.getColorAt(VALUE / 100f)
+            LIQUID_DARK_COLORS[VALUE],
+            LIQUID_LIGHT_COLORS[VALUE],
+            LIQUID_DARK_COLORS[VALUE]
         };
-        final LinearGradientPaint LIQUID_GRADIENT = new LinearGradientPaint(LIQUID_START, LIQUID_STOP, LIQUID_FRACTIONS, LIQUID_COLORS);
-        G2.setPaint(LIQUID_GRADIENT);
+        G2.setPaint(new LinearGradientPaint(LIQUID_START, LIQUID_STOP, LIQUID_FRACTIONS, LIQUID_COLORS));
         G2.fill(LIQUID);
+    }
 
-        // Foreground
+    private static void drawHighlight(final Graphics2D G2, final int IMAGE_WIDTH, final int IMAGE_HEIGHT) {
         final Rectangle2D HIGHLIGHT = new Rectangle2D.Double(IMAGE_WIDTH * 0.025, IMAGE_WIDTH * 0.025, IMAGE_WIDTH * 0.875, IMAGE_HEIGHT * 0.44444444444444);
         final Point2D HIGHLIGHT_START = new Point2D.Double(0, HIGHLIGHT.getBounds2D().getMinY());
         final Point2D HIGHLIGHT_STOP = new Point2D.Double(0, HIGHLIGHT.getBounds2D().getMaxY());
@@ -357,10 +421,21 @@ public class Battery extends JComponent {
         final LinearGradientPaint HIGHLIGHT_GRADIENT = new LinearGradientPaint(HIGHLIGHT_START, HIGHLIGHT_STOP, HIGHLIGHT_FRACTIONS, HIGHLIGHT_COLORS);
         G2.setPaint(HIGHLIGHT_GRADIENT);
         G2.fill(HIGHLIGHT);
+    }
 
-        G2.dispose();
-
-        return IMAGE;
+    /**
+     * Returns the colors of the given gradient at the values 0 - 100
+     * @param FRACTIONS
+     * @param COLORS
+     * @return the colors of the given gradient at the values 0 - 100
+     */
+    private static Color[] createColorLookup(final float[] FRACTIONS, final Color[] COLORS) {
+        final GradientWrapper GRADIENT = new GradientWrapper(new Point2D.Double(0, 0), new Point2D.Double(100, 0), FRACTIONS, COLORS);
+        final Color[] LOOKUP = new Color[101];
+        for (int value = 0; value <= 100; value++) {
+            LOOKUP[value] = GRADIENT.getColorAt(value / 100f);
+        }
+        return LOOKUP;
     }
     // </editor-fold>
 
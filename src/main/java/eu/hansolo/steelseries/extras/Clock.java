@@ -31,6 +31,7 @@ import eu.hansolo.steelseries.gauges.AbstractGauge;
 import eu.hansolo.steelseries.gauges.AbstractRadial;
 import eu.hansolo.steelseries.tools.ColorDef;
 import eu.hansolo.steelseries.tools.PointerType;
+import eu.hansolo.steelseries.tools.PulseTimer;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Container;
@@ -97,9 +98,9 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public Clock() {
         super();
-        CLOCK_TIMER = new Timer(1000, this);
+        CLOCK_TIMER = new PulseTimer(1000, this);
         INNER_BOUNDS = new Rectangle(200, 200);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setPointerColor(ColorDef.BLACK);
         horizontalAlignment = SwingConstants.CENTER;
 		verticalAlignment = SwingConstants.CENTER;
@@ -1041,7 +1042,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         final int SIZE = width <= height ? width : height;
         super.setMinimumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -1063,7 +1064,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         final int SIZE = width <= height ? width : height;
         super.setMaximumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -1074,7 +1075,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -1083,7 +1084,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         final int SIZE = WIDTH <= HEIGHT ? WIDTH : HEIGHT;
         super.setSize(SIZE, SIZE);
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -1092,7 +1093,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -1132,7 +1133,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
             super.setBounds(xNew, BOUNDS.y, BOUNDS.height, BOUNDS.height);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -1172,7 +1173,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
             super.setBounds(xNew, Y, HEIGHT, HEIGHT);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -1180,7 +1181,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
     public void setBorder(Border BORDER) {
         super.setBorder(BORDER);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     /**
@@ -1300,7 +1301,7 @@ public final class Clock extends AbstractRadial implements java.awt.event.Action
         }
 
         getModel().setSize(getLocation().x, getLocation().y, SIZE, SIZE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
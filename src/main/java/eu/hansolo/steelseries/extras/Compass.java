@@ -75,7 +75,7 @@ public final class Compass extends AbstractRadial {
     public Compass() {
         super();
         setPointerColor(ColorDef.RED);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -85,7 +85,7 @@ public class Horizon extends AbstractRadial {
         customColors = false;
         customSkyColor = new Color(127, 213, 240, 255);
         customGroundColor = new Color(60, 68, 57, 255);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         pitch = 0;
         roll = 0;
     }
@@ -324,7 +324,7 @@ public class Horizon extends AbstractRadial {
     public void setCustomColors(final boolean CUSTOM_COLORS) {
         customColors = CUSTOM_COLORS;
         if (customColors) {
-            init(getInnerBounds().width, getInnerBounds().height);
+            requestInit(getInnerBounds().width, getInnerBounds().height);
             repaint(getInnerBounds());
         }
     }
@@ -343,7 +343,7 @@ public class Horizon extends AbstractRadial {
      */
     public void setCustomSkyColor(final Color CUSTOM_SKY_COLOR) {
         customSkyColor = CUSTOM_SKY_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -361,7 +361,7 @@ public class Horizon extends AbstractRadial {
      */
     public void setCustomGroundColor(final Color CUSTOM_GROUND_COLOR) {
         customGroundColor = CUSTOM_GROUND_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -68,7 +68,7 @@ public class Indicator extends AbstractRadial {
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public Indicator() {
         super();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -93,17 +93,8 @@ public class Indicator extends AbstractRadial {
         }
         bImage = UTIL.createImage(GAUGE_WIDTH, GAUGE_WIDTH, Transparency.TRANSLUCENT);
 
-        // Create the symbol image
-        if (symbolOnImage != null) {
-            symbolOnImage.flush();
-        }
-        symbolOnImage = SYMBOL_FACTORY.createSymbol(GAUGE_WIDTH, symbolType, onColor, customOnColor, glow);
-
-        // Create the symbol image
-        if (symbolOffImage != null) {
-            symbolOffImage.flush();
-        }
-        symbolOffImage = SYMBOL_FACTORY.createSymbol(GAUGE_WIDTH, symbolType, offColor, customOffColor, false);
+        // Create the symbol images
+        initSymbol(true, true);
 
         // Create foreground image
         if (fImage != null) {
@@ -152,6 +143,27 @@ public class Indicator extends AbstractRadial {
 
         return this;
     }
+
+    /**
+     * Creates only the given symbol images, so that a change of the symbol or its
+     * colors does not rebuild the frame, background and foreground of the indicator.
+     * If the initialization of the indicator is still pending nothing will be done
+     * because the symbols will be created by the deferred initialization.
+     * @param ON_SYMBOL
+     * @param OFF_SYMBOL
+     */
+    private void initSymbol(final boolean ON_SYMBOL, final boolean OFF_SYMBOL) {
+        final int GAUGE_WIDTH = isFrameVisible() ? getInnerBounds().width : getGaugeBounds().width;
+        if (GAUGE_WIDTH <= 1 || isInitPending()) {
+            return;
+        }
+        if (ON_SYMBOL) {
+            symbolOnImage = SYMBOL_FACTORY.createSymbol(GAUGE_WIDTH, symbolType, onColor, customOnColor, glow);
+        }
+        if (OFF_SYMBOL) {
+            symbolOffImage = SYMBOL_FACTORY.createSymbol(GAUGE_WIDTH, symbolType, offColor, customOffColor, false);
+        }
+    }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Visualization">
@@ -206,7 +218,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setSymbolType(final SymbolType SYMBOL_TYPE) {
         symbolType = SYMBOL_TYPE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(true, true);
         repaint(getInnerBounds());
     }
 
@@ -223,8 +235,10 @@ public class Indicator extends AbstractRadial {
      * @param ON
      */
     public void setOn(final boolean ON) {
+        if (ON == on) {
+            return;
+        }
         on = ON;
-        init(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -242,7 +256,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setOnColor(final ColorDef ON_COLOR) {
         onColor = ON_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(true, false);
         repaint(getInnerBounds());
     }
 
@@ -260,7 +274,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setCustomOnColor(final CustomColorDef CUSTOM_ON_COLOR) {
         customOnColor = CUSTOM_ON_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(true, false);
         repaint(getInnerBounds());
     }
 
@@ -278,7 +292,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setOffColor(final ColorDef OFF_COLOR) {
         offColor = OFF_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(false, true);
         repaint(getInnerBounds());
     }
 
@@ -296,7 +310,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setCustomOffColor(final CustomColorDef CUSTOM_OFF_COLOR) {
         customOffColor = CUSTOM_OFF_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(false, true);
         repaint(getInnerBounds());
     }
 
@@ -314,7 +328,7 @@ public class Indicator extends AbstractRadial {
      */
     public void setGlow(final boolean GLOW) {
         glow = GLOW;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initSymbol(true, false);
         repaint(getInnerBounds());
     }
 
@@ -30,6 +30,9 @@ package eu.hansolo.steelseries.extras;
 import eu.hansolo.steelseries.tools.CustomLedColor;
 import eu.hansolo.steelseries.tools.LedColor;
 import eu.hansolo.steelseries.tools.LedType;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Shadow;
 import eu.hansolo.steelseries.tools.Util;
 import java.awt.Color;
@@ -55,7 +58,6 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
-import javax.swing.JComponent;
 import javax.swing.SwingConstants;
 import javax.swing.Timer;
 import javax.swing.border.Border;
@@ -64,7 +66,7 @@ import javax.swing.border.Border;
  *
  * @author hansolo
  */
-public class Led extends JComponent implements ActionListener {
+public class Led extends MeasuredComponent implements ActionListener {
     // <editor-fold defaultstate="collapsed" desc="Variable declaration">
     private static final    Util                       UTIL  = Util.INSTANCE;
     private static final    Map<String, BufferedImage> CACHE = new HashMap<String, BufferedImage>();
@@ -94,7 +96,7 @@ public class Led extends JComponent implements ActionListener {
         ledImageOff         = create_LED_Image(16, 0, ledColor, LedType.ROUND);
         ledImageOn          = create_LED_Image(16, 1, ledColor, LedType.ROUND);
         currentLedImage     = ledImageOff;
-        LED_BLINKING_TIMER  = new javax.swing.Timer(500, this);
+        LED_BLINKING_TIMER  = new PulseTimer(500, this);
         ledBlinking         = false;
         ledOn               = false;
         ledType             = LedType.ROUND;
@@ -138,21 +140,28 @@ public class Led extends JComponent implements ActionListener {
         if (WIDTH <= 1) {
             return;
         }
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                if (ledImageOff != null) {
+                    ledImageOff.flush();
+                }
+                ledImageOff = create_LED_Image(WIDTH, 0, ledColor, ledType);
 
-        if (ledImageOff != null) {
-            ledImageOff.flush();
-        }
-        ledImageOff = create_LED_Image(WIDTH, 0, ledColor, ledType);
-
-        if (ledImageOn != null) {
-            ledImageOn.flush();
-        }
-        ledImageOn = create_LED_Image(WIDTH, 1, ledColor, ledType);
+                if (ledImageOn != null) {
+                    ledImageOn.flush();
+                }
+                ledImageOn = create_LED_Image(WIDTH, 1, ledColor, ledType);
 
-        if (ledOn) {
-            setCurrentLedImage(ledImageOn);
-        } else {
-            setCurrentLedImage(ledImageOff);
+                if (ledOn) {
+                    setCurrentLedImage(ledImageOn);
+                } else {
+                    setCurrentLedImage(ledImageOff);
+                }
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
+            }
         }
     }
     // </editor-fold>
@@ -86,7 +86,7 @@ public final class Level extends AbstractRadial {
         setMinValue(-360);
         setMaxValue(360);
         calcAngleStep();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
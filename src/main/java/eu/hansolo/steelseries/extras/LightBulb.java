@@ -27,7 +27,12 @@
  */
 package eu.hansolo.steelseries.extras;
 
+import eu.hansolo.steelseries.tools.ImageCache;
+import eu.hansolo.steelseries.tools.ImageCacheKey;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Shadow;
+import eu.hansolo.steelseries.tools.Util;
 import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -35,8 +40,6 @@ import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.GraphicsConfiguration;
-import java.awt.GraphicsEnvironment;
 import java.awt.Insets;
 import java.awt.LinearGradientPaint;
 import java.awt.RadialGradientPaint;
@@ -53,7 +56,6 @@ import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import javax.swing.JComponent;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.border.Border;
@@ -61,8 +63,9 @@ import javax.swing.border.Border;
 /**
  * @author Gerrit Grunwald <han.solo at muenster.de>
  */
-public class LightBulb extends JComponent {
+public class LightBulb extends MeasuredComponent {
     public static final String STATE_PROPERTY = "state";
+    private static final ImageCache CACHE = ImageCache.INSTANCE;
     private boolean on;
     private float alpha;
     private int direction;
@@ -118,20 +121,48 @@ public class LightBulb extends JComponent {
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
-        if (offImage != null) {
-            offImage.flush();
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                // The images only depend on the size and the glow color and will be
+                // shared between all lightbulbs, switching the state only repaints
+                final ImageCacheKey OFF_KEY = new ImageCacheKey("LightBulb.off", WIDTH, HEIGHT);
+                offImage = CACHE.get(OFF_KEY);
+                if (offImage == null) {
+                    offImage = CACHE.put(OFF_KEY, createOffImage(WIDTH, HEIGHT));
+                }
+                final ImageCacheKey BULB_KEY = new ImageCacheKey("LightBulb.bulb", WIDTH, HEIGHT);
+                bulbImage = CACHE.get(BULB_KEY);
+                if (bulbImage == null) {
+                    bulbImage = CACHE.put(BULB_KEY, createBulbImage(WIDTH, HEIGHT));
+                }
+                initGlow(WIDTH, HEIGHT);
+
+                CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
+            }
         }
-        offImage = createOffImage(WIDTH, HEIGHT);
-        if (onImage != null) {
-            onImage.flush();
+    }
+
+    /**
+     * Creates only the image of the glowing bulb which is the only image
+     * that depends on the glow color
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    private void initGlow(final int WIDTH, final int HEIGHT) {
+        if (WIDTH <= 1 || HEIGHT <= 1) {
+            return;
         }
-        onImage = createOnImage(WIDTH, HEIGHT, glowColor);
-        if (bulbImage != null) {
-            bulbImage.flush();
+        synchronized (getInitLock()) {
+            final ImageCacheKey ON_KEY = new ImageCacheKey("LightBulb.on", WIDTH, HEIGHT, glowColor);
+            onImage = CACHE.get(ON_KEY);
+            if (onImage == null) {
+                onImage = CACHE.put(ON_KEY, createOnImage(WIDTH, HEIGHT, glowColor));
+            }
         }
-        bulbImage = createBulbImage(WIDTH, HEIGHT);
-
-        CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
     }
 
     @Override
@@ -189,6 +220,9 @@ public class LightBulb extends JComponent {
      * @param ON
      */
     public void setOn(final boolean ON) {
+        if (ON == on) {
+            return;
+        }
         boolean oldState = on;
         on = ON;
         propertySupport.firePropertyChange(STATE_PROPERTY, oldState, on);
@@ -211,7 +245,11 @@ public class LightBulb extends JComponent {
      * @param ALPHA
      */
     public void setAlpha(final float ALPHA) {
-        alpha = ALPHA < 0 ? 0 : (ALPHA > 1 ? 1: ALPHA);
+        final float NEW_ALPHA = ALPHA < 0 ? 0 : (ALPHA > 1 ? 1: ALPHA);
+        if (Float.compare(NEW_ALPHA, alpha) == 0) {
+            return;
+        }
+        alpha = NEW_ALPHA;
         repaint(getInnerBounds());
     }
 
@@ -269,7 +307,7 @@ public class LightBulb extends JComponent {
      */
     public void setGlowColor(final Color GLOW_COLOR) {
         glowColor = GLOW_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        initGlow(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -495,21 +533,19 @@ public class LightBulb extends JComponent {
      * @return a compatible image of the given size and transparency
      */
     private BufferedImage createImage(final int WIDTH, final int HEIGHT, final int TRANSPARENCY) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, TRANSPARENCY);
+            return Util.INSTANCE.createImage(1, 1, TRANSPARENCY);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, TRANSPARENCY);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, TRANSPARENCY);
         return IMAGE;
     }
 
 	// Image methods
     public BufferedImage createOffImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -540,11 +576,10 @@ public class LightBulb extends JComponent {
     }
 
     public BufferedImage createOnImage(final int WIDTH, final int HEIGHT, final Color GLOW_COLOR) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -621,11 +656,10 @@ public class LightBulb extends JComponent {
     }
 
     public BufferedImage createBulbImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
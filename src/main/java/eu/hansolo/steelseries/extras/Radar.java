@@ -82,7 +82,7 @@ public final class Radar extends AbstractRadial implements ActionListener {
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public Radar() {
         super();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -237,7 +237,7 @@ public final class Radar extends AbstractRadial implements ActionListener {
     public void setRange(final double RANGE) {
         this.range = RANGE;
         checkForBlips();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -260,7 +260,7 @@ public final class Radar extends AbstractRadial implements ActionListener {
     public void setMyLocation(final Poi NEW_LOCATION) {
         this.MY_LOCATION.setLocation(NEW_LOCATION.getLocation());
         checkForBlips();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -273,7 +273,7 @@ public final class Radar extends AbstractRadial implements ActionListener {
     public void setMyLocation(final double LON, final double LAT) {
         this.MY_LOCATION.setLocation(LON, LAT);
         checkForBlips();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -31,6 +31,7 @@ import eu.hansolo.steelseries.gauges.AbstractGauge;
 import eu.hansolo.steelseries.gauges.AbstractRadial;
 import eu.hansolo.steelseries.tools.BackgroundColor;
 import eu.hansolo.steelseries.tools.ColorDef;
+import eu.hansolo.steelseries.tools.PulseTimer;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -99,9 +100,9 @@ public class StopWatch extends AbstractRadial implements ActionListener {
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public StopWatch() {
         super();
-        CLOCK_TIMER = new Timer(100, this);
+        CLOCK_TIMER = new PulseTimer(100, this);
         INNER_BOUNDS = new Rectangle(200, 200);
-        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
+        requestInit(INNER_BOUNDS.width, INNER_BOUNDS.height);
         setPointerColor(ColorDef.BLACK);
         setBackgroundColor(BackgroundColor.LIGHT_GRAY);
         horizontalAlignment = SwingConstants.CENTER;
@@ -215,8 +216,8 @@ public class StopWatch extends AbstractRadial implements ActionListener {
     protected void paintComponent(Graphics g) {
         final Graphics2D G2 = (Graphics2D) g.create();
 
-        MAIN_CENTER.setLocation(INNER_BOUNDS.getCenterX(), INNER_BOUNDS.getCenterX());
-        SMALL_CENTER.setLocation(INNER_BOUNDS.getCenterX(), INNER_BOUNDS.width * 0.3130841121);
+        MAIN_CENTER.setLocation(INNER_BOUNDS.width / 2.0, INNER_BOUNDS.width / 2.0);
+        SMALL_CENTER.setLocation(INNER_BOUNDS.width / 2.0, INNER_BOUNDS.width * 0.3130841121);
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -328,7 +329,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
 
     public void setFlatNeedle(final boolean FLAT_NEEDLE) {
         flatNeedle = FLAT_NEEDLE;
-        init(getWidth(), getWidth());
+        requestInit(getWidth(), getWidth());
         repaint(INNER_BOUNDS);
     }
 
@@ -715,6 +716,23 @@ public class StopWatch extends AbstractRadial implements ActionListener {
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Size related">
+    @Override
+    public void calcInnerBounds() {
+        super.calcInnerBounds();
+        final Insets INSETS = getInsets();
+        final int SIZE = (getWidth() - INSETS.left - INSETS.right) <= (getHeight() - INSETS.top - INSETS.bottom) ? (getWidth() - INSETS.left - INSETS.right) : (getHeight() - INSETS.top - INSETS.bottom);
+        if (!isFrameVisible()) {
+            INNER_BOUNDS.setBounds(INSETS.left, INSETS.top, (int)(SIZE * 1.202247191), (int)(SIZE * 1.202247191));
+        } else {
+            INNER_BOUNDS.setBounds(INSETS.left, INSETS.top, SIZE, SIZE);
+        }
+    }
+
+    @Override
+    public Rectangle getInnerBounds() {
+        return INNER_BOUNDS;
+    }
+
     @Override
     public Dimension getMinimumSize() {
         Dimension dim = super.getMinimumSize();
@@ -731,7 +749,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         final int SIZE = width <= height ? width : height;
         super.setMinimumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -753,7 +771,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         final int SIZE = width <= height ? width : height;
         super.setMaximumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -764,7 +782,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setPreferredSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -775,7 +793,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         final int SIZE = WIDTH <= HEIGHT ? WIDTH : HEIGHT;
         super.setSize(SIZE, SIZE);
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -784,7 +802,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -824,7 +842,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
             super.setBounds(xNew, BOUNDS.y, BOUNDS.height, BOUNDS.height);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -864,7 +882,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
             super.setBounds(xNew, Y, HEIGHT, HEIGHT);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -872,7 +890,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
     public void setBorder(Border BORDER) {
         super.setBorder(BORDER);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     /**
@@ -948,7 +966,7 @@ public class StopWatch extends AbstractRadial implements ActionListener {
         }
         calcInnerBounds();
 
-        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
+        requestInit(INNER_BOUNDS.width, INNER_BOUNDS.height);
 
         //revalidate();
         //repaint();
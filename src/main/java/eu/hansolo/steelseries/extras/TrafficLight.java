@@ -27,14 +27,16 @@
  */
 package eu.hansolo.steelseries.extras;
 
+import eu.hansolo.steelseries.tools.MeasuredComponent;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
+import eu.hansolo.steelseries.tools.TextureImageFactory;
 import eu.hansolo.steelseries.tools.Util;
 import java.awt.Color;
 import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.GraphicsConfiguration;
-import java.awt.GraphicsEnvironment;
 import java.awt.Insets;
 import java.awt.LinearGradientPaint;
 import java.awt.RadialGradientPaint;
@@ -55,15 +57,13 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.util.Random;
-import javax.swing.JComponent;
 import javax.swing.Timer;
 
 /**
  *
  * @author Gerrit Grunwald <han.solo at muenster.de>
  */
-public class TrafficLight extends JComponent implements ActionListener {
+public class TrafficLight extends MeasuredComponent implements ActionListener {
     public static final String RED_PROPERTY = "red";
     public static final String YELLOW_PROPERTY = "yellow";
     public static final String GREEN_PROPERTY = "green";
@@ -124,7 +124,7 @@ public class TrafficLight extends JComponent implements ActionListener {
         propertySupport = new PropertyChangeSupport(this);
         CENTER = new Point2D.Double();
         timerPeriod = 1000;
-        TIMER = new Timer(timerPeriod, this);
+        TIMER = new PulseTimer(timerPeriod, this);
         housingImage = Util.INSTANCE.createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
         greenImage = Util.INSTANCE.createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
         greenOnImage = Util.INSTANCE.createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
@@ -149,47 +149,55 @@ public class TrafficLight extends JComponent implements ActionListener {
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
-        if (housingImage != null) {
-            housingImage.flush();
-        }
-        housingImage = createHousingImage(WIDTH, HEIGHT);
-        if (greenImage != null) {
-            greenImage.flush();
-        }
-        greenImage = createGreenLightImage(WIDTH, HEIGHT);
-        if (greenOnImage != null) {
-            greenOnImage.flush();
-        }
-        greenOnImage = createGreenOnImage(WIDTH, HEIGHT);
-        if (greenOffImage != null) {
-            greenOffImage.flush();
-        }
-        greenOffImage = createGreenOffImage(WIDTH, HEIGHT);
-        if (yellowImage != null) {
-            yellowImage.flush();
-        }
-        yellowImage = createYellowLightImage(WIDTH, HEIGHT);
-        if (yellowOnImage != null) {
-            yellowOnImage.flush();
-        }
-        yellowOnImage = createYellowOnImage(WIDTH, HEIGHT);
-        if (yellowOffImage != null) {
-            yellowOffImage.flush();
-        }
-        yellowOffImage = createYellowOffImage(WIDTH, HEIGHT);
-        if (redImage != null) {
-            redImage.flush();
-        }
-        redImage = createRedLightImage(WIDTH, HEIGHT);
-        if (redOnImage != null) {
-            redOnImage.flush();
-        }
-        redOnImage = createRedOnImage(WIDTH, HEIGHT);
-        if (redOffImage != null) {
-            redOffImage.flush();
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                if (housingImage != null) {
+                    housingImage.flush();
+                }
+                housingImage = createHousingImage(WIDTH, HEIGHT);
+                if (greenImage != null) {
+                    greenImage.flush();
+                }
+                greenImage = createGreenLightImage(WIDTH, HEIGHT);
+                if (greenOnImage != null) {
+                    greenOnImage.flush();
+                }
+                greenOnImage = createGreenOnImage(WIDTH, HEIGHT);
+                if (greenOffImage != null) {
+                    greenOffImage.flush();
+                }
+                greenOffImage = createGreenOffImage(WIDTH, HEIGHT);
+                if (yellowImage != null) {
+                    yellowImage.flush();
+                }
+                yellowImage = createYellowLightImage(WIDTH, HEIGHT);
+                if (yellowOnImage != null) {
+                    yellowOnImage.flush();
+                }
+                yellowOnImage = createYellowOnImage(WIDTH, HEIGHT);
+                if (yellowOffImage != null) {
+                    yellowOffImage.flush();
+                }
+                yellowOffImage = createYellowOffImage(WIDTH, HEIGHT);
+                if (redImage != null) {
+                    redImage.flush();
+                }
+                redImage = createRedLightImage(WIDTH, HEIGHT);
+                if (redOnImage != null) {
+                    redOnImage.flush();
+                }
+                redOnImage = createRedOnImage(WIDTH, HEIGHT);
+                if (redOffImage != null) {
+                    redOffImage.flush();
+                }
+                redOffImage = createRedOffImage(WIDTH, HEIGHT);
+                CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
+            }
         }
-        redOffImage = createRedOffImage(WIDTH, HEIGHT);
-        CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
     }
 
     @Override
@@ -477,11 +485,10 @@ public class TrafficLight extends JComponent implements ActionListener {
 
 	// Image methods
     public BufferedImage createHousingImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -497,37 +504,17 @@ public class TrafficLight extends JComponent implements ActionListener {
         G2.setPaint(new LinearGradientPaint(new Point2D.Double(-0.1326530612244898 * IMAGE_WIDTH, -0.0539568345323741 * IMAGE_HEIGHT), new Point2D.Double(2.0614080436330213 * IMAGE_WIDTH, 0.6672932297063833 * IMAGE_HEIGHT), new float[]{0.0f, 0.01f, 0.16f, 0.31f, 0.44f, 0.65f, 0.87f, 0.98f, 1.0f}, new Color[]{new Color(0f, 0f, 0f, 1f), new Color(0f, 0f, 0f, 1f), new Color(0.2156862745f, 0.2156862745f, 0.2078431373f, 1f), new Color(0f, 0f, 0f, 1f), new Color(0.1882352941f, 0.1882352941f, 0.1882352941f, 1f), new Color(0f, 0f, 0f, 1f), new Color(0.2117647059f, 0.2117647059f, 0.2117647059f, 1f), new Color(0f, 0f, 0f, 1f), new Color(0f, 0f, 0f, 1f)}));
         G2.fill(HOUSING_FRONT);
 
-        final Random BW_RND = new Random();
-        final Random ALPHA_RND = new Random();
-        G2.setClip(HOUSING_FRONT);
-        final Color DARK_NOISE = new Color(0.2f, 0.2f, 0.2f);
-        final Color BRIGHT_NOISE = new Color(0.8f, 0.8f, 0.8f);
-        Color noiseColor;
-        int noiseAlpha;
-        for (int y = 0 ; y < HOUSING_FRONT.getHeight() ; y ++) {
-            for (int x = 0 ; x < HOUSING_FRONT.getWidth() ; x ++) {
-                if (BW_RND.nextBoolean()) {
-                    noiseColor = BRIGHT_NOISE;
-                } else {
-                    noiseColor = DARK_NOISE;
-                }
-                noiseAlpha = 10 + ALPHA_RND.nextInt(10) - 5;
-                G2.setColor(new Color(noiseColor.getRed(), noiseColor.getGreen(), noiseColor.getBlue(), noiseAlpha));
-                G2.drawLine((int) (x + HOUSING_FRONT.getMinX()), (int) (y + HOUSING_FRONT.getMinY()), (int) (x + HOUSING_FRONT.getMinX()), (int) (y + HOUSING_FRONT.getMinY()));
-            }
-        }
-
+        TextureImageFactory.INSTANCE.fillNoise(G2, HOUSING_FRONT, new Color(0.8f, 0.8f, 0.8f), new Color(0.2f, 0.2f, 0.2f), 5, 14);
 
         G2.dispose();
         return IMAGE;
     }
 
     public BufferedImage createGreenLightImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -556,11 +543,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createGreenOnImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -588,11 +574,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createGreenOffImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -617,11 +602,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createYellowLightImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -650,11 +634,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createYellowOnImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -682,11 +665,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createYellowOffImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -711,11 +693,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createRedLightImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -744,11 +725,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createRedOnImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -776,11 +756,10 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     public BufferedImage createRedOffImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -805,8 +784,7 @@ public class TrafficLight extends JComponent implements ActionListener {
     }
 
     private static BufferedImage createHatchTexture() {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(2, 2, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(2, 2, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
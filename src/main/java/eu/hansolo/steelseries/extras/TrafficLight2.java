@@ -27,13 +27,15 @@
  */
 package eu.hansolo.steelseries.extras;
 
+import eu.hansolo.steelseries.tools.MeasuredComponent;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
+import eu.hansolo.steelseries.tools.Util;
 import java.awt.Color;
 import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.GraphicsConfiguration;
-import java.awt.GraphicsEnvironment;
 import java.awt.Insets;
 import java.awt.RadialGradientPaint;
 import java.awt.Rectangle;
@@ -52,14 +54,13 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import javax.swing.JComponent;
 import javax.swing.Timer;
 
 /**
  *
  * @author Gerrit Grunwald <han.solo at muenster.de>
  */
-public class TrafficLight2 extends JComponent implements ActionListener {
+public class TrafficLight2 extends MeasuredComponent implements ActionListener {
     public static final String RED_PROPERTY = "red";
     public static final String YELLOW_PROPERTY = "yellow";
     public static final String GREEN_PROPERTY = "green";
@@ -118,7 +119,7 @@ public class TrafficLight2 extends JComponent implements ActionListener {
         propertySupport = new PropertyChangeSupport(this);
         CENTER = new Point2D.Double();
         timerPeriod = 1000;
-        TIMER = new Timer(timerPeriod, this);
+        TIMER = new PulseTimer(timerPeriod, this);
         housingImage = createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
         greenOnImage = createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
         greenOffImage = createImage(INNER_BOUNDS.width, INNER_BOUNDS.height, Transparency.TRANSLUCENT);
@@ -142,35 +143,43 @@ public class TrafficLight2 extends JComponent implements ActionListener {
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
-        if (housingImage != null) {
-            housingImage.flush();
-        }
-        housingImage = yellowVisible ? create3LightsHousingImage(WIDTH, HEIGHT) : create2LightsHousingImage(WIDTH, HEIGHT);
-        if (greenOnImage != null) {
-            greenOnImage.flush();
-        }
-        greenOnImage = yellowVisible ? create3LightsGreenImage(WIDTH, HEIGHT, true) : create2LightsGreenImage(WIDTH, HEIGHT, true);
-        if (greenOffImage != null) {
-            greenOffImage.flush();
-        }
-        greenOffImage = yellowVisible ? create3LightsGreenImage(WIDTH, HEIGHT, false) : create2LightsGreenImage(WIDTH, HEIGHT, false);
-        if (yellowOnImage != null) {
-            yellowOnImage.flush();
-        }
-        yellowOnImage = create3LightsYellowImage(WIDTH, HEIGHT, true);
-        if (yellowOffImage != null) {
-            yellowOffImage.flush();
-        }
-        yellowOffImage = create3LightsYellowImage(WIDTH, HEIGHT, false);
-        if (redOnImage != null) {
-            redOnImage.flush();
-        }
-        redOnImage = yellowVisible ? create3LightsRedImage(WIDTH, HEIGHT, true) : create2LightsRedImage(WIDTH, HEIGHT, true);
-        if (redOffImage != null) {
-            redOffImage.flush();
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                if (housingImage != null) {
+                    housingImage.flush();
+                }
+                housingImage = yellowVisible ? create3LightsHousingImage(WIDTH, HEIGHT) : create2LightsHousingImage(WIDTH, HEIGHT);
+                if (greenOnImage != null) {
+                    greenOnImage.flush();
+                }
+                greenOnImage = yellowVisible ? create3LightsGreenImage(WIDTH, HEIGHT, true) : create2LightsGreenImage(WIDTH, HEIGHT, true);
+                if (greenOffImage != null) {
+                    greenOffImage.flush();
+                }
+                greenOffImage = yellowVisible ? create3LightsGreenImage(WIDTH, HEIGHT, false) : create2LightsGreenImage(WIDTH, HEIGHT, false);
+                if (yellowOnImage != null) {
+                    yellowOnImage.flush();
+                }
+                yellowOnImage = create3LightsYellowImage(WIDTH, HEIGHT, true);
+                if (yellowOffImage != null) {
+                    yellowOffImage.flush();
+                }
+                yellowOffImage = create3LightsYellowImage(WIDTH, HEIGHT, false);
+                if (redOnImage != null) {
+                    redOnImage.flush();
+                }
+                redOnImage = yellowVisible ? create3LightsRedImage(WIDTH, HEIGHT, true) : create2LightsRedImage(WIDTH, HEIGHT, true);
+                if (redOffImage != null) {
+                    redOffImage.flush();
+                }
+                redOffImage = yellowVisible ? create3LightsRedImage(WIDTH, HEIGHT, false) : create2LightsRedImage(WIDTH, HEIGHT, false);
+                CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
+            }
         }
-        redOffImage = yellowVisible ? create3LightsRedImage(WIDTH, HEIGHT, false) : create2LightsRedImage(WIDTH, HEIGHT, false);
-        CENTER.setLocation(WIDTH / 2.0, HEIGHT / 2.0);
     }
 
     @Override
@@ -493,21 +502,19 @@ public class TrafficLight2 extends JComponent implements ActionListener {
      * @return a compatible image of the given size and transparency
      */
     private BufferedImage createImage(final int WIDTH, final int HEIGHT, final int TRANSPARENCY) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, TRANSPARENCY);
+            return Util.INSTANCE.createImage(1, 1, TRANSPARENCY);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, TRANSPARENCY);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, TRANSPARENCY);
         return IMAGE;
     }
 
 	// Image methods
     public BufferedImage create2LightsHousingImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -545,11 +552,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create2LightsGreenImage(final int WIDTH, final int HEIGHT, final boolean IS_ON) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -589,11 +595,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create2LightsRedImage(final int WIDTH, final int HEIGHT, final boolean IS_ON) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -638,11 +643,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create3LightsHousingImage(final int WIDTH, final int HEIGHT) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -680,11 +684,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create3LightsGreenImage(final int WIDTH, final int HEIGHT, final boolean IS_ON) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -723,11 +726,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create3LightsYellowImage(final int WIDTH, final int HEIGHT, final boolean IS_ON) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -765,11 +767,10 @@ public class TrafficLight2 extends JComponent implements ActionListener {
     }
 
     public BufferedImage create3LightsRedImage(final int WIDTH, final int HEIGHT, final boolean IS_ON) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, java.awt.Transparency.TRANSLUCENT);
+            return Util.INSTANCE.createImage(1, 1, java.awt.Transparency.TRANSLUCENT);
         }
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = Util.INSTANCE.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -107,7 +107,7 @@ public class WindDirection extends AbstractRadial {
         calcAngleStep();
         value2 = 0;
         pointer2Visible = true;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -389,7 +389,7 @@ public class WindDirection extends AbstractRadial {
      */
     public void setPointer2Color(final ColorDef POINTER2_COLOR) {
         pointer2Color = POINTER2_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -444,7 +444,7 @@ public class WindDirection extends AbstractRadial {
      */
     public void setPointer2Type(final PointerType POINTER2_TYPE) {
         pointer2Type = POINTER2_TYPE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -462,7 +462,7 @@ public class WindDirection extends AbstractRadial {
      */
     public void setCustomPointer2Color(final Color COLOR) {
         this.customPointer2Color = new CustomColorDef(COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -44,25 +44,34 @@ import eu.hansolo.steelseries.tools.LcdColor;
 import eu.hansolo.steelseries.tools.LcdImageFactory;
 import eu.hansolo.steelseries.tools.LedColor;
 import eu.hansolo.steelseries.tools.LedImageFactory;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
 import eu.hansolo.steelseries.tools.Model;
 import eu.hansolo.steelseries.tools.NumberFormat;
 import eu.hansolo.steelseries.tools.Orientation;
 import eu.hansolo.steelseries.tools.PointerImageFactory;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Section;
 import eu.hansolo.steelseries.tools.ThresholdType;
 import eu.hansolo.steelseries.tools.TickmarkImageFactory;
 import eu.hansolo.steelseries.tools.TickmarkType;
 import eu.hansolo.steelseries.tools.Util;
+import eu.hansolo.steelseries.tools.ValueAggregation;
+import eu.hansolo.steelseries.tools.ValueAnimator;
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Transparency;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
@@ -73,12 +82,16 @@ import java.beans.PropertyChangeSupport;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.swing.JComponent;
 import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.event.EventListenerList;
+import org.pushingpixels.trident.ease.Sine;
+import org.pushingpixels.trident.ease.Spline;
+import org.pushingpixels.trident.ease.TimelineEase;
 
 
 /**
@@ -87,7 +100,7 @@ import javax.swing.event.EventListenerList;
  * matter if they are radial or linear.
  * @author hansolo
  */
-public abstract class AbstractGauge extends JComponent implements ComponentListener, ActionListener, Serializable {
+public abstract class AbstractGauge extends MeasuredComponent implements ComponentListener, HierarchyListener, ActionListener, Serializable {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
     private static final long serialVersionUID = 31269L;
     public static final String VALUE_PROPERTY = "value";
@@ -105,6 +118,16 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
     protected static final DisabledImageFactory DISABLED_FACTORY = DisabledImageFactory.INSTANCE;
     // Initialization
     private boolean initialized;
+    private transient int updateDepth;
+    private transient boolean reInitializePending;
+    private transient boolean batchInitPending;
+    private transient int batchInitWidth;
+    private transient int batchInitHeight;
+    private transient Model updateModel;
+    private boolean lazyInitEnabled;
+    private transient boolean initPending;
+    private transient int pendingWidth;
+    private transient int pendingHeight;
     // Models
     private volatile Model model;
     private DesignSet design1;
@@ -148,6 +171,18 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
     private long rtzTimeBackToZero;
     // Orientation
     private Orientation orientation;
+    // Repaint related
+    private boolean dirtyRegionRepaintEnabled;
+    private volatile long repaintedPixels;
+    private volatile long paintCount;
+    // Coalesced value ingestion
+    private final AtomicReference<ValueSamples> OFFERED_SAMPLES = new AtomicReference<ValueSamples>();
+    private final Timer VALUE_PUBLISH_TIMER;
+    private volatile ValueAggregation valueAggregation;
+    // Animation related
+    private static final TimelineEase STANDARD_EASING = new Spline(0.5f);
+    private static final TimelineEase RETURN_TO_ZERO_EASING = new Sine();
+    private final ValueAnimator VALUE_ANIMATOR;
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -160,7 +195,7 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         design2 = new DesignSet.Builder().frameDesign(FrameDesign.METAL).frameEffect(FrameEffect.NONE).backgroundColor(BackgroundColor.WHITE).textureColor(new Color(0xc3c3c3)).color(ColorDef.RED).ledColor(LedColor.RED_LED).userLedColor(LedColor.RED_LED).lcdColor(LcdColor.STANDARD_LCD).glowColor(new Color(51, 255, 255)).build();
         activeDesign = design1;
 
-        GLOW_PULSE = new Timer(50, this);
+        GLOW_PULSE = new PulseTimer(50, this);
         glowAlpha = 1.0f;
         glowAlphaCounter = 1.0;
         glowAlphaIncrement = -0.1;
@@ -168,18 +203,18 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         ledImageOff = create_LED_Image(200, 0, model.getLedColor());
         ledImageOn = create_LED_Image(200, 1, model.getLedColor());
         currentLedImage = ledImageOff;
-        LED_BLINKING_TIMER = new Timer(500, this);
+        LED_BLINKING_TIMER = new PulseTimer(500, this);
         ledOn = false;
         ledBlinking = false;
 
         userLedImageOff = create_LED_Image(200, 0, model.getLedColor());
         userLedImageOn = create_LED_Image(200, 1, model.getLedColor());
         currentUserLedImage = userLedImageOff;
-        USER_LED_BLINKING_TIMER = new Timer(500, this);
+        USER_LED_BLINKING_TIMER = new PulseTimer(500, this);
         userLedOn = false;
         userLedBlinking = false;
 
-        PEAK_TIMER = new Timer(1000, this);
+        PEAK_TIMER = new PulseTimer(1000, this);
         customTickmarkLabelsEnabled = false;
         customTickmarkLabels = new ArrayList<Double>(10);
         title = "Title";
@@ -189,7 +224,16 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         rtzTimeToValue = 800;
         rtzTimeBackToZero = 1200;
         orientation = Orientation.NORTH;
+        dirtyRegionRepaintEnabled = true;
+        repaintedPixels = 0;
+        paintCount = 0;
+        VALUE_PUBLISH_TIMER = new PulseTimer(16, this);
+        VALUE_PUBLISH_TIMER.setRepeats(false);
+        valueAggregation = ValueAggregation.LAST;
+        VALUE_ANIMATOR = new ValueAnimator(new AnimatedValueTarget());
+        lazyInitEnabled = true;
         addComponentListener(this);
+        addHierarchyListener(this);
     }
     // </editor-fold>
 
@@ -201,6 +245,87 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
      * @return a instance of the current gauge
      */
     abstract public AbstractGauge init(final int WIDTH, final int HEIGHT);
+
+    /**
+     * Initializes the gauge with the given size. If lazy initialization is
+     * enabled and the gauge is not showing, only the size will be stored and
+     * the images will be created when the gauge will be painted or becomes
+     * showing for the first time. Within a batch of changes only the size will
+     * be stored and the gauge will be initialized once by endUpdate().
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    protected void requestInit(final int WIDTH, final int HEIGHT) {
+        synchronized (getInitLock()) {
+            if (updateDepth > 0) {
+                batchInitWidth = WIDTH;
+                batchInitHeight = HEIGHT;
+                batchInitPending = true;
+                return;
+            }
+            if (lazyInitEnabled && !isShowing()) {
+                pendingWidth = WIDTH;
+                pendingHeight = HEIGHT;
+                initPending = true;
+                return;
+            }
+            initPending = false;
+            measuredInit(WIDTH, HEIGHT);
+        }
+    }
+
+    /**
+     * Creates the images of a deferred initialization now. This method will
+     * be called before the gauge will be painted and could also be used to
+     * prewarm gauges that are not showing on a background thread.
+     * @return true if a deferred initialization has been done
+     */
+    public boolean initIfPending() {
+        synchronized (getInitLock()) {
+            if (!initPending) {
+                return false;
+            }
+            initPending = false;
+            measuredInit(pendingWidth, pendingHeight);
+            return true;
+        }
+    }
+
+    /**
+     * Creates the images of a deferred initialization or recreates the images
+     * with the current size if no initialization is pending. Will be called
+     * by the GaugeInitializer on a worker thread and holds the init lock, so
+     * a resize or repaint on the event dispatch thread has to wait.
+     */
+    void initWithInnerBounds() {
+        synchronized (getInitLock()) {
+            if (initIfPending()) {
+                return;
+            }
+            final Rectangle INNER_BOUNDS = getInnerBounds();
+            if (INNER_BOUNDS.width > 1 && INNER_BOUNDS.height > 1) {
+                init(INNER_BOUNDS.width, INNER_BOUNDS.height);
+            }
+        }
+    }
+
+    private void measuredInit(final int WIDTH, final int HEIGHT) {
+        final long START = RenderMetrics.INSTANCE.begin(this);
+        try {
+            init(WIDTH, HEIGHT);
+        } finally {
+            RenderMetrics.INSTANCE.endInit(this, START);
+        }
+    }
+
+    /**
+     * Returns true if the creation of the images has been deferred until
+     * the gauge will be painted or becomes showing
+     * @return true if the creation of the images has been deferred
+     */
+    public boolean isInitPending() {
+        return initPending;
+    }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Getter/Setter">
@@ -220,6 +345,26 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         initialized = INITIALIZED;
     }
 
+    /**
+     * Returns true if gauges that are not showing defer the creation of
+     * their images until they will be painted or become showing
+     * @return true if the initialization of gauges that are not showing will be deferred
+     */
+    public boolean isLazyInitEnabled() {
+        return lazyInitEnabled;
+    }
+
+    /**
+     * Enables / disables the deferred initialization of gauges that are not showing
+     * @param LAZY_INIT_ENABLED
+     */
+    public void setLazyInitEnabled(final boolean LAZY_INIT_ENABLED) {
+        lazyInitEnabled = LAZY_INIT_ENABLED;
+        if (!LAZY_INIT_ENABLED) {
+            initIfPending();
+        }
+    }
+
     /**
      * Returns the state model of the gauge
      * @return the state model of the gauge
@@ -292,7 +437,7 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
 
             if (model.getValue() > (model.getOldValue() + model.getRange() * model.getRedrawFactor()) ||
                 model.getValue() < (model.getOldValue() - model.getRange() * model.getRedrawFactor())) {
-            repaint(getInnerBounds());
+                repaintValue(model.getOldValue(), model.getValue());
             }
 
             fireStateChanged();
@@ -300,6 +445,96 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         }
     }
 
+    /**
+     * Offers a new value to the gauge. In contrast to setValue() this method
+     * could be called with a high frequency from any thread. All values that
+     * are offered within one display frame will be combined by the current
+     * value aggregation and will be set as the value of the gauge at most
+     * once per frame on the event dispatch thread. The min and max measured
+     * values will take all offered values into account.
+     * @param VALUE
+     */
+    public void offerValue(final double VALUE) {
+        ValueSamples samples;
+        do {
+            samples = OFFERED_SAMPLES.get();
+        } while (!OFFERED_SAMPLES.compareAndSet(samples, samples == null ? new ValueSamples(VALUE) : samples.add(VALUE)));
+
+        // The first value of a frame schedules the publishing of the frame
+        if (samples == null) {
+            VALUE_PUBLISH_TIMER.start();
+        }
+    }
+
+    /**
+     * Returns the aggregation that will be used to combine the values that
+     * were offered within one display frame.
+     * @return the aggregation of the offered values
+     */
+    public ValueAggregation getValueAggregation() {
+        return valueAggregation;
+    }
+
+    /**
+     * Sets the aggregation that will be used to combine the values that
+     * were offered within one display frame.
+     * @param VALUE_AGGREGATION
+     */
+    public void setValueAggregation(final ValueAggregation VALUE_AGGREGATION) {
+        valueAggregation = VALUE_AGGREGATION == null ? ValueAggregation.LAST : VALUE_AGGREGATION;
+    }
+
+    /**
+     * Returns the duration of one display frame in milliseconds
+     * which is used to coalesce the offered values.
+     * @return the duration of one display frame in milliseconds
+     */
+    public int getValuePublishInterval() {
+        return VALUE_PUBLISH_TIMER.getInitialDelay();
+    }
+
+    /**
+     * Sets the duration of one display frame in milliseconds
+     * which is used to coalesce the offered values (default 16ms).
+     * @param INTERVAL
+     */
+    public void setValuePublishInterval(final int INTERVAL) {
+        VALUE_PUBLISH_TIMER.setInitialDelay(INTERVAL < 1 ? 1 : INTERVAL);
+    }
+
+    /**
+     * Sets the combined value of all values that were offered since the
+     * last frame. Will be called on the event dispatch thread.
+     */
+    private void publishOfferedValues() {
+        final ValueSamples SAMPLES = OFFERED_SAMPLES.getAndSet(null);
+        if (SAMPLES == null) {
+            return;
+        }
+        switch (valueAggregation) {
+            case MIN:
+                setValue(SAMPLES.MIN);
+                break;
+            case MAX:
+                setValue(SAMPLES.MAX);
+                break;
+            case MEAN:
+                setValue(SAMPLES.SUM / SAMPLES.COUNT);
+                break;
+            case LAST:
+            default:
+                setValue(SAMPLES.LAST);
+                break;
+        }
+        // Track the extremes of all offered values and not only the aggregated value
+        if (SAMPLES.MAX > getMaxMeasuredValue()) {
+            setMaxMeasuredValue(SAMPLES.MAX);
+        }
+        if (SAMPLES.MIN < getMinMeasuredValue()) {
+            setMinMeasuredValue(SAMPLES.MIN);
+        }
+    }
+
     /**
      * Returns the minimum value of the measurement
      * range of this gauge.
@@ -800,11 +1035,27 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
      * @param CURRENT_LED_IMAGE
      */
     protected void setCurrentLedImage(final BufferedImage CURRENT_LED_IMAGE) {
+        if (currentLedImage == CURRENT_LED_IMAGE) {
+            return;
+        }
         if (currentLedImage != null) {
             currentLedImage.flush();
         }
         currentLedImage = CURRENT_LED_IMAGE;
-        repaint(getInnerBounds());
+        if (currentLedImage != null) {
+            repaint(getLedRepaintBounds(currentLedImage, getLedPosition()));
+        }
+    }
+
+    /**
+     * Returns the region of the component that is covered by the given led
+     * image at the given relative position
+     * @param LED_IMAGE
+     * @param LED_POSITION
+     * @return the region of the component that is covered by the led
+     */
+    protected Rectangle getLedRepaintBounds(final BufferedImage LED_IMAGE, final Point2D LED_POSITION) {
+        return new Rectangle((int) (getInnerBounds().width * LED_POSITION.getX() + getInnerBounds().x), (int) (getInnerBounds().height * LED_POSITION.getY() + getInnerBounds().y), LED_IMAGE.getWidth(), LED_IMAGE.getHeight());
     }
 
     /**
@@ -976,11 +1227,16 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
      * @param CURRENT_USER_LED_IMAGE
      */
     protected void setCurrentUserLedImage(final BufferedImage CURRENT_USER_LED_IMAGE) {
+        if (currentUserLedImage == CURRENT_USER_LED_IMAGE) {
+            return;
+        }
         if (currentUserLedImage != null) {
             currentUserLedImage.flush();
         }
         currentUserLedImage = CURRENT_USER_LED_IMAGE;
-        repaint(getInnerBounds());
+        if (currentUserLedImage != null) {
+            repaint(getLedRepaintBounds(currentUserLedImage, getUserLedPosition()));
+        }
     }
 
     /**
@@ -1190,6 +1446,29 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         rtzTimeBackToZero = RTZ_TIME_BACK_TO_ZERO < 250 ? 250 : (RTZ_TIME_BACK_TO_ZERO > 5000 ? 5000 : RTZ_TIME_BACK_TO_ZERO);
     }
 
+    /**
+     * Animates the value of the gauge to the given value. In auto reset to zero
+     * mode the value will return to zero after the given value was reached and
+     * the peak value will be set. A running animation will be retargeted without
+     * a jump in the movement of the pointer/bar/led.
+     * @param VALUE
+     */
+    protected void animateValueTo(final double VALUE) {
+        if (isAutoResetToZero()) {
+            VALUE_ANIMATOR.animateTo(VALUE, getRtzTimeToValue(), RETURN_TO_ZERO_EASING, 0.0, getRtzTimeBackToZero());
+        } else {
+            VALUE_ANIMATOR.animateTo(VALUE, getStdTimeToValue(), STANDARD_EASING);
+        }
+    }
+
+    /**
+     * Returns true if the value of the gauge is currently animated
+     * @return true if the value of the gauge is currently animated
+     */
+    public boolean isValueAnimationRunning() {
+        return VALUE_ANIMATOR.isRunning();
+    }
+
     /**
      * Returns the timer that is used to timeout the peak value in
      * the bargraph gauges.
@@ -2684,12 +2963,71 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
      */
     abstract protected Rectangle2D getBounds2D();
 
+    /**
+     * Starts a batch of changes. The gauge will not be reinitialized until
+     * the matching call of endUpdate() and the model will coalesce all
+     * changes into one ModelEvent. Calls could be nested.
+     */
+    public void beginUpdate() {
+        if (updateDepth == 0) {
+            updateModel = getModel();
+            updateModel.beginUpdate();
+        }
+        updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes and reinitializes the gauge once if one of
+     * the changes has requested it.
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) {
+            throw new IllegalStateException("endUpdate() called without beginUpdate()");
+        }
+        updateDepth--;
+        if (updateDepth == 0) {
+            final Model MODEL = updateModel;
+            updateModel = null;
+            try {
+                if (batchInitPending) {
+                    batchInitPending = false;
+                    reInitializePending = false;
+                    requestInit(batchInitWidth, batchInitHeight);
+                    repaint(getInnerBounds());
+                } else if (reInitializePending) {
+                    reInitializePending = false;
+                    reInitialize();
+                }
+            } finally {
+                MODEL.endUpdate();
+            }
+        }
+    }
+
+    /**
+     * Runs the given changes as one batch that will reinitialize the gauge
+     * only once, e.g. gauge.batch(new Runnable() { public void run() { ... } });
+     * @param CHANGES
+     */
+    public void batch(final Runnable CHANGES) {
+        beginUpdate();
+        try {
+            CHANGES.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
     /**
      * Reinitialize and repaint the component
      */
     public void reInitialize() {
+        if (updateDepth > 0) {
+            reInitializePending = true;
+            return;
+        }
         if (isInitialized()) {
-            init(getInnerBounds().width, getInnerBounds().height);
+            requestInit(getInnerBounds().width, getInnerBounds().height);
             repaint(getInnerBounds());
         }
     }
@@ -2726,6 +3064,104 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         LED_BLINKING_TIMER.removeActionListener(this);
         USER_LED_BLINKING_TIMER.removeActionListener(this);
         PEAK_TIMER.removeActionListener(this);
+        VALUE_PUBLISH_TIMER.removeActionListener(this);
+        VALUE_ANIMATOR.abort();
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Repaint related">
+    /**
+     * Returns true if a change of the value will only repaint the region
+     * of the gauge that visualizes the value (e.g. pointer, bar) instead
+     * of the whole gauge.
+     * @return true if dirty region repainting is enabled
+     */
+    public boolean isDirtyRegionRepaintEnabled() {
+        return dirtyRegionRepaintEnabled;
+    }
+
+    /**
+     * Enables / disables the repainting of only the region of the gauge
+     * that visualizes the value when the value changes.
+     * @param DIRTY_REGION_REPAINT_ENABLED
+     */
+    public void setDirtyRegionRepaintEnabled(final boolean DIRTY_REGION_REPAINT_ENABLED) {
+        dirtyRegionRepaintEnabled = DIRTY_REGION_REPAINT_ENABLED;
+    }
+
+    /**
+     * Returns the region of the component that has to be repainted if the
+     * value changes from OLD_VALUE to NEW_VALUE. Gauges that know where the
+     * value is visualized should override this method, by default the whole
+     * gauge will be repainted.
+     * @param OLD_VALUE
+     * @param NEW_VALUE
+     * @return the region of the component that visualizes the given values
+     */
+    protected Rectangle getValueRepaintBounds(final double OLD_VALUE, final double NEW_VALUE) {
+        return getInnerBounds();
+    }
+
+    /**
+     * Repaints the region of the component that is affected by a change
+     * of the value from OLD_VALUE to NEW_VALUE.
+     * @param OLD_VALUE
+     * @param NEW_VALUE
+     */
+    protected void repaintValue(final double OLD_VALUE, final double NEW_VALUE) {
+        if (dirtyRegionRepaintEnabled) {
+            repaint(getValueRepaintBounds(OLD_VALUE, NEW_VALUE));
+        } else {
+            repaint(getInnerBounds());
+        }
+    }
+
+    /**
+     * Returns the number of pixels that were repainted since the last
+     * call of resetRepaintStatistics(). Each paint call counts the area
+     * of it's clip bounds.
+     * @return the number of repainted pixels
+     */
+    public long getRepaintedPixels() {
+        return repaintedPixels;
+    }
+
+    /**
+     * Returns the number of paint calls since the last call of
+     * resetRepaintStatistics().
+     * @return the number of paint calls
+     */
+    public long getPaintCount() {
+        return paintCount;
+    }
+
+    /**
+     * Resets the number of repainted pixels and paint calls
+     */
+    public void resetRepaintStatistics() {
+        repaintedPixels = 0;
+        paintCount = 0;
+    }
+
+    @Override
+    public void paint(final Graphics G) {
+        // Only called on the event dispatch thread, so there is only one writer
+        final Rectangle CLIP = G.getClipBounds();
+        if (CLIP == null) {
+            repaintedPixels += (long) getWidth() * getHeight();
+        } else {
+            final Rectangle VISIBLE_CLIP = CLIP.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+            if (!VISIBLE_CLIP.isEmpty()) {
+                repaintedPixels += (long) VISIBLE_CLIP.width * VISIBLE_CLIP.height;
+            }
+        }
+        paintCount++;
+        // Holds the init lock, so a gauge that will be initialized on a worker
+        // thread (e.g. by the GaugeInitializer) is never painted half created
+        synchronized (getInitLock()) {
+            initIfPending();
+            super.paint(G);
+        }
     }
     // </editor-fold>
 
@@ -2874,6 +3310,15 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
     }
     //</editor-fold>
 
+    // <editor-fold defaultstate="collapsed" desc="HierarchyListener methods">
+    @Override
+    public void hierarchyChanged(final HierarchyEvent EVENT) {
+        if ((EVENT.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing() && initIfPending()) {
+            repaint(getInnerBounds());
+        }
+    }
+    //</editor-fold>
+
     // <editor-fold defaultstate="collapsed" desc="ActionListener methods">
     @Override
     public void actionPerformed(final ActionEvent EVENT) {
@@ -2881,12 +3326,14 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
             currentLedImage.flush();
             currentLedImage = ledOn == true ? getLedImageOn() : getLedImageOff();
             ledOn ^= true;
-            repaint((int) (getInnerBounds().width * getLedPosition().getX() + getInnerBounds().x), (int) (getInnerBounds().height * getLedPosition().getY() + getInnerBounds().y), currentLedImage.getWidth(), currentLedImage.getHeight());
+            repaint(getLedRepaintBounds(currentLedImage, getLedPosition()));
         } else if (EVENT.getSource().equals(USER_LED_BLINKING_TIMER)) {
             currentUserLedImage.flush();
             currentUserLedImage = userLedOn == true ? getUserLedImageOn() : getUserLedImageOff();
             userLedOn ^= true;
-            repaint((int) (getInnerBounds().width * getUserLedPosition().getX() + getInnerBounds().x), (int) (getInnerBounds().height * getUserLedPosition().getY() + getInnerBounds().y), currentUserLedImage.getWidth(), currentUserLedImage.getHeight());
+            repaint(getLedRepaintBounds(currentUserLedImage, getUserLedPosition()));
+        } else if (EVENT.getSource().equals(VALUE_PUBLISH_TIMER)) {
+            publishOfferedValues();
         } else if (EVENT.getSource().equals(PEAK_TIMER)) {
             setPeakValueVisible(false);
             PEAK_TIMER.stop();
@@ -2905,4 +3352,89 @@ public abstract class AbstractGauge extends JComponent implements ComponentListe
         }
     }
     // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Inner classes">
+    /**
+     * Connects the value animator with the value of the gauge
+     */
+    private final class AnimatedValueTarget implements ValueAnimator.Target, Serializable {
+        private static final long serialVersionUID = 31273L;
+
+        @Override
+        public double getValue() {
+            return AbstractGauge.this.getValue();
+        }
+
+        @Override
+        public double getMinValue() {
+            return AbstractGauge.this.getMinValue();
+        }
+
+        @Override
+        public double getMaxValue() {
+            return AbstractGauge.this.getMaxValue();
+        }
+
+        @Override
+        public void setValue(final double VALUE) {
+            AbstractGauge.this.setValue(VALUE);
+
+            // Check if current value exceeds maxMeasuredValue
+            if (VALUE > getMaxMeasuredValue()) {
+                setMaxMeasuredValue(VALUE);
+            }
+
+            // Check if current value exceeds minMeasuredValue
+            if (VALUE < getMinMeasuredValue()) {
+                setMinMeasuredValue(VALUE);
+            }
+        }
+
+        @Override
+        public void onTargetReached(final double VALUE) {
+            // Set the peak value and start the timer
+            getModel().setPeakValue(VALUE);
+            getModel().setPeakValueVisible(true);
+            if (getPeakTimer().isRunning()) {
+                stopPeakTimer();
+            }
+            startPeakTimer();
+        }
+
+        @Override
+        public void onAnimationFinished() {
+            repaint(getInnerBounds());
+        }
+    }
+
+    /**
+     * Immutable summary of the values that were offered within one frame.
+     * A new instance will be created for each offered value so that it
+     * could be swapped atomically.
+     */
+    private static final class ValueSamples implements Serializable {
+        private static final long serialVersionUID = 31270L;
+        private final int COUNT;
+        private final double SUM;
+        private final double MIN;
+        private final double MAX;
+        private final double LAST;
+
+        ValueSamples(final double VALUE) {
+            this(1, VALUE, VALUE, VALUE, VALUE);
+        }
+
+        private ValueSamples(final int COUNT, final double SUM, final double MIN, final double MAX, final double LAST) {
+            this.COUNT = COUNT;
+            this.SUM = SUM;
+            this.MIN = MIN;
+            this.MAX = MAX;
+            this.LAST = LAST;
+        }
+
+        ValueSamples add(final double VALUE) {
+            return new ValueSamples(COUNT + 1, SUM + VALUE, VALUE < MIN ? VALUE : MIN, VALUE > MAX ? VALUE : MAX, VALUE);
+        }
+    }
+    // </editor-fold>
 }
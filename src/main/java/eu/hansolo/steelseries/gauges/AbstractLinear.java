@@ -30,15 +30,13 @@ package eu.hansolo.steelseries.gauges;
 import eu.hansolo.steelseries.tools.ColorDef;
 import eu.hansolo.steelseries.tools.CustomColorDef;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.LcdValueFormatter;
 import eu.hansolo.steelseries.tools.NumberSystem;
 import eu.hansolo.steelseries.tools.Orientation;
+import eu.hansolo.steelseries.tools.PulseTimer;
 import eu.hansolo.steelseries.tools.Util;
 import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.TimelineScenario;
-import org.pushingpixels.trident.callback.TimelineCallback;
-import org.pushingpixels.trident.ease.Sine;
 import org.pushingpixels.trident.ease.Spline;
-import org.pushingpixels.trident.ease.TimelineEase;
 
 import javax.swing.Timer;
 import javax.swing.border.Border;
@@ -91,11 +89,6 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     private Timeline lcdTimeline;
     private boolean lcdTextVisible;
     private Timer LCD_BLINKING_TIMER;
-    // Animation related variables
-    private Timeline timeline;
-    private final TimelineEase STANDARD_EASING;
-    private final TimelineEase RETURN_TO_ZERO_EASING;
-    private TimelineCallback timelineCallback;
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -111,137 +104,27 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
         lcdTimeline = new Timeline(this);
         lcdUnitString = getUnitString();
         lcdInfoString = "";
-        timeline = new Timeline(this);
-        STANDARD_EASING = new Spline(0.5f);
-        RETURN_TO_ZERO_EASING = new Sine();
         lcdTextVisible = true;
-        LCD_BLINKING_TIMER = new Timer(500, this);
+        LCD_BLINKING_TIMER = new PulseTimer(500, this);
         addComponentListener(this);
     }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Getters and Setters">
     /**
-     * Uses trident animation library to animate
-     * the setting of the value.
-     * The method plays a defined trident timeline
-     * that calls the setValue(double value) method
-     * with a given easing behaviour and duration.
+     * Animates the setting of the value.
+     * The value will be moved to the given value with
+     * an easing behaviour and duration on the shared
+     * animation pulse. If the value is already animated
+     * the running animation will be retargeted.
      * You should always use this method to set the
      * gauge to a given value.
      * @param VALUE
      */
     public void setValueAnimated(final double VALUE) {
         if (isEnabled()) {
-            if (timeline.getState() != Timeline.TimelineState.IDLE) {
-                timeline.abort();
-            }
-
             final double TARGET_VALUE = VALUE < getMinValue() ? getMinValue() : (VALUE > getMaxValue() ? getMaxValue() : VALUE);
-
-            if (!isAutoResetToZero()) {
-                timeline.removeCallback(timelineCallback);
-                timeline = new Timeline(this);
-                timeline.addPropertyToInterpolate("value", getValue(), TARGET_VALUE);
-                timeline.setEase(STANDARD_EASING);
-                //TIMELINE.setDuration((long) (getStdTimeToValue() * fraction));
-                timeline.setDuration(getStdTimeToValue());
-                timelineCallback = new TimelineCallback() {
-
-                    @Override
-                    public void onTimelineStateChanged(final Timeline.TimelineState OLD_STATE,
-                                                       final Timeline.TimelineState NEW_STATE,
-                                                       final float OLD_VALUE, final float NEW_VALUE) {
-                        if (NEW_STATE == Timeline.TimelineState.IDLE) {
-                            repaint(getInnerBounds());
-                        }
-
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-                    }
-
-                    @Override
-                    public void onTimelinePulse(final float OLD_VALUE, final float NEW_VALUE) {
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-
-                        // Check if current value exceeds minMeasuredValue
-                        if (getValue() < getMinMeasuredValue()) {
-                            setMinMeasuredValue(getValue());
-                        }
-                    }
-                };
-
-                timeline.addCallback(timelineCallback);
-                timeline.play();
-            } else {
-                final TimelineScenario AUTOZERO_SCENARIO = new TimelineScenario.Sequence();
-
-                final Timeline TIMELINE_TO_VALUE = new Timeline(this);
-                TIMELINE_TO_VALUE.addPropertyToInterpolate("value", getValue(), TARGET_VALUE);
-                TIMELINE_TO_VALUE.setEase(RETURN_TO_ZERO_EASING);
-                //TIMELINE_TO_VALUE.setDuration((long) (getRtzTimeToValue() * fraction));
-                TIMELINE_TO_VALUE.setDuration(getRtzTimeToValue());
-                TIMELINE_TO_VALUE.addCallback(new TimelineCallback() {
-
-                    @Override
-                    public void onTimelineStateChanged(Timeline.TimelineState oldState,
-                                                       Timeline.TimelineState newState,
-                                                       float oldValue, float newValue) {
-                        if (oldState == Timeline.TimelineState.PLAYING_FORWARD && newState == Timeline.TimelineState.DONE) {
-                            // Set the peak value and start the timer
-                            getModel().setPeakValue(getValue());
-                            getModel().setPeakValueVisible(true);
-                            if (getPeakTimer().isRunning()) {
-                                stopPeakTimer();
-                            }
-                            startPeakTimer();
-
-                            // Check if current value exceeds maxMeasuredValue
-                            if (getValue() > getMaxMeasuredValue()) {
-                                setMaxMeasuredValue(getValue());
-                            }
-                        }
-                    }
-
-                    @Override
-                    public void onTimelinePulse(float oldValue, float newValue) {
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-
-                        // Check if current value exceeds minMeasuredValue
-                        if (getValue() < getMinMeasuredValue()) {
-                            setMinMeasuredValue(getValue());
-                        }
-                    }
-                });
-
-                final Timeline TIMELINE_TO_ZERO = new Timeline(this);
-                TIMELINE_TO_ZERO.addPropertyToInterpolate("value", TARGET_VALUE, 0.0);
-                TIMELINE_TO_ZERO.setEase(RETURN_TO_ZERO_EASING);
-                //TIMELINE_TO_ZERO.setDuration((long) (getRtzTimeBackToZero() * fraction));
-                TIMELINE_TO_ZERO.setDuration(getRtzTimeBackToZero());
-
-                AUTOZERO_SCENARIO.addScenarioActor(TIMELINE_TO_VALUE);
-                AUTOZERO_SCENARIO.addScenarioActor(TIMELINE_TO_ZERO);
-
-//                AUTOZERO_SCENARIO.addCallback(new org.pushingpixels.trident.callback.TimelineScenarioCallback()
-//                {
-//                    @Override
-//                    public void onTimelineScenarioDone()
-//                    {
-//
-//                    }
-//                });
-
-                AUTOZERO_SCENARIO.play();
-            }
+            animateValueTo(TARGET_VALUE);
         }
     }
 
@@ -317,7 +200,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
 
     public void setMaxNoOfMinorTicks(final int MAX_NO_OF_MINOR_TICKS) {
         getModel().setMaxNoOfMinorTicks(MAX_NO_OF_MINOR_TICKS);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -327,7 +210,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
 
     public void setMaxNoOfMajorTicks(final int MAX_NO_OF_MAJOR_TICKS) {
         getModel().setMaxNoOfMajorTicks(MAX_NO_OF_MAJOR_TICKS);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -411,7 +294,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
      */
     public void setLcdVisible(final boolean LCD_VISIBLE) {
         getModel().setLcdVisible(LCD_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -521,7 +404,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setLcdUnitString(final String UNIT_STRING) {
         this.lcdUnitString = UNIT_STRING;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -533,7 +416,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setLcdUnitStringVisible(final boolean UNIT_STRING_VISIBLE) {
         getModel().setLcdUnitStringVisible(UNIT_STRING_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -545,7 +428,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setDigitalFont(final boolean DIGITAL_FONT) {
         getModel().setDigitalFontEnabled(DIGITAL_FONT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -568,7 +451,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setCustomLcdUnitFont(final Font CUSTOM_LCD_UNIT_FONT) {
         getModel().setCustomLcdUnitFont(CUSTOM_LCD_UNIT_FONT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -591,7 +474,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setLcdColor(final LcdColor COLOR) {
         getModel().setLcdColor(COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -603,7 +486,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setCustomLcdBackground(final Paint CUSTOM_LCD_BACKGROUND) {
         getModel().setCustomLcdBackground(CUSTOM_LCD_BACKGROUND);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -615,7 +498,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setLcdBackgroundVisible(final boolean LCD_BACKGROUND_VISIBLE) {
         getModel().setLcdBackgroundVisible(LCD_BACKGROUND_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -627,30 +510,13 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     @Override
     public void setCustomLcdForeground(final Color CUSTOM_LCD_FOREGROUND) {
         getModel().setCustomLcdForeground(CUSTOM_LCD_FOREGROUND);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
     @Override
     public String formatLcdValue(final double VALUE) {
-        final StringBuilder DEC_BUFFER = new StringBuilder(16);
-        DEC_BUFFER.append("0");
-
-        if (getModel().getLcdDecimals() > 0) {
-            DEC_BUFFER.append(".");
-        }
-
-        for (int i = 0; i < getModel().getLcdDecimals(); i++) {
-            DEC_BUFFER.append("0");
-        }
-
-        if (getModel().isLcdScientificFormatEnabled()) {
-            DEC_BUFFER.append("E0");
-        }
-        DEC_BUFFER.trimToSize();
-        final java.text.DecimalFormat DEC_FORMAT = new java.text.DecimalFormat(DEC_BUFFER.toString(), new java.text.DecimalFormatSymbols(java.util.Locale.US));
-
-        return DEC_FORMAT.format(VALUE);
+        return LcdValueFormatter.getInstance(getModel().getLcdDecimals(), getModel().isLcdScientificFormatEnabled()).format(VALUE);
     }
 
     @Override
@@ -759,7 +625,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     */
     public void setGlowVisible(final boolean GLOW_VISIBLE) {
         getModel().setGlowVisible(GLOW_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -777,7 +643,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     */
     public void setGlowColor(final Color GLOW_COLOR) {
         getModel().setGlowColor(GLOW_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -812,7 +678,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
      */
     public void setOuterFrameColor(final Paint OUTER_FRAME_COLOR) {
         FRAME_FACTORY.setOuterFrameColor(OUTER_FRAME_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -830,7 +696,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
      */
     public void setInnerFrameColor(final Paint INNER_FRAME_COLOR) {
         FRAME_FACTORY.setInnerFrameColor(INNER_FRAME_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -848,7 +714,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
      */
     public void setTransparentSectionsEnabled(final boolean TRANSPARENT_SECTIONS_ENABLED) {
         transparentSectionsEnabled = TRANSPARENT_SECTIONS_ENABLED;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -866,7 +732,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
      */
     public void setTransparentAreasEnabled(final boolean TRANSPARENT_AREAS_ENABLED) {
         transparentAreasEnabled = TRANSPARENT_AREAS_ENABLED;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
     // </editor-fold>
@@ -1407,7 +1273,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
         }
         super.setMinimumSize(new Dimension(width, height));
         calcInnerBounds(DIM.width, DIM.height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -1441,7 +1307,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
         }
         super.setMaximumSize(new Dimension(width, height));
         calcInnerBounds(DIM.width, DIM.height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -1451,7 +1317,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setPreferredSize(final Dimension DIM) {
         super.setPreferredSize(DIM);
         calcInnerBounds(DIM.width, DIM.height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -1461,7 +1327,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setSize(final int WIDTH, final int HEIGHT) {
         super.setSize(WIDTH, HEIGHT);
         calcInnerBounds(WIDTH, HEIGHT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
     }
 
@@ -1469,7 +1335,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setSize(final Dimension DIM) {
         super.setSize(DIM);
         calcInnerBounds(DIM.width, DIM.height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
     }
 
@@ -1477,7 +1343,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setBounds(final Rectangle BOUNDS) {
         super.setBounds(BOUNDS);
         calcInnerBounds(BOUNDS.width, BOUNDS.height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
     }
 
@@ -1485,7 +1351,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setBounds(final int X, final int Y, final int WIDTH, final int HEIGHT) {
         super.setBounds(X, Y, WIDTH, HEIGHT);
         calcInnerBounds(WIDTH, HEIGHT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         setInitialized(true);
     }
 
@@ -1493,7 +1359,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
     public void setBorder(Border BORDER) {
         super.setBorder(BORDER);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -1551,7 +1417,7 @@ public abstract class AbstractLinear extends AbstractGauge implements Lcd, Actio
             setUserLedPosition((getInnerBounds().width - 18.0 - 16.0) / getInnerBounds().width, 0.453271028);
         }
         getModel().setSize(getLocation().x, getLocation().y, getWidth(), getHeight());
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         revalidate();
         //repaint();
     }
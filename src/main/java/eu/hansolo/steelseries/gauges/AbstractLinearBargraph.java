@@ -67,7 +67,7 @@ public abstract class AbstractLinearBargraph extends AbstractLinear {
      */
     public void setBarGraphColor(final ColorDef BARGRAPH_COLOR) {
         getModel().setValueColor(BARGRAPH_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -85,7 +85,7 @@ public abstract class AbstractLinearBargraph extends AbstractLinear {
      */
     public void setCustomBarGraphColor(final Color COLOR) {
         getModel().setCustomValueColorObject(new CustomColorDef(COLOR));
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
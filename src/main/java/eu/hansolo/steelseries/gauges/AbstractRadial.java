@@ -38,10 +38,12 @@ import eu.hansolo.steelseries.tools.GaugeType;
 import eu.hansolo.steelseries.tools.KnobStyle;
 import eu.hansolo.steelseries.tools.KnobType;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.LcdValueFormatter;
 import eu.hansolo.steelseries.tools.NumberSystem;
 import eu.hansolo.steelseries.tools.Orientation;
 import eu.hansolo.steelseries.tools.PointerType;
 import eu.hansolo.steelseries.tools.PostPosition;
+import eu.hansolo.steelseries.tools.PulseTimer;
 import eu.hansolo.steelseries.tools.TicklabelOrientation;
 import eu.hansolo.steelseries.tools.Util;
 
@@ -78,11 +80,7 @@ import javax.swing.Timer;
 import javax.swing.border.Border;
 
 import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.TimelineScenario;
-import org.pushingpixels.trident.callback.TimelineCallback;
-import org.pushingpixels.trident.ease.Sine;
 import org.pushingpixels.trident.ease.Spline;
-import org.pushingpixels.trident.ease.TimelineEase;
 
 
 /**
@@ -114,11 +112,6 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     private Timeline lcdTimeline;
     private boolean lcdTextVisible;
     private Timer LCD_BLINKING_TIMER;
-    // Animation related variables
-    private Timeline timeline;
-    private final TimelineEase STANDARD_EASING;
-    private final TimelineEase RETURN_TO_ZERO_EASING;
-    private TimelineCallback timelineCallback;
     // Alignment related
     private int horizontalAlignment;
     private int verticalAlignment;
@@ -141,13 +134,10 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         transparentAreasEnabled = false;
         expandedSectionsEnabled = false;
         tickmarkDirection = Direction.CLOCKWISE;
-        timeline = new Timeline(this);
-        STANDARD_EASING = new Spline(0.5f);
-        RETURN_TO_ZERO_EASING = new Sine();
 		horizontalAlignment = SwingConstants.CENTER;
 		verticalAlignment = SwingConstants.CENTER;
         lcdTextVisible = true;
-        LCD_BLINKING_TIMER = new Timer(500, this);
+        LCD_BLINKING_TIMER = new PulseTimer(500, this);
         addComponentListener(this);
     }
     // </editor-fold>
@@ -182,7 +172,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     public void setCustomGaugeType(CustomGaugeType CUSTOM_GAUGE_TYPE)
     {
         getModel().setCustomGaugeType(CUSTOM_GAUGE_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -197,7 +187,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setGaugeType(final GaugeType GAUGE_TYPE) {
         getModel().setGaugeType(GAUGE_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -217,7 +207,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setFrameType(final FrameType FRAME_TYPE) {
         getModel().setFrameType(FRAME_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -237,129 +227,24 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setForegroundType(final ForegroundType FOREGROUND_TYPE) {
         getModel().setForegroundType(FOREGROUND_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
     /**
-     * Uses trident animation library to animate
-     * the setting of the value.
-     * The method plays a defined trident timeline
-     * that calls the setValue(double value) method
-     * with a given easing behaviour and duration.
+     * Animates the setting of the value.
+     * The value will be moved to the given value with
+     * an easing behaviour and duration on the shared
+     * animation pulse. If the value is already animated
+     * the running animation will be retargeted.
      * You should always use this method to set the
      * gauge to a given value.
      * @param VALUE
      */
     public void setValueAnimated(final double VALUE) {
         if (isEnabled()) {
-            if (timeline.getState() != Timeline.TimelineState.IDLE) {
-                timeline.abort();
-            }
-
             final double TARGET_VALUE = VALUE < getMinValue() ? getMinValue() : (VALUE > getMaxValue() ? getMaxValue() : VALUE);
-
-            if (!isAutoResetToZero()) {
-                timeline.removeCallback(timelineCallback);
-                timeline = new Timeline(this);
-                timeline.addPropertyToInterpolate("value", getValue(), TARGET_VALUE);
-                timeline.setEase(STANDARD_EASING);
-                //TIMELINE.setDuration((long) (getStdTimeToValue() * fraction));
-                timeline.setDuration(getStdTimeToValue());
-                timelineCallback = new TimelineCallback() {
-
-                    @Override
-                    public void onTimelineStateChanged(final Timeline.TimelineState OLD_STATE,
-                                                       final Timeline.TimelineState NEW_STATE,
-                                                       final float OLD_VALUE, final float NEW_VALUE) {
-                        if (NEW_STATE == Timeline.TimelineState.IDLE) {
-                            repaint(getInnerBounds());
-                        }
-
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-                    }
-
-                    @Override
-                    public void onTimelinePulse(final float OLD_VALUE, final float NEW_VALUE) {
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-
-                        // Check if current value exceeds minMeasuredValue
-                        if (getValue() < getMinMeasuredValue()) {
-                            setMinMeasuredValue(getValue());
-                        }
-                    }
-                };
-                timeline.addCallback(timelineCallback);
-                timeline.play();
-            } else {
-                final TimelineScenario AUTOZERO_SCENARIO = new TimelineScenario.Sequence();
-
-                final Timeline TIMELINE_TO_VALUE = new Timeline(this);
-                TIMELINE_TO_VALUE.addPropertyToInterpolate("value", getValue(), TARGET_VALUE);
-                TIMELINE_TO_VALUE.setEase(RETURN_TO_ZERO_EASING);
-                //TIMELINE_TO_VALUE.setDuration((long) (getRtzTimeToValue() * fraction));
-                TIMELINE_TO_VALUE.setDuration(getRtzTimeToValue());
-                TIMELINE_TO_VALUE.addCallback(new TimelineCallback() {
-
-                    @Override
-                    public void onTimelineStateChanged(Timeline.TimelineState oldState,
-                                                       Timeline.TimelineState newState,
-                                                       float oldValue, float newValue) {
-                        if (oldState == Timeline.TimelineState.PLAYING_FORWARD && newState == Timeline.TimelineState.DONE) {
-                            // Set the peak value and start the timer
-                            getModel().setPeakValue(getValue());
-                            getModel().setPeakValueVisible(true);
-                            if (getPeakTimer().isRunning()) {
-                                stopPeakTimer();
-                            }
-                            startPeakTimer();
-
-                            // Check if current value exceeds maxMeasuredValue
-                            if (getValue() > getMaxMeasuredValue()) {
-                                setMaxMeasuredValue(getValue());
-                            }
-                        }
-                    }
-
-                    @Override
-                    public void onTimelinePulse(float oldValue, float newValue) {
-                        // Check if current value exceeds maxMeasuredValue
-                        if (getValue() > getMaxMeasuredValue()) {
-                            setMaxMeasuredValue(getValue());
-                        }
-
-                        // Check if current value exceeds minMeasuredValue
-                        if (getValue() < getMinMeasuredValue()) {
-                            setMinMeasuredValue(getValue());
-                        }
-                    }
-                });
-
-                final Timeline TIMELINE_TO_ZERO = new Timeline(this);
-                TIMELINE_TO_ZERO.addPropertyToInterpolate("value", TARGET_VALUE, 0.0);
-                TIMELINE_TO_ZERO.setEase(RETURN_TO_ZERO_EASING);
-                //TIMELINE_TO_ZERO.setDuration((long) (getRtzTimeBackToZero() * fraction));
-                TIMELINE_TO_ZERO.setDuration(getRtzTimeBackToZero());
-
-                AUTOZERO_SCENARIO.addScenarioActor(TIMELINE_TO_VALUE);
-                AUTOZERO_SCENARIO.addScenarioActor(TIMELINE_TO_ZERO);
-
-//                AUTOZERO_SCENARIO.addCallback(new org.pushingpixels.trident.callback.TimelineScenarioCallback()
-//                {
-//                    @Override
-//                    public void onTimelineScenarioDone()
-//                    {
-//                    }
-//                });
-
-                AUTOZERO_SCENARIO.play();
-            }
+            animateValueTo(TARGET_VALUE);
         }
     }
 
@@ -401,7 +286,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
 
     public void setMaxNoOfMinorTicks(final int MAX_NO_OF_MINOR_TICKS) {
         getModel().setMaxNoOfMinorTicks(MAX_NO_OF_MINOR_TICKS);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -411,7 +296,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
 
     public void setMaxNoOfMajorTicks(final int MAX_NO_OF_MAJOR_TICKS) {
         getModel().setMaxNoOfMajorTicks(MAX_NO_OF_MAJOR_TICKS);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -491,7 +376,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setTickmarkDirection(final Direction DIRECTION) {
         this.tickmarkDirection = DIRECTION;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -514,7 +399,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setPointerType(final PointerType POINTER_TYPE) {
         getModel().setPointerType(POINTER_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -532,7 +417,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setPointerColor(final ColorDef POINTER_COLOR) {
         getModel().setPointerColor(POINTER_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -550,7 +435,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setPointerShadowVisible(final boolean POINTER_SHADOW_VISIBLE) {
         getModel().setPointerShadowVisible(POINTER_SHADOW_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -568,7 +453,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setCustomPointerColor(final Color COLOR) {
         getModel().setCustomPointerColorObject(new CustomColorDef(COLOR));
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -594,7 +479,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setKnobType(final KnobType KNOB_TYPE) {
         getModel().setKnobType(KNOB_TYPE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -612,7 +497,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setKnobStyle(final KnobStyle KNOB_STYLE) {
         getModel().setKnobStyle(KNOB_STYLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -630,7 +515,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setLcdVisible(final boolean LCD_VISIBLE) {
         getModel().setLcdVisible(LCD_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -656,7 +541,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setRangeOfMeasuredValuesVisible(final boolean RANGE_OF_MEASURED_VALUES_VISIBLE) {
         getModel().setRangeOfMeasuredValuesVisible(RANGE_OF_MEASURED_VALUES_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -768,7 +653,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setLcdUnitString(final String UNIT_STRING) {
         this.lcdUnitString = UNIT_STRING;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -780,7 +665,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setLcdUnitStringVisible(final boolean UNIT_STRING_VISIBLE) {
         getModel().setLcdUnitStringVisible(UNIT_STRING_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -792,7 +677,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setDigitalFont(final boolean DIGITAL_FONT) {
         getModel().setDigitalFontEnabled(DIGITAL_FONT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -815,7 +700,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setCustomLcdUnitFont(final Font CUSTOM_LCD_UNIT_FONT) {
         getModel().setCustomLcdUnitFont(CUSTOM_LCD_UNIT_FONT);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -838,7 +723,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setLcdColor(final LcdColor LCD_COLOR) {
         getModel().setLcdColor(LCD_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -850,7 +735,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setCustomLcdBackground(final Paint CUSTOM_LCD_BACKGROUND) {
         getModel().setCustomLcdBackground(CUSTOM_LCD_BACKGROUND);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -867,7 +752,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setLcdBackgroundVisible(final boolean LCD_BACKGROUND_VISIBLE) {
         getModel().setLcdBackgroundVisible(LCD_BACKGROUND_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -879,31 +764,13 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     @Override
     public void setCustomLcdForeground(final Color CUSTOM_LCD_FOREGROUND) {
         getModel().setCustomLcdForeground(CUSTOM_LCD_FOREGROUND);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
     @Override
     public String formatLcdValue(final double VALUE) {
-        final StringBuilder DEC_BUFFER = new StringBuilder(16);
-        DEC_BUFFER.append("0");
-
-        if (getModel().getLcdDecimals() > 0) {
-            DEC_BUFFER.append(".");
-        }
-
-        for (int i = 0; i < getModel().getLcdDecimals(); i++) {
-            DEC_BUFFER.append("0");
-        }
-
-        if (getModel().isLcdScientificFormatEnabled()) {
-            DEC_BUFFER.append("E0");
-        }
-
-        DEC_BUFFER.trimToSize();
-        final java.text.DecimalFormat DEC_FORMAT = new java.text.DecimalFormat(DEC_BUFFER.toString(), new java.text.DecimalFormatSymbols(java.util.Locale.US));
-
-        return DEC_FORMAT.format(VALUE);
+        return LcdValueFormatter.getInstance(getModel().getLcdDecimals(), getModel().isLcdScientificFormatEnabled()).format(VALUE);
     }
 
     @Override
@@ -1012,7 +879,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     */
     public void setGlowVisible(final boolean GLOW_VISIBLE) {
         getModel().setGlowVisible(GLOW_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1030,7 +897,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     */
     public void setGlowColor(final Color GLOW_COLOR) {
         getModel().setGlowColor(GLOW_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1065,7 +932,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setOuterFrameColor(final Paint OUTER_FRAME_COLOR) {
         FRAME_FACTORY.setOuterFrameColor(OUTER_FRAME_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1083,7 +950,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setInnerFrameColor(final Paint INNER_FRAME_COLOR) {
         FRAME_FACTORY.setInnerFrameColor(INNER_FRAME_COLOR);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1101,7 +968,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setPostsVisible(final boolean POSTS_VISIBLE) {
         getModel().setPostsVisible(POSTS_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1119,7 +986,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setTicklabelOrientation(final TicklabelOrientation TICKLABEL_ORIENTATION) {
         getModel().setTicklabelOrienatation(TICKLABEL_ORIENTATION);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1137,7 +1004,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setTransparentSectionsEnabled(final boolean TRANSPARENT_SECTIONS_ENABLED) {
         transparentSectionsEnabled = TRANSPARENT_SECTIONS_ENABLED;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1155,7 +1022,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setTransparentAreasEnabled(final boolean TRANSPARENT_AREAS_ENABLED) {
         transparentAreasEnabled = TRANSPARENT_AREAS_ENABLED;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1173,7 +1040,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
      */
     public void setExpandedSectionsEnabled(final boolean EXPANDED_SECTIONS_ENABLED) {
         expandedSectionsEnabled = EXPANDED_SECTIONS_ENABLED;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
     // </editor-fold>
@@ -3140,6 +3007,26 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         FRAMELESS_OFFSET.setLocation(X, Y);
     }
 
+    /**
+     * Returns the region of the component that is covered by the given led
+     * image at the given relative position. Some radial gauges scale the
+     * vertical position of the leds with the width of the gauge, so the region
+     * covers both possible positions.
+     * @param LED_IMAGE
+     * @param LED_POSITION
+     * @return the region of the component that is covered by the led
+     */
+    @Override
+    protected Rectangle getLedRepaintBounds(final BufferedImage LED_IMAGE, final Point2D LED_POSITION) {
+        final int X = (int) (getFramelessOffset().getX()) + (int) (getGaugeBounds().width * LED_POSITION.getX());
+        final int Y_BY_WIDTH = (int) (getFramelessOffset().getY()) + (int) (getGaugeBounds().width * LED_POSITION.getY());
+        final int Y_BY_HEIGHT = (int) (getFramelessOffset().getY()) + (int) (getGaugeBounds().height * LED_POSITION.getY());
+        final Rectangle BOUNDS = new Rectangle(X, Math.min(Y_BY_WIDTH, Y_BY_HEIGHT), LED_IMAGE.getWidth(), LED_IMAGE.getHeight() + Math.abs(Y_BY_WIDTH - Y_BY_HEIGHT));
+        // Take the fractional frameless offset into account
+        BOUNDS.grow(1, 1);
+        return BOUNDS;
+    }
+
     @Override
     public Dimension getMinimumSize() {
         Dimension dim = super.getMinimumSize();
@@ -3156,7 +3043,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         final int SIZE = width <= height ? width : height;
         super.setMinimumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -3178,7 +3065,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         final int SIZE = width <= height ? width : height;
         super.setMaximumSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -3189,7 +3076,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setPreferredSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
         invalidate();
         repaint();
@@ -3200,7 +3087,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         final int SIZE = WIDTH <= HEIGHT ? WIDTH : HEIGHT;
         super.setSize(SIZE, SIZE);
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -3209,7 +3096,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         final int SIZE = DIM.width <= DIM.height ? DIM.width : DIM.height;
         super.setSize(new Dimension(SIZE, SIZE));
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -3249,7 +3136,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
             super.setBounds(xNew, BOUNDS.y, BOUNDS.height, BOUNDS.height);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -3289,7 +3176,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
             super.setBounds(xNew, Y, HEIGHT, HEIGHT);
         }
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
         setInitialized(true);
     }
 
@@ -3297,7 +3184,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
     public void setBorder(Border BORDER) {
         super.setBorder(BORDER);
         calcInnerBounds();
-        init(getGaugeBounds().width, getGaugeBounds().height);
+        requestInit(getGaugeBounds().width, getGaugeBounds().height);
     }
 
     /**
@@ -3371,7 +3258,7 @@ public abstract class AbstractRadial extends AbstractGauge implements Lcd {
         }
 
         getModel().setSize(getLocation().x, getLocation().y, SIZE, SIZE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         //revalidate();
         //repaint();
     }
@@ -80,7 +80,7 @@ public abstract class AbstractRadialBargraph extends AbstractRadial {
      */
     public void setBarGraphColor(final ColorDef BARGRAPH_COLOR) {
         getModel().setValueColor(BARGRAPH_COLOR);
-        init(getInnerBounds().width, getInnerBounds().width);
+        requestInit(getInnerBounds().width, getInnerBounds().width);
         repaint(getInnerBounds());
     }
 
@@ -98,7 +98,7 @@ public abstract class AbstractRadialBargraph extends AbstractRadial {
      */
     public void setCustomBarGraphColor(final Color COLOR) {
         getModel().setCustomValueColorObject(new CustomColorDef(COLOR));
-        init(getInnerBounds().width, getInnerBounds().width);
+        requestInit(getInnerBounds().width, getInnerBounds().width);
         repaint(getInnerBounds());
     }
 
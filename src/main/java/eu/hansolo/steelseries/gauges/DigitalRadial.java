@@ -27,6 +27,8 @@
  */
 package eu.hansolo.steelseries.gauges;
 
+import eu.hansolo.steelseries.tools.ImageCache;
+import eu.hansolo.steelseries.tools.ImageCacheKey;
 import eu.hansolo.steelseries.tools.LcdColor;
 import eu.hansolo.steelseries.tools.LedColor;
 import eu.hansolo.steelseries.tools.NumberSystem;
@@ -51,6 +53,7 @@ import java.awt.Transparency;
 
 public class DigitalRadial extends AbstractRadial {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
+    private static final ImageCache CACHE = ImageCache.INSTANCE;
     private int noOfActiveLeds = 0;
     // One image to reduce memory consumption
     private BufferedImage bImage;
@@ -228,31 +231,8 @@ public class DigitalRadial extends AbstractRadial {
         // Draw combined background image
         G2.drawImage(bImage, 0, 0, null);
 
-        for (int i = 0; i < 13; i++) {
-            if (i < 7) {
-                if (i < noOfActiveLeds) {
-                    G2.drawImage(ledGreenOn, ledPosition[i].x, ledPosition[i].y, null);
-                } else {
-                    G2.drawImage(ledGreenOff, ledPosition[i].x, ledPosition[i].y, null);
-                }
-            }
-
-            if (i >= 7 && i < 12) {
-                if (i < noOfActiveLeds) {
-                    G2.drawImage(ledYellowOn, ledPosition[i].x, ledPosition[i].y, null);
-                } else {
-                    G2.drawImage(ledYellowOff, ledPosition[i].x, ledPosition[i].y, null);
-                }
-            }
-
-            if (i == 12) {
-                if (i < noOfActiveLeds) {
-                    G2.drawImage(ledRedOn, ledPosition[i].x, ledPosition[i].y, null);
-                } else {
-                    G2.drawImage(ledRedOff, ledPosition[i].x, ledPosition[i].y, null);
-                }
-            }
-        }
+        // Draw the pre-composited leds for the current number of active leds
+        G2.drawImage(create_LEDS_Image(bImage.getWidth(), Math.max(0, Math.min(13, noOfActiveLeds))), 0, 0, null);
 
         // Draw LCD display
         if (isLcdVisible()) {
@@ -404,6 +384,39 @@ public class DigitalRadial extends AbstractRadial {
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Image related">
+    /**
+     * Returns the cached image of all 13 leds for the given number of active leds,
+     * so that painting the current value needs only one drawImage call.
+     * @param WIDTH
+     * @param ACTIVE_LEDS
+     * @return the cached image of all leds with the given number of active leds
+     */
+    private BufferedImage create_LEDS_Image(final int WIDTH, final int ACTIVE_LEDS) {
+        final ImageCacheKey KEY = new ImageCacheKey("DigitalRadial.leds", WIDTH, ACTIVE_LEDS);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        // The lowest leds are the first and the last one
+        final BufferedImage IMAGE = UTIL.createImage(WIDTH, ledPosition[0].y + ledGreenOn.getHeight(), Transparency.TRANSLUCENT);
+        final Graphics2D G2 = IMAGE.createGraphics();
+        for (int i = 0; i < 13; i++) {
+            final BufferedImage LED_IMAGE;
+            if (i < 7) {
+                LED_IMAGE = i < ACTIVE_LEDS ? ledGreenOn : ledGreenOff;
+            } else if (i < 12) {
+                LED_IMAGE = i < ACTIVE_LEDS ? ledYellowOn : ledYellowOff;
+            } else {
+                LED_IMAGE = i < ACTIVE_LEDS ? ledRedOn : ledRedOff;
+            }
+            G2.drawImage(LED_IMAGE, ledPosition[i].x, ledPosition[i].y, null);
+        }
+        G2.dispose();
+
+        return CACHE.put(KEY, IMAGE);
+    }
+
     private BufferedImage create_LED_OFF_Image(final int WIDTH, final LedColor LED_COLOR) {
         final BufferedImage IMAGE = UTIL.createImage((int) (WIDTH * 0.1775700935), (int) (WIDTH * 0.1775700935), Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
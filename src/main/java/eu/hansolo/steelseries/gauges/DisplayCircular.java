@@ -79,7 +79,7 @@ public final class DisplayCircular extends AbstractRadial {
         setLcdVisible(true);
         setUserLedPosition(0.453271028, 0.75);
         oldValue = 0;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -305,7 +305,7 @@ public final class DisplayCircular extends AbstractRadial {
 
     public void setDisplayMulti(final boolean DISPLAY_MULTI) {
         displayMulti = DISPLAY_MULTI;
-        init(getWidth(), getWidth());
+        requestInit(getWidth(), getWidth());
         repaint(getInnerBounds());
     }
 
@@ -29,13 +29,16 @@ package eu.hansolo.steelseries.gauges;
 
 import eu.hansolo.steelseries.tools.GlowImageFactory;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.LcdValueFormatter;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
 import eu.hansolo.steelseries.tools.NumberSystem;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Util;
 import org.pushingpixels.trident.Timeline;
 import org.pushingpixels.trident.ease.Linear;
 import org.pushingpixels.trident.ease.TimelineEase;
 
-import javax.swing.JComponent;
 import javax.swing.Timer;
 import javax.swing.border.Border;
 import java.awt.Color;
@@ -67,7 +70,7 @@ import java.awt.image.BufferedImage;
  *
  * @author hansolo
  */
-public final class DisplayMulti extends JComponent implements Lcd, ActionListener {
+public final class DisplayMulti extends MeasuredComponent implements Lcd, ActionListener {
     // <editor-fold defaultstate="collapsed" desc="Variable declaration">
 
     private final Util UTIL = Util.INSTANCE;
@@ -157,7 +160,7 @@ public final class DisplayMulti extends JComponent implements Lcd, ActionListene
         lcdBackgroundVisible = true;
         lcdTextVisible = true;
         lcdBlinking = false;
-        LCD_BLINKING_TIMER = new Timer(500, this);
+        LCD_BLINKING_TIMER = new PulseTimer(500, this);
         lcdDecimals = 1;
         lcdUnitString = "unit";
         lcdUnitStringVisible = true;
@@ -186,42 +189,49 @@ public final class DisplayMulti extends JComponent implements Lcd, ActionListene
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
+        // Holds the init lock, so the component is never painted half created
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                if (lcdImage != null) {
+                    lcdImage.flush();
+                }
+                lcdImage = create_LCD_Image(WIDTH, HEIGHT);
 
-        if (lcdImage != null) {
-            lcdImage.flush();
-        }
-        lcdImage = create_LCD_Image(WIDTH, HEIGHT);
+                if (glowImageOn != null) {
+                    glowImageOn.flush();
+                }
+                glowImageOn = GlowImageFactory.INSTANCE.createLcdGlow(WIDTH, HEIGHT, glowColor, true);
+
+                final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
+                disabledShape = new RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+                if (isDigitalFont()) {
+                    lcdValueFont = LCD_DIGITAL_FONT.deriveFont(0.5f * getInnerBounds().height);
+                    lcdFormerValueFont = LCD_DIGITAL_FONT.deriveFont(0.2f * getInnerBounds().height);
+                    if (useCustomLcdUnitFont) {
+                        lcdUnitFont = customLcdUnitFont.deriveFont(0.1875f * getInnerBounds().height);
+                    } else {
+                        lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
+                    }
+                } else {
+                    lcdValueFont = LCD_STANDARD_FONT.deriveFont(0.46875f * getInnerBounds().height);
+                    lcdFormerValueFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
+                    if (useCustomLcdUnitFont) {
+                        lcdUnitFont = customLcdUnitFont.deriveFont(0.1875f * getInnerBounds().height);
+                    } else {
+                        lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
+                    }
+                }
+                lcdInfoFont = LCD_STANDARD_FONT.deriveFont(0.15f * getInnerBounds().height);
 
-        if (glowImageOn != null) {
-            glowImageOn.flush();
-        }
-        glowImageOn = GlowImageFactory.INSTANCE.createLcdGlow(WIDTH, HEIGHT, glowColor, true);
-
-        final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
-        disabledShape = new RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
-        if (isDigitalFont()) {
-            lcdValueFont = LCD_DIGITAL_FONT.deriveFont(0.5f * getInnerBounds().height);
-            lcdFormerValueFont = LCD_DIGITAL_FONT.deriveFont(0.2f * getInnerBounds().height);
-            if (useCustomLcdUnitFont) {
-                lcdUnitFont = customLcdUnitFont.deriveFont(0.1875f * getInnerBounds().height);
-            } else {
-                lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
-            }
-        } else {
-            lcdValueFont = LCD_STANDARD_FONT.deriveFont(0.46875f * getInnerBounds().height);
-            lcdFormerValueFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
-            if (useCustomLcdUnitFont) {
-                lcdUnitFont = customLcdUnitFont.deriveFont(0.1875f * getInnerBounds().height);
-            } else {
-                lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.1875f * getInnerBounds().height);
+                if (lcdThresholdImage != null) {
+                    lcdThresholdImage.flush();
+                }
+                lcdThresholdImage = create_LCD_THRESHOLD_Image((int) (HEIGHT * 0.2045454545), (int) (HEIGHT * 0.2045454545), lcdColor.TEXT_COLOR);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
             }
         }
-        lcdInfoFont = LCD_STANDARD_FONT.deriveFont(0.15f * getInnerBounds().height);
-
-        if (lcdThresholdImage != null) {
-            lcdThresholdImage.flush();
-        }
-        lcdThresholdImage = create_LCD_THRESHOLD_Image((int) (HEIGHT * 0.2045454545), (int) (HEIGHT * 0.2045454545), lcdColor.TEXT_COLOR);
     }
     // </editor-fold>
 
@@ -604,25 +614,7 @@ public final class DisplayMulti extends JComponent implements Lcd, ActionListene
 
     @Override
     public String formatLcdValue(final double VALUE) {
-        final StringBuilder DEC_BUFFER = new StringBuilder(16);
-        DEC_BUFFER.append("0");
-
-        if (this.lcdDecimals > 0) {
-            DEC_BUFFER.append(".");
-        }
-
-        for (int i = 0; i < this.lcdDecimals; i++) {
-            DEC_BUFFER.append("0");
-        }
-
-        if (lcdScientificFormat) {
-            DEC_BUFFER.append("E0");
-        }
-        DEC_BUFFER.trimToSize();
-
-        final java.text.DecimalFormat DEC_FORMAT = new java.text.DecimalFormat(DEC_BUFFER.toString(), new java.text.DecimalFormatSymbols(java.util.Locale.US));
-
-        return DEC_FORMAT.format(VALUE);
+        return LcdValueFormatter.getInstance(lcdDecimals, lcdScientificFormat).format(VALUE);
     }
 
     @Override
@@ -66,7 +66,7 @@ public final class DisplayRectangular extends AbstractLinear {
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public DisplayRectangular() {
         super();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -282,6 +282,10 @@ public final class DisplayRectangular extends AbstractLinear {
         if (isFrameVisible()) {
             offset = 17;
         }
+        if (lcdImage == null) {
+            // images not yet created (deferred initialization)
+            return new Rectangle(offset, offset, getInnerBounds().width - 2 * offset, getInnerBounds().height - 2 * offset);
+        }
         return new Rectangle(offset, offset, lcdImage.getWidth(), lcdImage.getHeight());
     }
     // </editor-fold>
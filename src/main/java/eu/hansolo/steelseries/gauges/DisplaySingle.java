@@ -30,8 +30,14 @@ package eu.hansolo.steelseries.gauges;
 import eu.hansolo.steelseries.tools.GlowImageFactory;
 import eu.hansolo.steelseries.tools.GradientWrapper;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.LcdGlyphCache;
+import eu.hansolo.steelseries.tools.LcdValueFormatter;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
 import eu.hansolo.steelseries.tools.NumberSystem;
+import eu.hansolo.steelseries.tools.PulseTimer;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.Section;
+import eu.hansolo.steelseries.tools.SectionIndex;
 import eu.hansolo.steelseries.tools.Util;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -51,8 +57,9 @@ import java.awt.event.ActionListener;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
@@ -61,7 +68,6 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
-import javax.swing.JComponent;
 import javax.swing.Timer;
 import javax.swing.border.Border;
 import org.pushingpixels.trident.Timeline;
@@ -72,7 +78,7 @@ import org.pushingpixels.trident.ease.TimelineEase;
  *
  * @author hansolo
  */
-public final class DisplaySingle extends JComponent implements Lcd, ActionListener
+public final class DisplaySingle extends MeasuredComponent implements Lcd, ActionListener
 {
     // <editor-fold defaultstate="collapsed" desc="Variable declaration">
 
@@ -115,15 +121,15 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     private Timeline timeline;
     private final transient TimelineEase EASING;
     private final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
-    private TextLayout unitLayout;
+    private final LcdGlyphCache GLYPH_CACHE = LcdGlyphCache.INSTANCE;
+    private final char[] LCD_TEXT = new char[LcdValueFormatter.MAX_LENGTH];
     private final Rectangle2D UNIT_BOUNDARY = new Rectangle2D.Double();
-    private TextLayout valueLayout;
     private final Rectangle2D VALUE_BOUNDARY = new Rectangle2D.Double();
     private Font lcdInfoFont;
-    private TextLayout infoLayout;
     private final Rectangle2D INFO_BOUNDARY = new Rectangle2D.Double();
     private boolean sectionsVisible;
     private ArrayList<Section> sections;
+    private SectionIndex sectionIndex;
     private ArrayList<BufferedImage> sectionsBackground;
     private ArrayList<Color> sectionsForeground;
     private boolean qualityOverlayVisible;
@@ -150,6 +156,19 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     private float lcdTextX;
     private Timer TEXT_SCROLLER;
     private long animationDuration;
+    private boolean lazyInitEnabled;
+    private transient boolean initPending;
+    private transient int pendingWidth;
+    private transient int pendingHeight;
+    private final transient HierarchyListener HIERARCHY_LISTENER = new HierarchyListener() {
+
+        @Override
+        public void hierarchyChanged(final HierarchyEvent EVENT) {
+            if ((EVENT.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing() && initIfPending()) {
+                repaint(getInnerBounds());
+            }
+        }
+    };
     private final transient ComponentListener COMPONENT_LISTENER = new ComponentAdapter() {
 
         @Override
@@ -171,7 +190,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
             }
 
             calcInnerBounds();
-            init(getInnerBounds().width, getInnerBounds().height);
+            requestInit(getInnerBounds().width, getInnerBounds().height);
             //revalidate();
             //repaint();
         }
@@ -191,7 +210,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         lcdBackgroundVisible = true;
         lcdTextVisible = true;
         lcdBlinking = false;
-        LCD_BLINKING_TIMER = new Timer(500, this);
+        LCD_BLINKING_TIMER = new PulseTimer(500, this);
         lcdDecimals = 1;
         lcdUnitString = "unit";
         lcdUnitStringVisible = true;
@@ -233,9 +252,11 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         lcdText = "";
         lcdTextX = 0f;
         animationDuration = 2000;
-        TEXT_SCROLLER = new Timer(60, this);
-        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
+        TEXT_SCROLLER = new PulseTimer(60, this);
+        lazyInitEnabled = true;
+        requestInit(INNER_BOUNDS.width, INNER_BOUNDS.height);
         addComponentListener(COMPONENT_LISTENER);
+        addHierarchyListener(HIERARCHY_LISTENER);
     }
     // </editor-fold>
 
@@ -244,149 +265,233 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                if (bgImage != null) {
+                    bgImage.flush();
+                }
 
-        if (bgImage != null) {
-            bgImage.flush();
-        }
-
-        if (lcdImage != null) {
-            lcdImage.flush();
-        }
-
-        if (glowImageOn != null) {
-            glowImageOn.flush();
-        }
-        glowImageOn = GlowImageFactory.INSTANCE.createLcdGlow(WIDTH, HEIGHT, glowColor, true);
-
-        lcdImage = create_LCD_Image(WIDTH, HEIGHT, null);
-        final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
-        disabledShape = new RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
-        if (isDigitalFont()) {
-            lcdValueFont = LCD_DIGITAL_FONT.deriveFont(0.7f * getInnerBounds().height).deriveFont(Font.PLAIN);
-            if (useCustomLcdUnitFont) {
-                lcdUnitFont = customLcdUnitFont.deriveFont(0.2f * getInnerBounds().height);
-            } else {
-                lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.2f * getInnerBounds().height);
-            }
-        } else {
-            lcdValueFont = LCD_STANDARD_FONT.deriveFont(0.625f * getInnerBounds().height);
-            if (useCustomLcdUnitFont) {
-                lcdUnitFont = customLcdUnitFont.deriveFont(0.2f * getInnerBounds().height);
-            } else {
-                lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.2f * getInnerBounds().height);
-            }
-        }
-        lcdInfoFont = LCD_STANDARD_FONT.deriveFont(Font.BOLD, 0.18f * getInnerBounds().height);
+                if (lcdImage != null) {
+                    lcdImage.flush();
+                }
 
-        if (lcdThresholdImage != null) {
-            lcdThresholdImage.flush();
-        }
-        lcdThresholdImage = create_LCD_THRESHOLD_Image((int) (HEIGHT * 0.2045454545), (int) (HEIGHT * 0.2045454545), lcdColor.TEXT_COLOR);
-
-        if (!sections.isEmpty()) {
-            sectionsBackground.clear();
-            sectionsForeground.clear();
-
-            final float[] HSB_START = (Color.RGBtoHSB(lcdColor.GRADIENT_START_COLOR.getRed(), lcdColor.GRADIENT_START_COLOR.getGreen(), lcdColor.GRADIENT_START_COLOR.getBlue(), null));
-            final float[] HSB_FRACTION1 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION1_COLOR.getRed(), lcdColor.GRADIENT_FRACTION1_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION1_COLOR.getBlue(), null));
-            final float[] HSB_FRACTION2 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION2_COLOR.getRed(), lcdColor.GRADIENT_FRACTION2_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION2_COLOR.getBlue(), null));
-            final float[] HSB_FRACTION3 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION3_COLOR.getRed(), lcdColor.GRADIENT_FRACTION3_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION3_COLOR.getBlue(), null));
-            final float[] HSB_STOP = (Color.RGBtoHSB(lcdColor.GRADIENT_STOP_COLOR.getRed(), lcdColor.GRADIENT_STOP_COLOR.getGreen(), lcdColor.GRADIENT_STOP_COLOR.getBlue(), null));
-
-            // Hue values of the gradient colors
-            final float HUE_START = HSB_START[0];
-            final float HUE_FRACTION1 = HSB_FRACTION1[0];
-            final float HUE_FRACTION2 = HSB_FRACTION2[0];
-            final float HUE_FRACTION3 = HSB_FRACTION3[0];
-            final float HUE_STOP = HSB_STOP[0];
-
-            // Brightness values of the gradient colors
-            final float BRIGHTNESS_START = HSB_START[2];
-            final float BRIGHTNESS_FRACTION1 = HSB_FRACTION1[2];
-            final float BRIGHTNESS_FRACTION2 = HSB_FRACTION2[2];
-            final float BRIGHTNESS_FRACTION3 = HSB_FRACTION3[2];
-            final float BRIGHTNESS_STOP = HSB_STOP[2];
-
-            for (Section section : sections) {
-                final Color[] BACKGROUND_COLORS;
-                final Color FOREGROUND_COLOR;
-                final float[] HSB_SECTION = Color.RGBtoHSB(section.getColor().getRed(), section.getColor().getGreen(), section.getColor().getBlue(), null);
-                final float HUE_SECTION = HSB_SECTION[0];
-                final float SATURATION_SECTION = HSB_SECTION[1];
-                final float BRIGHTNESS_SECTION = HSB_SECTION[2];
-                if (!UTIL.isMonochrome(section.getColor())) {
-                    // Section color is not monochrome
-                    if (lcdColor == LcdColor.SECTIONS_LCD) {
-                        BACKGROUND_COLORS = new Color[]{
-                            new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_START - 0.31f)),
-                            new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION1 - 0.31f)),
-                            new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION2 - 0.31f)),
-                            new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION3 - 0.31f)),
-                            new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_STOP - 0.31f))
-                        };
+                if (glowImageOn != null) {
+                    glowImageOn.flush();
+                }
+                glowImageOn = GlowImageFactory.INSTANCE.createLcdGlow(WIDTH, HEIGHT, glowColor, true);
+
+                lcdImage = create_LCD_Image(WIDTH, HEIGHT, null);
+                final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
+                disabledShape = new RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+                if (isDigitalFont()) {
+                    lcdValueFont = LCD_DIGITAL_FONT.deriveFont(0.7f * getInnerBounds().height).deriveFont(Font.PLAIN);
+                    if (useCustomLcdUnitFont) {
+                        lcdUnitFont = customLcdUnitFont.deriveFont(0.2f * getInnerBounds().height);
                     } else {
-                        final float HUE_DIFF = HUE_SECTION - HUE_FRACTION3;
-                        BACKGROUND_COLORS = new Color[]{
-                            UTIL.setHue(lcdColor.GRADIENT_START_COLOR, (HUE_START + HUE_DIFF) % 360),
-                            UTIL.setHue(lcdColor.GRADIENT_FRACTION1_COLOR, (HUE_FRACTION1 + HUE_DIFF) % 360),
-                            UTIL.setHue(lcdColor.GRADIENT_FRACTION2_COLOR, (HUE_FRACTION2 + HUE_DIFF) % 360),
-                            UTIL.setHue(lcdColor.GRADIENT_FRACTION3_COLOR, (HUE_FRACTION3 + HUE_DIFF) % 360),
-                            UTIL.setHue(lcdColor.GRADIENT_STOP_COLOR, (HUE_STOP + HUE_DIFF) % 360)
-                        };
+                        lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.2f * getInnerBounds().height);
                     }
-                    FOREGROUND_COLOR = UTIL.setSaturationBrightness(section.getColor(), 0.57f, 0.83f);
                 } else {
-                    // Section color is monochrome
-                    final float BRIGHTNESS_DIFF = BRIGHTNESS_SECTION - BRIGHTNESS_FRACTION1;
-
-                    BACKGROUND_COLORS = new Color[]{
-                        UTIL.setSaturationBrightness(lcdColor.GRADIENT_START_COLOR, 0, BRIGHTNESS_START + BRIGHTNESS_DIFF),
-                        UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION1_COLOR, 0, BRIGHTNESS_FRACTION1 + BRIGHTNESS_DIFF),
-                        UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION2_COLOR, 0, BRIGHTNESS_FRACTION2 + BRIGHTNESS_DIFF),
-                        UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION3_COLOR, 0, BRIGHTNESS_FRACTION3 + BRIGHTNESS_DIFF),
-                        UTIL.setSaturationBrightness(lcdColor.GRADIENT_STOP_COLOR, 0, BRIGHTNESS_STOP + BRIGHTNESS_DIFF)
-                    };
-                    if (UTIL.isDark(section.getColor())) {
-                        FOREGROUND_COLOR = Color.WHITE;
+                    lcdValueFont = LCD_STANDARD_FONT.deriveFont(0.625f * getInnerBounds().height);
+                    if (useCustomLcdUnitFont) {
+                        lcdUnitFont = customLcdUnitFont.deriveFont(0.2f * getInnerBounds().height);
                     } else {
-                        FOREGROUND_COLOR = Color.BLACK;
+                        lcdUnitFont = LCD_STANDARD_FONT.deriveFont(0.2f * getInnerBounds().height);
+                    }
+                }
+                lcdInfoFont = LCD_STANDARD_FONT.deriveFont(Font.BOLD, 0.18f * getInnerBounds().height);
+
+                if (lcdThresholdImage != null) {
+                    lcdThresholdImage.flush();
+                }
+                lcdThresholdImage = create_LCD_THRESHOLD_Image((int) (HEIGHT * 0.2045454545), (int) (HEIGHT * 0.2045454545), lcdColor.TEXT_COLOR);
+
+                if (!sections.isEmpty()) {
+                    sectionsBackground.clear();
+                    sectionsForeground.clear();
+
+                    final float[] HSB_START = (Color.RGBtoHSB(lcdColor.GRADIENT_START_COLOR.getRed(), lcdColor.GRADIENT_START_COLOR.getGreen(), lcdColor.GRADIENT_START_COLOR.getBlue(), null));
+                    final float[] HSB_FRACTION1 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION1_COLOR.getRed(), lcdColor.GRADIENT_FRACTION1_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION1_COLOR.getBlue(), null));
+                    final float[] HSB_FRACTION2 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION2_COLOR.getRed(), lcdColor.GRADIENT_FRACTION2_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION2_COLOR.getBlue(), null));
+                    final float[] HSB_FRACTION3 = (Color.RGBtoHSB(lcdColor.GRADIENT_FRACTION3_COLOR.getRed(), lcdColor.GRADIENT_FRACTION3_COLOR.getGreen(), lcdColor.GRADIENT_FRACTION3_COLOR.getBlue(), null));
+                    final float[] HSB_STOP = (Color.RGBtoHSB(lcdColor.GRADIENT_STOP_COLOR.getRed(), lcdColor.GRADIENT_STOP_COLOR.getGreen(), lcdColor.GRADIENT_STOP_COLOR.getBlue(), null));
+
+                    // Hue values of the gradient colors
+                    final float HUE_START = HSB_START[0];
+                    final float HUE_FRACTION1 = HSB_FRACTION1[0];
+                    final float HUE_FRACTION2 = HSB_FRACTION2[0];
+                    final float HUE_FRACTION3 = HSB_FRACTION3[0];
+                    final float HUE_STOP = HSB_STOP[0];
+
+                    // Brightness values of the gradient colors
+                    final float BRIGHTNESS_START = HSB_START[2];
+                    final float BRIGHTNESS_FRACTION1 = HSB_FRACTION1[2];
+                    final float BRIGHTNESS_FRACTION2 = HSB_FRACTION2[2];
+                    final float BRIGHTNESS_FRACTION3 = HSB_FRACTION3[2];
+                    final float BRIGHTNESS_STOP = HSB_STOP[2];
+
+                    for (Section section : sections) {
+                        final Color[] BACKGROUND_COLORS;
+                        final Color FOREGROUND_COLOR;
+                        final float[] HSB_SECTION = Color.RGBtoHSB(section.getColor().getRed(), section.getColor().getGreen(), section.getColor().getBlue(), null);
+                        final float HUE_SECTION = HSB_SECTION[0];
+                        final float SATURATION_SECTION = HSB_SECTION[1];
+                        final float BRIGHTNESS_SECTION = HSB_SECTION[2];
+                        if (!UTIL.isMonochrome(section.getColor())) {
+                            // Section color is not monochrome
+                            if (lcdColor == LcdColor.SECTIONS_LCD) {
+                                BACKGROUND_COLORS = new Color[]{
+                                    new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_START - 0.31f)),
+                                    new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION1 - 0.31f)),
+                                    new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION2 - 0.31f)),
+                                    new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_FRACTION3 - 0.31f)),
+                                    new Color(Color.HSBtoRGB(HUE_SECTION, SATURATION_SECTION, BRIGHTNESS_STOP - 0.31f))
+                                };
+                            } else {
+                                final float HUE_DIFF = HUE_SECTION - HUE_FRACTION3;
+                                BACKGROUND_COLORS = new Color[]{
+                                    UTIL.setHue(lcdColor.GRADIENT_START_COLOR, (HUE_START + HUE_DIFF) % 360),
+                                    UTIL.setHue(lcdColor.GRADIENT_FRACTION1_COLOR, (HUE_FRACTION1 + HUE_DIFF) % 360),
+                                    UTIL.setHue(lcdColor.GRADIENT_FRACTION2_COLOR, (HUE_FRACTION2 + HUE_DIFF) % 360),
+                                    UTIL.setHue(lcdColor.GRADIENT_FRACTION3_COLOR, (HUE_FRACTION3 + HUE_DIFF) % 360),
+                                    UTIL.setHue(lcdColor.GRADIENT_STOP_COLOR, (HUE_STOP + HUE_DIFF) % 360)
+                                };
+                            }
+                            FOREGROUND_COLOR = UTIL.setSaturationBrightness(section.getColor(), 0.57f, 0.83f);
+                        } else {
+                            // Section color is monochrome
+                            final float BRIGHTNESS_DIFF = BRIGHTNESS_SECTION - BRIGHTNESS_FRACTION1;
+
+                            BACKGROUND_COLORS = new Color[]{
+                                UTIL.setSaturationBrightness(lcdColor.GRADIENT_START_COLOR, 0, BRIGHTNESS_START + BRIGHTNESS_DIFF),
+                                UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION1_COLOR, 0, BRIGHTNESS_FRACTION1 + BRIGHTNESS_DIFF),
+                                UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION2_COLOR, 0, BRIGHTNESS_FRACTION2 + BRIGHTNESS_DIFF),
+                                UTIL.setSaturationBrightness(lcdColor.GRADIENT_FRACTION3_COLOR, 0, BRIGHTNESS_FRACTION3 + BRIGHTNESS_DIFF),
+                                UTIL.setSaturationBrightness(lcdColor.GRADIENT_STOP_COLOR, 0, BRIGHTNESS_STOP + BRIGHTNESS_DIFF)
+                            };
+                            if (UTIL.isDark(section.getColor())) {
+                                FOREGROUND_COLOR = Color.WHITE;
+                            } else {
+                                FOREGROUND_COLOR = Color.BLACK;
+                            }
+                        }
+                        sectionsBackground.add(create_LCD_Image(WIDTH, HEIGHT, BACKGROUND_COLORS));
+                        sectionsForeground.add(FOREGROUND_COLOR);
                     }
                 }
-                sectionsBackground.add(create_LCD_Image(WIDTH, HEIGHT, BACKGROUND_COLORS));
-                sectionsForeground.add(FOREGROUND_COLOR);
+
+                // Quality overlay related parameters
+                overlayCornerRadius = WIDTH > HEIGHT ? (HEIGHT * 0.095) - 1 : (WIDTH * 0.095) - 1;
+                overlayFactor = (float) (lcdValue / (lcdMaxValue - lcdMinValue));
+                if (Double.compare(overlayFactor, 1.0) > 0) {
+                    factor = 1.0f;
+                } else if (Double.compare(overlayFactor, 0) < 0) {
+                    factor = 0.0f;
+                } else {
+                    factor = overlayFactor;
+                }
+                overlayColors = new Color[] {
+                    UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor), 0.5f),
+                    UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor).darker(), 0.5f),
+                    UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor), 0.5f)
+                };
+                final int INSET = (int) (qualityOverlay.getHeight() * 0.0909090909);
+                overlayInsets.set(INSET, INSET, INSET, INSET);
+                qualityOverlayLookup = new GradientWrapper(new Point2D.Double(overlayInsets.left, 0), new Point2D.Double(lcdImage.getMinX() + lcdImage.getWidth() - overlayInsets.right, 0), qualityOverlayFractions, qualityOverlayColors);
+                qualityOverlayGradient = new LinearGradientPaint(new Point2D.Double(0, overlayInsets.top), new Point2D.Double(0, HEIGHT - overlayInsets.bottom), new float[]{0.0f, 0.5f, 1.0f}, overlayColors);
+                qualityOverlay.setRoundRect(overlayInsets.left, overlayInsets.top, (INNER_BOUNDS.width * overlayFactor) - overlayInsets.left - overlayInsets.right, INNER_BOUNDS.height - overlayInsets.top - overlayInsets.bottom, overlayCornerRadius, overlayCornerRadius);
+
+                // Prepare bargraph
+                bargraphSegmentFactor = 20 / (lcdMaxValue - lcdMinValue);
+                prepareBargraph(WIDTH, HEIGHT);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
             }
         }
+    }
 
-        // Quality overlay related parameters
-        overlayCornerRadius = WIDTH > HEIGHT ? (HEIGHT * 0.095) - 1 : (WIDTH * 0.095) - 1;
-        overlayFactor = (float) (lcdValue / (lcdMaxValue - lcdMinValue));
-        if (Double.compare(overlayFactor, 1.0) > 0) {
-            factor = 1.0f;
-        } else if (Double.compare(overlayFactor, 0) < 0) {
-            factor = 0.0f;
-        } else {
-            factor = overlayFactor;
+    /**
+     * Initializes the display with the given size. If lazy initialization is
+     * enabled and the display is not showing, only the size will be stored and
+     * the images will be created when the display will be painted or becomes
+     * showing for the first time.
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    private void requestInit(final int WIDTH, final int HEIGHT) {
+        synchronized (getInitLock()) {
+            if (lazyInitEnabled && !isShowing()) {
+                pendingWidth = WIDTH;
+                pendingHeight = HEIGHT;
+                initPending = true;
+                return;
+            }
+            initPending = false;
+            init(WIDTH, HEIGHT);
         }
-        overlayColors = new Color[] {
-            UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor), 0.5f),
-            UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor).darker(), 0.5f),
-            UTIL.setAlpha(qualityOverlayLookup.getColorAt(factor), 0.5f)
-        };
-        final int INSET = (int) (qualityOverlay.getHeight() * 0.0909090909);
-        overlayInsets.set(INSET, INSET, INSET, INSET);
-        qualityOverlayLookup = new GradientWrapper(new Point2D.Double(overlayInsets.left, 0), new Point2D.Double(lcdImage.getMinX() + lcdImage.getWidth() - overlayInsets.right, 0), qualityOverlayFractions, qualityOverlayColors);
-        qualityOverlayGradient = new LinearGradientPaint(new Point2D.Double(0, overlayInsets.top), new Point2D.Double(0, HEIGHT - overlayInsets.bottom), new float[]{0.0f, 0.5f, 1.0f}, overlayColors);
-        qualityOverlay.setRoundRect(overlayInsets.left, overlayInsets.top, (INNER_BOUNDS.width * overlayFactor) - overlayInsets.left - overlayInsets.right, INNER_BOUNDS.height - overlayInsets.top - overlayInsets.bottom, overlayCornerRadius, overlayCornerRadius);
+    }
+
+    /**
+     * Creates the images of a deferred initialization now. This method will
+     * be called before the display will be painted and could also be used to
+     * prewarm displays that are not showing on a background thread.
+     * @return true if a deferred initialization has been done
+     */
+    public boolean initIfPending() {
+        synchronized (getInitLock()) {
+            if (!initPending) {
+                return false;
+            }
+            initPending = false;
+            init(pendingWidth, pendingHeight);
+            return true;
+        }
+    }
 
-        // Prepare bargraph
-        bargraphSegmentFactor = 20 / (lcdMaxValue - lcdMinValue);
-        prepareBargraph(WIDTH, HEIGHT);
+    /**
+     * Returns true if the creation of the images has been deferred until
+     * the display will be painted or becomes showing
+     * @return true if the creation of the images has been deferred
+     */
+    public boolean isInitPending() {
+        return initPending;
+    }
+
+    /**
+     * Returns true if displays that are not showing defer the creation of
+     * their images until they will be painted or become showing
+     * @return true if the initialization of displays that are not showing will be deferred
+     */
+    public boolean isLazyInitEnabled() {
+        return lazyInitEnabled;
+    }
+
+    /**
+     * Enables / disables the deferred initialization of displays that are not showing
+     * @param LAZY_INIT_ENABLED
+     */
+    public void setLazyInitEnabled(final boolean LAZY_INIT_ENABLED) {
+        lazyInitEnabled = LAZY_INIT_ENABLED;
+        if (!LAZY_INIT_ENABLED) {
+            initIfPending();
+        }
     }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Visualization">
+    @Override
+    public void paint(final Graphics G) {
+        // Holds the init lock, so a display that will be prewarmed on a worker
+        // thread is never painted half created
+        synchronized (getInitLock()) {
+            initIfPending();
+            super.paint(G);
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
+        initIfPending();
         final Graphics2D G2 = (Graphics2D) g.create();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -398,15 +503,13 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
 
         // Draw background
         if (sectionsVisible && !sections.isEmpty()) {
-            for (int i = 0; i < sections.size(); i++) {
-                if (Double.compare(lcdValue, sections.get(i).getStart()) >= 0 && Double.compare(lcdValue, sections.get(i).getStop()) <= 0) {
-                    bgImage = sectionsBackground.get(i);
-                    fgColor = sectionsForeground.get(i);
-                    break;
-                } else {
-                    bgImage = lcdImage;
-                    fgColor = lcdColor.TEXT_COLOR;
-                }
+            final int SECTION_INDEX = getSectionIndex().indexOf(lcdValue);
+            if (SECTION_INDEX != -1) {
+                bgImage = sectionsBackground.get(SECTION_INDEX);
+                fgColor = sectionsForeground.get(SECTION_INDEX);
+            } else {
+                bgImage = lcdImage;
+                fgColor = lcdColor.TEXT_COLOR;
             }
 
             if (bgImage == null) {
@@ -425,23 +528,17 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         // Draw bargraph
         if (bargraphVisible) {
             int activeSegments = (int) (lcdValue * bargraphSegmentFactor);
+            final Section ACTIVE_SECTION = getSectionIndex().getSectionAt(lcdValue);
             for (int i = 0 ; i < 20 ; i++) {
                 if (i < activeSegments) {
-                    if (!sections.isEmpty()) {
-                        for (int j = 0; j < sections.size(); j++) {
-                            if (Double.compare(lcdValue, sections.get(j).getStart()) >= 0 && Double.compare(lcdValue, sections.get(j).getStop()) <= 0) {
-                                Paint fill;
-                                if (plainBargraphSegments) {
-                                    fill = sections.get(j).getColor();
-                                } else {
-                                    fill = new RadialGradientPaint((float)bargraph.get(i).getBounds2D().getCenterX(), (float)bargraph.get(i).getBounds2D().getCenterY(), (float)bargraph.get(i).getBounds2D().getWidth() / 2, new float[]{0.0f, 1.0f}, new Color[]{sections.get(j).getColor().brighter(), sections.get(j).getColor().darker()});
-                                }
-                                G2.setPaint(fill);
-                                break;
-                            } else {
-                                G2.setPaint(lcdColor.TEXT_COLOR);
-                            }
+                    if (ACTIVE_SECTION != null) {
+                        Paint fill;
+                        if (plainBargraphSegments) {
+                            fill = ACTIVE_SECTION.getColor();
+                        } else {
+                            fill = new RadialGradientPaint((float)bargraph.get(i).getBounds2D().getCenterX(), (float)bargraph.get(i).getBounds2D().getCenterY(), (float)bargraph.get(i).getBounds2D().getWidth() / 2, new float[]{0.0f, 1.0f}, new Color[]{ACTIVE_SECTION.getColor().brighter(), ACTIVE_SECTION.getColor().darker()});
                         }
+                        G2.setPaint(fill);
                     } else {
                         G2.setPaint(lcdColor.TEXT_COLOR);
                     }
@@ -473,10 +570,9 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
             final double digitalFontOffset = digitalFont ? lcdImage.getWidth() * 0.0625 : 0;
             // Draw unit string
             if (lcdUnitStringVisible && !lcdUnitString.isEmpty()) {
-                unitLayout = new TextLayout(lcdUnitString, G2.getFont(), RENDER_CONTEXT);
-                UNIT_BOUNDARY.setFrame(unitLayout.getBounds());
+                GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(lcdUnitString, UNIT_BOUNDARY);
                 if (lcdTextVisible) {
-                G2.drawString(lcdUnitString, (int) ((lcdImage.getWidth() - UNIT_BOUNDARY.getWidth()) - lcdImage.getHeight() * 0.15f), (int) (lcdImage.getHeight() * 0.76f));
+                GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, lcdUnitString, (int) ((lcdImage.getWidth() - UNIT_BOUNDARY.getWidth()) - lcdImage.getHeight() * 0.15f), (int) (lcdImage.getHeight() * 0.76f));
                 }
                 UNIT_STRING_WIDTH = UNIT_BOUNDARY.getWidth();
             } else {
@@ -485,51 +581,42 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
 
             // Draw value
             G2.setFont(lcdValueFont);
+            final int LCD_TEXT_LENGTH;
             switch (numberSystem) {
                 case HEX:
-                    valueLayout = new TextLayout(Integer.toHexString((int) lcdValue).toUpperCase(), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    if (lcdTextVisible) {
-                    G2.drawString(Integer.toHexString((int) lcdValue).toUpperCase(), (float) ((lcdImage.getMinX() + (lcdImage.getWidth() - UNIT_STRING_WIDTH - VALUE_BOUNDARY.getWidth() - digitalFontOffset) - lcdImage.getHeight() * 0.3)), (lcdImage.getHeight() * 0.76f));
-                    }
+                    LCD_TEXT_LENGTH = LcdValueFormatter.formatHex((int) lcdValue, LCD_TEXT);
                     break;
 
                 case OCT:
-                    valueLayout = new TextLayout(Integer.toOctalString((int) lcdValue), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    if (lcdTextVisible) {
-                    G2.drawString(Integer.toOctalString((int) lcdValue), (float) ((lcdImage.getMinX() + (lcdImage.getWidth() - UNIT_STRING_WIDTH - VALUE_BOUNDARY.getWidth() - digitalFontOffset) - lcdImage.getHeight() * 0.3)), (lcdImage.getHeight() * 0.76f));
-                    }
+                    LCD_TEXT_LENGTH = LcdValueFormatter.formatOctal((int) lcdValue, LCD_TEXT);
                     break;
 
                 case DEC:
 
                 default:
-                    valueLayout = new TextLayout(formatLcdValue(lcdValue), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    if (lcdTextVisible) {
-                    G2.drawString(formatLcdValue(lcdValue), (float)((lcdImage.getMinX() + (lcdImage.getWidth() - UNIT_STRING_WIDTH - VALUE_BOUNDARY.getWidth() - digitalFontOffset) - lcdImage.getHeight() * 0.3)), (lcdImage.getHeight() * 0.76f));
-                    }
+                    LCD_TEXT_LENGTH = LcdValueFormatter.getInstance(lcdDecimals, lcdScientificFormat).format(lcdValue, LCD_TEXT);
                     break;
             }
+            GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(LCD_TEXT, LCD_TEXT_LENGTH, VALUE_BOUNDARY);
+            if (lcdTextVisible) {
+            GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, LCD_TEXT, LCD_TEXT_LENGTH, (float) ((lcdImage.getMinX() + (lcdImage.getWidth() - UNIT_STRING_WIDTH - VALUE_BOUNDARY.getWidth() - digitalFontOffset) - lcdImage.getHeight() * 0.3)), (lcdImage.getHeight() * 0.76f));
+            }
 
             // Draw lcd info string
             if (!lcdInfoString.isEmpty()) {
                 G2.setFont(lcdInfoFont);
-                infoLayout = new TextLayout(lcdInfoString, G2.getFont(), RENDER_CONTEXT);
-                INFO_BOUNDARY.setFrame(infoLayout.getBounds());
-                G2.drawString(lcdInfoString, 5f, (float) INFO_BOUNDARY.getHeight() + 2f);
+                GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(lcdInfoString, INFO_BOUNDARY);
+                GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, lcdInfoString, 5f, (float) INFO_BOUNDARY.getHeight() + 2f);
             }
         } else {
             // Draw text instead of numbers
             G2.setFont(lcdValueFont);
             if (!lcdText.isEmpty()) {
-                valueLayout = new TextLayout(lcdText, G2.getFont(), RENDER_CONTEXT);
-                VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
+                GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(lcdText, VALUE_BOUNDARY);
                 if (!TEXT_SCROLLER.isRunning()) {
                     lcdTextX = (float) VALUE_BOUNDARY.getWidth();
                 }
-                G2.drawString(lcdText, lcdImage.getWidth() - lcdTextX  - lcdImage.getHeight() * 0.15f, (lcdImage.getHeight() * 0.76f));
+                GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, lcdText, lcdImage.getWidth() - lcdTextX  - lcdImage.getHeight() * 0.15f, (lcdImage.getHeight() * 0.76f));
             }
         }
 
@@ -591,6 +678,8 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         }
 
         if (qualityOverlayVisible) {
+            // the overlay lookup needs the size of the lcd image
+            initIfPending();
             overlayCornerRadius = INNER_BOUNDS.width > INNER_BOUNDS.height ? (INNER_BOUNDS.height * 0.095) - 1 : (INNER_BOUNDS.width * 0.095) - 1;
             overlayFactor = (float) (lcdValue / (lcdMaxValue - lcdMinValue));
             if (Double.compare(overlayFactor, 1.0) > 0) {
@@ -635,7 +724,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
             lcdMinValue = LCD_MIN_VALUE;
         }
 
-        init(getWidth(), getHeight());
+        requestInit(getWidth(), getHeight());
         repaint(getInnerBounds());
     }
 
@@ -655,7 +744,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         } else {
             lcdMaxValue = LCD_MAX_VALUE;
         }
-        init(getWidth(), getHeight());
+        requestInit(getWidth(), getHeight());
         repaint(getInnerBounds());
     }
 
@@ -801,7 +890,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setCustomLcdUnitFontEnabled(final boolean USE_CUSTOM_LCD_UNIT_FONT) {
         this.useCustomLcdUnitFont = USE_CUSTOM_LCD_UNIT_FONT;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -813,7 +902,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setCustomLcdUnitFont(final Font CUSTOM_LCD_UNIT_FONT) {
         this.customLcdUnitFont = CUSTOM_LCD_UNIT_FONT;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -835,7 +924,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setDigitalFont(final boolean DIGITAL_FONT) {
         this.digitalFont = DIGITAL_FONT;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -847,7 +936,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setLcdColor(final LcdColor COLOR) {
         this.lcdColor = COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -859,7 +948,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setCustomLcdBackground(final Paint CUSTOM_LCD_BACKGROUND) {
         this.customLcdBackground = CUSTOM_LCD_BACKGROUND;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -909,30 +998,13 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     @Override
     public void setCustomLcdForeground(final Color CUSTOM_LCD_FOREGROUND) {
         this.customLcdForeground = CUSTOM_LCD_FOREGROUND;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
     @Override
     public String formatLcdValue(final double VALUE) {
-        final StringBuilder DEC_BUFFER = new StringBuilder(16);
-        DEC_BUFFER.append("0");
-
-        if (this.lcdDecimals > 0) {
-            DEC_BUFFER.append(".");
-        }
-
-        for (int i = 0; i < this.lcdDecimals; i++) {
-            DEC_BUFFER.append("0");
-        }
-
-        if (lcdScientificFormat) {
-            DEC_BUFFER.append("E0");
-        }
-
-        final java.text.DecimalFormat DEC_FORMAT = new java.text.DecimalFormat(DEC_BUFFER.toString(), new java.text.DecimalFormatSymbols(java.util.Locale.US));
-
-        return DEC_FORMAT.format(VALUE);
+        return LcdValueFormatter.getInstance(lcdDecimals, lcdScientificFormat).format(VALUE);
     }
 
     @Override
@@ -1040,7 +1112,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         }
         qualityOverlayFractions = QUALITY_OVERLAY_FRACTIONS.clone();
         qualityOverlayColors = QUALITY_OVERLAY_COLORS.clone();
-        init(getWidth(), getHeight());
+        requestInit(getWidth(), getHeight());
         repaint(getInnerBounds());
     }
 
@@ -1058,7 +1130,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     */
     public void setGlowVisible(final boolean GLOW_VISIBLE) {
         glowVisible = GLOW_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -1076,7 +1148,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     */
     public void setGlowColor(final Color GLOW_COLOR) {
         glowColor = GLOW_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -1094,7 +1166,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     */
     public void setGlowing(final boolean GLOWING) {
         glowing = GLOWING;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -1112,7 +1184,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
 
     public void setBargraphVisible(final boolean BARGRAPH_VISIBLE) {
         bargraphVisible = BARGRAPH_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint();
     }
 
@@ -1154,7 +1226,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
      */
     public void setSectionsVisible(final boolean SECTIONS_VISIBLE) {
         sectionsVisible = SECTIONS_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1191,7 +1263,8 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         for (Section section : SECTIONS_ARRAY) {
             sections.add(new Section(section.getStart(), section.getStop(), section.getColor()));
         }
-        init(getInnerBounds().width, getInnerBounds().height);
+        sectionIndex = null;
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1208,7 +1281,8 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
      */
     public void addSection(final Section SECTION) {
         sections.add(SECTION);
-        init(getInnerBounds().width, getInnerBounds().height);
+        sectionIndex = null;
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -1217,9 +1291,22 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
      */
     public void resetSections() {
         sections.clear();
-        init(getInnerBounds().width, getInnerBounds().height);
+        sectionIndex = null;
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
+
+    /**
+     * Returns the interval index of the sections which will be created
+     * again after the sections changed
+     * @return the interval index of the sections
+     */
+    private SectionIndex getSectionIndex() {
+        if (sectionIndex == null) {
+            sectionIndex = sections.isEmpty() ? SectionIndex.EMPTY : new SectionIndex(sections);
+        }
+        return sectionIndex;
+    }
     //</editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Image related">
@@ -1590,7 +1677,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         int height = DIM.height < 24 ? 24 : DIM.height;
         super.setMinimumSize(new Dimension(width, height));
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         invalidate();
         repaint();
     }
@@ -1610,7 +1697,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
         int height = DIM.height > 720 ? 720 : DIM.height;
         super.setMaximumSize(new Dimension(width, height));
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         invalidate();
         repaint();
     }
@@ -1619,7 +1706,7 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     public void setPreferredSize(final Dimension DIM) {
         super.setPreferredSize(DIM);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         invalidate();
         repaint();
     }
@@ -1628,41 +1715,42 @@ public final class DisplaySingle extends JComponent implements Lcd, ActionListen
     public void setSize(final int WIDTH, final int HEIGHT) {
         super.setSize(WIDTH, HEIGHT);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     @Override
     public void setSize(final Dimension DIM) {
         super.setSize(DIM);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     @Override
     public void setBounds(final Rectangle BOUNDS) {
         super.setBounds(BOUNDS);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     @Override
     public void setBounds(final int X, final int Y, final int WIDTH, final int HEIGHT) {
         super.setBounds(X, Y, WIDTH, HEIGHT);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     @Override
     public void setBorder(Border BORDER) {
         super.setBorder(BORDER);
         calcInnerBounds();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="ActionListener">
     @Override
     public void actionPerformed(final ActionEvent EVENT) {
+        initIfPending();
         if (lcdTextX > (lcdImage.getWidth() + VALUE_BOUNDARY.getWidth())) {
             lcdTextX = -VALUE_BOUNDARY.getBounds().width;
         }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.DesignSet;
+import eu.hansolo.steelseries.tools.Model;
+
+
+/**
+ * Describes one snapshot of a gauge that should be rendered by the
+ * GaugeExporter. A job contains the kind of gauge, the model and design
+ * that should be used, the size of the image and optionaly the value that
+ * should be visualized. If no value is given the current value of the
+ * model will be used.
+ * <p/>
+ * @author hansolo
+ */
+public class ExportJob {
+
+    public enum Kind {
+        RADIAL,
+        LINEAR,
+        DISPLAY_SINGLE
+    }
+    private final String NAME;
+    private final Kind KIND;
+    private final Model MODEL;
+    private final DesignSet DESIGN;
+    private final String TITLE;
+    private final String UNIT_STRING;
+    private final double VALUE;
+    private final int WIDTH;
+    private final int HEIGHT;
+
+    private ExportJob(Builder builder) {
+        // private Constructor can only be called from Builder
+        NAME = builder.name;
+        KIND = builder.kind;
+        MODEL = builder.model;
+        DESIGN = builder.design;
+        TITLE = builder.title;
+        UNIT_STRING = builder.unitString;
+        VALUE = builder.value;
+        WIDTH = builder.width;
+        HEIGHT = builder.height;
+    }
+
+    public String getName() {
+        return NAME;
+    }
+
+    public Kind getKind() {
+        return KIND;
+    }
+
+    public Model getModel() {
+        return MODEL;
+    }
+
+    public DesignSet getDesign() {
+        return DESIGN;
+    }
+
+    public String getTitle() {
+        return TITLE;
+    }
+
+    public String getUnitString() {
+        return UNIT_STRING;
+    }
+
+    /**
+     * Returns the value that should be visualized or Double.NaN if the
+     * current value of the model should be used.
+     * @return the value that should be visualized
+     */
+    public double getValue() {
+        return VALUE;
+    }
+
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportJob[" + NAME + ", " + KIND + ", " + WIDTH + "x" + HEIGHT + "]";
+    }
+
+    public static class Builder {
+        // mandatory parameter
+        private String name = null;
+        private Kind kind = Kind.RADIAL;
+        private Model model = null;
+        private DesignSet design = null;
+        private String title = "";
+        private String unitString = "";
+        private double value = Double.NaN;
+        private int width = 200;
+        private int height = 200;
+
+        public Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder kind(Kind kind) {
+            this.kind = kind;
+            return this;
+        }
+
+        public Builder model(Model model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder design(DesignSet design) {
+            this.design = design;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder unitString(String unitString) {
+            this.unitString = unitString;
+            return this;
+        }
+
+        public Builder value(double value) {
+            this.value = value;
+            return this;
+        }
+
+        public Builder size(int width, int height) {
+            this.width = width;
+            this.height = height;
+            return this;
+        }
+
+        public ExportJob build() {
+            if (name == null || kind == null || model == null) {
+                throw new IllegalStateException("Name, kind and model of an export job must not be null");
+            }
+            if (width <= 0 || height <= 0) {
+                throw new IllegalStateException("Size of an export job must be larger than 0");
+            }
+            return new ExportJob(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Collects the throughput metrics of a GaugeExporter.
+ * All values are updated by the worker threads of the exporter and
+ * can be read at any time.
+ * <p/>
+ * @author hansolo
+ */
+public class ExportMetrics {
+
+    private final AtomicLong COMPLETED_JOBS = new AtomicLong(0);
+    private final AtomicLong FAILED_JOBS = new AtomicLong(0);
+    private final AtomicLong RENDER_NANOS = new AtomicLong(0);
+    private final AtomicLong ENCODE_NANOS = new AtomicLong(0);
+    private final AtomicLong ENCODED_BYTES = new AtomicLong(0);
+    private volatile long startTime = System.nanoTime();
+
+    void recordCompleted(final long RENDER_TIME, final long ENCODE_TIME, final int BYTES) {
+        COMPLETED_JOBS.incrementAndGet();
+        RENDER_NANOS.addAndGet(RENDER_TIME);
+        ENCODE_NANOS.addAndGet(ENCODE_TIME);
+        ENCODED_BYTES.addAndGet(BYTES);
+    }
+
+    void recordFailed() {
+        FAILED_JOBS.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of jobs that were processed successfully
+     * @return the number of jobs that were processed successfully
+     */
+    public long getCompletedJobs() {
+        return COMPLETED_JOBS.get();
+    }
+
+    /**
+     * Returns the number of jobs that failed
+     * @return the number of jobs that failed
+     */
+    public long getFailedJobs() {
+        return FAILED_JOBS.get();
+    }
+
+    /**
+     * Returns the sum of the png encoded bytes of all jobs
+     * @return the sum of the png encoded bytes of all jobs
+     */
+    public long getEncodedBytes() {
+        return ENCODED_BYTES.get();
+    }
+
+    /**
+     * Returns the average time in milliseconds that was needed to render one image
+     * @return the average time in milliseconds that was needed to render one image
+     */
+    public double getAverageRenderMillis() {
+        final long JOBS = COMPLETED_JOBS.get();
+        return JOBS == 0 ? 0 : RENDER_NANOS.get() / 1000000.0 / JOBS;
+    }
+
+    /**
+     * Returns the average time in milliseconds that was needed to encode one image
+     * @return the average time in milliseconds that was needed to encode one image
+     */
+    public double getAverageEncodeMillis() {
+        final long JOBS = COMPLETED_JOBS.get();
+        return JOBS == 0 ? 0 : ENCODE_NANOS.get() / 1000000.0 / JOBS;
+    }
+
+    /**
+     * Returns the number of completed jobs per second since the last reset
+     * @return the number of completed jobs per second since the last reset
+     */
+    public double getJobsPerSecond() {
+        final double SECONDS = (System.nanoTime() - startTime) / 1000000000.0;
+        return SECONDS <= 0 ? 0 : COMPLETED_JOBS.get() / SECONDS;
+    }
+
+    /**
+     * Resets all metrics
+     */
+    public void reset() {
+        COMPLETED_JOBS.set(0);
+        FAILED_JOBS.set(0);
+        RENDER_NANOS.set(0);
+        ENCODE_NANOS.set(0);
+        ENCODED_BYTES.set(0);
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "ExportMetrics[jobs=%d, failed=%d, jobs/s=%.1f, render=%.2fms, encode=%.2fms, bytes=%d]",
+                             getCompletedJobs(), getFailedJobs(), getJobsPerSecond(), getAverageRenderMillis(), getAverageEncodeMillis(), getEncodedBytes());
+    }
+}
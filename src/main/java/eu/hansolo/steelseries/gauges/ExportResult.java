@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import java.awt.image.BufferedImage;
+
+
+/**
+ * The result of an ExportJob that was processed by the GaugeExporter.
+ * It contains the rendered image and, if png encoding was enabled,
+ * the png encoded bytes of the image.
+ * <p/>
+ * @author hansolo
+ */
+public class ExportResult {
+
+    private final ExportJob JOB;
+    private final BufferedImage IMAGE;
+    private final byte[] PNG;
+    private final long RENDER_NANOS;
+    private final long ENCODE_NANOS;
+
+    public ExportResult(final ExportJob JOB, final BufferedImage IMAGE, final byte[] PNG, final long RENDER_NANOS, final long ENCODE_NANOS) {
+        this.JOB = JOB;
+        this.IMAGE = IMAGE;
+        this.PNG = PNG;
+        this.RENDER_NANOS = RENDER_NANOS;
+        this.ENCODE_NANOS = ENCODE_NANOS;
+    }
+
+    public ExportJob getJob() {
+        return JOB;
+    }
+
+    public String getName() {
+        return JOB.getName();
+    }
+
+    public BufferedImage getImage() {
+        return IMAGE;
+    }
+
+    /**
+     * Returns the png encoded image or null if png encoding was disabled
+     * @return the png encoded image or null if png encoding was disabled
+     */
+    public byte[] getPng() {
+        return PNG;
+    }
+
+    public long getRenderNanos() {
+        return RENDER_NANOS;
+    }
+
+    public long getEncodeNanos() {
+        return ENCODE_NANOS;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportResult[" + JOB.getName() + ", " + (PNG == null ? 0 : PNG.length) + " bytes]";
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.Model;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Renders and png encodes a large number of gauge snapshots in parallel.
+ * The jobs will be rendered by the GaugeRenderer on the worker threads
+ * of the exporter which means that the static layers of the gauges will
+ * be taken from the image cache. Each worker encodes the images it
+ * rendered so that rendering and encoding scale with the number of threads.
+ * Jobs that share the same model will be rendered one after the other
+ * because the value of the job will be set on the model before rendering.
+ * <p/>
+ * @author hansolo
+ */
+public class GaugeExporter {
+
+    /**
+     * Will be informed about each processed job of a streaming export.
+     * The methods will be called on the worker threads of the exporter.
+     */
+    public interface ResultHandler {
+        void exported(final ExportResult RESULT);
+
+        void failed(final ExportJob JOB, final Throwable THROWABLE);
+    }
+    private static final GaugeRenderer RENDERER = GaugeRenderer.INSTANCE;
+    private final ExecutorService EXECUTOR;
+    private final boolean OWNS_EXECUTOR;
+    private final int MAX_JOBS_IN_FLIGHT;
+    private final ExportMetrics METRICS;
+    private volatile boolean pngEncodingEnabled;
+
+    // <editor-fold defaultstate="collapsed" desc="Constructor">
+    /**
+     * Creates an exporter that uses one worker thread per available processor.
+     */
+    public GaugeExporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an exporter that uses the given number of worker threads.
+     * @param THREADS
+     */
+    public GaugeExporter(final int THREADS) {
+        this(createExecutor(THREADS < 1 ? 1 : THREADS), true, THREADS < 1 ? 2 : 2 * THREADS);
+    }
+
+    /**
+     * Creates an exporter that uses the given executor service. The executor
+     * will not be shut down by the exporter.
+     * @param EXECUTOR
+     * @param MAX_JOBS_IN_FLIGHT the maximum number of jobs of a streaming export that are queued at the same time
+     */
+    public GaugeExporter(final ExecutorService EXECUTOR, final int MAX_JOBS_IN_FLIGHT) {
+        this(EXECUTOR, false, MAX_JOBS_IN_FLIGHT);
+    }
+
+    private GaugeExporter(final ExecutorService EXECUTOR, final boolean OWNS_EXECUTOR, final int MAX_JOBS_IN_FLIGHT) {
+        if (EXECUTOR == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        this.EXECUTOR = EXECUTOR;
+        this.OWNS_EXECUTOR = OWNS_EXECUTOR;
+        this.MAX_JOBS_IN_FLIGHT = MAX_JOBS_IN_FLIGHT < 1 ? 1 : MAX_JOBS_IN_FLIGHT;
+        METRICS = new ExportMetrics();
+        pngEncodingEnabled = true;
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Export methods">
+    /**
+     * Renders and encodes the given job on a worker thread.
+     * @param JOB
+     * @return a future that will contain the result of the given job
+     */
+    public Future<ExportResult> submit(final ExportJob JOB) {
+        return EXECUTOR.submit(new Callable<ExportResult>() {
+            @Override
+            public ExportResult call() throws Exception {
+                return process(JOB);
+            }
+        });
+    }
+
+    /**
+     * Renders and encodes all given jobs in parallel and returns the results
+     * in the order of the given jobs.
+     * @param JOBS
+     * @return the results of the given jobs in the order of the jobs
+     * @throws InterruptedException
+     * @throws ExecutionException if one of the jobs failed
+     */
+    public List<ExportResult> exportAll(final Collection<ExportJob> JOBS) throws InterruptedException, ExecutionException {
+        final List<Future<ExportResult>> FUTURES = new ArrayList<Future<ExportResult>>(JOBS.size());
+        for (ExportJob job : JOBS) {
+            FUTURES.add(submit(job));
+        }
+        final List<ExportResult> RESULTS = new ArrayList<ExportResult>(JOBS.size());
+        for (Future<ExportResult> future : FUTURES) {
+            RESULTS.add(future.get());
+        }
+        return RESULTS;
+    }
+
+    /**
+     * Renders all given jobs in parallel and packs the images into one
+     * sprite sheet with the given number of columns.
+     * @param JOBS
+     * @param COLUMNS
+     * @return a sprite sheet that contains the images of all given jobs
+     * @throws InterruptedException
+     * @throws ExecutionException if one of the jobs failed
+     */
+    public SpriteSheet exportSpriteSheet(final Collection<ExportJob> JOBS, final int COLUMNS) throws InterruptedException, ExecutionException {
+        return SpriteSheet.create(exportAll(JOBS), COLUMNS);
+    }
+
+    /**
+     * Renders and encodes the jobs of the given iterator in parallel and
+     * passes each result to the given handler as soon as it is available.
+     * Only a limited number of jobs will be queued at the same time so
+     * that the jobs may be created lazily by the iterator. Jobs that are
+     * rejected by the executor will be passed to the failed method of the
+     * handler. The method returns after all jobs are processed.
+     * @param JOBS
+     * @param HANDLER
+     * @throws InterruptedException
+     */
+    public void export(final Iterator<ExportJob> JOBS, final ResultHandler HANDLER) throws InterruptedException {
+        final Semaphore IN_FLIGHT = new Semaphore(MAX_JOBS_IN_FLIGHT);
+        while (JOBS.hasNext()) {
+            final ExportJob JOB = JOBS.next();
+            IN_FLIGHT.acquire();
+            try {
+                EXECUTOR.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            final ExportResult RESULT;
+                            try {
+                                RESULT = process(JOB);
+                            } catch (Exception exception) {
+                                HANDLER.failed(JOB, exception);
+                                return;
+                            }
+                            HANDLER.exported(RESULT);
+                        } finally {
+                            IN_FLIGHT.release();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException exception) {
+                // The job will never run, so its permit has to be released here
+                IN_FLIGHT.release();
+                METRICS.recordFailed();
+                HANDLER.failed(JOB, exception);
+            }
+        }
+        // Wait until all queued jobs are processed
+        IN_FLIGHT.acquire(MAX_JOBS_IN_FLIGHT);
+        IN_FLIGHT.release(MAX_JOBS_IN_FLIGHT);
+    }
+
+    private ExportResult process(final ExportJob JOB) throws IOException {
+        try {
+            final long START = System.nanoTime();
+            final BufferedImage IMAGE;
+            final Model MODEL = JOB.getModel();
+            synchronized (MODEL) {
+                if (!Double.isNaN(JOB.getValue())) {
+                    MODEL.setValue(JOB.getValue());
+                    MODEL.setLcdValue(JOB.getValue());
+                }
+                IMAGE = render(JOB);
+            }
+            final long RENDERED = System.nanoTime();
+
+            byte[] png = null;
+            if (pngEncodingEnabled) {
+                final ByteArrayOutputStream OUTPUT_STREAM = new ByteArrayOutputStream(IMAGE.getWidth() * IMAGE.getHeight());
+                RENDERER.writePng(IMAGE, OUTPUT_STREAM);
+                png = OUTPUT_STREAM.toByteArray();
+            }
+            final long ENCODED = System.nanoTime();
+
+            METRICS.recordCompleted(RENDERED - START, ENCODED - RENDERED, png == null ? 0 : png.length);
+            return new ExportResult(JOB, IMAGE, png, RENDERED - START, ENCODED - RENDERED);
+        } catch (IOException exception) {
+            METRICS.recordFailed();
+            throw exception;
+        } catch (RuntimeException exception) {
+            METRICS.recordFailed();
+            throw exception;
+        }
+    }
+
+    private BufferedImage render(final ExportJob JOB) {
+        switch (JOB.getKind()) {
+            case LINEAR:
+                return RENDERER.renderLinear(JOB.getModel(), JOB.getDesign(), JOB.getTitle(), JOB.getUnitString(), JOB.getWidth(), JOB.getHeight());
+            case DISPLAY_SINGLE:
+                return RENDERER.renderDisplaySingle(JOB.getModel(), JOB.getDesign(), JOB.getUnitString(), JOB.getWidth(), JOB.getHeight());
+            case RADIAL:
+            default:
+                return RENDERER.renderRadial(JOB.getModel(), JOB.getDesign(), JOB.getTitle(), JOB.getUnitString(), Math.min(JOB.getWidth(), JOB.getHeight()));
+        }
+    }
+
+    /**
+     * Shuts down the worker threads if they were created by the exporter
+     */
+    public void shutdown() {
+        if (OWNS_EXECUTOR) {
+            EXECUTOR.shutdown();
+        }
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    /**
+     * Returns true if the rendered images will be encoded as png
+     * @return true if the rendered images will be encoded as png
+     */
+    public boolean isPngEncodingEnabled() {
+        return pngEncodingEnabled;
+    }
+
+    /**
+     * Enables/disables the png encoding of the rendered images.
+     * Disable it if you only need the images (e.g. for sprite sheets).
+     * @param PNG_ENCODING_ENABLED
+     */
+    public void setPngEncodingEnabled(final boolean PNG_ENCODING_ENABLED) {
+        pngEncodingEnabled = PNG_ENCODING_ENABLED;
+    }
+
+    /**
+     * Returns the throughput metrics of the exporter
+     * @return the throughput metrics of the exporter
+     */
+    public ExportMetrics getMetrics() {
+        return METRICS;
+    }
+    // </editor-fold>
+
+    private static ExecutorService createExecutor(final int THREADS) {
+        return Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+            private final AtomicInteger COUNTER = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(final Runnable RUNNABLE) {
+                final Thread THREAD = new Thread(RUNNABLE, "GaugeExporter-" + COUNTER.incrementAndGet());
+                THREAD.setDaemon(true);
+                return THREAD;
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "GaugeExporter";
+    }
+}
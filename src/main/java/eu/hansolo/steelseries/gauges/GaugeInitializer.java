@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+
+/**
+ * Initializes a whole dashboard of gauges in parallel.
+ * The expensive part of the initialization is the creation of the
+ * frame, background, tickmark, foreground etc. images which is done
+ * by the image factories. Gauges that are not yet showing will be
+ * initialized on the given executor, gauges that are already showing
+ * will be initialized on the event dispatch thread (where they will
+ * mostly hit the image cache that was filled by the worker threads).
+ * All gauges will be repainted in one go on the event dispatch thread
+ * after all of them are initialized. The images of a gauge will be created
+ * while holding the lock of the gauge, which is also held while the gauge
+ * is painted or reinitialized after a resize, so a gauge that becomes showing
+ * during the initialization will never be painted with half created images.
+ * Gauges that defer their initialization until they become showing could
+ * be prewarmed on a low priority background thread.
+ * @author hansolo
+ */
+public enum GaugeInitializer {
+
+    INSTANCE;
+    private volatile ExecutorService defaultExecutor;
+    private volatile ExecutorService prewarmExecutor;
+
+    // <editor-fold defaultstate="collapsed" desc="Initialization">
+    /**
+     * Initializes the given gauges in parallel by using a default thread
+     * pool with one thread per available processor.
+     * @param GAUGES
+     */
+    public void initAll(final Collection<? extends AbstractGauge> GAUGES) {
+        initAll(GAUGES, getDefaultExecutor(), null);
+    }
+
+    /**
+     * Initializes the given gauges in parallel by using the given executor.
+     * @param GAUGES
+     * @param EXECUTOR
+     */
+    public void initAll(final Collection<? extends AbstractGauge> GAUGES, final Executor EXECUTOR) {
+        initAll(GAUGES, EXECUTOR, null);
+    }
+
+    /**
+     * Initializes the given gauges in parallel by using the given executor.
+     * The given runnable will be called on the event dispatch thread after
+     * all gauges are initialized and repainted.
+     * @param GAUGES
+     * @param EXECUTOR
+     * @param ON_DONE
+     */
+    public void initAll(final Collection<? extends AbstractGauge> GAUGES, final Executor EXECUTOR, final Runnable ON_DONE) {
+        if (GAUGES == null || EXECUTOR == null) {
+            throw new IllegalArgumentException("Gauges and executor must not be null");
+        }
+
+        final List<AbstractGauge> OFFSCREEN_GAUGES = new ArrayList<AbstractGauge>(GAUGES.size());
+        final List<AbstractGauge> SHOWING_GAUGES = new ArrayList<AbstractGauge>(GAUGES.size());
+        for (AbstractGauge gauge : GAUGES) {
+            if (gauge == null) {
+                continue;
+            }
+            if (gauge.isShowing()) {
+                SHOWING_GAUGES.add(gauge);
+            } else {
+                OFFSCREEN_GAUGES.add(gauge);
+            }
+        }
+
+        final Runnable FINISH = new Runnable() {
+            @Override
+            public void run() {
+                // The images of the showing gauges are mostly in the cache now
+                for (AbstractGauge gauge : SHOWING_GAUGES) {
+                    initGauge(gauge);
+                }
+                for (AbstractGauge gauge : OFFSCREEN_GAUGES) {
+                    gauge.repaint();
+                }
+                for (AbstractGauge gauge : SHOWING_GAUGES) {
+                    gauge.repaint();
+                }
+                if (ON_DONE != null) {
+                    ON_DONE.run();
+                }
+            }
+        };
+
+        if (OFFSCREEN_GAUGES.isEmpty()) {
+            SwingUtilities.invokeLater(FINISH);
+            return;
+        }
+
+        final AtomicInteger REMAINING = new AtomicInteger(OFFSCREEN_GAUGES.size());
+        for (final AbstractGauge GAUGE : OFFSCREEN_GAUGES) {
+            EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        initGauge(GAUGE);
+                    } finally {
+                        if (REMAINING.decrementAndGet() == 0) {
+                            SwingUtilities.invokeLater(FINISH);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the images of all given gauges and displays that are not showing
+     * and have deferred their initialization. The work will be done one gauge
+     * after the other on a background thread with minimum priority, so gauges
+     * in unselected tabs are ready when they become showing. All other
+     * components (e.g. Led, Battery or DisplayMulti) create their images
+     * immediately in their setters and will be skipped.
+     * @param COMPONENTS
+     */
+    public void prewarm(final Collection<? extends JComponent> COMPONENTS) {
+        prewarm(COMPONENTS, null);
+    }
+
+    /**
+     * Creates the images of all given gauges and displays that are not showing
+     * and have deferred their initialization. The given runnable will be called
+     * on the event dispatch thread after all components are prewarmed.
+     * Components that are neither gauges nor DisplaySingle instances do not
+     * defer their initialization and will be skipped.
+     * @param COMPONENTS
+     * @param ON_DONE
+     */
+    public void prewarm(final Collection<? extends JComponent> COMPONENTS, final Runnable ON_DONE) {
+        if (COMPONENTS == null) {
+            throw new IllegalArgumentException("Components must not be null");
+        }
+        final List<JComponent> PENDING = new ArrayList<JComponent>(COMPONENTS);
+        getPrewarmExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                for (JComponent component : PENDING) {
+                    // Showing components will be initialized on the event dispatch thread
+                    if (component == null || component.isShowing()) {
+                        continue;
+                    }
+                    if (component instanceof AbstractGauge) {
+                        ((AbstractGauge) component).initIfPending();
+                    } else if (component instanceof DisplaySingle) {
+                        ((DisplaySingle) component).initIfPending();
+                    }
+                }
+                if (ON_DONE != null) {
+                    SwingUtilities.invokeLater(ON_DONE);
+                }
+            }
+        });
+    }
+
+    private void initGauge(final AbstractGauge GAUGE) {
+        GAUGE.initWithInnerBounds();
+    }
+
+    private ExecutorService getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            synchronized (this) {
+                if (defaultExecutor == null) {
+                    defaultExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private final AtomicInteger COUNTER = new AtomicInteger(0);
+
+                        @Override
+                        public Thread newThread(final Runnable RUNNABLE) {
+                            final Thread THREAD = new Thread(RUNNABLE, "GaugeInitializer-" + COUNTER.incrementAndGet());
+                            THREAD.setDaemon(true);
+                            return THREAD;
+                        }
+                    });
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
+    private ExecutorService getPrewarmExecutor() {
+        if (prewarmExecutor == null) {
+            synchronized (this) {
+                if (prewarmExecutor == null) {
+                    prewarmExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(final Runnable RUNNABLE) {
+                            final Thread THREAD = new Thread(RUNNABLE, "GaugeInitializer-prewarm");
+                            THREAD.setDaemon(true);
+                            THREAD.setPriority(Thread.MIN_PRIORITY);
+                            return THREAD;
+                        }
+                    });
+                }
+            }
+        }
+        return prewarmExecutor;
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "GaugeInitializer";
+    }
+}
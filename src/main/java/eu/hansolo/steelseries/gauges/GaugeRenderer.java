@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.DesignSet;
+import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.Model;
+import eu.hansolo.steelseries.tools.Util;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.imageio.ImageIO;
+import javax.swing.JComponent;
+
+
+/**
+ * Renders gauges into buffered images without the need of a visible
+ * component or a screen device. This makes it possible to create
+ * snapshots of gauges on a server (e.g. with java.awt.headless=true).
+ * Every thread that uses the renderer gets it's own set of offscreen
+ * gauges which will be reused for all subsequent renderings, the
+ * images of the gauges itself will be taken from the image cache
+ * of the factories as long as the size and design are not changing.
+ * The gauges render a private copy of the given model, so the design,
+ * title etc. will not be applied to the given model.
+ * @author hansolo
+ */
+public enum GaugeRenderer {
+
+    INSTANCE;
+    private static final Util UTIL = Util.INSTANCE;
+    private final ThreadLocal<OffscreenGauges> OFFSCREEN_GAUGES = new ThreadLocal<OffscreenGauges>() {
+        @Override
+        protected OffscreenGauges initialValue() {
+            return new OffscreenGauges();
+        }
+    };
+
+    // <editor-fold defaultstate="collapsed" desc="Rendering methods">
+    /**
+     * Returns an image of a radial gauge with the given size that visualizes
+     * the given model in the given design.
+     * @param MODEL
+     * @param DESIGN
+     * @param TITLE
+     * @param UNIT_STRING
+     * @param SIZE
+     * @return an image of a radial gauge that visualizes the given model
+     */
+    public BufferedImage renderRadial(final Model MODEL, final DesignSet DESIGN, final String TITLE, final String UNIT_STRING, final int SIZE) {
+        final OffscreenGauges GAUGES = OFFSCREEN_GAUGES.get();
+        final Radial RADIAL = GAUGES.getRadial();
+        prepare(RADIAL, MODEL.clone(), DESIGN, TITLE, UNIT_STRING);
+        try {
+            RADIAL.setLcdValue(RADIAL.isValueCoupled() ? MODEL.getValue() : MODEL.getLcdValue());
+            resize(RADIAL, SIZE, SIZE);
+            return paint(RADIAL, SIZE, SIZE);
+        } finally {
+            release(RADIAL, GAUGES);
+        }
+    }
+
+    /**
+     * Returns an image of a linear gauge with the given size that visualizes
+     * the given model in the given design.
+     * @param MODEL
+     * @param DESIGN
+     * @param TITLE
+     * @param UNIT_STRING
+     * @param WIDTH
+     * @param HEIGHT
+     * @return an image of a linear gauge that visualizes the given model
+     */
+    public BufferedImage renderLinear(final Model MODEL, final DesignSet DESIGN, final String TITLE, final String UNIT_STRING, final int WIDTH, final int HEIGHT) {
+        final OffscreenGauges GAUGES = OFFSCREEN_GAUGES.get();
+        final Linear LINEAR = GAUGES.getLinear();
+        prepare(LINEAR, MODEL.clone(), DESIGN, TITLE, UNIT_STRING);
+        try {
+            LINEAR.setLcdValue(LINEAR.isValueCoupled() ? MODEL.getValue() : MODEL.getLcdValue());
+            resize(LINEAR, WIDTH, HEIGHT);
+            return paint(LINEAR, WIDTH, HEIGHT);
+        } finally {
+            release(LINEAR, GAUGES);
+        }
+    }
+
+    /**
+     * Returns an image of a single lcd display with the given size that
+     * visualizes the value of the given model. Only the lcd related
+     * parameters of the model and the design will be used.
+     * @param MODEL
+     * @param DESIGN
+     * @param UNIT_STRING
+     * @param WIDTH
+     * @param HEIGHT
+     * @return an image of a single lcd display that visualizes the value of the given model
+     */
+    public BufferedImage renderDisplaySingle(final Model MODEL, final DesignSet DESIGN, final String UNIT_STRING, final int WIDTH, final int HEIGHT) {
+        final DisplaySingle DISPLAY = OFFSCREEN_GAUGES.get().getDisplaySingle();
+        final LcdColor LCD_COLOR = DESIGN != null && DESIGN.getLcdColor() != null ? DESIGN.getLcdColor() : MODEL.getLcdColor();
+        // Only call setLcdColor() if needed because it will trigger an init of the display
+        if (DISPLAY.getLcdColor() != LCD_COLOR) {
+            DISPLAY.setLcdColor(LCD_COLOR);
+        }
+        DISPLAY.setLcdDecimals(MODEL.getLcdDecimals());
+        DISPLAY.setLcdUnitString(UNIT_STRING == null ? "" : UNIT_STRING);
+        DISPLAY.setLcdUnitStringVisible(MODEL.isLcdUnitStringVisible() && UNIT_STRING != null);
+        DISPLAY.setLcdValue(MODEL.getValue());
+        DISPLAY.setSize(WIDTH, HEIGHT);
+        return paint(DISPLAY, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Writes the given image as png to the given output stream.
+     * The stream will not be closed.
+     * @param IMAGE
+     * @param OUTPUT_STREAM
+     * @throws IOException
+     */
+    public void writePng(final BufferedImage IMAGE, final OutputStream OUTPUT_STREAM) throws IOException {
+        if (!ImageIO.write(IMAGE, "png", OUTPUT_STREAM)) {
+            throw new IOException("No png writer available");
+        }
+    }
+
+    /**
+     * Applies the given model copy, design, title and unit to the given gauge
+     * @param GAUGE
+     * @param MODEL a copy of the model of the caller that will be changed by the design
+     * @param DESIGN
+     * @param TITLE
+     * @param UNIT_STRING
+     */
+    private void prepare(final AbstractGauge GAUGE, final Model MODEL, final DesignSet DESIGN, final String TITLE, final String UNIT_STRING) {
+        // Avoid re-initialization on every single setter, the final setSize() will init the gauge once
+        GAUGE.setInitialized(false);
+        GAUGE.setModel(MODEL);
+        if (DESIGN != null) {
+            GAUGE.setActiveDesign(DESIGN);
+        }
+        GAUGE.setTitle(TITLE == null ? "" : TITLE);
+        GAUGE.setUnitString(UNIT_STRING == null ? "" : UNIT_STRING);
+    }
+
+    /**
+     * Sets the size of the given gauge and applies everything that depends on
+     * the size (orientation, led images and positions). The component listeners
+     * of the offscreen gauges have been removed, so the resize event has to be
+     * passed explicitly. The gauge will be initialized when it will be painted.
+     * @param GAUGE
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    private void resize(final AbstractGauge GAUGE, final int WIDTH, final int HEIGHT) {
+        GAUGE.setSize(WIDTH, HEIGHT);
+        GAUGE.componentResized(new ComponentEvent(GAUGE, ComponentEvent.COMPONENT_RESIZED));
+    }
+
+    /**
+     * Replaces the rendered model copy of the given gauge, so the offscreen
+     * gauge does not keep it until the next rendering
+     * @param GAUGE
+     * @param GAUGES
+     */
+    private void release(final AbstractGauge GAUGE, final OffscreenGauges GAUGES) {
+        // setModel() will not reinitialize a gauge that is not initialized
+        GAUGE.setInitialized(false);
+        GAUGE.setModel(GAUGES.getDetachedModel());
+    }
+
+    private BufferedImage paint(final JComponent COMPONENT, final int WIDTH, final int HEIGHT) {
+        final BufferedImage IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = IMAGE.createGraphics();
+        // print() paints the component without using the double buffer of the repaint manager
+        COMPONENT.print(G2);
+        G2.dispose();
+        return IMAGE;
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Offscreen gauges">
+    /**
+     * Holds the gauges of one thread. The gauges will only be created
+     * when they are needed for the first time.
+     */
+    private static final class OffscreenGauges {
+        private final Model DETACHED_MODEL = new Model();
+        private Radial radial;
+        private Linear linear;
+        private DisplaySingle displaySingle;
+
+        public Radial getRadial() {
+            if (radial == null) {
+                radial = detach(new Radial());
+            }
+            return radial;
+        }
+
+        public Linear getLinear() {
+            if (linear == null) {
+                linear = detach(new Linear());
+            }
+            return linear;
+        }
+
+        /**
+         * Returns the model that the offscreen gauges use between two renderings
+         * @return the model that the offscreen gauges use between two renderings
+         */
+        public Model getDetachedModel() {
+            return DETACHED_MODEL;
+        }
+
+        public DisplaySingle getDisplaySingle() {
+            if (displaySingle == null) {
+                displaySingle = detach(new DisplaySingle());
+            }
+            return displaySingle;
+        }
+
+        /**
+         * Removes the component listeners because the offscreen gauges
+         * will be initialized by the renderer. Otherwise the resize events
+         * would initialize the gauges a second time on the event dispatch thread.
+         * @param COMPONENT
+         * @return the given component without component listeners
+         */
+        private static <T extends JComponent> T detach(final T COMPONENT) {
+            for (ComponentListener listener : COMPONENT.getComponentListeners()) {
+                COMPONENT.removeComponentListener(listener);
+            }
+            return COMPONENT;
+        }
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "GaugeRenderer";
+    }
+}
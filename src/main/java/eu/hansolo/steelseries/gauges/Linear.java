@@ -137,7 +137,7 @@ public class Linear extends AbstractLinear {
             new Color(1.0f, 1.0f, 1.0f, 0.7f),
             new Color(1.0f, 1.0f, 1.0f, 0.05f),
         };
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     public Linear(final Model MODEL) {
@@ -176,7 +176,7 @@ public class Linear extends AbstractLinear {
             new Color(1.0f, 1.0f, 1.0f, 0.7f),
             new Color(1.0f, 1.0f, 1.0f, 0.05f)
         };
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -719,6 +719,32 @@ public class Linear extends AbstractLinear {
 
     // </editor-fold>
 
+    // <editor-fold defaultstate="collapsed" desc="Repaint related">
+    @Override
+    protected Rectangle getValueRepaintBounds(final double OLD_VALUE, final double NEW_VALUE) {
+        // The min and max measured value indicators are located beside the bar
+        if (isMinMeasuredValueVisible() || isMaxMeasuredValueVisible()) {
+            return getInnerBounds();
+        }
+        final int WIDTH = getInnerBounds().width;
+        final int HEIGHT = getInnerBounds().height;
+        final int OFFSET_X = isFrameVisible() ? getInnerBounds().x : getInnerBounds().x - 17;
+        final int OFFSET_Y = isFrameVisible() ? getInnerBounds().y : getInnerBounds().y - 17;
+        // The bar of the value will always be drawn within the value track (see drawValue())
+        final Rectangle DIRTY_REGION;
+        if (WIDTH < HEIGHT) {
+            // Vertical
+            DIRTY_REGION = new Rectangle((int) (OFFSET_X + WIDTH * 0.4357142857142857), (int) (OFFSET_Y + HEIGHT * 0.12864077669902912), (int) Math.ceil(WIDTH * 0.14285714285714285), (int) Math.ceil(HEIGHT * 0.7281553398));
+        } else {
+            // Horizontal
+            DIRTY_REGION = new Rectangle((int) (OFFSET_X + WIDTH * 0.12864077669902912), (int) (OFFSET_Y + HEIGHT * 0.4357142857142857), (int) Math.ceil(WIDTH * 0.7428571429), (int) Math.ceil(HEIGHT * 0.14285714285714285));
+        }
+        // Take antialiasing and rounding into account
+        DIRTY_REGION.grow(2, 2);
+        return DIRTY_REGION;
+    }
+    // </editor-fold>
+
     // <editor-fold defaultstate="collapsed" desc="Getters and Setters">
     @Override
     public void setValue(double value) {
@@ -734,7 +760,7 @@ public class Linear extends AbstractLinear {
 
     public void setTitleVisible(final boolean TITLE_VISIBLE) {
         getModel().setTitleVisible(TITLE_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -746,7 +772,7 @@ public class Linear extends AbstractLinear {
     @Override
     public void setTickmarksVisible(final boolean TICKMARKS_VISIBLE) {
         getModel().setTickmarksVisible(TICKMARKS_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -756,7 +782,7 @@ public class Linear extends AbstractLinear {
 
     public void setUnitStringVisible(final boolean UNIT_STRING_VISIBLE) {
         getModel().setUnitVisible(UNIT_STRING_VISIBLE);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
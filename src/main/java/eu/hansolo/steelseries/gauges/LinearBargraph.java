@@ -33,6 +33,7 @@ import eu.hansolo.steelseries.tools.Model;
 import eu.hansolo.steelseries.tools.NumberSystem;
 import eu.hansolo.steelseries.tools.Orientation;
 import eu.hansolo.steelseries.tools.Section;
+import eu.hansolo.steelseries.tools.SectionIndex;
 import eu.hansolo.steelseries.tools.Util;
 
 import java.awt.AlphaComposite;
@@ -99,6 +100,12 @@ public class LinearBargraph extends AbstractLinearBargraph {
     private final Point2D VALUE_BORDER_START;
     private final Point2D VALUE_BORDER_STOP;
     private final float[] VALUE_BORDER_FRACTIONS;
+    private BufferedImage ledTrackImage;
+    private final BufferedImage[] LED_STRIP_IMAGES = new BufferedImage[2];
+    private double[] ledOffsets;
+    private Paint[] ledStripPaints;
+    private boolean ledStripSectionsVisible;
+    private final Rectangle2D LED_STRIP_CLIP = new Rectangle2D.Double();
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -138,7 +145,7 @@ public class LinearBargraph extends AbstractLinearBargraph {
             1.0f
         };
         prepareBargraph(getInnerBounds().width, getInnerBounds().height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     public LinearBargraph(final Model MODEL) {
@@ -178,7 +185,7 @@ public class LinearBargraph extends AbstractLinearBargraph {
             1.0f
         };
         prepareBargraph(getInnerBounds().width, getInnerBounds().height);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -550,23 +557,160 @@ public class LinearBargraph extends AbstractLinearBargraph {
         final double BOTTOM; // position of min value
         final double FULL_SIZE;
 
-        // The value background
-        // Orientation dependend definitions
         if (VERTICAL) {
             // Vertical orientation
             TOP = HEIGHT * 0.12864077669902912; // position of max value
             BOTTOM = HEIGHT * 0.8567961165048543; // position of min value
             FULL_SIZE = BOTTOM - TOP;
-
-            VALUE_BACKGROUND_TRACK.setRect(WIDTH * 0.4357142857142857, TOP, WIDTH * 0.14285714285714285, FULL_SIZE);
-            VALUE_BACKGROUND_VERTICAL_START.setLocation(0, VALUE_BACKGROUND_TRACK.getBounds2D().getMinY());
-            VALUE_BACKGROUND_VERTICAL_STOP.setLocation(0, VALUE_BACKGROUND_TRACK.getBounds2D().getMaxY());
         } else {
             // Horizontal orientation
             TOP = WIDTH * 0.8567961165048543; // position of max value
             BOTTOM = WIDTH * 0.12864077669902912; // position of min value
             FULL_SIZE = TOP - BOTTOM;
+        }
+
+        // The value track and all leds are pre-rendered, so the active leds will be
+        // drawn with one clipped drawImage call per strip
+        if (ledTrackImage == null || ledStripSectionsVisible != isSectionsVisible() || ledTrackImage.getWidth() != WIDTH || ledTrackImage.getHeight() != HEIGHT) {
+            createLedStrips(WIDTH, HEIGHT, VERTICAL, FULL_SIZE);
+        }
+
+        // Draw the value track with the inactive leds
+        G2.drawImage(ledTrackImage, 0, 0, null);
+
+        final AffineTransform OLD_TRANSFORM = G2.getTransform();
+        final double ACTIVE_LEDS;
+        if (!isLogScale()){
+            ACTIVE_LEDS = getCoordForValue(getValue(), FULL_SIZE);
+        } else {
+            final double SIZE_FACTOR = FULL_SIZE / (UTIL.logOfBase(BASE, getMaxValue()));
+            ACTIVE_LEDS = SIZE_FACTOR * UTIL.logOfBase(BASE, getValue());
+        }
+
+        if (!getModel().isSingleLedBargraphEnabled()) {
+            // Draw the active leds in dependence on the current value
+            final int ACTIVE_LED_COUNT = getActiveLedCount(ACTIVE_LEDS);
+            if (ACTIVE_LED_COUNT > 0) {
+                final int LAST_ACTIVE_LED = ACTIVE_LED_COUNT - 1;
+                final java.awt.Shape OLD_CLIP = G2.getClip();
+                for (int strip = 0; strip < 2 && strip <= LAST_ACTIVE_LED; strip++) {
+                    final int LAST_STRIP_LED = LAST_ACTIVE_LED - ((LAST_ACTIVE_LED - strip) % 2);
+                    if (LAST_STRIP_LED + 1 < ledOffsets.length) {
+                        // The clip ends in the middle of the next led which is part of the other strip
+                        if (VERTICAL) {
+                            final double CLIP_Y = led.getCenterY() - ledOffsets[LAST_STRIP_LED + 1];
+                            LED_STRIP_CLIP.setRect(0, CLIP_Y, WIDTH, HEIGHT - CLIP_Y);
+                        } else {
+                            LED_STRIP_CLIP.setRect(0, 0, led.getCenterX() + ledOffsets[LAST_STRIP_LED + 1], HEIGHT);
+                        }
+                        G2.clip(LED_STRIP_CLIP);
+                    }
+                    G2.drawImage(LED_STRIP_IMAGES[strip], 0, 0, null);
+                    G2.setClip(OLD_CLIP);
+                }
+                G2.setPaint(ledStripPaints[LAST_ACTIVE_LED]);
+            } else {
+                G2.setPaint(isSectionsVisible() ? ledInactiveGradient : ledGradient);
+            }
+        } else {
+            // Draw only single led in bargraph
+            G2.setPaint(isSectionsVisible() ? ledInactiveGradient : ledGradient);
+            if (isSectionsVisible()) {
+                final Section ACTIVE_SECTION = getModel().getSectionIndex().getSectionAt(getValue());
+                if (ACTIVE_SECTION != null && sectionGradients.containsKey(ACTIVE_SECTION)) {
+                    G2.setPaint(sectionGradients.get(ACTIVE_SECTION));
+                }
+            }
+            if (VERTICAL) {
+                G2.translate(0, getCoordForValue(getValue(), FULL_SIZE));
+            } else {
+                G2.translate(getCoordForValue(getValue(), FULL_SIZE), 0);
+            }
+            G2.fill(led);
+            G2.setTransform(OLD_TRANSFORM);
+        }
+
+        // Draw peak value if enabled
+        if (isPeakValueEnabled() && isPeakValueVisible()) {
+            if (VERTICAL) {
+                G2.translate(0, -getCoordForValue(getPeakValue(), FULL_SIZE));
+            } else {
+                G2.translate(getCoordForValue(getPeakValue(), FULL_SIZE), 0);
+            }
+            G2.fill(led);
+            G2.setTransform(OLD_TRANSFORM);
+        }
+    }
 
+    /**
+     * Returns the number of leds that are active for the given position on the
+     * value track by a binary search over the led offsets.
+     * @param ACTIVE_LEDS
+     * @return the number of leds that are active for the given position
+     */
+    private int getActiveLedCount(final double ACTIVE_LEDS) {
+        int low = 0;
+        int high = ledOffsets.length;
+        while (low < high) {
+            final int MID = (low + high) >>> 1;
+            if (Double.compare(ledOffsets[MID], ACTIVE_LEDS) <= 0) {
+                low = MID + 1;
+            } else {
+                high = MID;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Renders the value track with the inactive leds and all leds of the bargraph
+     * in their active colors (including the section colors). The even and the odd
+     * leds are rendered into two separate strips, so that a strip can be clipped in
+     * the middle of a led of the other strip without cutting the antialiased edges.
+     * @param WIDTH
+     * @param HEIGHT
+     * @param VERTICAL
+     * @param FULL_SIZE
+     */
+    private void createLedStrips(final int WIDTH, final int HEIGHT, final boolean VERTICAL, final double FULL_SIZE) {
+        ledStripSectionsVisible = isSectionsVisible();
+
+        // The offsets of the leds are accumulated exactly like the leds were placed before
+        final double INACTIVE_LEDS = getCoordForValue(getMaxValue(), FULL_SIZE);
+        final double LED_START = VERTICAL ? 0 : -(led.getWidth() / 2);
+        final double LED_STEP = VERTICAL ? led.getHeight() + 1 : led.getWidth() + 1;
+        int ledCount = 0;
+        for (double translate = LED_START; Double.compare(translate, INACTIVE_LEDS) <= 0; translate += LED_STEP) {
+            ledCount++;
+        }
+        ledOffsets = new double[ledCount];
+        ledStripPaints = new Paint[ledCount];
+        double translate = LED_START;
+        for (int i = 0; i < ledCount; i++) {
+            ledOffsets[i] = translate;
+            translate += LED_STEP;
+        }
+
+        if (ledTrackImage != null) {
+            ledTrackImage.flush();
+        }
+        ledTrackImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = ledTrackImage.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+
+        // The value background
+        if (VERTICAL) {
+            // Vertical orientation
+            final double TOP = HEIGHT * 0.12864077669902912; // position of max value
+            VALUE_BACKGROUND_TRACK.setRect(WIDTH * 0.4357142857142857, TOP, WIDTH * 0.14285714285714285, FULL_SIZE);
+            VALUE_BACKGROUND_VERTICAL_START.setLocation(0, VALUE_BACKGROUND_TRACK.getBounds2D().getMinY());
+            VALUE_BACKGROUND_VERTICAL_STOP.setLocation(0, VALUE_BACKGROUND_TRACK.getBounds2D().getMaxY());
+        } else {
+            // Horizontal orientation
+            final double TOP = WIDTH * 0.8567961165048543; // position of max value
+            final double BOTTOM = WIDTH * 0.12864077669902912; // position of min value
             VALUE_BACKGROUND_TRACK.setRect(WIDTH * 0.14285714285714285, HEIGHT * 0.4357142857142857, FULL_SIZE, HEIGHT * 0.14285714285714285);
             VALUE_BACKGROUND_VERTICAL_START.setLocation(TOP, 0);
             VALUE_BACKGROUND_VERTICAL_STOP.setLocation(BOTTOM, 0);
@@ -586,6 +730,7 @@ public class LinearBargraph extends AbstractLinearBargraph {
         // Value track border
         if (VERTICAL) {
             // Vertical orientation
+            final double TOP = HEIGHT * 0.12864077669902912; // position of max value
             VALUE_LEFT_BORDER.setRect(WIDTH * 0.4357142857142857, TOP - (led.getHeight() / 2), WIDTH * 0.007142857142857143, FULL_SIZE + led.getHeight());
             VALUE_RIGHT_BORDER.setRect(WIDTH * 0.5714285714285714, TOP - (led.getHeight() / 2), WIDTH * 0.007142857142857143, FULL_SIZE + led.getHeight());
             VALUE_BORDER_START.setLocation(0, VALUE_LEFT_BORDER.getBounds2D().getMinY());
@@ -609,131 +754,69 @@ public class LinearBargraph extends AbstractLinearBargraph {
         G2.fill(VALUE_LEFT_BORDER);
         G2.fill(VALUE_RIGHT_BORDER);
 
-        if (VERTICAL) {
-            // Vertical orientation
-
-            // Draw the inactive leds
-            final AffineTransform OLD_TRANSFORM = G2.getTransform();
-            G2.setPaint(ledInactiveGradient);
-            final double INACTIVE_LEDS = getCoordForValue(getMaxValue(), FULL_SIZE);
-            for (double translateY = 0; Double.compare(translateY, INACTIVE_LEDS) <= 0; translateY += led.getHeight() + 1) {
-                G2.translate(0, -translateY);
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
-            }
-
-            // Draw the active leds in dependence on the current value
-            if (!isSectionsVisible()) {
-                G2.setPaint(ledGradient);
-            }
-
-            final double ACTIVE_LEDS;
-            if (!isLogScale()){
-                ACTIVE_LEDS = getCoordForValue(getValue(), FULL_SIZE);
+        // Draw the inactive leds
+        final AffineTransform OLD_TRANSFORM = G2.getTransform();
+        G2.setPaint(ledInactiveGradient);
+        for (int i = 0; i < ledCount; i++) {
+            if (VERTICAL) {
+                G2.translate(0, -ledOffsets[i]);
             } else {
-                double SIZE_FACTOR = Math.abs(TOP - BOTTOM) / (UTIL.logOfBase(BASE, getMaxValue()));
-                ACTIVE_LEDS = (SIZE_FACTOR * UTIL.logOfBase(BASE, getValue()));
-            }
-
-            if (!getModel().isSingleLedBargraphEnabled()) {
-                for (double translateY = 0; Double.compare(translateY, ACTIVE_LEDS) <= 0; translateY += led.getHeight() + 1) {
-                    // If sections visible, color the bargraph with the given section colors
-                    G2.setPaint(ledGradient);
-                    if (isSectionsVisible()) {
-                        for (Section section : getSections()) {
-                            if (translateY >= sectionOffsets.get(section).getX() && translateY < sectionOffsets.get(section).getY()) {
-                                G2.setPaint(sectionGradients.get(section));
-                                break;
-                            }
-                        }
-                    }
-                    G2.translate(0, -translateY);
-                    G2.fill(led);
-                    G2.setTransform(OLD_TRANSFORM);
-                }
-            } else { // Draw only single led in bargraph
-                final double TRANSLATE_Y = -getCoordForValue(getValue(), FULL_SIZE);
-                if (isSectionsVisible()) {
-                    for (Section section : getSections()) {
-                        if (TRANSLATE_Y >= sectionOffsets.get(section).getX() && TRANSLATE_Y < sectionOffsets.get(section).getY()) {
-                            G2.setPaint(sectionGradients.get(section));
-                        }
-                    }
-                }
-                G2.translate(0, -TRANSLATE_Y);
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
-            }
-
-            // Draw peak value if enabled
-            if (isPeakValueEnabled() && isPeakValueVisible()) {
-                G2.translate(0, -getCoordForValue(getPeakValue(), FULL_SIZE));
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
-            }
-        } else {
-            // Horizontal orientation
-
-            // Draw the inactive leds
-            final AffineTransform OLD_TRANSFORM = G2.getTransform();
-            G2.setPaint(ledInactiveGradient);
-            final double INACTIVE_LEDS = getCoordForValue(getMaxValue(), FULL_SIZE);
-            for (double translateX = -(led.getWidth() / 2); Double.compare(translateX, INACTIVE_LEDS) <= 0; translateX += led.getWidth() + 1) {
-                G2.translate(translateX, 0);
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
-            }
-
-            // Draw the active leds in dependence on the current value
-            if (!isSectionsVisible()) {
-                G2.setPaint(ledGradient);
+                G2.translate(ledOffsets[i], 0);
             }
+            G2.fill(led);
+            G2.setTransform(OLD_TRANSFORM);
+        }
+        G2.dispose();
 
-            final double ACTIVE_LEDS;
-            if (!isLogScale()){
-                ACTIVE_LEDS = getCoordForValue(getValue(), FULL_SIZE);
-            } else {
-                final double SIZE_FACTOR = FULL_SIZE / (UTIL.logOfBase(BASE, getMaxValue()));
-                ACTIVE_LEDS = SIZE_FACTOR * UTIL.logOfBase(BASE, getValue());
+        // Draw the active leds into the strips
+        final Graphics2D[] STRIPS = new Graphics2D[2];
+        for (int strip = 0; strip < 2; strip++) {
+            if (LED_STRIP_IMAGES[strip] != null) {
+                LED_STRIP_IMAGES[strip].flush();
             }
-
-            if (!getModel().isSingleLedBargraphEnabled()) {
-                for (double translateX = -(led.getWidth() / 2); Double.compare(translateX, ACTIVE_LEDS) <= 0; translateX += led.getWidth() + 1) {
-                    // If sections visible, color the bargraph with the given section colors
-                    G2.setPaint(ledGradient);
-                    if (isSectionsVisible()) {
-                        for (Section section : getSections()) {
-                            if (translateX + (led.getWidth() / 2) >= sectionOffsets.get(section).getX() && translateX + (led.getWidth() / 2) < sectionOffsets.get(section).getY()) {
-                                G2.setPaint(sectionGradients.get(section));
-                            }
-                        }
+            LED_STRIP_IMAGES[strip] = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+            STRIPS[strip] = LED_STRIP_IMAGES[strip].createGraphics();
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+        }
+        final SectionIndex SECTION_INDEX = getModel().getSectionIndex();
+        // Value range of one led, used to look up the sections that could contain a led
+        final double LED_RANGE = Math.abs(LED_STEP / FULL_SIZE * (getMaxValue() - getMinValue()));
+        for (int i = 0; i < ledCount; i++) {
+            // If sections visible, color the bargraph with the given section colors
+            ledStripPaints[i] = ledGradient;
+            if (ledStripSectionsVisible) {
+                final double LED_VALUE = getMinValue() + (VERTICAL ? ledOffsets[i] : ledOffsets[i] + (led.getWidth() / 2)) / FULL_SIZE * (getMaxValue() - getMinValue());
+                for (Section section : SECTION_INDEX.getSections(LED_VALUE - LED_RANGE, LED_VALUE + LED_RANGE)) {
+                    final Point2D SECTION_OFFSETS = sectionOffsets.get(section);
+                    if (SECTION_OFFSETS == null) {
+                        continue;
                     }
-
-                    G2.translate(translateX, 0);
-                    G2.fill(led);
-                    G2.setTransform(OLD_TRANSFORM);
-                }
-            } else {   // Draw only one led
-                final double TRANSLATE_X = getCoordForValue(getValue(), FULL_SIZE);
-                if (isSectionsVisible()) {
-                    for (Section section : getSections()) {
-                        if (TRANSLATE_X + (led.getWidth() / 2) >= sectionOffsets.get(section).getX() && TRANSLATE_X + (led.getWidth() / 2) < sectionOffsets.get(section).getY()) {
-                            G2.setPaint(sectionGradients.get(section));
+                    if (VERTICAL) {
+                        if (ledOffsets[i] >= SECTION_OFFSETS.getX() && ledOffsets[i] < SECTION_OFFSETS.getY()) {
+                            ledStripPaints[i] = sectionGradients.get(section);
+                            break;
+                        }
+                    } else {
+                        if (ledOffsets[i] + (led.getWidth() / 2) >= SECTION_OFFSETS.getX() && ledOffsets[i] + (led.getWidth() / 2) < SECTION_OFFSETS.getY()) {
+                            ledStripPaints[i] = sectionGradients.get(section);
                         }
                     }
                 }
-                G2.translate(TRANSLATE_X, 0);
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
             }
-
-            // Draw peak value if enabled
-            if (isPeakValueEnabled() && isPeakValueVisible()) {
-                G2.translate(getCoordForValue(getPeakValue(), FULL_SIZE), 0);
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
+            final Graphics2D STRIP = STRIPS[i % 2];
+            if (VERTICAL) {
+                STRIP.translate(0, -ledOffsets[i]);
+            } else {
+                STRIP.translate(ledOffsets[i], 0);
             }
+            STRIP.setPaint(ledStripPaints[i]);
+            STRIP.fill(led);
+            STRIP.setTransform(OLD_TRANSFORM);
         }
+        STRIPS[0].dispose();
+        STRIPS[1].dispose();
     }
     // </editor-fold>
 
@@ -754,7 +837,7 @@ public class LinearBargraph extends AbstractLinearBargraph {
     @Override
     public void setBarGraphColor(final ColorDef BARGRAPH_COLOR) {
         this.barGraphColor = BARGRAPH_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -825,6 +908,7 @@ public class LinearBargraph extends AbstractLinearBargraph {
             ledGradient = new RadialGradientPaint(ledCenter, (float) (0.030373831775700934 * HEIGHT), LED_FRACTIONS, ledColors);
             ledInactiveGradient = new RadialGradientPaint(ledCenter, (float) (0.030373831775700934 * HEIGHT), LED_FRACTIONS, LED_INACTIVE_COLORS);
         }
+        ledTrackImage = null;
     }
 
     public boolean isTitleVisible() {
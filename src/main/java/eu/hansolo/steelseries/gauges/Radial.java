@@ -27,11 +27,19 @@
  */
 package eu.hansolo.steelseries.gauges;
 
+import eu.hansolo.steelseries.tools.ColorDef;
 import eu.hansolo.steelseries.tools.GaugeType;
+import eu.hansolo.steelseries.tools.ImageCacheKey;
+import eu.hansolo.steelseries.tools.Layer;
+import eu.hansolo.steelseries.tools.LayerStack;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.LcdGlyphCache;
+import eu.hansolo.steelseries.tools.LcdValueFormatter;
 import eu.hansolo.steelseries.tools.Model;
 import eu.hansolo.steelseries.tools.NumberSystem;
 import eu.hansolo.steelseries.tools.Orientation;
+import eu.hansolo.steelseries.tools.PointerSpriteCache;
+import eu.hansolo.steelseries.tools.PointerSprites;
 import eu.hansolo.steelseries.tools.PostPosition;
 import eu.hansolo.steelseries.tools.Section;
 import eu.hansolo.steelseries.tools.Util;
@@ -47,7 +55,6 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Transparency;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Arc2D;
 import java.awt.geom.Area;
@@ -55,6 +62,8 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 /**
@@ -64,12 +73,18 @@ import java.awt.image.BufferedImage;
 public class Radial extends AbstractRadial {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
     private static final int BASE = 10;
+    private static final PointerSpriteCache SPRITE_CACHE = PointerSpriteCache.INSTANCE;
     private BufferedImage bImage;
     private BufferedImage fImage;
     private BufferedImage glowImageOff;
     private BufferedImage glowImageOn;
     private BufferedImage pointerImage;
     private BufferedImage pointerShadowImage;
+    private Rectangle pointerBounds;
+    private Rectangle pointerShadowBounds;
+    private boolean pointerSpritesEnabled;
+    private PointerSprites pointerSprites;
+    private PointerSprites pointerShadowSprites;
     private BufferedImage thresholdImage;
     private BufferedImage minMeasuredImage;
     private BufferedImage maxMeasuredImage;
@@ -84,24 +99,361 @@ public class Radial extends AbstractRadial {
     private RadialGradientPaint area3DEffect;
     private final Point2D TRACK_OFFSET = new Point2D.Double();
     private final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
-    private TextLayout unitLayout;
+    private final LcdGlyphCache GLYPH_CACHE = LcdGlyphCache.INSTANCE;
+    private final char[] LCD_TEXT = new char[LcdValueFormatter.MAX_LENGTH];
     private final Rectangle2D UNIT_BOUNDARY = new Rectangle2D.Double();
     private double unitStringWidth;
-    private TextLayout valueLayout;
     private final Rectangle2D VALUE_BOUNDARY = new Rectangle2D.Double();
-    private TextLayout infoLayout;
     private final Rectangle2D INFO_BOUNDARY = new Rectangle2D.Double();
     private Area areaOfMeasuredValues;
     private Area lcdArea;
     // </editor-fold>
 
+    // <editor-fold defaultstate="collapsed" desc="Layers">
+    private final Layer FRAME_LAYER = new Layer("frame") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isFrameVisible(), getFrameType(), getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), FRAME_FACTORY.getOuterFrameColor(), FRAME_FACTORY.getInnerFrameColor()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (!isFrameVisible()) {
+                return null;
+            }
+            switch (getFrameType()) {
+                case SQUARE:
+                    return FRAME_FACTORY.createLinearFrame(WIDTH, WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), null);
+                case ROUND:
+
+                default:
+                    return FRAME_FACTORY.createRadialFrame(WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), null);
+            }
+        }
+    };
+
+    private final Layer BACKGROUND_LAYER = new Layer("background") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isBackgroundVisible(), getFrameType(), getBackgroundColor(), getModel().getCustomBackground(), getModel().getTextureColor(), isCustomLayerVisible(), getCustomLayer()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (!isBackgroundVisible()) {
+                return null;
+            }
+            if (isCustomLayerVisible()) {
+                return create_BACKGROUND_Image(WIDTH, "", "", UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT));
+            }
+            // Without custom layer the background is the shared image from the cache
+            switch (getFrameType()) {
+                case SQUARE:
+                    return BACKGROUND_FACTORY.createLinearBackground(WIDTH, WIDTH, getBackgroundColor(), getModel().getCustomBackground(), getModel().getTextureColor(), null);
+                case ROUND:
+
+                default:
+                    return BACKGROUND_FACTORY.createRadialBackground(WIDTH, getBackgroundColor(), getModel().getCustomBackground(), getModel().getTextureColor(), null);
+            }
+        }
+    };
+
+    private final Layer TRACK_LAYER = new Layer("track") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isTrackVisible(), getFreeAreaAngle(), getTickmarkOffset(), getMinValue(), getMaxValue(), getAngleStep(), getTrackStart(), getTrackSection(), getTrackStop(), getTrackStartColor(), getTrackSectionColor(), getTrackStopColor(), CENTER.getX(), CENTER.getY(), getTickmarkDirection()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            TRACK_OFFSET.setLocation(0, 0);
+            if (!isTrackVisible()) {
+                return null;
+            }
+            return create_TRACK_Image(WIDTH, getFreeAreaAngle(), getTickmarkOffset(), getMinValue(), getMaxValue(), getAngleStep(), getTrackStart(), getTrackSection(), getTrackStop(), getTrackStartColor(), getTrackSectionColor(), getTrackStopColor(), 0.38f, CENTER, getTickmarkDirection(), TRACK_OFFSET, UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT));
+        }
+    };
+
+    private final Layer AREAS_LAYER = new Layer("areas") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{Layer.getSectionValues(getAreas()), isAreasVisible(), isTransparentAreasEnabled(), area3DEffectVisible, isSectionsVisible(), isExpandedSectionsEnabled(), isLogScale(), getMinValue(), getMaxValue(), getModel().getAngleRange(), getModel().getOriginCorrection()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (getAreas().isEmpty()) {
+                return null;
+            }
+            // Create the areas 3d effect gradient overlay
+            if (area3DEffectVisible) {
+                area3DEffect = createArea3DEffectGradient(WIDTH, 0.38f);
+            }
+            final BufferedImage IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+            createAreas(IMAGE);
+            return IMAGE;
+        }
+    };
+
+    private final Layer SECTIONS_LAYER = new Layer("sections") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{Layer.getSectionValues(getSections()), isSectionsVisible(), isTransparentSectionsEnabled(), section3DEffectVisible, isExpandedSectionsEnabled(), isLogScale(), getMinValue(), getMaxValue(), getModel().getApexAngle(), getModel().getOriginCorrection()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (getSections().isEmpty()) {
+                return null;
+            }
+            // Create the sections 3d effect gradient overlay
+            if (section3DEffectVisible) {
+                section3DEffect = createSection3DEffectGradient(WIDTH, 0.38f);
+            }
+            final BufferedImage IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+            createSections(IMAGE);
+            return IMAGE;
+        }
+    };
+
+    private final Layer TICKMARKS_LAYER = new Layer("tickmarks") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getModel().getNiceMinValue(), getModel().getNiceMaxValue(), getModel().getMaxNoOfMinorTicks(), getModel().getMaxNoOfMajorTicks(),
+                                getModel().getMinorTickSpacing(), getModel().getMajorTickSpacing(), getGaugeType(), getCustomGaugeType(), getMinorTickmarkType(),
+                                getMajorTickmarkType(), isTickmarksVisible(), isTicklabelsVisible(), getModel().isMinorTickmarksVisible(), getModel().isMajorTickmarksVisible(),
+                                getLabelNumberFormat(), isTickmarkSectionsVisible(), getBackgroundColor(), getTickmarkColor(), isTickmarkColorFromThemeEnabled(),
+                                Layer.getSectionValues(getTickmarkSections()), isSectionTickmarksOnly(), Layer.getSectionValues(getSections()), CENTER.getX(), CENTER.getY(),
+                                getModel().getTicklabelOrientation(), getModel().isNiceScale(), getModel().isLogScale()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return TICKMARK_FACTORY.create_RADIAL_TICKMARKS_Image(WIDTH,
+                                                                  getModel().getNiceMinValue(),
+                                                                  getModel().getNiceMaxValue(),
+                                                                  getModel().getMaxNoOfMinorTicks(),
+                                                                  getModel().getMaxNoOfMajorTicks(),
+                                                                  getModel().getMinorTickSpacing(),
+                                                                  getModel().getMajorTickSpacing(),
+                                                                  getGaugeType(),
+                                                                  getCustomGaugeType(),
+                                                                  getMinorTickmarkType(),
+                                                                  getMajorTickmarkType(),
+                                                                  isTickmarksVisible(),
+                                                                  isTicklabelsVisible(),
+                                                                  getModel().isMinorTickmarksVisible(),
+                                                                  getModel().isMajorTickmarksVisible(),
+                                                                  getLabelNumberFormat(),
+                                                                  isTickmarkSectionsVisible(),
+                                                                  getBackgroundColor(),
+                                                                  getTickmarkColor(),
+                                                                  isTickmarkColorFromThemeEnabled(),
+                                                                  getTickmarkSections(),
+                                                                  isSectionTickmarksOnly(),
+                                                                  getSections(),
+                                                                  0.38f,
+                                                                  0.09f,
+                                                                  CENTER,
+                                                                  new Point2D.Double(0, 0),
+                                                                  Orientation.NORTH,
+                                                                  getModel().getTicklabelOrientation(),
+                                                                  getModel().isNiceScale(),
+                                                                  getModel().isLogScale(),
+                                                                  null);
+        }
+    };
+
+    private final Layer TITLE_LAYER = new Layer("title") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getTitle(), getUnitString(), isLabelColorFromThemeEnabled(), getBackgroundColor(), getLabelColor(), isTitleAndUnitFontEnabled(), getTitleAndUnitFont()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (getTitle().isEmpty() && getUnitString().isEmpty()) {
+                return null;
+            }
+            return create_TITLE_Image(WIDTH, getTitle(), getUnitString(), UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT));
+        }
+    };
+
+    private final Layer LCD_LAYER = new Layer("lcd") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isLcdVisible(), isLcdBackgroundVisible(), LCD.getX(), LCD.getY(), LCD.getWidth(), LCD.getHeight(), getLcdColor(), getCustomLcdBackground()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (!isLcdVisible() || !isLcdBackgroundVisible()) {
+                return null;
+            }
+            return createLcdImage(LCD, getLcdColor(), getCustomLcdBackground(), UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT));
+        }
+    };
+
+    private final Layer POSTS_LAYER = new Layer("posts") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getPostsVisible(), getModel().getPostPosition().clone(), getKnobType(), getModel().getKnobStyle(), getOrientation()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (getPostsVisible()) {
+                return createPostsImage(WIDTH, null, getModel().getPostPosition());
+            } else {
+                return createPostsImage(WIDTH, null, new PostPosition[]{PostPosition.CENTER});
+            }
+        }
+    };
+
+    private final Layer FOREGROUND_LAYER = new Layer("foreground") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isForegroundVisible(), getFrameType(), getForegroundType()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            if (!isForegroundVisible()) {
+                return null;
+            }
+            switch (getFrameType()) {
+                case SQUARE:
+                    return FOREGROUND_FACTORY.createLinearForeground(WIDTH, WIDTH, false, null);
+                case ROUND:
+
+                default:
+                    return FOREGROUND_FACTORY.createRadialForeground(WIDTH, false, getForegroundType(), null);
+            }
+        }
+    };
+
+    private final Layer GLOW_OFF_LAYER = new Layer("glowOff") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isGlowVisible(), getGlowColor(), getGaugeType(), getOrientation()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return isGlowVisible() ? create_GLOW_Image(WIDTH, getGlowColor(), false, getGaugeType(), true, getOrientation()) : null;
+        }
+    };
+
+    private final Layer GLOW_ON_LAYER = new Layer("glowOn") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isGlowVisible(), getGlowColor(), getGaugeType(), getOrientation()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return isGlowVisible() ? create_GLOW_Image(WIDTH, getGlowColor(), true, getGaugeType(), true, getOrientation()) : null;
+        }
+    };
+
+    private final Layer LCD_THRESHOLD_LAYER = new Layer("lcdThreshold") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{isLcdVisible(), LCD.getHeight(), getLcdColor()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return isLcdVisible() ? create_LCD_THRESHOLD_Image((int) (LCD.getHeight() * 0.2045454545), (int) (LCD.getHeight() * 0.2045454545), getLcdColor().TEXT_COLOR) : null;
+        }
+    };
+
+    private final Layer POINTER_LAYER = new Layer("pointer") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getPointerType(), getPointerColor(), getPointerColor() == ColorDef.CUSTOM ? getModel().getCustomPointerColorObject() : null, getBackgroundColor()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return create_POINTER_Image(WIDTH, getPointerType());
+        }
+    };
+
+    private final Layer POINTER_SHADOW_LAYER = new Layer("pointerShadow") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getModel().isPointerShadowVisible(), getPointerType()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return getModel().isPointerShadowVisible() ? create_POINTER_SHADOW_Image(WIDTH, getPointerType()) : null;
+        }
+    };
+
+    private final Layer THRESHOLD_LAYER = new Layer("threshold") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[]{getThresholdColor(), getThresholdType()};
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return create_THRESHOLD_Image(WIDTH);
+        }
+    };
+
+    private final Layer MIN_MEASURED_LAYER = new Layer("minMeasured") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[0];
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return create_MEASURED_VALUE_Image(WIDTH, new Color(0, 23, 252, 255));
+        }
+    };
+
+    private final Layer MAX_MEASURED_LAYER = new Layer("maxMeasured") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[0];
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return create_MEASURED_VALUE_Image(WIDTH, new Color(252, 29, 0, 255));
+        }
+    };
+
+    private final Layer DISABLED_LAYER = new Layer("disabled") {
+        @Override
+        protected Object[] getDependencies() {
+            return new Object[0];
+        }
+
+        @Override
+        protected BufferedImage render(final int WIDTH, final int HEIGHT) {
+            return create_DISABLED_Image(WIDTH);
+        }
+    };
+
+    // Frame, background, scale and lcd will be combined into bImage, posts and glass into fImage
+    private final LayerStack BACKGROUND_LAYERS = new LayerStack(FRAME_LAYER, BACKGROUND_LAYER, TRACK_LAYER, AREAS_LAYER, SECTIONS_LAYER, TICKMARKS_LAYER, TITLE_LAYER, LCD_LAYER);
+    private final LayerStack FOREGROUND_LAYERS = new LayerStack(POSTS_LAYER, FOREGROUND_LAYER);
+    // The indicators will be drawn separately (rotated, blinking etc.) and are never combined
+    private final LayerStack INDICATOR_LAYERS = new LayerStack(GLOW_OFF_LAYER, GLOW_ON_LAYER, LCD_THRESHOLD_LAYER, POINTER_LAYER, POINTER_SHADOW_LAYER, THRESHOLD_LAYER, MIN_MEASURED_LAYER, MAX_MEASURED_LAYER, DISABLED_LAYER);
+    // </editor-fold>
+
     // <editor-fold defaultstate="collapsed" desc="Constructor">
     public Radial() {
         super();
         angle = 0;
         section3DEffectVisible = false;
         area3DEffectVisible = false;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     public Radial(final Model MODEL) {
@@ -112,7 +464,7 @@ public class Radial extends AbstractRadial {
         area3DEffectVisible = false;
         areaOfMeasuredValues = new Area();
         lcdArea = new Area();
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -149,162 +501,61 @@ public class Radial extends AbstractRadial {
 
             setLcdInfoFont(getModel().getStandardInfoFont().deriveFont(0.15f * GAUGE_WIDTH * 0.15f));
         }
-        // Create Background Image
-        if (bImage != null) {
-            bImage.flush();
-        }
-        bImage = UTIL.createImage(GAUGE_WIDTH, GAUGE_WIDTH, Transparency.TRANSLUCENT);
-
-        // Create Foreground Image
-        if (fImage != null) {
-            fImage.flush();
-        }
-        fImage = UTIL.createImage(GAUGE_WIDTH, GAUGE_WIDTH, Transparency.TRANSLUCENT);
-
-        if (isFrameVisible()) {
-            switch (getFrameType()) {
-                case ROUND:
-                    FRAME_FACTORY.createRadialFrame(GAUGE_WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), bImage);
-                    break;
-                case SQUARE:
-                    FRAME_FACTORY.createLinearFrame(GAUGE_WIDTH, GAUGE_WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), bImage);
-                    break;
-                default:
-                    FRAME_FACTORY.createRadialFrame(GAUGE_WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), bImage);
-                    break;
-            }
-        }
-
-        if (isBackgroundVisible()) {
-            create_BACKGROUND_Image(GAUGE_WIDTH, "", "", bImage);
-        }
 
-        if (isGlowVisible()) {
-            if (glowImageOff != null) {
-                glowImageOff.flush();
-            }
-            glowImageOff = create_GLOW_Image(GAUGE_WIDTH, getGlowColor(), false, getGaugeType(), true, getOrientation());
-            if (glowImageOn != null) {
-                glowImageOn.flush();
-            }
-            glowImageOn = create_GLOW_Image(GAUGE_WIDTH, getGlowColor(), true, getGaugeType(), true, getOrientation());
-        } else {
+        if (!isGlowVisible()) {
             setGlowPulsating(false);
         }
 
-        if (getPostsVisible()) {
-            createPostsImage(GAUGE_WIDTH, fImage, getModel().getPostPosition());
-        } else {
-            createPostsImage(GAUGE_WIDTH, fImage, new PostPosition[]{PostPosition.CENTER});
+        if (isLcdVisible()) {
+            LCD.setRect(((getGaugeBounds().width - GAUGE_WIDTH * getModel().getLcdFactors().getX()) / 2.0), (getGaugeBounds().height * getModel().getLcdFactors().getY()), GAUGE_WIDTH * getModel().getLcdFactors().getWidth(), GAUGE_WIDTH * getModel().getLcdFactors().getHeight());
+            lcdArea = new Area(LCD);
         }
 
-        TRACK_OFFSET.setLocation(0, 0);
-
-        if (isTrackVisible()) {
-            create_TRACK_Image(GAUGE_WIDTH, getFreeAreaAngle(), getTickmarkOffset(), getMinValue(), getMaxValue(), getAngleStep(), getTrackStart(), getTrackSection(), getTrackStop(), getTrackStartColor(), getTrackSectionColor(), getTrackStopColor(), 0.38f, CENTER, getTickmarkDirection(), TRACK_OFFSET, bImage);
-        }
+        // The shapes are needed for highlighting even if the layers will be taken from the cache
+        createAreaShapes(GAUGE_WIDTH);
+        createSectionShapes(GAUGE_WIDTH);
 
-        // Create areas if not empty
-        if (!getAreas().isEmpty()) {
-            // Create the sections 3d effect gradient overlay
-            if (area3DEffectVisible) {
-                area3DEffect = createArea3DEffectGradient(GAUGE_WIDTH, 0.38f);
-            }
-            createAreas(bImage);
-        }
+        // Only the layers with changed properties will be rendered again
+        BACKGROUND_LAYERS.update(GAUGE_WIDTH, GAUGE_WIDTH);
+        bImage = BACKGROUND_LAYERS.getComposite();
 
-        // Create sections if not empty
-        if (!getSections().isEmpty()) {
-            // Create the sections 3d effect gradient overlay
-            if (section3DEffectVisible) {
-                section3DEffect = createSection3DEffectGradient(GAUGE_WIDTH, 0.38f);
-            }
-            createSections(bImage);
-        }
-
-        TICKMARK_FACTORY.create_RADIAL_TICKMARKS_Image(GAUGE_WIDTH,
-                                                       getModel().getNiceMinValue(),
-                                                       getModel().getNiceMaxValue(),
-                                                       getModel().getMaxNoOfMinorTicks(),
-                                                       getModel().getMaxNoOfMajorTicks(),
-                                                       getModel().getMinorTickSpacing(),
-                                                       getModel().getMajorTickSpacing(),
-                                                       getGaugeType(),
-                                                       getCustomGaugeType(),
-                                                       getMinorTickmarkType(),
-                                                       getMajorTickmarkType(),
-                                                       isTickmarksVisible(),
-                                                       isTicklabelsVisible(),
-                                                       getModel().isMinorTickmarksVisible(),
-                                                       getModel().isMajorTickmarksVisible(),
-                                                       getLabelNumberFormat(),
-                                                       isTickmarkSectionsVisible(),
-                                                       getBackgroundColor(),
-                                                       getTickmarkColor(),
-                                                       isTickmarkColorFromThemeEnabled(),
-                                                       getTickmarkSections(),
-                                                       isSectionTickmarksOnly(),
-                                                       getSections(),
-                                                       0.38f,
-                                                       0.09f,
-                                                       CENTER,
-                                                       new Point2D.Double(0, 0),
-                                                       Orientation.NORTH,
-                                                       getModel().getTicklabelOrientation(),
-                                                       getModel().isNiceScale(),
-                                                       getModel().isLogScale(),
-                                                       bImage);
-
-        create_TITLE_Image(GAUGE_WIDTH, getTitle(), getUnitString(), bImage);
+        FOREGROUND_LAYERS.update(GAUGE_WIDTH, GAUGE_WIDTH);
+        fImage = FOREGROUND_LAYERS.getComposite();
 
-        if (isLcdVisible()) {
-            if (isLcdBackgroundVisible()) {
-            createLcdImage(new Rectangle2D.Double(((getGaugeBounds().width - GAUGE_WIDTH * getModel().getLcdFactors().getX()) / 2.0),
-                             (getGaugeBounds().height * getModel().getLcdFactors().getY()),
-                             (GAUGE_WIDTH * getModel().getLcdFactors().getWidth()),
-                             (GAUGE_WIDTH * getModel().getLcdFactors().getHeight())),
-                             getLcdColor(),
-                             getCustomLcdBackground(),
-                             bImage);
-            }
-            LCD.setRect(((getGaugeBounds().width - GAUGE_WIDTH * getModel().getLcdFactors().getX()) / 2.0), (getGaugeBounds().height * getModel().getLcdFactors().getY()), GAUGE_WIDTH * getModel().getLcdFactors().getWidth(), GAUGE_WIDTH * getModel().getLcdFactors().getHeight());
-            lcdArea = new Area(LCD);
+        INDICATOR_LAYERS.update(GAUGE_WIDTH, GAUGE_WIDTH);
+        glowImageOff = GLOW_OFF_LAYER.getImage();
+        glowImageOn = GLOW_ON_LAYER.getImage();
+        lcdThresholdImage = LCD_THRESHOLD_LAYER.getImage();
 
-            // Create the lcd threshold indicator image
-            if (lcdThresholdImage != null) {
-                lcdThresholdImage.flush();
-            }
-            lcdThresholdImage = create_LCD_THRESHOLD_Image((int) (LCD.getHeight() * 0.2045454545), (int) (LCD.getHeight() * 0.2045454545), getLcdColor().TEXT_COLOR);
+        if (pointerImage != POINTER_LAYER.getImage()) {
+            pointerImage = POINTER_LAYER.getImage();
+            pointerBounds = UTIL.getOpaqueBounds(pointerImage);
         }
 
-        if (pointerImage != null) {
-            pointerImage.flush();
+        if (pointerShadowImage != POINTER_SHADOW_LAYER.getImage()) {
+            pointerShadowImage = POINTER_SHADOW_LAYER.getImage();
+            pointerShadowBounds = pointerShadowImage == null ? null : UTIL.getOpaqueBounds(pointerShadowImage);
         }
-        pointerImage = create_POINTER_Image(GAUGE_WIDTH, getPointerType());
 
-        if (pointerShadowImage != null) {
-            pointerShadowImage.flush();
-        }
-        if (getModel().isPointerShadowVisible()) {
-            pointerShadowImage = create_POINTER_SHADOW_Image(GAUGE_WIDTH, getPointerType());
+        if (pointerSpritesEnabled) {
+            final Object CUSTOM_POINTER_COLOR = getPointerColor() == ColorDef.CUSTOM ? getModel().getCustomPointerColorObject() : null;
+            final double ANGLE_STEP = SPRITE_CACHE.getAngleStep();
+            pointerSprites = SPRITE_CACHE.getSprites(new ImageCacheKey("Radial.pointer", GAUGE_WIDTH, getPointerType(), getPointerColor(), CUSTOM_POINTER_COLOR, getBackgroundColor(), CENTER.getX(), CENTER.getY(), ANGLE_STEP), pointerImage, CENTER);
+            if (pointerShadowImage != null) {
+                // The shadow of the log scale pointer is rotated around a point below the center
+                final Point2D SHADOW_PIVOT = new Point2D.Double(CENTER.getX(), isLogScale() ? CENTER.getY() + 2 : CENTER.getY());
+                pointerShadowSprites = SPRITE_CACHE.getSprites(new ImageCacheKey("Radial.pointerShadow", GAUGE_WIDTH, getPointerType(), SHADOW_PIVOT.getX(), SHADOW_PIVOT.getY(), ANGLE_STEP), pointerShadowImage, SHADOW_PIVOT);
+            } else {
+                pointerShadowSprites = null;
+            }
         } else {
-            pointerShadowImage = null;
-        }
-
-        if (thresholdImage != null) {
-            thresholdImage.flush();
-        }
-        thresholdImage = create_THRESHOLD_Image(GAUGE_WIDTH);
-
-        if (minMeasuredImage != null) {
-            minMeasuredImage.flush();
+            pointerSprites = null;
+            pointerShadowSprites = null;
         }
-        minMeasuredImage = create_MEASURED_VALUE_Image(GAUGE_WIDTH, new Color(0, 23, 252, 255));
 
-        if (maxMeasuredImage != null) {
-            maxMeasuredImage.flush();
-        }
-        maxMeasuredImage = create_MEASURED_VALUE_Image(GAUGE_WIDTH, new Color(252, 29, 0, 255));
+        thresholdImage = THRESHOLD_LAYER.getImage();
+        minMeasuredImage = MIN_MEASURED_LAYER.getImage();
+        maxMeasuredImage = MAX_MEASURED_LAYER.getImage();
 
         // Calc area of measured values
         if ((getGaugeType() == GaugeType.TYPE3 || getGaugeType() == GaugeType.TYPE4) && isLcdVisible()) {
@@ -314,24 +565,7 @@ public class Radial extends AbstractRadial {
             areaOfMeasuredValues = new Area(getModel().getRadialShapeOfMeasuredValues());
         }
 
-        if (isForegroundVisible()) {
-            switch (getFrameType()) {
-                case SQUARE:
-                    FOREGROUND_FACTORY.createLinearForeground(GAUGE_WIDTH, GAUGE_WIDTH, false, fImage);
-                    break;
-
-                case ROUND:
-
-                default:
-                    FOREGROUND_FACTORY.createRadialForeground(GAUGE_WIDTH, false, getForegroundType(), fImage);
-                    break;
-            }
-        }
-
-        if (disabledImage != null) {
-            disabledImage.flush();
-        }
-        disabledImage = create_DISABLED_Image(GAUGE_WIDTH);
+        disabledImage = DISABLED_LAYER.getImage();
 
         setCurrentLedImage(getLedImageOff());
 
@@ -373,29 +607,25 @@ public class Radial extends AbstractRadial {
 
         // Highlight active area
         if (isHighlightArea()) {
-            for(Section area : getAreas()) {
-                if (area.contains(getValue())) {
-                    G2.setColor(area.getHighlightColor());
-                    if ((getGaugeType() == GaugeType.TYPE3 || getGaugeType() == GaugeType.TYPE4) && isLcdVisible()) {
-                        final Area currentArea = new Area(area.getFilledArea());
-                        currentArea.subtract(lcdArea);
-                        G2.fill(currentArea);
-                    } else {
-                        G2.fill(area.getFilledArea());
-                    }
-                    break;
+            final Section ACTIVE_AREA = getModel().getAreaIndex().getSectionAt(getValue());
+            if (ACTIVE_AREA != null) {
+                G2.setColor(ACTIVE_AREA.getHighlightColor());
+                if ((getGaugeType() == GaugeType.TYPE3 || getGaugeType() == GaugeType.TYPE4) && isLcdVisible()) {
+                    final Area currentArea = new Area(ACTIVE_AREA.getFilledArea());
+                    currentArea.subtract(lcdArea);
+                    G2.fill(currentArea);
+                } else {
+                    G2.fill(ACTIVE_AREA.getFilledArea());
                 }
             }
         }
 
         // Highlight active section
         if (isHighlightSection()) {
-            for(Section section : getSections()) {
-                if (section.contains(getValue())) {
-                    G2.setColor(section.getHighlightColor());
-                    G2.fill(section.getSectionArea());
-                    break;
-                }
+            final Section ACTIVE_SECTION = getModel().getSectionIndex().getSectionAt(getValue());
+            if (ACTIVE_SECTION != null) {
+                G2.setColor(ACTIVE_SECTION.getHighlightColor());
+                G2.fill(ACTIVE_SECTION.getSectionArea());
             }
         }
 
@@ -453,46 +683,41 @@ public class Radial extends AbstractRadial {
             if (isLcdTextVisible()) {
             G2.setFont(getLcdUnitFont());
             if (isLcdUnitStringVisible()) {
-                unitLayout = new TextLayout(getLcdUnitString(), G2.getFont(), RENDER_CONTEXT);
-                UNIT_BOUNDARY.setFrame(unitLayout.getBounds());
-                G2.drawString(getLcdUnitString(), (int) (LCD.getX() + (LCD.getWidth() - UNIT_BOUNDARY.getWidth()) - LCD.getWidth() * 0.03), (int) (LCD.getY() + LCD.getHeight() * 0.76));
+                GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(getLcdUnitString(), UNIT_BOUNDARY);
+                GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, getLcdUnitString(), (int) (LCD.getX() + (LCD.getWidth() - UNIT_BOUNDARY.getWidth()) - LCD.getWidth() * 0.03), (int) (LCD.getY() + LCD.getHeight() * 0.76));
                 unitStringWidth = UNIT_BOUNDARY.getWidth();
             } else {
                 unitStringWidth = 0;
             }
             G2.setFont(getLcdValueFont());
+            final int LCD_TEXT_LENGTH;
+            int digitalFontNo_1Offset = 0;
             switch (getModel().getNumberSystem()) {
                 case HEX:
-                    valueLayout = new TextLayout(Integer.toHexString((int) getLcdValue()).toUpperCase(), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    G2.drawString(Integer.toHexString((int) getLcdValue()).toUpperCase(), (float) (LCD.getX() + (LCD.getWidth() - unitStringWidth - VALUE_BOUNDARY.getWidth()) - LCD.getHeight() * 0.333333333), (float) (LCD.getY() + LCD.getHeight() * 0.76));
+                    LCD_TEXT_LENGTH = LcdValueFormatter.formatHex((int) getLcdValue(), LCD_TEXT);
                     break;
 
                 case OCT:
-                    valueLayout = new TextLayout(Integer.toOctalString((int) getLcdValue()), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    G2.drawString(Integer.toOctalString((int) getLcdValue()), (float) (LCD.getX() + (LCD.getWidth() - unitStringWidth - VALUE_BOUNDARY.getWidth()) - LCD.getHeight() * 0.333333333), (float) (LCD.getY() + LCD.getHeight() * 0.76));
+                    LCD_TEXT_LENGTH = LcdValueFormatter.formatOctal((int) getLcdValue(), LCD_TEXT);
                     break;
 
                 case DEC:
 
                 default:
-                    int digitalFontNo_1Offset = 0;
-                    if (isDigitalFont() && Double.toString(getLcdValue()).startsWith("1")) {
+                    LCD_TEXT_LENGTH = LcdValueFormatter.getInstance(getModel().getLcdDecimals(), getModel().isLcdScientificFormatEnabled()).format(getLcdValue(), LCD_TEXT);
+                    if (isDigitalFont() && LCD_TEXT[0] == '1') {
                         digitalFontNo_1Offset = (int) (LCD.getHeight() * 0.2166666667);
                     }
-                    valueLayout = new TextLayout(formatLcdValue(getLcdValue()), G2.getFont(), RENDER_CONTEXT);
-                    VALUE_BOUNDARY.setFrame(valueLayout.getBounds());
-                    G2.drawString(formatLcdValue(getLcdValue()), (float) (LCD.getX() + (LCD.getWidth() - unitStringWidth - VALUE_BOUNDARY.getWidth()) - LCD.getHeight() * 0.333333333) - digitalFontNo_1Offset, (float) (LCD.getY() + LCD.getHeight() * 0.76));
                     break;
             }
+            GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(LCD_TEXT, LCD_TEXT_LENGTH, VALUE_BOUNDARY);
+            GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, LCD_TEXT, LCD_TEXT_LENGTH, (float) (LCD.getX() + (LCD.getWidth() - unitStringWidth - VALUE_BOUNDARY.getWidth()) - LCD.getHeight() * 0.333333333) - digitalFontNo_1Offset, (float) (LCD.getY() + LCD.getHeight() * 0.76));
             }
             // Draw lcd info string
             if (!getLcdInfoString().isEmpty()) {
                 G2.setFont(getLcdInfoFont());
-                infoLayout = new TextLayout(getLcdInfoString(), G2.getFont(), RENDER_CONTEXT);
-                INFO_BOUNDARY.setFrame(infoLayout.getBounds());
-                G2.drawString(getLcdInfoString(), (float) LCD.getBounds().x + 5f, LCD.getBounds().y + (float) INFO_BOUNDARY.getHeight() + 5f);
+                GLYPH_CACHE.getGlyphs(G2.getFont(), RENDER_CONTEXT).getBounds(getLcdInfoString(), INFO_BOUNDARY);
+                GLYPH_CACHE.getGlyphs(G2.getFont(), G2.getFontRenderContext()).draw(G2, getLcdInfoString(), (float) LCD.getBounds().x + 5f, LCD.getBounds().y + (float) INFO_BOUNDARY.getHeight() + 5f);
             }
             // Draw lcd threshold indicator
             if (getLcdNumberSystem() == NumberSystem.DEC && isLcdThresholdVisible() && getLcdValue() >= getLcdThreshold()) {
@@ -501,18 +726,25 @@ public class Radial extends AbstractRadial {
         }
 
         // Draw the pointer
+        final double SHADOW_ANGLE;
         if (!isLogScale()) {
             angle = getRotationOffset() + (getValue() - getMinValue()) * getAngleStep();
-            G2.rotate(angle + (Math.cos(Math.toRadians(angle - getRotationOffset() - 91.5))), CENTER.getX(), CENTER.getY());
+            SHADOW_ANGLE = angle + (Math.cos(Math.toRadians(angle - getRotationOffset() - 91.5)));
         } else {
             angle = getRotationOffset() + UTIL.logOfBase(BASE, getValue() - getMinValue()) * getLogAngleStep();
-            G2.rotate(angle, CENTER.getX(), CENTER.getY() + 2);
+            SHADOW_ANGLE = angle;
+        }
+        // Use the pre-rendered pointer frames if available and rotate the images otherwise
+        if (pointerShadowSprites == null || !pointerShadowSprites.draw(G2, SHADOW_ANGLE)) {
+            G2.rotate(SHADOW_ANGLE, CENTER.getX(), isLogScale() ? CENTER.getY() + 2 : CENTER.getY());
+            G2.drawImage(pointerShadowImage, 0, 0, null);
+            G2.setTransform(OLD_TRANSFORM);
+        }
+        if (pointerSprites == null || !pointerSprites.draw(G2, angle)) {
+            G2.rotate(angle, CENTER.getX(), CENTER.getY());
+            G2.drawImage(pointerImage, 0, 0, null);
+            G2.setTransform(OLD_TRANSFORM);
         }
-        G2.drawImage(pointerShadowImage, 0, 0, null);
-        G2.setTransform(OLD_TRANSFORM);
-        G2.rotate(angle, CENTER.getX(), CENTER.getY());
-        G2.drawImage(pointerImage, 0, 0, null);
-        G2.setTransform(OLD_TRANSFORM);
 
         // Draw combined foreground image
         G2.drawImage(fImage, 0, 0, null);
@@ -537,6 +769,62 @@ public class Radial extends AbstractRadial {
     }
     // </editor-fold>
 
+    // <editor-fold defaultstate="collapsed" desc="Repaint related">
+    @Override
+    protected Rectangle getValueRepaintBounds(final double OLD_VALUE, final double NEW_VALUE) {
+        // These indicators depend on the value too and could be anywhere on the gauge
+        if (pointerBounds == null || isRangeOfMeasuredValuesVisible() || isMinMeasuredValueVisible() || isMaxMeasuredValueVisible()) {
+            return getInnerBounds();
+        }
+        // The highlighted area or section only needs a full repaint if it changes with the value
+        if (isHighlightArea() && getModel().getAreaIndex().indexOf(OLD_VALUE) != getModel().getAreaIndex().indexOf(NEW_VALUE)) {
+            return getInnerBounds();
+        }
+        if (isHighlightSection() && getModel().getSectionIndex().indexOf(OLD_VALUE) != getModel().getSectionIndex().indexOf(NEW_VALUE)) {
+            return getInnerBounds();
+        }
+        final Rectangle DIRTY_REGION = getPointerRepaintBounds(OLD_VALUE);
+        if (DIRTY_REGION == null) {
+            return getInnerBounds();
+        }
+        final Rectangle NEW_POINTER_REGION = getPointerRepaintBounds(NEW_VALUE);
+        if (NEW_POINTER_REGION == null) {
+            return getInnerBounds();
+        }
+        DIRTY_REGION.add(NEW_POINTER_REGION);
+        return DIRTY_REGION;
+    }
+
+    /**
+     * Returns the region of the component that is covered by the pointer
+     * and it's shadow at the given value (same transformations as in paintComponent())
+     * @param VALUE
+     * @return the region of the component that is covered by the pointer or null if it could not be calculated
+     */
+    private Rectangle getPointerRepaintBounds(final double VALUE) {
+        final double POINTER_ANGLE;
+        final AffineTransform SHADOW_TRANSFORM;
+        if (!isLogScale()) {
+            POINTER_ANGLE = getRotationOffset() + (VALUE - getMinValue()) * getAngleStep();
+            SHADOW_TRANSFORM = AffineTransform.getRotateInstance(POINTER_ANGLE + (Math.cos(Math.toRadians(POINTER_ANGLE - getRotationOffset() - 91.5))), CENTER.getX(), CENTER.getY());
+        } else {
+            POINTER_ANGLE = getRotationOffset() + UTIL.logOfBase(BASE, VALUE - getMinValue()) * getLogAngleStep();
+            SHADOW_TRANSFORM = AffineTransform.getRotateInstance(POINTER_ANGLE, CENTER.getX(), CENTER.getY() + 2);
+        }
+        if (Double.isNaN(POINTER_ANGLE) || Double.isInfinite(POINTER_ANGLE)) {
+            return null;
+        }
+        final Rectangle BOUNDS = AffineTransform.getRotateInstance(POINTER_ANGLE, CENTER.getX(), CENTER.getY()).createTransformedShape(pointerBounds).getBounds();
+        if (pointerShadowBounds != null) {
+            BOUNDS.add(SHADOW_TRANSFORM.createTransformedShape(pointerShadowBounds).getBounds());
+        }
+        BOUNDS.translate((int) getFramelessOffset().getX(), (int) getFramelessOffset().getY());
+        // Take antialiasing and rounding into account
+        BOUNDS.grow(2, 2);
+        return BOUNDS;
+    }
+    // </editor-fold>
+
     // <editor-fold defaultstate="collapsed" desc="Getters and Setters">
     @Override
     public void setValue(double value) {
@@ -546,6 +834,42 @@ public class Radial extends AbstractRadial {
         super.setValue(value);
     }
 
+    /**
+     * Returns the names of the layers (e.g. "frame", "tickmarks", "pointer") that have
+     * been rendered during the last initialization together with the time in nanoseconds
+     * it took to render them. Layers whose properties did not change are not rendered again.
+     * @return the names of the rebuilt layers and their render times in nanoseconds
+     */
+    public Map<String, Long> getRebuiltLayers() {
+        final Map<String, Long> REBUILT_LAYERS = new LinkedHashMap<String, Long>();
+        REBUILT_LAYERS.putAll(BACKGROUND_LAYERS.getRebuiltLayers());
+        REBUILT_LAYERS.putAll(FOREGROUND_LAYERS.getRebuiltLayers());
+        REBUILT_LAYERS.putAll(INDICATOR_LAYERS.getRebuiltLayers());
+        return REBUILT_LAYERS;
+    }
+
+    /**
+     * Returns true if the pointer and it's shadow will be drawn from pre-rendered
+     * rotated images (sprites) instead of rotating the pointer image on every paint
+     * @return true if the pointer will be drawn from pre-rendered rotated images
+     */
+    public boolean isPointerSpritesEnabled() {
+        return pointerSpritesEnabled;
+    }
+
+    /**
+     * Enables / disables drawing the pointer and it's shadow from pre-rendered
+     * rotated images (sprites). The sprites are shared between all radial gauges
+     * with the same size and pointer in the PointerSpriteCache. If the memory budget
+     * of the cache is exceeded the pointer will be rotated while painting.
+     * @param POINTER_SPRITES_ENABLED
+     */
+    public void setPointerSpritesEnabled(final boolean POINTER_SPRITES_ENABLED) {
+        pointerSpritesEnabled = POINTER_SPRITES_ENABLED;
+        requestInit(getInnerBounds().width, getInnerBounds().height);
+        repaint(getInnerBounds());
+    }
+
     /**
      * Returns true if the 3d effect gradient overlay for the sections is visible
      * @return true if the 3d effect gradient overlay for the sections is visible
@@ -560,7 +884,7 @@ public class Radial extends AbstractRadial {
      */
     public void setSection3DEffectVisible(final boolean SECTION_3D_EFFECT_VISIBLE) {
         this.section3DEffectVisible = SECTION_3D_EFFECT_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -578,7 +902,7 @@ public class Radial extends AbstractRadial {
      */
     public void setArea3DEffectVisible(final boolean AREA_3DEFFECT_VISIBLE) {
         area3DEffectVisible = AREA_3DEFFECT_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -626,36 +950,44 @@ public class Radial extends AbstractRadial {
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Areas related">
-    private void createAreas(final BufferedImage IMAGE) {
-        if (bImage != null) {
-            final double ANGLE_STEP;
+    /**
+     * Sets the filled area of each area for the given gauge width. The shapes
+     * will be used to draw the areas layer and to highlight the active area.
+     * @param WIDTH
+     */
+    private void createAreaShapes(final int WIDTH) {
+        if (WIDTH <= 0 || getAreas().isEmpty()) {
+            return;
+        }
+        final double ANGLE_STEP;
+        if (!isLogScale()) {
+            ANGLE_STEP = Math.toDegrees(getModel().getAngleRange()) / (getMaxValue() - getMinValue());
+        } else {
+            ANGLE_STEP = Math.toDegrees(getModel().getAngleRange()) / UTIL.logOfBase(BASE, (getMaxValue() - getMinValue()));
+        }
+
+        final double OUTER_RADIUS = WIDTH * 0.38f;
+        final double RADIUS;
+        if (isSectionsVisible()) {
+            RADIUS = isExpandedSectionsEnabled() ? OUTER_RADIUS - WIDTH * 0.12f : OUTER_RADIUS - WIDTH * 0.04f;
+        } else {
+            RADIUS = OUTER_RADIUS;
+        }
+        final double FREE_AREA = WIDTH / 2.0 - RADIUS;
+        final Rectangle2D AREA_FRAME = new Rectangle2D.Double(FREE_AREA, FREE_AREA, 2 * RADIUS, 2 * RADIUS);
+        for (Section area : getAreas()) {
             if (!isLogScale()) {
-                ANGLE_STEP = Math.toDegrees(getModel().getAngleRange()) / (getMaxValue() - getMinValue());
+                area.setFilledArea(new Arc2D.Double(AREA_FRAME, getModel().getOriginCorrection() - (area.getStart() * ANGLE_STEP) + (getMinValue() * ANGLE_STEP), -(area.getStop() - area.getStart()) * ANGLE_STEP, Arc2D.PIE));
             } else {
-                ANGLE_STEP = Math.toDegrees(getModel().getAngleRange()) / UTIL.logOfBase(BASE, (getMaxValue() - getMinValue()));
-            }
-
-            if (bImage != null && !getAreas().isEmpty()) {
-                final double OUTER_RADIUS = bImage.getWidth() * 0.38f;
-                final double RADIUS;
-                if (isSectionsVisible()) {
-                    RADIUS = isExpandedSectionsEnabled() ? OUTER_RADIUS - bImage.getWidth() * 0.12f : OUTER_RADIUS - bImage.getWidth() * 0.04f;
-                } else {
-                    RADIUS = OUTER_RADIUS;
-                }
-                final double FREE_AREA = bImage.getWidth() / 2.0 - RADIUS;
-                final Rectangle2D AREA_FRAME = new Rectangle2D.Double(bImage.getMinX() + FREE_AREA, bImage.getMinY() + FREE_AREA, 2 * RADIUS, 2 * RADIUS);
-                for (Section area : getAreas()) {
-                    if (!isLogScale()) {
-                        area.setFilledArea(new Arc2D.Double(AREA_FRAME, getModel().getOriginCorrection() - (area.getStart() * ANGLE_STEP) + (getMinValue() * ANGLE_STEP), -(area.getStop() - area.getStart()) * ANGLE_STEP, Arc2D.PIE));
-                    } else {
-                        area.setFilledArea(new Arc2D.Double(AREA_FRAME, getModel().getOriginCorrection() - (UTIL.logOfBase(BASE, area.getStart()) * ANGLE_STEP) + (UTIL.logOfBase(BASE, getMinValue()) * ANGLE_STEP), -UTIL.logOfBase(BASE, area.getStop() - area.getStart()) * ANGLE_STEP, Arc2D.PIE));
-                    }
-                }
+                area.setFilledArea(new Arc2D.Double(AREA_FRAME, getModel().getOriginCorrection() - (UTIL.logOfBase(BASE, area.getStart()) * ANGLE_STEP) + (UTIL.logOfBase(BASE, getMinValue()) * ANGLE_STEP), -UTIL.logOfBase(BASE, area.getStop() - area.getStart()) * ANGLE_STEP, Arc2D.PIE));
             }
+        }
+    }
 
-            // Draw the areas
-            if (isAreasVisible() && IMAGE != null) {
+    private void createAreas(final BufferedImage IMAGE) {
+        if (IMAGE != null) {
+            // Draw the areas, their shapes have been created by createAreaShapes()
+            if (isAreasVisible()) {
                 final Graphics2D G2 = IMAGE.createGraphics();
                 G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 for (Section area : getAreas()) {
@@ -673,46 +1005,56 @@ public class Radial extends AbstractRadial {
     //</editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Sections related">
-    private void createSections(final BufferedImage IMAGE) {
-        if (bImage != null) {
-            final double ANGLE_STEP;
-            if (!isLogScale()) {
-                ANGLE_STEP = getModel().getApexAngle() / (getMaxValue() - getMinValue());
-            } else {
-                ANGLE_STEP = getModel().getApexAngle() / UTIL.logOfBase(BASE, getMaxValue() - getMinValue());
-            }
+    /**
+     * Sets the section area of each section for the given gauge width. The shapes
+     * will be used to draw the sections layer and to highlight the active section.
+     * @param WIDTH
+     */
+    private void createSectionShapes(final int WIDTH) {
+        if (WIDTH <= 0 || getSections().isEmpty()) {
+            return;
+        }
+        final double ANGLE_STEP;
+        if (!isLogScale()) {
+            ANGLE_STEP = getModel().getApexAngle() / (getMaxValue() - getMinValue());
+        } else {
+            ANGLE_STEP = getModel().getApexAngle() / UTIL.logOfBase(BASE, getMaxValue() - getMinValue());
+        }
 
-            final double OUTER_RADIUS = bImage.getWidth() * 0.38f;
-            final double INNER_RADIUS = isExpandedSectionsEnabled() ? OUTER_RADIUS - bImage.getWidth() * 0.12f : OUTER_RADIUS - bImage.getWidth() * 0.04f;
-            final double FREE_AREA_OUTER_RADIUS = bImage.getWidth() / 2.0 - OUTER_RADIUS;
-            final double FREE_AREA_INNER_RADIUS = bImage.getWidth() / 2.0 - INNER_RADIUS;
-            final Area INNER = new Area(new Ellipse2D.Double(bImage.getMinX() + FREE_AREA_INNER_RADIUS, bImage.getMinY() + FREE_AREA_INNER_RADIUS, 2 * INNER_RADIUS, 2 * INNER_RADIUS));
+        final double OUTER_RADIUS = WIDTH * 0.38f;
+        final double INNER_RADIUS = isExpandedSectionsEnabled() ? OUTER_RADIUS - WIDTH * 0.12f : OUTER_RADIUS - WIDTH * 0.04f;
+        final double FREE_AREA_OUTER_RADIUS = WIDTH / 2.0 - OUTER_RADIUS;
+        final double FREE_AREA_INNER_RADIUS = WIDTH / 2.0 - INNER_RADIUS;
+        final Area INNER = new Area(new Ellipse2D.Double(FREE_AREA_INNER_RADIUS, FREE_AREA_INNER_RADIUS, 2 * INNER_RADIUS, 2 * INNER_RADIUS));
 
-            for (Section section : getSections()) {
-                final double ANGLE_START;
-                final double ANGLE_EXTEND;
+        for (Section section : getSections()) {
+            final double ANGLE_START;
+            final double ANGLE_EXTEND;
 
-                if (!isLogScale()) {
-                    ANGLE_START = getModel().getOriginCorrection() - (section.getStart() * ANGLE_STEP) + (getMinValue() * ANGLE_STEP);
-                    ANGLE_EXTEND = -(section.getStop() - section.getStart()) * ANGLE_STEP;
-                } else {
-                    ANGLE_START = getModel().getOriginCorrection() - (UTIL.logOfBase(BASE, section.getStart())) * ANGLE_STEP + (UTIL.logOfBase(BASE, getMinValue())) * ANGLE_STEP;
-                    ANGLE_EXTEND = -UTIL.logOfBase(BASE, section.getStop() - section.getStart()) * ANGLE_STEP;
-                }
+            if (!isLogScale()) {
+                ANGLE_START = getModel().getOriginCorrection() - (section.getStart() * ANGLE_STEP) + (getMinValue() * ANGLE_STEP);
+                ANGLE_EXTEND = -(section.getStop() - section.getStart()) * ANGLE_STEP;
+            } else {
+                ANGLE_START = getModel().getOriginCorrection() - (UTIL.logOfBase(BASE, section.getStart())) * ANGLE_STEP + (UTIL.logOfBase(BASE, getMinValue())) * ANGLE_STEP;
+                ANGLE_EXTEND = -UTIL.logOfBase(BASE, section.getStop() - section.getStart()) * ANGLE_STEP;
+            }
 
-                final Arc2D OUTER_ARC = new Arc2D.Double(Arc2D.PIE);
-                OUTER_ARC.setFrame(bImage.getMinX() + FREE_AREA_OUTER_RADIUS, bImage.getMinY() + FREE_AREA_OUTER_RADIUS, 2 * OUTER_RADIUS, 2 * OUTER_RADIUS);
-                OUTER_ARC.setAngleStart(ANGLE_START);
-                OUTER_ARC.setAngleExtent(ANGLE_EXTEND);
-                final Area SECTION = new Area(OUTER_ARC);
+            final Arc2D OUTER_ARC = new Arc2D.Double(Arc2D.PIE);
+            OUTER_ARC.setFrame(FREE_AREA_OUTER_RADIUS, FREE_AREA_OUTER_RADIUS, 2 * OUTER_RADIUS, 2 * OUTER_RADIUS);
+            OUTER_ARC.setAngleStart(ANGLE_START);
+            OUTER_ARC.setAngleExtent(ANGLE_EXTEND);
+            final Area SECTION = new Area(OUTER_ARC);
 
-                SECTION.subtract(INNER);
+            SECTION.subtract(INNER);
 
-                section.setSectionArea(SECTION);
-            }
+            section.setSectionArea(SECTION);
+        }
+    }
 
-            // Draw the sections
-            if (isSectionsVisible() && IMAGE != null) {
+    private void createSections(final BufferedImage IMAGE) {
+        if (IMAGE != null) {
+            // Draw the sections, their shapes have been created by createSectionShapes()
+            if (isSectionsVisible()) {
                 final Graphics2D G2 = IMAGE.createGraphics();
                 G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 for (Section section : getSections()) {
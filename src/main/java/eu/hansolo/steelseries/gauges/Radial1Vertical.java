@@ -93,7 +93,7 @@ public final class Radial1Vertical extends AbstractRadial {
         setUserLedPosition(0.455, 0.58);
         setOrientation(Orientation.NORTH);
         setGaugeType(GaugeType.TYPE5);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     public Radial1Vertical(final Model MODEL) {
@@ -102,7 +102,7 @@ public final class Radial1Vertical extends AbstractRadial {
         TRACK_OFFSET = new Point2D.Double();
         setModel(MODEL);
         setGaugeType(GaugeType.TYPE5);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -321,12 +321,10 @@ public final class Radial1Vertical extends AbstractRadial {
                     break;
             }
 
-            for(Section area : getAreas()) {
-                if (area.contains(getValue())) {
-                    G2.setColor(area.getHighlightColor());
-                    G2.fill(area.getFilledArea());
-                    break;
-                }
+            final Section ACTIVE_AREA = getModel().getAreaIndex().getSectionAt(getValue());
+            if (ACTIVE_AREA != null) {
+                G2.setColor(ACTIVE_AREA.getHighlightColor());
+                G2.fill(ACTIVE_AREA.getFilledArea());
             }
             G2.setTransform(OLD_TRANSFORM);
         }
@@ -349,12 +347,10 @@ public final class Radial1Vertical extends AbstractRadial {
                     break;
             }
 
-            for(Section section : getSections()) {
-                if (section.contains(getValue())) {
-                    G2.setColor(section.getHighlightColor());
-                    G2.fill(section.getSectionArea());
-                    break;
-                }
+            final Section ACTIVE_SECTION = getModel().getSectionIndex().getSectionAt(getValue());
+            if (ACTIVE_SECTION != null) {
+                G2.setColor(ACTIVE_SECTION.getHighlightColor());
+                G2.fill(ACTIVE_SECTION.getSectionArea());
             }
             G2.setTransform(OLD_TRANSFORM);
         }
@@ -540,7 +536,7 @@ public final class Radial1Vertical extends AbstractRadial {
                 setUserLedPosition(0.455, 0.58);
                 break;
         }
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -27,32 +27,23 @@
  */
 package eu.hansolo.steelseries.gauges;
 
-import eu.hansolo.steelseries.tools.BackgroundColor;
 import eu.hansolo.steelseries.tools.ConicalGradientPaint;
-import eu.hansolo.steelseries.tools.FrameDesign;
 import eu.hansolo.steelseries.tools.FrameType;
 import eu.hansolo.steelseries.tools.GaugeType;
-import eu.hansolo.steelseries.tools.GradientWrapper;
 import eu.hansolo.steelseries.tools.Model;
 import eu.hansolo.steelseries.tools.Orientation;
-import eu.hansolo.steelseries.tools.Scaler;
 import eu.hansolo.steelseries.tools.Section;
-import eu.hansolo.steelseries.tools.Shadow;
 import eu.hansolo.steelseries.tools.Util;
 
 import java.awt.AlphaComposite;
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.LinearGradientPaint;
-import java.awt.Paint;
 import java.awt.RadialGradientPaint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
-import java.awt.Shape;
-import java.awt.TexturePaint;
 import java.awt.Transparency;
 import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
@@ -65,7 +56,6 @@ import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.Random;
 
 
 /**
@@ -94,8 +84,6 @@ public final class Radial2Top extends AbstractRadial {
     private boolean area3DEffectVisible;
     private RadialGradientPaint area3DEffect;
     private double angle = 0;
-    private final Color DARK_NOISE;
-    private final Color BRIGHT_NOISE;
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Constructor">
@@ -103,12 +91,10 @@ public final class Radial2Top extends AbstractRadial {
         super();
         CENTER = new Point2D.Double();
         TRACK_OFFSET = new Point2D.Double();
-        DARK_NOISE = new Color(0.2f, 0.2f, 0.2f);
-        BRIGHT_NOISE = new Color(0.8f, 0.8f, 0.8f);
         section3DEffectVisible = false;
         area3DEffectVisible = false;
         setGaugeType(GaugeType.TYPE2);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
 
     public Radial2Top(final Model MODEL) {
@@ -116,12 +102,10 @@ public final class Radial2Top extends AbstractRadial {
         setModel(MODEL);
         CENTER = new Point2D.Double();
         TRACK_OFFSET = new Point2D.Double();
-        DARK_NOISE = new Color(0.2f, 0.2f, 0.2f);
-        BRIGHT_NOISE = new Color(0.8f, 0.8f, 0.8f);
         section3DEffectVisible = false;
         area3DEffectVisible = false;
         setGaugeType(GaugeType.TYPE2);
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
     }
     // </editor-fold>
 
@@ -302,23 +286,19 @@ public final class Radial2Top extends AbstractRadial {
 
         // Highlight active area
         if (isHighlightArea()) {
-            for(Section area : getAreas()) {
-                if (area.contains(getValue())) {
-                    G2.setColor(area.getHighlightColor());
-                    G2.fill(area.getFilledArea());
-                    break;
-                }
+            final Section ACTIVE_AREA = getModel().getAreaIndex().getSectionAt(getValue());
+            if (ACTIVE_AREA != null) {
+                G2.setColor(ACTIVE_AREA.getHighlightColor());
+                G2.fill(ACTIVE_AREA.getFilledArea());
             }
         }
 
         // Highlight active section
         if (isHighlightSection()) {
-            for(Section section : getSections()) {
-                if (section.contains(getValue())) {
-                    G2.setColor(section.getHighlightColor());
-                    G2.fill(section.getSectionArea());
-                    break;
-                }
+            final Section ACTIVE_SECTION = getModel().getSectionIndex().getSectionAt(getValue());
+            if (ACTIVE_SECTION != null) {
+                G2.setColor(ACTIVE_SECTION.getHighlightColor());
+                G2.fill(ACTIVE_SECTION.getSectionArea());
             }
         }
 
@@ -446,7 +426,7 @@ public final class Radial2Top extends AbstractRadial {
      */
     public void setSection3DEffectVisible(final boolean SECTION_3D_EFFECT_VISIBLE) {
         this.section3DEffectVisible = SECTION_3D_EFFECT_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -464,7 +444,7 @@ public final class Radial2Top extends AbstractRadial {
      */
     public void setArea3DEffectVisible(final boolean AREA_3DEFFECT_VISIBLE) {
         area3DEffectVisible = AREA_3DEFFECT_VISIBLE;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
     // </editor-fold>
@@ -576,598 +556,10 @@ public final class Radial2Top extends AbstractRadial {
         if (WIDTH <= 0) {
             return null;
         }
-        final double VERTICAL_SCALE;
-
         if (image == null) {
             image = UTIL.createImage(WIDTH, (int) (0.641860465116279 * WIDTH), Transparency.TRANSLUCENT);
-            VERTICAL_SCALE = 1.0;
-        } else {
-            VERTICAL_SCALE = 0.641860465116279;
-        }
-        final Graphics2D G2 = image.createGraphics();
-        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
-
-        final int IMAGE_WIDTH = image.getWidth();
-        final int IMAGE_HEIGHT = image.getHeight();
-
-        // Define shape that will be subtracted from frame shapes
-        final GeneralPath SUBTRACT_PATH = new GeneralPath();
-        SUBTRACT_PATH.setWindingRule(Path2D.WIND_EVEN_ODD);
-        SUBTRACT_PATH.moveTo(IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.42028985507246375 * VERTICAL_SCALE, IMAGE_WIDTH * 0.26976744186046514, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE);
-        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.7255813953488373, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.42028985507246375 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.8188405797101449 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE);
-        SUBTRACT_PATH.lineTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE);
-        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        SUBTRACT_PATH.closePath();
-        final Area SUBTRACT = new Area(SUBTRACT_PATH);
-
-        final GeneralPath FRAME_OUTERFRAME = new GeneralPath();
-        FRAME_OUTERFRAME.setWindingRule(Path2D.WIND_EVEN_ODD);
-        FRAME_OUTERFRAME.moveTo(0.0, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_OUTERFRAME.curveTo(0.0, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH * 0.22325581395348837, 0.0, IMAGE_WIDTH * 0.49767441860465117, 0.0);
-        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH * 0.772093023255814, 0.0, IMAGE_WIDTH, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH, IMAGE_HEIGHT * 0.9057971014492754 * VERTICAL_SCALE, IMAGE_WIDTH, IMAGE_HEIGHT, IMAGE_WIDTH, IMAGE_HEIGHT * VERTICAL_SCALE);
-        FRAME_OUTERFRAME.lineTo(0.0, IMAGE_HEIGHT * VERTICAL_SCALE);
-        FRAME_OUTERFRAME.curveTo(0.0, IMAGE_HEIGHT * VERTICAL_SCALE, 0.0, IMAGE_HEIGHT * 0.8985507246376812 * VERTICAL_SCALE, 0.0, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_OUTERFRAME.closePath();
-        G2.setPaint(getOuterFrameColor());
-        final Area FRAME_OUTERFRAME_AREA = new Area(FRAME_OUTERFRAME);
-        FRAME_OUTERFRAME_AREA.subtract(SUBTRACT);
-        G2.fill(FRAME_OUTERFRAME_AREA);
-
-        final GeneralPath FRAME_MAIN = new GeneralPath();
-        FRAME_MAIN.setWindingRule(Path2D.WIND_EVEN_ODD);
-        FRAME_MAIN.moveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH * 0.22325581395348837, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE);
-        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.772093023255814, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.35507246376811596 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.8840579710144928 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE);
-        FRAME_MAIN.lineTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE);
-        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE, IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.8840579710144928 * VERTICAL_SCALE, IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_MAIN.closePath();
-
-        final Point2D FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
-        final Point2D FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
-        final Point2D FRAME_MAIN_CENTER = new Point2D.Double(FRAME_MAIN.getBounds2D().getCenterX(), FRAME_MAIN.getBounds2D().getHeight() * 0.7753623188 * VERTICAL_SCALE);
-
-        final Area FRAME_MAIN_AREA = new Area(FRAME_MAIN);
-
-        if (getFrameDesign() == FrameDesign.CUSTOM) {
-            G2.setPaint(getCustomFrameDesign());
-            FRAME_MAIN_AREA.subtract(SUBTRACT);
-            G2.fill(FRAME_MAIN_AREA);
-        } else {
-            switch (getFrameDesign()) {
-                case BLACK_METAL:
-                    float[] frameMainFractions1 = {
-                        0.0f,
-                        45.0f,
-                        85.0f,
-                        180.0f,
-                        275.0f,
-                        315.0f,
-                        360.0f
-                    };
-
-                    Color[] frameMainColors1 = {
-                        new Color(254, 254, 254, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(254, 254, 254, 255)
-                    };
-
-                    Paint frameMainGradient1 = new ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions1, frameMainColors1);
-                    G2.setPaint(frameMainGradient1);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case METAL:
-                    float[] frameMainFractions2 = {
-                        0.0f,
-                        0.07f,
-                        0.12f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors2 = {
-                        new Color(254, 254, 254, 255),
-                        new Color(210, 210, 210, 255),
-                        new Color(179, 179, 179, 255),
-                        new Color(213, 213, 213, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient2 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions2, frameMainColors2);
-                    G2.setPaint(frameMainGradient2);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case SHINY_METAL:
-                    float[] frameMainFractions3;
-                    Color[] frameMainColors3;
-                    if (isFrameBaseColorEnabled()) {
-                        frameMainFractions3 = new float[]{
-                            0.0f,
-                            45.0f,
-                            90.0f,
-                            135.0f,
-                            180.0f,
-                            225.0f,
-                            270.0f,
-                            315.0f,
-                            360.0f
-                        };
-
-                        frameMainColors3 = new Color[]{
-                            new Color(254, 254, 254, 255),
-                            new Color(getFrameBaseColor().getRed(), getFrameBaseColor().getGreen(), getFrameBaseColor().getBlue(), 255),
-                            new Color(getFrameBaseColor().getRed(), getFrameBaseColor().getGreen(), getFrameBaseColor().getBlue(), 255),
-                            new Color(getFrameBaseColor().brighter().brighter().getRed(), getFrameBaseColor().brighter().brighter().getGreen(), getFrameBaseColor().brighter().brighter().getBlue(), 255),
-                            new Color(getFrameBaseColor().getRed(), getFrameBaseColor().getGreen(), getFrameBaseColor().getBlue(), 255),
-                            new Color(getFrameBaseColor().brighter().brighter().getRed(), getFrameBaseColor().brighter().brighter().getGreen(), getFrameBaseColor().brighter().brighter().getBlue(), 255),
-                            new Color(getFrameBaseColor().getRed(), getFrameBaseColor().getGreen(), getFrameBaseColor().getBlue(), 255),
-                            new Color(getFrameBaseColor().getRed(), getFrameBaseColor().getGreen(), getFrameBaseColor().getBlue(), 255),
-                            new Color(254, 254, 254, 255)
-                        };
-                    } else {
-                        frameMainFractions3 = new float[]{
-                            0.0f,
-                            45.0f,
-                            90.0f,
-                            95.0f,
-                            180.0f,
-                            265.0f,
-                            270.0f,
-                            315.0f,
-                            360.0f
-                        };
-
-                        frameMainColors3 = new Color[]{
-                            new Color(254, 254, 254, 255),
-                            new Color(210, 210, 210, 255),
-                            new Color(179, 179, 179, 255),
-                            new Color(160, 160, 160, 255),
-                            new Color(160, 160, 160, 255),
-                            new Color(160, 160, 160, 255),
-                            new Color(179, 179, 179, 255),
-                            new Color(210, 210, 210, 255),
-                            new Color(254, 254, 254, 255)
-                        };
-                    }
-
-                    Paint frameMainGradient3 = new ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions3, frameMainColors3);
-                    G2.setPaint(frameMainGradient3);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case GLOSSY_METAL:
-                    final GeneralPath FRAME_MAIN_GLOSSY1 = new GeneralPath();
-                    FRAME_MAIN_GLOSSY1.setWindingRule(Path2D.WIND_EVEN_ODD);
-                    FRAME_MAIN_GLOSSY1.moveTo(0.004672897196261682 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.curveTo(0.004672897196261682 * IMAGE_WIDTH, 0.35036496350364965 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.22429906542056074 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.curveTo(0.7710280373831776 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.35036496350364965 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.curveTo(0.9953271028037384 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.lineTo(0.004672897196261682 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.curveTo(0.004672897196261682 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.004672897196261682 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.004672897196261682 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY1.closePath();
-                    final Area FRAME_MAIN_GLOSSY_1 = new Area(FRAME_MAIN_GLOSSY1);
-                    FRAME_MAIN_GLOSSY_1.subtract(SUBTRACT);
-                    G2.setPaint(new RadialGradientPaint(new Point2D.Double(0.5 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE), (float)(0.4953271028037383 * IMAGE_WIDTH), new float[]{0.0f, 0.01f, 0.95f, 1.0f}, new Color[]{new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.9960784314f, 0.9960784314f, 0.9960784314f, 1f)}));
-                    G2.fill(FRAME_MAIN_GLOSSY_1);
-
-                    final GeneralPath FRAME_MAIN_GLOSSY2 = new GeneralPath();
-                    FRAME_MAIN_GLOSSY2.setWindingRule(Path2D.WIND_EVEN_ODD);
-                    FRAME_MAIN_GLOSSY2.moveTo(0.014018691588785047 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.curveTo(0.014018691588785047 * IMAGE_WIDTH, 0.36496350364963503 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.22429906542056074 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.curveTo(0.7710280373831776 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.36496350364963503 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.curveTo(0.985981308411215 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.lineTo(0.014018691588785047 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.curveTo(0.014018691588785047 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.014018691588785047 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.014018691588785047 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY2.closePath();
-                    final Area FRAME_MAIN_GLOSSY_2 = new Area(FRAME_MAIN_GLOSSY2);
-                    FRAME_MAIN_GLOSSY_2.subtract(SUBTRACT);
-                    G2.setPaint(new LinearGradientPaint(new Point2D.Double(0.5 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE), new Point2D.Double(0.5000000000000001 * IMAGE_WIDTH, 1.0 * IMAGE_HEIGHT * VERTICAL_SCALE), new float[]{0.0f, 0.24f, 0.34f, 0.65f, 0.85f, 1.0f}, new Color[]{new Color(0.9764705882f, 0.9764705882f, 0.9764705882f, 1f), new Color(0.7843137255f, 0.7647058824f, 0.7490196078f, 1f), new Color(0.9882352941f, 0.9882352941f, 0.9882352941f, 1f), new Color(0.1215686275f, 0.1215686275f, 0.1215686275f, 1f), new Color(0.7843137255f, 0.7607843137f, 0.7529411765f, 1f), new Color(0.8156862745f, 0.8156862745f, 0.8156862745f, 1f)}));
-                    G2.fill(FRAME_MAIN_GLOSSY_2);
-
-                    final GeneralPath FRAME_MAIN_GLOSSY3 = new GeneralPath();
-                    FRAME_MAIN_GLOSSY3.setWindingRule(Path2D.WIND_EVEN_ODD);
-                    FRAME_MAIN_GLOSSY3.moveTo(0.07009345794392523 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.curveTo(0.07009345794392523 * IMAGE_WIDTH, 0.39416058394160586 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.26635514018691586 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.curveTo(0.7289719626168224 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9252336448598131 * IMAGE_WIDTH, 0.38686131386861317 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9252336448598131 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.curveTo(0.9252336448598131 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9158878504672897 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9158878504672897 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.lineTo(0.07476635514018691 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.curveTo(0.07476635514018691 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07009345794392523 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07009345794392523 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY3.closePath();
-                    final Area FRAME_MAIN_GLOSSY_3 = new Area(FRAME_MAIN_GLOSSY3);
-                    FRAME_MAIN_GLOSSY_3.subtract(SUBTRACT);
-                    G2.setPaint(new Color(0.9647058824f, 0.9647058824f, 0.9647058824f, 1f));
-                    G2.fill(FRAME_MAIN_GLOSSY_3);
-
-                    final GeneralPath FRAME_MAIN_GLOSSY4 = new GeneralPath();
-                    FRAME_MAIN_GLOSSY4.setWindingRule(Path2D.WIND_EVEN_ODD);
-                    FRAME_MAIN_GLOSSY4.moveTo(0.07476635514018691 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.curveTo(0.07476635514018691 * IMAGE_WIDTH, 0.41605839416058393 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.26635514018691586 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.curveTo(0.7289719626168224 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9205607476635514 * IMAGE_WIDTH, 0.41605839416058393 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9205607476635514 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.curveTo(0.9205607476635514 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9112149532710281 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9112149532710281 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.lineTo(0.0794392523364486 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.curveTo(0.0794392523364486 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07476635514018691 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07476635514018691 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
-                    FRAME_MAIN_GLOSSY4.closePath();
-                    final Area FRAME_MAIN_GLOSSY_4 = new Area(FRAME_MAIN_GLOSSY4);
-                    FRAME_MAIN_GLOSSY_4.subtract(SUBTRACT);
-                    G2.setPaint(new Color(0.2f, 0.2f, 0.2f, 1f));
-                    G2.fill(FRAME_MAIN_GLOSSY_4);
-                    break;
-
-                case BRASS:
-                    float[] frameMainFractions5 = {
-                        0.0f,
-                        0.05f,
-                        0.10f,
-                        0.50f,
-                        0.90f,
-                        0.95f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors5 = {
-                        new Color(249, 243, 155, 255),
-                        new Color(246, 226, 101, 255),
-                        new Color(240, 225, 132, 255),
-                        new Color(90, 57, 22, 255),
-                        new Color(249, 237, 139, 255),
-                        new Color(243, 226, 108, 255),
-                        new Color(202, 182, 113, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient5 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions5, frameMainColors5);
-                    G2.setPaint(frameMainGradient5);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case STEEL:
-                    float[] frameMainFractions6 = {
-                        0.0f,
-                        0.05f,
-                        0.10f,
-                        0.50f,
-                        0.90f,
-                        0.95f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors6 = {
-                        new Color(231, 237, 237, 255),
-                        new Color(189, 199, 198, 255),
-                        new Color(192, 201, 200, 255),
-                        new Color(23, 31, 33, 255),
-                        new Color(196, 205, 204, 255),
-                        new Color(194, 204, 203, 255),
-                        new Color(189, 201, 199, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient6 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions6, frameMainColors6);
-                    G2.setPaint(frameMainGradient6);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case CHROME:
-                    float[] frameMainFractions7 = {
-                        0.0f,
-                        0.09f,
-                        0.12f,
-                        0.16f,
-                        0.25f,
-                        0.29f,
-                        0.33f,
-                        0.38f,
-                        0.48f,
-                        0.52f,
-                        0.63f,
-                        0.68f,
-                        0.8f,
-                        0.83f,
-                        0.87f,
-                        0.97f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors7 = {
-                        new Color(255, 255, 255, 255),
-                        new Color(255, 255, 255, 255),
-                        new Color(136, 136, 138, 255),
-                        new Color(164, 185, 190, 255),
-                        new Color(158, 179, 182, 255),
-                        new Color(112, 112, 112, 255),
-                        new Color(221, 227, 227, 255),
-                        new Color(155, 176, 179, 255),
-                        new Color(156, 176, 177, 255),
-                        new Color(254, 255, 255, 255),
-                        new Color(255, 255, 255, 255),
-                        new Color(156, 180, 180, 255),
-                        new Color(198, 209, 211, 255),
-                        new Color(246, 248, 247, 255),
-                        new Color(204, 216, 216, 255),
-                        new Color(164, 188, 190, 255),
-                        new Color(255, 255, 255, 255)
-                    };
-
-                    Paint frameMainGradient7 = new ConicalGradientPaint(false, FRAME_MAIN_CENTER, 0, frameMainFractions7, frameMainColors7);
-                    G2.setPaint(frameMainGradient7);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case GOLD:
-                    float[] frameMainFractions8 = {
-                        0.0f,
-                        0.15f,
-                        0.22f,
-                        0.3f,
-                        0.38f,
-                        0.44f,
-                        0.51f,
-                        0.6f,
-                        0.68f,
-                        0.75f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors8 = {
-                        new Color(255, 255, 207, 255),
-                        new Color(255, 237, 96, 255),
-                        new Color(254, 199, 57, 255),
-                        new Color(255, 249, 203, 255),
-                        new Color(255, 199, 64, 255),
-                        new Color(252, 194, 60, 255),
-                        new Color(255, 204, 59, 255),
-                        new Color(213, 134, 29, 255),
-                        new Color(255, 201, 56, 255),
-                        new Color(212, 135, 29, 255),
-                        new Color(247, 238, 101, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient8 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions8, frameMainColors8);
-                    G2.setPaint(frameMainGradient8);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case ANTHRACITE:
-                    float[] frameMainFractions9 = {
-                        0.0f,
-                        0.06f,
-                        0.12f,
-                        1.0f
-                    };
-                    Color[] frameMainColors9 = {
-                        new Color(118, 117, 135, 255),
-                        new Color(74, 74, 82, 255),
-                        new Color(50, 50, 54, 255),
-                        new Color(97, 97, 108, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient9 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions9, frameMainColors9);
-                    G2.setPaint(frameMainGradient9);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case TILTED_GRAY:
-                    FRAME_MAIN_START.setLocation((0.2336448598130841 * IMAGE_WIDTH), (0.08411214953271028 * IMAGE_HEIGHT));
-                    FRAME_MAIN_STOP.setLocation(((0.2336448598130841 + 0.5789369637935792) * IMAGE_WIDTH), ((0.08411214953271028 + 0.8268076708711319) * IMAGE_HEIGHT));
-                    float[] frameMainFractions10 = {
-                        0.0f,
-                        0.07f,
-                        0.16f,
-                        0.33f,
-                        0.55f,
-                        0.79f,
-                        1.0f
-                    };
-                    Color[] frameMainColors10 = {
-                        new Color(255, 255, 255, 255),
-                        new Color(210, 210, 210, 255),
-                        new Color(179, 179, 179, 255),
-                        new Color(255, 255, 255, 255),
-                        new Color(197, 197, 197, 255),
-                        new Color(255, 255, 255, 255),
-                        new Color(102, 102, 102, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient10 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions10, frameMainColors10);
-                    G2.setPaint(frameMainGradient10);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                case TILTED_BLACK:
-                    FRAME_MAIN_START.setLocation((0.22897196261682243 * IMAGE_WIDTH), (0.0794392523364486 * IMAGE_HEIGHT));
-                    FRAME_MAIN_STOP.setLocation(((0.22897196261682243 + 0.573576436351046) * IMAGE_WIDTH), ((0.0794392523364486 + 0.8191520442889918) * IMAGE_HEIGHT));
-                    float[] frameMainFractions11 = {
-                        0.0f,
-                        0.21f,
-                        0.47f,
-                        0.99f,
-                        1.0f
-                    };
-                    Color[] frameMainColors11 = {
-                        new Color(102, 102, 102, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(102, 102, 102, 255),
-                        new Color(0, 0, 0, 255),
-                        new Color(0, 0, 0, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient11 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions11, frameMainColors11);
-                    G2.setPaint(frameMainGradient11);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-
-                default:
-                    float[] frameMainFractions = {
-                        0.0f,
-                        0.07f,
-                        0.12f,
-                        1.0f
-                    };
-
-                    Color[] frameMainColors = {
-                        new Color(254, 254, 254, 255),
-                        new Color(210, 210, 210, 255),
-                        new Color(179, 179, 179, 255),
-                        new Color(213, 213, 213, 255)
-                    };
-                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
-                    Paint frameMainGradient = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions, frameMainColors);
-                    G2.setPaint(frameMainGradient);
-                    FRAME_MAIN_AREA.subtract(SUBTRACT);
-                    G2.fill(FRAME_MAIN_AREA);
-                    break;
-            }
         }
-
-        final GeneralPath FRAME_INNERFRAME = new GeneralPath();
-        FRAME_INNERFRAME.setWindingRule(Path2D.WIND_EVEN_ODD);
-        FRAME_INNERFRAME.moveTo(IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.41304347826086957 * VERTICAL_SCALE, IMAGE_WIDTH * 0.2651162790697674, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.7302325581395349, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.41304347826086957 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.lineTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE, IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
-        FRAME_INNERFRAME.closePath();
-        G2.setPaint(getInnerFrameColor());
-        final Area FRAME_INNERFRAME_AREA = new Area(FRAME_INNERFRAME);
-        FRAME_INNERFRAME_AREA.subtract(SUBTRACT);
-        G2.fill(FRAME_INNERFRAME_AREA);
-
-        // Apply frame effects
-        final float[] EFFECT_FRACTIONS;
-        final Color[] EFFECT_COLORS;
-        final GradientWrapper EFFECT_GRADIENT;
-        float scale = 1.0f;
-        final java.awt.Shape[] EFFECT = new java.awt.Shape[100];
-        switch (getFrameEffect()) {
-            case EFFECT_BULGE:
-                EFFECT_FRACTIONS = new float[]{
-                    0.0f,
-                    0.13f,
-                    0.14f,
-                    0.17f,
-                    0.18f,
-                    1.0f
-                };
-                EFFECT_COLORS = new Color[]{
-                    new Color(0, 0, 0, 102),            // Outside
-                    new Color(255, 255, 255, 151),
-                    new Color(219, 219, 219, 153),
-                    new Color(0, 0, 0, 95),
-                    new Color(0, 0, 0, 76),       // Inside
-                    new Color(0, 0, 0, 0)
-                };
-                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
-                for (int i = 0; i < 100; i++) {
-                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
-                    scale -= 0.01f;
-                }
-                G2.setStroke(new BasicStroke(1.5f));
-                for (int i = 0; i < EFFECT.length; i++) {
-                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
-                    G2.draw(EFFECT[i]);
-                }
-                break;
-
-            case EFFECT_CONE:
-                EFFECT_FRACTIONS = new float[]{
-                    0.0f,
-                    0.0399f,
-                    0.04f,
-                    0.1799f,
-                    0.18f,
-                    1.0f
-                };
-                EFFECT_COLORS = new Color[]{
-                    new Color(0, 0, 0, 76),
-                    new Color(223, 223, 223, 127),
-                    new Color(255, 255, 255, 124),
-                    new Color(9, 9, 9, 51),
-                    new Color(0, 0, 0, 50),
-                    new Color(0, 0, 0, 0)
-                };
-                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
-                for (int i = 0; i < 100; i++) {
-                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
-                    scale -= 0.01f;
-                }
-                G2.setStroke(new BasicStroke(1.5f));
-                for (int i = 0; i < EFFECT.length; i++) {
-                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
-                    G2.draw(EFFECT[i]);
-                }
-                break;
-
-            case EFFECT_TORUS:
-                EFFECT_FRACTIONS = new float[]{
-                    0.0f,
-                    0.08f,
-                    0.1799f,
-                    0.18f,
-                    1.0f
-                };
-                EFFECT_COLORS = new Color[]{
-                    new Color(0, 0, 0, 76),
-                    new Color(255, 255, 255, 64),
-                    new Color(13, 13, 13, 51),
-                    new Color(0, 0, 0, 50),
-                    new Color(0, 0, 0, 0)
-                };
-                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
-                for (int i = 0; i < 100; i++) {
-                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
-                    scale -= 0.01f;
-                }
-                G2.setStroke(new BasicStroke(1.5f));
-                for (int i = 0; i < EFFECT.length; i++) {
-                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
-                    G2.draw(EFFECT[i]);
-                }
-                break;
-
-            case EFFECT_INNER_FRAME:
-                final Shape EFFECT_BIGINNERFRAME = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, 0.8785046339035034);
-                final Point2D EFFECT_BIGINNERFRAME_START = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMinY());
-                final Point2D EFFECT_BIGINNERFRAME_STOP = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMaxY());
-                EFFECT_FRACTIONS = new float[]{
-                    0.0f,
-                    0.3f,
-                    0.5f,
-                    0.71f,
-                    1.0f
-                };
-                EFFECT_COLORS = new Color[]{
-                    new Color(0, 0, 0, 183),
-                    new Color(148, 148, 148, 25),
-                    new Color(0, 0, 0, 159),
-                    new Color(0, 0, 0, 81),
-                    new Color(255, 255, 255, 158)
-                };
-                Util.INSTANCE.validateGradientPoints(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP);
-                final LinearGradientPaint EFFECT_BIGINNERFRAME_GRADIENT = new LinearGradientPaint(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP, EFFECT_FRACTIONS, EFFECT_COLORS);
-                G2.setPaint(EFFECT_BIGINNERFRAME_GRADIENT);
-                G2.fill(EFFECT_BIGINNERFRAME);
-                break;
-        }
-
-        G2.dispose();
-
+        FRAME_FACTORY.createHalfFrame(WIDTH, getFrameDesign(), getCustomFrameDesign(), getFrameBaseColor(), isFrameBaseColorEnabled(), getFrameEffect(), image);
         return image;
     }
 
@@ -1189,183 +581,19 @@ public final class Radial2Top extends AbstractRadial {
         } else {
             VERTICAL_SCALE = 0.641860465116279;
         }
+        BACKGROUND_FACTORY.createHalfBackground(WIDTH, getBackgroundColor(), getCustomBackground(), getModel().getTextureColor(), isCustomLayerVisible() ? getCustomLayer() : null, image);
+
+        if (TITLE.isEmpty() && UNIT_STRING.isEmpty()) {
+            return image;
+        }
+
         final Graphics2D G2 = image.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
         G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         final int IMAGE_WIDTH = image.getWidth();
         final int IMAGE_HEIGHT = image.getHeight();
 
-        boolean fadeInOut = false;
-
-        final GeneralPath GAUGE_BACKGROUND = new GeneralPath();
-        GAUGE_BACKGROUND.setWindingRule(Path2D.WIND_EVEN_ODD);
-        GAUGE_BACKGROUND.moveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.41605839416058393 * VERTICAL_SCALE, IMAGE_WIDTH * 0.27102803738317754, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.7242990654205608, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.41605839416058393 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.8175182481751825 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.lineTo(IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.8175182481751825 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
-        GAUGE_BACKGROUND.closePath();
-
-        final Point2D GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
-        final Point2D GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
-        final float[] GAUGE_BACKGROUND_FRACTIONS = {
-            0.0f,
-            0.4f,
-            1.0f
-        };
-
-        Paint backgroundPaint = null;
-
-        // Set custom background paint if selected
-        if (getCustomBackground() != null && getBackgroundColor() == BackgroundColor.CUSTOM) {
-            G2.setPaint(getCustomBackground());
-        } else {
-            final Color[] GAUGE_BACKGROUND_COLORS = {
-                getBackgroundColor().GRADIENT_START_COLOR,
-                getBackgroundColor().GRADIENT_FRACTION_COLOR,
-                getBackgroundColor().GRADIENT_STOP_COLOR
-            };
-
-            if (getBackgroundColor() == BackgroundColor.BRUSHED_METAL) {
-                backgroundPaint = new TexturePaint(UTIL.createBrushMetalTexture(getModel().getTextureColor(), GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
-            } else if (getBackgroundColor() == BackgroundColor.STAINLESS) {
-                final float[] STAINLESS_FRACTIONS = {
-                    0f,
-                    0.03f,
-                    0.10f,
-                    0.14f,
-                    0.24f,
-                    0.33f,
-                    0.38f,
-                    0.5f,
-                    0.62f,
-                    0.67f,
-                    0.76f,
-                    0.81f,
-                    0.85f,
-                    0.97f,
-                    1.0f
-                };
-
-                // Define the colors of the conical gradient paint
-                final Color[] STAINLESS_COLORS = {
-                    new Color(0xFDFDFD),
-                    new Color(0xFDFDFD),
-                    new Color(0xB2B2B4),
-                    new Color(0xACACAE),
-                    new Color(0xFDFDFD),
-                    new Color(0x6E6E70),
-                    new Color(0x6E6E70),
-                    new Color(0xFDFDFD),
-                    new Color(0x6E6E70),
-                    new Color(0x6E6E70),
-                    new Color(0xFDFDFD),
-                    new Color(0xACACAE),
-                    new Color(0xB2B2B4),
-                    new Color(0xFDFDFD),
-                    new Color(0xFDFDFD)
-                };
-
-                // Define the conical gradient paint
-                backgroundPaint = new ConicalGradientPaint(false, getCenter(), -0.45f, STAINLESS_FRACTIONS, STAINLESS_COLORS);
-            } else if (getBackgroundColor() == BackgroundColor.STAINLESS_GRINDED) {
-                backgroundPaint = new TexturePaint(BACKGROUND_FACTORY.STAINLESS_GRINDED_TEXTURE, new java.awt.Rectangle(0, 0, 100, 100));
-            } else if (getBackgroundColor() == BackgroundColor.CARBON) {
-                backgroundPaint = new TexturePaint(BACKGROUND_FACTORY.CARBON_FIBRE_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
-                fadeInOut = true;
-            } else if (getBackgroundColor() == BackgroundColor.PUNCHED_SHEET) {
-                backgroundPaint = new TexturePaint(BACKGROUND_FACTORY.getPunchedSheetTexture(), new java.awt.Rectangle(0, 0, 12, 12));
-                fadeInOut = true;
-            } else if (getBackgroundColor() == BackgroundColor.LINEN) {
-                backgroundPaint = new TexturePaint(UTIL.createLinenTexture(getModel().getTextureColor(), GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
-            } else if (getBackgroundColor() == BackgroundColor.NOISY_PLASTIC) {
-                GAUGE_BACKGROUND_START.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMinY());
-                GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
-                if (GAUGE_BACKGROUND_START.equals(GAUGE_BACKGROUND_STOP)) {
-                    GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND_START.getY() + 1);
-                }
-                final float[] FRACTIONS = {
-                    0.0f,
-                    1.0f
-                };
-                final Color[] COLORS = {
-                    UTIL.lighter(getTextureColor(), 0.15f),
-                    UTIL.darker(getTextureColor(), 0.15f)
-                };
-                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
-                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, FRACTIONS, COLORS);
-            } else {
-                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
-                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, GAUGE_BACKGROUND_FRACTIONS, GAUGE_BACKGROUND_COLORS);
-            }
-            G2.setPaint(backgroundPaint);
-        }
-        G2.fill(GAUGE_BACKGROUND);
-
-        // Create inner shadow on background shape
-        final BufferedImage CLP;
-        if (getCustomBackground() != null && getBackgroundColor() == BackgroundColor.CUSTOM) {
-            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, getCustomBackground(), 0, 0.65f, Color.BLACK, 20, 315);
-        } else {
-            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, backgroundPaint, 0, 0.65f, Color.BLACK, 20, 315);
-        }
-        G2.drawImage(CLP, GAUGE_BACKGROUND.getBounds().x, GAUGE_BACKGROUND.getBounds().y, null);
-
-        // add noise if NOISY_PLASTIC
-        if (getBackgroundColor() == BackgroundColor.NOISY_PLASTIC) {
-            final Random BW_RND = new Random();
-            final Random ALPHA_RND = new Random();
-            final Shape OLD_CLIP = G2.getClip();
-            G2.setClip(GAUGE_BACKGROUND);
-            Color noiseColor;
-            int noiseAlpha;
-            for (int y = 0 ; y < GAUGE_BACKGROUND.getBounds().getHeight() ; y ++) {
-                for (int x = 0 ; x < GAUGE_BACKGROUND.getBounds().getWidth() ; x ++) {
-                    if (BW_RND.nextBoolean()) {
-                        noiseColor = BRIGHT_NOISE;
-                    } else {
-                        noiseColor = DARK_NOISE;
-                    }
-                    noiseAlpha = 10 + ALPHA_RND.nextInt(10) - 5;
-                    G2.setColor(new Color(noiseColor.getRed(), noiseColor.getGreen(), noiseColor.getBlue(), noiseAlpha));
-                    G2.drawLine((int) (x + GAUGE_BACKGROUND.getBounds2D().getMinX()), (int) (y + GAUGE_BACKGROUND.getBounds2D().getMinY()), (int) (x + GAUGE_BACKGROUND.getBounds2D().getMinX()), (int) (y + GAUGE_BACKGROUND.getBounds2D().getMinY()));
-                }
-            }
-            G2.setClip(OLD_CLIP);
-        }
-
-        // Draw an overlay gradient that gives the carbon fibre a more realistic look
-        if (fadeInOut) {
-            final float[] SHADOW_OVERLAY_FRACTIONS = {
-                0.0f,
-                0.4f,
-                0.6f,
-                1.0f
-            };
-            final Color[] SHADOW_OVERLAY_COLORS = {
-                new Color(0f, 0f, 0f, 0.6f),
-                new Color(0f, 0f, 0f, 0.0f),
-                new Color(0f, 0f, 0f, 0.0f),
-                new Color(0f, 0f, 0f, 0.6f)
-            };
-            final LinearGradientPaint SHADOW_OVERLAY_GRADIENT;
-            if (Util.INSTANCE.pointsEquals(GAUGE_BACKGROUND.getBounds2D().getMinX(), 0, GAUGE_BACKGROUND.getBounds2D().getMaxX(), 0)) {
-                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX() + 1, 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
-            } else {
-                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX(), 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
-            }
-            G2.setPaint(SHADOW_OVERLAY_GRADIENT);
-            G2.fill(GAUGE_BACKGROUND);
-        }
-
-        // Draw the custom layer if selected
-        if (isCustomLayerVisible()) {
-            G2.drawImage(UTIL.getScaledInstance(getCustomLayer(), IMAGE_WIDTH, (int) (IMAGE_HEIGHT * VERTICAL_SCALE), RenderingHints.VALUE_INTERPOLATION_BICUBIC), 0, 0, null);
-        }
-
         final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
 
         if (!TITLE.isEmpty()) {
@@ -1398,107 +626,7 @@ public final class Radial2Top extends AbstractRadial {
     }
 
     private BufferedImage create_GLOW_Image(final int WIDTH, final Color GLOW_COLOR, final boolean ON) {
-        if (WIDTH <= 0) {
-            return null;
-        }
-
-        final BufferedImage IMAGE = UTIL.createImage(WIDTH, (int) (0.641860465116279 * WIDTH), Transparency.TRANSLUCENT);
-
-        final Graphics2D G2 = IMAGE.createGraphics();
-        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
-
-        final int IMAGE_WIDTH = IMAGE.getWidth();
-        final int IMAGE_HEIGHT = IMAGE.getHeight();
-
-        final GeneralPath GLOWRING = new GeneralPath();
-        GLOWRING.setWindingRule(Path2D.WIND_EVEN_ODD);
-        GLOWRING.moveTo(IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.4233576642335766, IMAGE_WIDTH * 0.29906542056074764, IMAGE_HEIGHT * 0.1678832116788321, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.1678832116788321);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.705607476635514, IMAGE_HEIGHT * 0.1678832116788321, IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.883177570093458, IMAGE_HEIGHT * 0.8613138686131386, IMAGE_WIDTH * 0.883177570093458, IMAGE_HEIGHT * 0.8613138686131386);
-        GLOWRING.lineTo(IMAGE_WIDTH * 0.11682242990654206, IMAGE_HEIGHT * 0.8613138686131386);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.11682242990654206, IMAGE_HEIGHT * 0.8613138686131386, IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.closePath();
-        GLOWRING.moveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314, IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314);
-        GLOWRING.lineTo(IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.7242990654205608, IMAGE_HEIGHT * 0.13138686131386862, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.13138686131386862);
-        GLOWRING.curveTo(IMAGE_WIDTH * 0.27102803738317754, IMAGE_HEIGHT * 0.13138686131386862, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263);
-        GLOWRING.closePath();
-
-        if (!ON) {
-            final Point2D GLOWRING_OFF_START = new Point2D.Double(0, GLOWRING.getBounds2D().getMinY());
-            final Point2D GLOWRING_OFF_STOP = new Point2D.Double(0, GLOWRING.getBounds2D().getMaxY());
-
-            final float[] GLOWRING_OFF_FRACTIONS = {
-                0.0f,
-                0.19f,
-                0.2f,
-                0.39f,
-                0.4f,
-                0.64f,
-                0.65f,
-                0.82f,
-                1.0f
-            };
-            final Color[] GLOWRING_OFF_COLORS = {
-                new Color(204, 204, 204, 102),
-                new Color(255, 255, 255, 102),
-                new Color(250, 250, 250, 102),
-                new Color(158, 158, 158, 102),
-                new Color(153, 153, 153, 102),
-                new Color(202, 202, 202, 102),
-                new Color(204, 204, 204, 102),
-                new Color(255, 255, 255, 102),
-                new Color(153, 153, 153, 102)
-            };
-            Util.INSTANCE.validateGradientPoints(GLOWRING_OFF_START, GLOWRING_OFF_STOP);
-            final LinearGradientPaint GLOWRING_OFF_GRADIENT = new LinearGradientPaint(GLOWRING_OFF_START, GLOWRING_OFF_STOP, GLOWRING_OFF_FRACTIONS, GLOWRING_OFF_COLORS);
-            G2.setPaint(GLOWRING_OFF_GRADIENT);
-            G2.fill(GLOWRING);
-        } else {
-            G2.translate(-10, -10);
-            G2.drawImage(Shadow.INSTANCE.createDropShadow(GLOWRING, UTIL.setAlpha(GLOW_COLOR, 0.8f), GLOW_COLOR, true, null, null, 0, 1.0f, 10, 315, GLOW_COLOR), GLOWRING.getBounds().x, GLOWRING.getBounds().y, null);
-            G2.translate(10, 10);
-
-            final Point2D GLOWRING_HL_START = new Point2D.Double(0, GLOWRING.getBounds2D().getMinY());
-            final Point2D GLOWRING_HL_STOP = new Point2D.Double(0, GLOWRING.getBounds2D().getMaxY());
-            final float[] GLOWRING_HL_FRACTIONS = {
-                0.0f,
-                0.26f,
-                0.42f,
-                0.42009997f,
-                0.56f,
-                0.5601f,
-                0.96f,
-                0.9601f,
-                1.0f
-            };
-            final Color[] GLOWRING_HL_COLORS = {
-                new Color(255, 255, 255, 0),
-                new Color(255, 255, 255, 63),
-                new Color(255, 255, 255, 102),
-                new Color(255, 255, 255, 98),
-                new Color(255, 255, 255, 3),
-                new Color(255, 255, 255, 0),
-                new Color(255, 255, 255, 0),
-                new Color(255, 255, 255, 0),
-                new Color(255, 255, 255, 102)
-            };
-            Util.INSTANCE.validateGradientPoints(GLOWRING_HL_START, GLOWRING_HL_STOP);
-            final LinearGradientPaint GLOWRING_HL_GRADIENT = new LinearGradientPaint(GLOWRING_HL_START, GLOWRING_HL_STOP, GLOWRING_HL_FRACTIONS, GLOWRING_HL_COLORS);
-            G2.setPaint(GLOWRING_HL_GRADIENT);
-            G2.fill(GLOWRING);
-        }
-        G2.dispose();
-
-        // Memoize parameters
-
-
-        return IMAGE;
+        return GLOW_FACTORY.createHalfGlow(WIDTH, GLOW_COLOR, ON);
     }
 
     private BufferedImage create_POSTS_Image(final int WIDTH, BufferedImage image) {
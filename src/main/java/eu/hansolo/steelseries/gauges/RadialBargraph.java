@@ -34,6 +34,7 @@ import eu.hansolo.steelseries.tools.Model;
 import eu.hansolo.steelseries.tools.NumberSystem;
 import eu.hansolo.steelseries.tools.Orientation;
 import eu.hansolo.steelseries.tools.Section;
+import eu.hansolo.steelseries.tools.SectionIndex;
 import eu.hansolo.steelseries.tools.Util;
 
 import java.awt.AlphaComposite;
@@ -41,6 +42,7 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.LinearGradientPaint;
+import java.awt.Paint;
 import java.awt.RadialGradientPaint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
@@ -48,6 +50,7 @@ import java.awt.Transparency;
 import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
 import java.awt.geom.Area;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -61,6 +64,7 @@ import java.awt.image.BufferedImage;
 public class RadialBargraph extends AbstractRadialBargraph {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
     private static final int BASE = 10;
+    private static final double LED_STEP = 5.0;
     private double ledTrackStartAngle;
     private double ledTrackAngleExtend;
     private BufferedImage bImage;
@@ -78,6 +82,11 @@ public class RadialBargraph extends AbstractRadialBargraph {
     private RadialGradientPaint ledGradient;
     private java.util.HashMap<Section, RadialGradientPaint> sectionGradients;
     private java.util.HashMap<Section, Point2D> sectionAngles;
+    private final BufferedImage[] LED_STRIP_IMAGES = new BufferedImage[2];
+    private Paint[] ledStripPaints;
+    private boolean ledStripSectionsVisible;
+    private double ledStripOffset;
+    private final Arc2D LED_STRIP_CLIP = new Arc2D.Double(Arc2D.PIE);
     private final Rectangle2D LCD = new Rectangle2D.Double();
     private final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
     private TextLayout unitLayout;
@@ -291,6 +300,7 @@ public class RadialBargraph extends AbstractRadialBargraph {
         G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         // Translate coordinate system related to insets
+        final AffineTransform COMPONENT_TRANSFORM = G2.getTransform();
         G2.translate(getFramelessOffset().getX(), getFramelessOffset().getY());
 
         // Draw combined background image
@@ -384,33 +394,38 @@ public class RadialBargraph extends AbstractRadialBargraph {
         }
 
         if (!getModel().isSingleLedBargraphEnabled()) {
-            for (double angle = 0; Double.compare(angle, ACTIVE_LED_ANGLE) <= 0; angle += 5.0) {
-                G2.rotate(Math.toRadians(angle + getModel().getBargraphOffset()), CENTER.getX(), CENTER.getY());
-                // If sections visible, color the bargraph with the given section colors
-                G2.setPaint(ledGradient);
-                if (isSectionsVisible()) {
-                    // Use defined bargraphColor in areas where no section is defined
-                    for (Section section : getSections()) {
-                        if (Double.compare(angle, sectionAngles.get(section).getX()) >= 0 && angle < sectionAngles.get(section).getY()) {
-                            G2.setPaint(sectionGradients.get(section));
-                            break;
-                        }
+            if (Double.compare(ACTIVE_LED_ANGLE, 0) >= 0) {
+                // All leds are pre-rendered with their section colors, so the active leds
+                // will be drawn with one clipped drawImage call per strip
+                if (LED_STRIP_IMAGES[0] == null || ledStripSectionsVisible != isSectionsVisible() || Double.compare(ledStripOffset, getModel().getBargraphOffset()) != 0) {
+                    createLedStrips();
+                }
+                final int LAST_ACTIVE_LED = Math.min((int) (ACTIVE_LED_ANGLE / LED_STEP), ledStripPaints.length - 1);
+                final java.awt.Shape OLD_CLIP = G2.getClip();
+                for (int strip = 0; strip < 2 && strip <= LAST_ACTIVE_LED; strip++) {
+                    final int LAST_STRIP_LED = LAST_ACTIVE_LED - ((LAST_ACTIVE_LED - strip) % 2);
+                    if (LAST_STRIP_LED + 2 < ledStripPaints.length) {
+                        // The leds are rotated clockwise starting at 9 o'clock, the clip ends in the
+                        // middle of the next led which is part of the other strip
+                        LED_STRIP_CLIP.setArcByCenter(CENTER.getX(), CENTER.getY(), getGaugeBounds().width,
+                                                      180 - getModel().getBargraphOffset() - (LAST_STRIP_LED + 1) * LED_STEP,
+                                                      (LAST_STRIP_LED + 2) * LED_STEP, Arc2D.PIE);
+                        G2.clip(LED_STRIP_CLIP);
                     }
-                } else {
-                    G2.setPaint(ledGradient);
+                    G2.setTransform(COMPONENT_TRANSFORM);
+                    G2.drawImage(LED_STRIP_IMAGES[strip], 0, 0, null);
+                    G2.setTransform(OLD_TRANSFORM);
+                    G2.setClip(OLD_CLIP);
                 }
-                G2.fill(led);
-                G2.setTransform(OLD_TRANSFORM);
+                G2.setPaint(ledStripPaints[LAST_ACTIVE_LED]);
             }
         } else {   // Draw only one led instead of all active leds
             final double ANGLE = Math.toRadians(((getValue() - getMinValue()) / (getMaxValue() - getMinValue())) * getModel().getApexAngle());
             G2.rotate(ANGLE, CENTER.getX(), CENTER.getY());
             if (isSectionsVisible()) {
-                for (Section section : getSections()) {
-                    if (Double.compare(ANGLE, sectionAngles.get(section).getX()) >= 0 && ANGLE < sectionAngles.get(section).getY()) {
-                        G2.setPaint(sectionGradients.get(section));
-                        break;
-                    }
+                final Section ACTIVE_SECTION = getModel().getSectionIndex().getSectionAt(getValue());
+                if (ACTIVE_SECTION != null && sectionGradients.containsKey(ACTIVE_SECTION)) {
+                    G2.setPaint(sectionGradients.get(ACTIVE_SECTION));
                 }
             } else {
                 G2.setPaint(ledGradient);
@@ -460,7 +475,7 @@ public class RadialBargraph extends AbstractRadialBargraph {
     @Override
     public void setBarGraphColor(final ColorDef BARGRAPH_COLOR) {
         this.barGraphColor = BARGRAPH_COLOR;
-        init(getInnerBounds().width, getInnerBounds().height);
+        requestInit(getInnerBounds().width, getInnerBounds().height);
         repaint(getInnerBounds());
     }
 
@@ -494,6 +509,59 @@ public class RadialBargraph extends AbstractRadialBargraph {
         }
 
         ledGradient = new RadialGradientPaint(LED_CENTER, (float) (0.030373831775700934 * WIDTH), LED_FRACTIONS, ledColors);
+        LED_STRIP_IMAGES[0] = null;
+    }
+
+    /**
+     * Renders all leds of the bargraph in their active colors (including the section
+     * colors) in the coordinate system of the component. The even and the odd leds
+     * are rendered into two separate strips, so that a strip can be clipped in the
+     * middle of a led of the other strip without cutting the antialiased edges.
+     */
+    private void createLedStrips() {
+        ledStripSectionsVisible = isSectionsVisible();
+        ledStripOffset = getModel().getBargraphOffset();
+        final int LED_COUNT = (int) (getModel().getApexAngle() / LED_STEP) + 1;
+        ledStripPaints = new Paint[LED_COUNT];
+        final Graphics2D[] STRIPS = new Graphics2D[2];
+        for (int strip = 0; strip < 2; strip++) {
+            if (LED_STRIP_IMAGES[strip] != null) {
+                LED_STRIP_IMAGES[strip].flush();
+            }
+            LED_STRIP_IMAGES[strip] = UTIL.createImage(getWidth(), getHeight(), Transparency.TRANSLUCENT);
+            STRIPS[strip] = LED_STRIP_IMAGES[strip].createGraphics();
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            STRIPS[strip].setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+            STRIPS[strip].translate(getFramelessOffset().getX(), getFramelessOffset().getY());
+        }
+        final AffineTransform OLD_TRANSFORM = STRIPS[0].getTransform();
+        final SectionIndex SECTION_INDEX = getModel().getSectionIndex();
+        // Value range of one led, used to look up the sections that could contain a led
+        final double LED_RANGE = Math.abs(LED_STEP / getModel().getApexAngle() * (getMaxValue() - getMinValue()));
+        for (int i = 0; i < LED_COUNT; i++) {
+            final double ANGLE = i * LED_STEP;
+            // If sections visible, color the bargraph with the given section colors
+            // and use the defined bargraphColor in areas where no section is defined
+            ledStripPaints[i] = ledGradient;
+            if (ledStripSectionsVisible) {
+                final double LED_VALUE = getMinValue() + ANGLE / getModel().getApexAngle() * (getMaxValue() - getMinValue());
+                for (Section section : SECTION_INDEX.getSections(LED_VALUE - LED_RANGE, LED_VALUE + LED_RANGE)) {
+                    final Point2D SECTION_ANGLES = sectionAngles.get(section);
+                    if (SECTION_ANGLES != null && Double.compare(ANGLE, SECTION_ANGLES.getX()) >= 0 && ANGLE < SECTION_ANGLES.getY()) {
+                        ledStripPaints[i] = sectionGradients.get(section);
+                        break;
+                    }
+                }
+            }
+            final Graphics2D G2 = STRIPS[i % 2];
+            G2.rotate(Math.toRadians(ANGLE + ledStripOffset), CENTER.getX(), CENTER.getY());
+            G2.setPaint(ledStripPaints[i]);
+            G2.fill(led);
+            G2.setTransform(OLD_TRANSFORM);
+        }
+        STRIPS[0].dispose();
+        STRIPS[1].dispose();
     }
 
     private void calcBargraphTrack() {
@@ -29,9 +29,13 @@ package eu.hansolo.steelseries.gauges;
 
 import eu.hansolo.steelseries.tools.ColorDef;
 import eu.hansolo.steelseries.tools.DataPoint;
+import eu.hansolo.steelseries.tools.DataPointBuffer;
 import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.MeasuredComponent;
+import eu.hansolo.steelseries.tools.RenderMetrics;
 import eu.hansolo.steelseries.tools.SmoothingFunction;
 import eu.hansolo.steelseries.tools.Util;
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -56,27 +60,27 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import javax.swing.JComponent;
 
 
 /**
  *
  * @author hansolo
  */
-public class SparkLine extends JComponent {
+public class SparkLine extends MeasuredComponent {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
 
     private static final Util UTIL = Util.INSTANCE;
     private static final DecimalFormat DF = new DecimalFormat("0.00");
     private final Rectangle INNER_BOUNDS = new Rectangle(0, 0, 128, 48);
     private boolean recreateImages;
-    private final LinkedList<DataPoint> DATA_LIST;
+    private final DataPointBuffer DATA_BUFFER;
     private List<Double> sortedList = new ArrayList<Double>(3600);
-    private List<DataPoint> trashList;
-    private List<Point2D> pointList;
+    private double[] pointX;
+    private double[] pointY;
+    private int pointCount;
     private final Color DISABLED_COLOR;
     private double start;
     private double stop;
@@ -84,6 +88,8 @@ public class SparkLine extends JComponent {
     private double hi;
     private int loIndex;
     private int hiIndex;
+    private int loPointIndex;
+    private int hiPointIndex;
     private double offset;
     private double scaleY;
     private double rangeY;
@@ -154,9 +160,10 @@ public class SparkLine extends JComponent {
     public SparkLine() {
         super();
         recreateImages = true;
-        DATA_LIST = new LinkedList<DataPoint>();
-        trashList = new ArrayList<DataPoint>(512);
-        pointList = new ArrayList<Point2D>(INNER_BOUNDS.width);
+        DATA_BUFFER = new DataPointBuffer(512);
+        pointX = new double[512];
+        pointY = new double[512];
+        pointCount = 0;
         DISABLED_COLOR = new Color(102, 102, 102, 178);
         scaleY = 1.0;
         rangeY = 0;
@@ -202,60 +209,77 @@ public class SparkLine extends JComponent {
         if (WIDTH <= 1 || HEIGHT <= 1) {
             return;
         }
+        synchronized (getInitLock()) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
+                if (recreateImages) {
+                    if (sparkLineBackgroundImage != null) {
+                        sparkLineBackgroundImage.flush();
+                    }
+                    sparkLineBackgroundImage = create_SPARK_LINE_BACKGROUND_Image(WIDTH, HEIGHT);
 
-        final double CORNER_RADIUS = WIDTH > HEIGHT ? (HEIGHT * 0.095) : (WIDTH * 0.095);
-        if (recreateImages) {
-            if (sparkLineBackgroundImage != null) {
-                sparkLineBackgroundImage.flush();
-            }
-            sparkLineBackgroundImage = create_SPARK_LINE_BACKGROUND_Image(WIDTH, HEIGHT);
+                    // set the clip shape
+                    CLIP_SHAPE.setRoundRect(1, 1, WIDTH - 2, HEIGHT - 2, CORNER_RADIUS - 1, CORNER_RADIUS - 1);
 
-            // set the clip shape
-            CLIP_SHAPE.setRoundRect(1, 1, WIDTH - 2, HEIGHT - 2, CORNER_RADIUS - 1, CORNER_RADIUS - 1);
+                    if (startIndicatorImage != null) {
+                        startIndicatorImage.flush();
+                    }
+                    //startIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.GRAY);
+                    startIndicatorImage = create_START_STOP_INDICATOR_Image(WIDTH);
 
-            if (startIndicatorImage != null) {
-                startIndicatorImage.flush();
-            }
-            //startIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.GRAY);
-            startIndicatorImage = create_START_STOP_INDICATOR_Image(WIDTH);
+                    if (stopIndicatorImage != null) {
+                        stopIndicatorImage.flush();
+                    }
+                    //stopIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.GRAY);
+                    stopIndicatorImage = create_START_STOP_INDICATOR_Image(WIDTH);
 
-            if (stopIndicatorImage != null) {
-                stopIndicatorImage.flush();
-            }
-            //stopIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.GRAY);
-            stopIndicatorImage = create_START_STOP_INDICATOR_Image(WIDTH);
+                    if (loIndicatorImage != null) {
+                        loIndicatorImage.flush();
+                    }
+                    //loIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.BLUE);
+                    loIndicatorImage = create_LO_INDICATOR_Image(WIDTH);
 
-            if (loIndicatorImage != null) {
-                loIndicatorImage.flush();
-            }
-            //loIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.BLUE);
-            loIndicatorImage = create_LO_INDICATOR_Image(WIDTH);
+                    if (hiIndicatorImage != null) {
+                        hiIndicatorImage.flush();
+                    }
+                    //hiIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.RED);
+                    hiIndicatorImage = create_HI_INDICATOR_Image(WIDTH);
+                }
+                recreateImages = false;
+
+                disabledShape = new java.awt.geom.RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+
+                // Calculation and creation of sparkline itself
+                pixelResolution = INNER_BOUNDS.getWidth() / (double) timeFrame;
+                //offset = (int)(0.015 * WIDTH) < 4 ? 4 : (int)(0.015 * WIDTH);
+                offset = (int) (0.06 * WIDTH) < 8 ? 8 : (int) (0.06 * WIDTH);
 
-            if (hiIndicatorImage != null) {
-                hiIndicatorImage.flush();
+                updateSparkLine(WIDTH, HEIGHT);
+            } finally {
+                RenderMetrics.INSTANCE.endInit(this, START);
             }
-            //hiIndicatorImage = createIndicatorImage(WIDTH, HEIGHT, ColorDef.RED);
-            hiIndicatorImage = create_HI_INDICATOR_Image(WIDTH);
         }
-        recreateImages = false;
-
-        disabledShape = new java.awt.geom.RoundRectangle2D.Double(0, 0, WIDTH, HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+    }
 
-        // Calculation and creation of sparkline itself
-        pixelResolution = INNER_BOUNDS.getWidth() / (double) timeFrame;
-        //offset = (int)(0.015 * WIDTH) < 4 ? 4 : (int)(0.015 * WIDTH);
-        offset = (int) (0.06 * WIDTH) < 8 ? 8 : (int) (0.06 * WIDTH);
+    /**
+     * Recalculates the sparkline and redraws the image of the sparkline itself.
+     * All other images stay untouched.
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    private void updateSparkLine(final int WIDTH, final int HEIGHT) {
+        if (WIDTH <= 1 || HEIGHT <= 1) {
+            return;
+        }
 
         baseLineY = INNER_BOUNDS.y + INNER_BOUNDS.height - ((0 - lo) * (1 / scaleY) + offset);
 
-        if (!DATA_LIST.isEmpty()) {
+        if (!DATA_BUFFER.isEmpty()) {
             calculate(WIDTH, HEIGHT);
         }
 
-        if (sparkLineImage != null) {
-            sparkLineImage.flush();
-        }
-        sparkLineImage = createSparkLineImage(WIDTH, HEIGHT);
+        sparkLineImage = createSparkLineImage(WIDTH, HEIGHT, sparkLineImage);
     }
     // </editor-fold>
 
@@ -322,43 +346,22 @@ public class SparkLine extends JComponent {
 
     // <editor-fold defaultstate="collapsed" desc="Getters / Setters">
     /**
-     * Adds a new value to the DATA_LIST of the sparkline
+     * Adds a new value to the data buffer of the sparkline
      * @param DATA
      */
     public void addDataPoint(final double DATA) {
-        for (DataPoint dataPoint : DATA_LIST) {
-            if (System.currentTimeMillis() - dataPoint.getTimeStamp() > timeFrame) {
-                trashList.add(dataPoint);
-            }
-        }
-
-        for (DataPoint dataPoint : trashList) {
-            DATA_LIST.remove(dataPoint);
-        }
-        trashList.clear();
-        DATA_LIST.add(new DataPoint(System.currentTimeMillis(), DATA));
-        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
-        repaint(INNER_BOUNDS);
+        addDataPoint(DATA, System.currentTimeMillis());
     }
 
     /**
-     * Adds a new value to the DATA_LIST with the given timestamp
+     * Adds a new value to the data buffer with the given timestamp
      * @param DATA
      * @param TIMESTAMP (type long like you get it with System.currentTimeMillis())
      */
     public void addDataPoint(final double DATA, final long TIMESTAMP) {
-        for (DataPoint dataPoint : DATA_LIST) {
-            if (TIMESTAMP - dataPoint.getTimeStamp() > timeFrame) {
-                trashList.add(dataPoint);
-            }
-        }
-
-        for (DataPoint dataPoint : trashList) {
-            DATA_LIST.remove(dataPoint);
-        }
-        trashList.clear();
-        DATA_LIST.add(new DataPoint(TIMESTAMP, DATA));
-        init(INNER_BOUNDS.width, INNER_BOUNDS.height);
+        DATA_BUFFER.removeOlderThan(TIMESTAMP, timeFrame);
+        DATA_BUFFER.add(TIMESTAMP, DATA);
+        updateSparkLine(INNER_BOUNDS.width, INNER_BOUNDS.height);
         repaint(INNER_BOUNDS);
     }
 
@@ -367,48 +370,53 @@ public class SparkLine extends JComponent {
      * @return the linked list that contains the current data of the sparkline
      */
     public List<DataPoint> getDataList() {
-        List<DataPoint> dataListCopy = new LinkedList<eu.hansolo.steelseries.tools.DataPoint>();
-        dataListCopy.addAll(DATA_LIST);
+        final List<DataPoint> dataListCopy = new LinkedList<DataPoint>();
+        final int SIZE = DATA_BUFFER.size();
+        for (int i = 0; i < SIZE; i++) {
+            dataListCopy.add(new DataPoint(DATA_BUFFER.getTimestamp(i), DATA_BUFFER.getValue(i)));
+        }
         return dataListCopy;
     }
 
     /**
-     * Clears the existing DATA_LIST and adds all elements from the given LinkedList to it
+     * Clears the existing data buffer and adds all elements from the given LinkedList to it
      * @param dataList
      */
     public void setDataList(LinkedList<DataPoint> dataList) {
-        DATA_LIST.clear();
-        DATA_LIST.addAll(dataList);
+        DATA_BUFFER.clear();
+        for (DataPoint dataPoint : dataList) {
+            DATA_BUFFER.add(dataPoint.getTimeStamp(), dataPoint.getValue());
+        }
         repaint(INNER_BOUNDS);
     }
 
     /**
-     * Returns the first entry in the sparkline DATA_LIST
-     * @return the first entry in the sparkline DATA_LIST
+     * Returns the first entry in the sparkline data
+     * @return the first entry in the sparkline data
      */
     public double getStart() {
         return this.start;
     }
 
     /**
-     * Returns the first last in the sparkline DATA_LIST
-     * @return the last entry in the sparkline DATA_LIST
+     * Returns the last entry in the sparkline data
+     * @return the last entry in the sparkline data
      */
     public double getStop() {
         return this.stop;
     }
 
     /**
-     * Returns the entry with the lowest value in the sparkline DATA_LIST
-     * @return the entry with the lowest value in the sparkline DATA_LIST
+     * Returns the entry with the lowest value in the sparkline data
+     * @return the entry with the lowest value in the sparkline data
      */
     public double getLo() {
         return this.lo;
     }
 
     /**
-     * Returns the entry with the highest value in the sparkline DATA_LIST
-     * @return the entry with the highest value in the sparkline DATA_LIST
+     * Returns the entry with the highest value in the sparkline data
+     * @return the entry with the highest value in the sparkline data
      */
     public double getHi() {
         return this.hi;
@@ -419,18 +427,7 @@ public class SparkLine extends JComponent {
      * @return the calculated varianz of the current data
      */
     public double getVariance() {
-        if (!DATA_LIST.isEmpty()) {
-            double sum = 0;
-            double sumOfSquares = 0;
-            double average = 0;
-            for (DataPoint dataPoint : DATA_LIST) {
-                sumOfSquares += (dataPoint.getValue() * dataPoint.getValue());
-                sum += dataPoint.getValue();
-            }
-            average = sum / DATA_LIST.size();
-            return (sumOfSquares / DATA_LIST.size()) - average * average;
-        }
-        return 0;
+        return DATA_BUFFER.getVariance();
     }
 
     /**
@@ -438,14 +435,7 @@ public class SparkLine extends JComponent {
      * @return the calculated average of the current data
      */
     public double getAverage() {
-        if (!DATA_LIST.isEmpty()) {
-            double sum = 0;
-            for (DataPoint dataPoint : DATA_LIST) {
-                sum += dataPoint.getValue();
-            }
-            return sum / DATA_LIST.size();
-        }
-        return 0;
+        return DATA_BUFFER.getAverage();
     }
 
     /**
@@ -465,7 +455,7 @@ public class SparkLine extends JComponent {
     }
 
     public double getQ1() {
-        if (DATA_LIST.size() > 2) {
+        if (DATA_BUFFER.size() > 2) {
             sortData();
             int stopIndex;
             if (sortedList.size() % 2 != 0) {
@@ -483,7 +473,7 @@ public class SparkLine extends JComponent {
     }
 
     public double getQ3() {
-        if (DATA_LIST.size() > 2) {
+        if (DATA_BUFFER.size() > 2) {
             sortData();
             int startIndex = sortedList.size() / 2;
             return (sortedList.subList(startIndex, sortedList.size() - 1)).get(((sortedList.subList(startIndex, sortedList.size() - 1)).size() / 2));
@@ -496,7 +486,7 @@ public class SparkLine extends JComponent {
      * @return the median of the measured values
      */
     public double getMedian() {
-        if (DATA_LIST.size() > 2) {
+        if (DATA_BUFFER.size() > 2) {
             sortData();
 
             if (sortedList.size() % 2 != 0) {
@@ -532,10 +522,10 @@ public class SparkLine extends JComponent {
      * @return the timestamp of the first value in the datalist as a long
      */
     public long getStartTimestamp() {
-        if (DATA_LIST.isEmpty()) {
+        if (DATA_BUFFER.isEmpty()) {
             return 0;
         }
-        return DATA_LIST.getFirst().getTimeStamp();
+        return DATA_BUFFER.getTimestamp(0);
     }
 
     /**
@@ -544,10 +534,10 @@ public class SparkLine extends JComponent {
      * @return the timestamp of the last value in the datalist as a long
      */
     public long getStopTimestamp() {
-        if (DATA_LIST.isEmpty()) {
+        if (DATA_BUFFER.isEmpty()) {
             return 0;
         }
-        return DATA_LIST.getLast().getTimeStamp();
+        return DATA_BUFFER.getTimestamp(DATA_BUFFER.size() - 1);
     }
 
     /**
@@ -929,26 +919,22 @@ public class SparkLine extends JComponent {
     // <editor-fold defaultstate="collapsed" desc="Calculation methods">
     /**
      * Calculates the sparkline with all it's parameters. This methods
-     * will be called everytime a new value was added to the DATA_LIST
+     * will be called everytime a new value was added to the data buffer
      * @param WIDTH
      * @param HEIGHT
      */
     private void calculate(final int WIDTH, final int HEIGHT) {
+        final int SIZE = DATA_BUFFER.size();
+
         // Set start and stop values
-        start = DATA_LIST.getFirst().getValue();
-        stop = DATA_LIST.getLast().getValue();
-
-        // Find min and max values
-        lo = DATA_LIST.getFirst().getValue();
-        hi = DATA_LIST.getFirst().getValue();
-        loIndex = 0;
-        hiIndex = 0;
-        final int SIZE = DATA_LIST.size();
-        double y;
-        for (int index = 0; index < SIZE; index++) {
-            y = DATA_LIST.get(index).getValue();
-            calcHiLoValues(y, index);
-        }
+        start = DATA_BUFFER.getValue(0);
+        stop = DATA_BUFFER.getValue(SIZE - 1);
+
+        // Min and max values are tracked by the data buffer
+        lo = DATA_BUFFER.getMin();
+        hi = DATA_BUFFER.getMax();
+        loIndex = DATA_BUFFER.getMinIndex();
+        hiIndex = DATA_BUFFER.getMaxIndex();
 
         // Calculate the range from min to max
         rangeY = hi - lo;
@@ -960,12 +946,17 @@ public class SparkLine extends JComponent {
         scaleY = rangeY / ((double) HEIGHT - (offset * 2));
 
         // Fill the pointlist with smoothing if possible
-        pointList.clear();
-        if (DATA_LIST.size() > 5 && smoothing) {
+        pointCount = 0;
+        loPointIndex = loIndex;
+        hiPointIndex = hiIndex;
+        final long FIRST_TIMESTAMP = DATA_BUFFER.getTimestamp(0);
+        if (SIZE > 5 && smoothing) {
             smoothData();
+        } else if (SIZE > 4 * WIDTH) {
+            decimateData();
         } else {
             for (int index = 0; index < SIZE; index++) {
-                pointList.add(new Point2D.Double((DATA_LIST.get(index).getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((DATA_LIST.get(index).getValue() - lo) * (1 / scaleY) + offset)));
+                addPoint((DATA_BUFFER.getTimestamp(index) - FIRST_TIMESTAMP) * pixelResolution, ((DATA_BUFFER.getValue(index) - lo) * (1 / scaleY) + offset));
             }
         }
 
@@ -979,40 +970,40 @@ public class SparkLine extends JComponent {
     }
 
     /**
-     * Calls the selected smoothing functions and fills the POINT_LIST
+     * Calls the selected smoothing functions and fills the point arrays
      * with the smoothed data
      */
     private void smoothData() {
-        final int SIZE = DATA_LIST.size();
+        final int SIZE = DATA_BUFFER.size();
+        final long FIRST_TIMESTAMP = DATA_BUFFER.getTimestamp(0);
         double y;
 
         switch (smoothFunction) {
             case CONTINUOUS_AVERAGE:
                 // Add first point
-                pointList.add(new Point2D.Double(0, ((DATA_LIST.getFirst().getValue() - lo) * (1 / scaleY) + offset)));
+                addPoint(0, ((DATA_BUFFER.getValue(0) - lo) * (1 / scaleY) + offset));
 
                 // Add the averaged points
                 for (int i = 1; i < SIZE - 1; i++) {
-                    //System.out.println((a * dataList.get(i - 1) + b * dataList.get(i) + c * (dataList.get( i + 1))) / (a + b + c));
-                    y = continuousAverage(DATA_LIST.get(i - 1).getValue(), DATA_LIST.get(i).getValue(), DATA_LIST.get(i + 1).getValue());
-                    pointList.add(new Point2D.Double((DATA_LIST.get(i).getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((y - lo) * (1 / scaleY) + offset)));
+                    y = continuousAverage(DATA_BUFFER.getValue(i - 1), DATA_BUFFER.getValue(i), DATA_BUFFER.getValue(i + 1));
+                    addPoint((DATA_BUFFER.getTimestamp(i) - FIRST_TIMESTAMP) * pixelResolution, ((y - lo) * (1 / scaleY) + offset));
                 }
 
                 // Add last point
-                pointList.add(new Point2D.Double((DATA_LIST.getLast().getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((DATA_LIST.getLast().getValue() - lo) * (1 / scaleY) + offset)));
+                addPoint((DATA_BUFFER.getTimestamp(SIZE - 1) - FIRST_TIMESTAMP) * pixelResolution, ((DATA_BUFFER.getValue(SIZE - 1) - lo) * (1 / scaleY) + offset));
                 break;
 
             case CUBIC_SPLINE:
                 for (int i = 2; i < SIZE - 1; i++) {
-                    y = cubicInterpolate(DATA_LIST.get(i - 2).getValue(), DATA_LIST.get(i - 1).getValue(), DATA_LIST.get(i).getValue(), DATA_LIST.get(i + 1).getValue(), 0.5);
-                    pointList.add(new Point2D.Double((DATA_LIST.get(i).getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((y - lo) * (1 / scaleY) + offset)));
+                    y = cubicInterpolate(DATA_BUFFER.getValue(i - 2), DATA_BUFFER.getValue(i - 1), DATA_BUFFER.getValue(i), DATA_BUFFER.getValue(i + 1), 0.5);
+                    addPoint((DATA_BUFFER.getTimestamp(i) - FIRST_TIMESTAMP) * pixelResolution, ((y - lo) * (1 / scaleY) + offset));
                 }
                 break;
 
             case HERMITE:
                 for (int i = 2; i < SIZE - 1; i++) {
-                    y = hermiteInterpolate(DATA_LIST.get(i - 2).getValue(), DATA_LIST.get(i - 1).getValue(), DATA_LIST.get(i - 0).getValue(), DATA_LIST.get(i + 1).getValue(), 0.5, 0, 0);
-                    pointList.add(new Point2D.Double((DATA_LIST.get(i).getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((y - lo) * (1 / scaleY) + offset)));
+                    y = hermiteInterpolate(DATA_BUFFER.getValue(i - 2), DATA_BUFFER.getValue(i - 1), DATA_BUFFER.getValue(i - 0), DATA_BUFFER.getValue(i + 1), 0.5, 0, 0);
+                    addPoint((DATA_BUFFER.getTimestamp(i) - FIRST_TIMESTAMP) * pixelResolution, ((y - lo) * (1 / scaleY) + offset));
                 }
                 break;
 
@@ -1020,40 +1011,101 @@ public class SparkLine extends JComponent {
 
             default:
                 for (int i = 0; i < SIZE - 1; i++) {
-                    y = cosInterpolate(DATA_LIST.get(i).getValue(), DATA_LIST.get(i + 1).getValue(), 0.5);
-                    pointList.add(new Point2D.Double((DATA_LIST.get(i).getTimeStamp() - DATA_LIST.getFirst().getTimeStamp()) * pixelResolution, ((y - lo) * (1 / scaleY) + offset)));
+                    y = cosInterpolate(DATA_BUFFER.getValue(i), DATA_BUFFER.getValue(i + 1), 0.5);
+                    addPoint((DATA_BUFFER.getTimestamp(i) - FIRST_TIMESTAMP) * pixelResolution, ((y - lo) * (1 / scaleY) + offset));
                 }
                 break;
         }
     }
 
     /**
-     * Calculates the max and min measured values and stores the index of the
-     * related values in in loIndex and hiIndex.
-     * @param y
-     * @param index
-     */
-    private void calcHiLoValues(double y, int index) {
-        if (y < lo) {
-            lo = y;
-            loIndex = index;
+     * Fills the point arrays with the first, min, max and last value of each
+     * pixel column which results in the same line as drawing all values but
+     * needs at most four points per pixel.
+     */
+    private void decimateData() {
+        final int SIZE = DATA_BUFFER.size();
+        final long FIRST_TIMESTAMP = DATA_BUFFER.getTimestamp(0);
+        int columnStart = 0;
+        int column = (int) ((DATA_BUFFER.getTimestamp(0) - FIRST_TIMESTAMP) * pixelResolution);
+        int minIndex = 0;
+        int maxIndex = 0;
+        double min = DATA_BUFFER.getValue(0);
+        double max = min;
+        for (int index = 1; index <= SIZE; index++) {
+            final int CURRENT_COLUMN = index < SIZE ? (int) ((DATA_BUFFER.getTimestamp(index) - FIRST_TIMESTAMP) * pixelResolution) : Integer.MAX_VALUE;
+            if (CURRENT_COLUMN != column) {
+                // Add the points of the finished column in chronological order
+                final int COLUMN_STOP = index - 1;
+                addBufferedPoint(columnStart);
+                addBufferedPoint(Math.min(minIndex, maxIndex), columnStart, COLUMN_STOP);
+                if (minIndex != maxIndex) {
+                    addBufferedPoint(Math.max(minIndex, maxIndex), columnStart, COLUMN_STOP);
+                }
+                if (COLUMN_STOP != columnStart) {
+                    addBufferedPoint(COLUMN_STOP);
+                }
+                column = CURRENT_COLUMN;
+                columnStart = index;
+                minIndex = index;
+                maxIndex = index;
+                if (index < SIZE) {
+                    min = DATA_BUFFER.getValue(index);
+                    max = min;
+                }
+            } else {
+                final double VALUE = DATA_BUFFER.getValue(index);
+                if (VALUE < min) {
+                    min = VALUE;
+                    minIndex = index;
+                }
+                if (VALUE > max) {
+                    max = VALUE;
+                    maxIndex = index;
+                }
+            }
         }
+    }
 
-        if (y > hi) {
-            hi = y;
-            hiIndex = index;
+    private void addBufferedPoint(final int INDEX, final int COLUMN_START, final int COLUMN_STOP) {
+        if (INDEX != COLUMN_START && INDEX != COLUMN_STOP) {
+            addBufferedPoint(INDEX);
         }
     }
 
+    private void addBufferedPoint(final int INDEX) {
+        if (INDEX == loIndex) {
+            loPointIndex = pointCount;
+        }
+        if (INDEX == hiIndex) {
+            hiPointIndex = pointCount;
+        }
+        addPoint((DATA_BUFFER.getTimestamp(INDEX) - DATA_BUFFER.getTimestamp(0)) * pixelResolution, ((DATA_BUFFER.getValue(INDEX) - lo) * (1 / scaleY) + offset));
+    }
+
+    /**
+     * Adds the given point to the point arrays and enlarges them if needed
+     * @param X
+     * @param Y
+     */
+    private void addPoint(final double X, final double Y) {
+        if (pointCount == pointX.length) {
+            pointX = Arrays.copyOf(pointX, pointCount * 2);
+            pointY = Arrays.copyOf(pointY, pointCount * 2);
+        }
+        pointX[pointCount] = X;
+        pointY[pointCount] = Y;
+        pointCount++;
+    }
+
     /**
      * Puts all values in a ArrayList and sorts them
      */
     private void sortData() {
         sortedList.clear();
-        for (DataPoint dataPoint : DATA_LIST) {
-            sortedList.add(dataPoint.getValue());
+        for (double value : DATA_BUFFER.getSortedValues()) {
+            sortedList.add(value);
         }
-        Collections.sort(sortedList);
     }
     // </editor-fold>
 
@@ -1332,20 +1384,33 @@ public class SparkLine extends JComponent {
 
     /**
      * Returns a buffered image that contains the sparkline itself. This image will be calculated
-     * everytime a new value was added to the DATA_LIST
+     * everytime a new value was added to the data buffer. The given image will be reused if it
+     * has the right size.
      * @param WIDTH
      * @param HEIGHT
+     * @param image
      * @return a buffered image that contains the sparkline itself
      */
-    private BufferedImage createSparkLineImage(final int WIDTH, final int HEIGHT) {
+    private BufferedImage createSparkLineImage(final int WIDTH, final int HEIGHT, BufferedImage image) {
         if (WIDTH <= 0 || HEIGHT <= 0) {
             return null;
         }
 
-        final BufferedImage IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = IMAGE.createGraphics();
+        final Graphics2D G2;
+        if (image != null && image.getWidth() == WIDTH && image.getHeight() == HEIGHT) {
+            G2 = image.createGraphics();
+            G2.setComposite(AlphaComposite.Clear);
+            G2.fillRect(0, 0, WIDTH, HEIGHT);
+            G2.setComposite(AlphaComposite.SrcOver);
+        } else {
+            if (image != null) {
+                image.flush();
+            }
+            image = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+            G2 = image.createGraphics();
+        }
 
-        if (!pointList.isEmpty()) {
+        if (pointCount > 0) {
             G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             //G2.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
 
@@ -1353,17 +1418,18 @@ public class SparkLine extends JComponent {
             final GeneralPath SPARK_LINE = new GeneralPath();
             final GeneralPath SPARK_LINE_FILLED = new GeneralPath();
 
-            SPARK_LINE_FILLED.moveTo(pointList.get(0).getX(), baseLineY);
+            final int LAST = pointCount - 1;
+            SPARK_LINE_FILLED.moveTo(pointX[0], baseLineY);
 
-            SPARK_LINE.moveTo(pointList.get(0).getX(), HEIGHT - pointList.get(0).getY());
-            SPARK_LINE_FILLED.lineTo(pointList.get(0).getX(), HEIGHT - pointList.get(0).getY());
+            SPARK_LINE.moveTo(pointX[0], HEIGHT - pointY[0]);
+            SPARK_LINE_FILLED.lineTo(pointX[0], HEIGHT - pointY[0]);
 
-            for (Point2D point : pointList) {
-                SPARK_LINE.lineTo(point.getX(), HEIGHT - point.getY());
-                SPARK_LINE_FILLED.lineTo(point.getX(), HEIGHT - point.getY());
+            for (int i = 0; i < pointCount; i++) {
+                SPARK_LINE.lineTo(pointX[i], HEIGHT - pointY[i]);
+                SPARK_LINE_FILLED.lineTo(pointX[i], HEIGHT - pointY[i]);
             }
 
-            SPARK_LINE_FILLED.lineTo(pointList.get(pointList.size() - 1).getX(), baseLineY);
+            SPARK_LINE_FILLED.lineTo(pointX[LAST], baseLineY);
             SPARK_LINE_FILLED.closePath();
 
             // Draw sparkline
@@ -1421,22 +1487,22 @@ public class SparkLine extends JComponent {
 
             // Draw indicators
             if (startStopIndicatorVisible) {
-                G2.drawImage(startIndicatorImage, (int) pointList.get(0).getX() - startIndicatorImage.getWidth() / 2, HEIGHT - (int) pointList.get(0).getY() - startIndicatorImage.getHeight() / 2, null);
-                G2.drawImage(stopIndicatorImage, (int) pointList.get(pointList.size() - 1).getX() - stopIndicatorImage.getWidth() / 2, HEIGHT - (int) pointList.get(pointList.size() - 1).getY() - stopIndicatorImage.getHeight() / 2, null);
+                G2.drawImage(startIndicatorImage, (int) pointX[0] - startIndicatorImage.getWidth() / 2, HEIGHT - (int) pointY[0] - startIndicatorImage.getHeight() / 2, null);
+                G2.drawImage(stopIndicatorImage, (int) pointX[LAST] - stopIndicatorImage.getWidth() / 2, HEIGHT - (int) pointY[LAST] - stopIndicatorImage.getHeight() / 2, null);
             }
             if (hiLoIndicatorVisible) {
-                if (loIndex < pointList.size()) {
-                    G2.drawImage(loIndicatorImage, (int) pointList.get(loIndex).getX() - loIndicatorImage.getWidth() / 2, HEIGHT - (int) pointList.get(loIndex).getY() - loIndicatorImage.getHeight() / 2, null);
+                if (loPointIndex >= 0 && loPointIndex < pointCount) {
+                    G2.drawImage(loIndicatorImage, (int) pointX[loPointIndex] - loIndicatorImage.getWidth() / 2, HEIGHT - (int) pointY[loPointIndex] - loIndicatorImage.getHeight() / 2, null);
                 }
-                if (hiIndex < pointList.size()) {
-                    G2.drawImage(hiIndicatorImage, (int) pointList.get(hiIndex).getX() - hiIndicatorImage.getWidth() / 2, HEIGHT - (int) pointList.get(hiIndex).getY() - hiIndicatorImage.getHeight() / 2, null);
+                if (hiPointIndex >= 0 && hiPointIndex < pointCount) {
+                    G2.drawImage(hiIndicatorImage, (int) pointX[hiPointIndex] - hiIndicatorImage.getWidth() / 2, HEIGHT - (int) pointY[hiPointIndex] - hiIndicatorImage.getHeight() / 2, null);
                 }
             }
 
         }
         G2.dispose();
 
-        return IMAGE;
+        return image;
     }
 
     /**
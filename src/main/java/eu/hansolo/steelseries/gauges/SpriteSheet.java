@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.Util;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A single image that contains the images of several export results
+ * together with an index that contains the position of each image
+ * within the sprite sheet.
+ * <p/>
+ * @author hansolo
+ */
+public class SpriteSheet {
+
+    private final BufferedImage IMAGE;
+    private final Map<String, Rectangle> INDEX;
+
+    private SpriteSheet(final BufferedImage IMAGE, final Map<String, Rectangle> INDEX) {
+        this.IMAGE = IMAGE;
+        this.INDEX = Collections.unmodifiableMap(INDEX);
+    }
+
+    /**
+     * Returns a sprite sheet that contains the images of the given results.
+     * The images will be placed row by row with the given number of
+     * columns, the height of each row is the height of it's highest image.
+     * The names of the results have to be unique because the sprites will
+     * be indexed by their name.
+     * @param RESULTS
+     * @param COLUMNS
+     * @return a sprite sheet that contains the images of the given results
+     * @throws IllegalArgumentException if two results have the same name
+     */
+    public static SpriteSheet create(final List<ExportResult> RESULTS, final int COLUMNS) {
+        final int NO_OF_COLUMNS = COLUMNS < 1 ? 1 : COLUMNS;
+        final Map<String, Rectangle> INDEX = new LinkedHashMap<String, Rectangle>(RESULTS.size());
+
+        // Calculate the position of each image
+        int sheetWidth = 0;
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        int column = 0;
+        for (ExportResult result : RESULTS) {
+            final BufferedImage IMAGE = result.getImage();
+            if (column == NO_OF_COLUMNS) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+                column = 0;
+            }
+            if (INDEX.containsKey(result.getName())) {
+                throw new IllegalArgumentException("Name of a sprite must be unique: " + result.getName());
+            }
+            INDEX.put(result.getName(), new Rectangle(x, y, IMAGE.getWidth(), IMAGE.getHeight()));
+            x += IMAGE.getWidth();
+            rowHeight = Math.max(rowHeight, IMAGE.getHeight());
+            sheetWidth = Math.max(sheetWidth, x);
+            column++;
+        }
+        final int SHEET_HEIGHT = y + rowHeight;
+
+        final BufferedImage SHEET = Util.INSTANCE.createImage(sheetWidth, SHEET_HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = SHEET.createGraphics();
+        for (ExportResult result : RESULTS) {
+            final Rectangle BOUNDS = INDEX.get(result.getName());
+            G2.drawImage(result.getImage(), BOUNDS.x, BOUNDS.y, null);
+        }
+        G2.dispose();
+
+        return new SpriteSheet(SHEET, INDEX);
+    }
+
+    /**
+     * Returns the image that contains all sprites
+     * @return the image that contains all sprites
+     */
+    public BufferedImage getImage() {
+        return IMAGE;
+    }
+
+    /**
+     * Returns the position of each sprite in the sheet by it's name
+     * @return the position of each sprite in the sheet by it's name
+     */
+    public Map<String, Rectangle> getIndex() {
+        return INDEX;
+    }
+
+    /**
+     * Writes the index as csv (name,x,y,width,height) to the given writer.
+     * The writer will not be closed.
+     * @param WRITER
+     * @throws IOException
+     */
+    public void writeIndex(final Writer WRITER) throws IOException {
+        for (Map.Entry<String, Rectangle> entry : INDEX.entrySet()) {
+            final Rectangle BOUNDS = entry.getValue();
+            WRITER.write(entry.getKey() + "," + BOUNDS.x + "," + BOUNDS.y + "," + BOUNDS.width + "," + BOUNDS.height + "\n");
+        }
+        WRITER.flush();
+    }
+
+    @Override
+    public String toString() {
+        return "SpriteSheet[" + INDEX.size() + " sprites, " + IMAGE.getWidth() + "x" + IMAGE.getHeight() + "]";
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.PaintContext;
+import java.awt.Rectangle;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Base class of the paint contexts of the custom gradient paints.
+ * The subclasses only have to calculate the argb values of the pixels in a
+ * given device area. The values will be written directly into the int array
+ * of one raster that is reused for all tiles of the context.
+ * If the subclass provides a key that describes everything the pixels depend on
+ * (e.g. the center relative to the device bounds, the size, the fractions
+ * and colors) the whole device area will be rasterized once and kept in a
+ * small LRU cache. The tiles will then be copied from the cached pixels, so
+ * the gradient will not be recalculated when a gauge is resized back and
+ * forth or the same frame is rendered again.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+abstract class AbstractGradientContext implements PaintContext {
+
+    private static final ColorModel COLOR_MODEL = ColorModel.getRGBdefault();
+    private static final int MAX_CACHED_PIXELS = 4 * 1024 * 1024;
+    private static final int MAX_PIXELS_PER_ENTRY = 1024 * 1024;
+    private static final Map<PixelKey, int[]> PIXEL_CACHE = new LinkedHashMap<PixelKey, int[]>(16, 0.75f, true);
+    private static int cachedPixels = 0;
+    private final Rectangle DEVICE_BOUNDS;
+    private final PixelKey PIXEL_KEY;
+    private boolean pixelsLookedUp;
+    private int[] pixels;
+    private WritableRaster raster;
+    private int[] rasterData;
+
+    /**
+     * @param DEVICE_BOUNDS the device bounds of the area that will be filled (might be null)
+     * @param PIXEL_KEY the key of the rasterized device area or null if it should not be cached
+     */
+    AbstractGradientContext(final Rectangle DEVICE_BOUNDS, final PixelKey PIXEL_KEY) {
+        this.DEVICE_BOUNDS = DEVICE_BOUNDS == null ? null : new Rectangle(DEVICE_BOUNDS);
+        this.PIXEL_KEY = DEVICE_BOUNDS == null ? null : PIXEL_KEY;
+    }
+
+    /**
+     * Calculates the argb values of the given device area and stores them
+     * row by row in the given array
+     * @param DATA
+     * @param OFFSET index of the upper left pixel in the given array
+     * @param SCANLINE_STRIDE
+     * @param X
+     * @param Y
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    protected abstract void fillPixels(final int[] DATA, final int OFFSET, final int SCANLINE_STRIDE, final int X, final int Y, final int WIDTH, final int HEIGHT);
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public final ColorModel getColorModel() {
+        return COLOR_MODEL;
+    }
+
+    @Override
+    public final Raster getRaster(final int X, final int Y, final int TILE_WIDTH, final int TILE_HEIGHT) {
+        if (raster == null || raster.getWidth() < TILE_WIDTH || raster.getHeight() < TILE_HEIGHT) {
+            // Reuse one raster for all tiles, only the requested area of it will be used
+            raster = COLOR_MODEL.createCompatibleWritableRaster(Math.max(TILE_WIDTH, raster == null ? 0 : raster.getWidth()), Math.max(TILE_HEIGHT, raster == null ? 0 : raster.getHeight()));
+            rasterData = ((DataBufferInt) raster.getDataBuffer()).getData();
+        }
+        final int SCANLINE_STRIDE = raster.getWidth();
+
+        if (!pixelsLookedUp) {
+            pixelsLookedUp = true;
+            pixels = PIXEL_KEY == null ? null : getPixels();
+        }
+
+        if (pixels != null
+            && X >= DEVICE_BOUNDS.x && Y >= DEVICE_BOUNDS.y
+            && X + TILE_WIDTH <= DEVICE_BOUNDS.x + DEVICE_BOUNDS.width
+            && Y + TILE_HEIGHT <= DEVICE_BOUNDS.y + DEVICE_BOUNDS.height) {
+            int source = (Y - DEVICE_BOUNDS.y) * DEVICE_BOUNDS.width + (X - DEVICE_BOUNDS.x);
+            int destination = 0;
+            for (int row = 0; row < TILE_HEIGHT; row++) {
+                System.arraycopy(pixels, source, rasterData, destination, TILE_WIDTH);
+                source += DEVICE_BOUNDS.width;
+                destination += SCANLINE_STRIDE;
+            }
+        } else {
+            fillPixels(rasterData, 0, SCANLINE_STRIDE, X, Y, TILE_WIDTH, TILE_HEIGHT);
+        }
+        return raster;
+    }
+
+    private int[] getPixels() {
+        final int SIZE = DEVICE_BOUNDS.width * DEVICE_BOUNDS.height;
+        if (SIZE <= 0 || SIZE > MAX_PIXELS_PER_ENTRY) {
+            return null;
+        }
+        synchronized (PIXEL_CACHE) {
+            final int[] CACHED_PIXELS = PIXEL_CACHE.get(PIXEL_KEY);
+            if (CACHED_PIXELS != null) {
+                return CACHED_PIXELS;
+            }
+        }
+        final int[] NEW_PIXELS = new int[SIZE];
+        fillPixels(NEW_PIXELS, 0, DEVICE_BOUNDS.width, DEVICE_BOUNDS.x, DEVICE_BOUNDS.y, DEVICE_BOUNDS.width, DEVICE_BOUNDS.height);
+        synchronized (PIXEL_CACHE) {
+            final int[] PREVIOUS = PIXEL_CACHE.put(PIXEL_KEY, NEW_PIXELS);
+            if (PREVIOUS != null) {
+                cachedPixels -= PREVIOUS.length;
+            }
+            cachedPixels += SIZE;
+            final Iterator<int[]> ITERATOR = PIXEL_CACHE.values().iterator();
+            while (cachedPixels > MAX_CACHED_PIXELS && ITERATOR.hasNext()) {
+                cachedPixels -= ITERATOR.next().length;
+                ITERATOR.remove();
+            }
+        }
+        return NEW_PIXELS;
+    }
+
+    /**
+     * Returns the given color components packed into one argb int
+     * @param RED
+     * @param GREEN
+     * @param BLUE
+     * @param ALPHA
+     * @return the given color components packed into one argb int
+     */
+    static int argb(final int RED, final int GREEN, final int BLUE, final int ALPHA) {
+        return (clamp(ALPHA) << 24) | (clamp(RED) << 16) | (clamp(GREEN) << 8) | clamp(BLUE);
+    }
+
+    private static int clamp(final int VALUE) {
+        return VALUE < 0 ? 0 : (VALUE > 255 ? 255 : VALUE);
+    }
+
+    /**
+     * Removes all cached pixels
+     */
+    static void invalidateCache() {
+        synchronized (PIXEL_CACHE) {
+            PIXEL_CACHE.clear();
+            cachedPixels = 0;
+        }
+    }
+
+    /**
+     * The key of a rasterized device area. It consists of the type of the paint,
+     * the geometry of the gradient relative to the device bounds and the fractions
+     * and colors of the gradient.
+     */
+    static final class PixelKey {
+        private final Class<?> TYPE;
+        private final double[] GEOMETRY;
+        private final float[] FRACTIONS;
+        private final int[] COLORS;
+        private final int HASH;
+
+        PixelKey(final Class<?> TYPE, final double[] GEOMETRY, final float[] FRACTIONS, final int[] COLORS) {
+            this.TYPE = TYPE;
+            this.GEOMETRY = GEOMETRY;
+            this.FRACTIONS = FRACTIONS;
+            this.COLORS = COLORS;
+            int hash = TYPE.hashCode();
+            hash = 31 * hash + Arrays.hashCode(GEOMETRY);
+            hash = 31 * hash + Arrays.hashCode(FRACTIONS);
+            hash = 31 * hash + Arrays.hashCode(COLORS);
+            HASH = hash;
+        }
+
+        @Override
+        public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) {
+                return true;
+            }
+            if (!(OBJECT instanceof PixelKey)) {
+                return false;
+            }
+            final PixelKey OTHER = (PixelKey) OBJECT;
+            return HASH == OTHER.HASH
+                && TYPE == OTHER.TYPE
+                && Arrays.equals(GEOMETRY, OTHER.GEOMETRY)
+                && Arrays.equals(FRACTIONS, OTHER.FRACTIONS)
+                && Arrays.equals(COLORS, OTHER.COLORS);
+        }
+
+        @Override
+        public int hashCode() {
+            return HASH;
+        }
+    }
+}
@@ -36,11 +36,13 @@ import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.TexturePaint;
 import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.Random;
 
 
 /**
@@ -51,28 +53,17 @@ public enum BackgroundImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    // Variables for caching
-    private int radWidth = 0;
-    private BackgroundColor radBackgroundColor = BackgroundColor.DARK_GRAY;
-    private Paint radCustomBackground = null;
-    private BufferedImage radBackgroundImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private Color radTextureColor = new Color(0x686868);
-    private int linWidth = 0;
-    private int linHeight = 0;
-    private BackgroundColor linBackgroundColor = BackgroundColor.DARK_GRAY;
-    private Paint linCustomBackground = null;
-    private BufferedImage linBackgroundImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private Color linTextureColor = new Color(0x686868);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
     private final Color DARK_NOISE = new Color(0.2f, 0.2f, 0.2f);
     private final Color BRIGHT_NOISE = new Color(0.8f, 0.8f, 0.8f);
     public final BufferedImage STAINLESS_GRINDED_TEXTURE = UTIL.create_STAINLESS_STEEL_PLATE_Texture(100);
-    public final BufferedImage CARBON_FIBRE_TEXTURE = UTIL.create_CARBON_Texture(12);
-    private BufferedImage punchedSheetTexture = UTIL.create_PUNCHED_SHEET_Image(12, new Color(0x1D2123));
+    public final BufferedImage CARBON_FIBRE_TEXTURE = TextureImageFactory.INSTANCE.getCarbonTile(12);
+    private volatile BufferedImage punchedSheetTexture = TextureImageFactory.INSTANCE.getPunchedSheetTile(12, new Color(0x1D2123));
 
     /**
      * Creates the background image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -86,7 +77,7 @@ public enum BackgroundImageFactory {
     /**
      * Creates the background image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -101,7 +92,7 @@ public enum BackgroundImageFactory {
     /**
      * Creates the background image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating.
      * a new image.
      * If an image is passed to the method, it will paint to the image and
@@ -118,20 +109,22 @@ public enum BackgroundImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (radWidth == WIDTH && radBackgroundColor == BACKGROUND_COLOR && radCustomBackground.equals(CUSTOM_BACKGROUND) && radTextureColor.equals(TEXTURE_COLOR)) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final BufferedImage PUNCHED_SHEET_TEXTURE = punchedSheetTexture;
+        final ImageCacheKey KEY = new ImageCacheKey("BackgroundImageFactory.radial", WIDTH, BACKGROUND_COLOR, CUSTOM_BACKGROUND, TEXTURE_COLOR, BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET ? PUNCHED_SHEET_TEXTURE : null);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
-                G2.drawImage(radBackgroundImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return radBackgroundImage;
+            return CACHED_IMAGE;
         }
 
-        radBackgroundImage.flush();
-        radBackgroundImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final BufferedImage BG_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = radBackgroundImage.createGraphics();
+        final Graphics2D G2 = BG_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         final int IMAGE_WIDTH = WIDTH;
@@ -214,7 +207,7 @@ public enum BackgroundImageFactory {
                 GAUGE_BACKGROUND_GRADIENT = new TexturePaint(CARBON_FIBRE_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
                 fadeInOut = true;
             } else if (BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET) {
-                GAUGE_BACKGROUND_GRADIENT = new TexturePaint(punchedSheetTexture, new java.awt.Rectangle(0, 0, 12, 12));
+                GAUGE_BACKGROUND_GRADIENT = new TexturePaint(PUNCHED_SHEET_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
                 fadeInOut = true;
             } else if (BACKGROUND_COLOR == BackgroundColor.LINEN) {
                 GAUGE_BACKGROUND_GRADIENT = new TexturePaint(UTIL.createLinenTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
@@ -241,25 +234,7 @@ public enum BackgroundImageFactory {
 
         // add noise if NOISY_PLASTIC
         if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
-            final Random BW_RND = new Random();
-            final Random ALPHA_RND = new Random();
-            final Shape OLD_CLIP = G2.getClip();
-            G2.setClip(GAUGE_BACKGROUND);
-            Color noiseColor;
-            int noiseAlpha;
-            for (int y = 0 ; y < GAUGE_BACKGROUND.getHeight() ; y ++) {
-                for (int x = 0 ; x < GAUGE_BACKGROUND.getWidth() ; x ++) {
-                    if (BW_RND.nextBoolean()) {
-                        noiseColor = BRIGHT_NOISE;
-                    } else {
-                        noiseColor = DARK_NOISE;
-                    }
-                    noiseAlpha = 10 + ALPHA_RND.nextInt(10) - 5;
-                    G2.setColor(new Color(noiseColor.getRed(), noiseColor.getGreen(), noiseColor.getBlue(), noiseAlpha));
-                    G2.drawLine((int) (x + GAUGE_BACKGROUND.getMinX()), (int) (y + GAUGE_BACKGROUND.getMinY()), (int) (x + GAUGE_BACKGROUND.getMinX()), (int) (y + GAUGE_BACKGROUND.getMinY()));
-                }
-            }
-            G2.setClip(OLD_CLIP);
+            TextureImageFactory.INSTANCE.fillNoise(G2, GAUGE_BACKGROUND, BRIGHT_NOISE, DARK_NOISE, 5, 14);
         }
 
         // Draw an overlay gradient that gives the carbon fibre a more realistic look
@@ -317,23 +292,457 @@ public enum BackgroundImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(radBackgroundImage, 0, 0, null);
+            G.drawImage(BG_IMAGE, 0, 0, null);
             G.dispose();
         }
 
-        // Cache current values
-        radWidth = WIDTH;
-        radBackgroundColor = BACKGROUND_COLOR;
-        radCustomBackground = CUSTOM_BACKGROUND;
-        radTextureColor = TEXTURE_COLOR;
+        // Cache current image
+        return CACHE.put(KEY, BG_IMAGE);
+    }
+
+    /**
+     * Creates the background image for a quarter circle radial gauge (e.g. Radial1Square).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * If an image is passed to the method, it will paint to the image and
+     * return this image. This will reduce the memory consumption.
+     * @param WIDTH
+     * @param ORIENTATION
+     * @param BACKGROUND_COLOR
+     * @param CUSTOM_BACKGROUND
+     * @param TEXTURE_COLOR
+     * @param CUSTOM_LAYER
+     * @param BACKGROUND_IMAGE
+     * @return a buffered image that contains the background image of a quarter circle radial gauge
+     */
+    public BufferedImage createQuarterBackground(final int WIDTH, final Orientation ORIENTATION, final BackgroundColor BACKGROUND_COLOR, final Paint CUSTOM_BACKGROUND, final Color TEXTURE_COLOR, final BufferedImage CUSTOM_LAYER, final BufferedImage BACKGROUND_IMAGE) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final BufferedImage PUNCHED_SHEET_TEXTURE = punchedSheetTexture;
+        final ImageCacheKey KEY = new ImageCacheKey("BackgroundImageFactory.quarter", WIDTH, ORIENTATION, BACKGROUND_COLOR, CUSTOM_BACKGROUND, TEXTURE_COLOR, CUSTOM_LAYER, BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET ? PUNCHED_SHEET_TEXTURE : null);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (BACKGROUND_IMAGE != null) {
+                final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
+                G2.dispose();
+            }
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage BG_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = BG_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+        G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        final int IMAGE_WIDTH = BG_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = BG_IMAGE.getHeight();
+
+        boolean fadeInOut = false;
+
+        final AffineTransform OLD_TRANSFORM = G2.getTransform();
+        UTIL.transformQuarterGraphics(ORIENTATION, IMAGE_WIDTH, IMAGE_HEIGHT, G2);
+        final AffineTransform NEW_TRANSFORM = G2.getTransform();
+
+        final GeneralPath GAUGE_BACKGROUND = new GeneralPath();
+        GAUGE_BACKGROUND.setWindingRule(Path2D.WIND_EVEN_ODD);
+        GAUGE_BACKGROUND.moveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.6401869158878505, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.46261682242990654, IMAGE_HEIGHT * 0.1588785046728972, IMAGE_WIDTH * 0.29439252336448596, IMAGE_HEIGHT * 0.32242990654205606);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.17289719626168223, IMAGE_HEIGHT * 0.4439252336448598, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.6635514018691588, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        GAUGE_BACKGROUND.closePath();
+        final Point2D GAUGE_BACKGROUND_START;
+        final Point2D GAUGE_BACKGROUND_STOP;
+        switch (ORIENTATION) {
+            case NORTH_WEST:
+                GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                break;
+            case NORTH_EAST:
+                GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                break;
+            case SOUTH_EAST:
+                GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                break;
+            case SOUTH_WEST:
+                GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                break;
+            default:
+                GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+        }
+
+        final float[] GAUGE_BACKGROUND_FRACTIONS = {
+            0.0f,
+            0.39f,
+            1.0f
+        };
+
+        Paint backgroundPaint = null;
+
+        // Set custom background paint if selected
+        if (CUSTOM_BACKGROUND != null && BACKGROUND_COLOR == BackgroundColor.CUSTOM) {
+            G2.setPaint(CUSTOM_BACKGROUND);
+        } else {
+            final Color[] GAUGE_BACKGROUND_COLORS = {
+                BACKGROUND_COLOR.GRADIENT_START_COLOR,
+                BACKGROUND_COLOR.GRADIENT_FRACTION_COLOR,
+                BACKGROUND_COLOR.GRADIENT_STOP_COLOR
+            };
 
-        return radBackgroundImage;
+            if (BACKGROUND_COLOR == BackgroundColor.BRUSHED_METAL) {
+                backgroundPaint = new TexturePaint(UTIL.createBrushMetalTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
+            } else if (BACKGROUND_COLOR == BackgroundColor.STAINLESS) {
+                final float[] STAINLESS_FRACTIONS = {
+                    0f,
+                    0.03f,
+                    0.10f,
+                    0.14f,
+                    0.24f,
+                    0.33f,
+                    0.38f,
+                    0.5f,
+                    0.62f,
+                    0.67f,
+                    0.76f,
+                    0.81f,
+                    0.85f,
+                    0.97f,
+                    1.0f
+                };
+
+                // Define the colors of the conical gradient paint
+                final Color[] STAINLESS_COLORS = {
+                    new Color(0xFDFDFD),
+                    new Color(0xFDFDFD),
+                    new Color(0xB2B2B4),
+                    new Color(0xACACAE),
+                    new Color(0xFDFDFD),
+                    new Color(0x6E6E70),
+                    new Color(0x6E6E70),
+                    new Color(0xFDFDFD),
+                    new Color(0x6E6E70),
+                    new Color(0x6E6E70),
+                    new Color(0xFDFDFD),
+                    new Color(0xACACAE),
+                    new Color(0xB2B2B4),
+                    new Color(0xFDFDFD),
+                    new Color(0xFDFDFD)
+                };
+
+                // Define the conical gradient paint
+                backgroundPaint = new ConicalGradientPaint(false, new Point2D.Double(IMAGE_WIDTH * 0.8271028037, IMAGE_HEIGHT * 0.8271028037), -0.45f, STAINLESS_FRACTIONS, STAINLESS_COLORS);
+            } else if (BACKGROUND_COLOR == BackgroundColor.STAINLESS_GRINDED) {
+                backgroundPaint = new TexturePaint(STAINLESS_GRINDED_TEXTURE, new java.awt.Rectangle(0, 0, 100, 100));
+            } else if (BACKGROUND_COLOR == BackgroundColor.CARBON) {
+                backgroundPaint = new TexturePaint(CARBON_FIBRE_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
+                fadeInOut = true;
+            } else if (BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET) {
+                backgroundPaint = new TexturePaint(PUNCHED_SHEET_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
+                fadeInOut = true;
+            } else if (BACKGROUND_COLOR == BackgroundColor.LINEN) {
+                backgroundPaint = new TexturePaint(UTIL.createLinenTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
+            } else if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
+                GAUGE_BACKGROUND_START.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                if (GAUGE_BACKGROUND_START.equals(GAUGE_BACKGROUND_STOP)) {
+                    GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND_START.getY() + 1);
+                }
+                final float[] FRACTIONS = {
+                    0.0f,
+                    1.0f
+                };
+                final Color[] COLORS = {
+                    UTIL.lighter(TEXTURE_COLOR, 0.15f),
+                    UTIL.darker(TEXTURE_COLOR, 0.15f)
+                };
+                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
+                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, FRACTIONS, COLORS);
+            } else {
+                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
+                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, GAUGE_BACKGROUND_FRACTIONS, GAUGE_BACKGROUND_COLORS);
+            }
+            G2.setPaint(backgroundPaint);
+        }
+        G2.fill(GAUGE_BACKGROUND);
+
+        // Create inner shadow on background shape
+        final BufferedImage CLP;
+        if (CUSTOM_BACKGROUND != null && BACKGROUND_COLOR == BackgroundColor.CUSTOM) {
+            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, CUSTOM_BACKGROUND, 0, 0.65f, Color.BLACK, 20, 315);
+        } else {
+            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, backgroundPaint, 0, 0.65f, Color.BLACK, 20, 315);
+        }
+        G2.drawImage(CLP, GAUGE_BACKGROUND.getBounds().x, GAUGE_BACKGROUND.getBounds().y, null);
+
+        // add noise if NOISY_PLASTIC
+        if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
+            TextureImageFactory.INSTANCE.fillNoise(G2, GAUGE_BACKGROUND, BRIGHT_NOISE, DARK_NOISE, 5, 14);
+        }
+
+        // Draw an overlay gradient that gives the carbon fibre a more realistic look
+        if (fadeInOut) {
+            final float[] SHADOW_OVERLAY_FRACTIONS = {
+                0.0f,
+                0.4f,
+                0.6f,
+                1.0f
+            };
+            final Color[] SHADOW_OVERLAY_COLORS = {
+                new Color(0f, 0f, 0f, 0.6f),
+                new Color(0f, 0f, 0f, 0.0f),
+                new Color(0f, 0f, 0f, 0.0f),
+                new Color(0f, 0f, 0f, 0.6f)
+            };
+            final LinearGradientPaint SHADOW_OVERLAY_GRADIENT;
+            if (Util.INSTANCE.pointsEquals(GAUGE_BACKGROUND.getBounds2D().getMinX(), 0, GAUGE_BACKGROUND.getBounds2D().getMaxX(), 0)) {
+                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX() + 1, 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
+            } else {
+                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX(), 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
+            }
+            G2.setPaint(SHADOW_OVERLAY_GRADIENT);
+            G2.fill(GAUGE_BACKGROUND);
+        }
+
+        // Draw the custom layer if selected
+        if (CUSTOM_LAYER != null) {
+            G2.setTransform(OLD_TRANSFORM);
+            G2.drawImage(UTIL.getScaledInstance(CUSTOM_LAYER, IMAGE_WIDTH, IMAGE_HEIGHT, RenderingHints.VALUE_INTERPOLATION_BICUBIC), 0, 0, null);
+            G2.setTransform(NEW_TRANSFORM);
+        }
+
+        G2.dispose();
+
+        if (BACKGROUND_IMAGE != null) {
+            final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
+            G.drawImage(BG_IMAGE, 0, 0, null);
+            G.dispose();
+        }
+        // Cache current image
+        return CACHE.put(KEY, BG_IMAGE);
+    }
+
+    /**
+     * Creates the background image for a half circle radial gauge (e.g. Radial2Top).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * If an image is passed to the method, it will paint to the image and
+     * return this image. This will reduce the memory consumption.
+     * @param WIDTH
+     * @param BACKGROUND_COLOR
+     * @param CUSTOM_BACKGROUND
+     * @param TEXTURE_COLOR
+     * @param CUSTOM_LAYER
+     * @param BACKGROUND_IMAGE
+     * @return a buffered image that contains the background image of a half circle radial gauge
+     */
+    public BufferedImage createHalfBackground(final int WIDTH, final BackgroundColor BACKGROUND_COLOR, final Paint CUSTOM_BACKGROUND, final Color TEXTURE_COLOR, final BufferedImage CUSTOM_LAYER, final BufferedImage BACKGROUND_IMAGE) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final BufferedImage PUNCHED_SHEET_TEXTURE = punchedSheetTexture;
+        final ImageCacheKey KEY = new ImageCacheKey("BackgroundImageFactory.half", WIDTH, BACKGROUND_COLOR, CUSTOM_BACKGROUND, TEXTURE_COLOR, CUSTOM_LAYER, BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET ? PUNCHED_SHEET_TEXTURE : null);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (BACKGROUND_IMAGE != null) {
+                final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
+                G2.dispose();
+            }
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage BG_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = BG_IMAGE.createGraphics();
+
+        // Layers are rendered into a square image, the half circle only uses the upper part of it
+        final double VERTICAL_SCALE = 0.641860465116279;
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+        G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        final int IMAGE_WIDTH = BG_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = BG_IMAGE.getHeight();
+
+        boolean fadeInOut = false;
+
+        final GeneralPath GAUGE_BACKGROUND = new GeneralPath();
+        GAUGE_BACKGROUND.setWindingRule(Path2D.WIND_EVEN_ODD);
+        GAUGE_BACKGROUND.moveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.41605839416058393 * VERTICAL_SCALE, IMAGE_WIDTH * 0.27102803738317754, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.7242990654205608, IMAGE_HEIGHT * 0.13138686131386862 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.41605839416058393 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.8175182481751825 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.lineTo(IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.curveTo(IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.8175182481751825 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263 * VERTICAL_SCALE);
+        GAUGE_BACKGROUND.closePath();
+
+        final Point2D GAUGE_BACKGROUND_START = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+        final Point2D GAUGE_BACKGROUND_STOP = new Point2D.Double(0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+        final float[] GAUGE_BACKGROUND_FRACTIONS = {
+            0.0f,
+            0.4f,
+            1.0f
+        };
+
+        Paint backgroundPaint = null;
+
+        // Set custom background paint if selected
+        if (CUSTOM_BACKGROUND != null && BACKGROUND_COLOR == BackgroundColor.CUSTOM) {
+            G2.setPaint(CUSTOM_BACKGROUND);
+        } else {
+            final Color[] GAUGE_BACKGROUND_COLORS = {
+                BACKGROUND_COLOR.GRADIENT_START_COLOR,
+                BACKGROUND_COLOR.GRADIENT_FRACTION_COLOR,
+                BACKGROUND_COLOR.GRADIENT_STOP_COLOR
+            };
+
+            if (BACKGROUND_COLOR == BackgroundColor.BRUSHED_METAL) {
+                backgroundPaint = new TexturePaint(UTIL.createBrushMetalTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
+            } else if (BACKGROUND_COLOR == BackgroundColor.STAINLESS) {
+                final float[] STAINLESS_FRACTIONS = {
+                    0f,
+                    0.03f,
+                    0.10f,
+                    0.14f,
+                    0.24f,
+                    0.33f,
+                    0.38f,
+                    0.5f,
+                    0.62f,
+                    0.67f,
+                    0.76f,
+                    0.81f,
+                    0.85f,
+                    0.97f,
+                    1.0f
+                };
+
+                // Define the colors of the conical gradient paint
+                final Color[] STAINLESS_COLORS = {
+                    new Color(0xFDFDFD),
+                    new Color(0xFDFDFD),
+                    new Color(0xB2B2B4),
+                    new Color(0xACACAE),
+                    new Color(0xFDFDFD),
+                    new Color(0x6E6E70),
+                    new Color(0x6E6E70),
+                    new Color(0xFDFDFD),
+                    new Color(0x6E6E70),
+                    new Color(0x6E6E70),
+                    new Color(0xFDFDFD),
+                    new Color(0xACACAE),
+                    new Color(0xB2B2B4),
+                    new Color(0xFDFDFD),
+                    new Color(0xFDFDFD)
+                };
+
+                // Define the conical gradient paint
+                backgroundPaint = new ConicalGradientPaint(false, new Point2D.Double(IMAGE_WIDTH / 2.0, IMAGE_WIDTH / 2.0), -0.45f, STAINLESS_FRACTIONS, STAINLESS_COLORS);
+            } else if (BACKGROUND_COLOR == BackgroundColor.STAINLESS_GRINDED) {
+                backgroundPaint = new TexturePaint(STAINLESS_GRINDED_TEXTURE, new java.awt.Rectangle(0, 0, 100, 100));
+            } else if (BACKGROUND_COLOR == BackgroundColor.CARBON) {
+                backgroundPaint = new TexturePaint(CARBON_FIBRE_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
+                fadeInOut = true;
+            } else if (BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET) {
+                backgroundPaint = new TexturePaint(PUNCHED_SHEET_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
+                fadeInOut = true;
+            } else if (BACKGROUND_COLOR == BackgroundColor.LINEN) {
+                backgroundPaint = new TexturePaint(UTIL.createLinenTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
+            } else if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
+                GAUGE_BACKGROUND_START.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMinY());
+                GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND.getBounds2D().getMaxY());
+                if (GAUGE_BACKGROUND_START.equals(GAUGE_BACKGROUND_STOP)) {
+                    GAUGE_BACKGROUND_STOP.setLocation(0.0, GAUGE_BACKGROUND_START.getY() + 1);
+                }
+                final float[] FRACTIONS = {
+                    0.0f,
+                    1.0f
+                };
+                final Color[] COLORS = {
+                    UTIL.lighter(TEXTURE_COLOR, 0.15f),
+                    UTIL.darker(TEXTURE_COLOR, 0.15f)
+                };
+                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
+                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, FRACTIONS, COLORS);
+            } else {
+                Util.INSTANCE.validateGradientPoints(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP);
+                backgroundPaint = new LinearGradientPaint(GAUGE_BACKGROUND_START, GAUGE_BACKGROUND_STOP, GAUGE_BACKGROUND_FRACTIONS, GAUGE_BACKGROUND_COLORS);
+            }
+            G2.setPaint(backgroundPaint);
+        }
+        G2.fill(GAUGE_BACKGROUND);
+
+        // Create inner shadow on background shape
+        final BufferedImage CLP;
+        if (CUSTOM_BACKGROUND != null && BACKGROUND_COLOR == BackgroundColor.CUSTOM) {
+            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, CUSTOM_BACKGROUND, 0, 0.65f, Color.BLACK, 20, 315);
+        } else {
+            CLP = Shadow.INSTANCE.createInnerShadow((Shape) GAUGE_BACKGROUND, backgroundPaint, 0, 0.65f, Color.BLACK, 20, 315);
+        }
+        G2.drawImage(CLP, GAUGE_BACKGROUND.getBounds().x, GAUGE_BACKGROUND.getBounds().y, null);
+
+        // add noise if NOISY_PLASTIC
+        if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
+            TextureImageFactory.INSTANCE.fillNoise(G2, GAUGE_BACKGROUND, BRIGHT_NOISE, DARK_NOISE, 5, 14);
+        }
+
+        // Draw an overlay gradient that gives the carbon fibre a more realistic look
+        if (fadeInOut) {
+            final float[] SHADOW_OVERLAY_FRACTIONS = {
+                0.0f,
+                0.4f,
+                0.6f,
+                1.0f
+            };
+            final Color[] SHADOW_OVERLAY_COLORS = {
+                new Color(0f, 0f, 0f, 0.6f),
+                new Color(0f, 0f, 0f, 0.0f),
+                new Color(0f, 0f, 0f, 0.0f),
+                new Color(0f, 0f, 0f, 0.6f)
+            };
+            final LinearGradientPaint SHADOW_OVERLAY_GRADIENT;
+            if (Util.INSTANCE.pointsEquals(GAUGE_BACKGROUND.getBounds2D().getMinX(), 0, GAUGE_BACKGROUND.getBounds2D().getMaxX(), 0)) {
+                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX() + 1, 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
+            } else {
+                SHADOW_OVERLAY_GRADIENT = new LinearGradientPaint(new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMinX(), 0), new Point2D.Double(GAUGE_BACKGROUND.getBounds().getMaxX(), 0), SHADOW_OVERLAY_FRACTIONS, SHADOW_OVERLAY_COLORS);
+            }
+            G2.setPaint(SHADOW_OVERLAY_GRADIENT);
+            G2.fill(GAUGE_BACKGROUND);
+        }
+
+        // Draw the custom layer if selected
+        if (CUSTOM_LAYER != null) {
+            G2.drawImage(UTIL.getScaledInstance(CUSTOM_LAYER, IMAGE_WIDTH, (int) (IMAGE_HEIGHT * VERTICAL_SCALE), RenderingHints.VALUE_INTERPOLATION_BICUBIC), 0, 0, null);
+        }
+
+        G2.dispose();
+
+        if (BACKGROUND_IMAGE != null) {
+            final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
+            G.drawImage(BG_IMAGE, 0, 0, null);
+            G.dispose();
+        }
+        // Cache current image
+        return CACHE.put(KEY, BG_IMAGE);
     }
 
     /**
      * Creates the background image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -348,7 +757,7 @@ public enum BackgroundImageFactory {
     /**
      * Creates the background image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -364,7 +773,7 @@ public enum BackgroundImageFactory {
     /**
      * Creates the background image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * If an image is passed to the method, it will paint to the image and
@@ -382,20 +791,22 @@ public enum BackgroundImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (linWidth == WIDTH && linHeight == HEIGHT && linBackgroundColor == BACKGROUND_COLOR && linCustomBackground.equals(CUSTOM_BACKGROUND) && linTextureColor.equals(TEXTURE_COLOR)) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final BufferedImage PUNCHED_SHEET_TEXTURE = punchedSheetTexture;
+        final ImageCacheKey KEY = new ImageCacheKey("BackgroundImageFactory.linear", WIDTH, HEIGHT, BACKGROUND_COLOR, CUSTOM_BACKGROUND, TEXTURE_COLOR, BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET ? PUNCHED_SHEET_TEXTURE : null);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
-                G2.drawImage(linBackgroundImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return linBackgroundImage;
+            return CACHED_IMAGE;
         }
 
-        linBackgroundImage.flush();
-        linBackgroundImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage BG_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = linBackgroundImage.createGraphics();
+        final Graphics2D G2 = BG_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -467,7 +878,7 @@ public enum BackgroundImageFactory {
                 gaugeBackgroundGradient = new TexturePaint(CARBON_FIBRE_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
                 fadeInOut = true;
             } else if (BACKGROUND_COLOR == BackgroundColor.PUNCHED_SHEET) {
-                gaugeBackgroundGradient = new TexturePaint(punchedSheetTexture, new java.awt.Rectangle(0, 0, 12, 12));
+                gaugeBackgroundGradient = new TexturePaint(PUNCHED_SHEET_TEXTURE, new java.awt.Rectangle(0, 0, 12, 12));
                 fadeInOut = true;
             } else if (BACKGROUND_COLOR == BackgroundColor.LINEN) {
                 gaugeBackgroundGradient = new TexturePaint(UTIL.createLinenTexture(TEXTURE_COLOR, GAUGE_BACKGROUND.getBounds().width, GAUGE_BACKGROUND.getBounds().height), GAUGE_BACKGROUND.getBounds());
@@ -506,25 +917,7 @@ public enum BackgroundImageFactory {
 
         // add noise if NOISY_PLASTIC
         if (BACKGROUND_COLOR == BackgroundColor.NOISY_PLASTIC) {
-            final Random BW_RND = new Random();
-            final Random ALPHA_RND = new Random();
-            final Shape OLD_CLIP = G2.getClip();
-            G2.setClip(GAUGE_BACKGROUND);
-            Color noiseColor;
-            int noiseAlpha;
-            for (int y = 0 ; y < GAUGE_BACKGROUND.getHeight() ; y ++) {
-                for (int x = 0 ; x < GAUGE_BACKGROUND.getWidth() ; x ++) {
-                    if (BW_RND.nextBoolean()) {
-                        noiseColor = BRIGHT_NOISE;
-                    } else {
-                        noiseColor = DARK_NOISE;
-                    }
-                    noiseAlpha = 10 + ALPHA_RND.nextInt(10) - 5;
-                    G2.setColor(new Color(noiseColor.getRed(), noiseColor.getGreen(), noiseColor.getBlue(), noiseAlpha));
-                    G2.drawLine((int) (x + GAUGE_BACKGROUND.getMinX()), (int) (y + GAUGE_BACKGROUND.getMinY()), (int) (x + GAUGE_BACKGROUND.getMinX()), (int) (y + GAUGE_BACKGROUND.getMinY()));
-                }
-            }
-            G2.setClip(OLD_CLIP);
+            TextureImageFactory.INSTANCE.fillNoise(G2, GAUGE_BACKGROUND, BRIGHT_NOISE, DARK_NOISE, 5, 14);
         }
 
         // Draw an overlay gradient that gives the carbon fibre a more realistic look
@@ -555,17 +948,11 @@ public enum BackgroundImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(linBackgroundImage, 0, 0, null);
+            G.drawImage(BG_IMAGE, 0, 0, null);
             G.dispose();
         }
-        // Cache current values
-        linWidth = WIDTH;
-        linHeight = HEIGHT;
-        linBackgroundColor = BACKGROUND_COLOR;
-        linCustomBackground = CUSTOM_BACKGROUND;
-        linTextureColor = TEXTURE_COLOR;
-
-        return linBackgroundImage;
+        // Cache current image
+        return CACHE.put(KEY, BG_IMAGE);
     }
 
     /**
@@ -577,14 +964,13 @@ public enum BackgroundImageFactory {
     }
 
     /**
-     * Recreates the punched sheet texture with the given color
+     * Recreates the punched sheet texture with the given color.
+     * The tiles are cached per color, so switching back to a
+     * previously used color will not render the tile again.
      * @param TEXTURE_COLOR
      */
     public void recreatePunchedSheetTexture(final Color TEXTURE_COLOR) {
-        if (punchedSheetTexture != null) {
-            punchedSheetTexture.flush();
-        }
-        punchedSheetTexture = UTIL.create_PUNCHED_SHEET_Image(12, TEXTURE_COLOR);
+        punchedSheetTexture = TextureImageFactory.INSTANCE.getPunchedSheetTile(12, TEXTURE_COLOR);
     }
 
     @Override
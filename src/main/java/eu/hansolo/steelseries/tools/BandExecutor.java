@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Splits pixel operations on big images into bands of rows (or columns) that
+ * will be processed in parallel on a small pool of daemon threads.
+ * Small images and calls from a thread of the pool itself will be processed
+ * in the calling thread, so there is no overhead for the typical gauge sizes
+ * and nested calls can not block each other.
+ * The bands always have the same size, independent of the number of cpus, so
+ * that results that depend on the band index (e.g. the seed of a random number
+ * generator) are reproducible on every machine.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+enum BandExecutor {
+
+    INSTANCE;
+    public static final int BAND_SIZE = 32;
+    public static final int PARALLEL_THRESHOLD = 256 * 256;
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final ThreadGroup GROUP = new ThreadGroup("BandExecutor");
+    private volatile ExecutorService executor;
+
+    /**
+     * The work that has to be done for one band
+     */
+    interface Band {
+        /**
+         * Processes the lines FROM (inclusive) to TO (exclusive) of the band with the given index
+         * @param FROM
+         * @param TO
+         * @param BAND_INDEX
+         */
+        void process(final int FROM, final int TO, final int BAND_INDEX);
+    }
+
+    /**
+     * Processes the given number of lines in bands of BAND_SIZE lines. The bands will be
+     * processed in parallel if the number of pixels is at least PARALLEL_THRESHOLD.
+     * If the calling thread will be interrupted while waiting for the bands, the
+     * interrupted status will be set again and a CancellationException will be
+     * thrown, so that a partly processed image will never be cached.
+     * @param LINES
+     * @param PIXELS number of pixels that will be touched in total
+     * @param BAND
+     * @throws CancellationException if the calling thread has been interrupted
+     */
+    void run(final int LINES, final int PIXELS, final Band BAND) {
+        final int BANDS = (LINES + BAND_SIZE - 1) / BAND_SIZE;
+        if (BANDS <= 1 || THREADS == 1 || PIXELS < PARALLEL_THRESHOLD || Thread.currentThread().getThreadGroup() == GROUP) {
+            for (int band = 0; band < BANDS; band++) {
+                BAND.process(band * BAND_SIZE, Math.min(LINES, (band + 1) * BAND_SIZE), band);
+            }
+            return;
+        }
+
+        final List<Callable<Void>> TASKS = new ArrayList<Callable<Void>>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            final int INDEX = band;
+            TASKS.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    BAND.process(INDEX * BAND_SIZE, Math.min(LINES, (INDEX + 1) * BAND_SIZE), INDEX);
+                    return null;
+                }
+            });
+        }
+        try {
+            for (Future<Void> future : getExecutor().invokeAll(TASKS)) {
+                future.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            final CancellationException CANCELLATION = new CancellationException("Interrupted while processing the bands");
+            CANCELLATION.initCause(exception);
+            throw CANCELLATION;
+        } catch (ExecutionException exception) {
+            final Throwable CAUSE = exception.getCause();
+            if (CAUSE instanceof RuntimeException) {
+                throw (RuntimeException) CAUSE;
+            }
+            if (CAUSE instanceof Error) {
+                throw (Error) CAUSE;
+            }
+            throw new IllegalStateException(CAUSE);
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+                        private final AtomicInteger COUNTER = new AtomicInteger(0);
+
+                        @Override
+                        public Thread newThread(final Runnable RUNNABLE) {
+                            final Thread THREAD = new Thread(GROUP, RUNNABLE, "BandExecutor-" + COUNTER.incrementAndGet());
+                            THREAD.setDaemon(true);
+                            return THREAD;
+                        }
+                    });
+                }
+            }
+        }
+        return executor;
+    }
+
+    @Override
+    public String toString() {
+        return "BandExecutor";
+    }
+}
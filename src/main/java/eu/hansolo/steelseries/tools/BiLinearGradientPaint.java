@@ -37,8 +37,6 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.Transparency;
 import java.awt.image.ColorModel;
-import java.awt.image.Raster;
-import java.awt.image.WritableRaster;
 
 
 /**
@@ -94,63 +92,37 @@ public final class BiLinearGradientPaint implements Paint {
         return Transparency.TRANSLUCENT;
     }
 
-    private final class BiLinearGradientPaintContext implements PaintContext {
+    private final class BiLinearGradientPaintContext extends AbstractGradientContext {
 
         public BiLinearGradientPaintContext() {
+            super(null, null);
         }
 
         @Override
-        public void dispose() {
-        }
-
-        @Override
-        public ColorModel getColorModel() {
-            return ColorModel.getRGBdefault();
-        }
-
-        @Override
-        public Raster getRaster(final int X, final int Y, final int TILE_WIDTH, final int TILE_HEIGHT) {
+        protected void fillPixels(final int[] DATA, final int OFFSET, final int SCANLINE_STRIDE, final int X, final int Y, final int WIDTH, final int HEIGHT) {
             // Get the offset given by the height of the titlebar
             if (titleBarHeight == -1) {
                 titleBarHeight = Y;
             }
 
-            // Create raster for given colormodel
-            final WritableRaster RASTER = getColorModel().createCompatibleWritableRaster(TILE_WIDTH, TILE_HEIGHT);
-
-            // Create data array with place for red, green, blue and alpha values
-            final int[] DATA = new int[(TILE_WIDTH * TILE_HEIGHT * 4)];
-            Color currentColor;
-
             float fraction_x = (X - BOUNDS.x) * FRACTION_X_STEPSIZE;
             float fraction_y = (Y - BOUNDS.y - titleBarHeight) * FRACTION_Y_STEPSIZE;
 
             fraction_x = fraction_x > 1f ? 1f : fraction_x;
             fraction_y = fraction_y > 1f ? 1f : fraction_y;
 
-            for (int tileY = 0; tileY < TILE_HEIGHT; tileY++) {
-                for (int tileX = 0; tileX < TILE_WIDTH; tileX++) {
-                    currentColor = UTIL.bilinearInterpolateColor(COLOR_00, COLOR_10, COLOR_01, COLOR_11, fraction_x, fraction_y);
+            for (int tileY = 0; tileY < HEIGHT; tileY++) {
+                int index = OFFSET + tileY * SCANLINE_STRIDE;
+                for (int tileX = 0; tileX < WIDTH; tileX++) {
+                    DATA[index++] = UTIL.bilinearInterpolateColor(COLOR_00, COLOR_10, COLOR_01, COLOR_11, fraction_x, fraction_y).getRGB();
 
                     fraction_x += FRACTION_X_STEPSIZE;
                     fraction_x = fraction_x > 1f ? 1f : fraction_x;
-
-                    // Fill data array with calculated color values
-                    final int BASE = (tileY * TILE_WIDTH + tileX) * 4;
-                    DATA[BASE + 0] = currentColor.getRed();
-                    DATA[BASE + 1] = currentColor.getGreen();
-                    DATA[BASE + 2] = currentColor.getBlue();
-                    DATA[BASE + 3] = currentColor.getAlpha();
                 }
                 fraction_x = (X - BOUNDS.x) * FRACTION_X_STEPSIZE;
                 fraction_y += FRACTION_Y_STEPSIZE;
                 fraction_y = fraction_y > 1f ? 1f : fraction_y;
             }
-
-            // Fill the raster with the data
-            RASTER.setPixels(0, 0, TILE_WIDTH, TILE_HEIGHT, DATA);
-
-            return RASTER;
         }
     }
 
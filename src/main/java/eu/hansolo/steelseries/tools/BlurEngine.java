@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Separable box blur that creates the soft shadows and glows of the gauges.
+ * The alpha channel of the source image will be blurred horizontally and
+ * vertically with a box of 2 * SOFTNESS pixels (the same filter the shadow
+ * renderer of Sebastien Petrucci used). Big images will be blurred in bands
+ * of rows and columns in parallel, the intermediate buffers will be reused.
+ * If a mask id is given, the blurred alpha mask will be stored in the image
+ * cache, so that the same shape only has to be blurred once for every
+ * softness, no matter which color and alpha the shadow has.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum BlurEngine {
+
+    INSTANCE;
+    private static final int MAX_POOLED_BUFFERS = 4;
+    private static final int MAX_POOLED_LENGTH = 1024 * 1024;
+    private final ImageCache CACHE = ImageCache.INSTANCE;
+    private final List<int[]> BUFFER_POOL = new ArrayList<int[]>(MAX_POOLED_BUFFERS);
+
+    /**
+     * Returns a new image that contains the shadow of the given image. The shadow
+     * image is 2 * SOFTNESS pixels wider and higher than the given image.
+     * @param IMAGE the image which alpha channel will be blurred
+     * @param SOFTNESS
+     * @param ALPHA
+     * @param SHADOW_COLOR
+     * @return a new image that contains the shadow of the given image
+     */
+    public BufferedImage createShadow(final BufferedImage IMAGE, final int SOFTNESS, final float ALPHA, final Color SHADOW_COLOR) {
+        return createShadow(IMAGE, SOFTNESS, ALPHA, SHADOW_COLOR, null);
+    }
+
+    /**
+     * Returns a new image that contains the shadow of the given image. The shadow
+     * image is 2 * SOFTNESS pixels wider and higher than the given image.
+     * The blurred alpha mask will be cached under the given mask id, which has to
+     * identify the alpha channel of the given image (e.g. the geometry of the shape
+     * and the alpha values of its paints). A mask id of null disables the caching.
+     * @param IMAGE the image which alpha channel will be blurred
+     * @param SOFTNESS
+     * @param ALPHA
+     * @param SHADOW_COLOR
+     * @param MASK_ID immutable object that identifies the alpha channel of the image or null
+     * @return a new image that contains the shadow of the given image
+     */
+    public BufferedImage createShadow(final BufferedImage IMAGE, final int SOFTNESS, final float ALPHA, final Color SHADOW_COLOR, final Object MASK_ID) {
+        final int SRC_WIDTH = IMAGE.getWidth();
+        final int SRC_HEIGHT = IMAGE.getHeight();
+        final int DST_WIDTH = SRC_WIDTH + 2 * SOFTNESS;
+        final int DST_HEIGHT = SRC_HEIGHT + 2 * SOFTNESS;
+        final BufferedImage SHADOW_IMAGE = new BufferedImage(DST_WIDTH, DST_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        final int[] SHADOW = getData(SHADOW_IMAGE);
+
+        if (MASK_ID == null) {
+            blurAlpha(IMAGE, SOFTNESS, SHADOW, ALPHA, SHADOW_COLOR);
+            return SHADOW_IMAGE;
+        }
+
+        final ImageCacheKey KEY = new ImageCacheKey("BlurEngine.mask", MASK_ID, SRC_WIDTH, SRC_HEIGHT, SOFTNESS);
+        BufferedImage mask = CACHE.get(KEY);
+        if (mask == null) {
+            // The mask keeps the sums of the box filter, the alpha of the shadow
+            // will be applied while colorizing to get the same rounding as without cache
+            mask = new BufferedImage(DST_WIDTH, DST_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            blurAlpha(IMAGE, SOFTNESS, getData(mask), 1.0f, null);
+            CACHE.put(KEY, mask);
+        }
+        colorize(getData(mask), SHADOW, DST_WIDTH, DST_HEIGHT, SOFTNESS, ALPHA, SHADOW_COLOR);
+        return SHADOW_IMAGE;
+    }
+
+    /**
+     * Blurs the alpha channel of the given image with a box of 2 * SOFTNESS pixels
+     * in both directions and stores the shadow pixels of the given color in PIXELS.
+     * If COLOR is null, the sums of the vertical box will be stored instead.
+     * @param IMAGE
+     * @param SOFTNESS
+     * @param PIXELS array of (width + 2 * SOFTNESS) * (height + 2 * SOFTNESS) ints
+     * @param ALPHA
+     * @param COLOR
+     */
+    private void blurAlpha(final BufferedImage IMAGE, final int SOFTNESS, final int[] PIXELS, final float ALPHA, final Color COLOR) {
+        final int SRC_WIDTH = IMAGE.getWidth();
+        final int SRC_HEIGHT = IMAGE.getHeight();
+        final int BOX_SIZE = 2 * SOFTNESS;
+        final int DST_WIDTH = SRC_WIDTH + BOX_SIZE;
+        final int DST_HEIGHT = SRC_HEIGHT + BOX_SIZE;
+
+        if (SOFTNESS <= 0) {
+            final int[] SRC = Shadow.INSTANCE.getPixels(IMAGE, 0, 0, SRC_WIDTH, SRC_HEIGHT, null);
+            for (int i = 0; i < SRC.length; i++) {
+                PIXELS[i] = SRC[i] >>> 24;
+            }
+            if (COLOR != null) {
+                colorize(PIXELS, PIXELS, SRC_WIDTH, SRC_HEIGHT, SOFTNESS, ALPHA, COLOR);
+            }
+            return;
+        }
+
+        final int[] SRC = Shadow.INSTANCE.getPixels(IMAGE, 0, 0, SRC_WIDTH, SRC_HEIGHT, borrowBuffer(SRC_WIDTH * SRC_HEIGHT));
+        final int[] ROWS = borrowBuffer(DST_WIDTH * DST_HEIGHT);
+        final float H_SUM_DIVIDER = 1.0f / BOX_SIZE;
+        final float V_SUM_DIVIDER = ALPHA / BOX_SIZE;
+        final boolean COLORIZE = COLOR != null;
+        final int RGB = COLORIZE ? COLOR.getRGB() & 0x00FFFFFF : 0;
+
+        // The rows above and below the source image stay empty
+        Arrays.fill(ROWS, 0, SOFTNESS * DST_WIDTH, 0);
+        Arrays.fill(ROWS, (SOFTNESS + SRC_HEIGHT) * DST_WIDTH, DST_HEIGHT * DST_WIDTH, 0);
+
+        // Horizontal pass: extract the alpha of the source rows and blur them
+        BandExecutor.INSTANCE.run(SRC_HEIGHT, DST_WIDTH * SRC_HEIGHT, new BandExecutor.Band() {
+            @Override
+            public void process(final int FROM, final int TO, final int BAND_INDEX) {
+                for (int y = FROM; y < TO; y++) {
+                    final int SRC_OFFSET = y * SRC_WIDTH;
+                    final int DST_OFFSET = (y + SOFTNESS) * DST_WIDTH;
+                    int sum = 0;
+                    for (int x = 0; x < DST_WIDTH; x++) {
+                        ROWS[DST_OFFSET + x] = (int) (sum * H_SUM_DIVIDER);
+                        if (x < SRC_WIDTH) {
+                            sum += SRC[SRC_OFFSET + x] >>> 24;
+                        }
+                        if (x >= BOX_SIZE) {
+                            sum -= SRC[SRC_OFFSET + x - BOX_SIZE] >>> 24;
+                        }
+                    }
+                }
+            }
+        });
+
+        // Vertical pass: sum up the blurred rows in bands of columns, row by row
+        BandExecutor.INSTANCE.run(DST_WIDTH, DST_WIDTH * DST_HEIGHT, new BandExecutor.Band() {
+            @Override
+            public void process(final int FROM, final int TO, final int BAND_INDEX) {
+                final int[] COLUMN_SUMS = new int[TO - FROM];
+                for (int y = 0; y < SOFTNESS; y++) {
+                    for (int x = FROM; x < TO; x++) {
+                        COLUMN_SUMS[x - FROM] += ROWS[y * DST_WIDTH + x];
+                    }
+                }
+                for (int y = 0; y < DST_HEIGHT; y++) {
+                    final int OFFSET = y * DST_WIDTH;
+                    final int ADD_OFFSET = y + SOFTNESS < DST_HEIGHT ? OFFSET + SOFTNESS * DST_WIDTH : -1;
+                    final int REMOVE_OFFSET = y >= SOFTNESS ? OFFSET - SOFTNESS * DST_WIDTH : -1;
+                    for (int x = FROM; x < TO; x++) {
+                        int sum = COLUMN_SUMS[x - FROM];
+                        PIXELS[OFFSET + x] = COLORIZE ? Math.min(255, (int) (sum * V_SUM_DIVIDER)) << 24 | RGB : sum;
+                        if (ADD_OFFSET >= 0) {
+                            sum += ROWS[ADD_OFFSET + x];
+                        }
+                        if (REMOVE_OFFSET >= 0) {
+                            sum -= ROWS[REMOVE_OFFSET + x];
+                        }
+                        COLUMN_SUMS[x - FROM] = sum;
+                    }
+                }
+            }
+        });
+
+        // Not reached if the bands have been cancelled because the workers might still use the buffers
+        releaseBuffer(SRC);
+        releaseBuffer(ROWS);
+    }
+
+    /**
+     * Converts the sums of the box filter into pixels of the given color
+     * @param SUMS
+     * @param PIXELS might be the same array as SUMS
+     * @param WIDTH
+     * @param HEIGHT
+     * @param SOFTNESS
+     * @param ALPHA
+     * @param COLOR
+     */
+    private void colorize(final int[] SUMS, final int[] PIXELS, final int WIDTH, final int HEIGHT, final int SOFTNESS, final float ALPHA, final Color COLOR) {
+        final float V_SUM_DIVIDER = SOFTNESS <= 0 ? ALPHA : ALPHA / (2 * SOFTNESS);
+        final int RGB = COLOR.getRGB() & 0x00FFFFFF;
+        BandExecutor.INSTANCE.run(HEIGHT, WIDTH * HEIGHT, new BandExecutor.Band() {
+            @Override
+            public void process(final int FROM, final int TO, final int BAND_INDEX) {
+                for (int i = FROM * WIDTH, end = TO * WIDTH; i < end; i++) {
+                    PIXELS[i] = Math.min(255, (int) (SUMS[i] * V_SUM_DIVIDER)) << 24 | RGB;
+                }
+            }
+        });
+    }
+
+    private static int[] getData(final BufferedImage IMAGE) {
+        return ((DataBufferInt) IMAGE.getRaster().getDataBuffer()).getData();
+    }
+
+    private int[] borrowBuffer(final int LENGTH) {
+        synchronized (BUFFER_POOL) {
+            for (int i = 0; i < BUFFER_POOL.size(); i++) {
+                if (BUFFER_POOL.get(i).length >= LENGTH) {
+                    return BUFFER_POOL.remove(i);
+                }
+            }
+        }
+        return new int[LENGTH];
+    }
+
+    private void releaseBuffer(final int[] BUFFER) {
+        if (BUFFER.length > MAX_POOLED_LENGTH) {
+            return;
+        }
+        synchronized (BUFFER_POOL) {
+            if (BUFFER_POOL.size() < MAX_POOLED_BUFFERS) {
+                BUFFER_POOL.add(BUFFER);
+                return;
+            }
+            // Keep the bigger buffers because they can be used for more images
+            for (int i = 0; i < BUFFER_POOL.size(); i++) {
+                if (BUFFER_POOL.get(i).length < BUFFER.length) {
+                    BUFFER_POOL.set(i, BUFFER);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BlurEngine";
+    }
+}
@@ -37,6 +37,12 @@ import java.awt.image.BufferedImageOp;
 /*
  ** Copyright 2005 Huxtable.com. All rights reserved.
  */
+/**
+ * @deprecated The gauges take their brushed metal textures from the cached
+ * tiles of the TextureImageFactory, use createBrushedMetalTexture() instead.
+ * The filter only stays for code that uses it directly.
+ */
+@Deprecated
 public class BrushedMetalFilter implements BufferedImageOp {
 
     private int radius;
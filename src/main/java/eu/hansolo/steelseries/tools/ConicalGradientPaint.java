@@ -29,7 +29,6 @@ package eu.hansolo.steelseries.tools;
 
 import java.awt.Color;
 import java.awt.Paint;
-import java.awt.PaintContext;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Transparency;
@@ -37,8 +36,6 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.ColorModel;
-import java.awt.image.Raster;
-import java.awt.image.WritableRaster;
 import java.util.HashMap;
 import java.util.List;
 
@@ -68,6 +65,10 @@ public final class ConicalGradientPaint implements Paint {
     private final float[] ALPHA_STEP_LOOKUP;
     private final Color[] COLORS;
     private static final float INT_TO_FLOAT_CONST = 1f / 255f;
+    private static final int ANGLE_STEPS_PER_DEGREE = 16;
+    private static final int ATAN_STEPS = 1024;
+    private static double[] atanLookup;
+    private int[] colorLookup;
 
     /**
      * Standard constructor which takes the FRACTIONS in values from 0.0f to 1.0f
@@ -315,7 +316,7 @@ public final class ConicalGradientPaint implements Paint {
                                                final AffineTransform TRANSFORM,
                                                final RenderingHints HINTS) {
         final Point2D TRANSFORMED_CENTER = TRANSFORM.transform(CENTER, null);
-        return new ConicalGradientPaintContext(TRANSFORMED_CENTER);
+        return new ConicalGradientPaintContext(TRANSFORMED_CENTER, DEVICE_BOUNDS);
     }
 
     @Override
@@ -323,95 +324,138 @@ public final class ConicalGradientPaint implements Paint {
         return Transparency.TRANSLUCENT;
     }
 
-    private final class ConicalGradientPaintContext implements PaintContext {
-
-        final private Point2D CENTER;
-
-        public ConicalGradientPaintContext(final Point2D CENTER) {
-            this.CENTER = new Point2D.Double(CENTER.getX(), CENTER.getY());
-        }
-
-        @Override
-        public void dispose() {
+    /**
+     * Returns the lookup table that contains the argb values for every
+     * 1/ANGLE_STEPS_PER_DEGREE degree from 0 to 360 degrees
+     * @return the lookup table that contains the argb values of the angles
+     */
+    private synchronized int[] getColorLookup() {
+        if (colorLookup == null) {
+            final int MAX = FRACTION_ANGLES.length - 1;
+            final int[] LOOKUP = new int[360 * ANGLE_STEPS_PER_DEGREE + 1];
+            int color = 0;
+            for (int step = 0; step < LOOKUP.length; step++) {
+                final double ANGLE = step / (double) ANGLE_STEPS_PER_DEGREE;
+
+                // Binary search for the last fraction angle that is <= the current angle
+                int low = 0;
+                int high = MAX - 1;
+                int index = -1;
+                while (low <= high) {
+                    final int MID = (low + high) >>> 1;
+                    if (ANGLE >= FRACTION_ANGLES[MID]) {
+                        index = MID;
+                        low = MID + 1;
+                    } else {
+                        high = MID - 1;
+                    }
+                }
+                if (index >= 0) {
+                    final double DELTA = ANGLE - FRACTION_ANGLES[index];
+                    final double RED = COLORS[index].getRed() * INT_TO_FLOAT_CONST + DELTA * RED_STEP_LOOKUP[index];
+                    final double GREEN = COLORS[index].getGreen() * INT_TO_FLOAT_CONST + DELTA * GREEN_STEP_LOOKUP[index];
+                    final double BLUE = COLORS[index].getBlue() * INT_TO_FLOAT_CONST + DELTA * BLUE_STEP_LOOKUP[index];
+                    final double ALPHA = COLORS[index].getAlpha() * INT_TO_FLOAT_CONST + DELTA * ALPHA_STEP_LOOKUP[index];
+                    color = AbstractGradientContext.argb((int) (RED * 255), (int) (GREEN * 255), (int) (BLUE * 255), (int) (ALPHA * 255));
+                }
+                LOOKUP[step] = color;
+            }
+            colorLookup = LOOKUP;
         }
+        return colorLookup;
+    }
 
-        @Override
-        public java.awt.image.ColorModel getColorModel() {
-            return ColorModel.getRGBdefault();
+    /**
+     * Returns the arcus tangens lookup table which contains the angles in
+     * 1/ANGLE_STEPS_PER_DEGREE degree for ratios from 0 to 1
+     * @return the arcus tangens lookup table
+     */
+    private static double[] getAtanLookup() {
+        synchronized (ConicalGradientPaint.class) {
+            if (atanLookup == null) {
+                final double[] LOOKUP = new double[ATAN_STEPS + 2];
+                for (int i = 0; i <= ATAN_STEPS; i++) {
+                    LOOKUP[i] = Math.toDegrees(Math.atan(i / (double) ATAN_STEPS)) * ANGLE_STEPS_PER_DEGREE;
+                }
+                LOOKUP[ATAN_STEPS + 1] = LOOKUP[ATAN_STEPS];
+                atanLookup = LOOKUP;
+            }
+            return atanLookup;
         }
+    }
 
-        @Override
-        public Raster getRaster(final int X, final int Y, final int TILE_WIDTH, final int TILE_HEIGHT) {
-            final double ROTATION_CENTER_X = -X + CENTER.getX();
-            final double ROTATION_CENTER_Y = -Y + CENTER.getY();
+    private final class ConicalGradientPaintContext extends AbstractGradientContext {
 
-            final int MAX = FRACTION_ANGLES.length - 1;
+        final private Point2D CENTER;
+        private final int[] COLOR_LOOKUP;
+        private final double[] ATAN_LOOKUP;
 
-            // Create raster for given colormodel
-            final WritableRaster RASTER = getColorModel().createCompatibleWritableRaster(TILE_WIDTH, TILE_HEIGHT);
+        public ConicalGradientPaintContext(final Point2D CENTER, final Rectangle DEVICE_BOUNDS) {
+            super(DEVICE_BOUNDS, DEVICE_BOUNDS == null ? null : new PixelKey(ConicalGradientPaint.class, new double[]{CENTER.getX() - DEVICE_BOUNDS.x, CENTER.getY() - DEVICE_BOUNDS.y, DEVICE_BOUNDS.width, DEVICE_BOUNDS.height}, FRACTION_ANGLES, getColors()));
+            this.CENTER = new Point2D.Double(CENTER.getX(), CENTER.getY());
+            COLOR_LOOKUP = getColorLookup();
+            ATAN_LOOKUP = getAtanLookup();
+        }
 
-            // Create data array with place for red, green, blue and alpha values
-            final int[] data = new int[(TILE_WIDTH * TILE_HEIGHT * 4)];
+        @Override
+        protected void fillPixels(final int[] DATA, final int OFFSET, final int SCANLINE_STRIDE, final int X, final int Y, final int WIDTH, final int HEIGHT) {
+            final double CENTER_X = CENTER.getX();
+            final double CENTER_Y = CENTER.getY();
+            final double FULL_CIRCLE = 360 * ANGLE_STEPS_PER_DEGREE;
+            final double HALF_CIRCLE = 180 * ANGLE_STEPS_PER_DEGREE;
+            final double QUARTER_CIRCLE = 90 * ANGLE_STEPS_PER_DEGREE;
 
             double dx;
             double dy;
-            double distance;
+            double absDx;
+            double absDy;
+            double ratio;
             double angle;
-            double currentRed = 0;
-            double currentGreen = 0;
-            double currentBlue = 0;
-            double currentAlpha = 0;
-
-            for (int tileY = 0; tileY < TILE_HEIGHT; tileY++) {
-                for (int tileX = 0; tileX < TILE_WIDTH; tileX++) {
-
-                    // Calculate the distance between the current position and the rotation angle
-                    dx = tileX - ROTATION_CENTER_X;
-                    dy = tileY - ROTATION_CENTER_Y;
-                    distance = Math.sqrt(dx * dx + dy * dy);
-
-                    // Avoid division by zero
-                    if (distance == 0) {
-                        distance = 1;
-                    }
-
-                    // 0 degree on top
-                    angle = Math.abs(Math.toDegrees(Math.acos(dx / distance)));
-
-                    if (dx >= 0 && dy <= 0) {
-                        angle = 90.0 - angle;
-                    } else if (dx >= 0 && dy >= 0) {
-                        angle += 90.0;
-                    } else if (dx <= 0 && dy >= 0) {
-                        angle += 90.0;
-                    } else if (dx <= 0 && dy <= 0) {
-                        angle = 450.0 - angle;
+            int atanIndex;
+
+            for (int tileY = 0; tileY < HEIGHT; tileY++) {
+                dy = Y + tileY - CENTER_Y;
+                absDy = Math.abs(dy);
+                int index = OFFSET + tileY * SCANLINE_STRIDE;
+                for (int tileX = 0; tileX < WIDTH; tileX++) {
+                    dx = X + tileX - CENTER_X;
+                    absDx = Math.abs(dx);
+
+                    // Angle between the vertical axis and the current point (0 degree on top)
+                    if (absDx <= absDy) {
+                        ratio = absDy == 0 ? 0 : (absDx / absDy) * ATAN_STEPS;
+                        atanIndex = (int) ratio;
+                        angle = ATAN_LOOKUP[atanIndex] + (ratio - atanIndex) * (ATAN_LOOKUP[atanIndex + 1] - ATAN_LOOKUP[atanIndex]);
+                    } else {
+                        ratio = (absDy / absDx) * ATAN_STEPS;
+                        atanIndex = (int) ratio;
+                        angle = QUARTER_CIRCLE - (ATAN_LOOKUP[atanIndex] + (ratio - atanIndex) * (ATAN_LOOKUP[atanIndex + 1] - ATAN_LOOKUP[atanIndex]));
                     }
 
-                    // Check for each angle in fractionAngles array
-                    for (int i = 0; i < MAX; i++) {
-                        if ((angle >= FRACTION_ANGLES[i])) {
-                            currentRed = COLORS[i].getRed() * INT_TO_FLOAT_CONST + (angle - FRACTION_ANGLES[i]) * RED_STEP_LOOKUP[i];
-                            currentGreen = COLORS[i].getGreen() * INT_TO_FLOAT_CONST + (angle - FRACTION_ANGLES[i]) * GREEN_STEP_LOOKUP[i];
-                            currentBlue = COLORS[i].getBlue() * INT_TO_FLOAT_CONST + (angle - FRACTION_ANGLES[i]) * BLUE_STEP_LOOKUP[i];
-                            currentAlpha = COLORS[i].getAlpha() * INT_TO_FLOAT_CONST + (angle - FRACTION_ANGLES[i]) * ALPHA_STEP_LOOKUP[i];
+                    // Clockwise angle starting at the top
+                    if (dx >= 0) {
+                        if (dy > 0) {
+                            angle = HALF_CIRCLE - angle;
+                        }
+                    } else {
+                        if (dy >= 0) {
+                            angle = HALF_CIRCLE + angle;
+                        } else {
+                            angle = FULL_CIRCLE - angle;
                         }
                     }
 
-                    // Fill data array with calculated color values
-                    final int BASE = (tileY * TILE_WIDTH + tileX) * 4;
-                    data[BASE] = (int) (currentRed * 255);
-                    data[BASE + 1] = (int) (currentGreen * 255);
-                    data[BASE + 2] = (int) (currentBlue * 255);
-                    data[BASE + 3] = (int) (currentAlpha * 255);
+                    DATA[index++] = COLOR_LOOKUP[(int) (angle + 0.5)];
                 }
             }
-
-            // Fill the raster with the data
-            RASTER.setPixels(0, 0, TILE_WIDTH, TILE_HEIGHT, data);
-
-            return RASTER;
         }
     }
 
+    private int[] getColors() {
+        final int[] ARGB = new int[COLORS.length];
+        for (int i = 0; i < COLORS.length; i++) {
+            ARGB[i] = COLORS[i].getRGB();
+        }
+        return ARGB;
+    }
 }
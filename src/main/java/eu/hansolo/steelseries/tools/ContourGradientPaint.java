@@ -29,7 +29,6 @@ package eu.hansolo.steelseries.tools;
 
 import java.awt.Color;
 import java.awt.Paint;
-import java.awt.PaintContext;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
@@ -39,8 +38,6 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.Transparency;
 import java.awt.image.ColorModel;
-import java.awt.image.Raster;
-import java.awt.image.WritableRaster;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -64,7 +61,9 @@ public final class ContourGradientPaint implements Paint {
     private final Rectangle2D BOUNDS;
     private final Float[] FRACTIONS;
     private final Color[] COLORS;
-    private List<Color> colorLookup = new ArrayList<Color>(256);
+    private final float[] FRACTIONS_ARRAY;
+    private final int[] COLOR_VALUES;
+    private final int[] colorLookup;
 
     /**
      * Enhanced constructor which takes the FRACTIONS in degress from 0.0f to 360.0f and
@@ -112,27 +111,37 @@ public final class ContourGradientPaint implements Paint {
         colorList.toArray(COLORS);
         fractionList.toArray(FRACTIONS);
 
+        FRACTIONS_ARRAY = new float[FRACTIONS.length];
+        COLOR_VALUES = new int[COLORS.length];
+        for (int i = 0; i < FRACTIONS.length; i++) {
+            FRACTIONS_ARRAY[i] = FRACTIONS[i];
+            COLOR_VALUES[i] = COLORS[i].getRGB();
+        }
+
         // Prepare color lookup table
-        colorLookup.clear();
-        colorLookup.addAll(prepareColorLookup());
+        colorLookup = prepareColorLookup();
     }
 
-    private List<Color> prepareColorLookup() {
+    private int[] prepareColorLookup() {
         final int SIZE = BOUNDS.getWidth() <= BOUNDS.getHeight() ? ((int) (BOUNDS.getWidth() / 2.0)) : ((int) (BOUNDS.getHeight() / 2.0));
 
-        List<Color> tmpColorLookup = new ArrayList<Color>(SIZE);
+        int[] tmpColorLookup = new int[SIZE];
+        int size = 0;
         int relativeValue;
         for (int colorIndex = 0; colorIndex < COLORS.length - 1; colorIndex++) {
             relativeValue = 0;
             for (int value = (int) (FRACTIONS[colorIndex] * SIZE); value < (int) (FRACTIONS[colorIndex + 1] * SIZE); value++) {
-                tmpColorLookup.add(UTIL.getColorFromFraction(COLORS[colorIndex], COLORS[colorIndex + 1], (int) ((FRACTIONS[colorIndex + 1] - FRACTIONS[colorIndex]) * SIZE), relativeValue));
+                if (size == tmpColorLookup.length) {
+                    tmpColorLookup = java.util.Arrays.copyOf(tmpColorLookup, size * 2 + 1);
+                }
+                tmpColorLookup[size++] = UTIL.getColorFromFraction(COLORS[colorIndex], COLORS[colorIndex + 1], (int) ((FRACTIONS[colorIndex + 1] - FRACTIONS[colorIndex]) * SIZE), relativeValue).getRGB();
                 relativeValue++;
 
             }
 
         }
 
-        return (ArrayList<Color>) tmpColorLookup;
+        return size == tmpColorLookup.length ? tmpColorLookup : java.util.Arrays.copyOf(tmpColorLookup, size);
     }
 
     @Override
@@ -141,7 +150,7 @@ public final class ContourGradientPaint implements Paint {
                                                final Rectangle2D USER_BOUNDS,
                                                final AffineTransform TRANSFORM,
                                                final RenderingHints HINTS) {
-        return new ContourGradientPaintContext();
+        return new ContourGradientPaintContext(DEVICE_BOUNDS);
     }
 
     @Override
@@ -149,7 +158,7 @@ public final class ContourGradientPaint implements Paint {
         return Transparency.TRANSLUCENT;
     }
 
-    private final class ContourGradientPaintContext implements PaintContext {
+    private final class ContourGradientPaintContext extends AbstractGradientContext {
 
         private final Point2D P1;
         private final Point2D P2;
@@ -158,7 +167,8 @@ public final class ContourGradientPaint implements Paint {
         final GeneralPath SECTOR_C = new GeneralPath();
         final GeneralPath SECTOR_D = new GeneralPath();
 
-        public ContourGradientPaintContext() {
+        public ContourGradientPaintContext(final Rectangle DEVICE_BOUNDS) {
+            super(DEVICE_BOUNDS, DEVICE_BOUNDS == null ? null : new PixelKey(ContourGradientPaint.class, new double[]{BOUNDS.getX() - DEVICE_BOUNDS.x, BOUNDS.getY() - DEVICE_BOUNDS.y, BOUNDS.getWidth(), BOUNDS.getHeight(), DEVICE_BOUNDS.width, DEVICE_BOUNDS.height}, FRACTIONS_ARRAY, COLOR_VALUES));
             if (BOUNDS.getWidth() > BOUNDS.getHeight()) {
                 this.P1 = new Point2D.Double(BOUNDS.getX() + BOUNDS.getHeight() / 2.0, BOUNDS.getY() + BOUNDS.getHeight() / 2.0);
                 this.P2 = new Point2D.Double(BOUNDS.getMaxX() - BOUNDS.getHeight() / 2.0, BOUNDS.getMinY() + BOUNDS.getHeight() / 2.0);
@@ -197,77 +207,52 @@ public final class ContourGradientPaint implements Paint {
         }
 
         @Override
-        public void dispose() {
-        }
-
-        @Override
-        public ColorModel getColorModel() {
-            return ColorModel.getRGBdefault();
-        }
-
-        @Override
-        public Raster getRaster(final int X, final int Y, final int TILE_WIDTH, final int TILE_HEIGHT) {
+        protected void fillPixels(final int[] DATA, final int OFFSET, final int SCANLINE_STRIDE, final int X, final int Y, final int WIDTH, final int HEIGHT) {
             // The moving point
             final Point P = new Point(0, 0);
 
-            // Create raster for given colormodel
-            final WritableRaster RASTER = getColorModel().createCompatibleWritableRaster(TILE_WIDTH, TILE_HEIGHT);
-
-            // Create data array with place for red, green, blue and alpha values
-            int[] data = new int[(TILE_WIDTH * TILE_HEIGHT * 4)];
+            final int LOOKUP_SIZE = colorLookup.length;
+            final Rectangle INT_BOUNDS = BOUNDS.getBounds();
+            final int SECTOR_C_OFFSET = SECTOR_A.getBounds().width + INT_BOUNDS.x + ((int) P2.getX() - (int) P1.getX());
+            final int SECTOR_D_OFFSET = SECTOR_B.getBounds().height + INT_BOUNDS.y + ((int) P2.getY() - (int) P1.getY());
+            int currentColor = 0;
+            int lookupIndex;
 
-            Color currentColor = new Color(0.0f, 0.0f, 0.0f, 0.0f);
-            int currentRed = 0;
-            int currentGreen = 0;
-            int currentBlue = 0;
-            int currentAlpha = 0;
-
-            for (int tileY = 0; tileY < TILE_HEIGHT; tileY++) {
-                for (int tileX = 0; tileX < TILE_WIDTH; tileX++) {
+            for (int tileY = 0; tileY < HEIGHT; tileY++) {
+                int index = OFFSET + tileY * SCANLINE_STRIDE;
+                for (int tileX = 0; tileX < WIDTH; tileX++) {
                     P.setLocation(X + tileX, Y + tileY);
                     if (SECTOR_A.contains(P)) {
-                        if (X + tileX - BOUNDS.getBounds().x < colorLookup.size()) {
-                            currentColor = colorLookup.get(X + tileX - BOUNDS.getBounds().x);
+                        lookupIndex = X + tileX - INT_BOUNDS.x;
+                        if (lookupIndex < LOOKUP_SIZE) {
+                            currentColor = colorLookup[lookupIndex];
                         }
                     }
 
                     if (SECTOR_B.contains(P)) {
-                        if (Y + tileY - BOUNDS.getBounds().y < colorLookup.size()) {
-                            currentColor = colorLookup.get(Y + tileY - BOUNDS.getBounds().y);
+                        lookupIndex = Y + tileY - INT_BOUNDS.y;
+                        if (lookupIndex < LOOKUP_SIZE) {
+                            currentColor = colorLookup[lookupIndex];
                         }
                     }
 
                     if (SECTOR_C.contains(P)) {
-                        if (colorLookup.size() - (X + tileX - SECTOR_A.getBounds().width - BOUNDS.getBounds().x - ((int) P2.getX() - (int) P1.getX())) < colorLookup.size()) {
-                            currentColor = colorLookup.get(colorLookup.size() - (X + tileX - SECTOR_A.getBounds().width - BOUNDS.getBounds().x - ((int) P2.getX() - (int) P1.getX())));
+                        lookupIndex = LOOKUP_SIZE - (X + tileX - SECTOR_C_OFFSET);
+                        if (lookupIndex < LOOKUP_SIZE) {
+                            currentColor = colorLookup[lookupIndex];
                         }
                     }
 
                     if (SECTOR_D.contains(P)) {
-                        if ((colorLookup.size() - (Y + tileY - SECTOR_B.getBounds().height - BOUNDS.getBounds().y - ((int) P2.getY() - (int) P1.getY()))) < colorLookup.size()) {
-                            currentColor = colorLookup.get(colorLookup.size() - (Y + tileY - SECTOR_B.getBounds().height - BOUNDS.getBounds().y - ((int) P2.getY() - (int) P1.getY())));
+                        lookupIndex = LOOKUP_SIZE - (Y + tileY - SECTOR_D_OFFSET);
+                        if (lookupIndex < LOOKUP_SIZE) {
+                            currentColor = colorLookup[lookupIndex];
                         }
                     }
 
-                    // Split the current color in it's parts
-                    currentRed = currentColor.getRed();
-                    currentGreen = currentColor.getGreen();
-                    currentBlue = currentColor.getBlue();
-                    currentAlpha = currentColor.getAlpha();
-
-                    // Fill data array with calculated color values
-                    final int BASE = (tileY * TILE_WIDTH + tileX) * 4;
-                    data[BASE + 0] = currentRed;
-                    data[BASE + 1] = currentGreen;
-                    data[BASE + 2] = currentBlue;
-                    data[BASE + 3] = currentAlpha;
+                    DATA[index++] = currentColor;
                 }
             }
-
-            // Fill the raster with the data
-            RASTER.setPixels(0, 0, TILE_WIDTH, TILE_HEIGHT, data);
-
-            return RASTER;
         }
     }
 
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.Arrays;
+
+
+/**
+ * A growing ring buffer of timestamped values that are stored in parallel
+ * primitive arrays. Values are added at the end and removed from the start
+ * in constant time. The sum, the sum of squares and the min and max values
+ * of the buffered values will be updated incrementally (min and max by
+ * monotonic deques) so that statistics could be requested without iterating
+ * over the values. The timestamps are expected in chronological order.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public class DataPointBuffer {
+    private static final int DEFAULT_CAPACITY = 256;
+    private long[] timestamps;
+    private double[] values;
+    private int head;
+    private int size;
+    // Absolute sequence number of the first buffered value
+    private long headSequence;
+    // Monotonic deques that contain the sequence numbers of min and max candidates
+    private long[] minDeque;
+    private int minHead;
+    private int minSize;
+    private long[] maxDeque;
+    private int maxHead;
+    private int maxSize;
+    private double sum;
+    private double sumOfSquares;
+    private int removalsSinceResum;
+
+    public DataPointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DataPointBuffer(final int INITIAL_CAPACITY) {
+        final int CAPACITY = INITIAL_CAPACITY < 4 ? 4 : INITIAL_CAPACITY;
+        timestamps = new long[CAPACITY];
+        values = new double[CAPACITY];
+        minDeque = new long[CAPACITY];
+        maxDeque = new long[CAPACITY];
+        clear();
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Buffer methods">
+    /**
+     * Adds the given value with the given timestamp at the end of the buffer
+     * @param TIMESTAMP
+     * @param VALUE
+     */
+    public void add(final long TIMESTAMP, final double VALUE) {
+        if (size == values.length) {
+            grow();
+        }
+        final int CAPACITY = values.length;
+        final int INDEX = (head + size) % CAPACITY;
+        final long SEQUENCE = headSequence + size;
+        timestamps[INDEX] = TIMESTAMP;
+        values[INDEX] = VALUE;
+        size++;
+        sum += VALUE;
+        sumOfSquares += VALUE * VALUE;
+
+        // Remove all min candidates that are bigger than the new value (keeps the first occurence of equal values)
+        while (minSize > 0 && valueOf(minDeque[(minHead + minSize - 1) % CAPACITY]) > VALUE) {
+            minSize--;
+        }
+        minDeque[(minHead + minSize) % CAPACITY] = SEQUENCE;
+        minSize++;
+
+        // Remove all max candidates that are smaller than the new value
+        while (maxSize > 0 && valueOf(maxDeque[(maxHead + maxSize - 1) % CAPACITY]) < VALUE) {
+            maxSize--;
+        }
+        maxDeque[(maxHead + maxSize) % CAPACITY] = SEQUENCE;
+        maxSize++;
+    }
+
+    /**
+     * Removes the first value of the buffer
+     */
+    public void removeFirst() {
+        if (size == 0) {
+            return;
+        }
+        final int CAPACITY = values.length;
+        final double VALUE = values[head];
+        if (minSize > 0 && minDeque[minHead] == headSequence) {
+            minHead = (minHead + 1) % CAPACITY;
+            minSize--;
+        }
+        if (maxSize > 0 && maxDeque[maxHead] == headSequence) {
+            maxHead = (maxHead + 1) % CAPACITY;
+            maxSize--;
+        }
+        head = (head + 1) % CAPACITY;
+        headSequence++;
+        size--;
+
+        if (size == 0) {
+            sum = 0;
+            sumOfSquares = 0;
+            removalsSinceResum = 0;
+        } else {
+            sum -= VALUE;
+            sumOfSquares -= VALUE * VALUE;
+            // Recalculate the sums from time to time to avoid the accumulation of rounding errors
+            removalsSinceResum++;
+            if (removalsSinceResum > size && removalsSinceResum > DEFAULT_CAPACITY) {
+                resum();
+            }
+        }
+    }
+
+    /**
+     * Removes all values from the start of the buffer which timestamps are more
+     * than the given timeframe older than the given timestamp
+     * @param TIMESTAMP
+     * @param TIME_FRAME in milliseconds
+     * @return the number of removed values
+     */
+    public int removeOlderThan(final long TIMESTAMP, final long TIME_FRAME) {
+        int removed = 0;
+        while (size > 0 && TIMESTAMP - timestamps[head] > TIME_FRAME) {
+            removeFirst();
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all values from the buffer
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        headSequence = 0;
+        minHead = 0;
+        minSize = 0;
+        maxHead = 0;
+        maxSize = 0;
+        sum = 0;
+        sumOfSquares = 0;
+        removalsSinceResum = 0;
+    }
+
+    private void grow() {
+        final int OLD_CAPACITY = values.length;
+        final int NEW_CAPACITY = OLD_CAPACITY * 2;
+        timestamps = unwrap(timestamps, head, size, NEW_CAPACITY);
+        values = unwrap(values, head, size, NEW_CAPACITY);
+        minDeque = unwrap(minDeque, minHead, minSize, NEW_CAPACITY);
+        maxDeque = unwrap(maxDeque, maxHead, maxSize, NEW_CAPACITY);
+        head = 0;
+        minHead = 0;
+        maxHead = 0;
+    }
+
+    private static long[] unwrap(final long[] ARRAY, final int HEAD, final int SIZE, final int NEW_CAPACITY) {
+        final long[] NEW_ARRAY = new long[NEW_CAPACITY];
+        final int FIRST_PART = Math.min(SIZE, ARRAY.length - HEAD);
+        System.arraycopy(ARRAY, HEAD, NEW_ARRAY, 0, FIRST_PART);
+        System.arraycopy(ARRAY, 0, NEW_ARRAY, FIRST_PART, SIZE - FIRST_PART);
+        return NEW_ARRAY;
+    }
+
+    private static double[] unwrap(final double[] ARRAY, final int HEAD, final int SIZE, final int NEW_CAPACITY) {
+        final double[] NEW_ARRAY = new double[NEW_CAPACITY];
+        final int FIRST_PART = Math.min(SIZE, ARRAY.length - HEAD);
+        System.arraycopy(ARRAY, HEAD, NEW_ARRAY, 0, FIRST_PART);
+        System.arraycopy(ARRAY, 0, NEW_ARRAY, FIRST_PART, SIZE - FIRST_PART);
+        return NEW_ARRAY;
+    }
+
+    private void resum() {
+        sum = 0;
+        sumOfSquares = 0;
+        for (int i = 0; i < size; i++) {
+            final double VALUE = values[(head + i) % values.length];
+            sum += VALUE;
+            sumOfSquares += VALUE * VALUE;
+        }
+        removalsSinceResum = 0;
+    }
+
+    private double valueOf(final long SEQUENCE) {
+        return values[(int) ((head + (SEQUENCE - headSequence)) % values.length)];
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Getters">
+    /**
+     * Returns the number of values in the buffer
+     * @return the number of values in the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the buffer contains no values
+     * @return true if the buffer contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value at the given index (0 is the oldest value)
+     * @param INDEX
+     * @return the value at the given index
+     */
+    public double getValue(final int INDEX) {
+        checkIndex(INDEX);
+        return values[toArrayIndex(INDEX)];
+    }
+
+    /**
+     * Returns the timestamp at the given index (0 is the oldest value)
+     * @param INDEX
+     * @return the timestamp at the given index
+     */
+    public long getTimestamp(final int INDEX) {
+        checkIndex(INDEX);
+        return timestamps[toArrayIndex(INDEX)];
+    }
+
+    /**
+     * Returns the smallest value in the buffer or 0 if the buffer is empty
+     * @return the smallest value in the buffer
+     */
+    public double getMin() {
+        return minSize == 0 ? 0 : valueOf(minDeque[minHead]);
+    }
+
+    /**
+     * Returns the index of the first occurence of the smallest value or -1 if the buffer is empty
+     * @return the index of the first occurence of the smallest value
+     */
+    public int getMinIndex() {
+        return minSize == 0 ? -1 : (int) (minDeque[minHead] - headSequence);
+    }
+
+    /**
+     * Returns the biggest value in the buffer or 0 if the buffer is empty
+     * @return the biggest value in the buffer
+     */
+    public double getMax() {
+        return maxSize == 0 ? 0 : valueOf(maxDeque[maxHead]);
+    }
+
+    /**
+     * Returns the index of the first occurence of the biggest value or -1 if the buffer is empty
+     * @return the index of the first occurence of the biggest value
+     */
+    public int getMaxIndex() {
+        return maxSize == 0 ? -1 : (int) (maxDeque[maxHead] - headSequence);
+    }
+
+    /**
+     * Returns the sum of all values in the buffer
+     * @return the sum of all values in the buffer
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the squares of all values in the buffer
+     * @return the sum of the squares of all values in the buffer
+     */
+    public double getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    /**
+     * Returns the average of all values in the buffer or 0 if the buffer is empty
+     * @return the average of all values in the buffer
+     */
+    public double getAverage() {
+        return size == 0 ? 0 : sum / size;
+    }
+
+    /**
+     * Returns the variance of all values in the buffer or 0 if the buffer is empty
+     * @return the variance of all values in the buffer
+     */
+    public double getVariance() {
+        if (size == 0) {
+            return 0;
+        }
+        final double AVERAGE = sum / size;
+        final double VARIANCE = sumOfSquares / size - AVERAGE * AVERAGE;
+        return VARIANCE < 0 ? 0 : VARIANCE;
+    }
+
+    /**
+     * Returns a sorted copy of all values in the buffer
+     * @return a sorted copy of all values in the buffer
+     */
+    public double[] getSortedValues() {
+        final double[] SORTED = new double[size];
+        for (int i = 0; i < size; i++) {
+            SORTED[i] = values[(head + i) % values.length];
+        }
+        Arrays.sort(SORTED);
+        return SORTED;
+    }
+
+    private int toArrayIndex(final int INDEX) {
+        final int ARRAY_INDEX = head + INDEX;
+        return ARRAY_INDEX < values.length ? ARRAY_INDEX : ARRAY_INDEX - values.length;
+    }
+
+    private void checkIndex(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size) {
+            throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size);
+        }
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "DataPointBuffer[" + size + "]";
+    }
+}
@@ -43,17 +43,13 @@ public enum DisabledImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private int radWidth = 0;
-    private BufferedImage radDisabledImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private int linWidth = 0;
-    private int linHeight = 0;
-    private BufferedImage linDisabledImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
     private final Color DISABLED_COLOR = new Color(102, 102, 102, 178);
 
     /**
      * Creates the image that will be displayed if the radial component is disabled.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -65,18 +61,19 @@ public enum DisabledImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (radWidth == WIDTH) {
-            return radDisabledImage;
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("DisabledImageFactory.radial", WIDTH);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        radDisabledImage.flush();
-        radDisabledImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = radDisabledImage.createGraphics();
+        final BufferedImage DISABLED_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = DISABLED_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        final int IMAGE_WIDTH = radDisabledImage.getWidth();
-        final int IMAGE_HEIGHT = radDisabledImage.getHeight();
+        final int IMAGE_WIDTH = DISABLED_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = DISABLED_IMAGE.getHeight();
 
         final Ellipse2D BACKGROUND = new Ellipse2D.Double(IMAGE_WIDTH * 0.08411215245723724, IMAGE_HEIGHT * 0.08411215245723724, IMAGE_WIDTH * 0.8317756652832031, IMAGE_HEIGHT * 0.8317756652832031);
         G2.setColor(DISABLED_COLOR);
@@ -84,16 +81,14 @@ public enum DisabledImageFactory {
 
         G2.dispose();
 
-        // Cache current values
-        radWidth = WIDTH;
-
-        return radDisabledImage;
+        // Cache current image
+        return CACHE.put(KEY, DISABLED_IMAGE);
     }
 
     /**
      * Creates the image that will be displayed if the linear gauge is disabled.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -105,18 +100,19 @@ public enum DisabledImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (linWidth == WIDTH && linHeight == HEIGHT) {
-            return linDisabledImage;
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("DisabledImageFactory.linear", WIDTH, HEIGHT);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        linDisabledImage.flush();
-        linDisabledImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = linDisabledImage.createGraphics();
+        final BufferedImage DISABLED_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = DISABLED_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        final int IMAGE_WIDTH = linDisabledImage.getWidth();
-        final int IMAGE_HEIGHT = linDisabledImage.getHeight();
+        final int IMAGE_WIDTH = DISABLED_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = DISABLED_IMAGE.getHeight();
 
         final double OUTER_FRAME_CORNER_RADIUS;
         if (IMAGE_WIDTH >= IMAGE_HEIGHT) {
@@ -151,11 +147,8 @@ public enum DisabledImageFactory {
 
         G2.dispose();
 
-        // Cache current values
-        linWidth = WIDTH;
-        linHeight = HEIGHT;
-
-        return linDisabledImage;
+        // Cache current image
+        return CACHE.put(KEY, DISABLED_IMAGE);
     }
 
     @Override
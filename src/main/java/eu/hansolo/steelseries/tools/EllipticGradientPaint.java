@@ -29,7 +29,6 @@ package eu.hansolo.steelseries.tools;
 
 import java.awt.Color;
 import java.awt.Paint;
-import java.awt.PaintContext;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
@@ -39,10 +38,6 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.Transparency;
 import java.awt.image.ColorModel;
-import java.awt.image.Raster;
-import java.awt.image.WritableRaster;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -55,6 +50,9 @@ public class EllipticGradientPaint implements Paint {
     private final float[] FRACTIONS;
     private final Color[] COLORS;
     private final GradientWrapper COLOR_LOOKUP;
+    private static final int COLOR_LOOKUP_STEPS = 1024;
+    private final int[] COLOR_VALUES;
+    private int[] colorLookup;
 
     public EllipticGradientPaint(final Point2D GIVEN_CENTER, Point2D GIVEN_RADIUS_X_Y, final float[] GIVEN_FRACTIONS, final Color[] GIVEN_COLORS) {
         if (GIVEN_RADIUS_X_Y.distance(0, 0) <= 0) {
@@ -72,6 +70,26 @@ public class EllipticGradientPaint implements Paint {
         COLORS = GIVEN_COLORS.clone();
 
         COLOR_LOOKUP = new GradientWrapper(new Point2D.Double(0, 0), new Point2D.Double(100, 0), FRACTIONS, COLORS);
+        COLOR_VALUES = new int[COLORS.length];
+        for (int i = 0; i < COLORS.length; i++) {
+            COLOR_VALUES[i] = COLORS[i].getRGB();
+        }
+    }
+
+    /**
+     * Returns the lookup table that contains the argb values of the gradient
+     * for COLOR_LOOKUP_STEPS + 1 equidistant fractions from 0 to 1
+     * @return the lookup table that contains the argb values of the gradient
+     */
+    private synchronized int[] getColorLookup() {
+        if (colorLookup == null) {
+            final int[] LOOKUP = new int[COLOR_LOOKUP_STEPS + 1];
+            for (int i = 0; i <= COLOR_LOOKUP_STEPS; i++) {
+                LOOKUP[i] = COLOR_LOOKUP.getColorAt(i / (float) COLOR_LOOKUP_STEPS).getRGB();
+            }
+            colorLookup = LOOKUP;
+        }
+        return colorLookup;
     }
 
     @Override
@@ -82,7 +100,7 @@ public class EllipticGradientPaint implements Paint {
                                                final RenderingHints RENDERING_HINTS) {
         final Point2D TRANSFORMED_CENTER = TRANSFORM.transform(CENTER, null);
         final Point2D TRANSFORMED_RADIUS_XY = TRANSFORM.deltaTransform(RADIUS_X_Y, null);
-        return new OvalGradientContext(TRANSFORMED_CENTER, TRANSFORMED_RADIUS_XY, FRACTIONS, COLORS);
+        return new OvalGradientContext(TRANSFORMED_CENTER, TRANSFORMED_RADIUS_XY, DEVICE_BOUNDS);
     }
 
     @Override
@@ -90,15 +108,17 @@ public class EllipticGradientPaint implements Paint {
         return Transparency.TRANSLUCENT;
     }
 
-    private final class OvalGradientContext implements PaintContext {
+    private final class OvalGradientContext extends AbstractGradientContext {
 
         private final Point2D CENTER;
         private final Ellipse2D.Double ELLIPSE;
         private final Line2D.Double LINE;
-        private Map<Double, Double> lookup;
+        private final double[] RADIUS_LOOKUP = new double[361];
+        private boolean radiusLookupInitialized;
         private double R;
 
-        public OvalGradientContext(final Point2D CENTER, final Point2D RADIUS_X_Y, final float[] FRACTIONS, final Color[] COLORS) {
+        public OvalGradientContext(final Point2D CENTER, final Point2D RADIUS_X_Y, final Rectangle DEVICE_BOUNDS) {
+            super(DEVICE_BOUNDS, DEVICE_BOUNDS == null ? null : new PixelKey(EllipticGradientPaint.class, new double[]{CENTER.getX() - DEVICE_BOUNDS.x, CENTER.getY() - DEVICE_BOUNDS.y, RADIUS_X_Y.getX(), RADIUS_X_Y.getY(), DEVICE_BOUNDS.width, DEVICE_BOUNDS.height}, FRACTIONS, COLOR_VALUES));
             this.CENTER = CENTER;
             final double X = CENTER.getX() - RADIUS_X_Y.getX();
             final double Y = CENTER.getY() - RADIUS_X_Y.getY();
@@ -107,69 +127,52 @@ public class EllipticGradientPaint implements Paint {
             ELLIPSE = new Ellipse2D.Double(X, Y, WIDTH, HEIGHT);
             LINE = new Line2D.Double();
             R = Point2D.distance(0, 0, RADIUS_X_Y.getX(), RADIUS_X_Y.getY());
-            initLookup();
         }
 
         @Override
-        public void dispose() {
-        }
-
-        @Override
-        public ColorModel getColorModel() {
-            return ColorModel.getRGBdefault();
-        }
-
-        @Override
-        public Raster getRaster(final int X, final int Y, final int TILE_WIDTH, final int TILE_HEIGHT) {
-            final WritableRaster RASTER = getColorModel().createCompatibleWritableRaster(TILE_WIDTH, TILE_HEIGHT);
-            int[] data = new int[TILE_WIDTH * TILE_HEIGHT * 4];
+        protected void fillPixels(final int[] DATA, final int OFFSET, final int SCANLINE_STRIDE, final int X, final int Y, final int WIDTH, final int HEIGHT) {
+            // The radius lookup is only needed if the pixels are not cached already
+            if (!radiusLookupInitialized) {
+                initLookup();
+                radiusLookupInitialized = true;
+            }
+            final int[] COLOR_LOOKUP = getColorLookup();
             double distance;
             double dx;
             double dy;
             double alpha;
-            double roundDegrees;
             double radius;
             float ratio;
 
-            for (int tileY = 0; tileY < TILE_HEIGHT; tileY++) {
-                for (int tileX = 0; tileX < TILE_WIDTH; tileX++) {
+            for (int tileY = 0; tileY < HEIGHT; tileY++) {
+                int index = OFFSET + tileY * SCANLINE_STRIDE;
+                for (int tileX = 0; tileX < WIDTH; tileX++) {
                     distance = CENTER.distance(X + tileX, Y + tileY);
                     dy = Y + tileY - CENTER.getY();
                     dx = X + tileX - CENTER.getX();
                     alpha = Math.atan2(dy, dx);
-                    roundDegrees = Math.round(Math.toDegrees(alpha));
-                    radius = lookup.get(roundDegrees);
+                    radius = RADIUS_LOOKUP[(int) Math.round(Math.toDegrees(alpha)) + 180];
                     ratio = (float) (distance / radius);
                     if (Float.compare(ratio, 1.0f) > 0) {
                         ratio = 1.0f;
                     }
-
-                    final int BASE = (tileY * TILE_WIDTH + tileX) * 4;
-                    data[BASE + 0] = (COLOR_LOOKUP.getColorAt(ratio).getRed());
-                    data[BASE + 1] = (COLOR_LOOKUP.getColorAt(ratio).getGreen());
-                    data[BASE + 2] = (COLOR_LOOKUP.getColorAt(ratio).getBlue());
-                    data[BASE + 3] = (COLOR_LOOKUP.getColorAt(ratio).getAlpha());
+                    DATA[index++] = COLOR_LOOKUP[(int) (ratio * COLOR_LOOKUP_STEPS + 0.5f)];
                 }
             }
-            RASTER.setPixels(0, 0, TILE_WIDTH, TILE_HEIGHT, data);
-            return RASTER;
         }
 
         private void initLookup() {
-            lookup = new HashMap<Double, Double>(360);
             double alpha;
             double xp;
             double yp;
             for (int angle = -180; angle <= 180; angle++) {
-                Double key = Double.valueOf(angle);
                 alpha = Math.toRadians(angle);
                 xp = CENTER.getX() + R * Math.cos(alpha);
                 yp = CENTER.getY() + R * Math.sin(alpha);
                 LINE.setLine(CENTER.getX(), CENTER.getY(), xp, yp);
-                Double value = Double.valueOf(getRadius());
-                lookup.put(key, value);
+                RADIUS_LOOKUP[angle + 180] = getRadius();
             }
-            lookup.put(0.0, getRadius());
+            RADIUS_LOOKUP[180] = getRadius();
         }
 
         private double getRadius() {
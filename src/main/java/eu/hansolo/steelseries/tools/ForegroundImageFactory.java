@@ -49,19 +49,12 @@ public enum ForegroundImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private int radWidth = 0;
-    private boolean radWithCenterKnob = true;
-    private ForegroundType radType = ForegroundType.FG_TYPE1;
-    private BufferedImage radForegroundImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private int linWidth = 0;
-    private int linHeight = 0;
-    private boolean linWithCenterKnob = false;
-    private BufferedImage linForegroundImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Creates the foreground image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -74,7 +67,7 @@ public enum ForegroundImageFactory {
     /**
      * Creates the foreground image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -89,7 +82,7 @@ public enum ForegroundImageFactory {
     /**
      * Creates the foreground image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -104,7 +97,7 @@ public enum ForegroundImageFactory {
     /**
      * Creates the foreground image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -118,20 +111,21 @@ public enum ForegroundImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (radWidth == WIDTH && radWithCenterKnob == WITH_CENTER_KNOB && radType == TYPE) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("ForegroundImageFactory.radial", WIDTH, WITH_CENTER_KNOB, TYPE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (FOREGROUND_IMAGE != null) {
                 final Graphics2D G2 = FOREGROUND_IMAGE.createGraphics();
-                G2.drawImage(radForegroundImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return radForegroundImage;
+            return CACHED_IMAGE;
         }
 
-        radForegroundImage.flush();
-        radForegroundImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final BufferedImage FG_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = radForegroundImage.createGraphics();
+        final Graphics2D G2 = FG_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -336,21 +330,113 @@ public enum ForegroundImageFactory {
 
         if (FOREGROUND_IMAGE != null) {
             final Graphics2D G = FOREGROUND_IMAGE.createGraphics();
-            G.drawImage(radForegroundImage, 0, 0, null);
+            G.drawImage(FG_IMAGE, 0, 0, null);
             G.dispose();
         }
-        // Cache current values
-        radWidth = WIDTH;
-        radWithCenterKnob = WITH_CENTER_KNOB;
-        radType = TYPE;
+        // Cache current image
+        return CACHE.put(KEY, FG_IMAGE);
+    }
 
-        return radForegroundImage;
+    /**
+     * Creates the foreground image for a quarter circle radial gauge (e.g. Radial1Square).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * If an image is passed to the method, it will paint to the image and
+     * return this image. This will reduce the memory consumption.
+     * @param WIDTH
+     * @param ORIENTATION
+     * @param FOREGROUND_IMAGE
+     * @return a buffered image that contains the foreground image of a quarter circle radial gauge
+     */
+    public BufferedImage createQuarterForeground(final int WIDTH, final Orientation ORIENTATION, final BufferedImage FOREGROUND_IMAGE) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("ForegroundImageFactory.quarter", WIDTH, ORIENTATION);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (FOREGROUND_IMAGE != null) {
+                final Graphics2D G2 = FOREGROUND_IMAGE.createGraphics();
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
+                G2.dispose();
+            }
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage FG_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FG_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        final int IMAGE_WIDTH = FG_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = FG_IMAGE.getHeight();
+
+        UTIL.transformQuarterGraphics(ORIENTATION, IMAGE_WIDTH, IMAGE_HEIGHT, G2);
+
+        if (ORIENTATION == Orientation.NORTH_EAST || ORIENTATION == Orientation.NORTH_WEST) {
+            final GeneralPath HIGHLIGHT = new GeneralPath();
+            HIGHLIGHT.setWindingRule(Path2D.WIND_EVEN_ODD);
+            HIGHLIGHT.moveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.3925233644859813);
+            HIGHLIGHT.curveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.35514018691588783, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028);
+            HIGHLIGHT.curveTo(IMAGE_WIDTH * 0.7710280373831776, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.5887850467289719, IMAGE_HEIGHT * 0.102803738317757, IMAGE_WIDTH * 0.4392523364485981, IMAGE_HEIGHT * 0.205607476635514);
+            HIGHLIGHT.curveTo(IMAGE_WIDTH * 0.3037383177570093, IMAGE_HEIGHT * 0.29439252336448596, IMAGE_WIDTH * 0.22429906542056074, IMAGE_HEIGHT * 0.37850467289719625, IMAGE_WIDTH * 0.1542056074766355, IMAGE_HEIGHT * 0.5420560747663551);
+            HIGHLIGHT.curveTo(IMAGE_WIDTH * 0.49065420560747663, IMAGE_HEIGHT * 0.3691588785046729, IMAGE_WIDTH * 0.794392523364486, IMAGE_HEIGHT * 0.38317757009345793, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.3925233644859813);
+            HIGHLIGHT.closePath();
+            final Point2D HIGHLIGHT_START = new Point2D.Double(0, HIGHLIGHT.getBounds2D().getMinY());
+            final Point2D HIGHLIGHT_STOP = new Point2D.Double(0, HIGHLIGHT.getBounds2D().getMaxY());
+            final float[] HIGHLIGHT_FRACTIONS = {
+                0.0f,
+                1.0f
+            };
+            final Color[] HIGHLIGHT_COLORS = {
+                new Color(255, 255, 255, 63),
+                new Color(255, 255, 255, 12)
+            };
+            Util.INSTANCE.validateGradientPoints(HIGHLIGHT_START, HIGHLIGHT_STOP);
+            final LinearGradientPaint HIGHLIGHT_GRADIENT = new LinearGradientPaint(HIGHLIGHT_START, HIGHLIGHT_STOP, HIGHLIGHT_FRACTIONS, HIGHLIGHT_COLORS);
+            G2.setPaint(HIGHLIGHT_GRADIENT);
+            G2.fill(HIGHLIGHT);
+        } else {
+            final GeneralPath HIGHLIGHT_FLIPPED = new GeneralPath();
+            HIGHLIGHT_FLIPPED.setWindingRule(Path2D.WIND_EVEN_ODD);
+            HIGHLIGHT_FLIPPED.moveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+            HIGHLIGHT_FLIPPED.curveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.5560747663551402, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.5560747663551402);
+            HIGHLIGHT_FLIPPED.curveTo(IMAGE_WIDTH * 0.5841121495327103, IMAGE_HEIGHT * 0.5327102803738317, IMAGE_WIDTH * 0.22897196261682243, IMAGE_HEIGHT * 0.6308411214953271, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897);
+            HIGHLIGHT_FLIPPED.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+            HIGHLIGHT_FLIPPED.closePath();
+            final Point2D HIGHLIGHT_FLIPPED_START = new Point2D.Double(0, HIGHLIGHT_FLIPPED.getBounds2D().getMaxY());
+            final Point2D HIGHLIGHT_FLIPPED_STOP = new Point2D.Double(0, HIGHLIGHT_FLIPPED.getBounds2D().getMinY());
+            final float[] HIGHLIGHT_FLIPPED_FRACTIONS = {
+                0.0f,
+                1.0f
+            };
+            final Color[] HIGHLIGHT_FLIPPED_COLORS = {
+                new Color(255, 255, 255, 63),
+                new Color(255, 255, 255, 12)
+            };
+            Util.INSTANCE.validateGradientPoints(HIGHLIGHT_FLIPPED_START, HIGHLIGHT_FLIPPED_STOP);
+            final LinearGradientPaint HIGHLIGHT_FLIPPED_GRADIENT = new LinearGradientPaint(HIGHLIGHT_FLIPPED_START, HIGHLIGHT_FLIPPED_STOP, HIGHLIGHT_FLIPPED_FRACTIONS, HIGHLIGHT_FLIPPED_COLORS);
+            G2.setPaint(HIGHLIGHT_FLIPPED_GRADIENT);
+            G2.fill(HIGHLIGHT_FLIPPED);
+        }
+        G2.dispose();
+
+        if (FOREGROUND_IMAGE != null) {
+            final Graphics2D G = FOREGROUND_IMAGE.createGraphics();
+            G.drawImage(FG_IMAGE, 0, 0, null);
+            G.dispose();
+        }
+        // Cache current image
+        return CACHE.put(KEY, FG_IMAGE);
     }
 
     /**
      * Creates the foreground image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -364,7 +450,7 @@ public enum ForegroundImageFactory {
     /**
      * Creates the foreground image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -379,7 +465,7 @@ public enum ForegroundImageFactory {
     /**
      * Creates the foreground image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -393,19 +479,20 @@ public enum ForegroundImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (linWidth == WIDTH && linHeight == HEIGHT && linWithCenterKnob == WITH_CENTER_KNOB) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("ForegroundImageFactory.linear", WIDTH, HEIGHT, WITH_CENTER_KNOB);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (FOREGROUND_IMAGE != null) {
                 final Graphics2D G2 = FOREGROUND_IMAGE.createGraphics();
-                G2.drawImage(linForegroundImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return linForegroundImage;
+            return CACHED_IMAGE;
         }
 
-        linForegroundImage.flush();
-        linForegroundImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = linForegroundImage.createGraphics();
+        final BufferedImage FG_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FG_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -539,15 +626,11 @@ public enum ForegroundImageFactory {
 
         if (FOREGROUND_IMAGE != null) {
             final Graphics2D G = FOREGROUND_IMAGE.createGraphics();
-            G.drawImage(linForegroundImage, 0, 0, null);
+            G.drawImage(FG_IMAGE, 0, 0, null);
             G.dispose();
         }
-        // Cache current values
-        linWidth = WIDTH;
-        linHeight = HEIGHT;
-        linWithCenterKnob = WITH_CENTER_KNOB;
-
-        return linForegroundImage;
+        // Cache current image
+        return CACHE.put(KEY, FG_IMAGE);
     }
 
     @Override
@@ -27,15 +27,19 @@
  */
 package eu.hansolo.steelseries.tools;
 
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.LinearGradientPaint;
 import java.awt.Paint;
 import java.awt.RadialGradientPaint;
 import java.awt.RenderingHints;
+import java.awt.Shape;
 import java.awt.Transparency;
 import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
@@ -49,24 +53,9 @@ public enum FrameImageFactory {
     // <editor-fold defaultstate="collapsed" desc="Variable declarations">
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private Paint outerFrameColor = new Color(0x848484);
-    private Paint innerFrameColor = new Color(0.6f, 0.6f, 0.6f, 0.8f);
-    // Variables for caching
-    private int radWidth = 0;
-    private FrameDesign radFrameDesign = FrameDesign.METAL;
-    private BufferedImage radFrameImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private FrameEffect radFrameEffect = FrameEffect.NONE;
-    private Paint radCustomFrame = Color.BLACK;
-    private Color radFrameBaseColor = new Color(179, 179, 179, 255);
-    private boolean radFrameBaseColorEnabled = false;
-    private int linWidth = 0;
-    private int linHeight = 0;
-    private FrameDesign linFrameDesign = FrameDesign.METAL;
-    private BufferedImage linFrameImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private FrameEffect linFrameEffect = FrameEffect.NONE;
-    private Paint linCustomFrame = Color.BLACK;
-    private Color linFrameBaseColor = new Color(179, 179, 179, 255);
-    private boolean linFrameBaseColorEnabled = false;
+    private volatile Paint outerFrameColor = new Color(0x848484);
+    private volatile Paint innerFrameColor = new Color(0.6f, 0.6f, 0.6f, 0.8f);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Getters and Setters">
@@ -91,7 +80,7 @@ public enum FrameImageFactory {
     /**
      * Creates the frame image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -115,7 +104,7 @@ public enum FrameImageFactory {
     /**
      * Creates the frame image for a radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * If an image is passed to the method, it will paint to the image and
@@ -134,19 +123,22 @@ public enum FrameImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (radWidth == WIDTH && radFrameDesign == FRAME_DESIGN && radFrameEffect == FRAME_EFFECT && radCustomFrame.equals(CUSTOM_FRAME_DESIGN) && radFrameBaseColor.equals(FRAME_BASECOLOR) && radFrameBaseColorEnabled == FRAME_BASECOLOR_ENABLED) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final Paint OUTER_FRAME_COLOR = outerFrameColor;
+        final Paint INNER_FRAME_COLOR = innerFrameColor;
+        final ImageCacheKey KEY = new ImageCacheKey("FrameImageFactory.radial", WIDTH, FRAME_DESIGN, CUSTOM_FRAME_DESIGN, FRAME_BASECOLOR, FRAME_BASECOLOR_ENABLED, FRAME_EFFECT, OUTER_FRAME_COLOR, INNER_FRAME_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
-                G2.drawImage(radFrameImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return radFrameImage;
+            return CACHED_IMAGE;
         }
 
-        radFrameImage.flush();
-        radFrameImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = radFrameImage.createGraphics();
+        final BufferedImage FRAME_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FRAME_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -158,7 +150,7 @@ public enum FrameImageFactory {
 
         final Area FRAME_OUTERFRAME = new Area(new Ellipse2D.Double(0.0, 0.0, IMAGE_WIDTH, IMAGE_HEIGHT));
         FRAME_OUTERFRAME.subtract(SUBTRACT);
-        G2.setPaint(outerFrameColor);
+        G2.setPaint(OUTER_FRAME_COLOR);
         G2.fill(FRAME_OUTERFRAME);
 
         final Area FRAME_MAIN = new Area(new Ellipse2D.Double(IMAGE_WIDTH * 0.004672897048294544, IMAGE_HEIGHT * 0.004672897048294544, IMAGE_WIDTH * 0.9906542301177979, IMAGE_HEIGHT * 0.9906542301177979));
@@ -516,7 +508,7 @@ public enum FrameImageFactory {
         FRAME_INNERFRAME.subtract(SUBTRACT);
 
         // Former white ring
-        G2.setPaint(innerFrameColor);
+        G2.setPaint(INNER_FRAME_COLOR);
         G2.fill(FRAME_INNERFRAME);
 
         // Frame effect overlay
@@ -624,17 +616,1283 @@ public enum FrameImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(radFrameImage, 0, 0, null);
+            G.drawImage(FRAME_IMAGE, 0, 0, null);
             G.dispose();
         }
-        // Cache current parameters
-        radWidth = WIDTH;
-        radFrameDesign = FRAME_DESIGN;
-        radFrameEffect = FRAME_EFFECT;
-        radCustomFrame = CUSTOM_FRAME_DESIGN;
-        radFrameBaseColor = FRAME_BASECOLOR;
-        radFrameBaseColorEnabled = FRAME_BASECOLOR_ENABLED;
-        return radFrameImage;
+        // Cache current image
+        return CACHE.put(KEY, FRAME_IMAGE);
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Image related (Quarter and half circle)">
+    /**
+     * Creates the frame image for a quarter circle radial gauge (e.g. Radial1Square).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * If an image is passed to the method, it will paint to the image and
+     * return this image. This will reduce the memory consumption.
+     * @param WIDTH
+     * @param ORIENTATION
+     * @param FRAME_DESIGN
+     * @param CUSTOM_FRAME_DESIGN
+     * @param FRAME_BASECOLOR
+     * @param FRAME_BASECOLOR_ENABLED
+     * @param FRAME_EFFECT
+     * @param BACKGROUND_IMAGE
+     * @return a buffered image that contains the frame image for a quarter circle radial gauge
+     */
+    public BufferedImage createQuarterFrame(final int WIDTH, final Orientation ORIENTATION, final FrameDesign FRAME_DESIGN, final Paint CUSTOM_FRAME_DESIGN, final Color FRAME_BASECOLOR, final boolean FRAME_BASECOLOR_ENABLED, final FrameEffect FRAME_EFFECT, final BufferedImage BACKGROUND_IMAGE) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final Paint OUTER_FRAME_COLOR = outerFrameColor;
+        final Paint INNER_FRAME_COLOR = innerFrameColor;
+        final ImageCacheKey KEY = new ImageCacheKey("FrameImageFactory.quarter", WIDTH, ORIENTATION, FRAME_DESIGN, CUSTOM_FRAME_DESIGN, FRAME_BASECOLOR, FRAME_BASECOLOR_ENABLED, FRAME_EFFECT, OUTER_FRAME_COLOR, INNER_FRAME_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (BACKGROUND_IMAGE != null) {
+                final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
+                G2.dispose();
+            }
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage FRAME_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FRAME_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_DITHERING, RenderingHints.VALUE_DITHER_ENABLE);
+        G2.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+        G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        final int IMAGE_WIDTH = FRAME_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = FRAME_IMAGE.getHeight();
+
+        UTIL.transformQuarterGraphics(ORIENTATION, IMAGE_WIDTH, IMAGE_HEIGHT, G2);
+
+        // Define shape that will be subtracted from the frame shapes and will be filled by the background later on
+        final GeneralPath BACKGROUND = new GeneralPath();
+        BACKGROUND.setWindingRule(Path2D.WIND_EVEN_ODD);
+        BACKGROUND.moveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        BACKGROUND.curveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028);
+        BACKGROUND.curveTo(IMAGE_WIDTH * 0.6401869158878505, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.46261682242990654, IMAGE_HEIGHT * 0.1588785046728972, IMAGE_WIDTH * 0.29439252336448596, IMAGE_HEIGHT * 0.32242990654205606);
+        BACKGROUND.curveTo(IMAGE_WIDTH * 0.17289719626168223, IMAGE_HEIGHT * 0.4439252336448598, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.6635514018691588, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897);
+        BACKGROUND.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        BACKGROUND.closePath();
+        final Area SUBTRACT = new Area(BACKGROUND);
+
+        final GeneralPath FRAME_OUTERFRAME = new GeneralPath();
+        FRAME_OUTERFRAME.setWindingRule(Path2D.WIND_EVEN_ODD);
+        FRAME_OUTERFRAME.moveTo(IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 1.0);
+        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 1.0, IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 0.0, IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 0.0);
+        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH * 0.3644859813084112, IMAGE_HEIGHT * 0.0, IMAGE_WIDTH * 0.0, IMAGE_HEIGHT * 0.308411214953271, IMAGE_WIDTH * 0.0, IMAGE_HEIGHT * 1.0);
+        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH * 0.0, IMAGE_HEIGHT * 1.0, IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 1.0, IMAGE_WIDTH * 1.0, IMAGE_HEIGHT * 1.0);
+        FRAME_OUTERFRAME.closePath();
+        G2.setPaint(OUTER_FRAME_COLOR);
+        final Area FRAME_OUTERFRAME_AREA = new Area(FRAME_OUTERFRAME);
+        FRAME_OUTERFRAME_AREA.subtract(SUBTRACT);
+        G2.fill(FRAME_OUTERFRAME_AREA);
+
+        final GeneralPath FRAME_MAIN = new GeneralPath();
+        FRAME_MAIN.setWindingRule(Path2D.WIND_EVEN_ODD);
+        FRAME_MAIN.moveTo(IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.9953271028037384);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.9953271028037384, IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.004672897196261682, IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.004672897196261682);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.3364485981308411, IMAGE_HEIGHT * 0.004672897196261682, IMAGE_WIDTH * 0.004672897196261682, IMAGE_HEIGHT * 0.35514018691588783, IMAGE_WIDTH * 0.004672897196261682, IMAGE_HEIGHT * 0.9953271028037384);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.004672897196261682, IMAGE_HEIGHT * 0.9953271028037384, IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.9953271028037384, IMAGE_WIDTH * 0.9953271028037384, IMAGE_HEIGHT * 0.9953271028037384);
+        FRAME_MAIN.closePath();
+
+        final Point2D FRAME_MAIN_START;
+        final Point2D FRAME_MAIN_STOP;
+        final Point2D FRAME_MAIN_CENTER = new Point2D.Double(FRAME_MAIN.getBounds2D().getCenterX(), FRAME_MAIN.getBounds2D().getCenterY());
+
+        switch (ORIENTATION) {
+            case NORTH_WEST:
+                FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+                FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+                break;
+            case NORTH_EAST:
+                FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+                FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+                break;
+            case SOUTH_EAST:
+                FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+                FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+                break;
+            case SOUTH_WEST:
+                FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+                FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+                break;
+            default:
+                FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+                FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+        }
+
+        final float ANGLE_OFFSET = (float) Math.toDegrees(Math.atan((IMAGE_HEIGHT / 8.0f) / (IMAGE_WIDTH / 2.0f)));
+        final Area FRAME_MAIN_AREA = new Area(FRAME_MAIN);
+
+        if (FRAME_DESIGN == FrameDesign.CUSTOM) {
+            G2.setPaint(CUSTOM_FRAME_DESIGN);
+            FRAME_MAIN_AREA.subtract(SUBTRACT);
+            G2.fill(FRAME_MAIN_AREA);
+        } else {
+            switch (FRAME_DESIGN) {
+                case BLACK_METAL:
+                    float[] frameMainFractions1 = {
+                        0.0f,
+                        90.0f - 2 * ANGLE_OFFSET,
+                        90.0f,
+                        90.0f + 3 * ANGLE_OFFSET,
+                        180.0f,
+                        270.0f - 3 * ANGLE_OFFSET,
+                        270.0f,
+                        270.0f + 2 * ANGLE_OFFSET,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors1 = {
+                        new Color(254, 254, 254, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(153, 153, 153, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(153, 153, 153, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(254, 254, 254, 255)
+                    };
+
+                    Paint frameMainGradient1 = new ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions1, frameMainColors1);
+                    G2.setPaint(frameMainGradient1);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case METAL:
+                    float[] frameMainFractions2 = {
+                        0.0f,
+                        0.07f,
+                        0.12f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors2 = {
+                        new Color(254, 254, 254, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(213, 213, 213, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient2 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions2, frameMainColors2);
+                    G2.setPaint(frameMainGradient2);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case SHINY_METAL:
+                    float[] frameMainFractions3 = {
+                        0.0f,
+                        90.0f - 2 * ANGLE_OFFSET,
+                        90.0f,
+                        90.0f + 4 * ANGLE_OFFSET,
+                        180.0f,
+                        270.0f - 4 * ANGLE_OFFSET,
+                        270.0f,
+                        270.0f + 2 * ANGLE_OFFSET,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors3;
+                    if (FRAME_BASECOLOR_ENABLED) {
+                        frameMainColors3 = new Color[]{
+                            new Color(254, 254, 254, 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.brighter().brighter().getRed(), FRAME_BASECOLOR.brighter().brighter().getGreen(), FRAME_BASECOLOR.brighter().brighter().getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.brighter().brighter().getRed(), FRAME_BASECOLOR.brighter().brighter().getGreen(), FRAME_BASECOLOR.brighter().brighter().getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(254, 254, 254, 255)
+                        };
+                    } else {
+                        frameMainColors3 = new Color[]{
+                            new Color(254, 254, 254, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(238, 238, 238, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(238, 238, 238, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(254, 254, 254, 255)
+                        };
+                    }
+
+                    Paint frameMainGradient3 = new eu.hansolo.steelseries.tools.ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions3, frameMainColors3);
+                    G2.setPaint(frameMainGradient3);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case GLOSSY_METAL:
+                    final GeneralPath FRAME_GLOSSY1 = new GeneralPath();
+                    FRAME_GLOSSY1.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_GLOSSY1.moveTo(0.9953271028037384 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY1.curveTo(0.9953271028037384 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT, 0.9953271028037384 * IMAGE_WIDTH, 0.004672897196261682 * IMAGE_HEIGHT, 0.9953271028037384 * IMAGE_WIDTH, 0.004672897196261682 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY1.curveTo(0.3364485981308411 * IMAGE_WIDTH, 0.004672897196261682 * IMAGE_HEIGHT, 0.004672897196261682 * IMAGE_WIDTH, 0.35514018691588783 * IMAGE_HEIGHT, 0.004672897196261682 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY1.curveTo(0.004672897196261682 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT, 0.9953271028037384 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT, 0.9953271028037384 * IMAGE_WIDTH, 0.9953271028037384 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY1.closePath();
+                    final Area FRAME_GLOSSY_1 = new Area(FRAME_GLOSSY1);
+                    FRAME_GLOSSY_1.subtract(SUBTRACT);
+                    G2.setPaint(new RadialGradientPaint(new Point2D.Double(0.9906542056074766 * IMAGE_WIDTH, 0.9813084112149533 * IMAGE_HEIGHT), (float)(0.9789719626168224 * IMAGE_WIDTH), new float[]{0.0f, 0.94f, 1.0f}, new Color[]{new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(1f, 1f, 1f, 1f)}));
+                    G2.fill(FRAME_GLOSSY_1);
+
+                    final GeneralPath FRAME_GLOSSY2 = new GeneralPath();
+                    FRAME_GLOSSY2.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_GLOSSY2.moveTo(0.9906542056074766 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY2.curveTo(0.9906542056074766 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT, 0.9906542056074766 * IMAGE_WIDTH, 0.009345794392523364 * IMAGE_HEIGHT, 0.9906542056074766 * IMAGE_WIDTH, 0.009345794392523364 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY2.curveTo(0.3364485981308411 * IMAGE_WIDTH, 0.009345794392523364 * IMAGE_HEIGHT, 0.009345794392523364 * IMAGE_WIDTH, 0.3598130841121495 * IMAGE_HEIGHT, 0.009345794392523364 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY2.curveTo(0.009345794392523364 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT, 0.9906542056074766 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT, 0.9906542056074766 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY2.closePath();
+                    final Area FRAME_GLOSSY_2 = new Area(FRAME_GLOSSY2);
+                    FRAME_GLOSSY_1.subtract(SUBTRACT);
+                    G2.setPaint(new LinearGradientPaint(new Point2D.Double(0.9953271028037384 * IMAGE_WIDTH, 0.004672897196261682 * IMAGE_HEIGHT), new Point2D.Double(0.9953271028037384 * IMAGE_WIDTH, 0.9906542056074766 * IMAGE_HEIGHT), new float[]{0.0f, 0.18f, 0.32f, 0.66f, 0.89f, 1.0f}, new Color[]{new Color(0.9764705882f, 0.9764705882f, 0.9764705882f, 1f), new Color(0.7843137255f, 0.7647058824f, 0.7490196078f, 1f), new Color(0.9960784314f, 0.9960784314f, 0.9921568627f, 1f), new Color(0.1137254902f, 0.1137254902f, 0.1137254902f, 1f), new Color(0.7843137255f, 0.7647058824f, 0.7490196078f, 1f), new Color(0.8196078431f, 0.8196078431f, 0.8196078431f, 1f)}));
+                    G2.fill(FRAME_GLOSSY_2);
+
+                    final GeneralPath FRAME_GLOSSY3 = new GeneralPath();
+                    FRAME_GLOSSY3.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_GLOSSY3.moveTo(0.9299065420560748 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY3.curveTo(0.9299065420560748 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT, 0.9299065420560748 * IMAGE_WIDTH, 0.06542056074766354 * IMAGE_HEIGHT, 0.9299065420560748 * IMAGE_WIDTH, 0.06542056074766354 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY3.curveTo(0.40654205607476634 * IMAGE_WIDTH, 0.06542056074766354 * IMAGE_HEIGHT, 0.07009345794392523 * IMAGE_WIDTH, 0.37383177570093457 * IMAGE_HEIGHT, 0.07009345794392523 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY3.curveTo(0.07009345794392523 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT, 0.9299065420560748 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT, 0.9299065420560748 * IMAGE_WIDTH, 0.9299065420560748 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY3.closePath();
+                    final Area FRAME_GLOSSY_3 = new Area(FRAME_GLOSSY3);
+                    FRAME_GLOSSY_3.subtract(SUBTRACT);
+                    G2.setPaint(new Color(0.9647058824f, 0.9647058824f, 0.9647058824f, 1f));
+                    G2.fill(FRAME_GLOSSY_3);
+
+                    final GeneralPath FRAME_GLOSSY4 = new GeneralPath();
+                    FRAME_GLOSSY4.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_GLOSSY4.moveTo(0.9252336448598131 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY4.curveTo(0.9252336448598131 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT, 0.9252336448598131 * IMAGE_WIDTH, 0.07009345794392523 * IMAGE_HEIGHT, 0.9252336448598131 * IMAGE_WIDTH, 0.07009345794392523 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY4.curveTo(0.3878504672897196 * IMAGE_WIDTH, 0.07009345794392523 * IMAGE_HEIGHT, 0.07476635514018691 * IMAGE_WIDTH, 0.4158878504672897 * IMAGE_HEIGHT, 0.07476635514018691 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY4.curveTo(0.07476635514018691 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT, 0.9252336448598131 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT, 0.9252336448598131 * IMAGE_WIDTH, 0.9252336448598131 * IMAGE_HEIGHT);
+                    FRAME_GLOSSY4.closePath();
+                    final Area FRAME_GLOSSY_4 = new Area(FRAME_GLOSSY4);
+                    FRAME_GLOSSY_4.subtract(SUBTRACT);
+                    G2.setPaint(new Color(0.2f, 0.2f, 0.2f, 1f));
+                    G2.fill(FRAME_GLOSSY_4);
+                    break;
+
+                case BRASS:
+                    float[] frameMainFractions5 = {
+                        0.0f,
+                        0.05f,
+                        0.10f,
+                        0.50f,
+                        0.90f,
+                        0.95f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors5 = {
+                        new Color(249, 243, 155, 255),
+                        new Color(246, 226, 101, 255),
+                        new Color(240, 225, 132, 255),
+                        new Color(90, 57, 22, 255),
+                        new Color(249, 237, 139, 255),
+                        new Color(243, 226, 108, 255),
+                        new Color(202, 182, 113, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient5 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions5, frameMainColors5);
+                    G2.setPaint(frameMainGradient5);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case STEEL:
+                    float[] frameMainFractions6 = {
+                        0.0f,
+                        0.05f,
+                        0.10f,
+                        0.50f,
+                        0.90f,
+                        0.95f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors6 = {
+                        new Color(231, 237, 237, 255),
+                        new Color(189, 199, 198, 255),
+                        new Color(192, 201, 200, 255),
+                        new Color(23, 31, 33, 255),
+                        new Color(196, 205, 204, 255),
+                        new Color(194, 204, 203, 255),
+                        new Color(189, 201, 199, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient6 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions6, frameMainColors6);
+                    G2.setPaint(frameMainGradient6);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case CHROME:
+                    float[] frameMainFractions7 = {
+                        0.0f,
+                        0.09f,
+                        0.12f,
+                        0.16f,
+                        0.25f,
+                        0.29f,
+                        0.33f,
+                        0.38f,
+                        0.48f,
+                        0.52f,
+                        0.63f,
+                        0.68f,
+                        0.8f,
+                        0.83f,
+                        0.87f,
+                        0.97f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors7 = {
+                        new Color(255, 255, 255, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(136, 136, 138, 255),
+                        new Color(164, 185, 190, 255),
+                        new Color(158, 179, 182, 255),
+                        new Color(112, 112, 112, 255),
+                        new Color(221, 227, 227, 255),
+                        new Color(155, 176, 179, 255),
+                        new Color(156, 176, 177, 255),
+                        new Color(254, 255, 255, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(156, 180, 180, 255),
+                        new Color(198, 209, 211, 255),
+                        new Color(246, 248, 247, 255),
+                        new Color(204, 216, 216, 255),
+                        new Color(164, 188, 190, 255),
+                        new Color(255, 255, 255, 255)
+                    };
+
+                    Paint frameMainGradient7 = new eu.hansolo.steelseries.tools.ConicalGradientPaint(false, FRAME_MAIN_CENTER, 0, frameMainFractions7, frameMainColors7);
+                    G2.setPaint(frameMainGradient7);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case GOLD:
+                    float[] frameMainFractions8 = {
+                        0.0f,
+                        0.15f,
+                        0.22f,
+                        0.3f,
+                        0.38f,
+                        0.44f,
+                        0.51f,
+                        0.6f,
+                        0.68f,
+                        0.75f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors8 = {
+                        new Color(255, 255, 207, 255),
+                        new Color(255, 237, 96, 255),
+                        new Color(254, 199, 57, 255),
+                        new Color(255, 249, 203, 255),
+                        new Color(255, 199, 64, 255),
+                        new Color(252, 194, 60, 255),
+                        new Color(255, 204, 59, 255),
+                        new Color(213, 134, 29, 255),
+                        new Color(255, 201, 56, 255),
+                        new Color(212, 135, 29, 255),
+                        new Color(247, 238, 101, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient8 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions8, frameMainColors8);
+                    G2.setPaint(frameMainGradient8);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case ANTHRACITE:
+                    float[] frameMainFractions9 = {
+                        0.0f,
+                        0.06f,
+                        0.12f,
+                        1.0f
+                    };
+                    Color[] frameMainColors9 = {
+                        new Color(118, 117, 135, 255),
+                        new Color(74, 74, 82, 255),
+                        new Color(50, 50, 54, 255),
+                        new Color(97, 97, 108, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient9 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions9, frameMainColors9);
+                    G2.setPaint(frameMainGradient9);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case TILTED_GRAY:
+                    FRAME_MAIN_START.setLocation((0.2336448598130841 * IMAGE_WIDTH), (0.08411214953271028 * IMAGE_HEIGHT));
+                    FRAME_MAIN_STOP.setLocation(((0.2336448598130841 + 0.5789369637935792) * IMAGE_WIDTH), ((0.08411214953271028 + 0.8268076708711319) * IMAGE_HEIGHT));
+                    float[] frameMainFractions10 = {
+                        0.0f,
+                        0.07f,
+                        0.16f,
+                        0.33f,
+                        0.55f,
+                        0.79f,
+                        1.0f
+                    };
+                    Color[] frameMainColors10 = {
+                        new Color(255, 255, 255, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(197, 197, 197, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(102, 102, 102, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient10 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions10, frameMainColors10);
+                    G2.setPaint(frameMainGradient10);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case TILTED_BLACK:
+                    FRAME_MAIN_START.setLocation((0.22897196261682243 * IMAGE_WIDTH), (0.0794392523364486 * IMAGE_HEIGHT));
+                    FRAME_MAIN_STOP.setLocation(((0.22897196261682243 + 0.573576436351046) * IMAGE_WIDTH), ((0.0794392523364486 + 0.8191520442889918) * IMAGE_HEIGHT));
+                    float[] frameMainFractions11 = {
+                        0.0f,
+                        0.21f,
+                        0.47f,
+                        0.99f,
+                        1.0f
+                    };
+                    Color[] frameMainColors11 = {
+                        new Color(102, 102, 102, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(102, 102, 102, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient11 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions11, frameMainColors11);
+                    G2.setPaint(frameMainGradient11);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                default:
+                    float[] frameMainFractions = {
+                        0.0f,
+                        0.07f,
+                        0.12f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors = {
+                        new Color(254, 254, 254, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(213, 213, 213, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions, frameMainColors);
+                    G2.setPaint(frameMainGradient);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+            }
+        }
+
+        // Apply frame effects
+        final float[] EFFECT_FRACTIONS;
+        final Color[] EFFECT_COLORS;
+        final GradientWrapper EFFECT_GRADIENT;
+        float scale = 1.0f;
+        final Shape[] EFFECT = new Shape[100];
+        switch (FRAME_EFFECT) {
+            case EFFECT_BULGE:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.13f,
+                    0.14f,
+                    0.17f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 102),            // Outside
+                    new Color(255, 255, 255, 151),
+                    new Color(219, 219, 219, 153),
+                    new Color(0, 0, 0, 95),
+                    new Color(0, 0, 0, 76),       // Inside
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_CONE:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.0399f,
+                    0.04f,
+                    0.1799f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 76),
+                    new Color(223, 223, 223, 127),
+                    new Color(255, 255, 255, 124),
+                    new Color(9, 9, 9, 51),
+                    new Color(0, 0, 0, 50),
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_TORUS:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.08f,
+                    0.1799f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 76),
+                    new Color(255, 255, 255, 64),
+                    new Color(13, 13, 13, 51),
+                    new Color(0, 0, 0, 50),
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_INNER_FRAME:
+                final java.awt.Shape EFFECT_BIGINNERFRAME = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, 0.8785046339035034);
+                final Point2D EFFECT_BIGINNERFRAME_START = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMinY());
+                final Point2D EFFECT_BIGINNERFRAME_STOP = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMaxY());
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.3f,
+                    0.5f,
+                    0.71f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 183),
+                    new Color(148, 148, 148, 25),
+                    new Color(0, 0, 0, 159),
+                    new Color(0, 0, 0, 81),
+                    new Color(255, 255, 255, 158)
+                };
+                Util.INSTANCE.validateGradientPoints(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP);
+                final LinearGradientPaint EFFECT_BIGINNERFRAME_GRADIENT = new LinearGradientPaint(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP, EFFECT_FRACTIONS, EFFECT_COLORS);
+                G2.setPaint(EFFECT_BIGINNERFRAME_GRADIENT);
+                G2.fill(EFFECT_BIGINNERFRAME);
+                break;
+        }
+
+        final GeneralPath GAUGE_BACKGROUND_MAIN = new GeneralPath();
+        GAUGE_BACKGROUND_MAIN.setWindingRule(Path2D.WIND_EVEN_ODD);
+        GAUGE_BACKGROUND_MAIN.moveTo(IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.9205607476635514);
+        GAUGE_BACKGROUND_MAIN.curveTo(IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.9205607476635514, IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.0794392523364486, IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.0794392523364486);
+        GAUGE_BACKGROUND_MAIN.curveTo(IMAGE_WIDTH * 0.6822429906542056, IMAGE_HEIGHT * 0.0794392523364486, IMAGE_WIDTH * 0.48130841121495327, IMAGE_HEIGHT * 0.13551401869158877, IMAGE_WIDTH * 0.3037383177570093, IMAGE_HEIGHT * 0.308411214953271);
+        GAUGE_BACKGROUND_MAIN.curveTo(IMAGE_WIDTH * 0.16355140186915887, IMAGE_HEIGHT * 0.4439252336448598, IMAGE_WIDTH * 0.0794392523364486, IMAGE_HEIGHT * 0.6822429906542056, IMAGE_WIDTH * 0.0794392523364486, IMAGE_HEIGHT * 0.9205607476635514);
+        GAUGE_BACKGROUND_MAIN.curveTo(IMAGE_WIDTH * 0.0794392523364486, IMAGE_HEIGHT * 0.9205607476635514, IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.9205607476635514, IMAGE_WIDTH * 0.9205607476635514, IMAGE_HEIGHT * 0.9205607476635514);
+        GAUGE_BACKGROUND_MAIN.closePath();
+        G2.setColor(Color.WHITE);
+        final java.awt.geom.Area GAUGE_BACKGROUND_MAIN_AREA = new java.awt.geom.Area(GAUGE_BACKGROUND_MAIN);
+        GAUGE_BACKGROUND_MAIN_AREA.subtract(SUBTRACT);
+        G2.fill(GAUGE_BACKGROUND_MAIN_AREA);
+
+        G2.dispose();
+
+        if (BACKGROUND_IMAGE != null) {
+            final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
+            G.drawImage(FRAME_IMAGE, 0, 0, null);
+            G.dispose();
+        }
+        // Cache current image
+        return CACHE.put(KEY, FRAME_IMAGE);
+    }
+
+    /**
+     * Creates the frame image for a half circle radial gauge (e.g. Radial2Top).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * If an image is passed to the method, it will paint to the image and
+     * return this image. This will reduce the memory consumption.
+     * @param WIDTH
+     * @param FRAME_DESIGN
+     * @param CUSTOM_FRAME_DESIGN
+     * @param FRAME_BASECOLOR
+     * @param FRAME_BASECOLOR_ENABLED
+     * @param FRAME_EFFECT
+     * @param BACKGROUND_IMAGE
+     * @return a buffered image that contains the frame image for a half circle radial gauge
+     */
+    public BufferedImage createHalfFrame(final int WIDTH, final FrameDesign FRAME_DESIGN, final Paint CUSTOM_FRAME_DESIGN, final Color FRAME_BASECOLOR, final boolean FRAME_BASECOLOR_ENABLED, final FrameEffect FRAME_EFFECT, final BufferedImage BACKGROUND_IMAGE) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final Paint OUTER_FRAME_COLOR = outerFrameColor;
+        final Paint INNER_FRAME_COLOR = innerFrameColor;
+        final ImageCacheKey KEY = new ImageCacheKey("FrameImageFactory.half", WIDTH, FRAME_DESIGN, CUSTOM_FRAME_DESIGN, FRAME_BASECOLOR, FRAME_BASECOLOR_ENABLED, FRAME_EFFECT, OUTER_FRAME_COLOR, INNER_FRAME_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (BACKGROUND_IMAGE != null) {
+                final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
+                G2.dispose();
+            }
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage FRAME_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FRAME_IMAGE.createGraphics();
+
+        // Layers are rendered into a square image, the half circle only uses the upper part of it
+        final double VERTICAL_SCALE = 0.641860465116279;
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+
+        final int IMAGE_WIDTH = FRAME_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = FRAME_IMAGE.getHeight();
+
+        // Define shape that will be subtracted from frame shapes
+        final GeneralPath SUBTRACT_PATH = new GeneralPath();
+        SUBTRACT_PATH.setWindingRule(Path2D.WIND_EVEN_ODD);
+        SUBTRACT_PATH.moveTo(IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.42028985507246375 * VERTICAL_SCALE, IMAGE_WIDTH * 0.26976744186046514, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE);
+        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.7255813953488373, IMAGE_HEIGHT * 0.13043478260869565 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.42028985507246375 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.9116279069767442, IMAGE_HEIGHT * 0.8188405797101449 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE);
+        SUBTRACT_PATH.lineTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE);
+        SUBTRACT_PATH.curveTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8695652173913043 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.08372093023255814, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        SUBTRACT_PATH.closePath();
+        final Area SUBTRACT = new Area(SUBTRACT_PATH);
+
+        final GeneralPath FRAME_OUTERFRAME = new GeneralPath();
+        FRAME_OUTERFRAME.setWindingRule(Path2D.WIND_EVEN_ODD);
+        FRAME_OUTERFRAME.moveTo(0.0, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_OUTERFRAME.curveTo(0.0, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH * 0.22325581395348837, 0.0, IMAGE_WIDTH * 0.49767441860465117, 0.0);
+        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH * 0.772093023255814, 0.0, IMAGE_WIDTH, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_OUTERFRAME.curveTo(IMAGE_WIDTH, IMAGE_HEIGHT * 0.9057971014492754 * VERTICAL_SCALE, IMAGE_WIDTH, IMAGE_HEIGHT, IMAGE_WIDTH, IMAGE_HEIGHT * VERTICAL_SCALE);
+        FRAME_OUTERFRAME.lineTo(0.0, IMAGE_HEIGHT * VERTICAL_SCALE);
+        FRAME_OUTERFRAME.curveTo(0.0, IMAGE_HEIGHT * VERTICAL_SCALE, 0.0, IMAGE_HEIGHT * 0.8985507246376812 * VERTICAL_SCALE, 0.0, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_OUTERFRAME.closePath();
+        G2.setPaint(OUTER_FRAME_COLOR);
+        final Area FRAME_OUTERFRAME_AREA = new Area(FRAME_OUTERFRAME);
+        FRAME_OUTERFRAME_AREA.subtract(SUBTRACT);
+        G2.fill(FRAME_OUTERFRAME_AREA);
+
+        final GeneralPath FRAME_MAIN = new GeneralPath();
+        FRAME_MAIN.setWindingRule(Path2D.WIND_EVEN_ODD);
+        FRAME_MAIN.moveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.34782608695652173 * VERTICAL_SCALE, IMAGE_WIDTH * 0.22325581395348837, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.772093023255814, IMAGE_HEIGHT * 0.007246376811594203 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.35507246376811596 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.8840579710144928 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9953488372093023, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE);
+        FRAME_MAIN.lineTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE);
+        FRAME_MAIN.curveTo(IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.9927536231884058 * VERTICAL_SCALE, IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.8840579710144928 * VERTICAL_SCALE, IMAGE_WIDTH * 0.004651162790697674, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_MAIN.closePath();
+
+        final Point2D FRAME_MAIN_START = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMinY());
+        final Point2D FRAME_MAIN_STOP = new Point2D.Double(0, FRAME_MAIN.getBounds2D().getMaxY());
+        final Point2D FRAME_MAIN_CENTER = new Point2D.Double(FRAME_MAIN.getBounds2D().getCenterX(), FRAME_MAIN.getBounds2D().getHeight() * 0.7753623188 * VERTICAL_SCALE);
+
+        final Area FRAME_MAIN_AREA = new Area(FRAME_MAIN);
+
+        if (FRAME_DESIGN == FrameDesign.CUSTOM) {
+            G2.setPaint(CUSTOM_FRAME_DESIGN);
+            FRAME_MAIN_AREA.subtract(SUBTRACT);
+            G2.fill(FRAME_MAIN_AREA);
+        } else {
+            switch (FRAME_DESIGN) {
+                case BLACK_METAL:
+                    float[] frameMainFractions1 = {
+                        0.0f,
+                        45.0f,
+                        85.0f,
+                        180.0f,
+                        275.0f,
+                        315.0f,
+                        360.0f
+                    };
+
+                    Color[] frameMainColors1 = {
+                        new Color(254, 254, 254, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(254, 254, 254, 255)
+                    };
+
+                    Paint frameMainGradient1 = new ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions1, frameMainColors1);
+                    G2.setPaint(frameMainGradient1);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case METAL:
+                    float[] frameMainFractions2 = {
+                        0.0f,
+                        0.07f,
+                        0.12f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors2 = {
+                        new Color(254, 254, 254, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(213, 213, 213, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient2 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions2, frameMainColors2);
+                    G2.setPaint(frameMainGradient2);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case SHINY_METAL:
+                    float[] frameMainFractions3;
+                    Color[] frameMainColors3;
+                    if (FRAME_BASECOLOR_ENABLED) {
+                        frameMainFractions3 = new float[]{
+                            0.0f,
+                            45.0f,
+                            90.0f,
+                            135.0f,
+                            180.0f,
+                            225.0f,
+                            270.0f,
+                            315.0f,
+                            360.0f
+                        };
+
+                        frameMainColors3 = new Color[]{
+                            new Color(254, 254, 254, 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.brighter().brighter().getRed(), FRAME_BASECOLOR.brighter().brighter().getGreen(), FRAME_BASECOLOR.brighter().brighter().getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.brighter().brighter().getRed(), FRAME_BASECOLOR.brighter().brighter().getGreen(), FRAME_BASECOLOR.brighter().brighter().getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(FRAME_BASECOLOR.getRed(), FRAME_BASECOLOR.getGreen(), FRAME_BASECOLOR.getBlue(), 255),
+                            new Color(254, 254, 254, 255)
+                        };
+                    } else {
+                        frameMainFractions3 = new float[]{
+                            0.0f,
+                            45.0f,
+                            90.0f,
+                            95.0f,
+                            180.0f,
+                            265.0f,
+                            270.0f,
+                            315.0f,
+                            360.0f
+                        };
+
+                        frameMainColors3 = new Color[]{
+                            new Color(254, 254, 254, 255),
+                            new Color(210, 210, 210, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(160, 160, 160, 255),
+                            new Color(160, 160, 160, 255),
+                            new Color(160, 160, 160, 255),
+                            new Color(179, 179, 179, 255),
+                            new Color(210, 210, 210, 255),
+                            new Color(254, 254, 254, 255)
+                        };
+                    }
+
+                    Paint frameMainGradient3 = new ConicalGradientPaint(true, FRAME_MAIN_CENTER, 0, frameMainFractions3, frameMainColors3);
+                    G2.setPaint(frameMainGradient3);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case GLOSSY_METAL:
+                    final GeneralPath FRAME_MAIN_GLOSSY1 = new GeneralPath();
+                    FRAME_MAIN_GLOSSY1.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_MAIN_GLOSSY1.moveTo(0.004672897196261682 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.curveTo(0.004672897196261682 * IMAGE_WIDTH, 0.35036496350364965 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.22429906542056074 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.curveTo(0.7710280373831776 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.35036496350364965 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.curveTo(0.9953271028037384 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9953271028037384 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.lineTo(0.004672897196261682 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.curveTo(0.004672897196261682 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.004672897196261682 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.004672897196261682 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY1.closePath();
+                    final Area FRAME_MAIN_GLOSSY_1 = new Area(FRAME_MAIN_GLOSSY1);
+                    FRAME_MAIN_GLOSSY_1.subtract(SUBTRACT);
+                    G2.setPaint(new RadialGradientPaint(new Point2D.Double(0.5 * IMAGE_WIDTH, 0.9927007299270073 * IMAGE_HEIGHT * VERTICAL_SCALE), (float)(0.4953271028037383 * IMAGE_WIDTH), new float[]{0.0f, 0.01f, 0.95f, 1.0f}, new Color[]{new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.8235294118f, 0.8235294118f, 0.8235294118f, 1f), new Color(0.9960784314f, 0.9960784314f, 0.9960784314f, 1f)}));
+                    G2.fill(FRAME_MAIN_GLOSSY_1);
+
+                    final GeneralPath FRAME_MAIN_GLOSSY2 = new GeneralPath();
+                    FRAME_MAIN_GLOSSY2.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_MAIN_GLOSSY2.moveTo(0.014018691588785047 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.curveTo(0.014018691588785047 * IMAGE_WIDTH, 0.36496350364963503 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.22429906542056074 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.curveTo(0.7710280373831776 * IMAGE_WIDTH, 0.021897810218978103 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.36496350364963503 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.curveTo(0.985981308411215 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.985981308411215 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.lineTo(0.014018691588785047 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.curveTo(0.014018691588785047 * IMAGE_WIDTH, 0.9781021897810219 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.014018691588785047 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.014018691588785047 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY2.closePath();
+                    final Area FRAME_MAIN_GLOSSY_2 = new Area(FRAME_MAIN_GLOSSY2);
+                    FRAME_MAIN_GLOSSY_2.subtract(SUBTRACT);
+                    G2.setPaint(new LinearGradientPaint(new Point2D.Double(0.5 * IMAGE_WIDTH, 0.0072992700729927005 * IMAGE_HEIGHT * VERTICAL_SCALE), new Point2D.Double(0.5000000000000001 * IMAGE_WIDTH, 1.0 * IMAGE_HEIGHT * VERTICAL_SCALE), new float[]{0.0f, 0.24f, 0.34f, 0.65f, 0.85f, 1.0f}, new Color[]{new Color(0.9764705882f, 0.9764705882f, 0.9764705882f, 1f), new Color(0.7843137255f, 0.7647058824f, 0.7490196078f, 1f), new Color(0.9882352941f, 0.9882352941f, 0.9882352941f, 1f), new Color(0.1215686275f, 0.1215686275f, 0.1215686275f, 1f), new Color(0.7843137255f, 0.7607843137f, 0.7529411765f, 1f), new Color(0.8156862745f, 0.8156862745f, 0.8156862745f, 1f)}));
+                    G2.fill(FRAME_MAIN_GLOSSY_2);
+
+                    final GeneralPath FRAME_MAIN_GLOSSY3 = new GeneralPath();
+                    FRAME_MAIN_GLOSSY3.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_MAIN_GLOSSY3.moveTo(0.07009345794392523 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.curveTo(0.07009345794392523 * IMAGE_WIDTH, 0.39416058394160586 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.26635514018691586 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.curveTo(0.7289719626168224 * IMAGE_WIDTH, 0.10948905109489052 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9252336448598131 * IMAGE_WIDTH, 0.38686131386861317 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9252336448598131 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.curveTo(0.9252336448598131 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9158878504672897 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9158878504672897 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.lineTo(0.07476635514018691 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.curveTo(0.07476635514018691 * IMAGE_WIDTH, 0.8905109489051095 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07009345794392523 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07009345794392523 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY3.closePath();
+                    final Area FRAME_MAIN_GLOSSY_3 = new Area(FRAME_MAIN_GLOSSY3);
+                    FRAME_MAIN_GLOSSY_3.subtract(SUBTRACT);
+                    G2.setPaint(new Color(0.9647058824f, 0.9647058824f, 0.9647058824f, 1f));
+                    G2.fill(FRAME_MAIN_GLOSSY_3);
+
+                    final GeneralPath FRAME_MAIN_GLOSSY4 = new GeneralPath();
+                    FRAME_MAIN_GLOSSY4.setWindingRule(Path2D.WIND_EVEN_ODD);
+                    FRAME_MAIN_GLOSSY4.moveTo(0.07476635514018691 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.curveTo(0.07476635514018691 * IMAGE_WIDTH, 0.41605839416058393 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.26635514018691586 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.5 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.curveTo(0.7289719626168224 * IMAGE_WIDTH, 0.11678832116788321 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9205607476635514 * IMAGE_WIDTH, 0.41605839416058393 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9205607476635514 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.curveTo(0.9205607476635514 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9112149532710281 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.9112149532710281 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.lineTo(0.0794392523364486 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.curveTo(0.0794392523364486 * IMAGE_WIDTH, 0.8832116788321168 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07476635514018691 * IMAGE_WIDTH, 0.8102189781021898 * IMAGE_HEIGHT * VERTICAL_SCALE, 0.07476635514018691 * IMAGE_WIDTH, 0.7737226277372263 * IMAGE_HEIGHT * VERTICAL_SCALE);
+                    FRAME_MAIN_GLOSSY4.closePath();
+                    final Area FRAME_MAIN_GLOSSY_4 = new Area(FRAME_MAIN_GLOSSY4);
+                    FRAME_MAIN_GLOSSY_4.subtract(SUBTRACT);
+                    G2.setPaint(new Color(0.2f, 0.2f, 0.2f, 1f));
+                    G2.fill(FRAME_MAIN_GLOSSY_4);
+                    break;
+
+                case BRASS:
+                    float[] frameMainFractions5 = {
+                        0.0f,
+                        0.05f,
+                        0.10f,
+                        0.50f,
+                        0.90f,
+                        0.95f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors5 = {
+                        new Color(249, 243, 155, 255),
+                        new Color(246, 226, 101, 255),
+                        new Color(240, 225, 132, 255),
+                        new Color(90, 57, 22, 255),
+                        new Color(249, 237, 139, 255),
+                        new Color(243, 226, 108, 255),
+                        new Color(202, 182, 113, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient5 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions5, frameMainColors5);
+                    G2.setPaint(frameMainGradient5);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case STEEL:
+                    float[] frameMainFractions6 = {
+                        0.0f,
+                        0.05f,
+                        0.10f,
+                        0.50f,
+                        0.90f,
+                        0.95f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors6 = {
+                        new Color(231, 237, 237, 255),
+                        new Color(189, 199, 198, 255),
+                        new Color(192, 201, 200, 255),
+                        new Color(23, 31, 33, 255),
+                        new Color(196, 205, 204, 255),
+                        new Color(194, 204, 203, 255),
+                        new Color(189, 201, 199, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient6 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions6, frameMainColors6);
+                    G2.setPaint(frameMainGradient6);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case CHROME:
+                    float[] frameMainFractions7 = {
+                        0.0f,
+                        0.09f,
+                        0.12f,
+                        0.16f,
+                        0.25f,
+                        0.29f,
+                        0.33f,
+                        0.38f,
+                        0.48f,
+                        0.52f,
+                        0.63f,
+                        0.68f,
+                        0.8f,
+                        0.83f,
+                        0.87f,
+                        0.97f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors7 = {
+                        new Color(255, 255, 255, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(136, 136, 138, 255),
+                        new Color(164, 185, 190, 255),
+                        new Color(158, 179, 182, 255),
+                        new Color(112, 112, 112, 255),
+                        new Color(221, 227, 227, 255),
+                        new Color(155, 176, 179, 255),
+                        new Color(156, 176, 177, 255),
+                        new Color(254, 255, 255, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(156, 180, 180, 255),
+                        new Color(198, 209, 211, 255),
+                        new Color(246, 248, 247, 255),
+                        new Color(204, 216, 216, 255),
+                        new Color(164, 188, 190, 255),
+                        new Color(255, 255, 255, 255)
+                    };
+
+                    Paint frameMainGradient7 = new ConicalGradientPaint(false, FRAME_MAIN_CENTER, 0, frameMainFractions7, frameMainColors7);
+                    G2.setPaint(frameMainGradient7);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case GOLD:
+                    float[] frameMainFractions8 = {
+                        0.0f,
+                        0.15f,
+                        0.22f,
+                        0.3f,
+                        0.38f,
+                        0.44f,
+                        0.51f,
+                        0.6f,
+                        0.68f,
+                        0.75f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors8 = {
+                        new Color(255, 255, 207, 255),
+                        new Color(255, 237, 96, 255),
+                        new Color(254, 199, 57, 255),
+                        new Color(255, 249, 203, 255),
+                        new Color(255, 199, 64, 255),
+                        new Color(252, 194, 60, 255),
+                        new Color(255, 204, 59, 255),
+                        new Color(213, 134, 29, 255),
+                        new Color(255, 201, 56, 255),
+                        new Color(212, 135, 29, 255),
+                        new Color(247, 238, 101, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient8 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions8, frameMainColors8);
+                    G2.setPaint(frameMainGradient8);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case ANTHRACITE:
+                    float[] frameMainFractions9 = {
+                        0.0f,
+                        0.06f,
+                        0.12f,
+                        1.0f
+                    };
+                    Color[] frameMainColors9 = {
+                        new Color(118, 117, 135, 255),
+                        new Color(74, 74, 82, 255),
+                        new Color(50, 50, 54, 255),
+                        new Color(97, 97, 108, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient9 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions9, frameMainColors9);
+                    G2.setPaint(frameMainGradient9);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case TILTED_GRAY:
+                    FRAME_MAIN_START.setLocation((0.2336448598130841 * IMAGE_WIDTH), (0.08411214953271028 * IMAGE_HEIGHT));
+                    FRAME_MAIN_STOP.setLocation(((0.2336448598130841 + 0.5789369637935792) * IMAGE_WIDTH), ((0.08411214953271028 + 0.8268076708711319) * IMAGE_HEIGHT));
+                    float[] frameMainFractions10 = {
+                        0.0f,
+                        0.07f,
+                        0.16f,
+                        0.33f,
+                        0.55f,
+                        0.79f,
+                        1.0f
+                    };
+                    Color[] frameMainColors10 = {
+                        new Color(255, 255, 255, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(197, 197, 197, 255),
+                        new Color(255, 255, 255, 255),
+                        new Color(102, 102, 102, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient10 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions10, frameMainColors10);
+                    G2.setPaint(frameMainGradient10);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                case TILTED_BLACK:
+                    FRAME_MAIN_START.setLocation((0.22897196261682243 * IMAGE_WIDTH), (0.0794392523364486 * IMAGE_HEIGHT));
+                    FRAME_MAIN_STOP.setLocation(((0.22897196261682243 + 0.573576436351046) * IMAGE_WIDTH), ((0.0794392523364486 + 0.8191520442889918) * IMAGE_HEIGHT));
+                    float[] frameMainFractions11 = {
+                        0.0f,
+                        0.21f,
+                        0.47f,
+                        0.99f,
+                        1.0f
+                    };
+                    Color[] frameMainColors11 = {
+                        new Color(102, 102, 102, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(102, 102, 102, 255),
+                        new Color(0, 0, 0, 255),
+                        new Color(0, 0, 0, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient11 = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions11, frameMainColors11);
+                    G2.setPaint(frameMainGradient11);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+
+                default:
+                    float[] frameMainFractions = {
+                        0.0f,
+                        0.07f,
+                        0.12f,
+                        1.0f
+                    };
+
+                    Color[] frameMainColors = {
+                        new Color(254, 254, 254, 255),
+                        new Color(210, 210, 210, 255),
+                        new Color(179, 179, 179, 255),
+                        new Color(213, 213, 213, 255)
+                    };
+                    Util.INSTANCE.validateGradientPoints(FRAME_MAIN_START, FRAME_MAIN_STOP);
+                    Paint frameMainGradient = new LinearGradientPaint(FRAME_MAIN_START, FRAME_MAIN_STOP, frameMainFractions, frameMainColors);
+                    G2.setPaint(frameMainGradient);
+                    FRAME_MAIN_AREA.subtract(SUBTRACT);
+                    G2.fill(FRAME_MAIN_AREA);
+                    break;
+            }
+        }
+
+        final GeneralPath FRAME_INNERFRAME = new GeneralPath();
+        FRAME_INNERFRAME.setWindingRule(Path2D.WIND_EVEN_ODD);
+        FRAME_INNERFRAME.moveTo(IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.41304347826086957 * VERTICAL_SCALE, IMAGE_WIDTH * 0.2651162790697674, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE, IMAGE_WIDTH * 0.49767441860465117, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.7302325581395349, IMAGE_HEIGHT * 0.12318840579710146 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.41304347826086957 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.9162790697674419, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE, IMAGE_WIDTH * 0.9069767441860465, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.lineTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.curveTo(IMAGE_WIDTH * 0.08837209302325581, IMAGE_HEIGHT * 0.8768115942028986 * VERTICAL_SCALE, IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.8115942028985508 * VERTICAL_SCALE, IMAGE_WIDTH * 0.07906976744186046, IMAGE_HEIGHT * 0.7753623188405797 * VERTICAL_SCALE);
+        FRAME_INNERFRAME.closePath();
+        G2.setPaint(INNER_FRAME_COLOR);
+        final Area FRAME_INNERFRAME_AREA = new Area(FRAME_INNERFRAME);
+        FRAME_INNERFRAME_AREA.subtract(SUBTRACT);
+        G2.fill(FRAME_INNERFRAME_AREA);
+
+        // Apply frame effects
+        final float[] EFFECT_FRACTIONS;
+        final Color[] EFFECT_COLORS;
+        final GradientWrapper EFFECT_GRADIENT;
+        float scale = 1.0f;
+        final java.awt.Shape[] EFFECT = new java.awt.Shape[100];
+        switch (FRAME_EFFECT) {
+            case EFFECT_BULGE:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.13f,
+                    0.14f,
+                    0.17f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 102),            // Outside
+                    new Color(255, 255, 255, 151),
+                    new Color(219, 219, 219, 153),
+                    new Color(0, 0, 0, 95),
+                    new Color(0, 0, 0, 76),       // Inside
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_CONE:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.0399f,
+                    0.04f,
+                    0.1799f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 76),
+                    new Color(223, 223, 223, 127),
+                    new Color(255, 255, 255, 124),
+                    new Color(9, 9, 9, 51),
+                    new Color(0, 0, 0, 50),
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_TORUS:
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.08f,
+                    0.1799f,
+                    0.18f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 76),
+                    new Color(255, 255, 255, 64),
+                    new Color(13, 13, 13, 51),
+                    new Color(0, 0, 0, 50),
+                    new Color(0, 0, 0, 0)
+                };
+                EFFECT_GRADIENT = new GradientWrapper(new Point2D.Double(100, 0), new Point2D.Double(0, 0), EFFECT_FRACTIONS, EFFECT_COLORS);
+                for (int i = 0; i < 100; i++) {
+                    EFFECT[i] = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, scale);
+                    scale -= 0.01f;
+                }
+                G2.setStroke(new BasicStroke(1.5f));
+                for (int i = 0; i < EFFECT.length; i++) {
+                    G2.setPaint(EFFECT_GRADIENT.getColorAt(i / 100f));
+                    G2.draw(EFFECT[i]);
+                }
+                break;
+
+            case EFFECT_INNER_FRAME:
+                final Shape EFFECT_BIGINNERFRAME = Scaler.INSTANCE.scale(FRAME_MAIN_AREA, 0.8785046339035034);
+                final Point2D EFFECT_BIGINNERFRAME_START = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMinY());
+                final Point2D EFFECT_BIGINNERFRAME_STOP = new Point2D.Double(0, EFFECT_BIGINNERFRAME.getBounds2D().getMaxY());
+                EFFECT_FRACTIONS = new float[]{
+                    0.0f,
+                    0.3f,
+                    0.5f,
+                    0.71f,
+                    1.0f
+                };
+                EFFECT_COLORS = new Color[]{
+                    new Color(0, 0, 0, 183),
+                    new Color(148, 148, 148, 25),
+                    new Color(0, 0, 0, 159),
+                    new Color(0, 0, 0, 81),
+                    new Color(255, 255, 255, 158)
+                };
+                Util.INSTANCE.validateGradientPoints(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP);
+                final LinearGradientPaint EFFECT_BIGINNERFRAME_GRADIENT = new LinearGradientPaint(EFFECT_BIGINNERFRAME_START, EFFECT_BIGINNERFRAME_STOP, EFFECT_FRACTIONS, EFFECT_COLORS);
+                G2.setPaint(EFFECT_BIGINNERFRAME_GRADIENT);
+                G2.fill(EFFECT_BIGINNERFRAME);
+                break;
+        }
+
+        G2.dispose();
+
+        if (BACKGROUND_IMAGE != null) {
+            final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
+            G.drawImage(FRAME_IMAGE, 0, 0, null);
+            G.dispose();
+        }
+        // Cache current image
+        return CACHE.put(KEY, FRAME_IMAGE);
     }
     // </editor-fold>
 
@@ -642,7 +1900,7 @@ public enum FrameImageFactory {
     /**
      * Creates the frame image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -662,7 +1920,7 @@ public enum FrameImageFactory {
     /**
      * Creates the frame image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -683,7 +1941,7 @@ public enum FrameImageFactory {
     /**
      * Creates the frame image for a linear gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * If an image is passed to the method, it will paint to the image and
@@ -703,19 +1961,22 @@ public enum FrameImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (linWidth == WIDTH && linHeight == HEIGHT && linFrameDesign == FRAME_DESIGN && linFrameEffect == FRAME_EFFECT && linCustomFrame.equals(CUSTOM_FRAME_DESIGN) && linFrameBaseColor.equals(FRAME_BASECOLOR) && linFrameBaseColorEnabled == FRAME_BASECOLOR_ENABLED) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final Paint OUTER_FRAME_COLOR = outerFrameColor;
+        final Paint INNER_FRAME_COLOR = innerFrameColor;
+        final ImageCacheKey KEY = new ImageCacheKey("FrameImageFactory.linear", WIDTH, HEIGHT, FRAME_DESIGN, CUSTOM_FRAME_DESIGN, FRAME_BASECOLOR, FRAME_BASECOLOR_ENABLED, FRAME_EFFECT, OUTER_FRAME_COLOR, INNER_FRAME_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G2 = BACKGROUND_IMAGE.createGraphics();
-                G2.drawImage(linFrameImage, 0, 0, null);
+                G2.drawImage(CACHED_IMAGE, 0, 0, null);
                 G2.dispose();
             }
-            return linFrameImage;
+            return CACHED_IMAGE;
         }
 
-        linFrameImage.flush();
-        linFrameImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = linFrameImage.createGraphics();
+        final BufferedImage FRAME_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = FRAME_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -731,7 +1992,7 @@ public enum FrameImageFactory {
         }
 
         final Area OUTER_FRAME = new Area(new RoundRectangle2D.Double(0.0, 0.0, IMAGE_WIDTH, IMAGE_HEIGHT, OUTER_FRAME_CORNER_RADIUS, OUTER_FRAME_CORNER_RADIUS));
-        G2.setPaint(outerFrameColor);
+        G2.setPaint(OUTER_FRAME_COLOR);
         // The outer frame will be painted later because first we have to subtract the inner background
 
         final double FRAME_MAIN_CORNER_RADIUS;
@@ -1280,7 +2541,7 @@ public enum FrameImageFactory {
         }
 
         final Area INNER_FRAME = new Area(new java.awt.geom.RoundRectangle2D.Double(FRAME_MAIN.getBounds2D().getX() + 16, FRAME_MAIN.getBounds2D().getY() + 16, FRAME_MAIN.getBounds2D().getWidth() - 32, FRAME_MAIN.getBounds2D().getHeight() - 32, INNER_FRAME_CORNER_RADIUS, INNER_FRAME_CORNER_RADIUS));
-        G2.setPaint(innerFrameColor);
+        G2.setPaint(INNER_FRAME_COLOR);
 
         INNER_FRAME.subtract(SUBTRACT);
         G2.fill(INNER_FRAME);
@@ -1289,20 +2550,12 @@ public enum FrameImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(linFrameImage, 0, 0, null);
+            G.drawImage(FRAME_IMAGE, 0, 0, null);
             G.dispose();
         }
 
-        // Cache current parameters
-        linWidth = WIDTH;
-        linHeight = HEIGHT;
-        linFrameDesign = FRAME_DESIGN;
-        linFrameEffect = FRAME_EFFECT;
-        linCustomFrame = CUSTOM_FRAME_DESIGN;
-        linFrameBaseColor = FRAME_BASECOLOR;
-        linFrameBaseColorEnabled = FRAME_BASECOLOR_ENABLED;
-
-        return linFrameImage;
+        // Cache current image
+        return CACHE.put(KEY, FRAME_IMAGE);
     }
     // </editor-fold>
 
@@ -38,6 +38,8 @@ import java.awt.Transparency;
 import java.awt.geom.Arc2D;
 import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
@@ -50,25 +52,7 @@ public enum GlowImageFactory {
     INSTANCE;
 
     private final Util UTIL = Util.INSTANCE;
-    private int radWidth = 0;
-    private Color radGlowColor = Color.RED;
-    private boolean radOn = false;
-    private GaugeType radGaugeType = GaugeType.TYPE4;
-    private boolean radKnobs;
-    private Orientation radOrientation;
-    private BufferedImage radGlowImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-
-    private int linWidth = 0;
-    private int linHeight = 0;
-    private Color linGlowColor = Color.RED;
-    private boolean linOn = false;
-    private BufferedImage linGlowImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-
-    private int lcdWidth = 0;
-    private int lcdHeight = 0;
-    private Color lcdGlowColor = Color.RED;
-    private boolean lcdOn = false;
-    private BufferedImage lcdGlowImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Returns an image that simulates a glowing ring which could be used to visualize
@@ -87,21 +71,22 @@ public enum GlowImageFactory {
             return null;
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (radWidth == WIDTH && radGlowColor.equals(GLOW_COLOR) && radOn == ON && radGaugeType == GAUGE_TYPE && radKnobs == KNOBS && radOrientation == ORIENTATION) {
-            return radGlowImage;
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("GlowImageFactory.radial", WIDTH, GLOW_COLOR, ON, GAUGE_TYPE, KNOBS, ORIENTATION);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        radGlowImage.flush();
-        radGlowImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final BufferedImage GLOW_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = radGlowImage.createGraphics();
+        final Graphics2D G2 = GLOW_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
 
-        final int IMAGE_WIDTH = radGlowImage.getWidth();
-        final int IMAGE_HEIGHT = radGlowImage.getHeight();
+        final int IMAGE_WIDTH = GLOW_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = GLOW_IMAGE.getHeight();
 
         final Area GLOWRING = new Area(new Ellipse2D.Double(IMAGE_WIDTH * 0.0841121495, IMAGE_WIDTH * 0.0841121495, IMAGE_WIDTH * 0.8317757009, IMAGE_WIDTH * 0.8317757009));
         final Area TMP_RING = new Area(new Ellipse2D.Double(IMAGE_WIDTH * 0.1074766355, IMAGE_WIDTH * 0.1074766355, IMAGE_WIDTH * 0.785046729, IMAGE_WIDTH * 0.785046729));
@@ -367,15 +352,244 @@ public enum GlowImageFactory {
 
         G2.dispose();
 
-        // Memoize parameters
-        radWidth = WIDTH;
-        radGlowColor = GLOW_COLOR;
-        radOn = ON;
-        radGaugeType = GAUGE_TYPE;
-        radKnobs = KNOBS;
-        radOrientation = ORIENTATION;
+        // Memoize image
+        return CACHE.put(KEY, GLOW_IMAGE);
+    }
+
+    /**
+     * Returns the image of the glow effect for a quarter circle radial gauge (e.g. Radial1Square).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * @param WIDTH
+     * @param GLOW_COLOR
+     * @param ON
+     * @return an image that simulates a glowing quarter ring
+     */
+    public BufferedImage createQuarterGlow(final int WIDTH, final Color GLOW_COLOR, final boolean ON) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("GlowImageFactory.quarter", WIDTH, GLOW_COLOR, ON);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage GLOW_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = GLOW_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+
+        final int IMAGE_WIDTH = GLOW_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = GLOW_IMAGE.getHeight();
+
+        final GeneralPath GLOWRING = new GeneralPath();
+        GLOWRING.setWindingRule(Path2D.WIND_EVEN_ODD);
+        GLOWRING.moveTo(IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.8925233644859814);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.8925233644859814, IMAGE_WIDTH * 0.10747663551401869, IMAGE_HEIGHT * 0.8925233644859814, IMAGE_WIDTH * 0.10747663551401869, IMAGE_HEIGHT * 0.8925233644859814);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.10747663551401869, IMAGE_HEIGHT * 0.6588785046728972, IMAGE_WIDTH * 0.19626168224299065, IMAGE_HEIGHT * 0.4532710280373832, IMAGE_WIDTH * 0.308411214953271, IMAGE_HEIGHT * 0.3411214953271028);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.4672897196261682, IMAGE_HEIGHT * 0.17757009345794392, IMAGE_WIDTH * 0.6308411214953271, IMAGE_HEIGHT * 0.10747663551401869, IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.10747663551401869);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.10747663551401869, IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.8925233644859814, IMAGE_WIDTH * 0.8925233644859814, IMAGE_HEIGHT * 0.8925233644859814);
+        GLOWRING.closePath();
+        GLOWRING.moveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.08411214953271028);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.6401869158878505, IMAGE_HEIGHT * 0.08411214953271028, IMAGE_WIDTH * 0.46261682242990654, IMAGE_HEIGHT * 0.1588785046728972, IMAGE_WIDTH * 0.29439252336448596, IMAGE_HEIGHT * 0.32242990654205606);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.17289719626168223, IMAGE_HEIGHT * 0.4439252336448598, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.6635514018691588, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897, IMAGE_WIDTH * 0.9158878504672897, IMAGE_HEIGHT * 0.9158878504672897);
+        GLOWRING.closePath();
+
+        if (!ON) {
+            final Point2D GLOWRING_OFF_START = new Point2D.Double( (0.3037383177570093 * IMAGE_WIDTH), (0.3037383177570093 * IMAGE_HEIGHT) );
+            final Point2D GLOWRING_OFF_STOP = new Point2D.Double( ((0.3037383177570093 + 0.5980669504428276) * IMAGE_WIDTH), ((0.3037383177570093 + 0.5980669504428275) * IMAGE_HEIGHT) );
+
+            final float[] GLOWRING_OFF_FRACTIONS = {
+                0.0f,
+                0.19f,
+                0.2f,
+                0.39f,
+                0.4f,
+                0.64f,
+                0.65f,
+                0.82f,
+                1.0f
+            };
+            final Color[] GLOWRING_OFF_COLORS = {
+                new Color(204, 204, 204, 102),
+                new Color(255, 255, 255, 102),
+                new Color(250, 250, 250, 102),
+                new Color(158, 158, 158, 102),
+                new Color(153, 153, 153, 102),
+                new Color(202, 202, 202, 102),
+                new Color(204, 204, 204, 102),
+                new Color(255, 255, 255, 102),
+                new Color(153, 153, 153, 102)
+            };
+            Util.INSTANCE.validateGradientPoints(GLOWRING_OFF_START, GLOWRING_OFF_STOP);
+            final LinearGradientPaint GLOWRING_OFF_GRADIENT = new LinearGradientPaint(GLOWRING_OFF_START, GLOWRING_OFF_STOP, GLOWRING_OFF_FRACTIONS, GLOWRING_OFF_COLORS);
+            G2.setPaint(GLOWRING_OFF_GRADIENT);
+            G2.fill(GLOWRING);
+        } else {
+            G2.translate(-10, -10);
+            G2.drawImage(Shadow.INSTANCE.createDropShadow(GLOWRING, GLOW_COLOR, GLOW_COLOR, true, null, null, 0, 1.0f, 10, 315, GLOW_COLOR), GLOWRING.getBounds().x, GLOWRING.getBounds().y, null);
+            G2.translate(10, 10);
+
+            final Point2D GLOWRING_HL_START = new Point2D.Double( (0.3037383177570093 * IMAGE_WIDTH), (0.3037383177570093 * IMAGE_HEIGHT) );
+            final Point2D GLOWRING_HL_STOP = new Point2D.Double( ((0.3037383177570093 + 0.5980669504428276) * IMAGE_WIDTH), ((0.3037383177570093 + 0.5980669504428275) * IMAGE_HEIGHT) );
+            final float[] GLOWRING_HL_FRACTIONS = {
+                0.0f,
+                0.26f,
+                0.42f,
+                0.42009997f,
+                0.56f,
+                0.5601f,
+                0.96f,
+                0.9601f,
+                1.0f
+            };
+            final Color[] GLOWRING_HL_COLORS = {
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 63),
+                new Color(255, 255, 255, 102),
+                new Color(255, 255, 255, 98),
+                new Color(255, 255, 255, 3),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 102)
+            };
+            Util.INSTANCE.validateGradientPoints(GLOWRING_HL_START, GLOWRING_HL_STOP);
+            final LinearGradientPaint GLOWRING_HL_GRADIENT = new LinearGradientPaint(GLOWRING_HL_START, GLOWRING_HL_STOP, GLOWRING_HL_FRACTIONS, GLOWRING_HL_COLORS);
+            G2.setPaint(GLOWRING_HL_GRADIENT);
+            G2.fill(GLOWRING);
+        }
+        G2.dispose();
 
-        return radGlowImage;
+        // Cache current image
+        return CACHE.put(KEY, GLOW_IMAGE);
+    }
+
+    /**
+     * Returns the image of the glow effect for a half circle radial gauge (e.g. Radial2Top).
+     * The image parameters and the image will be cached. If the
+     * current request has the same parameters as a previous request
+     * it will return the already created image instead of creating
+     * a new image.
+     * @param WIDTH
+     * @param GLOW_COLOR
+     * @param ON
+     * @return an image that simulates a glowing half ring
+     */
+    public BufferedImage createHalfGlow(final int WIDTH, final Color GLOW_COLOR, final boolean ON) {
+        if (WIDTH <= 0) {
+            return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+        }
+
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("GlowImageFactory.half", WIDTH, GLOW_COLOR, ON);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage GLOW_IMAGE = UTIL.createImage(WIDTH, (int) (0.641860465116279 * WIDTH), Transparency.TRANSLUCENT);
+        final Graphics2D G2 = GLOW_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+
+        final int IMAGE_WIDTH = GLOW_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = GLOW_IMAGE.getHeight();
+
+        final GeneralPath GLOWRING = new GeneralPath();
+        GLOWRING.setWindingRule(Path2D.WIND_EVEN_ODD);
+        GLOWRING.moveTo(IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.4233576642335766, IMAGE_WIDTH * 0.29906542056074764, IMAGE_HEIGHT * 0.1678832116788321, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.1678832116788321);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.705607476635514, IMAGE_HEIGHT * 0.1678832116788321, IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.8878504672897196, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.883177570093458, IMAGE_HEIGHT * 0.8613138686131386, IMAGE_WIDTH * 0.883177570093458, IMAGE_HEIGHT * 0.8613138686131386);
+        GLOWRING.lineTo(IMAGE_WIDTH * 0.11682242990654206, IMAGE_HEIGHT * 0.8613138686131386);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.11682242990654206, IMAGE_HEIGHT * 0.8613138686131386, IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.11214953271028037, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.closePath();
+        GLOWRING.moveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314, IMAGE_WIDTH * 0.08878504672897196, IMAGE_HEIGHT * 0.8686131386861314);
+        GLOWRING.lineTo(IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.9065420560747663, IMAGE_HEIGHT * 0.8686131386861314, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.8175182481751825, IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.9112149532710281, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.7242990654205608, IMAGE_HEIGHT * 0.13138686131386862, IMAGE_WIDTH * 0.5, IMAGE_HEIGHT * 0.13138686131386862);
+        GLOWRING.curveTo(IMAGE_WIDTH * 0.27102803738317754, IMAGE_HEIGHT * 0.13138686131386862, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.41605839416058393, IMAGE_WIDTH * 0.08411214953271028, IMAGE_HEIGHT * 0.7737226277372263);
+        GLOWRING.closePath();
+
+        if (!ON) {
+            final Point2D GLOWRING_OFF_START = new Point2D.Double(0, GLOWRING.getBounds2D().getMinY());
+            final Point2D GLOWRING_OFF_STOP = new Point2D.Double(0, GLOWRING.getBounds2D().getMaxY());
+
+            final float[] GLOWRING_OFF_FRACTIONS = {
+                0.0f,
+                0.19f,
+                0.2f,
+                0.39f,
+                0.4f,
+                0.64f,
+                0.65f,
+                0.82f,
+                1.0f
+            };
+            final Color[] GLOWRING_OFF_COLORS = {
+                new Color(204, 204, 204, 102),
+                new Color(255, 255, 255, 102),
+                new Color(250, 250, 250, 102),
+                new Color(158, 158, 158, 102),
+                new Color(153, 153, 153, 102),
+                new Color(202, 202, 202, 102),
+                new Color(204, 204, 204, 102),
+                new Color(255, 255, 255, 102),
+                new Color(153, 153, 153, 102)
+            };
+            Util.INSTANCE.validateGradientPoints(GLOWRING_OFF_START, GLOWRING_OFF_STOP);
+            final LinearGradientPaint GLOWRING_OFF_GRADIENT = new LinearGradientPaint(GLOWRING_OFF_START, GLOWRING_OFF_STOP, GLOWRING_OFF_FRACTIONS, GLOWRING_OFF_COLORS);
+            G2.setPaint(GLOWRING_OFF_GRADIENT);
+            G2.fill(GLOWRING);
+        } else {
+            G2.translate(-10, -10);
+            G2.drawImage(Shadow.INSTANCE.createDropShadow(GLOWRING, UTIL.setAlpha(GLOW_COLOR, 0.8f), GLOW_COLOR, true, null, null, 0, 1.0f, 10, 315, GLOW_COLOR), GLOWRING.getBounds().x, GLOWRING.getBounds().y, null);
+            G2.translate(10, 10);
+
+            final Point2D GLOWRING_HL_START = new Point2D.Double(0, GLOWRING.getBounds2D().getMinY());
+            final Point2D GLOWRING_HL_STOP = new Point2D.Double(0, GLOWRING.getBounds2D().getMaxY());
+            final float[] GLOWRING_HL_FRACTIONS = {
+                0.0f,
+                0.26f,
+                0.42f,
+                0.42009997f,
+                0.56f,
+                0.5601f,
+                0.96f,
+                0.9601f,
+                1.0f
+            };
+            final Color[] GLOWRING_HL_COLORS = {
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 63),
+                new Color(255, 255, 255, 102),
+                new Color(255, 255, 255, 98),
+                new Color(255, 255, 255, 3),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 0),
+                new Color(255, 255, 255, 102)
+            };
+            Util.INSTANCE.validateGradientPoints(GLOWRING_HL_START, GLOWRING_HL_STOP);
+            final LinearGradientPaint GLOWRING_HL_GRADIENT = new LinearGradientPaint(GLOWRING_HL_START, GLOWRING_HL_STOP, GLOWRING_HL_FRACTIONS, GLOWRING_HL_COLORS);
+            G2.setPaint(GLOWRING_HL_GRADIENT);
+            G2.fill(GLOWRING);
+        }
+        G2.dispose();
+
+        // Cache current image
+        return CACHE.put(KEY, GLOW_IMAGE);
     }
 
     /**
@@ -393,15 +607,16 @@ public enum GlowImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (linWidth == WIDTH && linHeight == HEIGHT && linGlowColor.equals(GLOW_COLOR) && linOn == ON) {
-            return linGlowImage;
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("GlowImageFactory.linear", WIDTH, HEIGHT, GLOW_COLOR, ON);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        linGlowImage.flush();
-        linGlowImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage GLOW_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = linGlowImage.createGraphics();
+        final Graphics2D G2 = GLOW_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -539,13 +754,8 @@ public enum GlowImageFactory {
 
         G2.dispose();
 
-        // memoize parameters
-        linWidth = WIDTH;
-        linHeight = HEIGHT;
-        linGlowColor = GLOW_COLOR;
-        linOn = ON;
-
-        return linGlowImage;
+        // memoize image
+        return CACHE.put(KEY, GLOW_IMAGE);
     }
 
     /**
@@ -563,15 +773,16 @@ public enum GlowImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Take image from cache instead of creating a new one if parameters are the same as last time
-        if (lcdWidth == WIDTH && lcdHeight == HEIGHT && lcdGlowColor.equals(GLOW_COLOR) && lcdOn == ON) {
-            return lcdGlowImage;
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("GlowImageFactory.lcd", WIDTH, HEIGHT, GLOW_COLOR, ON);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        lcdGlowImage.flush();
-        lcdGlowImage = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage GLOW_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = lcdGlowImage.createGraphics();
+        final Graphics2D G2 = GLOW_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -596,12 +807,7 @@ public enum GlowImageFactory {
 
         G2.dispose();
 
-        // memoize parameters
-        lcdWidth = WIDTH;
-        lcdHeight = HEIGHT;
-        lcdGlowColor = GLOW_COLOR;
-        lcdOn = ON;
-
-        return lcdGlowImage;
+        // memoize image
+        return CACHE.put(KEY, GLOW_IMAGE);
     }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A size bounded least recently used cache for the images that are created by the
+ * image factories (frames, backgrounds, foregrounds, pointers, tickmarks etc.).
+ * Each image is stored under an ImageCacheKey that contains all the parameters
+ * that have been used to create the image. If the memory that is occupied by all
+ * cached images exceeds the byte budget, the least recently used images will be
+ * removed from the cache.
+ * The images that will be returned from the cache are shared between all the gauges
+ * that requested an image with the same parameters and must not be modified.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum ImageCache {
+
+    INSTANCE;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+    private final Map<ImageCacheKey, BufferedImage> CACHE = new LinkedHashMap<ImageCacheKey, BufferedImage>(64, 0.75f, true);
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private long currentBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Returns the cached image for the given key or null if no image
+     * with the given parameters is available in the cache.
+     * @param KEY
+     * @return the cached image for the given key or null
+     */
+    public synchronized BufferedImage get(final ImageCacheKey KEY) {
+        final BufferedImage IMAGE = CACHE.get(KEY);
+        if (IMAGE == null) {
+            misses++;
+            RenderMetrics.INSTANCE.recordCacheMiss();
+        } else {
+            hits++;
+            RenderMetrics.INSTANCE.recordCacheHit();
+        }
+        return IMAGE;
+    }
+
+    /**
+     * Stores the given image under the given key and removes the least recently
+     * used images if the byte budget of the cache is exceeded. Images that are
+     * bigger than the byte budget will not be cached at all.
+     * @param KEY
+     * @param IMAGE
+     * @return the given image
+     */
+    public synchronized BufferedImage put(final ImageCacheKey KEY, final BufferedImage IMAGE) {
+        if (KEY == null || IMAGE == null) {
+            return IMAGE;
+        }
+        final long SIZE = sizeOf(IMAGE);
+        if (SIZE > maxBytes) {
+            return IMAGE;
+        }
+        final BufferedImage OLD_IMAGE = CACHE.put(KEY, IMAGE);
+        if (OLD_IMAGE != null) {
+            currentBytes -= sizeOf(OLD_IMAGE);
+        }
+        currentBytes += SIZE;
+        trim();
+        return IMAGE;
+    }
+
+    /**
+     * Removes all images from the cache
+     */
+    public synchronized void invalidate() {
+        CACHE.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Removes all images from the cache that have been created by the given owner.
+     * The owner is compared as a prefix which means that invalidate("FrameImageFactory")
+     * will remove the radial and the linear frame images.
+     * @param OWNER
+     */
+    public synchronized void invalidate(final String OWNER) {
+        final Iterator<Map.Entry<ImageCacheKey, BufferedImage>> ITERATOR = CACHE.entrySet().iterator();
+        while (ITERATOR.hasNext()) {
+            final Map.Entry<ImageCacheKey, BufferedImage> ENTRY = ITERATOR.next();
+            if (ENTRY.getKey().getOwner().startsWith(OWNER)) {
+                currentBytes -= sizeOf(ENTRY.getValue());
+                ITERATOR.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes that could be occupied by the cached images
+     * @return the maximum number of bytes that could be occupied by the cached images
+     */
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes that could be occupied by the cached images.
+     * If the cache already contains more than the given number of bytes, the least
+     * recently used images will be removed.
+     * @param MAX_BYTES
+     */
+    public synchronized void setMaxBytes(final long MAX_BYTES) {
+        maxBytes = MAX_BYTES < 0 ? 0 : MAX_BYTES;
+        trim();
+    }
+
+    /**
+     * Returns the number of bytes that are occupied by the cached images
+     * @return the number of bytes that are occupied by the cached images
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Returns the number of images in the cache
+     * @return the number of images in the cache
+     */
+    public synchronized int getSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Returns the number of requests that could be served from the cache
+     * @return the number of requests that could be served from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that could not be served from the cache
+     * @return the number of requests that could not be served from the cache
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of images that have been removed from the cache
+     * because the byte budget was exceeded
+     * @return the number of images that have been removed because the byte budget was exceeded
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters
+     */
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private void trim() {
+        final Iterator<BufferedImage> ITERATOR = CACHE.values().iterator();
+        while (currentBytes > maxBytes && ITERATOR.hasNext()) {
+            currentBytes -= sizeOf(ITERATOR.next());
+            ITERATOR.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(final BufferedImage IMAGE) {
+        return (long) IMAGE.getWidth() * IMAGE.getHeight() * ((IMAGE.getColorModel().getPixelSize() + 7) / 8);
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCache";
+    }
+}
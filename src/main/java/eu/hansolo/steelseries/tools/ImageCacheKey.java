@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.Arrays;
+
+
+/**
+ * Immutable key that identifies an image in the ImageCache.
+ * The key consists of the name of the creator (e.g. "FrameImageFactory.radial")
+ * and all the parameters that have an influence on the rendered image.
+ * Parameters should be immutable (primitives, enums, colors, strings) because
+ * the key keeps a reference to them.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class ImageCacheKey {
+    private final String OWNER;
+    private final Object[] PARAMETERS;
+    private final int HASH_CODE;
+
+    public ImageCacheKey(final String OWNER, final Object... PARAMETERS) {
+        this.OWNER = OWNER;
+        this.PARAMETERS = PARAMETERS == null ? new Object[0] : PARAMETERS.clone();
+        this.HASH_CODE = 31 * OWNER.hashCode() + Arrays.deepHashCode(this.PARAMETERS);
+    }
+
+    /**
+     * Returns the name of the creator of the image that is identified by this key
+     * @return the name of the creator of the image that is identified by this key
+     */
+    public String getOwner() {
+        return OWNER;
+    }
+
+    @Override
+    public boolean equals(final Object OBJECT) {
+        if (this == OBJECT) {
+            return true;
+        }
+        if (!(OBJECT instanceof ImageCacheKey)) {
+            return false;
+        }
+        final ImageCacheKey OTHER = (ImageCacheKey) OBJECT;
+        return HASH_CODE == OTHER.HASH_CODE && OWNER.equals(OTHER.OWNER) && Arrays.deepEquals(PARAMETERS, OTHER.PARAMETERS);
+    }
+
+    @Override
+    public int hashCode() {
+        return HASH_CODE;
+    }
+
+    @Override
+    public String toString() {
+        return OWNER + Arrays.deepToString(PARAMETERS);
+    }
+}
@@ -47,10 +47,7 @@ public enum KnobImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private int sizeBuffer = 0;
-    private KnobType knobTypeBuffer = KnobType.SMALL_STD_KNOB;
-    private KnobStyle knobStyleBuffer = KnobStyle.SILVER;
-    private BufferedImage knobImageBuffer = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Creates a single alignment post image that could be placed on all the positions where it is needed
@@ -64,17 +61,18 @@ public enum KnobImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (sizeBuffer == SIZE && knobTypeBuffer == KNOB_TYPE && knobStyleBuffer == KNOB_STYLE) {
-            return knobImageBuffer;
+        final ImageCacheKey KEY = new ImageCacheKey("KnobImageFactory", SIZE, KNOB_TYPE, KNOB_STYLE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        knobImageBuffer.flush();
-        knobImageBuffer = UTIL.createImage(SIZE, SIZE, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = knobImageBuffer.createGraphics();
+        final BufferedImage KNOB_IMAGE = UTIL.createImage(SIZE, SIZE, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = KNOB_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        final int IMAGE_WIDTH = knobImageBuffer.getWidth();
-        final int IMAGE_HEIGHT = knobImageBuffer.getHeight();
+        final int IMAGE_WIDTH = KNOB_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = KNOB_IMAGE.getHeight();
 
         switch (KNOB_TYPE) {
             case SMALL_STD_KNOB:
@@ -550,11 +548,7 @@ public enum KnobImageFactory {
         }
         G2.dispose();
 
-        // Buffer current values
-        sizeBuffer = SIZE;
-        knobTypeBuffer = KNOB_TYPE;
-        knobStyleBuffer = KNOB_STYLE;
-
-        return knobImageBuffer;
+        // Buffer current image
+        return CACHE.put(KEY, KNOB_IMAGE);
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.geom.Rectangle2D;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * A cache for the bounds and the descent of the tickmark labels. The labels are
+ * measured with a TextLayout in an antialiased render context with fractional
+ * metrics (like everywhere in the tickmark and text drawing code), so the
+ * measurements only depend on the text and the font. Because the same labels
+ * will be measured every time a tickmark image is rebuilt, each label will
+ * only be layed out once per font.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum LabelBoundsCache {
+
+    INSTANCE;
+    private static final int MAX_CACHED_FONTS = 32;
+    private static final int MAX_CACHED_LABELS = 1024;
+    private final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
+    private final ConcurrentMap<Font, ConcurrentMap<String, Metrics>> CACHE = new ConcurrentHashMap<Font, ConcurrentMap<String, Metrics>>(16);
+
+    /**
+     * Stores the bounds of the given text in the given font (like TextLayout.getBounds())
+     * in the given rectangle
+     * @param TEXT
+     * @param FONT
+     * @param BOUNDS
+     * @return the given rectangle
+     */
+    public Rectangle2D getBounds(final String TEXT, final Font FONT, final Rectangle2D BOUNDS) {
+        final Metrics METRICS = getMetrics(TEXT, FONT);
+        BOUNDS.setRect(METRICS.X, METRICS.Y, METRICS.WIDTH, METRICS.HEIGHT);
+        return BOUNDS;
+    }
+
+    /**
+     * Returns the width of the bounds of the given text in the given font
+     * @param TEXT
+     * @param FONT
+     * @return the width of the bounds of the given text in the given font
+     */
+    public double getWidth(final String TEXT, final Font FONT) {
+        return getMetrics(TEXT, FONT).WIDTH;
+    }
+
+    /**
+     * Returns the descent of the given text in the given font (like TextLayout.getDescent())
+     * @param TEXT
+     * @param FONT
+     * @return the descent of the given text in the given font
+     */
+    public float getDescent(final String TEXT, final Font FONT) {
+        return getMetrics(TEXT, FONT).DESCENT;
+    }
+
+    /**
+     * Returns the render context that is used to measure the texts
+     * @return the render context that is used to measure the texts
+     */
+    public FontRenderContext getRenderContext() {
+        return RENDER_CONTEXT;
+    }
+
+    /**
+     * Removes all cached measurements
+     */
+    public void invalidate() {
+        CACHE.clear();
+    }
+
+    private Metrics getMetrics(final String TEXT, final Font FONT) {
+        ConcurrentMap<String, Metrics> fontMetrics = CACHE.get(FONT);
+        if (fontMetrics == null) {
+            if (CACHE.size() >= MAX_CACHED_FONTS) {
+                CACHE.clear();
+            }
+            fontMetrics = new ConcurrentHashMap<String, Metrics>(64);
+            final ConcurrentMap<String, Metrics> EXISTING = CACHE.putIfAbsent(FONT, fontMetrics);
+            if (EXISTING != null) {
+                fontMetrics = EXISTING;
+            }
+        }
+        Metrics metrics = fontMetrics.get(TEXT);
+        if (metrics == null) {
+            metrics = new Metrics(new TextLayout(TEXT, FONT, RENDER_CONTEXT));
+            if (fontMetrics.size() >= MAX_CACHED_LABELS) {
+                fontMetrics.clear();
+            }
+            fontMetrics.put(TEXT, metrics);
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "LabelBoundsCache";
+    }
+
+    private static final class Metrics {
+        private final double X;
+        private final double Y;
+        private final double WIDTH;
+        private final double HEIGHT;
+        private final float DESCENT;
+
+        private Metrics(final TextLayout TEXT_LAYOUT) {
+            final Rectangle2D BOUNDS = TEXT_LAYOUT.getBounds();
+            X = BOUNDS.getX();
+            Y = BOUNDS.getY();
+            WIDTH = BOUNDS.getWidth();
+            HEIGHT = BOUNDS.getHeight();
+            DESCENT = TEXT_LAYOUT.getDescent();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * One layer of a gauge (e.g. the frame, the tickmarks or the pointer) that will only
+ * be rendered again if one of the properties it depends on has changed.
+ * Subclasses return the current values of these properties in getDependencies().
+ * The values will be compared with Arrays.deepEquals() to the values that have been
+ * used to render the current image, so mutable objects (e.g. lists of sections) have
+ * to be copied into immutable values (see getSectionValues()).
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public abstract class Layer {
+    private final String NAME;
+    private Object[] dependencies;
+    private int width;
+    private int height;
+    private BufferedImage image;
+    private boolean valid;
+
+    public Layer(final String NAME) {
+        this.NAME = NAME;
+        this.valid = false;
+    }
+
+    /**
+     * Returns the name of the layer (e.g. "frame")
+     * @return the name of the layer
+     */
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the current image of the layer or null if the layer is empty
+     * @return the current image of the layer or null if the layer is empty
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Forces the layer to be rendered again on the next update
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Renders the layer again if the size or one of the dependencies has changed
+     * since the last update.
+     * @param WIDTH
+     * @param HEIGHT
+     * @return true if the layer has been rendered again
+     */
+    public boolean update(final int WIDTH, final int HEIGHT) {
+        final Object[] DEPENDENCIES = getDependencies();
+        if (valid && WIDTH == width && HEIGHT == height && Arrays.deepEquals(DEPENDENCIES, dependencies)) {
+            return false;
+        }
+        image = render(WIDTH, HEIGHT);
+        dependencies = DEPENDENCIES;
+        width = WIDTH;
+        height = HEIGHT;
+        valid = true;
+        return true;
+    }
+
+    /**
+     * Returns the current values of all properties that have an influence on the
+     * image of the layer (except the size).
+     * @return the current values of all properties the layer depends on
+     */
+    protected abstract Object[] getDependencies();
+
+    /**
+     * Returns a new image of the layer with the current properties
+     * @param WIDTH
+     * @param HEIGHT
+     * @return a new image of the layer or null if the layer is empty
+     */
+    protected abstract BufferedImage render(final int WIDTH, final int HEIGHT);
+
+    /**
+     * Returns the start, stop and colors of the given sections as an immutable array
+     * that could be used as a dependency of a layer.
+     * @param SECTIONS
+     * @return the start, stop and colors of the given sections
+     */
+    public static Object[] getSectionValues(final List<Section> SECTIONS) {
+        final Object[] VALUES = new Object[SECTIONS.size() * 5];
+        int index = 0;
+        for (Section section : SECTIONS) {
+            VALUES[index++] = section.getStart();
+            VALUES[index++] = section.getStop();
+            VALUES[index++] = section.getColor();
+            VALUES[index++] = section.getHighlightColor();
+            VALUES[index++] = section.getPaint();
+        }
+        return VALUES;
+    }
+
+    @Override
+    public String toString() {
+        return "Layer " + NAME;
+    }
+}
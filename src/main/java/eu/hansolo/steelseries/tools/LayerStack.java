@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A stack of layers that will be drawn on top of each other into one composite
+ * image (e.g. frame, background, tickmarks and title of a gauge). On every update
+ * only the layers with changed dependencies will be rendered again and the composite
+ * will only be created again if at least one layer has changed.
+ * The names of the rebuilt layers and the time it took to render them will be
+ * reported by getRebuiltLayers().
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class LayerStack {
+    private final Util UTIL = Util.INSTANCE;
+    private final List<Layer> LAYERS;
+    private final Map<String, Long> REBUILT_LAYERS = new LinkedHashMap<String, Long>();
+    private BufferedImage composite;
+    private boolean compositeValid;
+    private int width;
+    private int height;
+
+    public LayerStack(final Layer... LAYERS) {
+        this.LAYERS = new ArrayList<Layer>(Arrays.asList(LAYERS));
+        this.compositeValid = false;
+    }
+
+    /**
+     * Returns the layers of the stack from bottom to top
+     * @return the layers of the stack from bottom to top
+     */
+    public List<Layer> getLayers() {
+        return Collections.unmodifiableList(LAYERS);
+    }
+
+    /**
+     * Renders all layers again that have changed since the last update
+     * @param WIDTH
+     * @param HEIGHT
+     * @return true if at least one layer has been rendered again
+     */
+    public boolean update(final int WIDTH, final int HEIGHT) {
+        REBUILT_LAYERS.clear();
+        for (Layer layer : LAYERS) {
+            final long START = System.nanoTime();
+            if (layer.update(WIDTH, HEIGHT)) {
+                REBUILT_LAYERS.put(layer.getName(), System.nanoTime() - START);
+            }
+        }
+        if (!REBUILT_LAYERS.isEmpty() || WIDTH != width || HEIGHT != height) {
+            compositeValid = false;
+        }
+        width = WIDTH;
+        height = HEIGHT;
+        return !REBUILT_LAYERS.isEmpty();
+    }
+
+    /**
+     * Returns the image that contains all layers of the stack drawn on top of each other
+     * @return the image that contains all layers of the stack
+     */
+    public BufferedImage getComposite() {
+        if (compositeValid && composite != null) {
+            return composite;
+        }
+        if (composite == null || composite.getWidth() != width || composite.getHeight() != height) {
+            if (composite != null) {
+                composite.flush();
+            }
+            composite = UTIL.createImage(width, height, Transparency.TRANSLUCENT);
+        }
+        final Graphics2D G2 = composite.createGraphics();
+        G2.setComposite(AlphaComposite.Clear);
+        G2.fillRect(0, 0, width, height);
+        G2.setComposite(AlphaComposite.SrcOver);
+        for (Layer layer : LAYERS) {
+            if (layer.getImage() != null) {
+                G2.drawImage(layer.getImage(), 0, 0, null);
+            }
+        }
+        G2.dispose();
+        compositeValid = true;
+        return composite;
+    }
+
+    /**
+     * Forces all layers to be rendered again on the next update
+     */
+    public void invalidate() {
+        for (Layer layer : LAYERS) {
+            layer.invalidate();
+        }
+        compositeValid = false;
+    }
+
+    /**
+     * Returns the names of the layers that have been rendered during the last update
+     * together with the time in nanoseconds that it took to render them
+     * @return the names of the rebuilt layers and their render times in nanoseconds
+     */
+    public Map<String, Long> getRebuiltLayers() {
+        return Collections.unmodifiableMap(new LinkedHashMap<String, Long>(REBUILT_LAYERS));
+    }
+
+    @Override
+    public String toString() {
+        return "LayerStack " + LAYERS;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A cache for the glyphs of the fonts that are used in the lcd displays. Each
+ * character will be converted to a glyph vector only once per font and render
+ * context. Texts will be measured and drawn glyph by glyph from the cached glyph
+ * vectors which avoids the creation of a TextLayout for every paint.
+ * Texts that contain characters which might need complex text layout
+ * (everything beyond the latin characters) will be measured and drawn the
+ * standard way.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum LcdGlyphCache {
+
+    INSTANCE;
+    private static final int MAX_FONTS = 64;
+    private final Map<Font, Map<FontRenderContext, Glyphs>> CACHE = new HashMap<Font, Map<FontRenderContext, Glyphs>>(16);
+
+    /**
+     * Returns the glyphs of the given font in the given render context
+     * @param FONT
+     * @param RENDER_CONTEXT
+     * @return the glyphs of the given font in the given render context
+     */
+    public synchronized Glyphs getGlyphs(final Font FONT, final FontRenderContext RENDER_CONTEXT) {
+        Map<FontRenderContext, Glyphs> fontGlyphs = CACHE.get(FONT);
+        if (fontGlyphs == null) {
+            if (CACHE.size() >= MAX_FONTS) {
+                CACHE.clear();
+            }
+            fontGlyphs = new HashMap<FontRenderContext, Glyphs>(4);
+            CACHE.put(FONT, fontGlyphs);
+        }
+        Glyphs glyphs = fontGlyphs.get(RENDER_CONTEXT);
+        if (glyphs == null) {
+            glyphs = new Glyphs(FONT, RENDER_CONTEXT);
+            fontGlyphs.put(RENDER_CONTEXT, glyphs);
+        }
+        return glyphs;
+    }
+
+    /**
+     * Removes all cached glyphs
+     */
+    public synchronized void invalidate() {
+        CACHE.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "LcdGlyphCache";
+    }
+
+    /**
+     * The cached glyphs of one font in one render context
+     */
+    public static final class Glyphs {
+        // Basic latin, latin-1 supplement and latin extended A and B
+        private static final int MAX_CACHED_CHAR = 0x0250;
+        private final Font FONT;
+        private final FontRenderContext RENDER_CONTEXT;
+        private final GlyphVector[] GLYPHS = new GlyphVector[MAX_CACHED_CHAR];
+        private final float[] ADVANCES = new float[MAX_CACHED_CHAR];
+        private final Rectangle2D[] INK_BOUNDS = new Rectangle2D[MAX_CACHED_CHAR];
+        private final char[] CHAR = new char[1];
+
+        private Glyphs(final Font FONT, final FontRenderContext RENDER_CONTEXT) {
+            this.FONT = FONT;
+            this.RENDER_CONTEXT = RENDER_CONTEXT;
+        }
+
+        /**
+         * Stores the visual bounds of the given text (like TextLayout.getBounds())
+         * in the given rectangle
+         * @param TEXT
+         * @param BOUNDS
+         */
+        public void getBounds(final String TEXT, final Rectangle2D BOUNDS) {
+            final int LENGTH = TEXT.length();
+            for (int i = 0; i < LENGTH; i++) {
+                if (TEXT.charAt(i) >= MAX_CACHED_CHAR) {
+                    BOUNDS.setFrame(new TextLayout(TEXT, FONT, RENDER_CONTEXT).getBounds());
+                    return;
+                }
+            }
+            synchronized (this) {
+                BOUNDS.setRect(0, 0, 0, 0);
+                float x = 0;
+                for (int i = 0; i < LENGTH; i++) {
+                    x = addBounds(TEXT.charAt(i), x, BOUNDS);
+                }
+            }
+        }
+
+        /**
+         * Stores the visual bounds of the first LENGTH chars of the given text
+         * (like TextLayout.getBounds()) in the given rectangle
+         * @param TEXT
+         * @param LENGTH
+         * @param BOUNDS
+         */
+        public void getBounds(final char[] TEXT, final int LENGTH, final Rectangle2D BOUNDS) {
+            for (int i = 0; i < LENGTH; i++) {
+                if (TEXT[i] >= MAX_CACHED_CHAR) {
+                    BOUNDS.setFrame(new TextLayout(new String(TEXT, 0, LENGTH), FONT, RENDER_CONTEXT).getBounds());
+                    return;
+                }
+            }
+            synchronized (this) {
+                BOUNDS.setRect(0, 0, 0, 0);
+                float x = 0;
+                for (int i = 0; i < LENGTH; i++) {
+                    x = addBounds(TEXT[i], x, BOUNDS);
+                }
+            }
+        }
+
+        /**
+         * Draws the given text at the given position (like Graphics2D.drawString())
+         * @param G2
+         * @param TEXT
+         * @param X
+         * @param Y
+         */
+        public void draw(final Graphics2D G2, final String TEXT, final float X, final float Y) {
+            final int LENGTH = TEXT.length();
+            for (int i = 0; i < LENGTH; i++) {
+                if (TEXT.charAt(i) >= MAX_CACHED_CHAR) {
+                    G2.drawString(TEXT, X, Y);
+                    return;
+                }
+            }
+            float x = X;
+            for (int i = 0; i < LENGTH; i++) {
+                x = drawGlyph(G2, TEXT.charAt(i), x, Y);
+            }
+        }
+
+        /**
+         * Draws the first LENGTH chars of the given text at the given position
+         * (like Graphics2D.drawChars())
+         * @param G2
+         * @param TEXT
+         * @param LENGTH
+         * @param X
+         * @param Y
+         */
+        public void draw(final Graphics2D G2, final char[] TEXT, final int LENGTH, final float X, final float Y) {
+            for (int i = 0; i < LENGTH; i++) {
+                if (TEXT[i] >= MAX_CACHED_CHAR) {
+                    G2.drawString(new String(TEXT, 0, LENGTH), X, Y);
+                    return;
+                }
+            }
+            float x = X;
+            for (int i = 0; i < LENGTH; i++) {
+                x = drawGlyph(G2, TEXT[i], x, Y);
+            }
+        }
+
+        private float addBounds(final char CHARACTER, final float X, final Rectangle2D BOUNDS) {
+            final GlyphVector GLYPH = getGlyph(CHARACTER);
+            final Rectangle2D INK = INK_BOUNDS[CHARACTER];
+            if (!INK.isEmpty()) {
+                if (BOUNDS.isEmpty()) {
+                    BOUNDS.setRect(X + INK.getX(), INK.getY(), INK.getWidth(), INK.getHeight());
+                } else {
+                    final double MIN_X = Math.min(BOUNDS.getMinX(), X + INK.getMinX());
+                    final double MIN_Y = Math.min(BOUNDS.getMinY(), INK.getMinY());
+                    final double MAX_X = Math.max(BOUNDS.getMaxX(), X + INK.getMaxX());
+                    final double MAX_Y = Math.max(BOUNDS.getMaxY(), INK.getMaxY());
+                    BOUNDS.setRect(MIN_X, MIN_Y, MAX_X - MIN_X, MAX_Y - MIN_Y);
+                }
+            }
+            return GLYPH == null ? X : X + ADVANCES[CHARACTER];
+        }
+
+        private float drawGlyph(final Graphics2D G2, final char CHARACTER, final float X, final float Y) {
+            final GlyphVector GLYPH;
+            final float ADVANCE;
+            synchronized (this) {
+                GLYPH = getGlyph(CHARACTER);
+                ADVANCE = ADVANCES[CHARACTER];
+            }
+            G2.drawGlyphVector(GLYPH, X, Y);
+            return X + ADVANCE;
+        }
+
+        private GlyphVector getGlyph(final char CHARACTER) {
+            GlyphVector glyph = GLYPHS[CHARACTER];
+            if (glyph == null) {
+                CHAR[0] = CHARACTER;
+                glyph = FONT.createGlyphVector(RENDER_CONTEXT, CHAR);
+                GLYPHS[CHARACTER] = glyph;
+                ADVANCES[CHARACTER] = (float) glyph.getGlyphPosition(glyph.getNumGlyphs()).getX();
+                INK_BOUNDS[CHARACTER] = glyph.getVisualBounds();
+            }
+            return glyph;
+        }
+    }
+}
@@ -46,10 +46,7 @@ public enum LcdImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private Rectangle2D boundsBuffer = new Rectangle2D.Double();
-    private LcdColor lcdColorBuffer = LcdColor.WHITE_LCD;
-    private Paint customLcdBackgroundBuffer = Color.RED;
-    private BufferedImage lcdImageBuffer = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Returns the image with the given lcd color.
@@ -64,23 +61,22 @@ public enum LcdImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (BOUNDS.equals(boundsBuffer) && LCD_COLOR == lcdColorBuffer && CUSTOM_LCD_BACKGROUND == customLcdBackgroundBuffer) {
-            if (BACKGROUND_IMAGE != null && lcdImageBuffer.getWidth() == BACKGROUND_IMAGE.getWidth()) {
+        final int IMAGE_WIDTH = BACKGROUND_IMAGE != null ? BACKGROUND_IMAGE.getWidth() : (int) BOUNDS.getWidth();
+        final int IMAGE_HEIGHT = BACKGROUND_IMAGE != null ? BACKGROUND_IMAGE.getHeight() : (int) BOUNDS.getHeight();
+        final ImageCacheKey KEY = new ImageCacheKey("LcdImageFactory", BOUNDS.getX(), BOUNDS.getY(), BOUNDS.getWidth(), BOUNDS.getHeight(), IMAGE_WIDTH, IMAGE_HEIGHT, LCD_COLOR, CUSTOM_LCD_BACKGROUND);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-                G.drawImage(lcdImageBuffer, 0, 0, null);
+                G.drawImage(CACHED_IMAGE, 0, 0, null);
                 G.dispose();
             }
-            return lcdImageBuffer;
+            return CACHED_IMAGE;
         }
 
-        lcdImageBuffer.flush();
-        if (BACKGROUND_IMAGE != null) {
-            lcdImageBuffer = UTIL.createImage(BACKGROUND_IMAGE.getWidth(), BACKGROUND_IMAGE.getHeight(), Transparency.TRANSLUCENT);
-        } else {
-            lcdImageBuffer = UTIL.createImage((int) BOUNDS.getWidth(), (int) BOUNDS.getHeight(), Transparency.TRANSLUCENT);
-        }
+        final BufferedImage LCD_IMAGE = UTIL.createImage(IMAGE_WIDTH, IMAGE_HEIGHT, Transparency.TRANSLUCENT);
 
-        final Graphics2D G2 = lcdImageBuffer.createGraphics();
+        final Graphics2D G2 = LCD_IMAGE.createGraphics();
 
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -151,15 +147,11 @@ public enum LcdImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(lcdImageBuffer, 0, 0, null);
+            G.drawImage(LCD_IMAGE, 0, 0, null);
             G.dispose();
         }
 
-        // Buffer current values
-        boundsBuffer.setRect(BOUNDS);
-        lcdColorBuffer = LCD_COLOR;
-        customLcdBackgroundBuffer = CUSTOM_LCD_BACKGROUND;
-
-        return lcdImageBuffer;
+        // Buffer current image
+        return CACHE.put(KEY, LCD_IMAGE);
     }
 }
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+
+/**
+ * Formats lcd values like a java.text.DecimalFormat with the pattern "0.00"
+ * (or "0.00E0" in scientific mode) but writes the digits into a given char
+ * buffer without creating any objects. Values that could not be formatted
+ * exactly with double arithmetic (e.g. huge values, NaN or values that are very
+ * close to a rounding tie) will be formatted by a precompiled DecimalFormat.
+ * The formatters are immutable and could be shared between threads.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class LcdValueFormatter {
+    /**
+     * Length of a buffer that is big enough for all formatted values
+     */
+    public static final int MAX_LENGTH = 352;
+    // Sign, 15 digits, decimal point and 15 decimals
+    private static final int MAX_FAST_LENGTH = 32;
+    private static final int MAX_FAST_DECIMALS = 15;
+    // DecimalFormat rounds the shortest decimal representation of a double which
+    // is equal to the exact value as long as not more than 15 digits are shown
+    private static final double MAX_FAST_VALUE = 1.0E15;
+    private static final int MAX_FAST_SCIENTIFIC_DECIMALS = 13;
+    private static final double[] POWERS_OF_TEN = new double[23];
+    private static final long[] LONG_POWERS_OF_TEN = new long[19];
+    private static final char[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    private static final LcdValueFormatter[] FIXED_INSTANCES = new LcdValueFormatter[MAX_FAST_DECIMALS + 1];
+    private static final LcdValueFormatter[] SCIENTIFIC_INSTANCES = new LcdValueFormatter[MAX_FAST_DECIMALS + 1];
+    private final int DECIMALS;
+    private final boolean SCIENTIFIC;
+    private final DecimalFormat FALLBACK_FORMAT;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+        LONG_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+            LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+        }
+        for (int i = 0; i <= MAX_FAST_DECIMALS; i++) {
+            FIXED_INSTANCES[i] = new LcdValueFormatter(i, false);
+            SCIENTIFIC_INSTANCES[i] = new LcdValueFormatter(i, true);
+        }
+    }
+
+    private LcdValueFormatter(final int DECIMALS, final boolean SCIENTIFIC) {
+        this.DECIMALS = DECIMALS < 0 ? 0 : DECIMALS;
+        this.SCIENTIFIC = SCIENTIFIC;
+        final StringBuilder PATTERN = new StringBuilder(16);
+        PATTERN.append("0");
+        if (this.DECIMALS > 0) {
+            PATTERN.append(".");
+        }
+        for (int i = 0; i < this.DECIMALS; i++) {
+            PATTERN.append("0");
+        }
+        if (SCIENTIFIC) {
+            PATTERN.append("E0");
+        }
+        FALLBACK_FORMAT = new DecimalFormat(PATTERN.toString(), new DecimalFormatSymbols(Locale.US));
+    }
+
+    /**
+     * Returns the formatter for the given number of decimals and format
+     * @param DECIMALS
+     * @param SCIENTIFIC
+     * @return the formatter for the given number of decimals and format
+     */
+    public static LcdValueFormatter getInstance(final int DECIMALS, final boolean SCIENTIFIC) {
+        if (DECIMALS >= 0 && DECIMALS <= MAX_FAST_DECIMALS) {
+            return SCIENTIFIC ? SCIENTIFIC_INSTANCES[DECIMALS] : FIXED_INSTANCES[DECIMALS];
+        }
+        return new LcdValueFormatter(DECIMALS, SCIENTIFIC);
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Formatting">
+    /**
+     * Returns the given value formatted as a string
+     * @param VALUE
+     * @return the given value formatted as a string
+     */
+    public String format(final double VALUE) {
+        final char[] BUFFER = new char[MAX_FAST_LENGTH];
+        final int LENGTH = SCIENTIFIC ? formatScientific(VALUE, BUFFER) : formatFixed(VALUE, BUFFER);
+        if (LENGTH < 0) {
+            synchronized (FALLBACK_FORMAT) {
+                return FALLBACK_FORMAT.format(VALUE);
+            }
+        }
+        return new String(BUFFER, 0, LENGTH);
+    }
+
+    /**
+     * Writes the formatted value into the given buffer and returns the number
+     * of chars that have been written. The buffer should have a length of at
+     * least MAX_LENGTH.
+     * @param VALUE
+     * @param BUFFER
+     * @return the number of chars that have been written into the buffer
+     */
+    public int format(final double VALUE, final char[] BUFFER) {
+        final int LENGTH = SCIENTIFIC ? formatScientific(VALUE, BUFFER) : formatFixed(VALUE, BUFFER);
+        return LENGTH < 0 ? formatFallback(VALUE, BUFFER) : LENGTH;
+    }
+
+    private int formatFixed(final double VALUE, final char[] BUFFER) {
+        if (DECIMALS > MAX_FAST_DECIMALS || Double.isNaN(VALUE) || Double.isInfinite(VALUE)) {
+            return -1;
+        }
+        final double ABS_VALUE = Math.abs(VALUE);
+        final double SCALED = ABS_VALUE * POWERS_OF_TEN[DECIMALS];
+        if (SCALED >= MAX_FAST_VALUE) {
+            return -1;
+        }
+        final long DIGITS = roundExact(SCALED, productError(ABS_VALUE, POWERS_OF_TEN[DECIMALS], SCALED));
+        if (DIGITS < 0) {
+            return -1;
+        }
+        int length = 0;
+        if (isNegative(VALUE)) {
+            BUFFER[length++] = '-';
+        }
+        return writeDigits(DIGITS, DECIMALS, BUFFER, length);
+    }
+
+    private int formatScientific(final double VALUE, final char[] BUFFER) {
+        if (DECIMALS > MAX_FAST_SCIENTIFIC_DECIMALS || Double.isNaN(VALUE) || Double.isInfinite(VALUE)) {
+            return -1;
+        }
+        final double ABS_VALUE = Math.abs(VALUE);
+        int exponent = 0;
+        long digits = 0;
+        if (ABS_VALUE != 0) {
+            exponent = (int) Math.floor(Math.log10(ABS_VALUE));
+            if (exponent > 300 || exponent < -300) {
+                return -1;
+            }
+            double mantissa = exponent >= 0 ? ABS_VALUE / powerOfTen(exponent) : ABS_VALUE * powerOfTen(-exponent);
+            // Correct the inaccuracy of log10
+            if (mantissa >= 10) {
+                mantissa /= 10;
+                exponent++;
+            } else if (mantissa < 1) {
+                mantissa *= 10;
+                exponent--;
+            }
+            final double SCALED = mantissa * POWERS_OF_TEN[DECIMALS];
+            // The mantissa is the result of a division which is not exact
+            digits = round(SCALED, 8 * Math.ulp(Math.max(SCALED, 0.5)));
+            if (digits < 0) {
+                return -1;
+            }
+            if (digits >= LONG_POWERS_OF_TEN[DECIMALS + 1]) {
+                digits /= 10;
+                exponent++;
+            }
+        }
+        int length = 0;
+        if (isNegative(VALUE)) {
+            BUFFER[length++] = '-';
+        }
+        length = writeDigits(digits, DECIMALS, BUFFER, length);
+        BUFFER[length++] = 'E';
+        if (exponent < 0) {
+            BUFFER[length++] = '-';
+        }
+        return writeInteger(Math.abs(exponent), BUFFER, length);
+    }
+
+    private int formatFallback(final double VALUE, final char[] BUFFER) {
+        final String TEXT;
+        synchronized (FALLBACK_FORMAT) {
+            TEXT = FALLBACK_FORMAT.format(VALUE);
+        }
+        final int LENGTH = Math.min(TEXT.length(), BUFFER.length);
+        TEXT.getChars(0, LENGTH, BUFFER, 0);
+        return LENGTH;
+    }
+
+    /**
+     * Rounds the exact value SCALED + ERROR half even like DecimalFormat does.
+     * Exact ties will be rounded to the even neighbour. If the value is not an
+     * exact tie but very close to it, the shortest decimal representation that
+     * is used by DecimalFormat could be a tie and -1 will be returned.
+     * @param SCALED
+     * @param ERROR the rounding error of the calculation of SCALED
+     * @return the rounded value or -1 if the value could not be rounded exactly
+     */
+    private static long roundExact(final double SCALED, final double ERROR) {
+        final double FLOOR = Math.floor(SCALED);
+        final double FRACTION = SCALED - FLOOR;
+        final long DIGITS = (long) FLOOR;
+        if (FRACTION == 0.5 && ERROR == 0) {
+            return (DIGITS & 1) == 0 ? DIGITS : DIGITS + 1;
+        }
+        final double DISTANCE = (FRACTION - 0.5) + ERROR;
+        if (Math.abs(DISTANCE) <= 2 * Math.ulp(Math.max(SCALED, 0.5))) {
+            return -1;
+        }
+        return DISTANCE > 0 ? DIGITS + 1 : DIGITS;
+    }
+
+    /**
+     * Returns the exact rounding error of the product A * B = P (Dekker's algorithm)
+     * @param A
+     * @param B
+     * @param P
+     * @return the rounding error of the product
+     */
+    private static double productError(final double A, final double B, final double P) {
+        final double SPLIT = 134217729.0; // 2^27 + 1
+        double t = SPLIT * A;
+        final double A_HIGH = t - (t - A);
+        final double A_LOW = A - A_HIGH;
+        t = SPLIT * B;
+        final double B_HIGH = t - (t - B);
+        final double B_LOW = B - B_HIGH;
+        return ((A_HIGH * B_HIGH - P) + A_HIGH * B_LOW + A_LOW * B_HIGH) + A_LOW * B_LOW;
+    }
+
+    /**
+     * Rounds the given value half even like DecimalFormat does. If the value is
+     * so close to a tie that the error of the double arithmetic could change the
+     * result -1 will be returned.
+     * @param SCALED
+     * @param ERROR
+     * @return the rounded value or -1 if the value could not be rounded exactly
+     */
+    private static long round(final double SCALED, final double ERROR) {
+        final double FLOOR = Math.floor(SCALED);
+        final double FRACTION = SCALED - FLOOR;
+        if (Math.abs(FRACTION - 0.5) <= ERROR) {
+            return -1;
+        }
+        return (long) FLOOR + (FRACTION > 0.5 ? 1 : 0);
+    }
+
+    private static double powerOfTen(final int EXPONENT) {
+        return EXPONENT < POWERS_OF_TEN.length ? POWERS_OF_TEN[EXPONENT] : Math.pow(10, EXPONENT);
+    }
+
+    private static boolean isNegative(final double VALUE) {
+        // DecimalFormat keeps the sign of negative values that are rounded to zero and of -0.0
+        return VALUE < 0 || (VALUE == 0 && 1 / VALUE < 0);
+    }
+
+    private static int writeDigits(final long DIGITS, final int DECIMALS, final char[] BUFFER, final int OFFSET) {
+        final long DIVISOR = LONG_POWERS_OF_TEN[DECIMALS];
+        int length = writeInteger(DIGITS / DIVISOR, BUFFER, OFFSET);
+        if (DECIMALS > 0) {
+            BUFFER[length++] = '.';
+            long fraction = DIGITS % DIVISOR;
+            for (int i = length + DECIMALS - 1; i >= length; i--) {
+                BUFFER[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            length += DECIMALS;
+        }
+        return length;
+    }
+
+    private static int writeInteger(final long VALUE, final char[] BUFFER, final int OFFSET) {
+        int digitCount = 1;
+        while (digitCount < LONG_POWERS_OF_TEN.length && VALUE >= LONG_POWERS_OF_TEN[digitCount]) {
+            digitCount++;
+        }
+        long remaining = VALUE;
+        for (int i = OFFSET + digitCount - 1; i >= OFFSET; i--) {
+            BUFFER[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return OFFSET + digitCount;
+    }
+
+    /**
+     * Writes the given value as upper case hexadecimal number into the given buffer
+     * (same result as Integer.toHexString(VALUE).toUpperCase())
+     * @param VALUE
+     * @param BUFFER
+     * @return the number of chars that have been written into the buffer
+     */
+    public static int formatHex(final int VALUE, final char[] BUFFER) {
+        return formatUnsigned(VALUE, 4, BUFFER);
+    }
+
+    /**
+     * Writes the given value as octal number into the given buffer
+     * (same result as Integer.toOctalString(VALUE))
+     * @param VALUE
+     * @param BUFFER
+     * @return the number of chars that have been written into the buffer
+     */
+    public static int formatOctal(final int VALUE, final char[] BUFFER) {
+        return formatUnsigned(VALUE, 3, BUFFER);
+    }
+
+    private static int formatUnsigned(final int VALUE, final int SHIFT, final char[] BUFFER) {
+        final int MASK = (1 << SHIFT) - 1;
+        int digitCount = 1;
+        while (digitCount * SHIFT < 32 && (VALUE >>> (digitCount * SHIFT)) != 0) {
+            digitCount++;
+        }
+        int remaining = VALUE;
+        for (int i = digitCount - 1; i >= 0; i--) {
+            BUFFER[i] = HEX_DIGITS[remaining & MASK];
+            remaining >>>= SHIFT;
+        }
+        return digitCount;
+    }
+    // </editor-fold>
+
+    /**
+     * Returns the number of decimals of the formatted values
+     * @return the number of decimals of the formatted values
+     */
+    public int getDecimals() {
+        return DECIMALS;
+    }
+
+    /**
+     * Returns true if the values will be formatted in scientific format
+     * @return true if the values will be formatted in scientific format
+     */
+    public boolean isScientific() {
+        return SCIENTIFIC;
+    }
+
+    @Override
+    public String toString() {
+        return "LcdValueFormatter[" + FALLBACK_FORMAT.toPattern() + "]";
+    }
+}
@@ -45,11 +45,7 @@ public enum LedImageFactory {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private int sizeBuffer = 0;
-    private LedColor ledColorBuffer = LedColor.RED_LED;
-    private CustomLedColor customLedColorBuffer = new CustomLedColor(Color.RED);
-    private BufferedImage ledOnBuffer = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private BufferedImage ledOffBuffer = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Returns a image of a led with the given size, state and color.
@@ -67,23 +63,18 @@ public enum LedImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (SIZE == sizeBuffer && LED_COLOR == ledColorBuffer && CUSTOM_LED_COLOR == customLedColorBuffer) {
-            switch (STATE) {
-                case 0:
-                    return ledOffBuffer;
-                case 1:
-                    return ledOnBuffer;
-            }
+        final ImageCacheKey KEY_ON = new ImageCacheKey("LedImageFactory", SIZE, 1, LED_COLOR, CUSTOM_LED_COLOR);
+        final ImageCacheKey KEY_OFF = new ImageCacheKey("LedImageFactory", SIZE, 0, LED_COLOR, CUSTOM_LED_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(STATE == 1 ? KEY_ON : KEY_OFF);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        ledOnBuffer.flush();
-        ledOffBuffer.flush();
+        final BufferedImage LED_ON = UTIL.createImage((int) (SIZE * 0.0934579439), (int) (SIZE * 0.0934579439), Transparency.TRANSLUCENT);
+        final BufferedImage LED_OFF = UTIL.createImage((int) (SIZE * 0.0934579439), (int) (SIZE * 0.0934579439), Transparency.TRANSLUCENT);
 
-        ledOnBuffer = UTIL.createImage((int) (SIZE * 0.0934579439), (int) (SIZE * 0.0934579439), Transparency.TRANSLUCENT);
-        ledOffBuffer = UTIL.createImage((int) (SIZE * 0.0934579439), (int) (SIZE * 0.0934579439), Transparency.TRANSLUCENT);
-
-        final Graphics2D G2_ON = ledOnBuffer.createGraphics();
-        final Graphics2D G2_OFF = ledOffBuffer.createGraphics();
+        final Graphics2D G2_ON = LED_ON.createGraphics();
+        final Graphics2D G2_OFF = LED_OFF.createGraphics();
 
         G2_ON.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2_ON.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -93,8 +84,8 @@ public enum LedImageFactory {
         G2_OFF.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2_OFF.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
 
-        final int IMAGE_WIDTH = ledOnBuffer.getWidth();
-        final int IMAGE_HEIGHT = ledOnBuffer.getHeight();
+        final int IMAGE_WIDTH = LED_ON.getWidth();
+        final int IMAGE_HEIGHT = LED_ON.getHeight();
 
         // Define led data
         final Ellipse2D LED = new Ellipse2D.Double(0.25 * IMAGE_WIDTH, 0.25 * IMAGE_HEIGHT, 0.5 * IMAGE_WIDTH, 0.5 * IMAGE_HEIGHT);
@@ -227,19 +218,18 @@ public enum LedImageFactory {
         G2_ON.dispose();
         G2_OFF.dispose();
 
-        // Buffer current values
-        sizeBuffer = SIZE;
-        ledColorBuffer = LED_COLOR;
-        customLedColorBuffer = CUSTOM_LED_COLOR;
+        // Buffer current images
+        CACHE.put(KEY_ON, LED_ON);
+        CACHE.put(KEY_OFF, LED_OFF);
 
         switch (STATE) {
             case 1:
                 // Return LED ON
-                return ledOnBuffer;
+                return LED_ON;
             case 0:
                 // Return LED OFF
             default:
-                return ledOffBuffer;
+                return LED_OFF;
         }
     }
 }
@@ -37,7 +37,11 @@ import java.awt.image.ColorModel;
 /**
  * Based on the BrushedMetalFilter from Huxtable.com
  * @author hansolo
+ * @deprecated The gauges take their linen textures from the cached tiles
+ * of the TextureImageFactory, use createLinenTexture() instead. The filter
+ * only stays for code that uses it directly.
  */
+@Deprecated
 public class LinenFilter implements BufferedImageOp {
 
     private int radius = 65;
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Graphics;
+import javax.swing.JComponent;
+
+
+/**
+ * Base class of the components that report their paint times and repaint
+ * requests to the RenderMetrics. The paint method holds the init lock of the
+ * component, so a component that creates its images on another thread is
+ * never painted half created.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public abstract class MeasuredComponent extends JComponent {
+    private static final long serialVersionUID = 31270L;
+    // Serializable lock of the initialization and the paint method
+    private final Object INIT_LOCK = new Object[0];
+
+    /**
+     * Returns the lock that has to be held while the images of the component
+     * will be created
+     * @return the lock of the initialization and the paint method
+     */
+    protected final Object getInitLock() {
+        return INIT_LOCK;
+    }
+
+    @Override
+    public void paint(final Graphics G) {
+        synchronized (INIT_LOCK) {
+            final long START = RenderMetrics.INSTANCE.begin(this);
+            try {
+                super.paint(G);
+            } finally {
+                RenderMetrics.INSTANCE.endPaint(this, START);
+            }
+        }
+    }
+
+    @Override
+    public void repaint(final long TIME, final int X, final int Y, final int WIDTH, final int HEIGHT) {
+        RenderMetrics.INSTANCE.recordRepaintRequest(this);
+        super.repaint(TIME, X, Y, WIDTH, HEIGHT);
+    }
+}
@@ -37,9 +37,9 @@ import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
-import javax.swing.event.ChangeEvent;
 import javax.swing.event.EventListenerList;
 
 
@@ -51,11 +51,12 @@ public class Model implements Cloneable {
     // <editor-fold defaultstate="collapsed" desc="Variable definitions">
 
     private static final int        BASE = 10;
-    private final EventListenerList LISTENER_LIST = new EventListenerList();
+    private EventListenerList listenerList = new EventListenerList();
     private final Font              STANDARD_BASE_FONT = new Font("Verdana", 0, 24);
     private final Font              STANDARD_INFO_FONT = new Font("Verdana", 0, 24);
     private final Font              DIGITAL_BASE_FONT = Util.INSTANCE.getDigitalFont().deriveFont(24);
-    private ChangeEvent changeEvent;
+    private int updateDepth;
+    private EnumSet<ModelProperty> pendingProperties = EnumSet.noneOf(ModelProperty.class);
     private Rectangle bounds;
     private double minValue;
     private double maxValue;
@@ -112,15 +113,18 @@ public class Model implements Cloneable {
     private boolean maxMeasuredValueVisible;
     private boolean rangeOfMeasuredValuesVisible;
     private Shape radialShapeOfMeasuredValues;
+    private boolean radialShapeOfMeasuredValuesDirty;
     private boolean collectingData;
     private double trackStart;
     private double trackSection;
     private double trackStop;
     private boolean trackVisible;
     private ArrayList<Section> sections;
+    private SectionIndex sectionIndex;
     private boolean sectionsVisible;
     private boolean highlightSection;
     private ArrayList<Section> areas;
+    private SectionIndex areaIndex;
     private boolean areasVisible;
     private boolean highlightArea;
     private ArrayList<Section> tickmarkSections;
@@ -257,9 +261,11 @@ public class Model implements Cloneable {
         trackStop = maxValue;
         trackVisible = false;
         sections.clear();
+        sectionIndex = null;
         sectionsVisible = false;
         highlightSection = false;
         areas.clear();
+        areaIndex = null;
         areasVisible = false;
         highlightArea = false;
         tickmarkSections.clear();
@@ -336,7 +342,7 @@ public class Model implements Cloneable {
      */
     public void setSize(final int X, final int Y, final int WIDTH, final int HEIGHT) {
         bounds.setBounds(X, Y, WIDTH, HEIGHT);
-        fireStateChanged();
+        fireStateChanged(ModelProperty.SIZE);
     }
 
     /**
@@ -367,7 +373,8 @@ public class Model implements Cloneable {
         calculate();
         validate();
         calcAngleStep();
-        fireStateChanged();
+        // min and max will be swapped if they are in the wrong order
+        fireStateChanged(ModelProperty.MIN_VALUE, ModelProperty.MAX_VALUE);
     }
 
     /**
@@ -398,7 +405,8 @@ public class Model implements Cloneable {
         calculate();
         validate();
         calcAngleStep();
-        fireStateChanged();
+        // min and max will be swapped if they are in the wrong order
+        fireStateChanged(ModelProperty.MIN_VALUE, ModelProperty.MAX_VALUE);
     }
 
     /**
@@ -421,7 +429,7 @@ public class Model implements Cloneable {
         calculate();
         validate();
         calcAngleStep();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MIN_VALUE, ModelProperty.MAX_VALUE);
     }
 
     /**
@@ -441,7 +449,7 @@ public class Model implements Cloneable {
 
         value = VALUE < niceMinValue ? niceMinValue : (VALUE > niceMaxValue ? niceMaxValue : VALUE);
 
-        fireStateChanged();
+        fireStateChanged(ModelProperty.VALUE);
     }
 
     /**
@@ -471,7 +479,7 @@ public class Model implements Cloneable {
     public void setRedrawTolerance(final double REDRAW_TOLERANCE) {
         redrawTolerance = REDRAW_TOLERANCE < 0 ? 0 : (REDRAW_TOLERANCE > 1 ? 1.0 : REDRAW_TOLERANCE);
         redrawFactor    = redrawTolerance * getRange();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.REDRAW_TOLERANCE);
     }
 
     public double getRedrawFactor() {
@@ -492,7 +500,7 @@ public class Model implements Cloneable {
      */
     public void setPeakValue(final double PEAK_VALUE) {
         peakValue = PEAK_VALUE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.PEAK_VALUE);
     }
 
     /**
@@ -509,7 +517,7 @@ public class Model implements Cloneable {
      */
     public void setPeakValueVisible(final boolean PEAK_VALUE_VISIBLE) {
         peakValueVisible = PEAK_VALUE_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.PEAK_VALUE_VISIBLE);
     }
 
     public double getLcdValue() {
@@ -518,7 +526,7 @@ public class Model implements Cloneable {
 
     public void setLcdValue(final double LCD_VALUE) {
         lcdValue = LCD_VALUE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_VALUE);
     }
 
     /**
@@ -535,7 +543,7 @@ public class Model implements Cloneable {
      */
     public void setLcdThreshold(final double LCD_THRESHOLD) {
         lcdThreshold = LCD_THRESHOLD;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_THRESHOLD);
     }
 
     /**
@@ -552,7 +560,7 @@ public class Model implements Cloneable {
      */
     public void setLcdThresholdVisible(final boolean LCD_THRESHOLD_VISIBLE) {
         lcdThresholdVisible = LCD_THRESHOLD_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_THRESHOLD_VISIBLE);
     }
 
     /**
@@ -571,7 +579,7 @@ public class Model implements Cloneable {
      */
     public void setLcdThresholdBehaviourInverted(final boolean LCD_THRESHOLD_BEHAVIOUR_INVERTED) {
         lcdThresholdBehaviourInverted = LCD_THRESHOLD_BEHAVIOUR_INVERTED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_THRESHOLD_BEHAVIOUR_INVERTED);
     }
 
     /**
@@ -588,7 +596,7 @@ public class Model implements Cloneable {
      */
     public void setLcdBlinking(final boolean LCD_BLINKING) {
         lcdBlinking = LCD_BLINKING;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_BLINKING);
     }
 
     /**
@@ -605,7 +613,7 @@ public class Model implements Cloneable {
      */
     public void setSingleLedBargraphEnabled(final boolean SINGLE_LED_BARGRAPH_ENABLED) {
         singleLedBargraphEnabled = SINGLE_LED_BARGRAPH_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.SINGLE_LED_BARGRAPH_ENABLED);
     }
 
     /**
@@ -628,7 +636,7 @@ public class Model implements Cloneable {
         } else {
             autoResetToZero = AUTO_RESET_TO_ZERO;
         }
-        fireStateChanged();
+        fireStateChanged(ModelProperty.AUTO_RESET_TO_ZERO);
     }
 
     /**
@@ -645,7 +653,7 @@ public class Model implements Cloneable {
      */
     public void setFrameVisible(final boolean FRAME_VISIBLE) {
         frameVisible = FRAME_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_VISIBLE);
     }
 
     /**
@@ -662,7 +670,7 @@ public class Model implements Cloneable {
      */
     public void setFrameEffect(final FrameEffect FRAME_EFFECT) {
         frameEffect = FRAME_EFFECT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_EFFECT);
     }
 
     /**
@@ -679,7 +687,7 @@ public class Model implements Cloneable {
      */
     public void setFrameBaseColor(final Color FRAME_BASECOLOR) {
         frameBaseColor = FRAME_BASECOLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_BASE_COLOR);
     }
 
     /**
@@ -696,7 +704,7 @@ public class Model implements Cloneable {
      */
     public void setFrameBaseColorEnabled(final boolean FRAME_BASECOLOR_ENABLED) {
         frameBaseColorEnabled = FRAME_BASECOLOR_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_BASE_COLOR_ENABLED);
     }
 
     /**
@@ -713,7 +721,7 @@ public class Model implements Cloneable {
      */
     public void setBackgroundVisible(final boolean BACKGROUND_VISIBLE) {
         backgroundVisible = BACKGROUND_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.BACKGROUND_VISIBLE);
     }
 
     /**
@@ -730,7 +738,7 @@ public class Model implements Cloneable {
      */
     public void setTitleVisible(final boolean TITLE_VISIBLE) {
         titleVisible = TITLE_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TITLE_VISIBLE);
     }
 
     /**
@@ -747,7 +755,7 @@ public class Model implements Cloneable {
      */
     public void setUnitVisible(final boolean UNIT_VISIBLE) {
         unitVisible = UNIT_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.UNIT_VISIBLE);
     }
 
     /**
@@ -765,7 +773,7 @@ public class Model implements Cloneable {
      */
     public void setCustomTitleAndUnitFontEnabled(final boolean CUSTOM_TITLE_AND_UNIT_FONT_ENABLED) {
         customTitleAndUnitFontEnabled = CUSTOM_TITLE_AND_UNIT_FONT_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_TITLE_AND_UNIT_FONT_ENABLED);
     }
 
     /**
@@ -782,7 +790,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLayerVisible(final boolean CUSTOM_LAYER_VISIBLE) {
         customLayerVisible = CUSTOM_LAYER_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LAYER_VISIBLE);
     }
 
     /**
@@ -799,7 +807,7 @@ public class Model implements Cloneable {
      */
     public void setLedVisible(final boolean LED_VISIBLE) {
         ledVisible = LED_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LED_VISIBLE);
     }
 
     /**
@@ -816,7 +824,7 @@ public class Model implements Cloneable {
      */
     public void setUserLedVisible(final boolean USER_LED_VISIBLE) {
         userLedVisible = USER_LED_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.USER_LED_VISIBLE);
     }
 
     /**
@@ -833,7 +841,7 @@ public class Model implements Cloneable {
      */
     public void setLcdVisible(final boolean LCD_VISIBLE) {
         lcdVisible = LCD_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_VISIBLE);
     }
 
     /**
@@ -850,7 +858,7 @@ public class Model implements Cloneable {
      */
     public void setLcdUnitStringVisible(final boolean LCD_UNIT_STRING_VISIBLE) {
         lcdUnitStringVisible = LCD_UNIT_STRING_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_UNIT_STRING_VISIBLE);
     }
 
     /**
@@ -867,7 +875,7 @@ public class Model implements Cloneable {
      */
     public void setLcdScientificFormatEnabled(final boolean LCD_SCIENTIFIC_FORMAT_ENABLED) {
         lcdScientificFormatEnabled = LCD_SCIENTIFIC_FORMAT_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_SCIENTIFIC_FORMAT_ENABLED);
     }
 
     /**
@@ -884,7 +892,7 @@ public class Model implements Cloneable {
      */
     public void setValueCoupled(final boolean VALUE_COUPLED) {
         valueCoupled = VALUE_COUPLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.VALUE_COUPLED);
     }
 
     /**
@@ -901,7 +909,7 @@ public class Model implements Cloneable {
      */
     public void setDigitalFontEnabled(final boolean DIGITAL_FONT_ENABLED) {
         digitalFontEnabled = DIGITAL_FONT_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.DIGITAL_FONT_ENABLED);
     }
 
     /**
@@ -918,7 +926,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLcdUnitFontEnabled(final boolean CUSTOM_LCD_UNIT_FONT_ENABLED) {
         customLcdUnitFontEnabled = CUSTOM_LCD_UNIT_FONT_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LCD_UNIT_FONT_ENABLED);
     }
 
     /**
@@ -935,7 +943,7 @@ public class Model implements Cloneable {
      */
     public void setNumberSystem(final NumberSystem NUMBER_SYSTEM) {
         numberSystem = NUMBER_SYSTEM;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.NUMBER_SYSTEM);
     }
 
     /**
@@ -952,7 +960,7 @@ public class Model implements Cloneable {
      */
     public void setForegroundVisible(final boolean FOREGROUND_VISIBLE) {
         foregroundVisible = FOREGROUND_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FOREGROUND_VISIBLE);
     }
 
     /**
@@ -969,7 +977,7 @@ public class Model implements Cloneable {
      */
     public void setMinorTickmarksVisible(final boolean MINOR_TICKMARKS_VISIBLE) {
         minorTickmarksVisible = MINOR_TICKMARKS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MINOR_TICKMARKS_VISIBLE);
     }
 
     /**
@@ -986,7 +994,7 @@ public class Model implements Cloneable {
      */
     public void setMajorTickmarksVisible(final boolean MAJOR_TICKMARKS_VISIBLE) {
         majorTickmarksVisible = MAJOR_TICKMARKS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MAJOR_TICKMARKS_VISIBLE);
     }
 
     public boolean isSectionTickmarksOnly() {
@@ -995,7 +1003,7 @@ public class Model implements Cloneable {
 
     public void setSectionTickmarksOnly(final boolean SECTION_TICKMARKS_ONLY) {
         sectionTickmarksOnly = SECTION_TICKMARKS_ONLY;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.SECTION_TICKMARKS_ONLY);
     }
 
 
@@ -1013,7 +1021,7 @@ public class Model implements Cloneable {
      */
     public void setTickmarkColorFromThemeEnabled(final boolean TICKMARK_COLOR_FROM_THEME_ENABLED) {
         tickmarkColorFromThemeEnabled = TICKMARK_COLOR_FROM_THEME_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_COLOR_FROM_THEME_ENABLED);
     }
 
     /**
@@ -1030,7 +1038,7 @@ public class Model implements Cloneable {
      */
     public void setLabelColorFromThemeEnabled(final boolean LABEL_COLOR_FROM_THEME_ENABLED) {
         labelColorFromThemeEnabled = LABEL_COLOR_FROM_THEME_ENABLED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LABEL_COLOR_FROM_THEME_ENABLED);
     }
 
     /**
@@ -1047,7 +1055,7 @@ public class Model implements Cloneable {
      */
     public void setTicklabelOrienatation(final TicklabelOrientation TICKLABEL_ORIENTATION) {
         ticklabelOrientation = TICKLABEL_ORIENTATION;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKLABEL_ORIENTATION);
     }
 
     /**
@@ -1064,7 +1072,7 @@ public class Model implements Cloneable {
      */
     public void setTickmarksVisible(final boolean TICKMARKS_VISIBLE) {
         tickmarksVisible = TICKMARKS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARKS_VISIBLE);
     }
 
     /**
@@ -1081,7 +1089,7 @@ public class Model implements Cloneable {
      */
     public void setTicklabelsVisible(final boolean TICKLABELS_VISIBLE) {
         ticklabelsVisible = TICKLABELS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKLABELS_VISIBLE);
     }
 
     /**
@@ -1108,7 +1116,7 @@ public class Model implements Cloneable {
                 threshold = niceMaxValue;
             }
         }
-        fireStateChanged();
+        fireStateChanged(ModelProperty.THRESHOLD);
     }
 
     /**
@@ -1125,7 +1133,7 @@ public class Model implements Cloneable {
      */
     public void setThresholdVisible(final boolean THRESHOLD_VISIBLE) {
         thresholdVisible = THRESHOLD_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.THRESHOLD_VISIBLE);
     }
 
     /**
@@ -1144,7 +1152,7 @@ public class Model implements Cloneable {
      */
     public void setThresholdBehaviourInverted(final boolean THRESHOLD_BEHAVIOUR_INVERTED) {
         thresholdBehaviourInverted = THRESHOLD_BEHAVIOUR_INVERTED;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.THRESHOLD_BEHAVIOUR_INVERTED);
     }
 
     /**
@@ -1161,7 +1169,7 @@ public class Model implements Cloneable {
      */
     public void setThresholdColor(final ColorDef THRESHOLD_COLOR) {
         thresholdColor = THRESHOLD_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.THRESHOLD_COLOR);
     }
 
     /**
@@ -1178,7 +1186,7 @@ public class Model implements Cloneable {
      */
     public void setCustomThresholdColor(final CustomColorDef CUSTOM_THRESHOLD_COLOR) {
         customThresholdColor = CUSTOM_THRESHOLD_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_THRESHOLD_COLOR);
     }
 
     /**
@@ -1195,7 +1203,7 @@ public class Model implements Cloneable {
      */
     public void setThresholdType(final ThresholdType THRESHOLD_TYPE) {
         thresholdType = THRESHOLD_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.THRESHOLD_TYPE);
     }
 
     /**
@@ -1222,8 +1230,8 @@ public class Model implements Cloneable {
                 minMeasuredValue = niceMaxValue;
             }
         }
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MIN_MEASURED_VALUE);
     }
 
     /**
@@ -1231,8 +1239,8 @@ public class Model implements Cloneable {
      */
     public void resetMinMeasuredValue() {
         minMeasuredValue = value;
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MIN_MEASURED_VALUE);
     }
 
     /**
@@ -1241,8 +1249,8 @@ public class Model implements Cloneable {
      */
     public void resetMinMeasuredValue(final double MIN_MEASURED_VALUE) {
         minMeasuredValue = MIN_MEASURED_VALUE < niceMinValue ? niceMinValue : (MIN_MEASURED_VALUE > niceMaxValue ? niceMaxValue : MIN_MEASURED_VALUE);
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MIN_MEASURED_VALUE);
     }
 
     /**
@@ -1259,7 +1267,7 @@ public class Model implements Cloneable {
      */
     public void setMinMeasuredValueVisible(final boolean MIN_MEASURED_VALUE_VISIBLE) {
         minMeasuredValueVisible = MIN_MEASURED_VALUE_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MIN_MEASURED_VALUE_VISIBLE);
     }
 
     /**
@@ -1286,8 +1294,8 @@ public class Model implements Cloneable {
                 maxMeasuredValue = niceMaxValue;
             }
         }
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MAX_MEASURED_VALUE);
     }
 
     /**
@@ -1295,8 +1303,8 @@ public class Model implements Cloneable {
      */
     public void resetMaxMeasuredValue() {
         maxMeasuredValue = value;
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MAX_MEASURED_VALUE);
     }
 
     /**
@@ -1305,8 +1313,8 @@ public class Model implements Cloneable {
      */
     public void resetMaxMeasuredValue(final double MAX_MEASURED_VALUE) {
         maxMeasuredValue = MAX_MEASURED_VALUE < niceMinValue ? niceMinValue : (MAX_MEASURED_VALUE > niceMaxValue ? niceMaxValue : MAX_MEASURED_VALUE);
-        createRadialShapeOfMeasureValuesArea();
-        fireStateChanged();
+        radialShapeOfMeasuredValuesDirty = true;
+        fireStateChanged(ModelProperty.MAX_MEASURED_VALUE);
     }
 
     /**
@@ -1323,7 +1331,7 @@ public class Model implements Cloneable {
      */
     public void setMaxMeasuredValueVisible(final boolean MAX_MEASURED_VALUE_VISIBLE) {
         maxMeasuredValueVisible = MAX_MEASURED_VALUE_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MAX_MEASURED_VALUE_VISIBLE);
     }
 
     /**
@@ -1341,7 +1349,7 @@ public class Model implements Cloneable {
      */
     public void setRangeOfMeasuredValuesVisible(final boolean RANGE_OF_MEASURED_VALUES_VISIBLE) {
         rangeOfMeasuredValuesVisible = RANGE_OF_MEASURED_VALUES_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.RANGE_OF_MEASURED_VALUES_VISIBLE);
     }
 
     /**
@@ -1357,6 +1365,10 @@ public class Model implements Cloneable {
      * @return the shape that represents the range of measured values
      */
     public Shape getRadialShapeOfMeasuredValues() {
+        if (radialShapeOfMeasuredValuesDirty) {
+            createRadialShapeOfMeasureValuesArea();
+            radialShapeOfMeasuredValuesDirty = false;
+        }
         return radialShapeOfMeasuredValues;
     }
 
@@ -1365,7 +1377,7 @@ public class Model implements Cloneable {
      * @return the area that represents the range of measured values
      */
     public Area getRadialAreaOfMeasuredValues() {
-        return new Area(radialShapeOfMeasuredValues);
+        return new Area(getRadialShapeOfMeasuredValues());
     }
 
     /**
@@ -1374,7 +1386,7 @@ public class Model implements Cloneable {
      */
     public void setRangeOfMeasuredValuesPaint(final Paint RANGE_OF_MEASURED_VALUES_PAINT) {
         rangeOfMeasuredValuesPaint = RANGE_OF_MEASURED_VALUES_PAINT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.RANGE_OF_MEASURED_VALUES_PAINT);
     }
 
     /**
@@ -1412,7 +1424,7 @@ public class Model implements Cloneable {
         }
         trackStart = TRACK_START;
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_START);
     }
 
     /**
@@ -1430,7 +1442,7 @@ public class Model implements Cloneable {
     public void setTrackSection(final double TRACK_SECTION) {
         trackSection = TRACK_SECTION;
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_SECTION);
     }
 
     /**
@@ -1452,7 +1464,7 @@ public class Model implements Cloneable {
         }
         trackStop = TRACK_STOP;
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_STOP);
     }
 
     /**
@@ -1469,7 +1481,7 @@ public class Model implements Cloneable {
      */
     public void setTrackVisible(final boolean TRACK_VISIBLE) {
         trackVisible = TRACK_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_VISIBLE);
     }
 
     /**
@@ -1492,8 +1504,9 @@ public class Model implements Cloneable {
         for (Section section : SECTIONS_ARRAY) {
             sections.add(new Section(section.getStart(), section.getStop(), section.getColor()));
         }
+        sectionIndex = null;
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.SECTIONS);
     }
 
     /**
@@ -1503,7 +1516,8 @@ public class Model implements Cloneable {
      */
     public void addSection(Section SECTION) {
         sections.add(SECTION);
-        fireStateChanged();
+        sectionIndex = null;
+        fireStateChanged(ModelProperty.SECTIONS);
     }
 
     /**
@@ -1511,7 +1525,20 @@ public class Model implements Cloneable {
      */
     public void resetSections() {
         sections.clear();
-        fireStateChanged();
+        sectionIndex = null;
+        fireStateChanged(ModelProperty.SECTIONS);
+    }
+
+    /**
+     * Returns the interval index of the sections of the gauge which will be
+     * created again after the sections changed
+     * @return the interval index of the sections of the gauge
+     */
+    public SectionIndex getSectionIndex() {
+        if (sectionIndex == null) {
+            sectionIndex = sections.isEmpty() ? SectionIndex.EMPTY : new SectionIndex(sections);
+        }
+        return sectionIndex;
     }
 
     /**
@@ -1528,7 +1555,7 @@ public class Model implements Cloneable {
      */
     public void setSectionsVisible(final boolean SECTIONS_VISIBLE) {
         sectionsVisible = SECTIONS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.SECTIONS_VISIBLE);
     }
 
     /**
@@ -1545,7 +1572,7 @@ public class Model implements Cloneable {
      */
     public void setHighlightSection(final boolean HIGHLIGHT_SECTION) {
         highlightSection = HIGHLIGHT_SECTION;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.HIGHLIGHT_SECTION);
     }
 
     /**
@@ -1568,8 +1595,9 @@ public class Model implements Cloneable {
         for (Section area : AREAS_ARRAY) {
             areas.add(new Section(area.getStart(), area.getStop(), area.getColor()));
         }
+        areaIndex = null;
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.AREAS);
     }
 
     /**
@@ -1579,6 +1607,7 @@ public class Model implements Cloneable {
      */
     public void addArea(Section AREA) {
         areas.add(AREA);
+        areaIndex = null;
     }
 
     /**
@@ -1586,6 +1615,19 @@ public class Model implements Cloneable {
      */
     public void resetAreas() {
         areas.clear();
+        areaIndex = null;
+    }
+
+    /**
+     * Returns the interval index of the areas of the gauge which will be
+     * created again after the areas changed
+     * @return the interval index of the areas of the gauge
+     */
+    public SectionIndex getAreaIndex() {
+        if (areaIndex == null) {
+            areaIndex = areas.isEmpty() ? SectionIndex.EMPTY : new SectionIndex(areas);
+        }
+        return areaIndex;
     }
 
     /**
@@ -1602,7 +1644,7 @@ public class Model implements Cloneable {
      */
     public void setAreasVisible(final boolean AREAS_VISIBLE) {
         areasVisible = AREAS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.AREAS_VISIBLE);
     }
 
     /**
@@ -1619,7 +1661,7 @@ public class Model implements Cloneable {
      */
     public void setHighlightArea(final boolean HIGHLIGHT_AREA) {
         highlightArea = HIGHLIGHT_AREA;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.HIGHLIGHT_AREA);
     }
 
     /**
@@ -1643,7 +1685,7 @@ public class Model implements Cloneable {
             tickmarkSections.add(new Section(tickmarkSection.getStart(), tickmarkSection.getStop(), tickmarkSection.getColor()));
         }
         validate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_SECTIONS);
     }
 
     /**
@@ -1653,7 +1695,7 @@ public class Model implements Cloneable {
      */
     public void addTickmarkSection(final Section TICKMARK_SECTION) {
         tickmarkSections.add(TICKMARK_SECTION);
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_SECTIONS);
     }
 
     /**
@@ -1661,7 +1703,7 @@ public class Model implements Cloneable {
      */
     public void resetTickmarkSections() {
         tickmarkSections.clear();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_SECTIONS);
     }
 
     /**
@@ -1678,7 +1720,7 @@ public class Model implements Cloneable {
      */
     public void setTickmarkSectionsVisible(final boolean TICKMARK_SECTIONS_VISIBLE) {
         tickmarkSectionsVisible = TICKMARK_SECTIONS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_SECTIONS_VISIBLE);
     }
 
     /**
@@ -1702,7 +1744,7 @@ public class Model implements Cloneable {
     public void setGaugeType(final GaugeType GAUGE_TYPE) {
         gaugeType = GAUGE_TYPE;
         calcAngleStep();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.GAUGE_TYPE);
     }
 
     /**
@@ -1724,7 +1766,7 @@ public class Model implements Cloneable {
         this.customGaugeType = CUSTOM_GAUGE_TYPE;
         gaugeType = GaugeType.CUSTOM;
         calcAngleStep();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_GAUGE_TYPE);
     }
 
     /**
@@ -1815,7 +1857,7 @@ public class Model implements Cloneable {
             this.maxNoOfMajorTicks = MAX_NO_OF_MAJOR_TICKS;
         }
         calculate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MAX_NO_OF_MAJOR_TICKS);
     }
 
     /**
@@ -1839,7 +1881,7 @@ public class Model implements Cloneable {
             this.maxNoOfMinorTicks = MAX_NO_OF_MINOR_TICKS;
         }
         calculate();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MAX_NO_OF_MINOR_TICKS);
     }
 
     /**
@@ -1859,7 +1901,7 @@ public class Model implements Cloneable {
             majorTickSpacing = MAJOR_TICKSPACING;
             calculate();
             validate();
-            fireStateChanged();
+            fireStateChanged(ModelProperty.MAJOR_TICK_SPACING);
         }
     }
 
@@ -1880,7 +1922,7 @@ public class Model implements Cloneable {
             minorTickSpacing = MINOR_TICKSPACING;
             calculate();
             validate();
-            fireStateChanged();
+            fireStateChanged(ModelProperty.MINOR_TICK_SPACING);
         }
     }
 
@@ -1922,7 +1964,7 @@ public class Model implements Cloneable {
      */
     public void setBackgroundColor(final BackgroundColor BACKGROUND_COLOR) {
         backgroundColor = BACKGROUND_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.BACKGROUND_COLOR);
     }
 
     /**
@@ -1939,7 +1981,7 @@ public class Model implements Cloneable {
      */
     public void setCustomBackground(final Paint CUSTOM_BACKGROUND) {
         customBackground = CUSTOM_BACKGROUND;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_BACKGROUND);
     }
 
     /**
@@ -1956,7 +1998,7 @@ public class Model implements Cloneable {
      */
     public void setTextureColor(final Color TEXTURE_COLOR) {
         textureColor = TEXTURE_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TEXTURE_COLOR);
     }
 
     /**
@@ -1976,7 +2018,7 @@ public class Model implements Cloneable {
             customLayer.flush();
         }
         customLayer = CUSTOM_LAYER;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LAYER);
     }
 
     /**
@@ -1993,7 +2035,7 @@ public class Model implements Cloneable {
      */
     public void setGlowVisible(final boolean GLOW_VISIBLE) {
         glowVisible = GLOW_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.GLOW_VISIBLE);
     }
 
     /**
@@ -2010,7 +2052,7 @@ public class Model implements Cloneable {
      */
     public void setGlowColor(final Color GLOW_COLOR) {
         glowColor = GLOW_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.GLOW_COLOR);
     }
 
     /**
@@ -2027,7 +2069,7 @@ public class Model implements Cloneable {
      */
     public void setGlowing(final boolean GLOWING) {
         glowing = GLOWING;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.GLOWING);
     }
 
     /**
@@ -2046,7 +2088,7 @@ public class Model implements Cloneable {
      */
     public void setFrameType(final FrameType FRAME_TYPE) {
         frameType = FRAME_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_TYPE);
     }
 
     /**
@@ -2063,7 +2105,7 @@ public class Model implements Cloneable {
      */
     public void setFrameDesign(final FrameDesign FRAME_DESIGN) {
         frameDesign = FRAME_DESIGN;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FRAME_DESIGN);
     }
 
     /**
@@ -2080,7 +2122,7 @@ public class Model implements Cloneable {
      */
     public void setCustomFrameDesign(final Paint CUSTOM_FRAME_DESIGN) {
         customFrameDesign = CUSTOM_FRAME_DESIGN;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_FRAME_DESIGN);
     }
 
     /**
@@ -2097,7 +2139,7 @@ public class Model implements Cloneable {
      */
     public void setOuterFrameColor(final Paint OUTER_FRAME_COLOR) {
         outerFrameColor = OUTER_FRAME_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.OUTER_FRAME_COLOR);
     }
 
     /**
@@ -2114,7 +2156,7 @@ public class Model implements Cloneable {
      */
     public void setInnerFrameColor(final Paint INNER_FRAME_COLOR) {
         innerFrameColor = INNER_FRAME_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.INNER_FRAME_COLOR);
     }
 
     /**
@@ -2131,7 +2173,7 @@ public class Model implements Cloneable {
      */
     public void setLedColor(final LedColor LED_COLOR) {
         ledColor = LED_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LED_COLOR);
     }
 
     /**
@@ -2148,7 +2190,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLedColor(final CustomLedColor CUSTOM_LED_COLOR) {
         customLedColor = CUSTOM_LED_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LED_COLOR);
     }
 
     /**
@@ -2165,7 +2207,7 @@ public class Model implements Cloneable {
      */
     public void setUserLedColor(final LedColor LED_COLOR) {
         userLedColor = LED_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.USER_LED_COLOR);
     }
 
     /**
@@ -2182,7 +2224,7 @@ public class Model implements Cloneable {
      */
     public void setCustomUserLedColor(final CustomLedColor CUSTOM_LED_COLOR) {
         customUserLedColor = CUSTOM_LED_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_USER_LED_COLOR);
     }
 
     /**
@@ -2199,7 +2241,7 @@ public class Model implements Cloneable {
      */
     public void setLcdColor(final LcdColor LCD_COLOR) {
         lcdColor = LCD_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_COLOR);
     }
 
     /**
@@ -2216,7 +2258,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLcdBackground(final Paint CUSTOM_LCD_COLOR) {
         customLcdColor = CUSTOM_LCD_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LCD_BACKGROUND);
     }
 
     /**
@@ -2233,7 +2275,7 @@ public class Model implements Cloneable {
      */
     public void setLcdBackgroundVisible(final boolean LCD_BACKGROUND_VISIBLE) {
         lcdBackgroundVisible = LCD_BACKGROUND_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_BACKGROUND_VISIBLE);
     }
 
     /**
@@ -2250,7 +2292,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLcdForeground(final Color CUSTOM_LCD_FOREGROUND_COLOR) {
         customLcdForegroundColor = CUSTOM_LCD_FOREGROUND_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LCD_FOREGROUND);
     }
 
     /**
@@ -2267,7 +2309,7 @@ public class Model implements Cloneable {
      */
     public void setMinorTickmarkType(final TickmarkType MINOR_TICKMARK_TYPE) {
         minorTickmarkType = MINOR_TICKMARK_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MINOR_TICKMARK_TYPE);
     }
 
     /**
@@ -2284,7 +2326,7 @@ public class Model implements Cloneable {
      */
     public void setMajorTickmarkType(final TickmarkType MAJOR_TICKMARK_TYPE) {
         majorTickmarkType = MAJOR_TICKMARK_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.MAJOR_TICKMARK_TYPE);
     }
 
     /**
@@ -2301,7 +2343,7 @@ public class Model implements Cloneable {
      */
     public void setLabelNumberFormat(final NumberFormat LABEL_NUMBERFORMAT) {
         labelNumberFormat = LABEL_NUMBERFORMAT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LABEL_NUMBER_FORMAT);
     }
 
     /**
@@ -2318,7 +2360,7 @@ public class Model implements Cloneable {
      */
     public void setTickmarkColor(final Color TICKMARK_COLOR) {
         tickmarkColor = TICKMARK_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TICKMARK_COLOR);
     }
 
     /**
@@ -2335,7 +2377,7 @@ public class Model implements Cloneable {
      */
     public void setCustomTickmarkColor(final Color CUSTOM_TICKMARK_COLOR) {
         customTickmarkColor = CUSTOM_TICKMARK_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_TICKMARK_COLOR);
     }
 
     /**
@@ -2352,7 +2394,7 @@ public class Model implements Cloneable {
      */
     public void setLabelColor(final Color LABEL_COLOR) {
         labelColor = LABEL_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LABEL_COLOR);
     }
 
     /**
@@ -2369,7 +2411,7 @@ public class Model implements Cloneable {
      */
     public void setTrackStartColor(final Color TRACK_START_COLOR) {
         trackStartColor = TRACK_START_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_START_COLOR);
     }
 
     /**
@@ -2386,7 +2428,7 @@ public class Model implements Cloneable {
      */
     public void setTrackSectionColor(final Color TRACK_SECTION_COLOR) {
         trackSectionColor = TRACK_SECTION_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_SECTION_COLOR);
     }
 
     /**
@@ -2403,7 +2445,7 @@ public class Model implements Cloneable {
      */
     public void setTrackStopColor(final Color TRACK_STOP_COLOR) {
         trackStopColor = TRACK_STOP_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.TRACK_STOP_COLOR);
     }
 
     /**
@@ -2420,7 +2462,7 @@ public class Model implements Cloneable {
      */
     public void setPointerType(final PointerType POINTER_TYPE) {
         pointerType = POINTER_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.POINTER_TYPE);
     }
 
     /**
@@ -2437,7 +2479,7 @@ public class Model implements Cloneable {
      */
     public void setPointerColor(final ColorDef POINTER_COLOR) {
         pointerColor = POINTER_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.POINTER_COLOR);
     }
 
     public boolean isPointerShadowVisible() {
@@ -2446,7 +2488,7 @@ public class Model implements Cloneable {
 
     public void setPointerShadowVisible(final boolean POINTER_SHADOW_VISIBLE) {
         pointerShadowVisible = POINTER_SHADOW_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.POINTER_SHADOW_VISIBLE);
     }
 
     /**
@@ -2463,7 +2505,7 @@ public class Model implements Cloneable {
      */
     public void setCustomPointerColorObject(final CustomColorDef CUSTOM_POINTER_COLOR_OBJECT) {
         customPointerColorObject = CUSTOM_POINTER_COLOR_OBJECT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_POINTER_COLOR);
     }
 
     /**
@@ -2488,7 +2530,7 @@ public class Model implements Cloneable {
      */
     public void setValueColor(final ColorDef VALUE_COLOR) {
         valueColor = VALUE_COLOR;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.VALUE_COLOR);
     }
 
     /**
@@ -2505,7 +2547,7 @@ public class Model implements Cloneable {
      */
     public void setCustomValueColorObject(final CustomColorDef CUSTOM_VALUE_COLOR_OBJECT) {
         customValueColorObject = CUSTOM_VALUE_COLOR_OBJECT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_VALUE_COLOR);
     }
 
     /**
@@ -2530,7 +2572,7 @@ public class Model implements Cloneable {
      */
     public void setKnobType(final KnobType KNOB_TYPE) {
         knobType = KNOB_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.KNOB_TYPE);
     }
 
     /**
@@ -2547,7 +2589,7 @@ public class Model implements Cloneable {
      */
     public void setKnobStyle(final KnobStyle KNOB_STYLE) {
         knobStyle = KNOB_STYLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.KNOB_STYLE);
     }
 
     /**
@@ -2564,7 +2606,7 @@ public class Model implements Cloneable {
      */
     public void setPostsVisible(final boolean POSTS_VISIBLE) {
         postsVisible = POSTS_VISIBLE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.POSTS_VISIBLE);
     }
 
     /**
@@ -2581,7 +2623,7 @@ public class Model implements Cloneable {
      */
     public void setForegroundType(final ForegroundType FOREGROUND_TYPE) {
         foregroundType = FOREGROUND_TYPE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.FOREGROUND_TYPE);
     }
 
     /**
@@ -2622,7 +2664,7 @@ public class Model implements Cloneable {
      */
     public void setLcdValueFont(final Font LCD_VALUE_FONT) {
         lcdValueFont = LCD_VALUE_FONT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_VALUE_FONT);
     }
 
     /**
@@ -2639,7 +2681,7 @@ public class Model implements Cloneable {
      */
     public void setLcdUnitFont(final Font LCD_UNIT_FONT) {
         lcdUnitFont = LCD_UNIT_FONT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_UNIT_FONT);
     }
 
     /**
@@ -2656,7 +2698,7 @@ public class Model implements Cloneable {
      */
     public void setCustomLcdUnitFont(final Font CUSTOM_LCD_UNIT_FONT) {
         customLcdUnitFont = CUSTOM_LCD_UNIT_FONT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.CUSTOM_LCD_UNIT_FONT);
     }
 
     /**
@@ -2673,7 +2715,7 @@ public class Model implements Cloneable {
      */
     public void setLcdInfoFont(final Font LCD_INFO_FONT) {
         lcdInfoFont = LCD_INFO_FONT;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_INFO_FONT);
     }
 
     /**
@@ -2690,7 +2732,7 @@ public class Model implements Cloneable {
      */
     public void setLcdDecimals(final int LCD_DECIMALS) {
         lcdDecimals = LCD_DECIMALS;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LCD_DECIMALS);
     }
 
     /**
@@ -2715,7 +2757,7 @@ public class Model implements Cloneable {
         calculate();
         validate();
         calcAngleStep();
-        fireStateChanged();
+        fireStateChanged(ModelProperty.NICE_SCALE);
     }
 
     /**
@@ -2732,7 +2774,7 @@ public class Model implements Cloneable {
      */
     public void setLogScale(final boolean LOG_SCALE) {
         logScale = LOG_SCALE;
-        fireStateChanged();
+        fireStateChanged(ModelProperty.LOG_SCALE);
     }
     // </editor-fold>
 
@@ -2988,17 +3030,41 @@ public class Model implements Cloneable {
     }
 
     /**
-     * Returns a shallow copy of the gauge model
-     * @return a shallow copy of the gauge model
+     * Returns a copy of the gauge model without listeners. The copy has it's own
+     * bounds and it's own copies of the sections, areas and tickmark sections,
+     * so the shapes that a gauge stores in them will not change the original.
+     * @return a copy of the gauge model without listeners
      */
     @Override
     public Model clone() {
         try {
-            return (Model) super.clone();
+            final Model CLONE = (Model) super.clone();
+            CLONE.listenerList = new EventListenerList();
+            CLONE.updateDepth = 0;
+            CLONE.pendingProperties = EnumSet.noneOf(ModelProperty.class);
+            CLONE.bounds = new Rectangle(bounds);
+            CLONE.radialShapeOfMeasuredValues = new Arc2D.Double();
+            CLONE.radialShapeOfMeasuredValuesDirty = true;
+            CLONE.sections = copyOf(sections);
+            CLONE.sectionIndex = null;
+            CLONE.areas = copyOf(areas);
+            CLONE.areaIndex = null;
+            CLONE.tickmarkSections = copyOf(tickmarkSections);
+            return CLONE;
         } catch (java.lang.CloneNotSupportedException exception) {
         }
         return new Model();
     }
+
+    private static ArrayList<Section> copyOf(final List<Section> SECTIONS) {
+        final ArrayList<Section> COPY = new ArrayList<Section>(SECTIONS.size());
+        for (Section section : SECTIONS) {
+            final Section SECTION_COPY = new Section(section.getStart(), section.getStop(), section.getColor(), section.getHighlightColor(), null, null);
+            SECTION_COPY.setPaint(section.getPaint());
+            COPY.add(SECTION_COPY);
+        }
+        return COPY;
+    }
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Listener related">
@@ -3007,7 +3073,7 @@ public class Model implements Cloneable {
      * @param LISTENER
      */
     public void addChangeListener(javax.swing.event.ChangeListener LISTENER) {
-        LISTENER_LIST.add(javax.swing.event.ChangeListener.class, LISTENER);
+        listenerList.add(javax.swing.event.ChangeListener.class, LISTENER);
     }
 
     /**
@@ -3015,23 +3081,87 @@ public class Model implements Cloneable {
      * @param LISTENER
      */
     public void removeChangeListener(javax.swing.event.ChangeListener LISTENER) {
-        LISTENER_LIST.remove(javax.swing.event.ChangeListener.class, LISTENER);
+        listenerList.remove(javax.swing.event.ChangeListener.class, LISTENER);
     }
 
     /**
-     * Fires an state change event every time the data model changes
+     * Starts a batch of changes. All changes until the matching call of
+     * endUpdate() will be coalesced into one ModelEvent. Calls could be nested.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes and fires one ModelEvent that contains all
+     * properties that have been changed since the outermost beginUpdate()
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) {
+            throw new IllegalStateException("endUpdate() called without beginUpdate()");
+        }
+        updateDepth--;
+        if (updateDepth == 0 && !pendingProperties.isEmpty()) {
+            final EnumSet<ModelProperty> PROPERTIES = pendingProperties;
+            pendingProperties = EnumSet.noneOf(ModelProperty.class);
+            fireModelEvent(new ModelEvent(this, PROPERTIES));
+        }
+    }
+
+    /**
+     * Runs the given changes as one batch that will fire only one ModelEvent
+     * @param CHANGES
+     */
+    public void batch(final Runnable CHANGES) {
+        beginUpdate();
+        try {
+            CHANGES.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Returns true if the model is within a batch of changes
+     * @return true if the model is within a batch of changes
+     */
+    public boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    /**
+     * Fires a state change event that marks all properties as changed
      */
     protected void fireStateChanged() {
-        Object[] listeners = LISTENER_LIST.getListenerList();
+        fireStateChanged(ModelProperty.values());
+    }
+
+    /**
+     * Fires a state change event for the given properties or collects them
+     * if the model is within a batch of changes
+     * @param PROPERTIES
+     */
+    protected void fireStateChanged(final ModelProperty... PROPERTIES) {
+        for (ModelProperty property : PROPERTIES) {
+            pendingProperties.add(property);
+        }
+        if (updateDepth == 0) {
+            final EnumSet<ModelProperty> CHANGED = pendingProperties;
+            pendingProperties = EnumSet.noneOf(ModelProperty.class);
+            if (listenerList.getListenerCount() > 0) {
+                fireModelEvent(new ModelEvent(this, CHANGED));
+            }
+        }
+    }
+
+    private void fireModelEvent(final ModelEvent EVENT) {
+        Object[] listeners = listenerList.getListenerList();
 
         // Process the listeners last to first, notifying
         // those that are interested in this event
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == javax.swing.event.ChangeListener.class) {
-                if (changeEvent == null) {
-                    changeEvent = new javax.swing.event.ChangeEvent(this);
-                }
-                ((javax.swing.event.ChangeListener) listeners[i + 1]).stateChanged(changeEvent);
+                ((javax.swing.event.ChangeListener) listeners[i + 1]).stateChanged(EVENT);
             }
         }
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import javax.swing.event.ChangeEvent;
+
+
+/**
+ * The change event that will be fired by the gauge model. Listeners that
+ * are registered as ChangeListener will receive instances of this class and
+ * could use the set of changed properties to decide what has to be updated.
+ * Changes that are made within Model.beginUpdate() and Model.endUpdate()
+ * will be coalesced into one event.
+ * @author hansolo
+ */
+public class ModelEvent extends ChangeEvent {
+
+    private static final long serialVersionUID = 31272L;
+    private final Set<ModelProperty> PROPERTIES;
+
+    public ModelEvent(final Object SOURCE, final Set<ModelProperty> PROPERTIES) {
+        super(SOURCE);
+        this.PROPERTIES = Collections.unmodifiableSet(PROPERTIES.isEmpty() ? EnumSet.noneOf(ModelProperty.class) : EnumSet.copyOf(PROPERTIES));
+    }
+
+    /**
+     * Returns an unmodifiable set of the properties that have changed
+     * @return an unmodifiable set of the properties that have changed
+     */
+    public Set<ModelProperty> getProperties() {
+        return PROPERTIES;
+    }
+
+    /**
+     * Returns true if at least one of the given properties has changed
+     * @param PROPERTIES
+     * @return true if at least one of the given properties has changed
+     */
+    public boolean contains(final ModelProperty... PROPERTIES) {
+        for (ModelProperty property : PROPERTIES) {
+            if (this.PROPERTIES.contains(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ModelEvent " + PROPERTIES;
+    }
+}
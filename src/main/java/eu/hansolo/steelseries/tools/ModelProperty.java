@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+/**
+ * The properties of the gauge model that will be reported in a ModelEvent.
+ * The properties that change the scale (MIN_VALUE, MAX_VALUE, NICE_SCALE,
+ * MAX_NO_OF_MAJOR_TICKS, MAX_NO_OF_MINOR_TICKS) also imply that the nice
+ * minimum, nice maximum and tick spacing values have been recalculated and
+ * that the dependent values (threshold, measured values, track) might have
+ * been adjusted to the new scale.
+ * @author hansolo
+ */
+public enum ModelProperty {
+
+    SIZE,
+    MIN_VALUE,
+    MAX_VALUE,
+    VALUE,
+    REDRAW_TOLERANCE,
+    PEAK_VALUE,
+    PEAK_VALUE_VISIBLE,
+    LCD_VALUE,
+    LCD_THRESHOLD,
+    LCD_THRESHOLD_VISIBLE,
+    LCD_THRESHOLD_BEHAVIOUR_INVERTED,
+    LCD_BLINKING,
+    SINGLE_LED_BARGRAPH_ENABLED,
+    AUTO_RESET_TO_ZERO,
+    FRAME_VISIBLE,
+    FRAME_EFFECT,
+    FRAME_BASE_COLOR,
+    FRAME_BASE_COLOR_ENABLED,
+    BACKGROUND_VISIBLE,
+    TITLE_VISIBLE,
+    UNIT_VISIBLE,
+    CUSTOM_TITLE_AND_UNIT_FONT_ENABLED,
+    CUSTOM_LAYER_VISIBLE,
+    LED_VISIBLE,
+    USER_LED_VISIBLE,
+    LCD_VISIBLE,
+    LCD_UNIT_STRING_VISIBLE,
+    LCD_SCIENTIFIC_FORMAT_ENABLED,
+    VALUE_COUPLED,
+    DIGITAL_FONT_ENABLED,
+    CUSTOM_LCD_UNIT_FONT_ENABLED,
+    NUMBER_SYSTEM,
+    FOREGROUND_VISIBLE,
+    MINOR_TICKMARKS_VISIBLE,
+    MAJOR_TICKMARKS_VISIBLE,
+    SECTION_TICKMARKS_ONLY,
+    TICKMARK_COLOR_FROM_THEME_ENABLED,
+    LABEL_COLOR_FROM_THEME_ENABLED,
+    TICKLABEL_ORIENTATION,
+    TICKMARKS_VISIBLE,
+    TICKLABELS_VISIBLE,
+    THRESHOLD,
+    THRESHOLD_VISIBLE,
+    THRESHOLD_BEHAVIOUR_INVERTED,
+    THRESHOLD_COLOR,
+    CUSTOM_THRESHOLD_COLOR,
+    THRESHOLD_TYPE,
+    MIN_MEASURED_VALUE,
+    MIN_MEASURED_VALUE_VISIBLE,
+    MAX_MEASURED_VALUE,
+    MAX_MEASURED_VALUE_VISIBLE,
+    RANGE_OF_MEASURED_VALUES_VISIBLE,
+    RANGE_OF_MEASURED_VALUES_PAINT,
+    TRACK_START,
+    TRACK_SECTION,
+    TRACK_STOP,
+    TRACK_VISIBLE,
+    SECTIONS,
+    SECTIONS_VISIBLE,
+    HIGHLIGHT_SECTION,
+    AREAS,
+    AREAS_VISIBLE,
+    HIGHLIGHT_AREA,
+    TICKMARK_SECTIONS,
+    TICKMARK_SECTIONS_VISIBLE,
+    GAUGE_TYPE,
+    CUSTOM_GAUGE_TYPE,
+    MAX_NO_OF_MAJOR_TICKS,
+    MAX_NO_OF_MINOR_TICKS,
+    MAJOR_TICK_SPACING,
+    MINOR_TICK_SPACING,
+    BACKGROUND_COLOR,
+    CUSTOM_BACKGROUND,
+    TEXTURE_COLOR,
+    CUSTOM_LAYER,
+    GLOW_VISIBLE,
+    GLOW_COLOR,
+    GLOWING,
+    FRAME_TYPE,
+    FRAME_DESIGN,
+    CUSTOM_FRAME_DESIGN,
+    OUTER_FRAME_COLOR,
+    INNER_FRAME_COLOR,
+    LED_COLOR,
+    CUSTOM_LED_COLOR,
+    USER_LED_COLOR,
+    CUSTOM_USER_LED_COLOR,
+    LCD_COLOR,
+    CUSTOM_LCD_BACKGROUND,
+    LCD_BACKGROUND_VISIBLE,
+    CUSTOM_LCD_FOREGROUND,
+    MINOR_TICKMARK_TYPE,
+    MAJOR_TICKMARK_TYPE,
+    LABEL_NUMBER_FORMAT,
+    TICKMARK_COLOR,
+    CUSTOM_TICKMARK_COLOR,
+    LABEL_COLOR,
+    TRACK_START_COLOR,
+    TRACK_SECTION_COLOR,
+    TRACK_STOP_COLOR,
+    POINTER_TYPE,
+    POINTER_COLOR,
+    POINTER_SHADOW_VISIBLE,
+    CUSTOM_POINTER_COLOR,
+    VALUE_COLOR,
+    CUSTOM_VALUE_COLOR,
+    KNOB_TYPE,
+    KNOB_STYLE,
+    POSTS_VISIBLE,
+    FOREGROUND_TYPE,
+    LCD_VALUE_FONT,
+    LCD_UNIT_FONT,
+    CUSTOM_LCD_UNIT_FONT,
+    LCD_INFO_FONT,
+    LCD_DECIMALS,
+    NICE_SCALE,
+    LOG_SCALE
+}
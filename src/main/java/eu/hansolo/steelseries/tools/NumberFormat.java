@@ -28,9 +28,15 @@
 package eu.hansolo.steelseries.tools;
 
 import java.text.DecimalFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
+ * The number formats of the tickmark labels. Each thread formats with its own
+ * copy of the DecimalFormat so no locking is needed and the formatted labels
+ * are memoized per value because the same labels will be created every time
+ * a tickmark image is rebuilt.
  * @author Gerrit Grunwald <han.solo at muenster.de>
  */
 public enum NumberFormat {
@@ -41,13 +47,48 @@ public enum NumberFormat {
     SCIENTIFIC("0.##E0"),
     PERCENTAGE("##0.0%");
 
-    private final DecimalFormat DF;
+    private static final int MAX_CACHED_LABELS = 1024;
+    private final DecimalFormat PROTOTYPE;
+    private final ThreadLocal<DecimalFormat> DF;
+    private final ConcurrentMap<Double, String> LABELS = new ConcurrentHashMap<Double, String>(64);
 
     private NumberFormat(final String FORMAT_STRING) {
-        DF = new DecimalFormat(FORMAT_STRING);
+        PROTOTYPE = new DecimalFormat(FORMAT_STRING);
+        DF = new ThreadLocal<DecimalFormat>() {
+            @Override
+            protected DecimalFormat initialValue() {
+                return (DecimalFormat) PROTOTYPE.clone();
+            }
+        };
     }
 
+    /**
+     * Returns the given value formatted in this number format
+     * @param VALUE
+     * @return the given value formatted in this number format
+     */
+    public String format(final double VALUE) {
+        final Double KEY = Double.valueOf(VALUE);
+        String label = LABELS.get(KEY);
+        if (label == null) {
+            label = DF.get().format(VALUE);
+            if (LABELS.size() >= MAX_CACHED_LABELS) {
+                LABELS.clear();
+            }
+            LABELS.put(KEY, label);
+        }
+        return label;
+    }
+
+    /**
+     * Returns the given number formatted in this number format
+     * @param NUMBER
+     * @return the given number formatted in this number format
+     */
     public String format(final Number NUMBER) {
-        return DF.format(NUMBER);
+        if (NUMBER instanceof Double || NUMBER instanceof Float) {
+            return format(NUMBER.doubleValue());
+        }
+        return DF.get().format(NUMBER);
     }
 }
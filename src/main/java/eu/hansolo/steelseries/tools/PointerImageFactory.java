@@ -47,20 +47,12 @@ import java.awt.image.BufferedImage;
 public enum PointerImageFactory {
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
-    private int radWidth = 0;
-    private PointerType radPointerType = PointerType.TYPE1;
-    private ColorDef radPointerColor = null;
-    private CustomColorDef radCustomPointerColor = new CustomColorDef(Color.RED);
-    private BackgroundColor backgroundColor = BackgroundColor.DARK_GRAY;
-    private BufferedImage radPointerImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private int radWidthShadow = 0;
-    private PointerType radPointerTypeShadow = PointerType.TYPE1;
-    private BufferedImage radPointerShadowImage = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Creates the pointer image for a centered radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -75,7 +67,7 @@ public enum PointerImageFactory {
     /**
      * Creates the pointer image for a centered radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -89,13 +81,14 @@ public enum PointerImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (radWidth == WIDTH && radPointerType == POINTER_TYPE && radPointerColor == POINTER_COLOR && radCustomPointerColor == CUSTOM_POINTER_COLOR && backgroundColor == BACKGROUND_COLOR) {
-            return radPointerImage;
+        final ImageCacheKey KEY = new ImageCacheKey("PointerImageFactory.pointer", WIDTH, POINTER_TYPE, POINTER_COLOR, CUSTOM_POINTER_COLOR, BACKGROUND_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        radPointerImage.flush();
-        radPointerImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = radPointerImage.createGraphics();
+        final BufferedImage POINTER_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = POINTER_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_DITHERING, RenderingHints.VALUE_DITHER_ENABLE);
@@ -103,8 +96,8 @@ public enum PointerImageFactory {
         //G2.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
         //G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        final int IMAGE_WIDTH = radPointerImage.getWidth();
-        final int IMAGE_HEIGHT = radPointerImage.getHeight();
+        final int IMAGE_WIDTH = POINTER_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = POINTER_IMAGE.getHeight();
 
         final GeneralPath POINTER;
         final Point2D POINTER_START;
@@ -676,20 +669,14 @@ public enum PointerImageFactory {
 
         G2.dispose();
 
-        // Cache current parameters
-        radWidth = WIDTH;
-        radPointerType = POINTER_TYPE;
-        radPointerColor = POINTER_COLOR;
-        backgroundColor = BACKGROUND_COLOR;
-        radCustomPointerColor = CUSTOM_POINTER_COLOR;
-
-        return radPointerImage;
+        // Cache current image
+        return CACHE.put(KEY, POINTER_IMAGE);
     }
 
     /**
      * Creates the pointer shadow image for a centered radial gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -701,15 +688,16 @@ public enum PointerImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (radWidthShadow == WIDTH && radPointerTypeShadow == POINTER_TYPE) {
-            return radPointerShadowImage;
+        final ImageCacheKey KEY = new ImageCacheKey("PointerImageFactory.shadow", WIDTH, POINTER_TYPE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
         final Color SHADOW_COLOR = new Color(0.0f, 0.0f, 0.0f, 0.65f);
 
-        radPointerShadowImage.flush();
-        radPointerShadowImage = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = radPointerShadowImage.createGraphics();
+        final BufferedImage POINTER_SHADOW_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = POINTER_SHADOW_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_DITHERING, RenderingHints.VALUE_DITHER_ENABLE);
@@ -717,8 +705,8 @@ public enum PointerImageFactory {
         //G2.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
         //G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        final int IMAGE_WIDTH = radPointerShadowImage.getWidth();
-        final int IMAGE_HEIGHT = radPointerShadowImage.getHeight();
+        final int IMAGE_WIDTH = POINTER_SHADOW_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = POINTER_SHADOW_IMAGE.getHeight();
 
         final GeneralPath POINTER;
 
@@ -950,11 +938,8 @@ public enum PointerImageFactory {
 
         G2.dispose();
 
-        // Cache current parameters
-        radWidthShadow = WIDTH;
-        radPointerTypeShadow = POINTER_TYPE;
-
-        return radPointerShadowImage;
+        // Cache current image
+        return CACHE.put(KEY, POINTER_SHADOW_IMAGE);
     }
 
     @Override
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A byte bounded cache for pre-rendered rotated pointer images (PointerSprites).
+ * The frames of a sprite set will be rendered on first use and the memory of all
+ * rendered frames is limited by the byte budget. If the budget is exceeded only
+ * the frames of sprite sets that have not been drawn for a while will be released,
+ * so gauges that are animated at the same time never evict each other's frames.
+ * If a frame still doesn't fit into the budget it won't be rendered and the gauge
+ * falls back to rotating the pointer image while painting.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum PointerSpriteCache {
+
+    INSTANCE;
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024L * 1024L;
+    public static final double DEFAULT_ANGLE_STEP = 0.25;
+    // Sprite sets that have not been drawn for this time could be released
+    private static final long IDLE_NANOS = 5000000000L;
+    private final Map<ImageCacheKey, PointerSprites> SPRITES = new LinkedHashMap<ImageCacheKey, PointerSprites>(16, 0.75f, true);
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private double angleStep = DEFAULT_ANGLE_STEP;
+    private long currentBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long fallbacks = 0;
+    private long evictions = 0;
+
+    /**
+     * Returns the sprite set for the given key. If there is no sprite set with
+     * the given key in the cache a new sprite set will be created which rotates
+     * the given image around the given pivot point in steps of the current angle
+     * step. The key has to contain all parameters of the image, the pivot point
+     * and the angle step.
+     * @param KEY
+     * @param IMAGE
+     * @param PIVOT
+     * @return the sprite set for the given key
+     */
+    public synchronized PointerSprites getSprites(final ImageCacheKey KEY, final BufferedImage IMAGE, final Point2D PIVOT) {
+        PointerSprites sprites = SPRITES.get(KEY);
+        if (sprites == null) {
+            sprites = new PointerSprites(KEY, IMAGE, PIVOT.getX(), PIVOT.getY(), angleStep);
+            SPRITES.put(KEY, sprites);
+        }
+        return sprites;
+    }
+
+    synchronized PointerSprites.Frame getFrame(final PointerSprites SPRITE_SET, final int INDEX) {
+        final PointerSprites.Frame FRAME = SPRITE_SET.FRAMES[INDEX];
+        if (FRAME != null) {
+            // Mark the sprite set as recently used
+            SPRITES.get(SPRITE_SET.KEY);
+            SPRITE_SET.lastUsed = System.nanoTime();
+            hits++;
+        } else {
+            misses++;
+        }
+        return FRAME;
+    }
+
+    /**
+     * Returns true if a frame with the given number of bytes fits into the byte
+     * budget. Frames of sprite sets that have not been drawn for a while will be
+     * released to make room for the new frame, the frames of sprite sets that are
+     * in use will be kept. If the frame doesn't fit it should not be rendered and
+     * the pointer image has to be rotated while painting.
+     * @param SPRITE_SET
+     * @param BYTES
+     * @return true if a frame with the given number of bytes fits into the byte budget
+     */
+    synchronized boolean hasRoomFor(final PointerSprites SPRITE_SET, final long BYTES) {
+        final long NOW = System.nanoTime();
+        SPRITE_SET.lastUsed = NOW;
+        if (currentBytes + BYTES > maxBytes) {
+            trimIdle(maxBytes - BYTES, NOW);
+        }
+        if (currentBytes + BYTES > maxBytes) {
+            fallbacks++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stores the given frame in the given sprite set if the frame fits into the
+     * byte budget.
+     * @param SPRITE_SET
+     * @param INDEX
+     * @param FRAME
+     * @return the stored frame or null if the frame didn't fit into the budget
+     */
+    synchronized PointerSprites.Frame putFrame(final PointerSprites SPRITE_SET, final int INDEX, final PointerSprites.Frame FRAME) {
+        if (SPRITE_SET.FRAMES[INDEX] != null) {
+            return SPRITE_SET.FRAMES[INDEX];
+        }
+        final long SIZE = FRAME.getBytes();
+        if (currentBytes + SIZE > maxBytes) {
+            fallbacks++;
+            return null;
+        }
+        // Register the sprite set again if it was released in the meantime
+        final PointerSprites REGISTERED = SPRITES.get(SPRITE_SET.KEY);
+        if (REGISTERED != SPRITE_SET) {
+            if (REGISTERED != null) {
+                release(REGISTERED);
+            }
+            SPRITES.put(SPRITE_SET.KEY, SPRITE_SET);
+        }
+        SPRITE_SET.FRAMES[INDEX] = FRAME;
+        SPRITE_SET.bytes += SIZE;
+        SPRITE_SET.lastUsed = System.nanoTime();
+        currentBytes += SIZE;
+        return FRAME;
+    }
+
+    /**
+     * Removes all sprite sets from the cache
+     */
+    public synchronized void invalidate() {
+        for (PointerSprites sprites : SPRITES.values()) {
+            release(sprites);
+        }
+        SPRITES.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Returns the maximum number of bytes that could be occupied by the rendered frames
+     * @return the maximum number of bytes that could be occupied by the rendered frames
+     */
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes that could be occupied by the rendered frames.
+     * A value of 0 disables the caching of frames.
+     * @param MAX_BYTES
+     */
+    public synchronized void setMaxBytes(final long MAX_BYTES) {
+        maxBytes = MAX_BYTES < 0 ? 0 : MAX_BYTES;
+        trim(maxBytes);
+    }
+
+    /**
+     * Returns the angle in degrees between two frames of a sprite set
+     * @return the angle in degrees between two frames of a sprite set
+     */
+    public synchronized double getAngleStep() {
+        return angleStep;
+    }
+
+    /**
+     * Sets the angle in degrees between two frames of new sprite sets (0.05 - 10 degrees).
+     * Existing sprite sets keep their angle step.
+     * @param ANGLE_STEP
+     */
+    public synchronized void setAngleStep(final double ANGLE_STEP) {
+        angleStep = ANGLE_STEP < 0.05 ? 0.05 : (ANGLE_STEP > 10 ? 10 : ANGLE_STEP);
+    }
+
+    /**
+     * Returns the number of bytes that are occupied by the rendered frames
+     * @return the number of bytes that are occupied by the rendered frames
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Returns the number of sprite sets in the cache
+     * @return the number of sprite sets in the cache
+     */
+    public synchronized int getSize() {
+        return SPRITES.size();
+    }
+
+    /**
+     * Returns the number of frames that could be served from the cache
+     * @return the number of frames that could be served from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of frames that had to be rendered
+     * @return the number of frames that had to be rendered
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of frames that didn't fit into the byte budget
+     * and were painted by rotating the pointer image
+     * @return the number of frames that didn't fit into the byte budget
+     */
+    public synchronized long getFallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Returns the number of sprite sets that have been released
+     * because the byte budget was exceeded or reduced
+     * @return the number of released sprite sets
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Resets the hit, miss, fallback and eviction counters
+     */
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        fallbacks = 0;
+        evictions = 0;
+    }
+
+    private void trim(final long BYTES) {
+        final Iterator<PointerSprites> ITERATOR = SPRITES.values().iterator();
+        while (currentBytes > BYTES && ITERATOR.hasNext()) {
+            release(ITERATOR.next());
+            ITERATOR.remove();
+            evictions++;
+        }
+    }
+
+    private void trimIdle(final long BYTES, final long NOW) {
+        // The sprite sets are ordered from the least to the most recently used
+        final Iterator<PointerSprites> ITERATOR = SPRITES.values().iterator();
+        while (currentBytes > BYTES && ITERATOR.hasNext()) {
+            final PointerSprites SPRITE_SET = ITERATOR.next();
+            if (NOW - SPRITE_SET.lastUsed < IDLE_NANOS) {
+                return;
+            }
+            release(SPRITE_SET);
+            ITERATOR.remove();
+            evictions++;
+        }
+    }
+
+    private void release(final PointerSprites SPRITE_SET) {
+        for (int i = 0; i < SPRITE_SET.FRAMES.length; i++) {
+            SPRITE_SET.FRAMES[i] = null;
+        }
+        currentBytes -= SPRITE_SET.bytes;
+        SPRITE_SET.bytes = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PointerSpriteCache";
+    }
+}
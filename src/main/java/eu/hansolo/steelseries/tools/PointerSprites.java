@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * Pre-rendered rotations of a pointer image. The full circle is divided into
+ * frames of the angle step of the PointerSpriteCache. Each frame contains
+ * only the rotated opaque part of the pointer image and will be rendered the
+ * first time it is needed. Instead of rotating the pointer image on every
+ * paint the frame that is nearest to the requested angle will be drawn.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class PointerSprites {
+    private static final double TWO_PI = 2.0 * Math.PI;
+    private static final PointerSpriteCache CACHE = PointerSpriteCache.INSTANCE;
+    final ImageCacheKey KEY;
+    private final BufferedImage IMAGE;
+    private final Rectangle IMAGE_BOUNDS;
+    private final double PIVOT_X;
+    private final double PIVOT_Y;
+    private final double ANGLE_STEP;
+    final Frame[] FRAMES;
+    long bytes;
+    long lastUsed;
+
+    PointerSprites(final ImageCacheKey KEY, final BufferedImage IMAGE, final double PIVOT_X, final double PIVOT_Y, final double ANGLE_STEP) {
+        this.KEY = KEY;
+        this.IMAGE = IMAGE;
+        this.IMAGE_BOUNDS = Util.INSTANCE.getOpaqueBounds(IMAGE);
+        this.PIVOT_X = PIVOT_X;
+        this.PIVOT_Y = PIVOT_Y;
+        this.ANGLE_STEP = Math.toRadians(ANGLE_STEP);
+        this.FRAMES = new Frame[(int) Math.ceil(TWO_PI / this.ANGLE_STEP)];
+        this.bytes = 0;
+        this.lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Draws the frame that is nearest to the given rotation angle. The result is the
+     * same as rotating the graphics by the given angle around the pivot point and
+     * drawing the pointer image at 0, 0.
+     * @param G2
+     * @param ANGLE in radians
+     * @return false if the frame could not be drawn because it didn't fit into the byte budget
+     */
+    public boolean draw(final Graphics2D G2, final double ANGLE) {
+        if (IMAGE_BOUNDS.isEmpty()) {
+            // Nothing visible to draw
+            return true;
+        }
+        if (Double.isNaN(ANGLE) || Double.isInfinite(ANGLE)) {
+            return false;
+        }
+        double normalizedAngle = ANGLE % TWO_PI;
+        if (normalizedAngle < 0) {
+            normalizedAngle += TWO_PI;
+        }
+        final int INDEX = (int) Math.round(normalizedAngle / ANGLE_STEP) % FRAMES.length;
+
+        Frame frame = CACHE.getFrame(this, INDEX);
+        if (frame == null) {
+            final AffineTransform ROTATION = AffineTransform.getRotateInstance(INDEX * ANGLE_STEP, PIVOT_X, PIVOT_Y);
+            final Rectangle BOUNDS = ROTATION.createTransformedShape(IMAGE_BOUNDS).getBounds();
+            // Take antialiasing of the image edges into account
+            BOUNDS.grow(1, 1);
+            // Frames that don't fit into the byte budget will not be rendered
+            if (!CACHE.hasRoomFor(this, (long) BOUNDS.width * BOUNDS.height * 4)) {
+                return false;
+            }
+            frame = CACHE.putFrame(this, INDEX, createFrame(ROTATION, BOUNDS));
+            if (frame == null) {
+                return false;
+            }
+        }
+        G2.drawImage(frame.IMAGE, frame.X, frame.Y, null);
+        return true;
+    }
+
+    /**
+     * Returns the number of frames of a full rotation
+     * @return the number of frames of a full rotation
+     */
+    public int getFrameCount() {
+        return FRAMES.length;
+    }
+
+    private Frame createFrame(final AffineTransform ROTATION, final Rectangle BOUNDS) {
+        final BufferedImage FRAME_IMAGE = new BufferedImage(BOUNDS.width, BOUNDS.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D G2 = FRAME_IMAGE.createGraphics();
+        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        G2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        G2.translate(-BOUNDS.x, -BOUNDS.y);
+        G2.transform(ROTATION);
+        G2.drawImage(IMAGE, 0, 0, null);
+        G2.dispose();
+
+        return new Frame(FRAME_IMAGE, BOUNDS.x, BOUNDS.y);
+    }
+
+    static final class Frame {
+        final BufferedImage IMAGE;
+        final int X;
+        final int Y;
+
+        Frame(final BufferedImage IMAGE, final int X, final int Y) {
+            this.IMAGE = IMAGE;
+            this.X = X;
+            this.Y = Y;
+        }
+
+        long getBytes() {
+            return (long) IMAGE.getWidth() * IMAGE.getHeight() * 4;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PointerSprites";
+    }
+}
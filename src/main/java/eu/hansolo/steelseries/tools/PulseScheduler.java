@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.Timer;
+
+
+/**
+ * A single frame synchronized pulse that drives all PulseTimers of the
+ * library (blinking leds and lcds, glow pulses, clocks etc.).
+ * Instead of hundreds of independent swing timers there is only one
+ * swing timer that wakes up when the next PulseTimer is due. The due
+ * times of the PulseTimers will be snapped to a shared grid of frames and
+ * all PulseTimers that are due in the same frame will be fired in the
+ * same event on the event dispatch thread which means that all their
+ * repaint requests will be coalesced by the RepaintManager into one
+ * repaint pass. The pulse stops itself if no PulseTimer is running.
+ * @author hansolo
+ */
+public enum PulseScheduler {
+
+    INSTANCE;
+    public static final int DEFAULT_FRAME_INTERVAL = 16;
+    private final List<PulseTimer> ACTIVE_TIMERS = new ArrayList<PulseTimer>(64);
+    private final List<PulseTimer> DUE_TIMERS = new ArrayList<PulseTimer>(64);
+    private final Timer PULSE;
+    // Start of the frame grid
+    private final long EPOCH = System.nanoTime();
+    private int frameInterval;
+    private long nextPulse;
+    private long pulseCount;
+
+    PulseScheduler() {
+        frameInterval = DEFAULT_FRAME_INTERVAL;
+        nextPulse = Long.MAX_VALUE;
+        pulseCount = 0;
+        PULSE = new Timer(frameInterval, new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent EVENT) {
+                pulse();
+            }
+        });
+        PULSE.setRepeats(false);
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Scheduling">
+    /**
+     * Registers the given timer so that it will be fired after the given delay
+     * @param TIMER
+     * @param DELAY
+     */
+    synchronized void start(final PulseTimer TIMER, final int DELAY) {
+        final long NOW = currentTime();
+        TIMER.setDue(NOW + (DELAY < 0 ? 0 : DELAY));
+        if (!TIMER.isActive()) {
+            TIMER.setActive(true);
+            ACTIVE_TIMERS.add(TIMER);
+        }
+        final long FRAME_TIME = toFrameTime(TIMER.getDue());
+        if (FRAME_TIME < nextPulse) {
+            schedulePulse(FRAME_TIME, NOW);
+        }
+    }
+
+    /**
+     * Removes the given timer from the pulse
+     * @param TIMER
+     */
+    synchronized void stop(final PulseTimer TIMER) {
+        if (!TIMER.isActive()) {
+            return;
+        }
+        TIMER.setActive(false);
+        ACTIVE_TIMERS.remove(TIMER);
+        if (ACTIVE_TIMERS.isEmpty()) {
+            PULSE.stop();
+            nextPulse = Long.MAX_VALUE;
+        }
+    }
+
+    synchronized boolean isActive(final PulseTimer TIMER) {
+        return TIMER.isActive();
+    }
+
+    /**
+     * Fires all timers that are due within the current frame.
+     * Will be called on the event dispatch thread.
+     */
+    private void pulse() {
+        synchronized (this) {
+            final long NOW = currentTime();
+            // All timers that are due in the frame of the grid that is nearest to now will be fired
+            final long FRAME_TIME = toFrameTime(NOW);
+            long earliestFrameTime = Long.MAX_VALUE;
+            DUE_TIMERS.clear();
+            for (int i = ACTIVE_TIMERS.size() - 1; i >= 0; i--) {
+                final PulseTimer TIMER = ACTIVE_TIMERS.get(i);
+                if (toFrameTime(TIMER.getDue()) <= FRAME_TIME) {
+                    DUE_TIMERS.add(TIMER);
+                    if (TIMER.isRepeats()) {
+                        // The unsnapped due time will be kept, so the period doesn't drift
+                        final long NEXT_DUE = TIMER.getDue() + Math.max(1, TIMER.getDelay());
+                        TIMER.setDue(NEXT_DUE <= NOW ? NOW + Math.max(1, TIMER.getDelay()) : NEXT_DUE);
+                    } else {
+                        TIMER.setActive(false);
+                        ACTIVE_TIMERS.remove(i);
+                        continue;
+                    }
+                }
+                earliestFrameTime = Math.min(earliestFrameTime, toFrameTime(TIMER.getDue()));
+            }
+            pulseCount++;
+            nextPulse = Long.MAX_VALUE;
+            if (!ACTIVE_TIMERS.isEmpty()) {
+                schedulePulse(earliestFrameTime, NOW);
+            }
+        }
+
+        // Fire outside of the lock because listeners may start or stop timers
+        for (int i = DUE_TIMERS.size() - 1; i >= 0; i--) {
+            DUE_TIMERS.get(i).firePulse();
+        }
+        DUE_TIMERS.clear();
+    }
+
+    private void schedulePulse(final long DUE, final long NOW) {
+        final int DELAY = (int) Math.max(0, Math.min(Integer.MAX_VALUE, DUE - NOW));
+        nextPulse = NOW + DELAY;
+        PULSE.setInitialDelay(DELAY);
+        PULSE.restart();
+    }
+
+    /**
+     * Returns the time of the frame of the frame grid that is nearest to the given time
+     * @param TIME in milliseconds
+     * @return the time of the frame of the frame grid that is nearest to the given time
+     */
+    private long toFrameTime(final long TIME) {
+        return ((TIME + frameInterval / 2) / frameInterval) * frameInterval;
+    }
+
+    private long currentTime() {
+        return (System.nanoTime() - EPOCH) / 1000000L;
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    /**
+     * Returns the duration of one frame in milliseconds
+     * @return the duration of one frame in milliseconds
+     */
+    public synchronized int getFrameInterval() {
+        return frameInterval;
+    }
+
+    /**
+     * Sets the duration of one frame in milliseconds. The due times of the
+     * timers will be snapped to a grid of frames of this duration and timers
+     * that are due in the same frame will be fired together.
+     * @param FRAME_INTERVAL
+     */
+    public synchronized void setFrameInterval(final int FRAME_INTERVAL) {
+        frameInterval = FRAME_INTERVAL < 1 ? 1 : FRAME_INTERVAL;
+    }
+
+    /**
+     * Returns the number of currently running timers
+     * @return the number of currently running timers
+     */
+    public synchronized int getActiveTimerCount() {
+        return ACTIVE_TIMERS.size();
+    }
+
+    /**
+     * Returns true if the pulse is running which means that at least
+     * one timer is running
+     * @return true if the pulse is running
+     */
+    public synchronized boolean isRunning() {
+        return !ACTIVE_TIMERS.isEmpty();
+    }
+
+    /**
+     * Returns the number of pulses since the start of the application
+     * @return the number of pulses since the start of the application
+     */
+    public synchronized long getPulseCount() {
+        return pulseCount;
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "PulseScheduler";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import javax.swing.Timer;
+
+
+/**
+ * A drop-in replacement for javax.swing.Timer that does not use it's own
+ * timer thread but will be fired by the shared PulseScheduler. The action
+ * events will be fired on the event dispatch thread with the PulseTimer as
+ * source. Delay, initial delay and repeats will be taken from the timer
+ * properties, coalescing is always done by the pulse.
+ * @author hansolo
+ */
+public class PulseTimer extends Timer {
+
+    private static final long serialVersionUID = 31271L;
+    private static final PulseScheduler SCHEDULER = PulseScheduler.INSTANCE;
+    private transient long due;
+    private transient boolean active;
+
+    public PulseTimer(final int DELAY, final ActionListener LISTENER) {
+        super(DELAY, LISTENER);
+    }
+
+    @Override
+    public void start() {
+        if (!isRunning()) {
+            SCHEDULER.start(this, getInitialDelay());
+        }
+    }
+
+    @Override
+    public void restart() {
+        SCHEDULER.start(this, getInitialDelay());
+    }
+
+    @Override
+    public void stop() {
+        SCHEDULER.stop(this);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return SCHEDULER.isActive(this);
+    }
+
+    long getDue() {
+        return due;
+    }
+
+    void setDue(final long DUE) {
+        due = DUE;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void setActive(final boolean ACTIVE) {
+        active = ACTIVE;
+    }
+
+    void firePulse() {
+        fireActionPerformed(new ActionEvent(this, ActionEvent.ACTION_PERFORMED, getActionCommand(), System.currentTimeMillis(), 0));
+    }
+}
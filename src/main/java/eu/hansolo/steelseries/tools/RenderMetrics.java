@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.swing.JComponent;
+
+
+/**
+ * Opt-in instrumentation of the rendering of all gauges, displays and extras.
+ * If enabled, the duration of every init and paint call, the repaint requests,
+ * the image cache hits and misses and the allocated images will be recorded per
+ * component and aggregated over all components. The metrics can be observed with
+ * a RenderMetricsListener or via JMX after calling registerMBean().
+ * The measurement only uses System.nanoTime() and striped counters which makes it
+ * cheap enough to stay enabled in production. If disabled, each hook costs one
+ * volatile read.
+ * The instrumentation can also be enabled at startup with the system property
+ * -Dsteelseries.renderMetrics=true
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum RenderMetrics implements RenderMetricsMBean {
+
+    INSTANCE;
+    public static final String OBJECT_NAME = "eu.hansolo.steelseries:type=RenderMetrics";
+    private static final int MAX_SLOWEST_COMPONENTS = 10;
+    private static final int COMPONENT_STRIPES = 2;
+    private static final int TOTAL_STRIPES = 16;
+    private static final String STATISTICS_KEY = "RenderMetrics.statistics";
+    private final Map<JComponent, RenderStatistics> STATISTICS = new WeakHashMap<JComponent, RenderStatistics>();
+    private final RenderStatistics TOTAL = new RenderStatistics("Total", TOTAL_STRIPES);
+    private final ThreadLocal<Measurement> CURRENT = new ThreadLocal<Measurement>();
+    private final List<RenderMetricsListener> LISTENERS = new CopyOnWriteArrayList<RenderMetricsListener>();
+    private volatile boolean enabled = Boolean.getBoolean("steelseries.renderMetrics");
+
+    // <editor-fold defaultstate="collapsed" desc="Recording">
+    /**
+     * Starts the measurement of an init or paint call of the given component.
+     * Cache hits and image allocations of the current thread will be attributed
+     * to the given component until endInit() or endPaint() will be called.
+     * Measurements could be nested (e.g. a deferred init within a paint call),
+     * the time of the inner call will not be counted for the outer call.
+     * @param COMPONENT
+     * @return the start time in nanoseconds or 0 if the metrics are disabled
+     */
+    public long begin(final JComponent COMPONENT) {
+        if (!enabled) {
+            return 0;
+        }
+        final RenderStatistics STATS = statisticsOf(COMPONENT);
+        final long START = System.nanoTime();
+        CURRENT.set(new Measurement(STATS, START, CURRENT.get()));
+        return START;
+    }
+
+    /**
+     * Finishes the measurement of an init call that has been started with begin()
+     * @param COMPONENT
+     * @param START the value that has been returned by begin()
+     */
+    public void endInit(final JComponent COMPONENT, final long START) {
+        if (START == 0) {
+            return;
+        }
+        final long NANOS = finish(START);
+        statisticsOf(COMPONENT).recordInit(NANOS);
+        TOTAL.recordInit(NANOS);
+        for (RenderMetricsListener listener : LISTENERS) {
+            listener.initMeasured(COMPONENT, NANOS);
+        }
+    }
+
+    /**
+     * Finishes the measurement of a paint call that has been started with begin()
+     * @param COMPONENT
+     * @param START the value that has been returned by begin()
+     */
+    public void endPaint(final JComponent COMPONENT, final long START) {
+        if (START == 0) {
+            return;
+        }
+        final long NANOS = finish(START);
+        statisticsOf(COMPONENT).recordPaint(NANOS);
+        TOTAL.recordPaint(NANOS);
+        for (RenderMetricsListener listener : LISTENERS) {
+            listener.paintMeasured(COMPONENT, NANOS);
+        }
+    }
+
+    /**
+     * Finishes the measurement that has been started at the given time and
+     * continues the measurement of the outer call on the current thread
+     * @param START
+     * @return the nanoseconds of the measurement without the nested measurements
+     */
+    private long finish(final long START) {
+        final long NANOS = System.nanoTime() - START;
+        Measurement measurement = CURRENT.get();
+        // Skips the measurements of nested calls that have been left by an exception
+        while (measurement != null && measurement.START != START) {
+            measurement = measurement.OUTER;
+        }
+        if (measurement == null) {
+            return NANOS;
+        }
+        if (measurement.OUTER == null) {
+            CURRENT.remove();
+        } else {
+            measurement.OUTER.nestedNanos += NANOS;
+            CURRENT.set(measurement.OUTER);
+        }
+        return NANOS - measurement.nestedNanos;
+    }
+
+    /**
+     * Records a repaint request of the given component
+     * @param COMPONENT
+     */
+    public void recordRepaintRequest(final JComponent COMPONENT) {
+        if (!enabled) {
+            return;
+        }
+        statisticsOf(COMPONENT).recordRepaintRequest();
+        TOTAL.recordRepaintRequest();
+    }
+
+    void recordCacheHit() {
+        if (!enabled) {
+            return;
+        }
+        final Measurement MEASUREMENT = CURRENT.get();
+        if (MEASUREMENT != null) {
+            MEASUREMENT.STATS.recordCacheHit();
+        }
+        TOTAL.recordCacheHit();
+    }
+
+    void recordCacheMiss() {
+        if (!enabled) {
+            return;
+        }
+        final Measurement MEASUREMENT = CURRENT.get();
+        if (MEASUREMENT != null) {
+            MEASUREMENT.STATS.recordCacheMiss();
+        }
+        TOTAL.recordCacheMiss();
+    }
+
+    void recordImage(final int WIDTH, final int HEIGHT) {
+        if (!enabled) {
+            return;
+        }
+        final long BYTES = 4L * WIDTH * HEIGHT;
+        final Measurement MEASUREMENT = CURRENT.get();
+        if (MEASUREMENT != null) {
+            MEASUREMENT.STATS.recordImage(BYTES);
+        }
+        TOTAL.recordImage(BYTES);
+    }
+
+    private RenderStatistics statisticsOf(final JComponent COMPONENT) {
+        // The statistics are cached in the component itself, so only the first call takes the global lock
+        final Object CACHED = COMPONENT.getClientProperty(STATISTICS_KEY);
+        if (CACHED instanceof RenderStatistics) {
+            return (RenderStatistics) CACHED;
+        }
+        RenderStatistics statistics;
+        synchronized (STATISTICS) {
+            statistics = STATISTICS.get(COMPONENT);
+            if (statistics == null) {
+                statistics = new RenderStatistics(nameOf(COMPONENT), COMPONENT_STRIPES);
+                STATISTICS.put(COMPONENT, statistics);
+            }
+        }
+        COMPONENT.putClientProperty(STATISTICS_KEY, statistics);
+        return statistics;
+    }
+
+    private static String nameOf(final JComponent COMPONENT) {
+        final String NAME = COMPONENT.getName();
+        return COMPONENT.getClass().getSimpleName() + (NAME == null ? "@" + Integer.toHexString(System.identityHashCode(COMPONENT)) : "[" + NAME + "]");
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    /**
+     * Returns true if the render metrics will be recorded
+     * @return true if the render metrics will be recorded
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables / disables the recording of the render metrics
+     * @param ENABLED
+     */
+    @Override
+    public void setEnabled(final boolean ENABLED) {
+        enabled = ENABLED;
+    }
+
+    /**
+     * Returns the statistics of the given component or null if
+     * nothing has been recorded for the given component
+     * @param COMPONENT
+     * @return the statistics of the given component or null
+     */
+    public RenderStatistics getStatistics(final JComponent COMPONENT) {
+        synchronized (STATISTICS) {
+            return STATISTICS.get(COMPONENT);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all components that are still alive
+     * @return a snapshot of the statistics of all components that are still alive
+     */
+    public List<RenderStatistics> getComponentStatistics() {
+        synchronized (STATISTICS) {
+            return new ArrayList<RenderStatistics>(STATISTICS.values());
+        }
+    }
+
+    /**
+     * Returns the statistics that are aggregated over all components
+     * @return the statistics that are aggregated over all components
+     */
+    public RenderStatistics getTotal() {
+        return TOTAL;
+    }
+
+    @Override
+    public int getComponentCount() {
+        synchronized (STATISTICS) {
+            return STATISTICS.size();
+        }
+    }
+
+    @Override
+    public long getInitCount() {
+        return TOTAL.getInitCount();
+    }
+
+    @Override
+    public double getAverageInitMillis() {
+        return TOTAL.getAverageInitMillis();
+    }
+
+    @Override
+    public double getMaxInitMillis() {
+        return TOTAL.getMaxInitMillis();
+    }
+
+    @Override
+    public long getPaintCount() {
+        return TOTAL.getPaintCount();
+    }
+
+    @Override
+    public double getAveragePaintMillis() {
+        return TOTAL.getAveragePaintMillis();
+    }
+
+    @Override
+    public double getMaxPaintMillis() {
+        return TOTAL.getMaxPaintMillis();
+    }
+
+    @Override
+    public long getRepaintRequests() {
+        return TOTAL.getRepaintRequests();
+    }
+
+    @Override
+    public long getCoalescedRepaints() {
+        return TOTAL.getCoalescedRepaints();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return TOTAL.getCacheHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return TOTAL.getCacheMisses();
+    }
+
+    @Override
+    public long getImagesAllocated() {
+        return TOTAL.getImagesAllocated();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return TOTAL.getAllocatedBytes();
+    }
+
+    /**
+     * Returns the statistics of the components that spent the most time
+     * in painting and initialization, the slowest component first
+     * @return the statistics of the slowest components
+     */
+    @Override
+    public String[] getSlowestComponents() {
+        final List<RenderStatistics> COMPONENTS = getComponentStatistics();
+        Collections.sort(COMPONENTS, new Comparator<RenderStatistics>() {
+            @Override
+            public int compare(final RenderStatistics STATS1, final RenderStatistics STATS2) {
+                return Double.compare(STATS2.getTotalPaintMillis() + STATS2.getTotalInitMillis(), STATS1.getTotalPaintMillis() + STATS1.getTotalInitMillis());
+            }
+        });
+        final int COUNT = Math.min(MAX_SLOWEST_COMPONENTS, COMPONENTS.size());
+        final String[] SLOWEST = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            SLOWEST[i] = COMPONENTS.get(i).toString();
+        }
+        return SLOWEST;
+    }
+
+    /**
+     * Resets the statistics of all components and the aggregated statistics
+     */
+    @Override
+    public void reset() {
+        synchronized (STATISTICS) {
+            for (RenderStatistics statistics : STATISTICS.values()) {
+                statistics.reset();
+            }
+        }
+        TOTAL.reset();
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Listener and JMX">
+    /**
+     * Adds the given listener that will be informed about every measured init and paint call
+     * @param LISTENER
+     */
+    public void addRenderMetricsListener(final RenderMetricsListener LISTENER) {
+        LISTENERS.add(LISTENER);
+    }
+
+    /**
+     * Removes the given listener
+     * @param LISTENER
+     */
+    public void removeRenderMetricsListener(final RenderMetricsListener LISTENER) {
+        LISTENERS.remove(LISTENER);
+    }
+
+    /**
+     * Registers the render metrics in the platform MBean server. Registering the
+     * metrics does not enable them, this could be done via JMX or setEnabled().
+     */
+    public synchronized void registerMBean() {
+        try {
+            final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName NAME = new ObjectName(OBJECT_NAME);
+            if (!SERVER.isRegistered(NAME)) {
+                SERVER.registerMBean(new StandardMBean(this, RenderMetricsMBean.class), NAME);
+            }
+        } catch (JMException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Removes the render metrics from the platform MBean server
+     */
+    public synchronized void unregisterMBean() {
+        try {
+            final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName NAME = new ObjectName(OBJECT_NAME);
+            if (SERVER.isRegistered(NAME)) {
+                SERVER.unregisterMBean(NAME);
+            }
+        } catch (JMException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "RenderMetrics";
+    }
+
+    /**
+     * A running measurement of the current thread that is linked to the
+     * measurement of the call it is nested in
+     */
+    private static final class Measurement {
+        private final RenderStatistics STATS;
+        private final long START;
+        private final Measurement OUTER;
+        private long nestedNanos;
+
+        Measurement(final RenderStatistics STATS, final long START, final Measurement OUTER) {
+            this.STATS = STATS;
+            this.START = START;
+            this.OUTER = OUTER;
+        }
+    }
+}
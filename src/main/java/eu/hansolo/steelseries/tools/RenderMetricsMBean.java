@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+
+/**
+ * The management interface of the RenderMetrics that will be registered
+ * in the platform MBean server under the name
+ * eu.hansolo.steelseries:type=RenderMetrics
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public interface RenderMetricsMBean {
+
+    boolean isEnabled();
+
+    void setEnabled(final boolean ENABLED);
+
+    int getComponentCount();
+
+    long getInitCount();
+
+    double getAverageInitMillis();
+
+    double getMaxInitMillis();
+
+    long getPaintCount();
+
+    double getAveragePaintMillis();
+
+    double getMaxPaintMillis();
+
+    long getRepaintRequests();
+
+    long getCoalescedRepaints();
+
+    long getCacheHits();
+
+    long getCacheMisses();
+
+    long getImagesAllocated();
+
+    long getAllocatedBytes();
+
+    String[] getSlowestComponents();
+
+    void reset();
+}
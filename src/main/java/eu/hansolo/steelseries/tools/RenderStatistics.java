@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.Locale;
+
+
+/**
+ * The render statistics of one component or the aggregated statistics
+ * of all components that are measured by the RenderMetrics.
+ * All values are recorded with striped counters and can be read at any time.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class RenderStatistics {
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+    private final String NAME;
+    private final StripedCounter INIT_COUNT;
+    private final StripedCounter INIT_NANOS;
+    private final StripedCounter INIT_MAX_NANOS;
+    private final StripedCounter PAINT_COUNT;
+    private final StripedCounter PAINT_NANOS;
+    private final StripedCounter PAINT_MAX_NANOS;
+    private final StripedCounter REPAINT_REQUESTS;
+    private final StripedCounter CACHE_HITS;
+    private final StripedCounter CACHE_MISSES;
+    private final StripedCounter IMAGES_ALLOCATED;
+    private final StripedCounter ALLOCATED_BYTES;
+
+    RenderStatistics(final String NAME, final int STRIPES) {
+        this.NAME = NAME;
+        INIT_COUNT = new StripedCounter(STRIPES);
+        INIT_NANOS = new StripedCounter(STRIPES);
+        INIT_MAX_NANOS = new StripedCounter(STRIPES);
+        PAINT_COUNT = new StripedCounter(STRIPES);
+        PAINT_NANOS = new StripedCounter(STRIPES);
+        PAINT_MAX_NANOS = new StripedCounter(STRIPES);
+        REPAINT_REQUESTS = new StripedCounter(STRIPES);
+        CACHE_HITS = new StripedCounter(STRIPES);
+        CACHE_MISSES = new StripedCounter(STRIPES);
+        IMAGES_ALLOCATED = new StripedCounter(STRIPES);
+        ALLOCATED_BYTES = new StripedCounter(STRIPES);
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Recording">
+    void recordInit(final long NANOS) {
+        INIT_COUNT.increment();
+        INIT_NANOS.add(NANOS);
+        INIT_MAX_NANOS.updateMax(NANOS);
+    }
+
+    void recordPaint(final long NANOS) {
+        PAINT_COUNT.increment();
+        PAINT_NANOS.add(NANOS);
+        PAINT_MAX_NANOS.updateMax(NANOS);
+    }
+
+    void recordRepaintRequest() {
+        REPAINT_REQUESTS.increment();
+    }
+
+    void recordCacheHit() {
+        CACHE_HITS.increment();
+    }
+
+    void recordCacheMiss() {
+        CACHE_MISSES.increment();
+    }
+
+    void recordImage(final long BYTES) {
+        IMAGES_ALLOCATED.increment();
+        ALLOCATED_BYTES.add(BYTES);
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Getter">
+    /**
+     * Returns the name of the measured component
+     * @return the name of the measured component
+     */
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the number of measured initializations
+     * @return the number of measured initializations
+     */
+    public long getInitCount() {
+        return INIT_COUNT.sum();
+    }
+
+    /**
+     * Returns the average duration of one initialization in milliseconds
+     * @return the average duration of one initialization in milliseconds
+     */
+    public double getAverageInitMillis() {
+        final long COUNT = INIT_COUNT.sum();
+        return COUNT == 0 ? 0 : INIT_NANOS.sum() / NANOS_PER_MILLI / COUNT;
+    }
+
+    /**
+     * Returns the longest measured initialization in milliseconds
+     * @return the longest measured initialization in milliseconds
+     */
+    public double getMaxInitMillis() {
+        return INIT_MAX_NANOS.max() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the sum of all measured initializations in milliseconds
+     * @return the sum of all measured initializations in milliseconds
+     */
+    public double getTotalInitMillis() {
+        return INIT_NANOS.sum() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of measured paint calls
+     * @return the number of measured paint calls
+     */
+    public long getPaintCount() {
+        return PAINT_COUNT.sum();
+    }
+
+    /**
+     * Returns the average duration of one paint call in milliseconds
+     * @return the average duration of one paint call in milliseconds
+     */
+    public double getAveragePaintMillis() {
+        final long COUNT = PAINT_COUNT.sum();
+        return COUNT == 0 ? 0 : PAINT_NANOS.sum() / NANOS_PER_MILLI / COUNT;
+    }
+
+    /**
+     * Returns the longest measured paint call in milliseconds
+     * @return the longest measured paint call in milliseconds
+     */
+    public double getMaxPaintMillis() {
+        return PAINT_MAX_NANOS.max() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the sum of all measured paint calls in milliseconds
+     * @return the sum of all measured paint calls in milliseconds
+     */
+    public double getTotalPaintMillis() {
+        return PAINT_NANOS.sum() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of repaint requests
+     * @return the number of repaint requests
+     */
+    public long getRepaintRequests() {
+        return REPAINT_REQUESTS.sum();
+    }
+
+    /**
+     * Returns the number of repaint requests that have been coalesced by the
+     * RepaintManager, which means that they did not lead to an own paint call
+     * @return the number of repaint requests that have been coalesced
+     */
+    public long getCoalescedRepaints() {
+        return Math.max(0, REPAINT_REQUESTS.sum() - PAINT_COUNT.sum());
+    }
+
+    /**
+     * Returns the number of images that have been found in the image cache
+     * @return the number of images that have been found in the image cache
+     */
+    public long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns the number of images that have not been found in the image cache
+     * @return the number of images that have not been found in the image cache
+     */
+    public long getCacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
+    /**
+     * Returns the number of images that have been allocated
+     * @return the number of images that have been allocated
+     */
+    public long getImagesAllocated() {
+        return IMAGES_ALLOCATED.sum();
+    }
+
+    /**
+     * Returns the number of bytes of all images that have been allocated
+     * @return the number of bytes of all images that have been allocated
+     */
+    public long getAllocatedBytes() {
+        return ALLOCATED_BYTES.sum();
+    }
+    // </editor-fold>
+
+    /**
+     * Resets all values
+     */
+    public void reset() {
+        INIT_COUNT.reset();
+        INIT_NANOS.reset();
+        INIT_MAX_NANOS.reset();
+        PAINT_COUNT.reset();
+        PAINT_NANOS.reset();
+        PAINT_MAX_NANOS.reset();
+        REPAINT_REQUESTS.reset();
+        CACHE_HITS.reset();
+        CACHE_MISSES.reset();
+        IMAGES_ALLOCATED.reset();
+        ALLOCATED_BYTES.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%s[init=%d (avg %.2fms, max %.2fms), paint=%d (avg %.2fms, max %.2fms), repaints=%d (coalesced %d), cache=%d/%d, images=%d (%d bytes)]",
+                             NAME, getInitCount(), getAverageInitMillis(), getMaxInitMillis(), getPaintCount(), getAveragePaintMillis(), getMaxPaintMillis(),
+                             getRepaintRequests(), getCoalescedRepaints(), getCacheHits(), getCacheMisses(), getImagesAllocated(), getAllocatedBytes());
+    }
+}
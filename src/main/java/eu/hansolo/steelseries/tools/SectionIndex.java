@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Immutable interval index over a list of sections.
+ * The start and stop values of the sections are sorted into elementary
+ * intervals, so that the section at a given value and the sections that
+ * overlap a given range could be found in O(log n) instead of walking
+ * the whole list. Like Section.contains() the intervals are closed and
+ * compared with Double.compare(). If several sections contain a value,
+ * the one that comes first in the list will be returned.
+ * The start and stop values are copied when the index is created, so it
+ * has to be recreated whenever a section changes.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public final class SectionIndex {
+    public static final SectionIndex EMPTY = new SectionIndex(Collections.<Section>emptyList());
+    private final Section[] SECTIONS;
+    // Sorted distinct start and stop values of all sections
+    private final double[] BOUNDS;
+    // Index of the first section in each elementary interval. The slot 2 * i + 1 is the
+    // value BOUNDS[i], the slot 2 * i is the open interval between BOUNDS[i - 1] and BOUNDS[i]
+    private final int[] SLOTS;
+    // Indices of the sections sorted by their start values
+    private final int[] BY_START;
+    private final double[] STARTS;
+    // Implicit binary tree that stores the maximum stop value of the sections in BY_START
+    private final double[] MAX_STOPS;
+    private final int LEAF_OFFSET;
+
+    /**
+     * Creates a new index of the given sections in the given order
+     * @param SECTIONS
+     */
+    public SectionIndex(final List<Section> SECTIONS) {
+        this.SECTIONS = SECTIONS.toArray(new Section[SECTIONS.size()]);
+        final int SIZE = this.SECTIONS.length;
+        final double[] SECTION_STARTS = new double[SIZE];
+        final double[] SECTION_STOPS = new double[SIZE];
+        final double[] ALL_BOUNDS = new double[SIZE * 2];
+        int validCount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            SECTION_STARTS[i] = this.SECTIONS[i].getStart();
+            SECTION_STOPS[i] = this.SECTIONS[i].getStop();
+            if (isValid(SECTION_STARTS[i], SECTION_STOPS[i])) {
+                ALL_BOUNDS[validCount * 2] = SECTION_STARTS[i];
+                ALL_BOUNDS[validCount * 2 + 1] = SECTION_STOPS[i];
+                validCount++;
+            }
+        }
+
+        // Sorted distinct bounds
+        Arrays.sort(ALL_BOUNDS, 0, validCount * 2);
+        int boundCount = 0;
+        for (int i = 0; i < validCount * 2; i++) {
+            if (boundCount == 0 || Double.compare(ALL_BOUNDS[boundCount - 1], ALL_BOUNDS[i]) != 0) {
+                ALL_BOUNDS[boundCount++] = ALL_BOUNDS[i];
+            }
+        }
+        BOUNDS = Arrays.copyOf(ALL_BOUNDS, boundCount);
+
+        // First section of each elementary interval
+        SLOTS = new int[boundCount * 2 + 1];
+        Arrays.fill(SLOTS, -1);
+        for (int i = 0; i < SIZE; i++) {
+            if (!isValid(SECTION_STARTS[i], SECTION_STOPS[i])) {
+                continue;
+            }
+            final int LAST_SLOT = getSlot(SECTION_STOPS[i]);
+            for (int slot = getSlot(SECTION_STARTS[i]); slot <= LAST_SLOT; slot++) {
+                if (SLOTS[slot] == -1) {
+                    SLOTS[slot] = i;
+                }
+            }
+        }
+
+        // Sections sorted by start for the range queries
+        final Integer[] ORDER = new Integer[validCount];
+        for (int i = 0, j = 0; i < SIZE; i++) {
+            if (isValid(SECTION_STARTS[i], SECTION_STOPS[i])) {
+                ORDER[j++] = i;
+            }
+        }
+        Arrays.sort(ORDER, new java.util.Comparator<Integer>() {
+            @Override
+            public int compare(final Integer INDEX_1, final Integer INDEX_2) {
+                final int RESULT = Double.compare(SECTION_STARTS[INDEX_1], SECTION_STARTS[INDEX_2]);
+                return RESULT != 0 ? RESULT : INDEX_1.compareTo(INDEX_2);
+            }
+        });
+        BY_START = new int[validCount];
+        STARTS = new double[validCount];
+        int leafOffset = 1;
+        while (leafOffset < validCount) {
+            leafOffset <<= 1;
+        }
+        LEAF_OFFSET = leafOffset;
+        MAX_STOPS = new double[LEAF_OFFSET * 2];
+        Arrays.fill(MAX_STOPS, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < validCount; i++) {
+            BY_START[i] = ORDER[i];
+            STARTS[i] = SECTION_STARTS[ORDER[i]];
+            MAX_STOPS[LEAF_OFFSET + i] = SECTION_STOPS[ORDER[i]];
+        }
+        for (int node = LEAF_OFFSET - 1; node > 0; node--) {
+            MAX_STOPS[node] = Double.compare(MAX_STOPS[node * 2], MAX_STOPS[node * 2 + 1]) >= 0 ? MAX_STOPS[node * 2] : MAX_STOPS[node * 2 + 1];
+        }
+    }
+
+    /**
+     * Returns the first section that contains the given value or null
+     * @param VALUE
+     * @return the first section that contains the given value or null
+     */
+    public Section getSectionAt(final double VALUE) {
+        final int INDEX = indexOf(VALUE);
+        return INDEX == -1 ? null : SECTIONS[INDEX];
+    }
+
+    /**
+     * Returns the position of the first section that contains the given value
+     * in the list of sections or -1 if no section contains the value
+     * @param VALUE
+     * @return the position of the first section that contains the given value or -1
+     */
+    public int indexOf(final double VALUE) {
+        return SLOTS[getSlot(VALUE)];
+    }
+
+    /**
+     * Returns all sections that overlap the range from FROM to TO in the
+     * order of the list of sections
+     * @param FROM
+     * @param TO
+     * @return all sections that overlap the given range
+     */
+    public List<Section> getSections(final double FROM, final double TO) {
+        if (!isValid(FROM, TO) || BY_START.length == 0) {
+            return Collections.emptyList();
+        }
+        // Only the sections that start before the end of the range could overlap it
+        int low = 0;
+        int high = STARTS.length;
+        while (low < high) {
+            final int MID = (low + high) >>> 1;
+            if (Double.compare(STARTS[MID], TO) <= 0) {
+                low = MID + 1;
+            } else {
+                high = MID;
+            }
+        }
+        final int[] FOUND = new int[low];
+        final int FOUND_COUNT = collect(1, 0, LEAF_OFFSET, low, FROM, FOUND, 0);
+        Arrays.sort(FOUND, 0, FOUND_COUNT);
+        final List<Section> RESULT = new ArrayList<Section>(FOUND_COUNT);
+        for (int i = 0; i < FOUND_COUNT; i++) {
+            RESULT.add(SECTIONS[FOUND[i]]);
+        }
+        return RESULT;
+    }
+
+    /**
+     * Returns the number of sections in the index
+     * @return the number of sections in the index
+     */
+    public int size() {
+        return SECTIONS.length;
+    }
+
+    /**
+     * Returns true if the index contains no sections
+     * @return true if the index contains no sections
+     */
+    public boolean isEmpty() {
+        return SECTIONS.length == 0;
+    }
+
+    private int collect(final int NODE, final int LOW, final int HIGH, final int END, final double FROM, final int[] FOUND, final int COUNT) {
+        if (LOW >= END || Double.compare(MAX_STOPS[NODE], FROM) < 0) {
+            return COUNT;
+        }
+        if (NODE >= LEAF_OFFSET) {
+            FOUND[COUNT] = BY_START[NODE - LEAF_OFFSET];
+            return COUNT + 1;
+        }
+        final int MID = (LOW + HIGH) >>> 1;
+        final int LEFT_COUNT = collect(NODE * 2, LOW, MID, END, FROM, FOUND, COUNT);
+        return collect(NODE * 2 + 1, MID, HIGH, END, FROM, FOUND, LEFT_COUNT);
+    }
+
+    private int getSlot(final double VALUE) {
+        final int POSITION = Arrays.binarySearch(BOUNDS, VALUE);
+        return POSITION >= 0 ? POSITION * 2 + 1 : (-POSITION - 1) * 2;
+    }
+
+    private static boolean isValid(final double START, final double STOP) {
+        return Double.compare(START, STOP) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SectionIndex";
+    }
+}
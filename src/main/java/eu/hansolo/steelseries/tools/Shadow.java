@@ -39,8 +39,10 @@ import java.awt.Stroke;
 import java.awt.image.BufferedImage;
 import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
 import java.awt.image.Raster;
 import java.awt.image.WritableRaster;
+import java.util.Arrays;
 
 
 /**
@@ -53,6 +55,9 @@ public enum Shadow {
 
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
+    private final BlurEngine BLUR_ENGINE = BlurEngine.INSTANCE;
+    private static final int NO_PAINT = -1;
+    private static final int UNKNOWN_ALPHA = -2;
 
     /**
      * <p>Return a new compatible image that contains the given shape
@@ -134,7 +139,7 @@ public enum Shadow {
         final float TRANSLATE_Y = (float) (DISTANCE * Math.sin(Math.toRadians(360 - ANGLE)));
 
         final BufferedImage SHAPE_IMAGE = createImageFromShape(SHAPE, PAINT, COLOR, FILLED, STROKE, STROKE_COLOR);
-        final BufferedImage SHADOW_IMAGE = renderDropShadow(SHAPE_IMAGE, SOFTNESS, ALPHA, SHADOW_COLOR);
+        final BufferedImage SHADOW_IMAGE = BLUR_ENGINE.createShadow(SHAPE_IMAGE, SOFTNESS, ALPHA, SHADOW_COLOR, getMaskId(SHAPE, PAINT, COLOR, FILLED, STROKE, STROKE_COLOR));
 
         final BufferedImage RESULT = new BufferedImage(SHADOW_IMAGE.getWidth(), SHADOW_IMAGE.getHeight(), BufferedImage.TYPE_INT_ARGB);
 
@@ -339,151 +344,7 @@ public enum Shadow {
      * @return the picture containing the shadow of <code>image</code>
      */
     public BufferedImage renderDropShadow(final BufferedImage IMAGE, final int SOFTNESS, final float ALPHA, final Color SHADOW_COLOR) {
-        // Written by Sesbastien Petrucci
-        final int SHADOW_SIZE = SOFTNESS * 2;
-
-        final int SRC_WIDTH = IMAGE.getWidth();
-        final int SRC_HEIGHT = IMAGE.getHeight();
-
-        final int DST_WIDTH = SRC_WIDTH + SHADOW_SIZE;
-        final int DST_HEIGHT = SRC_HEIGHT + SHADOW_SIZE;
-
-        final int LEFT = SOFTNESS;
-        final int RIGHT = SHADOW_SIZE - LEFT;
-
-        final int Y_STOP = DST_HEIGHT - RIGHT;
-
-        final int SHADOW_RGB = SHADOW_COLOR.getRGB() & 0x00FFFFFF;
-        int[] aHistory = new int[SHADOW_SIZE];
-        int historyIdx;
-
-        int aSum;
-
-        final BufferedImage DST = new BufferedImage(DST_WIDTH, DST_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-
-        int[] dstBuffer = new int[DST_WIDTH * DST_HEIGHT];
-        int[] srcBuffer = new int[SRC_WIDTH * SRC_HEIGHT];
-
-        getPixels(IMAGE, 0, 0, SRC_WIDTH, SRC_HEIGHT, srcBuffer);
-
-        final int LAST_PIXEL_OFFSET = RIGHT * DST_WIDTH;
-        final float H_SUM_DIVIDER = 1.0f / SHADOW_SIZE;
-        final float V_SUM_DIVIDER = ALPHA / SHADOW_SIZE;
-
-        int max;
-
-        int[] hSumLookup = new int[256 * SHADOW_SIZE];
-        max = hSumLookup.length;
-
-        for (int i = 0; i < max; i++) {
-            hSumLookup[i] = (int) (i * H_SUM_DIVIDER);
-        }
-
-        int[] vSumLookup = new int[256 * SHADOW_SIZE];
-        max = vSumLookup.length;
-        for (int i = 0; i < max; i++) {
-            vSumLookup[i] = (int) (i * V_SUM_DIVIDER);
-        }
-
-        int srcOffset;
-
-        // horizontal pass  extract the alpha mask from the source picture and
-        // blur it into the destination picture
-        for (int srcY = 0, dstOffset = LEFT * DST_WIDTH; srcY < SRC_HEIGHT; srcY++) {
-            // first pixels are empty
-            for (historyIdx = 0; historyIdx < SHADOW_SIZE;) {
-                aHistory[historyIdx++] = 0;
-            }
-
-            aSum = 0;
-            historyIdx = 0;
-            srcOffset = srcY * SRC_WIDTH;
-
-            // compute the blur average with pixels from the source image
-            for (int srcX = 0; srcX < SRC_WIDTH; srcX++) {
-                int a = hSumLookup[aSum];
-                dstBuffer[dstOffset++] = a << 24; // store the alpha value only
-                // the shadow color will be added in the next pass
-
-                aSum -= aHistory[historyIdx]; // substract the oldest pixel from the sum
-
-                // extract the new pixel ...
-                a = srcBuffer[srcOffset + srcX] >>> 24;
-                aHistory[historyIdx] = a; // ... and store its value into history
-                aSum += a; // ... and add its value to the sum
-
-                if (++historyIdx >= SHADOW_SIZE) {
-                    historyIdx -= SHADOW_SIZE;
-                }
-            }
-
-            // blur the end of the row - no new pixels to grab
-            for (int i = 0; i < SHADOW_SIZE; i++) {
-                final int A = hSumLookup[aSum];
-                dstBuffer[dstOffset++] = A << 24;
-
-                // substract the oldest pixel from the sum ... and nothing new to add !
-                aSum -= aHistory[historyIdx];
-
-                if (++historyIdx >= SHADOW_SIZE) {
-                    historyIdx -= SHADOW_SIZE;
-                }
-            }
-        }
-
-        // vertical pass
-        for (int x = 0, bufferOffset = 0; x < DST_WIDTH; x++, bufferOffset = x) {
-            aSum = 0;
-
-            // first pixels are empty
-            for (historyIdx = 0; historyIdx < LEFT;) {
-                aHistory[historyIdx++] = 0;
-            }
-
-            // and then they come from the dstBuffer
-            for (int y = 0; y < RIGHT; y++, bufferOffset += DST_WIDTH) {
-                final int A = dstBuffer[bufferOffset] >>> 24; // extract alpha
-                aHistory[historyIdx++] = A; // store into history
-                aSum += A; // and add to sum
-            }
-
-            bufferOffset = x;
-            historyIdx = 0;
-
-            // compute the blur avera`ge with pixels from the previous pass
-            for (int y = 0; y < Y_STOP; y++, bufferOffset += DST_WIDTH) {
-
-                int a = vSumLookup[aSum];
-                dstBuffer[bufferOffset] = a << 24 | SHADOW_RGB; // store alpha value + shadow color
-
-                aSum -= aHistory[historyIdx]; // substract the oldest pixel from the sum
-
-                a = dstBuffer[bufferOffset + LAST_PIXEL_OFFSET] >>> 24; // extract the new pixel ...
-                aHistory[historyIdx] = a; // ... and store its value into history
-                aSum += a; // ... and add its value to the sum
-
-                if (++historyIdx >= SHADOW_SIZE) {
-                    historyIdx -= SHADOW_SIZE;
-                }
-            }
-
-            // blur the end of the column - no pixels to grab anymore
-            for (int y = Y_STOP; y < DST_HEIGHT; y++, bufferOffset += DST_WIDTH) {
-
-                final int A = vSumLookup[aSum];
-                dstBuffer[bufferOffset] = A << 24 | SHADOW_RGB;
-
-                aSum -= aHistory[historyIdx]; // substract the oldest pixel from the sum
-
-                if (++historyIdx >= SHADOW_SIZE) {
-                    historyIdx -= SHADOW_SIZE;
-                }
-            }
-        }
-
-        setPixels(DST, 0, 0, DST_WIDTH, DST_HEIGHT, dstBuffer);
-
-        return DST;
+        return BLUR_ENGINE.createShadow(IMAGE, SOFTNESS, ALPHA, SHADOW_COLOR);
     }
 
     /**
@@ -657,4 +518,76 @@ public enum Shadow {
 
         G2.setPaint(OLD_PAINT);
     }
+
+    /**
+     * Returns an immutable id for the alpha channel of the image that createImageFromShape()
+     * creates with the given parameters. Only the geometry of the shape and the alpha
+     * of the paints have an influence on the alpha channel. If the alpha of a paint is
+     * not known (e.g. a translucent gradient) or a custom stroke is used, null will be
+     * returned which means that the shadow of the shape can not be cached.
+     * @param SHAPE
+     * @param PAINT
+     * @param COLOR
+     * @param FILLED
+     * @param STROKE
+     * @param STROKE_COLOR
+     * @return an immutable id for the alpha channel of the shape image or null
+     */
+    private Object getMaskId(final Shape SHAPE, final Paint PAINT, final Color COLOR, final boolean FILLED, final Stroke STROKE, final Color STROKE_COLOR) {
+        final int PAINT_ALPHA = getAlpha(PAINT);
+        if (PAINT_ALPHA == UNKNOWN_ALPHA || (STROKE != null && !(STROKE instanceof BasicStroke))) {
+            return null;
+        }
+        return new Object[]{getGeometry(SHAPE), PAINT_ALPHA, getAlpha(COLOR), FILLED, STROKE, getAlpha(STROKE_COLOR)};
+    }
+
+    private static int getAlpha(final Paint PAINT) {
+        if (PAINT == null) {
+            return NO_PAINT;
+        }
+        if (PAINT instanceof Color) {
+            return ((Color) PAINT).getAlpha();
+        }
+        return PAINT.getTransparency() == Transparency.OPAQUE ? 255 : UNKNOWN_ALPHA;
+    }
+
+    /**
+     * Returns the segment types and coordinates of the outline of the given shape
+     * @param SHAPE
+     * @return the segment types and coordinates of the outline of the given shape
+     */
+    private static double[] getGeometry(final Shape SHAPE) {
+        final PathIterator PATH_ITERATOR = SHAPE.getPathIterator(null);
+        final double[] COORDS = new double[6];
+        double[] geometry = new double[64];
+        int size = 0;
+        geometry[size++] = PATH_ITERATOR.getWindingRule();
+        while (!PATH_ITERATOR.isDone()) {
+            final int TYPE = PATH_ITERATOR.currentSegment(COORDS);
+            final int COUNT;
+            switch (TYPE) {
+                case PathIterator.SEG_MOVETO:
+                case PathIterator.SEG_LINETO:
+                    COUNT = 2;
+                    break;
+                case PathIterator.SEG_QUADTO:
+                    COUNT = 4;
+                    break;
+                case PathIterator.SEG_CUBICTO:
+                    COUNT = 6;
+                    break;
+                default:
+                    COUNT = 0;
+                    break;
+            }
+            if (size + 1 + COUNT > geometry.length) {
+                geometry = Arrays.copyOf(geometry, geometry.length * 2);
+            }
+            geometry[size++] = TYPE;
+            System.arraycopy(COORDS, 0, geometry, size, COUNT);
+            size += COUNT;
+            PATH_ITERATOR.next();
+        }
+        return Arrays.copyOf(geometry, size);
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A counter that spreads its updates over several cells so that threads
+ * which record at the same time do not contend on one memory location.
+ * Each thread writes into the cell that belongs to its id and the cells
+ * are padded to separate cache lines. Reading sums (or compares) all cells.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+final class StripedCounter {
+
+    private static final int PADDING = 8;
+    private final AtomicLongArray CELLS;
+    private final int MASK;
+
+    /**
+     * Creates a counter with the given number of stripes which will be
+     * rounded up to the next power of two
+     * @param STRIPES
+     */
+    StripedCounter(final int STRIPES) {
+        int stripes = 1;
+        while (stripes < STRIPES) {
+            stripes <<= 1;
+        }
+        MASK = stripes - 1;
+        CELLS = new AtomicLongArray(stripes * PADDING);
+    }
+
+    private int cell() {
+        return ((int) Thread.currentThread().getId() & MASK) * PADDING;
+    }
+
+    void add(final long VALUE) {
+        CELLS.addAndGet(cell(), VALUE);
+    }
+
+    void increment() {
+        CELLS.incrementAndGet(cell());
+    }
+
+    /**
+     * Stores the given value in the cell of the current thread if it is
+     * bigger than the value that is stored there
+     * @param VALUE
+     */
+    void updateMax(final long VALUE) {
+        final int INDEX = cell();
+        long current = CELLS.get(INDEX);
+        while (VALUE > current && !CELLS.compareAndSet(INDEX, current, VALUE)) {
+            current = CELLS.get(INDEX);
+        }
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < CELLS.length(); i += PADDING) {
+            sum += CELLS.get(i);
+        }
+        return sum;
+    }
+
+    long max() {
+        long max = 0;
+        for (int i = 0; i < CELLS.length(); i += PADDING) {
+            max = Math.max(max, CELLS.get(i));
+        }
+        return max;
+    }
+
+    void reset() {
+        for (int i = 0; i < CELLS.length(); i += PADDING) {
+            CELLS.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StripedCounter";
+    }
+}
@@ -45,17 +45,12 @@ public enum SymbolImageFactory {
     INSTANCE;
     private final Util UTIL = Util.INSTANCE;
     private final Shadow SHADOW = Shadow.INSTANCE;
-    private int widthBuffer = 0;
-    private SymbolType symbolTypeBuffer = SymbolType.HORN;
-    private ColorDef symbolColorBuffer = null;
-    private CustomColorDef customSymbolColorBuffer = new CustomColorDef(Color.RED);
-    private BufferedImage symbolImageBuffer = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private BufferedImage clipImageSymbol = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
+    private final ImageCache CACHE = ImageCache.INSTANCE;
 
     /**
      * Creates the symbol image for an indicator gauge.
      * The image parameters and the image will be cached. If the
-     * current request has the same parameters as the last request
+     * current request has the same parameters as a previous request
      * it will return the already created image instead of creating
      * a new image.
      * @param WIDTH
@@ -70,13 +65,14 @@ public enum SymbolImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        if (widthBuffer == WIDTH && symbolTypeBuffer == SYMBOL_TYPE && symbolColorBuffer == SYMBOL_COLOR && customSymbolColorBuffer == CUSTOM_SYMBOL_COLOR) {
-            return symbolImageBuffer;
+        final ImageCacheKey KEY = new ImageCacheKey("SymbolImageFactory", WIDTH, SYMBOL_TYPE, SYMBOL_COLOR, CUSTOM_SYMBOL_COLOR, GLOW);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
         }
 
-        symbolImageBuffer.flush();
-        symbolImageBuffer = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = symbolImageBuffer.createGraphics();
+        final BufferedImage SYMBOL_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final Graphics2D G2 = SYMBOL_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         //G2.setRenderingHint(RenderingHints.KEY_DITHERING, RenderingHints.VALUE_DITHER_ENABLE);
@@ -84,8 +80,8 @@ public enum SymbolImageFactory {
         G2.setRenderingHint(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
         //G2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        final int IMAGE_WIDTH = symbolImageBuffer.getWidth();
-        final int IMAGE_HEIGHT = symbolImageBuffer.getHeight();
+        final int IMAGE_WIDTH = SYMBOL_IMAGE.getWidth();
+        final int IMAGE_HEIGHT = SYMBOL_IMAGE.getHeight();
 
         final GeneralPath SYMBOL;
 
@@ -1350,13 +1346,10 @@ public enum SymbolImageFactory {
         }
 
         if (GLOW) {
-            if (clipImageSymbol != null) {
-                clipImageSymbol.flush();
-            }
-            clipImageSymbol = SHADOW.createSoftClipImage((java.awt.Shape) SYMBOL, FILL_COLOR);
+            final BufferedImage CLIP_IMAGE_SYMBOL = SHADOW.createSoftClipImage((java.awt.Shape) SYMBOL, FILL_COLOR);
             final double OFFSET = 0.12 * IMAGE_WIDTH;
             G2.translate(-OFFSET, -OFFSET);
-            G2.drawImage(Shadow.INSTANCE.createDropShadow(clipImageSymbol, 0, 0.65f, (int) OFFSET, 315, GLOW_COLOR), SYMBOL.getBounds().x, SYMBOL.getBounds().y, null);
+            G2.drawImage(Shadow.INSTANCE.createDropShadow(CLIP_IMAGE_SYMBOL, 0, 0.65f, (int) OFFSET, 315, GLOW_COLOR), SYMBOL.getBounds().x, SYMBOL.getBounds().y, null);
             G2.translate(OFFSET, OFFSET);
         } else {
             G2.setPaint(FILL_COLOR);
@@ -1368,12 +1361,7 @@ public enum SymbolImageFactory {
 
         G2.dispose();
 
-        // Cache current parameters
-        widthBuffer = WIDTH;
-        symbolTypeBuffer = SYMBOL_TYPE;
-        symbolColorBuffer = SYMBOL_COLOR;
-        customSymbolColorBuffer = CUSTOM_SYMBOL_COLOR;
-
-        return symbolImageBuffer;
+        // Cache current image
+        return CACHE.put(KEY, SYMBOL_IMAGE);
     }
 }
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+
+/**
+ * Creates the procedural textures of the gauge backgrounds (brushed metal, linen,
+ * carbon fibre, punched sheet and the noise of noisy plastic).
+ * The expensive part of the brushed metal and linen textures (one random number per
+ * pixel and the motion blur) will only be calculated once for a seamless tile of
+ * TILE_SIZE x TILE_SIZE pixels per texture color and parameters. The tiles are kept
+ * in the ImageCache and will be repeated to fill a texture of any size, which makes the
+ * cost of a background rebuild independent of the size of the gauge.
+ * The shine of the textures only depends on the x coordinate and will be added while
+ * the tile is repeated. Because the noise is clamped to the valid range before it is
+ * blurred, the shine offsets are corrected by the expected value of the clamped noise.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+public enum TextureImageFactory {
+
+    INSTANCE;
+    public static final int TILE_SIZE = 256;
+    private static final int DEFAULT_COLOR = 0xFF888888;
+    private static final int DEFAULT_LINEN_COLOR = 0xFF686868;
+    private static final long SEED = 0x5DEECE66DL;
+    public static final long NOISE_SEED = 0x2545F4914F6CDD1DL;
+    private final Util UTIL = Util.INSTANCE;
+    private final ImageCache CACHE = ImageCache.INSTANCE;
+
+    // <editor-fold defaultstate="collapsed" desc="Textures">
+    /**
+     * Returns a texture with a brushed metal look in the given size.
+     * @param COLOR
+     * @param WIDTH
+     * @param HEIGHT
+     * @param RADIUS
+     * @param AMOUNT
+     * @param MONOCHROME
+     * @param SHINE
+     * @return a buffered image that contains a brushed metal texture
+     */
+    public BufferedImage createBrushedMetalTexture(final Color COLOR, final int WIDTH, final int HEIGHT, final int RADIUS, final float AMOUNT, final boolean MONOCHROME, final float SHINE) {
+        if (WIDTH <= 0 || HEIGHT <= 0) {
+            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        }
+        final int ARGB = COLOR == null ? DEFAULT_COLOR : COLOR.getRGB();
+        return repeatTile(getBrushedMetalTile(COLOR, RADIUS, AMOUNT, MONOCHROME), WIDTH, HEIGHT, createShineOffsets(ARGB, WIDTH, SHINE, AMOUNT));
+    }
+
+    /**
+     * Returns a texture with a linen look in the given size.
+     * @param COLOR
+     * @param WIDTH
+     * @param HEIGHT
+     * @return a buffered image that contains a linen texture
+     */
+    public BufferedImage createLinenTexture(final Color COLOR, final int WIDTH, final int HEIGHT) {
+        if (WIDTH <= 0 || HEIGHT <= 0) {
+            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        }
+        final int ARGB = COLOR == null ? DEFAULT_LINEN_COLOR : COLOR.getRGB();
+        return repeatTile(getLinenTile(COLOR), WIDTH, HEIGHT, createShineOffsets(ARGB, WIDTH, 0.25f, 0.65f, 0.7f));
+    }
+
+    /**
+     * Fills the given shape with a random noise of bright and dark pixels with
+     * an alpha value between MIN_ALPHA and MAX_ALPHA (both inclusive). The noise
+     * is taken from the cache and masked with the shape, which will be
+     * rasterized without antialiasing like a clip.
+     * @param G2
+     * @param SHAPE
+     * @param BRIGHT
+     * @param DARK
+     * @param MIN_ALPHA
+     * @param MAX_ALPHA
+     */
+    public void fillNoise(final Graphics2D G2, final Shape SHAPE, final Color BRIGHT, final Color DARK, final int MIN_ALPHA, final int MAX_ALPHA) {
+        final Rectangle BOUNDS = SHAPE.getBounds();
+        if (BOUNDS.width <= 0 || BOUNDS.height <= 0) {
+            return;
+        }
+        final int[] NOISE = getPixels(getNoiseImage(BOUNDS.width, BOUNDS.height, BRIGHT, DARK, MIN_ALPHA, MAX_ALPHA, NOISE_SEED));
+
+        // Rasterize the shape into the image that will take the masked noise
+        final BufferedImage MASKED_NOISE = new BufferedImage(BOUNDS.width, BOUNDS.height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D MASK_G2 = MASKED_NOISE.createGraphics();
+        MASK_G2.translate(-BOUNDS.x, -BOUNDS.y);
+        MASK_G2.setColor(Color.WHITE);
+        MASK_G2.fill(SHAPE);
+        MASK_G2.dispose();
+
+        final int[] PIXELS = getPixels(MASKED_NOISE);
+        for (int i = 0; i < PIXELS.length; i++) {
+            PIXELS[i] = PIXELS[i] == 0 ? 0 : NOISE[i];
+        }
+        G2.drawImage(MASKED_NOISE, BOUNDS.x, BOUNDS.y, null);
+    }
+
+    /**
+     * Returns an image of the given size that contains a random noise of bright and
+     * dark pixels with an alpha value between MIN_ALPHA and MAX_ALPHA (both inclusive).
+     * The same parameters always result in the same noise. The image will be cached
+     * and must not be modified.
+     * @param WIDTH
+     * @param HEIGHT
+     * @param BRIGHT
+     * @param DARK
+     * @param MIN_ALPHA
+     * @param MAX_ALPHA
+     * @param SEED
+     * @return an image of the given size that contains a random noise
+     */
+    public BufferedImage getNoiseImage(final int WIDTH, final int HEIGHT, final Color BRIGHT, final Color DARK, final int MIN_ALPHA, final int MAX_ALPHA, final long SEED) {
+        final ImageCacheKey KEY = new ImageCacheKey("TextureImageFactory.noise", WIDTH, HEIGHT, BRIGHT, DARK, MIN_ALPHA, MAX_ALPHA, SEED);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage IMAGE = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        final int[] PIXELS = getPixels(IMAGE);
+        final int BRIGHT_RGB = BRIGHT.getRGB() & 0x00FFFFFF;
+        final int DARK_RGB = DARK.getRGB() & 0x00FFFFFF;
+        final int ALPHA_RANGE = MAX_ALPHA - MIN_ALPHA + 1;
+
+        BandExecutor.INSTANCE.run(HEIGHT, WIDTH * HEIGHT, new BandExecutor.Band() {
+            @Override
+            public void process(final int FROM, final int TO, final int BAND_INDEX) {
+                // Every band has its own generator which makes the noise independent of the number of threads
+                final XorShiftRandom RND = new XorShiftRandom(SEED + BAND_INDEX * 0x9E3779B97F4A7C15L);
+                for (int index = FROM * WIDTH, end = TO * WIDTH; index < end; index++) {
+                    final int ALPHA = MIN_ALPHA + RND.nextInt(ALPHA_RANGE);
+                    PIXELS[index] = (ALPHA << 24) | (RND.nextBoolean() ? BRIGHT_RGB : DARK_RGB);
+                }
+            }
+        });
+        return CACHE.put(KEY, IMAGE);
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Tiles">
+    /**
+     * Returns the seamless tile of a brushed metal texture without shine.
+     * The tile will be cached and must not be modified.
+     * @param COLOR
+     * @param RADIUS
+     * @param AMOUNT
+     * @param MONOCHROME
+     * @return the seamless tile of a brushed metal texture
+     */
+    public BufferedImage getBrushedMetalTile(final Color COLOR, final int RADIUS, final float AMOUNT, final boolean MONOCHROME) {
+        final int ARGB = COLOR == null ? DEFAULT_COLOR : COLOR.getRGB();
+        final ImageCacheKey KEY = new ImageCacheKey("TextureImageFactory.brushedMetal", ARGB, RADIUS, AMOUNT, MONOCHROME);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage TILE = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        final int[] PIXELS = ((DataBufferInt) TILE.getRaster().getDataBuffer()).getData();
+        final int[] IN = new int[TILE_SIZE];
+        final int[] OUT = new int[TILE_SIZE];
+        final XorShiftRandom RND = new XorShiftRandom(SEED);
+        final int ALPHA = ARGB & 0xFF000000;
+        final int RED = (ARGB >> 16) & 0xFF;
+        final int GREEN = (ARGB >> 8) & 0xFF;
+        final int BLUE = ARGB & 0xFF;
+        final float SCALE = 255 * AMOUNT;
+
+        for (int y = 0; y < TILE_SIZE; y++) {
+            for (int x = 0; x < TILE_SIZE; x++) {
+                if (MONOCHROME) {
+                    final int N = (int) ((2 * RND.nextFloat() - 1) * SCALE);
+                    IN[x] = ALPHA | (clamp(RED + N) << 16) | (clamp(GREEN + N) << 8) | clamp(BLUE + N);
+                } else {
+                    IN[x] = ALPHA
+                          | (clamp(RED + (int) ((2 * RND.nextFloat() - 1) * SCALE)) << 16)
+                          | (clamp(GREEN + (int) ((2 * RND.nextFloat() - 1) * SCALE)) << 8)
+                          | clamp(BLUE + (int) ((2 * RND.nextFloat() - 1) * SCALE));
+                }
+            }
+            if (RADIUS > 0) {
+                blur(IN, OUT, RADIUS);
+                System.arraycopy(OUT, 0, PIXELS, y * TILE_SIZE, TILE_SIZE);
+            } else {
+                System.arraycopy(IN, 0, PIXELS, y * TILE_SIZE, TILE_SIZE);
+            }
+        }
+        return CACHE.put(KEY, TILE);
+    }
+
+    /**
+     * Returns the seamless tile of a linen texture without shine.
+     * The tile is a 50:50 mix of a horizontally and a vertically motion blurred noise.
+     * The tile will be cached and must not be modified.
+     * @param COLOR
+     * @return the seamless tile of a linen texture
+     */
+    public BufferedImage getLinenTile(final Color COLOR) {
+        final int ARGB = COLOR == null ? DEFAULT_LINEN_COLOR : COLOR.getRGB();
+        final ImageCacheKey KEY = new ImageCacheKey("TextureImageFactory.linen", ARGB);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+
+        final BufferedImage TILE = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        final int[] PIXELS = ((DataBufferInt) TILE.getRaster().getDataBuffer()).getData();
+        final int[] HORIZONTAL = new int[TILE_SIZE * TILE_SIZE];
+        final int[] IN = new int[TILE_SIZE];
+        final int[] OUT = new int[TILE_SIZE];
+        final XorShiftRandom RND = new XorShiftRandom(SEED);
+        final int ALPHA = ARGB & 0xFF000000;
+        final int RED = (ARGB >> 16) & 0xFF;
+        final int GREEN = (ARGB >> 8) & 0xFF;
+        final int BLUE = ARGB & 0xFF;
+
+        // Horizontal threads
+        for (int y = 0; y < TILE_SIZE; y++) {
+            for (int x = 0; x < TILE_SIZE; x++) {
+                final int N = (int) ((2 * RND.nextFloat() - 1) * 255 * 0.65f);
+                IN[x] = ALPHA | (clamp(RED + N) << 16) | (clamp(GREEN + N) << 8) | clamp(BLUE + N);
+            }
+            blur(IN, OUT, 60);
+            System.arraycopy(OUT, 0, HORIZONTAL, y * TILE_SIZE, TILE_SIZE);
+        }
+
+        // Vertical threads, mixed 50:50 with the horizontal ones
+        for (int x = 0; x < TILE_SIZE; x++) {
+            for (int y = 0; y < TILE_SIZE; y++) {
+                final int N = (int) ((2 * RND.nextFloat() - 1) * 255 * 0.7f);
+                IN[y] = ALPHA | (clamp(RED + N) << 16) | (clamp(GREEN + N) << 8) | clamp(BLUE + N);
+            }
+            blur(IN, OUT, 55);
+            for (int y = 0, index = x; y < TILE_SIZE; y++, index += TILE_SIZE) {
+                final int H = HORIZONTAL[index];
+                final int V = OUT[y];
+                PIXELS[index] = ALPHA
+                              | (((((H >> 16) & 0xFF) + ((V >> 16) & 0xFF)) >> 1) << 16)
+                              | (((((H >> 8) & 0xFF) + ((V >> 8) & 0xFF)) >> 1) << 8)
+                              | (((H & 0xFF) + (V & 0xFF)) >> 1);
+            }
+        }
+        return CACHE.put(KEY, TILE);
+    }
+
+    /**
+     * Returns the tile of the carbon fibre texture.
+     * The tile will be cached and must not be modified.
+     * @param SIZE
+     * @return the tile of the carbon fibre texture
+     */
+    public BufferedImage getCarbonTile(final int SIZE) {
+        final ImageCacheKey KEY = new ImageCacheKey("TextureImageFactory.carbon", SIZE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+        return CACHE.put(KEY, UTIL.create_CARBON_Texture(SIZE));
+    }
+
+    /**
+     * Returns the tile of the punched sheet texture in the given color.
+     * The tile will be cached and must not be modified.
+     * @param SIZE
+     * @param TEXTURE_COLOR
+     * @return the tile of the punched sheet texture in the given color
+     */
+    public BufferedImage getPunchedSheetTile(final int SIZE, final Color TEXTURE_COLOR) {
+        final ImageCacheKey KEY = new ImageCacheKey("TextureImageFactory.punchedSheet", SIZE, TEXTURE_COLOR);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
+            return CACHED_IMAGE;
+        }
+        return CACHE.put(KEY, UTIL.create_PUNCHED_SHEET_Image(SIZE, TEXTURE_COLOR));
+    }
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="Misc">
+    /**
+     * Fills an image of the given size with copies of the given tile and adds
+     * the given offsets (one array per color channel) to each column.
+     * @param TILE
+     * @param WIDTH
+     * @param HEIGHT
+     * @param OFFSETS
+     * @return an image of the given size that is filled with the given tile
+     */
+    private BufferedImage repeatTile(final BufferedImage TILE, final int WIDTH, final int HEIGHT, final int[][] OFFSETS) {
+        final int[] TILE_PIXELS = ((DataBufferInt) TILE.getRaster().getDataBuffer()).getData();
+        final BufferedImage IMAGE = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        final int[] PIXELS = ((DataBufferInt) IMAGE.getRaster().getDataBuffer()).getData();
+
+        if (OFFSETS == null) {
+            for (int y = 0; y < HEIGHT; y++) {
+                final int TILE_ROW = (y % TILE_SIZE) * TILE_SIZE;
+                for (int x = 0; x < WIDTH; x += TILE_SIZE) {
+                    System.arraycopy(TILE_PIXELS, TILE_ROW, PIXELS, y * WIDTH + x, Math.min(TILE_SIZE, WIDTH - x));
+                }
+            }
+        } else {
+            final int[] RED = OFFSETS[0];
+            final int[] GREEN = OFFSETS[1];
+            final int[] BLUE = OFFSETS[2];
+            for (int y = 0, index = 0; y < HEIGHT; y++) {
+                final int TILE_ROW = (y % TILE_SIZE) * TILE_SIZE;
+                for (int x = 0, tileX = 0; x < WIDTH; x++, index++) {
+                    final int ARGB = TILE_PIXELS[TILE_ROW + tileX];
+                    PIXELS[index] = (ARGB & 0xFF000000)
+                                  | (clamp(((ARGB >> 16) & 0xFF) + RED[x]) << 16)
+                                  | (clamp(((ARGB >> 8) & 0xFF) + GREEN[x]) << 8)
+                                  | clamp((ARGB & 0xFF) + BLUE[x]);
+                    if (++tileX == TILE_SIZE) {
+                        tileX = 0;
+                    }
+                }
+            }
+        }
+        return IMAGE;
+    }
+
+    /**
+     * Returns the offsets of the red, green and blue channel of each column that
+     * simulate the sine shaped shine over the width of the texture. If the texture is
+     * a mix of noise layers with different amounts, the offsets will be averaged.
+     * @param ARGB
+     * @param WIDTH
+     * @param SHINE
+     * @param AMOUNTS
+     * @return the offsets of the red, green and blue channel of each column or null if there is no shine
+     */
+    private static int[][] createShineOffsets(final int ARGB, final int WIDTH, final float SHINE, final float... AMOUNTS) {
+        if (SHINE == 0) {
+            return null;
+        }
+        final int[][] OFFSETS = new int[3][WIDTH];
+        final int[] CHANNELS = {(ARGB >> 16) & 0xFF, (ARGB >> 8) & 0xFF, ARGB & 0xFF};
+        for (int channel = 0; channel < 3; channel++) {
+            final int C = CHANNELS[channel];
+            double base = 0;
+            for (float amount : AMOUNTS) {
+                base += expectedClamp(C, 255 * amount);
+            }
+            for (int x = 0; x < WIDTH; x++) {
+                final int F = (int) (255 * SHINE * Math.sin((double) x / WIDTH * Math.PI));
+                double shine = 0;
+                for (float amount : AMOUNTS) {
+                    shine += expectedClamp(C + F, 255 * amount);
+                }
+                OFFSETS[channel][x] = (int) Math.round((shine - base) / AMOUNTS.length);
+            }
+        }
+        return OFFSETS;
+    }
+
+    /**
+     * Returns the expected value of clamp(VALUE + N) where N is uniformly distributed
+     * between -AMPLITUDE and AMPLITUDE and clamp limits the result to 0 - 255.
+     * @param VALUE
+     * @param AMPLITUDE
+     * @return the expected value of the clamped noisy value
+     */
+    private static double expectedClamp(final double VALUE, final double AMPLITUDE) {
+        if (AMPLITUDE <= 0) {
+            return VALUE < 0 ? 0 : (VALUE > 255 ? 255 : VALUE);
+        }
+        return (clampIntegral(VALUE + AMPLITUDE) - clampIntegral(VALUE - AMPLITUDE)) / (2 * AMPLITUDE);
+    }
+
+    private static double clampIntegral(final double V) {
+        if (V <= 0) {
+            return 0;
+        }
+        if (V <= 255) {
+            return V * V / 2;
+        }
+        return 255 * 255 / 2.0 + 255 * (V - 255);
+    }
+
+    private static int[] getPixels(final BufferedImage IMAGE) {
+        return ((DataBufferInt) IMAGE.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Box blurs the given row of opaque pixels with a running sum. The row will be
+     * treated as a ring so that the blurred row can be repeated without a seam.
+     * @param IN
+     * @param OUT
+     * @param RADIUS
+     */
+    private static void blur(final int[] IN, final int[] OUT, final int RADIUS) {
+        final int LENGTH = IN.length;
+        final int DIAMETER = 2 * RADIUS + 1;
+        int tr = 0;
+        int tg = 0;
+        int tb = 0;
+
+        for (int i = -RADIUS; i <= RADIUS; i++) {
+            final int RGB = IN[mod(i, LENGTH)];
+            tr += (RGB >> 16) & 0xFF;
+            tg += (RGB >> 8) & 0xFF;
+            tb += RGB & 0xFF;
+        }
+
+        int in = mod(RADIUS + 1, LENGTH);
+        int out = mod(-RADIUS, LENGTH);
+        for (int x = 0; x < LENGTH; x++) {
+            OUT[x] = 0xFF000000 | ((tr / DIAMETER) << 16) | ((tg / DIAMETER) << 8) | (tb / DIAMETER);
+
+            final int RGB_IN = IN[in];
+            final int RGB_OUT = IN[out];
+            tr += ((RGB_IN >> 16) & 0xFF) - ((RGB_OUT >> 16) & 0xFF);
+            tg += ((RGB_IN >> 8) & 0xFF) - ((RGB_OUT >> 8) & 0xFF);
+            tb += (RGB_IN & 0xFF) - (RGB_OUT & 0xFF);
+            if (++in == LENGTH) {
+                in = 0;
+            }
+            if (++out == LENGTH) {
+                out = 0;
+            }
+        }
+    }
+
+    private static int mod(final int A, final int B) {
+        final int RESULT = A % B;
+        return RESULT < 0 ? RESULT + B : RESULT;
+    }
+
+    private static int clamp(final int C) {
+        return C < 0 ? 0 : (C > 255 ? 255 : C);
+    }
+    // </editor-fold>
+
+    @Override
+    public String toString() {
+        return "TextureImageFactory";
+    }
+}
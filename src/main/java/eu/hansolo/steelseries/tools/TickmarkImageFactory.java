@@ -33,15 +33,12 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Transparency;
-import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -56,66 +53,7 @@ public enum TickmarkImageFactory {
     private static final BasicStroke MEDIUM_TICKMARK_STROKE = new BasicStroke(0.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_BEVEL);
     private static final BasicStroke MINOR_TICKMARK_STROKE = new BasicStroke(0.3f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_BEVEL);
     private static final int BASE = 10;
-    private NumberFormat numberFormat = NumberFormat.STANDARD;
-    // Buffer variables of radial gauges
-    private BufferedImage imageBufferRad = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private int widthBufferRad = 200;
-    private double minValueBufferRad = 0;
-    private double maxValueBufferRad = 100;
-    private int noOfMinorTicksBufferRad = 0;
-    private int noOfMajorTicksBufferRad = 0;
-    private double minorTickSpacingBufferRad = 10;
-    private double majorTickSpacingBufferRad = 10;
-    private GaugeType gaugeTypeBufferRad = GaugeType.TYPE4;
-    private CustomGaugeType customGaugeTypeBufferRad = null;
-    private TickmarkType minorTickmarkTypeBufferRad = TickmarkType.LINE;
-    private TickmarkType majorTickmarkTypeBufferRad = TickmarkType.LINE;
-    private boolean ticksVisibleBufferRad = true;
-    private boolean ticklabelsVisibleBufferRad = true;
-    private boolean tickmarkSectionsVisibleBufferRad = false;
-    private boolean minorTicksVisibleBufferRad = true;
-    private boolean majorTicksVisibleBufferRad = true;
-    private NumberFormat numberFormatBufferRad = NumberFormat.AUTO;
-    private BackgroundColor backgroundColorBufferRad = BackgroundColor.DARK_GRAY;
-    private Color tickmarkColorBufferRad = backgroundColorBufferRad.LABEL_COLOR;
-    private boolean tickmarkColorFromThemeBufferRad = true;
-    private List<Section> tickmarkSectionsBufferRad = new ArrayList<Section>(10);
-    private boolean sectionTickmarksOnlyBufferRad = false;
-    private List<Section> sectionsBufferRad = new ArrayList<Section>(10);
-    private float radiusFactorBufferRad = 0.38f;
-    private float textDistanceFactorBufferRad = 0.09f;
-    private Point2D centerBufferRad = new Point2D.Double();
-    private Point2D offsetBufferRad = new Point2D.Double();
-    private Orientation orientationBufferRad = Orientation.NORTH;
-    private TicklabelOrientation ticklabelOrientationBufferRad = TicklabelOrientation.TANGENT;
-    private boolean niceScaleRad = true;
-    private boolean logScaleRad = false;
-    // Buffer variables of linear gauges
-    private BufferedImage imageBufferLin = UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
-    private int widthBufferLin = 140;
-    private int heightBufferLin = 0;
-    private double minValueBufferLin = 0;
-    private double maxValueBufferLin = 100;
-    private int noOfMinorTicksBufferLin = 0;
-    private int noOfMajorTicksBufferLin = 0;
-    private double minorTickSpacingBufferLin = 10;
-    private double majorTickSpacingBufferLin = 10;
-    private TickmarkType minorTickmarkTypeBufferLin = TickmarkType.LINE;
-    private TickmarkType majorTickmarkTypeBufferLin = TickmarkType.LINE;
-    private boolean ticksVisibleBufferLin = true;
-    private boolean ticklabelsVisibleBufferLin = true;
-    private boolean minorTicksVisibleBufferLin = true;
-    private boolean majorTicksVisibleBufferLin = true;
-    private NumberFormat numberFormatBufferLin = NumberFormat.AUTO;
-    private boolean tickmarkSectionsVisibleBufferLin = false;
-    private BackgroundColor backgroundColorBufferLin = BackgroundColor.DARK_GRAY;
-    private Color tickmarkColorBufferLin = backgroundColorBufferLin.LABEL_COLOR;
-    private boolean tickmarkColorFromThemeBufferLin = true;
-    private List<Section> tickmarkSectionsBufferLin = new ArrayList<Section>(10);
-    private Point2D offsetBufferLin = new Point2D.Double();
-    private Orientation orientationBufferLin = Orientation.VERTICAL;
-    private boolean niceScaleLin = true;
-    private boolean logScaleLin = false;
+    private final ImageCache CACHE = ImageCache.INSTANCE;
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="Radial tickmark related">
@@ -155,64 +93,55 @@ public enum TickmarkImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Buffer check
-        if (WIDTH == widthBufferRad
-            && Double.compare(MIN_VALUE, minValueBufferRad) == 0
-            && Double.compare(MAX_VALUE, maxValueBufferRad) == 0
-            && NO_OF_MINOR_TICKS == noOfMinorTicksBufferRad
-            && NO_OF_MAJOR_TICKS == noOfMajorTicksBufferRad
-            && Double.compare(MINOR_TICK_SPACING, minorTickSpacingBufferRad) == 0
-            && Double.compare(MAJOR_TICK_SPACING, majorTickSpacingBufferRad) == 0
-            && GAUGE_TYPE == gaugeTypeBufferRad
-            && CUSTOM_GAUGE_TYPE == customGaugeTypeBufferRad
-            && MINOR_TICKMARK_TYPE == minorTickmarkTypeBufferRad
-            && MAJOR_TICKMARK_TYPE == majorTickmarkTypeBufferRad
-            && TICKS_VISIBLE == ticksVisibleBufferRad
-            && TICKLABELS_VISIBLE == ticklabelsVisibleBufferRad
-            && MINOR_TICKS_VISIBLE == minorTicksVisibleBufferRad
-            && MAJOR_TICKS_VISIBLE == majorTicksVisibleBufferRad
-            && SECTION_TICKMARKS_ONLY == sectionTickmarksOnlyBufferRad
-            && sectionsBufferRad.containsAll(sections)
-            && TICKMARK_SECTIONS_VISIBLE == tickmarkSectionsVisibleBufferRad
-            && NUMBER_FORMAT == numberFormatBufferRad
-            && BACKGROUND_COLOR == backgroundColorBufferRad
-            && TICKMARK_COLOR.equals(tickmarkColorBufferRad)
-            && TICKMARK_COLOR_FROM_THEME == tickmarkColorFromThemeBufferRad
-            && tickmarkSections.containsAll(tickmarkSectionsBufferRad)
-            && Float.compare(RADIUS_FACTOR, radiusFactorBufferRad) == 0
-            && Float.compare(TEXT_DISTANCE_FACTOR, textDistanceFactorBufferRad) == 0
-            && CENTER.equals(centerBufferRad)
-            && OFFSET.equals(offsetBufferRad)
-            && orientationBufferRad == ORIENTATION
-            && ticklabelOrientationBufferRad == TICKLABEL_ORIENTATION
-            && niceScaleRad == NICE_SCALE
-            && logScaleRad == LOG_SCALE) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("TickmarkImageFactory.radial",
+                                                    WIDTH,
+                                                    MIN_VALUE,
+                                                    MAX_VALUE,
+                                                    NO_OF_MINOR_TICKS,
+                                                    NO_OF_MAJOR_TICKS,
+                                                    MINOR_TICK_SPACING,
+                                                    MAJOR_TICK_SPACING,
+                                                    GAUGE_TYPE,
+                                                    CUSTOM_GAUGE_TYPE,
+                                                    MINOR_TICKMARK_TYPE,
+                                                    MAJOR_TICKMARK_TYPE,
+                                                    TICKS_VISIBLE,
+                                                    TICKLABELS_VISIBLE,
+                                                    MINOR_TICKS_VISIBLE,
+                                                    MAJOR_TICKS_VISIBLE,
+                                                    NUMBER_FORMAT,
+                                                    TICKMARK_SECTIONS_VISIBLE,
+                                                    BACKGROUND_COLOR,
+                                                    TICKMARK_COLOR,
+                                                    TICKMARK_COLOR_FROM_THEME,
+                                                    sectionsKey(tickmarkSections),
+                                                    SECTION_TICKMARKS_ONLY,
+                                                    sectionsKey(sections),
+                                                    RADIUS_FACTOR,
+                                                    TEXT_DISTANCE_FACTOR,
+                                                    CENTER.getX(),
+                                                    CENTER.getY(),
+                                                    OFFSET == null ? null : OFFSET.getX(),
+                                                    OFFSET == null ? null : OFFSET.getY(),
+                                                    ORIENTATION,
+                                                    TICKLABEL_ORIENTATION,
+                                                    NICE_SCALE,
+                                                    LOG_SCALE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-                G.drawImage(imageBufferRad, 0, 0, null);
+                G.drawImage(CACHED_IMAGE, 0, 0, null);
                 G.dispose();
-                return imageBufferRad;
             }
+            return CACHED_IMAGE;
         }
 
-        // Create image if it equals null
-        if (imageBufferRad != null) {
-            imageBufferRad.flush();
-        }
-        imageBufferRad = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
+        final BufferedImage TICKMARKS_IMAGE = UTIL.createImage(WIDTH, WIDTH, Transparency.TRANSLUCENT);
 
         // Adjust the number format of the ticklabels
-        if (NUMBER_FORMAT == NumberFormat.AUTO) {
-            if (Math.abs(MAJOR_TICK_SPACING) > 1000) {
-                numberFormat = NumberFormat.SCIENTIFIC;
-            } else if (MAJOR_TICK_SPACING % 1.0 != 0) {
-                numberFormat = NumberFormat.FRACTIONAL;
-            } else {
-                numberFormat = NumberFormat.STANDARD;
-            }
-        } else {
-            numberFormat = NUMBER_FORMAT;
-        }
+        final NumberFormat LABEL_FORMAT = getTicklabelFormat(NUMBER_FORMAT, MAJOR_TICK_SPACING);
 
         // Definitions
         final Font STD_FONT = new Font("Verdana", 0, (int) (0.04 * WIDTH));
@@ -243,7 +172,7 @@ public enum TickmarkImageFactory {
         int majorTickCounter = NO_OF_MINOR_TICKS - 1; // Indicator when to draw the major tickmark
 
         // Create the image
-        final Graphics2D G2 = imageBufferRad.createGraphics();
+        final Graphics2D G2 = TICKMARKS_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -273,7 +202,7 @@ public enum TickmarkImageFactory {
                 OUTER_POINT.setLocation(CENTER.getX() + RADIUS * sinValue, CENTER.getY() + RADIUS * cosValue);
                 TEXT_POINT.setLocation(CENTER.getX() + (RADIUS - TEXT_DISTANCE) * sinValue, CENTER.getY() + (RADIUS - TEXT_DISTANCE) * cosValue);
                 drawRadialTicks(G2, INNER_POINT, OUTER_POINT, CENTER, RADIUS, MAJOR_TICKMARK_TYPE, TICK_LINE, TICK_CIRCLE, TICK_TRIANGLE, MAJOR_TICK_LENGTH, MAJOR_DIAMETER, OUTER_POINT_LEFT, OUTER_POINT_RIGHT, alpha);
-                G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(MIN_VALUE), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
+                G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(MIN_VALUE), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
 
                 // Max Value
                 alpha = -(MAX_VALUE - MIN_VALUE) * ANGLE_STEP;
@@ -284,7 +213,7 @@ public enum TickmarkImageFactory {
                 OUTER_POINT.setLocation(CENTER.getX() + RADIUS * sinValue, CENTER.getY() + RADIUS * cosValue);
                 TEXT_POINT.setLocation(CENTER.getX() + (RADIUS - TEXT_DISTANCE) * sinValue, CENTER.getY() + (RADIUS - TEXT_DISTANCE) * cosValue);
                 drawRadialTicks(G2, INNER_POINT, OUTER_POINT, CENTER, RADIUS, MAJOR_TICKMARK_TYPE, TICK_LINE, TICK_CIRCLE, TICK_TRIANGLE, MAJOR_TICK_LENGTH, MAJOR_DIAMETER, OUTER_POINT_LEFT, OUTER_POINT_RIGHT, alpha);
-                G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(MAX_VALUE), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
+                G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(MAX_VALUE), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
 
                 for (Section section : sections) {
                     // Section start
@@ -296,7 +225,7 @@ public enum TickmarkImageFactory {
                     OUTER_POINT.setLocation(CENTER.getX() + RADIUS * sinValue, CENTER.getY() + RADIUS * cosValue);
                     TEXT_POINT.setLocation(CENTER.getX() + (RADIUS - TEXT_DISTANCE) * sinValue, CENTER.getY() + (RADIUS - TEXT_DISTANCE) * cosValue);
                     drawRadialTicks(G2, INNER_POINT, OUTER_POINT, CENTER, RADIUS, MAJOR_TICKMARK_TYPE, TICK_LINE, TICK_CIRCLE, TICK_TRIANGLE, MAJOR_TICK_LENGTH, MAJOR_DIAMETER, OUTER_POINT_LEFT, OUTER_POINT_RIGHT, alpha);
-                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(section.getStart()), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
+                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(section.getStart()), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
 
                     // Section stop
                     alpha = -(section.getStop() - MIN_VALUE) * ANGLE_STEP;
@@ -307,7 +236,7 @@ public enum TickmarkImageFactory {
                     OUTER_POINT.setLocation(CENTER.getX() + RADIUS * sinValue, CENTER.getY() + RADIUS * cosValue);
                     TEXT_POINT.setLocation(CENTER.getX() + (RADIUS - TEXT_DISTANCE) * sinValue, CENTER.getY() + (RADIUS - TEXT_DISTANCE) * cosValue);
                     drawRadialTicks(G2, INNER_POINT, OUTER_POINT, CENTER, RADIUS, MAJOR_TICKMARK_TYPE, TICK_LINE, TICK_CIRCLE, TICK_TRIANGLE, MAJOR_TICK_LENGTH, MAJOR_DIAMETER, OUTER_POINT_LEFT, OUTER_POINT_RIGHT, alpha);
-                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(section.getStop()), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
+                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(section.getStop()), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET));
                 }
 
         }
@@ -360,9 +289,9 @@ public enum TickmarkImageFactory {
                             {
                                 case NORMAL:
                                     if (Double.compare(alpha, -tickLabelOrientationChangeAngle) > 0) {
-                                        G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (-Math.PI / 2 - alpha)));
+                                        G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (-Math.PI / 2 - alpha)));
                                     } else {
-                                        G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI / 2 - alpha)));
+                                        G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI / 2 - alpha)));
                                     }
                                     break;
                                 case HORIZONTAL:
@@ -376,12 +305,12 @@ public enum TickmarkImageFactory {
                                     } else {
                                         orientationOffset = 0;
                                     }
-                                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET + orientationOffset));
+                                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET + orientationOffset));
                                     break;
                                 case TANGENT:
 
                                 default:
-                                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI - alpha + ticklabelRotationOffset)));
+                                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(valueCounter), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI - alpha + ticklabelRotationOffset)));
                                     break;
                             }
                         }
@@ -442,9 +371,9 @@ public enum TickmarkImageFactory {
                             {
                                 case NORMAL:
                                     if (Double.compare(value, -tickLabelOrientationChangeAngle) > 0) {
-                                        G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (-Math.PI / 2 + angle)));
+                                        G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (-Math.PI / 2 + angle)));
                                     } else {
-                                        G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI / 2 + angle)));
+                                        G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI / 2 + angle)));
                                     }
                                     break;
                                 case HORIZONTAL:
@@ -458,12 +387,12 @@ public enum TickmarkImageFactory {
                                     } else {
                                         orientationOffset = 0;
                                     }
-                                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET + orientationOffset));
+                                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), Math.PI - ROTATION_OFFSET + orientationOffset));
                                     break;
                                 case TANGENT:
 
                                 default:
-                                    G2.fill(UTIL.rotateTextAroundCenter(G2, numberFormat.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI + angle + ticklabelRotationOffset)));
+                                    G2.fill(UTIL.rotateTextAroundCenter(G2, LABEL_FORMAT.format(value), (int) TEXT_POINT.getX(), (int) TEXT_POINT.getY(), (Math.PI + angle + ticklabelRotationOffset)));
                                     break;
                             }
                         }
@@ -480,52 +409,12 @@ public enum TickmarkImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(imageBufferRad, 0, 0, null);
+            G.drawImage(TICKMARKS_IMAGE, 0, 0, null);
             G.dispose();
         }
 
-        // Buffer the current parameters
-        widthBufferRad = WIDTH;
-        minValueBufferRad = MIN_VALUE;
-        maxValueBufferRad = MAX_VALUE;
-        noOfMinorTicksBufferRad = NO_OF_MINOR_TICKS;
-        noOfMajorTicksBufferRad = NO_OF_MAJOR_TICKS;
-        minorTickSpacingBufferRad = MINOR_TICK_SPACING;
-        majorTickSpacingBufferRad = MAJOR_TICK_SPACING;
-        gaugeTypeBufferRad = GAUGE_TYPE;
-        customGaugeTypeBufferRad = CUSTOM_GAUGE_TYPE;
-        minorTickmarkTypeBufferRad = MINOR_TICKMARK_TYPE;
-        majorTickmarkTypeBufferRad = MAJOR_TICKMARK_TYPE;
-        ticksVisibleBufferRad = TICKS_VISIBLE;
-        ticklabelsVisibleBufferRad = TICKLABELS_VISIBLE;
-        minorTicksVisibleBufferRad = MINOR_TICKS_VISIBLE;
-        majorTicksVisibleBufferRad = MAJOR_TICKS_VISIBLE;
-        tickmarkSectionsVisibleBufferRad = TICKMARK_SECTIONS_VISIBLE;
-        numberFormatBufferRad = NUMBER_FORMAT;
-        backgroundColorBufferRad = BACKGROUND_COLOR;
-        tickmarkColorBufferRad = TICKMARK_COLOR;
-        tickmarkColorFromThemeBufferRad = TICKMARK_COLOR_FROM_THEME;
-        if (tickmarkSections != null) {
-            tickmarkSectionsBufferRad.clear();
-            tickmarkSectionsBufferRad.addAll(tickmarkSections);
-        }
-        if (sections != null) {
-            sectionsBufferRad.clear();
-            sectionsBufferRad.addAll(sections);
-        }
-        sectionTickmarksOnlyBufferRad = SECTION_TICKMARKS_ONLY;
-        radiusFactorBufferRad = RADIUS_FACTOR;
-        textDistanceFactorBufferRad = TEXT_DISTANCE_FACTOR;
-        centerBufferRad.setLocation(CENTER);
-        if (OFFSET != null) {
-            offsetBufferRad.setLocation(OFFSET);
-        }
-        orientationBufferRad = ORIENTATION;
-        ticklabelOrientationBufferRad = TICKLABEL_ORIENTATION;
-        niceScaleRad = NICE_SCALE;
-        logScaleRad = LOG_SCALE;
-
-        return imageBufferRad;
+        // Buffer the current image
+        return CACHE.put(KEY, TICKMARKS_IMAGE);
     }
 
     private void drawRadialTicks(final Graphics2D G2,
@@ -599,56 +488,47 @@ public enum TickmarkImageFactory {
             return UTIL.createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        // Buffer check
-        if (WIDTH == widthBufferLin
-            && HEIGHT == heightBufferLin
-            && Double.compare(MIN_VALUE, minValueBufferLin) == 0
-            && Double.compare(MAX_VALUE, maxValueBufferLin) == 0
-            && NO_OF_MINOR_TICKS == noOfMinorTicksBufferLin
-            && NO_OF_MAJOR_TICKS == noOfMajorTicksBufferLin
-            && Double.compare(MINOR_TICK_SPACING, minorTickSpacingBufferLin) == 0
-            && Double.compare(MAJOR_TICK_SPACING, majorTickSpacingBufferLin) == 0
-            && MINOR_TICKMARK_TYPE == minorTickmarkTypeBufferLin
-            && MAJOR_TICKMARK_TYPE == majorTickmarkTypeBufferLin
-            && TICKS_VISIBLE == ticksVisibleBufferLin
-            && MINOR_TICKS_VISIBLE == minorTicksVisibleBufferLin
-            && MAJOR_TICKS_VISIBLE == majorTicksVisibleBufferLin
-            && TICKLABELS_VISIBLE == ticklabelsVisibleBufferLin
-            && NUMBER_FORMAT == numberFormatBufferLin
-            && TICKMARK_SECTIONS_VISIBLE == tickmarkSectionsVisibleBufferLin
-            && BACKGROUND_COLOR == backgroundColorBufferLin
-            && TICKMARK_COLOR.equals(tickmarkColorBufferLin)
-            && TICKMARK_COLOR_FROM_THEME == tickmarkColorFromThemeBufferLin
-            && tickmarkSections.containsAll(tickmarkSectionsBufferLin)
-            && OFFSET.equals(offsetBufferLin)
-            && ORIENTATION == orientationBufferLin
-            && NICE_SCALE == niceScaleLin
-            && LOG_SCALE == logScaleLin) {
+        // Take image from cache instead of creating a new one if an image with the same parameters was created before
+        final ImageCacheKey KEY = new ImageCacheKey("TickmarkImageFactory.linear",
+                                                    WIDTH,
+                                                    HEIGHT,
+                                                    MIN_VALUE,
+                                                    MAX_VALUE,
+                                                    NO_OF_MINOR_TICKS,
+                                                    NO_OF_MAJOR_TICKS,
+                                                    MINOR_TICK_SPACING,
+                                                    MAJOR_TICK_SPACING,
+                                                    MINOR_TICKMARK_TYPE,
+                                                    MAJOR_TICKMARK_TYPE,
+                                                    TICKS_VISIBLE,
+                                                    TICKLABELS_VISIBLE,
+                                                    MINOR_TICKS_VISIBLE,
+                                                    MAJOR_TICKS_VISIBLE,
+                                                    NUMBER_FORMAT,
+                                                    TICKMARK_SECTIONS_VISIBLE,
+                                                    BACKGROUND_COLOR,
+                                                    TICKMARK_COLOR,
+                                                    TICKMARK_COLOR_FROM_THEME,
+                                                    sectionsKey(tickmarkSections),
+                                                    OFFSET == null ? null : OFFSET.getX(),
+                                                    OFFSET == null ? null : OFFSET.getY(),
+                                                    ORIENTATION,
+                                                    NICE_SCALE,
+                                                    LOG_SCALE);
+        final BufferedImage CACHED_IMAGE = CACHE.get(KEY);
+        if (CACHED_IMAGE != null) {
             if (BACKGROUND_IMAGE != null) {
                 final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-                G.drawImage(imageBufferLin, 0, 0, null);
+                G.drawImage(CACHED_IMAGE, 0, 0, null);
                 G.dispose();
-
-                return imageBufferLin;
             }
+            return CACHED_IMAGE;
         }
 
-        // Create image if it equals null
-        if (imageBufferLin != null) {
-            imageBufferLin.flush();
-        }
-        imageBufferLin = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage TICKMARKS_IMAGE = UTIL.createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
 
         // Adjust the number format of the ticklabels
-        if (NUMBER_FORMAT == NumberFormat.AUTO) {
-            if (Math.abs(MAJOR_TICK_SPACING) > 1000) {
-                numberFormat = NumberFormat.SCIENTIFIC;
-            } else if (MAJOR_TICK_SPACING % 1.0 != 0) {
-                numberFormat = NumberFormat.FRACTIONAL;
-            }
-        } else {
-            numberFormat = NUMBER_FORMAT;
-        }
+        final NumberFormat LABEL_FORMAT = getTicklabelFormat(NUMBER_FORMAT, MAJOR_TICK_SPACING);
 
         // Definitions
         final Font STD_FONT;
@@ -696,7 +576,7 @@ public enum TickmarkImageFactory {
             tickSpaceScaling = SCALE_BOUNDS.getWidth() / (MAX_VALUE - MIN_VALUE);
         }
 
-        final Graphics2D G2 = imageBufferLin.createGraphics();
+        final Graphics2D G2 = TICKMARKS_IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -715,15 +595,14 @@ public enum TickmarkImageFactory {
             G2.setColor(TICKMARK_COLOR);
         }
 
-        final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
-        final TextLayout TEXT_LAYOUT = new TextLayout(numberFormat.format(MAX_VALUE), G2.getFont(), RENDER_CONTEXT);
-        final Rectangle2D MAX_BOUNDS = TEXT_LAYOUT.getBounds(); // needed to align the numbers on the right (in vertical layout)
+        final LabelBoundsCache LABEL_BOUNDS = LabelBoundsCache.INSTANCE;
+        final double MAX_LABEL_WIDTH = LABEL_BOUNDS.getWidth(LABEL_FORMAT.format(MAX_VALUE), G2.getFont()); // needed to align the numbers on the right (in vertical layout)
         final Line2D TICK_LINE = new Line2D.Double(0, 0, 1, 1);
         final Ellipse2D TICK_CIRCLE = new Ellipse2D.Double(0, 0, 1, 1);
         final GeneralPath TICK_TRIANGLE = new GeneralPath();
 
-        TextLayout currentLayout;
-        Rectangle2D currentBounds;
+        String currentLabel;
+        final Rectangle2D CURRENT_BOUNDS = new Rectangle2D.Double();
         float textOffset;
         double currentPos;
         double valueCounter = MIN_VALUE;
@@ -780,15 +659,15 @@ public enum TickmarkImageFactory {
 
                     // Draw the standard tickmark labels
                     if (TICKLABELS_VISIBLE) {
-                        currentLayout = new TextLayout(numberFormat.format(valueCounter), G2.getFont(), RENDER_CONTEXT);
-                        currentBounds = currentLayout.getBounds();
+                        currentLabel = LABEL_FORMAT.format(valueCounter);
+                        LABEL_BOUNDS.getBounds(currentLabel, G2.getFont(), CURRENT_BOUNDS);
                         if (ORIENTATION == Orientation.VERTICAL) {
                             // Vertical orientation
-                            textOffset = (float) (MAX_BOUNDS.getWidth() - currentBounds.getWidth());
-                            G2.drawString(numberFormat.format(valueCounter), 0.18f * WIDTH + textOffset, (float) (currentPos - currentBounds.getHeight() / 2.0 + currentBounds.getHeight()));
+                            textOffset = (float) (MAX_LABEL_WIDTH - CURRENT_BOUNDS.getWidth());
+                            G2.drawString(currentLabel, 0.18f * WIDTH + textOffset, (float) (currentPos - CURRENT_BOUNDS.getHeight() / 2.0 + CURRENT_BOUNDS.getHeight()));
                         } else {
                             // Horizontal orientation
-                            G2.drawString(numberFormat.format(valueCounter), (float) (tickCounter * tickSpaceScaling - currentBounds.getWidth() / 3.0 + SCALE_BOUNDS.getX()), (float) (HEIGHT * 0.68 + 1.5 * currentBounds.getHeight()));
+                            G2.drawString(currentLabel, (float) (tickCounter * tickSpaceScaling - CURRENT_BOUNDS.getWidth() / 3.0 + SCALE_BOUNDS.getX()), (float) (HEIGHT * 0.68 + 1.5 * CURRENT_BOUNDS.getHeight()));
                         }
                     }
 
@@ -853,15 +732,15 @@ public enum TickmarkImageFactory {
                         }
                         // Ticklabels
                         if (TICKLABELS_VISIBLE) {
-                            currentLayout = new TextLayout(numberFormat.format(counter), G2.getFont(), RENDER_CONTEXT);
-                            currentBounds = currentLayout.getBounds();
+                            currentLabel = LABEL_FORMAT.format(counter);
+                            LABEL_BOUNDS.getBounds(currentLabel, G2.getFont(), CURRENT_BOUNDS);
                             if (ORIENTATION == Orientation.VERTICAL) {
                                 // Vertical orientation
-                                textOffset = (float) (MAX_BOUNDS.getWidth() - currentBounds.getWidth());
-                                G2.drawString(numberFormat.format(counter), 0.18f * WIDTH + textOffset, (float) (pos - currentBounds.getHeight() / 2.0 + currentBounds.getHeight()));
+                                textOffset = (float) (MAX_LABEL_WIDTH - CURRENT_BOUNDS.getWidth());
+                                G2.drawString(currentLabel, 0.18f * WIDTH + textOffset, (float) (pos - CURRENT_BOUNDS.getHeight() / 2.0 + CURRENT_BOUNDS.getHeight()));
                             } else {
                                 // Horizontal orientation
-                                G2.drawString(numberFormat.format(counter), (float) (pos - currentBounds.getWidth() / 3.0), (float) (HEIGHT * 0.68 + 1.5 * currentBounds.getHeight()));
+                                G2.drawString(currentLabel, (float) (pos - CURRENT_BOUNDS.getWidth() / 3.0), (float) (HEIGHT * 0.68 + 1.5 * CURRENT_BOUNDS.getHeight()));
                             }
                         }
                     }
@@ -874,42 +753,12 @@ public enum TickmarkImageFactory {
 
         if (BACKGROUND_IMAGE != null) {
             final Graphics2D G = BACKGROUND_IMAGE.createGraphics();
-            G.drawImage(imageBufferLin, 0, 0, null);
+            G.drawImage(TICKMARKS_IMAGE, 0, 0, null);
             G.dispose();
         }
 
-        // Buffer the current parameters
-        widthBufferLin = WIDTH;
-        heightBufferLin = HEIGHT;
-        minValueBufferLin = MIN_VALUE;
-        maxValueBufferLin = MAX_VALUE;
-        noOfMinorTicksBufferLin = NO_OF_MINOR_TICKS;
-        noOfMajorTicksBufferLin = NO_OF_MAJOR_TICKS;
-        minorTickSpacingBufferLin = MINOR_TICK_SPACING;
-        majorTickSpacingBufferLin = MAJOR_TICK_SPACING;
-        minorTickmarkTypeBufferLin = MINOR_TICKMARK_TYPE;
-        majorTickmarkTypeBufferLin = MAJOR_TICKMARK_TYPE;
-        ticksVisibleBufferLin = TICKS_VISIBLE;
-        ticklabelsVisibleBufferLin = TICKLABELS_VISIBLE;
-        minorTicksVisibleBufferLin = MINOR_TICKS_VISIBLE;
-        majorTicksVisibleBufferLin = MAJOR_TICKS_VISIBLE;
-        numberFormatBufferLin = NUMBER_FORMAT;
-        tickmarkSectionsVisibleBufferLin = TICKMARK_SECTIONS_VISIBLE;
-        backgroundColorBufferLin = BACKGROUND_COLOR;
-        tickmarkColorBufferLin = TICKMARK_COLOR;
-        tickmarkColorFromThemeBufferLin = TICKMARK_COLOR_FROM_THEME;
-        if (tickmarkSections != null) {
-            tickmarkSectionsBufferLin.clear();
-            tickmarkSectionsBufferLin.addAll(tickmarkSections);
-        }
-        if (OFFSET != null) {
-            offsetBufferLin.setLocation(OFFSET);
-        }
-        orientationBufferLin = ORIENTATION;
-        niceScaleLin = NICE_SCALE;
-        logScaleLin = LOG_SCALE;
-
-        return imageBufferLin;
+        // Buffer the current image
+        return CACHE.put(KEY, TICKMARKS_IMAGE);
     }
 
     private void drawLinearTicks(final Graphics2D G2,
@@ -966,4 +815,44 @@ public enum TickmarkImageFactory {
         }
     }
     // </editor-fold>
+
+    /**
+     * Returns the number format that will be used for the ticklabels. If the
+     * given number format is AUTO it will be derived from the major tick spacing.
+     * @param NUMBER_FORMAT
+     * @param MAJOR_TICK_SPACING
+     * @return the number format that will be used for the ticklabels
+     */
+    private NumberFormat getTicklabelFormat(final NumberFormat NUMBER_FORMAT, final double MAJOR_TICK_SPACING) {
+        if (NUMBER_FORMAT != NumberFormat.AUTO) {
+            return NUMBER_FORMAT;
+        }
+        if (Math.abs(MAJOR_TICK_SPACING) > 1000) {
+            return NumberFormat.SCIENTIFIC;
+        } else if (MAJOR_TICK_SPACING % 1.0 != 0) {
+            return NumberFormat.FRACTIONAL;
+        } else {
+            return NumberFormat.STANDARD;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the start, stop and color of the given sections
+     * that could be used as part of an ImageCacheKey
+     * @param SECTIONS
+     * @return a snapshot of the start, stop and color of the given sections
+     */
+    private Object[] sectionsKey(final List<Section> SECTIONS) {
+        if (SECTIONS == null) {
+            return null;
+        }
+        final Object[] KEY = new Object[SECTIONS.size() * 3];
+        int index = 0;
+        for (Section section : SECTIONS) {
+            KEY[index++] = section.getStart();
+            KEY[index++] = section.getStop();
+            KEY[index++] = section.getColor();
+        }
+        return KEY;
+    }
 }
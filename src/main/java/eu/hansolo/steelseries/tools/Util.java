@@ -35,6 +35,7 @@ import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.LinearGradientPaint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Transparency;
@@ -46,11 +47,10 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.util.LinkedList;
-import java.util.Random;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.imageio.ImageIO;
 
@@ -65,9 +65,7 @@ public enum Util {
     INSTANCE;
     private final float       INT_TO_FLOAT_CONST = 1f / 255f;
     private final Pattern     NUMBERS_ONLY       = Pattern.compile("^[-+]?[0-9]+[.]?[0-9]*([eE][-+]?[0-9]+)?$");
-    private final Matcher     MATCHES_NUMBERS    = NUMBERS_ONLY.matcher("");
     private final Font        STANDARD_FONT      = new Font("Verdana", 1, 24);
-    private final Rectangle2D TEXT_BOUNDARY      = new Rectangle2D.Double(0, 0, 10, 10);
     private Font              digitalFont        = null;
 
     /**
@@ -98,21 +96,19 @@ public enum Util {
      * @return Glyph that is a shape of the given string rotated around it's center.
      */
     public Shape rotateTextAroundCenter(final Graphics2D G2, final String TEXT, final int TEXT_POSITION_X, final int TEXT_POSITION_Y, final double ROTATION_ANGLE) {
-        final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
-        final TextLayout TEXT_LAYOUT = new TextLayout(TEXT, G2.getFont(), RENDER_CONTEXT);
+        final LabelBoundsCache LABEL_BOUNDS = LabelBoundsCache.INSTANCE;
 
         // Check if need to take the fonts descent into account
         final float DESCENT;
-        MATCHES_NUMBERS.reset(TEXT);
-        if (MATCHES_NUMBERS.matches()) {
-            DESCENT = TEXT_LAYOUT.getDescent();
+        if (NUMBERS_ONLY.matcher(TEXT).matches()) {
+            DESCENT = LABEL_BOUNDS.getDescent(TEXT, G2.getFont());
         } else {
             DESCENT = 0;
         }
-        final Rectangle2D TEXT_BOUNDS = TEXT_LAYOUT.getBounds();
-        TEXT_BOUNDARY.setRect(TEXT_BOUNDS.getMinX(), TEXT_BOUNDS.getMinY(), TEXT_BOUNDS.getWidth(), TEXT_BOUNDS.getHeight() + DESCENT / 2);
+        final Rectangle2D TEXT_BOUNDARY = LABEL_BOUNDS.getBounds(TEXT, G2.getFont(), new Rectangle2D.Double());
+        TEXT_BOUNDARY.setRect(TEXT_BOUNDARY.getMinX(), TEXT_BOUNDARY.getMinY(), TEXT_BOUNDARY.getWidth(), TEXT_BOUNDARY.getHeight() + DESCENT / 2);
 
-        final GlyphVector GLYPH_VECTOR = G2.getFont().createGlyphVector(RENDER_CONTEXT, TEXT);
+        final GlyphVector GLYPH_VECTOR = G2.getFont().createGlyphVector(LABEL_BOUNDS.getRenderContext(), TEXT);
 
         final java.awt.Shape GLYPH = GLYPH_VECTOR.getOutline((int) -TEXT_BOUNDARY.getCenterX(), 2 * (int) TEXT_BOUNDARY.getCenterY());
 
@@ -165,6 +161,39 @@ public enum Util {
         return new Point2D.Double(TEXT_X, TEXT_Y);
     }
 
+    /**
+     * Mirrors the given Graphics2D object so that a quarter circle gauge that was
+     * designed for the NORTH_WEST orientation will be drawn in the given orientation.
+     * @param ORIENTATION
+     * @param IMAGE_WIDTH
+     * @param IMAGE_HEIGHT
+     * @param G2
+     */
+    public void transformQuarterGraphics(final Orientation ORIENTATION, final int IMAGE_WIDTH, final int IMAGE_HEIGHT, final Graphics2D G2) {
+        switch (ORIENTATION) {
+            // UpperRight
+            case NORTH_EAST:
+                G2.scale(-1, 1);
+                G2.translate(-IMAGE_WIDTH, 0);
+                break;
+            // LowerRight
+            case SOUTH_EAST:
+                G2.scale(-1, -1);
+                G2.translate(-IMAGE_WIDTH, -IMAGE_HEIGHT);
+                break;
+            // LowerLeft
+            case SOUTH_WEST:
+                G2.scale(1, -1);
+                G2.translate(0, -IMAGE_HEIGHT);
+                break;
+            // UpperLeft
+            case NORTH_WEST:
+
+            default:
+                G2.scale(1, 1);
+        }
+    }
+
     /**
      * This method was taken from the great book "Filthy Rich Clients"
      * from Chet Haase and Romain Guy
@@ -284,6 +313,7 @@ public enum Util {
     /**
      * Creates a texture with a brushed metal look. The code originaly comes from Jerry Huxtable.
      * If you don't know his Java image related stuff you have to check out http://huxtable.com/
+     * The noise is only calculated for a seamless tile that will be cached and repeated (see TextureImageFactory).
      * @param WIDTH
      * @param HEIGHT
      * @param COLOR
@@ -294,58 +324,21 @@ public enum Util {
      * @return a buffered image that contains a brushed metal texture
      */
     public BufferedImage createBrushMetalTexture(final Color COLOR, final int WIDTH, final int HEIGHT, final int RADIUS, final float AMOUNT, final boolean MONOCHROME, final float SHINE) {
-        if (WIDTH <= 0 || HEIGHT <= 0) {
-            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-        }
-
-        final BufferedImage IMAGE = createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        BrushedMetalFilter metalBrush = new BrushedMetalFilter();
-        if (COLOR != null) {
-            metalBrush.setColor(COLOR.getRGB());
-        }
-        metalBrush.setAmount(AMOUNT);
-        metalBrush.setMonochrome(MONOCHROME);
-        metalBrush.setShine(SHINE);
-        metalBrush.setRadius(RADIUS);
-        return metalBrush.filter(IMAGE, IMAGE);
+        return TextureImageFactory.INSTANCE.createBrushedMetalTexture(COLOR, WIDTH, HEIGHT, RADIUS, AMOUNT, MONOCHROME, SHINE);
     }
 
     /**
      * Creates a texture with a linen look. The code is derived from Jerry Huxtables BrushMetalTexture.
      * A linen texture is in principle the same as a brushed metal texture but instead of adding a motion blur to
      * the noise pattern in only one direction you add a second motion blur to the orthogonal direction.
+     * The noise is only calculated for a seamless tile that will be cached and repeated (see TextureImageFactory).
      * @param COLOR
      * @param WIDTH
      * @param HEIGHT
      * @return a buffered image that contains a linen texture
      */
     public BufferedImage createLinenTexture(final Color COLOR, final int WIDTH, final int HEIGHT) {
-        if (WIDTH <= 0 || HEIGHT <= 0) {
-            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-        }
-
-        final BufferedImage IMAGE1 = createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final BufferedImage IMAGE2 = createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        LinenFilter linenBrush = new LinenFilter();
-        if (COLOR != null) {
-            linenBrush.setColor(COLOR.getRGB());
-        }
-        final AlphaComposite COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f);
-        final BufferedImage RESULT = createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
-        final Graphics2D G2 = RESULT.createGraphics();
-        G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        linenBrush.setShine(0.25f);
-        linenBrush.setAmount(0.65f);
-        linenBrush.setRadius(60);
-        G2.drawImage(linenBrush.filter(IMAGE1, IMAGE1), 0, 0, null);
-        G2.setComposite(COMPOSITE);
-        linenBrush.setOrientation(Orientation.VERTICAL);
-        linenBrush.setAmount(0.7f);
-        linenBrush.setRadius(55);
-        G2.drawImage(linenBrush.filter(IMAGE2, IMAGE2), 0, 0, null);
-        G2.dispose();
-
-        return RESULT;
+        return TextureImageFactory.INSTANCE.createLinenTexture(COLOR, WIDTH, HEIGHT);
     }
 
     /**
@@ -578,13 +571,11 @@ public enum Util {
      * @return a buffered image that contains a texture of dark punched sheet.
      */
     public BufferedImage create_PUNCHED_SHEET_Image(final int SIZE, final Color TEXTURE_COLOR) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-
         if (SIZE <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, Transparency.TRANSLUCENT);
+            return createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(SIZE, SIZE, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = createImage(SIZE, SIZE, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
@@ -642,57 +633,76 @@ public enum Util {
      * @return a buffered image that contains a simple random noise
      */
     public BufferedImage create_NOISE_Image(final int WIDTH, final int HEIGHT, final Color COLOR) {
-        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-
         if (WIDTH <= 0 || HEIGHT <= 0) {
-            return GFX_CONF.createCompatibleImage(1, 1, Transparency.TRANSLUCENT);
+            return createImage(1, 1, Transparency.TRANSLUCENT);
         }
 
-        final BufferedImage IMAGE = GFX_CONF.createCompatibleImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
+        final BufferedImage IMAGE = createImage(WIDTH, HEIGHT, Transparency.TRANSLUCENT);
         final Graphics2D G2 = IMAGE.createGraphics();
         G2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         G2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
 
-        final int IMAGE_WIDTH = IMAGE.getWidth();
-        final int IMAGE_HEIGHT = IMAGE.getHeight();
-
-        final Color DARK_NOISE = COLOR.darker();
-        final Color BRIGHT_NOISE = COLOR.brighter();
-
-        final Random BW_RND = new Random();
-        final Random ALPHA_RND = new Random();
-        Color noiseColor;
-        int noiseAlpha;
-        for (int y = 0; y < IMAGE_HEIGHT; y++) {
-            for (int x = 0; x < IMAGE_WIDTH; x++) {
-                if (BW_RND.nextBoolean()) {
-                    noiseColor = BRIGHT_NOISE;
-                } else {
-                    noiseColor = DARK_NOISE;
-                }
-                noiseAlpha = 90 + ALPHA_RND.nextInt(90) - 45;
-                G2.setColor(new Color(noiseColor.getRed(), noiseColor.getGreen(), noiseColor.getBlue(), noiseAlpha));
-                G2.drawLine(x, y, x, y);
-            }
-        }
+        // The noise image is cached and shared, the caller gets its own copy
+        G2.drawImage(TextureImageFactory.INSTANCE.getNoiseImage(WIDTH, HEIGHT, COLOR.brighter(), COLOR.darker(), 45, 134, TextureImageFactory.NOISE_SEED), 0, 0, null);
         G2.dispose();
 
         return IMAGE;
     }
 
     /**
-     * Returns a compatible image of the given size and transparency
+     * Returns a compatible image of the given size and transparency.
+     * If there is no screen device available (e.g. java.awt.headless=true)
+     * a plain ARGB (or RGB for opaque images) buffered image will be returned.
      * @param WIDTH
      * @param HEIGHT
      * @param TRANSPARENCY
      * @return a compatible image of the given size and transparency
      */
     public BufferedImage createImage(final int WIDTH, final int HEIGHT, final int TRANSPARENCY) {
-        GraphicsConfiguration gfxConf = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-        if (WIDTH <= 0 || HEIGHT <= 0) {
-            return gfxConf.createCompatibleImage(1, 1, TRANSPARENCY);
+        final int IMAGE_WIDTH = WIDTH <= 0 ? 1 : WIDTH;
+        final int IMAGE_HEIGHT = HEIGHT <= 0 ? 1 : HEIGHT;
+        RenderMetrics.INSTANCE.recordImage(IMAGE_WIDTH, IMAGE_HEIGHT);
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, TRANSPARENCY == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+        final GraphicsConfiguration GFX_CONF = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        return GFX_CONF.createCompatibleImage(IMAGE_WIDTH, IMAGE_HEIGHT, TRANSPARENCY);
+    }
+
+    /**
+     * Returns the smallest rectangle that contains all non transparent
+     * pixels of the given image or an empty rectangle if the image is
+     * completely transparent.
+     * @param IMAGE
+     * @return the bounds of the non transparent pixels of the given image
+     */
+    public Rectangle getOpaqueBounds(final BufferedImage IMAGE) {
+        final WritableRaster ALPHA_RASTER = IMAGE.getAlphaRaster();
+        if (ALPHA_RASTER == null) {
+            return new Rectangle(0, 0, IMAGE.getWidth(), IMAGE.getHeight());
+        }
+        final int WIDTH = ALPHA_RASTER.getWidth();
+        final int HEIGHT = ALPHA_RASTER.getHeight();
+        final int[] ROW = new int[WIDTH];
+        int minX = WIDTH;
+        int minY = HEIGHT;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < HEIGHT; y++) {
+            ALPHA_RASTER.getSamples(0, y, WIDTH, 1, 0, ROW);
+            for (int x = 0; x < WIDTH; x++) {
+                if (ROW[x] != 0) {
+                    minX = x < minX ? x : minX;
+                    maxX = x > maxX ? x : maxX;
+                    minY = y < minY ? y : minY;
+                    maxY = y;
+                }
+            }
+        }
+        if (maxX < 0) {
+            return new Rectangle();
         }
-        return gfxConf.createCompatibleImage(WIDTH, HEIGHT, TRANSPARENCY);
+        return new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
     }
 
     /**
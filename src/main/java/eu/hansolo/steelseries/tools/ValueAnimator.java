@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+import org.pushingpixels.trident.ease.TimelineEase;
+
+/**
+ * Animates a value towards a target value on the shared PulseScheduler.
+ * One animator will be reused for all animations of a gauge. If a new
+ * target is set while an animation is running, the running animation
+ * will be retargeted in place. The new animation starts at the current
+ * value with the current velocity so there is no visible jump in the
+ * movement. The movement between the values follows the given easing
+ * (cubic hermite interpolation if no easing is given) and the velocity
+ * of a retargeted animation fades out like a cubic hermite curve that
+ * ends with zero velocity. The animated value never leaves the range of
+ * the target. Optionally the animation could return to a given value
+ * after the target value was reached (e.g. auto return to zero).
+ * No objects will be created during an animation.
+ * @author hansolo
+ */
+public class ValueAnimator extends PulseTimer {
+
+    /**
+     * The object which value will be animated.
+     * All methods will be called on the event dispatch thread.
+     */
+    public interface Target {
+        double getValue();
+
+        double getMinValue();
+
+        double getMaxValue();
+
+        void setValue(final double VALUE);
+
+        /**
+         * Will be called when the target value was reached and the
+         * animation will return to the return value.
+         * @param VALUE
+         */
+        void onTargetReached(final double VALUE);
+
+        void onAnimationFinished();
+    }
+    private static final long serialVersionUID = 31272L;
+    private static final double SLOPE_STEP = 0.001;
+    private final Target TARGET;
+    private double startValue;
+    private double startVelocity;
+    private double endValue;
+    private long startTime;
+    private long duration;
+    private TimelineEase ease;
+    private double returnValue;
+    private long returnDuration;
+
+    public ValueAnimator(final Target TARGET) {
+        super(PulseScheduler.DEFAULT_FRAME_INTERVAL, null);
+        this.TARGET = TARGET;
+        setInitialDelay(0);
+        setRepeats(true);
+        returnValue = Double.NaN;
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="Animation">
+    /**
+     * Animates the value of the target to the given value within the given duration
+     * @param VALUE
+     * @param DURATION in milliseconds
+     */
+    public void animateTo(final double VALUE, final long DURATION) {
+        animateTo(VALUE, DURATION, null, Double.NaN, 0);
+    }
+
+    /**
+     * Animates the value of the target to the given value within the given duration
+     * with the given easing
+     * @param VALUE
+     * @param DURATION in milliseconds
+     * @param EASE the easing of the movement or null for cubic hermite interpolation
+     */
+    public void animateTo(final double VALUE, final long DURATION, final TimelineEase EASE) {
+        animateTo(VALUE, DURATION, EASE, Double.NaN, 0);
+    }
+
+    /**
+     * Animates the value of the target to the given value within the given duration
+     * and afterwards to the given return value within the given return duration.
+     * @param VALUE
+     * @param DURATION in milliseconds
+     * @param RETURN_VALUE the value to return to or Double.NaN
+     * @param RETURN_DURATION in milliseconds
+     */
+    public void animateTo(final double VALUE, final long DURATION, final double RETURN_VALUE, final long RETURN_DURATION) {
+        animateTo(VALUE, DURATION, null, RETURN_VALUE, RETURN_DURATION);
+    }
+
+    /**
+     * Animates the value of the target to the given value within the given duration
+     * and afterwards to the given return value within the given return duration.
+     * Both movements follow the given easing.
+     * @param VALUE
+     * @param DURATION in milliseconds
+     * @param EASE the easing of the movement or null for cubic hermite interpolation
+     * @param RETURN_VALUE the value to return to or Double.NaN
+     * @param RETURN_DURATION in milliseconds
+     */
+    public void animateTo(final double VALUE, final long DURATION, final TimelineEase EASE, final double RETURN_VALUE, final long RETURN_DURATION) {
+        synchronized (this) {
+            final long NOW = currentTime();
+            final boolean RUNNING = isRunning();
+            if (RUNNING) {
+                // Retarget the running animation without a jump in position or velocity
+                final double T = getProgress(NOW);
+                final double CURRENT_VALUE = getValueAt(T);
+                startVelocity = getVelocityAt(T);
+                startValue = CURRENT_VALUE;
+                // A pointer that stands at the end of the range must not keep pushing against it
+                if ((startValue <= TARGET.getMinValue() && startVelocity < 0) || (startValue >= TARGET.getMaxValue() && startVelocity > 0)) {
+                    startVelocity = 0;
+                }
+            } else {
+                startValue = TARGET.getValue();
+                startVelocity = 0;
+            }
+            endValue = VALUE;
+            startTime = NOW;
+            duration = DURATION < 1 ? 1 : DURATION;
+            ease = EASE;
+            returnValue = RETURN_VALUE;
+            returnDuration = RETURN_DURATION < 1 ? 1 : RETURN_DURATION;
+            if (!RUNNING) {
+                start();
+            }
+        }
+    }
+
+    /**
+     * Stops the running animation at the current value
+     */
+    public synchronized void abort() {
+        stop();
+    }
+
+    @Override
+    void firePulse() {
+        final double VALUE;
+        final boolean TARGET_REACHED;
+        final boolean FINISHED;
+        synchronized (this) {
+            if (!isRunning()) {
+                return;
+            }
+            final long NOW = currentTime();
+            final double T = getProgress(NOW);
+            if (T < 1.0) {
+                VALUE = getValueAt(T);
+                TARGET_REACHED = false;
+                FINISHED = false;
+            } else {
+                VALUE = endValue;
+                if (Double.isNaN(returnValue)) {
+                    TARGET_REACHED = false;
+                    FINISHED = true;
+                    stop();
+                } else {
+                    TARGET_REACHED = true;
+                    FINISHED = false;
+                    startValue = endValue;
+                    startVelocity = 0;
+                    endValue = returnValue;
+                    startTime = NOW;
+                    duration = returnDuration;
+                    returnValue = Double.NaN;
+                }
+            }
+        }
+
+        TARGET.setValue(VALUE);
+        if (TARGET_REACHED) {
+            TARGET.onTargetReached(VALUE);
+        }
+        if (FINISHED) {
+            TARGET.onAnimationFinished();
+        }
+    }
+
+    private double getProgress(final long NOW) {
+        final double T = (NOW - startTime) / (double) duration;
+        return T < 0 ? 0 : (T > 1 ? 1 : T);
+    }
+
+    /**
+     * Eased movement from the start value to the end value plus the start velocity
+     * that fades out like a cubic hermite curve, limited to the range of the target
+     * @param T
+     * @return the value at the given progress
+     */
+    private double getValueAt(final double T) {
+        final double T2 = T * T;
+        final double T3 = T2 * T;
+        final double VALUE = startValue + (endValue - startValue) * getEasedProgress(T) + (T3 - 2 * T2 + T) * duration * startVelocity;
+        final double MIN_VALUE = TARGET.getMinValue();
+        final double MAX_VALUE = TARGET.getMaxValue();
+        return VALUE < MIN_VALUE ? MIN_VALUE : (VALUE > MAX_VALUE ? MAX_VALUE : VALUE);
+    }
+
+    /**
+     * Returns the first derivative of the movement (value per millisecond)
+     * @param T
+     * @return the velocity at the given progress
+     */
+    private double getVelocityAt(final double T) {
+        final double T2 = T * T;
+        return ((endValue - startValue) * getEasedSlope(T) + (3 * T2 - 4 * T + 1) * duration * startVelocity) / duration;
+    }
+
+    private double getEasedProgress(final double T) {
+        if (ease == null) {
+            return 3 * T * T - 2 * T * T * T;
+        }
+        return ease.map((float) T);
+    }
+
+    private double getEasedSlope(final double T) {
+        if (ease == null) {
+            return 6 * T - 6 * T * T;
+        }
+        final double T0 = T - SLOPE_STEP < 0 ? 0 : T - SLOPE_STEP;
+        final double T1 = T + SLOPE_STEP > 1 ? 1 : T + SLOPE_STEP;
+        return (getEasedProgress(T1) - getEasedProgress(T0)) / (T1 - T0);
+    }
+
+    private static long currentTime() {
+        return System.nanoTime() / 1000000L;
+    }
+    // </editor-fold>
+
+    /**
+     * Returns the value the current animation is heading to
+     * @return the value the current animation is heading to
+     */
+    public synchronized double getEndValue() {
+        return endValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ValueAnimator";
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2012, Gerrit Grunwald
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * The names of its contributors may not be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package eu.hansolo.steelseries.tools;
+
+
+/**
+ * A small and fast xorshift pseudo random number generator that is used to create
+ * the noise of the procedural textures. In contrast to java.util.Random it is not
+ * thread safe and does not synchronize on every call, which makes it suitable for
+ * loops that need one random number per pixel.
+ * @author Gerrit Grunwald <han.solo at muenster.de>
+ */
+final class XorShiftRandom {
+    private long seed;
+
+    XorShiftRandom(final long SEED) {
+        // The state of a xorshift generator must never be zero
+        seed = SEED == 0 ? 0x2545F4914F6CDD1DL : SEED;
+    }
+
+    /**
+     * Returns the next pseudo random long value
+     * @return the next pseudo random long value
+     */
+    long nextLong() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return seed;
+    }
+
+    /**
+     * Returns the next pseudo random int value
+     * @return the next pseudo random int value
+     */
+    int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a pseudo random int value between 0 (inclusive) and the given bound (exclusive)
+     * @param BOUND
+     * @return a pseudo random int value between 0 (inclusive) and the given bound (exclusive)
+     */
+    int nextInt(final int BOUND) {
+        return (int) (((nextLong() >>> 33) * BOUND) >>> 31);
+    }
+
+    /**
+     * Returns a pseudo random float value between 0.0 (inclusive) and 1.0 (exclusive)
+     * @return a pseudo random float value between 0.0 (inclusive) and 1.0 (exclusive)
+     */
+    float nextFloat() {
+        return (nextLong() >>> 40) / (float) (1 << 24);
+    }
+
+    /**
+     * Returns a pseudo random boolean value
+     * @return a pseudo random boolean value
+     */
+    boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+}
@@ -0,0 +1,72 @@
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.Model;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class GaugeExporterTest {
+
+    public GaugeExporterTest() {
+    }
+
+    /**
+     * Test of export method, of class GaugeExporter.
+     * Jobs that are rejected by the executor have to be reported as failed
+     * and must not block the export.
+     */
+    @Test(timeout = 10000)
+    public void testExportRejectedJobs() throws Exception {
+        System.out.println("export");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        final GaugeExporter instance = new GaugeExporter(executor, 2);
+        final List<ExportJob> jobs = new ArrayList<ExportJob>();
+        for (int i = 0; i < 5; i++) {
+            jobs.add(new ExportJob.Builder().name("radial" + i).kind(ExportJob.Kind.RADIAL).model(new Model()).size(100, 100).build());
+        }
+        final AtomicInteger exported = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        instance.export(jobs.iterator(), new GaugeExporter.ResultHandler() {
+            @Override
+            public void exported(final ExportResult RESULT) {
+                exported.incrementAndGet();
+            }
+
+            @Override
+            public void failed(final ExportJob JOB, final Throwable THROWABLE) {
+                assertTrue(THROWABLE instanceof RejectedExecutionException);
+                failed.incrementAndGet();
+            }
+        });
+        assertEquals(0, exported.get());
+        assertEquals(5, failed.get());
+        assertEquals(5, instance.getMetrics().getFailedJobs());
+    }
+
+    /**
+     * Test of create method, of class SpriteSheet.
+     * Results with the same name must not share one entry of the index.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpriteSheetDuplicateNames() {
+        System.out.println("create");
+        final ExportJob job = new ExportJob.Builder().name("radial").kind(ExportJob.Kind.RADIAL).model(new Model()).size(10, 10).build();
+        final BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        final List<ExportResult> results = new ArrayList<ExportResult>();
+        results.add(new ExportResult(job, image, null, 0, 0));
+        results.add(new ExportResult(job, image, null, 0, 0));
+        SpriteSheet.create(results, 2);
+    }
+}
@@ -0,0 +1,112 @@
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.BackgroundColor;
+import eu.hansolo.steelseries.tools.DesignSet;
+import eu.hansolo.steelseries.tools.FrameDesign;
+import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.Model;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.awt.Graphics2D;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class GaugeRendererTest {
+
+    public GaugeRendererTest() {
+    }
+
+    /**
+     * Test of renderRadial method, of class GaugeRenderer.
+     * The lcd has to show the value of the model.
+     */
+    @Test
+    public void testRenderRadialLcdValue() {
+        System.out.println("renderRadial");
+        final Model coupled = new Model();
+        coupled.setValue(42);
+        final Model uncoupled = new Model();
+        uncoupled.setValueCoupled(false);
+        uncoupled.setValue(42);
+        final BufferedImage coupledImage = GaugeRenderer.INSTANCE.renderRadial(coupled, null, "", "", 200);
+        final BufferedImage uncoupledImage = GaugeRenderer.INSTANCE.renderRadial(uncoupled, null, "", "", 200);
+        assertFalse(equalPixels(coupledImage, uncoupledImage));
+    }
+
+    /**
+     * Test of renderRadial, renderLinear and renderDisplaySingle method, of class GaugeRenderer.
+     * The design must not be applied to the model of the caller, which might
+     * be shared with gauges on the screen.
+     */
+    @Test
+    public void testRenderKeepsModel() {
+        System.out.println("renderRadial/renderLinear/renderDisplaySingle");
+        final Model model = new Model();
+        model.setValue(42);
+        final FrameDesign frameDesign = model.getFrameDesign();
+        final BackgroundColor backgroundColor = model.getBackgroundColor();
+        final LcdColor lcdColor = model.getLcdColor();
+        final AtomicInteger events = new AtomicInteger();
+        model.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent EVENT) {
+                events.incrementAndGet();
+            }
+        });
+        final DesignSet design = new DesignSet.Builder().frameDesign(FrameDesign.GOLD).backgroundColor(BackgroundColor.WHITE).lcdColor(LcdColor.RED_LCD).build();
+        final BufferedImage designed = GaugeRenderer.INSTANCE.renderRadial(model, design, "Title", "Unit", 200);
+        assertFalse(equalPixels(designed, GaugeRenderer.INSTANCE.renderRadial(model, null, "Title", "Unit", 200)));
+        GaugeRenderer.INSTANCE.renderLinear(model, design, "Title", "Unit", 140, 400);
+        GaugeRenderer.INSTANCE.renderDisplaySingle(model, design, "Unit", 200, 70);
+        assertEquals(frameDesign, model.getFrameDesign());
+        assertEquals(backgroundColor, model.getBackgroundColor());
+        assertEquals(lcdColor, model.getLcdColor());
+        assertEquals(0, events.get());
+    }
+
+    /**
+     * Test of renderLinear method, of class GaugeRenderer.
+     * A linear gauge that is higher than wide has to be rendered like a
+     * vertical gauge that has been resized in a container.
+     */
+    @Test
+    public void testRenderVerticalLinear() {
+        System.out.println("renderLinear");
+        final Model model = new Model();
+        model.setValue(42);
+        final BufferedImage image = GaugeRenderer.INSTANCE.renderLinear(model, null, "", "", 140, 400);
+        assertEquals(140, image.getWidth());
+        assertEquals(400, image.getHeight());
+
+        final Linear reference = new Linear();
+        reference.setTitle("");
+        reference.setUnitString("");
+        reference.setValue(42);
+        reference.setSize(140, 400);
+        reference.componentResized(new ComponentEvent(reference, ComponentEvent.COMPONENT_RESIZED));
+        final BufferedImage referenceImage = new BufferedImage(140, 400, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = referenceImage.createGraphics();
+        reference.paint(g2);
+        g2.dispose();
+        assertTrue(equalPixels(referenceImage, image));
+    }
+
+    private static boolean equalPixels(final BufferedImage image1, final BufferedImage image2) {
+        for (int y = 0; y < image1.getHeight(); y++) {
+            for (int x = 0; x < image1.getWidth(); x++) {
+                if (image1.getRGB(x, y) != image2.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.BackgroundColor;
+import eu.hansolo.steelseries.tools.ColorDef;
+import eu.hansolo.steelseries.tools.ForegroundType;
+import eu.hansolo.steelseries.tools.FrameDesign;
+import eu.hansolo.steelseries.tools.KnobStyle;
+import eu.hansolo.steelseries.tools.KnobType;
+import eu.hansolo.steelseries.tools.LcdColor;
+import eu.hansolo.steelseries.tools.PointerType;
+import eu.hansolo.steelseries.tools.RenderMetrics;
+import java.awt.EventQueue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class RadialBatchTest {
+
+    public RadialBatchTest() {
+    }
+
+    /**
+     * Test of batch method, of class AbstractGauge.
+     * All setters in one batch have to initialize the gauge only once,
+     * also the ones that request the initialization directly.
+     */
+    @Test
+    public void testBatchInitializesOnce() throws Exception {
+        System.out.println("batch");
+        final RenderMetrics metrics = RenderMetrics.INSTANCE;
+        final Radial instance = new Radial();
+        instance.setLazyInitEnabled(false);
+        instance.setSize(200, 200);
+        // Let the resize events of setSize() pass before counting
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        metrics.setEnabled(true);
+        try {
+            instance.batch(new Runnable() {
+                @Override
+                public void run() {
+                    instance.setPointerType(PointerType.TYPE2);
+                    instance.setPointerColor(ColorDef.BLUE);
+                    instance.setKnobType(KnobType.BIG_STD_KNOB);
+                    instance.setKnobStyle(KnobStyle.BRASS);
+                    instance.setLcdColor(LcdColor.BLUE_LCD);
+                    instance.setForegroundType(ForegroundType.FG_TYPE2);
+                    instance.setFrameDesign(FrameDesign.BRASS);
+                    instance.setBackgroundColor(BackgroundColor.WHITE);
+                }
+            });
+            assertEquals(1, metrics.getStatistics(instance).getInitCount());
+            assertEquals(PointerType.TYPE2, instance.getPointerType());
+        } finally {
+            metrics.setEnabled(false);
+        }
+    }
+}
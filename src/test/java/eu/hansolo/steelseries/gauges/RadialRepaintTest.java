@@ -0,0 +1,52 @@
+package eu.hansolo.steelseries.gauges;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class RadialRepaintTest {
+
+    public RadialRepaintTest() {
+    }
+
+    /**
+     * Test of setValue method, of class AbstractGauge.
+     * A value below the threshold must not repaint the whole gauge
+     * because of the threshold led that is already switched off.
+     */
+    @Test
+    public void testSetValueRepaintsDirtyRegionOnly() {
+        System.out.println("setValue");
+        final List<Rectangle> repaints = new ArrayList<Rectangle>();
+        final Radial instance = new Radial() {
+            @Override
+            public void repaint(final long TIME, final int X, final int Y, final int WIDTH, final int HEIGHT) {
+                repaints.add(new Rectangle(X, Y, WIDTH, HEIGHT));
+                super.repaint(TIME, X, Y, WIDTH, HEIGHT);
+            }
+        };
+        instance.setSize(200, 200);
+        instance.setThreshold(80);
+        instance.setValue(10);
+        final BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = image.createGraphics();
+        instance.paint(g2);
+        g2.dispose();
+
+        repaints.clear();
+        instance.setValue(20);
+        assertFalse(repaints.isEmpty());
+        for (Rectangle repaint : repaints) {
+            assertFalse(repaint.contains(instance.getInnerBounds()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package eu.hansolo.steelseries.gauges;
+
+import eu.hansolo.steelseries.tools.Section;
+import java.awt.Color;
+import java.awt.EventQueue;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class RadialSectionsTest {
+
+    public RadialSectionsTest() {
+    }
+
+    /**
+     * Test of setSections and setAreas method, of class Radial.
+     * Sections and areas with the same values as before are new copies in
+     * the model that need their shapes for highlighting, although the
+     * layers will not be rendered again.
+     */
+    @Test
+    public void testSetSameSections() throws Exception {
+        System.out.println("setSections");
+        // Swing components have to be used on the event dispatch thread
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                final Radial instance = new Radial();
+                instance.setLazyInitEnabled(false);
+                instance.setSize(200, 200);
+                instance.setSectionsVisible(true);
+                instance.setHighlightSection(true);
+                instance.setAreasVisible(true);
+                instance.setHighlightArea(true);
+                instance.setSections(new Section(0, 50, Color.GREEN), new Section(50, 100, Color.RED));
+                instance.setAreas(new Section(0, 50, Color.GREEN), new Section(50, 100, Color.RED));
+                instance.setValue(75);
+                paint(instance);
+
+                instance.setSections(new Section(0, 50, Color.GREEN), new Section(50, 100, Color.RED));
+                instance.setAreas(new Section(0, 50, Color.GREEN), new Section(50, 100, Color.RED));
+                paint(instance);
+                assertNotNull(instance.getSections().get(1).getSectionArea());
+                assertNotNull(instance.getAreas().get(1).getFilledArea());
+            }
+        });
+    }
+
+    private static void paint(final Radial GAUGE) {
+        final BufferedImage IMAGE = new BufferedImage(GAUGE.getWidth(), GAUGE.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D G2 = IMAGE.createGraphics();
+        GAUGE.paint(G2);
+        G2.dispose();
+    }
+}
@@ -0,0 +1,49 @@
+package eu.hansolo.steelseries.tools;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class BandExecutorTest {
+
+    public BandExecutorTest() {
+    }
+
+    /**
+     * Test of run method, of class BandExecutor.
+     * An interrupted caller must not return normally with unprocessed bands.
+     * Only the parallel processing waits for the bands, so the test needs
+     * more than one processor.
+     */
+    @Test(timeout = 10000)
+    public void testRunInterrupted() {
+        System.out.println("run");
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        try {
+            BandExecutor.INSTANCE.run(1024, 1024 * 1024, new BandExecutor.Band() {
+                @Override
+                public void process(final int FROM, final int TO, final int BAND_INDEX) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            fail("Expected a CancellationException");
+        } catch (CancellationException exception) {
+            assertTrue(Thread.interrupted());
+        } finally {
+            release.countDown();
+        }
+    }
+}
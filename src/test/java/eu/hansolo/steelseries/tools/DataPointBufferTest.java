@@ -0,0 +1,82 @@
+package eu.hansolo.steelseries.tools;
+
+import java.util.LinkedList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class DataPointBufferTest {
+
+    public DataPointBufferTest() {
+    }
+
+    /**
+     * Test of add and removeOlderThan method, of class DataPointBuffer.
+     * The incremental statistics have to match a full scan of the values.
+     */
+    @Test
+    public void testSlidingWindowStatistics() {
+        System.out.println("add/removeOlderThan");
+        final DataPointBuffer instance = new DataPointBuffer(4);
+        final LinkedList<DataPoint> reference = new LinkedList<DataPoint>();
+        final Random random = new Random(42);
+        final long timeFrame = 500;
+        for (long timestamp = 0; timestamp < 5000; timestamp += 1 + random.nextInt(20)) {
+            final double value = random.nextInt(50) - 25;
+            instance.removeOlderThan(timestamp, timeFrame);
+            instance.add(timestamp, value);
+            while (!reference.isEmpty() && timestamp - reference.getFirst().getTimeStamp() > timeFrame) {
+                reference.removeFirst();
+            }
+            reference.add(new DataPoint(timestamp, value));
+            assertEquals(reference.size(), instance.size());
+
+            double min = reference.getFirst().getValue();
+            double max = min;
+            int minIndex = 0;
+            int maxIndex = 0;
+            double sum = 0;
+            for (int i = 0; i < reference.size(); i++) {
+                final double v = reference.get(i).getValue();
+                if (v < min) {
+                    min = v;
+                    minIndex = i;
+                }
+                if (v > max) {
+                    max = v;
+                    maxIndex = i;
+                }
+                sum += v;
+            }
+            assertEquals(min, instance.getMin(), 0);
+            assertEquals(max, instance.getMax(), 0);
+            assertEquals(minIndex, instance.getMinIndex());
+            assertEquals(maxIndex, instance.getMaxIndex());
+            assertEquals(sum, instance.getSum(), 1e-9);
+            assertEquals(reference.getFirst().getTimeStamp(), instance.getTimestamp(0));
+            assertEquals(reference.getLast().getValue(), instance.getValue(instance.size() - 1), 0);
+        }
+    }
+
+    /**
+     * Test of clear method, of class DataPointBuffer.
+     */
+    @Test
+    public void testClear() {
+        System.out.println("clear");
+        final DataPointBuffer instance = new DataPointBuffer();
+        instance.add(1, 3.0);
+        instance.add(2, 5.0);
+        assertEquals(4.0, instance.getAverage(), 0);
+        assertEquals(1.0, instance.getVariance(), 1e-12);
+        instance.clear();
+        assertTrue(instance.isEmpty());
+        assertEquals(-1, instance.getMinIndex());
+        assertEquals(0, instance.getSum(), 0);
+    }
+}
@@ -0,0 +1,97 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class ImageCacheTest {
+
+    public ImageCacheTest() {
+    }
+
+    @Before
+    public void setUp() {
+        ImageCache.INSTANCE.invalidate();
+        ImageCache.INSTANCE.resetStatistics();
+        ImageCache.INSTANCE.setMaxBytes(ImageCache.DEFAULT_MAX_BYTES);
+    }
+
+    @After
+    public void tearDown() {
+        setUp();
+    }
+
+    /**
+     * Test of equals method, of class ImageCacheKey.
+     */
+    @Test
+    public void testKeyEquality() {
+        System.out.println("ImageCacheKey.equals");
+        ImageCacheKey key1 = new ImageCacheKey("Test", 100, FrameDesign.METAL, new Color(255, 0, 0), new Object[]{1.0, 2.0});
+        ImageCacheKey key2 = new ImageCacheKey("Test", 100, FrameDesign.METAL, new Color(255, 0, 0), new Object[]{1.0, 2.0});
+        ImageCacheKey key3 = new ImageCacheKey("Test", 101, FrameDesign.METAL, new Color(255, 0, 0), new Object[]{1.0, 2.0});
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertFalse(key1.equals(key3));
+    }
+
+    /**
+     * Test of get and put method, of class ImageCache.
+     */
+    @Test
+    public void testGetAndPut() {
+        System.out.println("get/put");
+        ImageCache instance = ImageCache.INSTANCE;
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        assertNull(instance.get(new ImageCacheKey("Test", 10)));
+        instance.put(new ImageCacheKey("Test", 10), image);
+        assertSame(image, instance.get(new ImageCacheKey("Test", 10)));
+        assertEquals(1, instance.getHits());
+        assertEquals(1, instance.getMisses());
+        assertEquals(400, instance.getCurrentBytes());
+    }
+
+    /**
+     * Test of the least recently used eviction, of class ImageCache.
+     */
+    @Test
+    public void testEviction() {
+        System.out.println("eviction");
+        ImageCache instance = ImageCache.INSTANCE;
+        instance.setMaxBytes(1000);
+        instance.put(new ImageCacheKey("Test", 1), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        instance.put(new ImageCacheKey("Test", 2), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        instance.get(new ImageCacheKey("Test", 1));
+        instance.put(new ImageCacheKey("Test", 3), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(1, instance.getEvictions());
+        assertNotNull(instance.get(new ImageCacheKey("Test", 1)));
+        assertNull(instance.get(new ImageCacheKey("Test", 2)));
+        assertNotNull(instance.get(new ImageCacheKey("Test", 3)));
+    }
+
+    /**
+     * Test of invalidate method, of class ImageCache.
+     */
+    @Test
+    public void testInvalidate() {
+        System.out.println("invalidate");
+        ImageCache instance = ImageCache.INSTANCE;
+        instance.put(new ImageCacheKey("FrameImageFactory.radial", 1), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        instance.put(new ImageCacheKey("FrameImageFactory.linear", 1), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        instance.put(new ImageCacheKey("KnobImageFactory", 1), new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+        instance.invalidate("FrameImageFactory");
+        assertEquals(1, instance.getSize());
+        assertEquals(400, instance.getCurrentBytes());
+        instance.invalidate();
+        assertEquals(0, instance.getSize());
+        assertEquals(0, instance.getCurrentBytes());
+    }
+}
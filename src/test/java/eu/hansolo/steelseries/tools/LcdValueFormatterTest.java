@@ -0,0 +1,126 @@
+package eu.hansolo.steelseries.tools;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class LcdValueFormatterTest {
+
+    private static final double[] VALUES = {
+        // Rounding ties and values close to them
+        0.5, 1.5, 2.5, -0.5, -2.5, 0.125, 0.375, -0.625, 1.005, 2.675, 0.045, 0.0625, 1.0000005, 99.995, 999999.5,
+        // Zero and values that will be rounded to zero
+        0.0, -0.0, 0.001, -0.001, -0.0000001, Double.MIN_VALUE, -Double.MIN_VALUE,
+        // Ordinary values
+        1.0, -1.0, 3.14159265358979, -273.15, 12.345, 100.0, 0.1, 0.2, 0.3,
+        // Large and small magnitudes
+        1.0E14, 1.0E15, 9.99999999999999E14, 1.0E16, 123456789.123456, -987654321987.654, 9.223372036854776E18,
+        1.0E300, -1.0E-300, 1.0E-10, Double.MAX_VALUE, -Double.MAX_VALUE,
+        // Not a number and infinite values
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+
+    public LcdValueFormatterTest() {
+    }
+
+    /**
+     * Test of format method, of class LcdValueFormatter.
+     * All values must be formatted like DecimalFormat formats them.
+     */
+    @Test
+    public void testFormatFixed() {
+        System.out.println("format");
+        for (int decimals = 0; decimals <= 20; decimals++) {
+            final LcdValueFormatter instance = LcdValueFormatter.getInstance(decimals, false);
+            final DecimalFormat reference = createReference(decimals, false);
+            assertEquals(decimals, instance.getDecimals());
+            assertFalse(instance.isScientific());
+            for (double value : VALUES) {
+                assertFormat(reference, instance, value);
+            }
+        }
+    }
+
+    /**
+     * Test of format method in scientific mode, of class LcdValueFormatter.
+     */
+    @Test
+    public void testFormatScientific() {
+        System.out.println("format scientific");
+        for (int decimals = 0; decimals <= 20; decimals++) {
+            final LcdValueFormatter instance = LcdValueFormatter.getInstance(decimals, true);
+            final DecimalFormat reference = createReference(decimals, true);
+            assertTrue(instance.isScientific());
+            for (double value : VALUES) {
+                assertFormat(reference, instance, value);
+            }
+        }
+    }
+
+    /**
+     * Test of format method with random values, of class LcdValueFormatter.
+     */
+    @Test
+    public void testFormatRandom() {
+        System.out.println("format random");
+        final Random random = new Random(31269L);
+        for (int decimals = 0; decimals <= 6; decimals++) {
+            final LcdValueFormatter fixed = LcdValueFormatter.getInstance(decimals, false);
+            final LcdValueFormatter scientific = LcdValueFormatter.getInstance(decimals, true);
+            final DecimalFormat fixedReference = createReference(decimals, false);
+            final DecimalFormat scientificReference = createReference(decimals, true);
+            for (int i = 0; i < 10000; i++) {
+                final double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16) - 4);
+                assertFormat(fixedReference, fixed, value);
+                assertFormat(scientificReference, scientific, value);
+                // Values with few decimals are often exact ties
+                final double tie = Math.round(value * 1000) / 1000.0;
+                assertFormat(fixedReference, fixed, tie);
+                assertFormat(scientificReference, scientific, tie);
+            }
+        }
+    }
+
+    /**
+     * Test of formatHex and formatOctal method, of class LcdValueFormatter.
+     */
+    @Test
+    public void testFormatHexAndOctal() {
+        System.out.println("formatHex/formatOctal");
+        final char[] buffer = new char[LcdValueFormatter.MAX_LENGTH];
+        for (int value : new int[]{0, 1, 7, 8, 15, 16, 255, 4096, Integer.MAX_VALUE, -1, Integer.MIN_VALUE}) {
+            assertEquals(Integer.toHexString(value).toUpperCase(), new String(buffer, 0, LcdValueFormatter.formatHex(value, buffer)));
+            assertEquals(Integer.toOctalString(value), new String(buffer, 0, LcdValueFormatter.formatOctal(value, buffer)));
+        }
+    }
+
+    private static DecimalFormat createReference(final int decimals, final boolean scientific) {
+        final StringBuilder pattern = new StringBuilder("0");
+        if (decimals > 0) {
+            pattern.append('.');
+        }
+        for (int i = 0; i < decimals; i++) {
+            pattern.append('0');
+        }
+        if (scientific) {
+            pattern.append("E0");
+        }
+        return new DecimalFormat(pattern.toString(), new DecimalFormatSymbols(Locale.US));
+    }
+
+    private static void assertFormat(final DecimalFormat reference, final LcdValueFormatter instance, final double value) {
+        final String expected = reference.format(value);
+        final String message = instance + " " + instance.getDecimals() + (instance.isScientific() ? " scientific " : " fixed ") + value;
+        assertEquals(message, expected, instance.format(value));
+        final char[] buffer = new char[LcdValueFormatter.MAX_LENGTH];
+        assertEquals(message, expected, new String(buffer, 0, instance.format(value, buffer)));
+    }
+}
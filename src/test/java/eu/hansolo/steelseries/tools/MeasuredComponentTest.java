@@ -0,0 +1,63 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class MeasuredComponentTest {
+
+    public MeasuredComponentTest() {
+    }
+
+    /**
+     * Test of paint method, of class MeasuredComponent.
+     * A paint that fails must not leave its measurement behind, otherwise
+     * the following measurements of the thread would be nested into it.
+     */
+    @Test
+    public void testFailingPaint() {
+        System.out.println("paint");
+        final RenderMetrics metrics = RenderMetrics.INSTANCE;
+        final MeasuredComponent failing = new MeasuredComponent() {
+            @Override
+            protected void paintComponent(final Graphics G) {
+                metrics.recordCacheHit();
+                throw new IllegalStateException("paint failed");
+            }
+        };
+        failing.setSize(10, 10);
+        final MeasuredComponent component = new MeasuredComponent() {
+            @Override
+            protected void paintComponent(final Graphics G) {
+                metrics.recordCacheHit();
+            }
+        };
+        component.setSize(10, 10);
+        final BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        metrics.setEnabled(true);
+        try {
+            final Graphics2D g2 = image.createGraphics();
+            try {
+                failing.paint(g2);
+                fail("The exception of paintComponent must be passed on");
+            } catch (IllegalStateException exception) {
+                // expected
+            }
+            component.paint(g2);
+            g2.dispose();
+            assertEquals(1, metrics.getStatistics(failing).getPaintCount());
+            assertEquals(1, metrics.getStatistics(failing).getCacheHits());
+            assertEquals(1, metrics.getStatistics(component).getPaintCount());
+            assertEquals(1, metrics.getStatistics(component).getCacheHits());
+        } finally {
+            metrics.setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package eu.hansolo.steelseries.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class ModelTest {
+
+    public ModelTest() {
+    }
+
+    /**
+     * Test of fireStateChanged method, of class Model.
+     * Every setter has to report the property it changed.
+     */
+    @Test
+    public void testPropertyEvents() {
+        System.out.println("fireStateChanged");
+        final Model instance = new Model();
+        final List<ModelEvent> events = record(instance);
+        instance.setThreshold(50);
+        instance.setLcdDecimals(2);
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getProperties().size());
+        assertTrue(events.get(0).contains(ModelProperty.THRESHOLD));
+        assertTrue(events.get(1).contains(ModelProperty.LCD_DECIMALS));
+        assertFalse(events.get(1).contains(ModelProperty.THRESHOLD));
+    }
+
+    /**
+     * Test of batch method, of class Model.
+     * All changes within a batch have to be coalesced into one event.
+     */
+    @Test
+    public void testBatch() {
+        System.out.println("batch");
+        final Model instance = new Model();
+        final List<ModelEvent> events = record(instance);
+        instance.batch(new Runnable() {
+            @Override
+            public void run() {
+                instance.setThreshold(50);
+                instance.beginUpdate();
+                instance.setTitleVisible(false);
+                instance.endUpdate();
+                instance.setThreshold(60);
+                assertTrue(instance.isUpdating());
+            }
+        });
+        assertFalse(instance.isUpdating());
+        assertEquals(1, events.size());
+        assertEquals(2, events.get(0).getProperties().size());
+        assertTrue(events.get(0).contains(ModelProperty.THRESHOLD));
+        assertTrue(events.get(0).contains(ModelProperty.TITLE_VISIBLE));
+        assertEquals(60, instance.getThreshold(), 0);
+    }
+
+    /**
+     * Test of endUpdate method, of class Model.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testUnbalancedEndUpdate() {
+        System.out.println("endUpdate");
+        new Model().endUpdate();
+    }
+
+    private static List<ModelEvent> record(final Model MODEL) {
+        final List<ModelEvent> EVENTS = new ArrayList<ModelEvent>();
+        MODEL.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent EVENT) {
+                EVENTS.add((ModelEvent) EVENT);
+            }
+        });
+        return EVENTS;
+    }
+}
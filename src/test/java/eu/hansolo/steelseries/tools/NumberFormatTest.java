@@ -0,0 +1,59 @@
+package eu.hansolo.steelseries.tools;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class NumberFormatTest {
+
+    public NumberFormatTest() {
+    }
+
+    /**
+     * Test of format method, of class NumberFormat.
+     */
+    @Test
+    public void testFormat() {
+        System.out.println("format");
+        assertEquals(new DecimalFormat("0.0#").format(12.345), NumberFormat.FRACTIONAL.format(12.345));
+        assertEquals(new DecimalFormat("0.##E0").format(12345.0), NumberFormat.SCIENTIFIC.format(12345.0));
+        assertEquals(new DecimalFormat("0").format(42), NumberFormat.STANDARD.format(Integer.valueOf(42)));
+        assertSame(NumberFormat.STANDARD.format(100.0), NumberFormat.STANDARD.format(100.0));
+    }
+
+    /**
+     * Test of format method from several threads, of class NumberFormat.
+     */
+    @Test
+    public void testConcurrentFormat() throws Exception {
+        System.out.println("concurrentFormat");
+        final AtomicInteger mismatches = new AtomicInteger();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    final DecimalFormat reference = new DecimalFormat("0.0#");
+                    for (int i = 0; i < 20000; i++) {
+                        final double value = (i * 7 + offset) / 8.0;
+                        if (!reference.format(value).equals(NumberFormat.FRACTIONAL.format(value))) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+    }
+}
@@ -0,0 +1,68 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class PointerSpriteCacheTest {
+
+    public PointerSpriteCacheTest() {
+    }
+
+    @Before
+    public void setUp() {
+        PointerSpriteCache.INSTANCE.invalidate();
+        PointerSpriteCache.INSTANCE.resetStatistics();
+        PointerSpriteCache.INSTANCE.setMaxBytes(PointerSpriteCache.DEFAULT_MAX_BYTES);
+    }
+
+    @After
+    public void tearDown() {
+        setUp();
+    }
+
+    /**
+     * Test of putFrame method, of class PointerSpriteCache.
+     * A sprite set that doesn't fit into the budget must not evict the frames
+     * of a sprite set that is in use, otherwise both gauges would render their
+     * frames again on every paint.
+     */
+    @Test
+    public void testNoEvictionOfUsedSprites() {
+        System.out.println("putFrame");
+        final PointerSpriteCache instance = PointerSpriteCache.INSTANCE;
+        final BufferedImage pointer = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D pointerGraphics = pointer.createGraphics();
+        pointerGraphics.setColor(Color.RED);
+        pointerGraphics.fillRect(0, 0, 10, 10);
+        pointerGraphics.dispose();
+        final Point2D pivot = new Point2D.Double(5, 5);
+        // The frame of 0 degrees has a size of 12 x 12 pixels incl. the antialiasing border
+        instance.setMaxBytes(12 * 12 * 4);
+        final PointerSprites sprites1 = instance.getSprites(new ImageCacheKey("Test", 1), pointer, pivot);
+        final PointerSprites sprites2 = instance.getSprites(new ImageCacheKey("Test", 2), pointer, pivot);
+
+        final BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = image.createGraphics();
+        assertTrue(sprites1.draw(g2, 0));
+        for (int i = 0; i < 3; i++) {
+            assertFalse(sprites2.draw(g2, 0));
+            assertTrue(sprites1.draw(g2, 0));
+        }
+        g2.dispose();
+        assertEquals(0, instance.getEvictions());
+        assertEquals(3, instance.getFallbacks());
+        assertEquals(3, instance.getHits());
+        assertEquals(12 * 12 * 4, instance.getCurrentBytes());
+    }
+}
@@ -0,0 +1,36 @@
+package eu.hansolo.steelseries.tools;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class PulseSchedulerTest {
+
+    public PulseSchedulerTest() {
+    }
+
+    /**
+     * Test of start and stop method, of class PulseScheduler.
+     * A timer that will be started twice must only be registered once.
+     */
+    @Test
+    public void testStartAndStop() {
+        System.out.println("start/stop");
+        final PulseScheduler instance = PulseScheduler.INSTANCE;
+        final int activeTimers = instance.getActiveTimerCount();
+        final PulseTimer timer = new PulseTimer(10000, null);
+        timer.start();
+        timer.restart();
+        assertTrue(timer.isRunning());
+        assertEquals(activeTimers + 1, instance.getActiveTimerCount());
+        timer.stop();
+        timer.stop();
+        assertFalse(timer.isRunning());
+        assertEquals(activeTimers, instance.getActiveTimerCount());
+    }
+
+}
@@ -0,0 +1,83 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Transparency;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class RenderMetricsTest {
+
+    public RenderMetricsTest() {
+    }
+
+    /**
+     * Test of the per component recording of the RenderMetrics.
+     * Nothing must be recorded while the metrics are disabled.
+     */
+    @Test
+    public void testRecording() {
+        System.out.println("begin/endPaint/recordRepaintRequest");
+        final RenderMetrics instance = RenderMetrics.INSTANCE;
+        final JComponent component = new JPanel();
+        instance.setEnabled(false);
+        assertEquals(0, instance.begin(component));
+        instance.recordRepaintRequest(component);
+        assertNull(instance.getStatistics(component));
+
+        instance.setEnabled(true);
+        try {
+            for (int i = 0; i < 3; i++) {
+                instance.recordRepaintRequest(component);
+            }
+            final long start = instance.begin(component);
+            Util.INSTANCE.createImage(10, 10, Transparency.TRANSLUCENT);
+            instance.endPaint(component, start);
+            final RenderStatistics statistics = instance.getStatistics(component);
+            assertEquals(1, statistics.getPaintCount());
+            assertEquals(3, statistics.getRepaintRequests());
+            assertEquals(2, statistics.getCoalescedRepaints());
+            assertEquals(1, statistics.getImagesAllocated());
+            assertEquals(400, statistics.getAllocatedBytes());
+            statistics.reset();
+            assertEquals(0, statistics.getPaintCount());
+        } finally {
+            instance.setEnabled(false);
+        }
+    }
+
+    /**
+     * Test of nested measurements of the RenderMetrics.
+     * A deferred init within paint must neither steal the cache hits of
+     * the paint call nor be counted in its duration.
+     */
+    @Test
+    public void testNestedRecording() throws Exception {
+        System.out.println("begin/endInit within begin/endPaint");
+        final RenderMetrics instance = RenderMetrics.INSTANCE;
+        final JComponent component = new JPanel();
+        instance.setEnabled(true);
+        try {
+            final long paintStart = instance.begin(component);
+            final long initStart = instance.begin(component);
+            Thread.sleep(50);
+            instance.recordCacheHit();
+            instance.endInit(component, initStart);
+            instance.recordCacheHit();
+            instance.endPaint(component, paintStart);
+            final RenderStatistics statistics = instance.getStatistics(component);
+            assertEquals(2, statistics.getCacheHits());
+            assertEquals(1, statistics.getInitCount());
+            assertEquals(1, statistics.getPaintCount());
+            assertTrue(statistics.getTotalInitMillis() >= 50);
+            assertTrue(statistics.getTotalPaintMillis() < 50);
+        } finally {
+            instance.setEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class SectionIndexTest {
+
+    public SectionIndexTest() {
+    }
+
+    /**
+     * Test of getSectionAt and getSections method, of class SectionIndex.
+     * The index has to return the same sections as a linear scan of the list.
+     */
+    @Test
+    public void testLookupMatchesLinearScan() {
+        System.out.println("getSectionAt/getSections");
+        final Random random = new Random(42);
+        final List<Section> sections = new ArrayList<Section>();
+        for (int i = 0; i < 200; i++) {
+            final double start = random.nextInt(100);
+            final double stop = start + random.nextInt(10) - 1;
+            sections.add(new Section(start, stop, Color.RED));
+        }
+        final SectionIndex instance = new SectionIndex(sections);
+        assertEquals(200, instance.size());
+
+        for (double value = -2; value <= 112; value += 0.25) {
+            Section expected = null;
+            for (Section section : sections) {
+                if (section.contains(value)) {
+                    expected = section;
+                    break;
+                }
+            }
+            assertSame(expected, instance.getSectionAt(value));
+            assertEquals(sections.indexOf(expected), instance.indexOf(value));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            final double from = random.nextInt(120) - 10 + random.nextDouble();
+            final double to = from + random.nextInt(15);
+            final List<Section> expected = new ArrayList<Section>();
+            for (Section section : sections) {
+                if (section.getStart() <= section.getStop() && section.getStart() <= to && section.getStop() >= from) {
+                    expected.add(section);
+                }
+            }
+            assertEquals(expected, instance.getSections(from, to));
+        }
+    }
+
+    /**
+     * Test of the empty index, of class SectionIndex.
+     */
+    @Test
+    public void testEmpty() {
+        System.out.println("EMPTY");
+        assertTrue(SectionIndex.EMPTY.isEmpty());
+        assertNull(SectionIndex.EMPTY.getSectionAt(0));
+        assertEquals(-1, SectionIndex.EMPTY.indexOf(0));
+        assertTrue(SectionIndex.EMPTY.getSections(-10, 10).isEmpty());
+    }
+}
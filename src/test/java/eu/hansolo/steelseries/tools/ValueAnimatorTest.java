@@ -0,0 +1,85 @@
+package eu.hansolo.steelseries.tools;
+
+import java.awt.EventQueue;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+/**
+ *
+ * @author hansolo
+ */
+public class ValueAnimatorTest {
+
+    public ValueAnimatorTest() {
+    }
+
+    /**
+     * Test of animateTo method, of class ValueAnimator.
+     * Retargeting a fast animation to the end of the range must not move
+     * the value beyond the range of the target.
+     */
+    @Test
+    public void testRetargetStaysInRange() throws Exception {
+        System.out.println("animateTo");
+        final Needle needle = new Needle();
+        final ValueAnimator animator = new ValueAnimator(needle);
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                animator.animateTo(100, 400);
+            }
+        });
+        Thread.sleep(200);
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // The pointer is in full motion, the slow retarget would overshoot by far
+                animator.animateTo(100, 2000);
+            }
+        });
+        Thread.sleep(500);
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                animator.abort();
+            }
+        });
+        assertTrue(needle.maxValue > 50);
+        assertTrue(needle.maxValue <= 100);
+    }
+
+    private static final class Needle implements ValueAnimator.Target {
+        private volatile double value = 0;
+        private volatile double maxValue = 0;
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public double getMinValue() {
+            return 0;
+        }
+
+        @Override
+        public double getMaxValue() {
+            return 100;
+        }
+
+        @Override
+        public void setValue(final double VALUE) {
+            value = VALUE;
+            maxValue = Math.max(maxValue, VALUE);
+        }
+
+        @Override
+        public void onTargetReached(final double VALUE) {
+        }
+
+        @Override
+        public void onAnimationFinished() {
+        }
+    }
+}